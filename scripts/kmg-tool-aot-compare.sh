@@ -0,0 +1,72 @@
+#!/bin/sh
+# ===========================================
+# AOTキャッシュの起動時間の比較スクリプト
+# ===========================================
+#
+# 使用方法：
+#   kmg-tool-aot-compare.sh [回数]
+#   例：kmg-tool-aot-compare.sh 10
+#
+# 処理内容：
+# - アクセサ作成ツール（acccrt）とマッピング変換ツール（mptf）を、
+#   AOTキャッシュなしとありでそれぞれ指定回数（既定は5回）実行し、平均の実行時間（ミリ秒）を出力する
+# - 実行ごとに一時ディレクトリへサンプルの入力を配置し直すため、各回の処理内容は同じになる
+#
+# 前提条件：
+# - kmg-tool-aot-train.sh でAOTキャッシュを作成済みであること
+#
+# 注意事項：
+# - AOTキャッシュありの実行は -XX:AOTMode=on を指定するため、キャッシュを使用できない場合はエラーになる
+# ===========================================
+
+. "$(dirname "$0")/kmg-tool-classpath.sh"
+
+COUNT="${1:-5}"
+LAUNCHER=kmg.tool.cli.launcher.presentation.ui.cli.KmgToolLauncher
+SAMPLE_DIR="${KMG_TOOL_BASE_DIR}/src/main/resources/tool/io/training"
+TEMPLATE_DIR="${KMG_TOOL_BASE_DIR}/src/main/resources/tool/io/template"
+
+if [ ! -f "${KMG_TOOL_AOT_CACHE}" ]; then
+    echo "AOTキャッシュがありません。kmg-tool-aot-train.sh を実行してください。" >&2
+    exit 1
+fi
+
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "${WORK_DIR}"' EXIT
+
+# サンプルの入力を配置する
+prepare() {
+    rm -rf "${WORK_DIR:?}"/*
+    mkdir -p "${WORK_DIR}/work/io"
+    cp -R "${TEMPLATE_DIR}" "${WORK_DIR}/work/io/template"
+    cp -R "${SAMPLE_DIR}/src" "${WORK_DIR}/src"
+    sed "s|\${workDir}|${WORK_DIR}|g" "${SAMPLE_DIR}/$1.txt" > "${WORK_DIR}/work/io/input.txt"
+    : > "${WORK_DIR}/work/io/output.txt"
+}
+
+# 指定回数実行し、平均の実行時間（ミリ秒）を出力する
+measure() {
+    tool="$1"
+    shift
+    total=0
+    i=0
+    while [ "${i}" -lt "${COUNT}" ]; do
+        prepare "${tool}"
+        start=$(date +%s%N)
+        (cd "${WORK_DIR}" && java "$@" -cp "${KMG_TOOL_CLASS_PATH}" "${LAUNCHER}" "${tool}" > /dev/null 2>&1) || {
+            echo "${tool} の実行に失敗しました。" >&2
+            exit 1
+        }
+        end=$(date +%s%N)
+        total=$((total + (end - start) / 1000000))
+        i=$((i + 1))
+    done
+    echo $((total / COUNT))
+}
+
+printf '%-10s %15s %15s\n' "ツール" "キャッシュなし" "キャッシュあり"
+for tool in acccrt mptf; do
+    without=$(measure "${tool}" -XX:AOTMode=off) || exit 1
+    with=$(measure "${tool}" -XX:AOTMode=on -XX:AOTCache="${KMG_TOOL_AOT_CACHE}") || exit 1
+    printf '%-10s %13sms %13sms\n' "${tool}" "${without}" "${with}"
+done
@@ -0,0 +1,39 @@
+#!/bin/sh
+# ===========================================
+# AOTキャッシュのトレーニング実行スクリプト
+# ===========================================
+#
+# 使用方法：
+#   kmg-tool-aot-train.sh [--オプション ...]
+#
+# 処理内容：
+# - src/main/resources/tool/io/training のサンプルの入力で全てのツールを実行し、
+#   その実行で読み込んだクラス（Spring Boot、kmg-core、kmg-fund、kmg-tool-base、各ツール）から
+#   JDKのAOTキャッシュ（target/kmg-tool.aot）を作成する
+# - 作成したAOTキャッシュは kmg-tool.sh が自動で使用する
+#
+# 前提条件：
+# - JDK 25 以降であること（-XX:AOTCacheOutput を使用する）
+# - mvn package dependency:copy-dependencies を実行済みであること
+#   （target/kmg-tool-cli-*.jar と target/dependency を使用する）
+#
+# 注意事項：
+# - JDK、JARファイル、依存ライブラリを更新した場合は、再度トレーニング実行すること
+# - サンプルの入力は work/training にコピーしてから実行するため、サンプル自体は変更されない
+# ===========================================
+
+. "$(dirname "$0")/kmg-tool-classpath.sh"
+
+if [ -z "${KMG_TOOL_APP_JAR}" ]; then
+    echo "JARファイルがありません。mvn package dependency:copy-dependencies を実行してください。" >&2
+    exit 1
+fi
+
+cd "${KMG_TOOL_BASE_DIR}" || exit 1
+
+rm -f "${KMG_TOOL_AOT_CACHE}"
+
+exec java ${KMG_TOOL_JAVA_OPTS} \
+    -XX:AOTCacheOutput="${KMG_TOOL_AOT_CACHE}" \
+    -cp "${KMG_TOOL_CLASS_PATH}" \
+    kmg.tool.cli.training.presentation.ui.cli.KmgToolTrainer "$@"
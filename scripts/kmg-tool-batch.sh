@@ -0,0 +1,30 @@
+#!/bin/sh
+# ===========================================
+# KMGツールバッチの起動スクリプト
+# ===========================================
+#
+# 使用方法：
+#   kmg-tool-batch.sh マニフェスト [--オプション ...]
+#   例：kmg-tool-batch.sh work/batch/manifest.yml --kmg.tool.cli.batch.concurrency=4
+#
+# 前提条件：
+# - mvn compile dependency:copy-dependencies を実行済みであること
+#   （target/classes と target/dependency を使用する）
+#
+# 注意事項：
+# - マニフェストの相対パスは実行時のカレントディレクトリを基準に決定される
+# ===========================================
+
+BASE_DIR=$(cd "$(dirname "$0")/.." && pwd)
+
+if [ $# -lt 1 ]; then
+    echo "使用方法：kmg-tool-batch.sh マニフェスト [--オプション ...]" >&2
+    exit 1
+fi
+
+MANIFEST=$1
+shift
+
+exec java ${KMG_TOOL_JAVA_OPTS} \
+    -cp "${BASE_DIR}/target/classes:${BASE_DIR}/target/dependency/*" \
+    kmg.tool.cli.batch.presentation.ui.cli.KmgToolBatch --kmg.tool.cli.batch.manifest="${MANIFEST}" "$@"
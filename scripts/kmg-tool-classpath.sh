@@ -0,0 +1,30 @@
+#!/bin/sh
+# ===========================================
+# AOTキャッシュ用のクラスパスの設定スクリプト
+# ===========================================
+#
+# 使用方法：
+#   他のスクリプトから読み込んで使用する
+#   . "$(dirname "$0")/kmg-tool-classpath.sh"
+#
+# 設定する変数：
+# - KMG_TOOL_APP_JAR    ：アプリケーションのJARファイル
+# - KMG_TOOL_CLASS_PATH ：アプリケーションのJARファイルと依存ライブラリのクラスパス
+# - KMG_TOOL_AOT_CACHE  ：AOTキャッシュのファイル（未設定の場合は target/kmg-tool.aot）
+#
+# 注意事項：
+# - AOTキャッシュはディレクトリを含むクラスパスを扱えないため、target/classes ではなくJARファイルを使用する
+# - AOTキャッシュの作成時と利用時でクラスパスが一致しないとキャッシュは使用されないため、
+#   依存ライブラリは名前順に並べて常に同じクラスパスにする
+# ===========================================
+
+KMG_TOOL_BASE_DIR=$(cd "$(dirname "$0")/.." && pwd)
+
+KMG_TOOL_AOT_CACHE="${KMG_TOOL_AOT_CACHE:-${KMG_TOOL_BASE_DIR}/target/kmg-tool.aot}"
+
+KMG_TOOL_APP_JAR=$(ls "${KMG_TOOL_BASE_DIR}"/target/kmg-tool-cli-*.jar 2>/dev/null | sort | head -n 1)
+
+KMG_TOOL_CLASS_PATH="${KMG_TOOL_APP_JAR}"
+for jar in $(ls "${KMG_TOOL_BASE_DIR}"/target/dependency/*.jar 2>/dev/null | sort); do
+    KMG_TOOL_CLASS_PATH="${KMG_TOOL_CLASS_PATH}:${jar}"
+done
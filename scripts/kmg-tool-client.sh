@@ -0,0 +1,22 @@
+#!/bin/sh
+# ===========================================
+# KMGツールクライアントの起動スクリプト
+# ===========================================
+#
+# 使用方法：
+#   kmg-tool-client.sh サブコマンド|shutdown [--input=パス] [--template=パス] [--output=パス]
+#   例：kmg-tool-client.sh acccrt --input=work/io/input.txt
+#
+# 前提条件：
+# - mvn compile dependency:copy-dependencies を実行済みであること
+#   （target/classes と target/dependency を使用する）
+#
+# 注意事項：
+# - 事前に kmg-tool-daemon.sh でデーモンを起動しておくこと
+# ===========================================
+
+BASE_DIR=$(cd "$(dirname "$0")/.." && pwd)
+
+exec java ${KMG_TOOL_JAVA_OPTS} \
+    -cp "${BASE_DIR}/target/classes:${BASE_DIR}/target/dependency/*" \
+    kmg.tool.cli.daemon.presentation.ui.cli.KmgToolClient "$@"
@@ -0,0 +1,22 @@
+#!/bin/sh
+# ===========================================
+# KMGツールデーモンの起動スクリプト
+# ===========================================
+#
+# 使用方法：
+#   kmg-tool-daemon.sh [--オプション ...]
+#   例：kmg-tool-daemon.sh --kmg.tool.cli.daemon.socket-path=work/kmg-tool-cli.sock
+#
+# 前提条件：
+# - mvn compile dependency:copy-dependencies を実行済みであること
+#   （target/classes と target/dependency を使用する）
+#
+# 注意事項：
+# - 停止するには kmg-tool-client.sh shutdown を実行する
+# ===========================================
+
+BASE_DIR=$(cd "$(dirname "$0")/.." && pwd)
+
+exec java ${KMG_TOOL_JAVA_OPTS} \
+    -cp "${BASE_DIR}/target/classes:${BASE_DIR}/target/dependency/*" \
+    kmg.tool.cli.daemon.presentation.ui.cli.KmgToolDaemon "$@"
@@ -0,0 +1,34 @@
+#!/bin/sh
+# ===========================================
+# KMGツールランチャーの起動スクリプト
+# ===========================================
+#
+# 使用方法：
+#   kmg-tool.sh サブコマンド [サブコマンド ...] [--オプション ...]
+#   例：kmg-tool.sh fldcrt acccrt
+#
+# 前提条件：
+# - mvn compile dependency:copy-dependencies を実行済みであること
+#   （target/classes と target/dependency を使用する）
+#
+# 注意事項：
+# - 入出力ファイルのパスは実行時のカレントディレクトリを基準に決定される
+# - kmg-tool-aot-train.sh でAOTキャッシュを作成済みの場合は、JARファイルとAOTキャッシュを使用して起動する
+# ===========================================
+
+BASE_DIR=$(cd "$(dirname "$0")/.." && pwd)
+
+LAUNCHER=kmg.tool.cli.launcher.presentation.ui.cli.KmgToolLauncher
+
+. "$(dirname "$0")/kmg-tool-classpath.sh"
+
+if [ -f "${KMG_TOOL_AOT_CACHE}" ] && [ -n "${KMG_TOOL_APP_JAR}" ]; then
+    exec java ${KMG_TOOL_JAVA_OPTS} \
+        -XX:AOTCache="${KMG_TOOL_AOT_CACHE}" \
+        -cp "${KMG_TOOL_CLASS_PATH}" \
+        "${LAUNCHER}" "$@"
+fi
+
+exec java ${KMG_TOOL_JAVA_OPTS} \
+    -cp "${BASE_DIR}/target/classes:${BASE_DIR}/target/dependency/*" \
+    "${LAUNCHER}" "$@"
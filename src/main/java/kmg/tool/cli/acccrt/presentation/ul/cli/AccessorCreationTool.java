@@ -1,12 +1,12 @@
 package kmg.tool.cli.acccrt.presentation.ul.cli;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
 import org.springframework.context.ConfigurableApplicationContext;
 
 import kmg.tool.base.acccrt.application.service.AccessorCreationService;
+import kmg.tool.cli.cmn.infrastructure.startup.KmgToolCliSpringApplication;
 import kmg.tool.cli.dtc.presentation.ui.cli.AbstractDtcTool;
 
 /**
@@ -28,10 +28,10 @@ import kmg.tool.cli.dtc.presentation.ui.cli.AbstractDtcTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.1
+ * @version 0.2.0
  */
 @SpringBootApplication(scanBasePackages = {
-    "kmg",
+    "kmg.core", "kmg.fund", "kmg.tool.base",
 }, exclude = {
     DataSourceAutoConfiguration.class
 })
@@ -89,13 +89,13 @@ public class AccessorCreationTool extends AbstractDtcTool {
     public static void main(final String[] args) {
 
         @SuppressWarnings("resource")
-        final ConfigurableApplicationContext ctx = SpringApplication.run(AccessorCreationTool.class, args);
+        final ConfigurableApplicationContext ctx = KmgToolCliSpringApplication.run(AccessorCreationTool.class, args);
 
         final AccessorCreationTool tool = ctx.getBean(AccessorCreationTool.class);
 
         tool.run(args);
 
-        ctx.close();
+        KmgToolCliSpringApplication.close(ctx, AccessorCreationTool.class);
 
     }
 
@@ -137,6 +137,27 @@ public class AccessorCreationTool extends AbstractDtcTool {
 
     }
 
+    /**
+     * 指定された行の後でチャンクを区切れるかを返す。
+     * <p>
+     * フィールドの宣言は、コメントの行の後に「;」で終わる宣言の行が続くため、宣言の行の後でのみ区切る。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param line
+     *             改行文字を除いた行
+     *
+     * @return true：区切れる、false：区切れない
+     */
+    @Override
+    protected boolean isChunkBoundary(final String line) {
+
+        final boolean result = line.endsWith(";"); //$NON-NLS-1$
+        return result;
+
+    }
+
     /**
      * アクセサ作成サービスを返す
      * <p>
@@ -0,0 +1,59 @@
+package kmg.tool.cli.batch.application.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import kmg.tool.cli.batch.domain.model.BatchJobResultModel;
+import kmg.tool.cli.launcher.domain.model.ToolJobModel;
+
+/**
+ * バッチ実行サービスインタフェース<br>
+ * <p>
+ * マニフェストに記載された複数のジョブを、1つのプロセスで並行して実行する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public interface BatchService {
+
+    /**
+     * マニフェストを読み込み、ジョブのリストを返す。
+     * <p>
+     * 拡張子が「.yml」または「.yaml」の場合はYAML、それ以外の場合はCSVとして読み込む。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param manifestPath
+     *                     マニフェストのパス
+     *
+     * @return ジョブのリスト。マニフェストに記載された順
+     *
+     * @throws IOException
+     *                     マニフェストの読み込みに失敗した場合
+     */
+    List<ToolJobModel> readManifest(Path manifestPath) throws IOException;
+
+    /**
+     * ジョブを仮想スレッドで並行して実行する。
+     * <p>
+     * 同時に実行するジョブの数は、同時実行数までに制限する。ジョブが失敗しても、残りのジョブの実行を続ける。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param jobs
+     *                    ジョブのリスト
+     * @param concurrency
+     *                    同時実行数
+     *
+     * @return ジョブの結果のリスト。ジョブのリストと同じ順
+     */
+    List<BatchJobResultModel> execute(List<ToolJobModel> jobs, int concurrency);
+
+}
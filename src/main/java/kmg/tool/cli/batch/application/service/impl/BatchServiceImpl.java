@@ -0,0 +1,835 @@
+package kmg.tool.cli.batch.application.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Service;
+import org.yaml.snakeyaml.Yaml;
+
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.batch.application.service.BatchService;
+import kmg.tool.cli.batch.domain.model.BatchJobResultModel;
+import kmg.tool.cli.batch.domain.model.impl.BatchJobResultModelImpl;
+import kmg.tool.cli.cmn.infrastructure.context.KmgToolCliWorkerApplication;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliLogMsgTypes;
+import kmg.tool.cli.launcher.application.service.ToolDispatchService;
+import kmg.tool.cli.launcher.domain.model.ToolJobModel;
+import kmg.tool.cli.launcher.domain.model.impl.ToolJobModelImpl;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+
+/**
+ * バッチ実行サービス<br>
+ * <p>
+ * マニフェストの1件のジョブは、ツール、入力ファイルパス、テンプレートファイルパス、出力ファイルパスからなる。 パスを省略した場合は、ツールの既定のパスを使用する。
+ * </p>
+ *
+ * <pre>
+ * # CSV（1行目が「tool」で始まる場合は見出しとして読み飛ばす。「#」で始まる行と空行は無視する）
+ * # カンマを含む値は「"」で囲み、値の中の「"」は「""」と書く
+ * tool,input,template,output
+ * acccrt,work/batch/UserDto.txt,,work/batch/output/UserDto.txt
+ * acccrt,"work/batch/a,b/UserDto.txt",,work/batch/output/UserDto.txt
+ *
+ * # YAML
+ * jobs:
+ *   - tool: acccrt
+ *     input: work/batch/UserDto.txt
+ *     output: work/batch/output/UserDto.txt
+ * </pre>
+ * <p>
+ * ツールはシングルトンで状態を保持するため、同時実行数の分だけコンテキストを用意し、ジョブは実行中にコンテキストを1つ占有する。
+ * 1つ目のコンテキストには、このサービスのコンテキストを使用し、2つ目以降のコンテキストは、このサービスのコンテキストの起動引数のオプションを引き継いで起動する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@Service
+public class BatchServiceImpl implements BatchService {
+
+    /**
+     * CSVの区切り文字
+     *
+     * @since 0.2.0
+     */
+    private static final char CSV_DELIMITER = ',';
+
+    /**
+     * CSVの引用符
+     *
+     * @since 0.2.0
+     */
+    private static final char CSV_QUOTE = '"';
+
+    /**
+     * コメント行の接頭辞
+     *
+     * @since 0.2.0
+     */
+    private static final String COMMENT_PREFIX = "#"; //$NON-NLS-1$
+
+    /**
+     * ツールのキー
+     *
+     * @since 0.2.0
+     */
+    private static final String TOOL_KEY = "tool"; //$NON-NLS-1$
+
+    /**
+     * 入力ファイルパスのキー
+     *
+     * @since 0.2.0
+     */
+    private static final String INPUT_KEY = "input"; //$NON-NLS-1$
+
+    /**
+     * テンプレートファイルパスのキー
+     *
+     * @since 0.2.0
+     */
+    private static final String TEMPLATE_KEY = "template"; //$NON-NLS-1$
+
+    /**
+     * 出力ファイルパスのキー
+     *
+     * @since 0.2.0
+     */
+    private static final String OUTPUT_KEY = "output"; //$NON-NLS-1$
+
+    /**
+     * YAMLのジョブのリストのキー
+     *
+     * @since 0.2.0
+     */
+    private static final String JOBS_KEY = "jobs"; //$NON-NLS-1$
+
+    /**
+     * ロガー
+     *
+     * @since 0.2.0
+     */
+    private final Logger logger;
+
+    /**
+     * メッセージソース
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private KmgMessageSource messageSource;
+
+    /**
+     * アプリケーションコンテキスト
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    /**
+     * アプリケーションの起動引数
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private ApplicationArguments applicationArguments;
+
+    /**
+     * 標準ロガーを使用して初期化するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     */
+    public BatchServiceImpl() {
+
+        this(LoggerFactory.getLogger(BatchServiceImpl.class));
+
+    }
+
+    /**
+     * カスタムロガーを使用して初期化するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param logger
+     *               ロガー
+     */
+    protected BatchServiceImpl(final Logger logger) {
+
+        this.logger = logger;
+
+    }
+
+    /**
+     * マニフェストを読み込み、ジョブのリストを返す。
+     * <p>
+     * ツールが不正なジョブは、指定無し（NONE）のジョブとして返し、実行時に失敗とする。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param manifestPath
+     *                     マニフェストのパス
+     *
+     * @return ジョブのリスト。マニフェストに記載された順
+     *
+     * @throws IOException
+     *                     マニフェストの読み込みに失敗した場合
+     */
+    @Override
+    public List<ToolJobModel> readManifest(final Path manifestPath) throws IOException {
+
+        List<ToolJobModel> result;
+
+        final String fileName = manifestPath.getFileName().toString().toLowerCase(Locale.ROOT);
+
+        if (fileName.endsWith(".yml") || fileName.endsWith(".yaml")) { //$NON-NLS-1$ //$NON-NLS-2$
+
+            result = this.readYamlManifest(manifestPath);
+            return result;
+
+        }
+
+        result = this.readCsvManifest(manifestPath);
+        return result;
+
+    }
+
+    /**
+     * ジョブを仮想スレッドで並行して実行する。
+     * <p>
+     * 同時実行数はジョブの数までに切り詰める。ワーカーのコンテキストの起動に失敗した場合は、起動できたコンテキストの数で実行する。
+     * ワーカーのコンテキストを起動できない場合は、起動済みのコンテキストだけで、ジョブを1つずつ実行する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param jobs
+     *                    ジョブのリスト
+     * @param concurrency
+     *                    同時実行数
+     *
+     * @return ジョブの結果のリスト。ジョブのリストと同じ順
+     */
+    @Override
+    public List<BatchJobResultModel> execute(final List<ToolJobModel> jobs, final int concurrency) {
+
+        final List<BatchJobResultModel> result = new ArrayList<>(jobs.size());
+
+        if (jobs.isEmpty()) {
+
+            return result;
+
+        }
+
+        final int poolSize = Math.max(1, Math.min(concurrency, jobs.size()));
+
+        this.logInfo(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG24000, jobs.size(), poolSize);
+
+        /* コンテキストの準備 */
+        final List<ConfigurableApplicationContext> workerContexts = new ArrayList<>();
+        final BlockingQueue<ApplicationContext>    contextPool    = new ArrayBlockingQueue<>(poolSize);
+        contextPool.add(this.applicationContext);
+
+        int workerContextCount = poolSize;
+
+        if ((poolSize > 1) && !this.isWorkerContextAvailable()) {
+
+            this.logWarn(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG24006, poolSize);
+            workerContextCount = 1;
+
+        }
+
+        try {
+
+            for (int i = 1; i < workerContextCount; i++) {
+
+                try {
+
+                    final ConfigurableApplicationContext workerContext = this.createWorkerContext();
+                    workerContexts.add(workerContext);
+                    contextPool.add(workerContext);
+
+                } catch (final RuntimeException e) {
+
+                    this.logError(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG24002, e, contextPool.size());
+                    break;
+
+                }
+
+            }
+
+            /* ジョブの実行 */
+            final List<Future<BatchJobResultModel>> futures = new ArrayList<>(jobs.size());
+
+            try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+                for (int i = 0; i < jobs.size(); i++) {
+
+                    final int          jobNo = i + 1;
+                    final ToolJobModel job   = jobs.get(i);
+                    futures.add(executor.submit(() -> this.executeJob(jobNo, job, contextPool)));
+
+                }
+
+                for (int i = 0; i < futures.size(); i++) {
+
+                    result.add(this.getJobResult(i + 1, jobs.get(i), futures.get(i)));
+
+                }
+
+            }
+
+        } finally {
+
+            /* コンテキストの終了 */
+            for (final ConfigurableApplicationContext workerContext : workerContexts) {
+
+                workerContext.close();
+
+            }
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * ワーカーのコンテキストを起動できるかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：起動できる、false：起動できない
+     */
+    protected boolean isWorkerContextAvailable() {
+
+        final boolean result = KmgToolCliWorkerApplication.isContextAvailable();
+        return result;
+
+    }
+
+    /**
+     * ワーカーのコンテキストを起動する。
+     *
+     * @since 0.2.0
+     *
+     * @return ワーカーのコンテキスト
+     */
+    protected ConfigurableApplicationContext createWorkerContext() {
+
+        final ConfigurableApplicationContext result
+            = KmgToolCliWorkerApplication.createContext(this.applicationArguments);
+        return result;
+
+    }
+
+    /**
+     * コンテキストを1つ借りてジョブを実行し、実行後に返却する。
+     *
+     * @since 0.2.0
+     *
+     * @param jobNo
+     *                    ジョブ番号
+     * @param job
+     *                    ジョブ
+     * @param contextPool
+     *                    コンテキストのプール
+     *
+     * @return ジョブの結果
+     */
+    private BatchJobResultModel executeJob(final int jobNo, final ToolJobModel job,
+        final BlockingQueue<ApplicationContext> contextPool) {
+
+        BatchJobResultModel result;
+
+        KmgToolCliGenMsgTypes resultType = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09000;
+
+        try {
+
+            final ApplicationContext context = contextPool.take();
+
+            try {
+
+                final ToolDispatchService toolDispatchService = context.getBean(ToolDispatchService.class);
+
+                if (toolDispatchService.dispatch(job)) {
+
+                    resultType = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09001;
+
+                }
+
+            } finally {
+
+                contextPool.add(context);
+
+            }
+
+        } catch (final InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+            resultType = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09002;
+            this.logError(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG24003, e, jobNo, job.getCmdType().getKey());
+
+        } catch (final RuntimeException e) {
+
+            resultType = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09002;
+            this.logError(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG24003, e, jobNo, job.getCmdType().getKey());
+
+        }
+
+        this.logInfo(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG24004, jobNo, job.getCmdType().getKey(),
+            this.messageSource.getGenMessage(resultType, new Object[] {}));
+
+        result = new BatchJobResultModelImpl(jobNo, job, resultType);
+        return result;
+
+    }
+
+    /**
+     * ジョブの実行の完了を待ち、結果を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param jobNo
+     *               ジョブ番号
+     * @param job
+     *               ジョブ
+     * @param future
+     *               ジョブの実行
+     *
+     * @return ジョブの結果
+     */
+    private BatchJobResultModel getJobResult(final int jobNo, final ToolJobModel job,
+        final Future<BatchJobResultModel> future) {
+
+        BatchJobResultModel result;
+
+        try {
+
+            result = future.get();
+
+        } catch (final InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+            this.logError(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG24003, e, jobNo, job.getCmdType().getKey());
+            result = new BatchJobResultModelImpl(jobNo, job, KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09002);
+
+        } catch (final ExecutionException e) {
+
+            this.logError(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG24003, e, jobNo, job.getCmdType().getKey());
+            result = new BatchJobResultModelImpl(jobNo, job, KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09002);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * CSVのマニフェストを読み込む。
+     *
+     * @since 0.2.0
+     *
+     * @param manifestPath
+     *                     マニフェストのパス
+     *
+     * @return ジョブのリスト
+     *
+     * @throws IOException
+     *                     マニフェストの読み込みに失敗した場合
+     */
+    private List<ToolJobModel> readCsvManifest(final Path manifestPath) throws IOException {
+
+        final List<ToolJobModel> result = new ArrayList<>();
+
+        try (final BufferedReader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+
+            boolean firstLine = true;
+
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+
+                final String trimmedLine = line.strip();
+
+                if (trimmedLine.isEmpty() || trimmedLine.startsWith(BatchServiceImpl.COMMENT_PREFIX)) {
+
+                    continue;
+
+                }
+
+                final String[] columns = BatchServiceImpl.splitCsvLine(trimmedLine);
+
+                if (columns == null) {
+
+                    firstLine = false;
+
+                    final int jobNo = result.size() + 1;
+                    this.logWarn(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG24005, jobNo, trimmedLine);
+                    result.add(new ToolJobModelImpl(KmgToolCliCmdTypes.NONE, null, null, null));
+                    continue;
+
+                }
+
+                if (firstLine && BatchServiceImpl.TOOL_KEY.equalsIgnoreCase(columns[0].strip())) {
+
+                    firstLine = false;
+                    continue;
+
+                }
+
+                firstLine = false;
+
+                result.add(this.createJob(result.size() + 1, BatchServiceImpl.getColumn(columns, 0),
+                    BatchServiceImpl.getColumn(columns, 1), BatchServiceImpl.getColumn(columns, 2),
+                    BatchServiceImpl.getColumn(columns, 3)));
+
+            }
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * YAMLのマニフェストを読み込む。
+     * <p>
+     * 「jobs」キーのリストの各要素を1件のジョブとする。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param manifestPath
+     *                     マニフェストのパス
+     *
+     * @return ジョブのリスト
+     *
+     * @throws IOException
+     *                     マニフェストの読み込みに失敗した場合
+     */
+    private List<ToolJobModel> readYamlManifest(final Path manifestPath) throws IOException {
+
+        final List<ToolJobModel> result = new ArrayList<>();
+
+        final Object document;
+
+        try (final BufferedReader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+
+            document = new Yaml().load(reader);
+
+        } catch (final RuntimeException e) {
+
+            throw new IOException(e);
+
+        }
+
+        if (!(document instanceof final Map<?, ?> documentMap)
+            || !(documentMap.get(BatchServiceImpl.JOBS_KEY) instanceof final List<?> jobList)) {
+
+            return result;
+
+        }
+
+        for (final Object jobEntry : jobList) {
+
+            if (!(jobEntry instanceof final Map<?, ?> jobMap)) {
+
+                continue;
+
+            }
+
+            result.add(this.createJob(result.size() + 1, BatchServiceImpl.getValue(jobMap, BatchServiceImpl.TOOL_KEY),
+                BatchServiceImpl.getValue(jobMap, BatchServiceImpl.INPUT_KEY),
+                BatchServiceImpl.getValue(jobMap, BatchServiceImpl.TEMPLATE_KEY),
+                BatchServiceImpl.getValue(jobMap, BatchServiceImpl.OUTPUT_KEY)));
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * ジョブを作成する。
+     *
+     * @since 0.2.0
+     *
+     * @param jobNo
+     *                 ジョブ番号
+     * @param tool
+     *                 ツールのキー
+     * @param input
+     *                 入力ファイルパスの文字列
+     * @param template
+     *                 テンプレートファイルパスの文字列
+     * @param output
+     *                 出力ファイルパスの文字列
+     *
+     * @return ジョブ
+     */
+    private ToolJobModel createJob(final int jobNo, final String tool, final String input, final String template,
+        final String output) {
+
+        final KmgToolCliCmdTypes cmdType = KmgToolCliCmdTypes.getEnum(tool);
+
+        if (cmdType == KmgToolCliCmdTypes.NONE) {
+
+            this.logWarn(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG24001, jobNo, tool);
+
+        }
+
+        final ToolJobModel result = new ToolJobModelImpl(cmdType, BatchServiceImpl.toPath(input),
+            BatchServiceImpl.toPath(template), BatchServiceImpl.toPath(output));
+        return result;
+
+    }
+
+    /**
+     * CSVの1行を列に分割する。
+     * <p>
+     * 「"」で囲んだ値は、カンマと前後の空白を含めてそのまま値とし、値の中の「""」は「"」とする。 囲んでいない値は、前後の空白を除く。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param line
+     *             CSVの1行
+     *
+     * @return 列の配列。引用符が閉じていない場合は、null
+     */
+    private static String[] splitCsvLine(final String line) {
+
+        String[] result = null;
+
+        final List<String>  columns = new ArrayList<>();
+        final StringBuilder column  = new StringBuilder();
+        boolean             quoted  = false;
+        boolean             inQuote = false;
+
+        for (int i = 0; i < line.length(); i++) {
+
+            final char c = line.charAt(i);
+
+            if (inQuote) {
+
+                if (c != BatchServiceImpl.CSV_QUOTE) {
+
+                    column.append(c);
+                    continue;
+
+                }
+
+                if (((i + 1) < line.length()) && (line.charAt(i + 1) == BatchServiceImpl.CSV_QUOTE)) {
+
+                    column.append(c);
+                    i++;
+                    continue;
+
+                }
+
+                inQuote = false;
+                continue;
+
+            }
+
+            if (c == BatchServiceImpl.CSV_DELIMITER) {
+
+                columns.add(quoted ? column.toString() : column.toString().strip());
+                column.setLength(0);
+                quoted = false;
+                continue;
+
+            }
+
+            if ((c == BatchServiceImpl.CSV_QUOTE) && !quoted && column.toString().isBlank()) {
+
+                column.setLength(0);
+                quoted = true;
+                inQuote = true;
+                continue;
+
+            }
+
+            if (quoted && Character.isWhitespace(c)) {
+
+                continue;
+
+            }
+
+            column.append(c);
+
+        }
+
+        if (inQuote) {
+
+            return result;
+
+        }
+
+        columns.add(quoted ? column.toString() : column.toString().strip());
+
+        result = columns.toArray(new String[0]);
+        return result;
+
+    }
+
+    /**
+     * CSVの列の値を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param columns
+     *                列の配列
+     * @param index
+     *                列の番号
+     *
+     * @return 列の値。列がない場合は、null
+     */
+    private static String getColumn(final String[] columns, final int index) {
+
+        String result = null;
+
+        if (index >= columns.length) {
+
+            return result;
+
+        }
+
+        result = columns[index];
+        return result;
+
+    }
+
+    /**
+     * YAMLのマップの値を文字列で返す。
+     *
+     * @since 0.2.0
+     *
+     * @param map
+     *            マップ
+     * @param key
+     *            キー
+     *
+     * @return 値の文字列。値がない場合は、null
+     */
+    private static String getValue(final Map<?, ?> map, final String key) {
+
+        String result = null;
+
+        final Object value = map.get(key);
+
+        if (value == null) {
+
+            return result;
+
+        }
+
+        result = value.toString().strip();
+        return result;
+
+    }
+
+    /**
+     * パスの文字列をパスに変換する。
+     *
+     * @since 0.2.0
+     *
+     * @param value
+     *              パスの文字列
+     *
+     * @return パス。文字列がnullまたは空の場合は、null
+     */
+    private static Path toPath(final String value) {
+
+        Path result = null;
+
+        if ((value == null) || value.isEmpty()) {
+
+            return result;
+
+        }
+
+        result = Paths.get(value);
+        return result;
+
+    }
+
+    /**
+     * 情報のログを出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param logType
+     *                    ログメッセージの種類
+     * @param messageArgs
+     *                    メッセージの引数
+     */
+    private void logInfo(final KmgToolCliLogMsgTypes logType, final Object... messageArgs) {
+
+        final String msg = this.messageSource.getLogMessage(logType, messageArgs);
+        this.logger.info(msg);
+
+    }
+
+    /**
+     * 警告のログを出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param logType
+     *                    ログメッセージの種類
+     * @param messageArgs
+     *                    メッセージの引数
+     */
+    private void logWarn(final KmgToolCliLogMsgTypes logType, final Object... messageArgs) {
+
+        final String msg = this.messageSource.getLogMessage(logType, messageArgs);
+        this.logger.warn(msg);
+
+    }
+
+    /**
+     * エラーのログを出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param logType
+     *                    ログメッセージの種類
+     * @param e
+     *                    例外
+     * @param messageArgs
+     *                    メッセージの引数
+     */
+    private void logError(final KmgToolCliLogMsgTypes logType, final Exception e, final Object... messageArgs) {
+
+        final String msg = this.messageSource.getLogMessage(logType, messageArgs);
+        this.logger.error(msg, e);
+
+    }
+
+}
@@ -0,0 +1,13 @@
+/**
+ * バッチ実行のサービス実装パッケージ<br>
+ * <p>
+ * マニフェストの読み込みと、ジョブの並行実行を行うサービスの実装クラスが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.batch.application.service.impl;
@@ -0,0 +1,50 @@
+package kmg.tool.cli.batch.domain.model;
+
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.launcher.domain.model.ToolJobModel;
+
+/**
+ * バッチジョブ結果モデルインタフェース<br>
+ * <p>
+ * マニフェストに記載されたジョブと、その実行結果を保持する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public interface BatchJobResultModel {
+
+    /**
+     * ジョブ番号を返す。
+     * <p>
+     * マニフェストに記載された順の1から始まる番号。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return ジョブ番号
+     */
+    int getJobNo();
+
+    /**
+     * ツールジョブを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return ツールジョブ
+     */
+    ToolJobModel getJob();
+
+    /**
+     * 実行結果の種類を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 実行結果の種類。成功（KMGTOOLCLI_GEN09001）、失敗（KMGTOOLCLI_GEN09000）、例外発生（KMGTOOLCLI_GEN09002）のいずれか
+     */
+    KmgToolCliGenMsgTypes getResultType();
+
+}
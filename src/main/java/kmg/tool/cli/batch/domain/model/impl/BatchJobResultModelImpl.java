@@ -0,0 +1,104 @@
+package kmg.tool.cli.batch.domain.model.impl;
+
+import kmg.tool.cli.batch.domain.model.BatchJobResultModel;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.launcher.domain.model.ToolJobModel;
+
+/**
+ * バッチジョブ結果モデル<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class BatchJobResultModelImpl implements BatchJobResultModel {
+
+    /**
+     * ジョブ番号
+     *
+     * @since 0.2.0
+     */
+    private final int jobNo;
+
+    /**
+     * ツールジョブ
+     *
+     * @since 0.2.0
+     */
+    private final ToolJobModel job;
+
+    /**
+     * 実行結果の種類
+     *
+     * @since 0.2.0
+     */
+    private final KmgToolCliGenMsgTypes resultType;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param jobNo
+     *                   ジョブ番号
+     * @param job
+     *                   ツールジョブ
+     * @param resultType
+     *                   実行結果の種類
+     */
+    public BatchJobResultModelImpl(final int jobNo, final ToolJobModel job, final KmgToolCliGenMsgTypes resultType) {
+
+        this.jobNo = jobNo;
+        this.job = job;
+        this.resultType = resultType;
+
+    }
+
+    /**
+     * ジョブ番号を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return ジョブ番号
+     */
+    @Override
+    public int getJobNo() {
+
+        final int result = this.jobNo;
+        return result;
+
+    }
+
+    /**
+     * ツールジョブを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return ツールジョブ
+     */
+    @Override
+    public ToolJobModel getJob() {
+
+        final ToolJobModel result = this.job;
+        return result;
+
+    }
+
+    /**
+     * 実行結果の種類を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 実行結果の種類
+     */
+    @Override
+    public KmgToolCliGenMsgTypes getResultType() {
+
+        final KmgToolCliGenMsgTypes result = this.resultType;
+        return result;
+
+    }
+
+}
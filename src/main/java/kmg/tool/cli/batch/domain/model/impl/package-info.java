@@ -0,0 +1,13 @@
+/**
+ * バッチ実行のモデル実装パッケージ<br>
+ * <p>
+ * バッチ実行のジョブの結果のモデルの実装クラスが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.batch.domain.model.impl;
@@ -0,0 +1,316 @@
+package kmg.tool.cli.batch.presentation.ui.cli;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import kmg.core.domain.service.KmgPfaMeasService;
+import kmg.core.domain.service.impl.KmgPfaMeasServiceImpl;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.batch.application.service.BatchService;
+import kmg.tool.cli.batch.domain.model.BatchJobResultModel;
+import kmg.tool.cli.cmn.infrastructure.startup.KmgToolCliSpringApplication;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.cmn.presentation.ui.cli.AbstractTool;
+import kmg.tool.cli.launcher.domain.model.ToolJobModel;
+
+/**
+ * KMGツールバッチ<br>
+ * <p>
+ * マニフェスト（YAMLまたはCSV）に記載された複数のジョブを、1つのプロセスで仮想スレッドを使用して並行に実行し、ジョブごとの結果を一覧で出力する。
+ * </p>
+ *
+ * <pre>
+ * java -cp ... kmg.tool.cli.batch.presentation.ui.cli.KmgToolBatch --kmg.tool.cli.batch.manifest=work/batch/manifest.yml
+ * </pre>
+ * <p>
+ * 同時実行数は「--kmg.tool.cli.batch.concurrency=数」で指定する。指定しない場合、または0以下の場合は、利用可能なプロセッサ数とする。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SpringBootApplication(scanBasePackages = {
+    "kmg"
+})
+public class KmgToolBatch extends AbstractTool {
+
+    /**
+     * ツール名
+     *
+     * @since 0.2.0
+     */
+    private static final String TOOL_NAME = "KMGツールバッチ"; //$NON-NLS-1$
+
+    /**
+     * 既定のマニフェストのパス
+     *
+     * @since 0.2.0
+     */
+    public static final String DEFAULT_MANIFEST = "work/batch/manifest.yml"; //$NON-NLS-1$
+
+    /**
+     * メッセージソース
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private KmgMessageSource messageSource;
+
+    /**
+     * バッチ実行サービス
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private BatchService batchService;
+
+    /**
+     * マニフェストのパス
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.batch.manifest:" + KmgToolBatch.DEFAULT_MANIFEST + "}")
+    private String manifest;
+
+    /**
+     * 同時実行数
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.batch.concurrency:0}")
+    private int concurrency;
+
+    /**
+     * メインメソッド
+     *
+     * @since 0.2.0
+     *
+     * @param args
+     *             引数
+     */
+    public static void main(final String[] args) {
+
+        @SuppressWarnings("resource")
+        final ConfigurableApplicationContext ctx = KmgToolCliSpringApplication.run(KmgToolBatch.class, args);
+
+        final KmgToolBatch batch = ctx.getBean(KmgToolBatch.class);
+
+        /* 実行 */
+        batch.execute();
+
+        KmgToolCliSpringApplication.close(ctx, KmgToolBatch.class);
+
+    }
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.0
+     */
+    public KmgToolBatch() {
+
+        // 処理なし
+    }
+
+    /**
+     * 実行する
+     *
+     * @since 0.2.0
+     *
+     * @return true：全てのジョブが成功、false：成功しなかったジョブがある
+     */
+    @Override
+    public boolean execute() {
+
+        boolean result = false;
+
+        final KmgPfaMeasService measService = new KmgPfaMeasServiceImpl(KmgToolBatch.TOOL_NAME);
+
+        /* 開始 */
+        measService.start();
+
+        try {
+
+            final Path manifestPath = this.getManifestPath();
+
+            /* マニフェストの読み込み */
+            final List<ToolJobModel> jobs;
+
+            try {
+
+                jobs = this.batchService.readManifest(manifestPath);
+
+            } catch (final IOException e) {
+
+                final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN24002;
+                final Object[]              messageArgs = {
+                    manifestPath,
+                };
+                final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+                measService.error(msg, e);
+
+                return result;
+
+            }
+
+            if (jobs.isEmpty()) {
+
+                final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN24003;
+                final Object[]              messageArgs = {
+                    manifestPath,
+                };
+                final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+                measService.warn(msg);
+
+                return result;
+
+            }
+
+            /* 処理 */
+            final List<BatchJobResultModel> jobResults = this.batchService.execute(jobs, this.getConcurrency());
+
+            /* 結果の一覧の出力 */
+            result = this.outputSummary(measService, jobResults);
+
+        } finally {
+
+            /* 終了 */
+            measService.end();
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * マニフェストのパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return マニフェストのパス
+     */
+    public Path getManifestPath() {
+
+        Path result;
+
+        if ((this.manifest == null) || this.manifest.isBlank()) {
+
+            result = Paths.get(KmgToolBatch.DEFAULT_MANIFEST);
+            return result;
+
+        }
+
+        result = Paths.get(this.manifest);
+        return result;
+
+    }
+
+    /**
+     * 同時実行数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 同時実行数。指定がない場合は、利用可能なプロセッサ数
+     */
+    public int getConcurrency() {
+
+        int result = this.concurrency;
+
+        if (result <= 0) {
+
+            result = Runtime.getRuntime().availableProcessors();
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * ジョブごとの結果と、結果の件数を出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param measService
+     *                    計測サービス
+     * @param jobResults
+     *                    ジョブの結果のリスト
+     *
+     * @return true：全てのジョブが成功、false：成功しなかったジョブがある
+     */
+    private boolean outputSummary(final KmgPfaMeasService measService, final List<BatchJobResultModel> jobResults) {
+
+        boolean result = false;
+
+        int successCount   = 0;
+        int failureCount   = 0;
+        int exceptionCount = 0;
+
+        for (final BatchJobResultModel jobResult : jobResults) {
+
+            final ToolJobModel job = jobResult.getJob();
+
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN24004;
+            final Object[]              messageArgs = {
+                jobResult.getJobNo(), job.getCmdType().getKey(), job.getInputPath(), job.getTemplatePath(),
+                job.getOutputPath(), this.messageSource.getGenMessage(jobResult.getResultType(), new Object[] {}),
+            };
+            final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+
+            switch (jobResult.getResultType()) {
+
+                case KMGTOOLCLI_GEN09001:
+                    successCount++;
+                    measService.info(msg);
+                    break;
+
+                case KMGTOOLCLI_GEN09002:
+                    exceptionCount++;
+                    measService.error(msg);
+                    break;
+
+                default:
+                    failureCount++;
+                    measService.warn(msg);
+                    break;
+
+            }
+
+        }
+
+        if ((failureCount > 0) || (exceptionCount > 0)) {
+
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN24001;
+            final Object[]              messageArgs = {
+                successCount, failureCount, exceptionCount,
+            };
+            final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+            measService.warn(msg);
+
+            return result;
+
+        }
+
+        /* 成功 */
+        final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN24000;
+        final Object[]              messageArgs = {};
+        final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+        measService.info(msg);
+
+        result = true;
+        return result;
+
+    }
+
+}
@@ -0,0 +1,13 @@
+/**
+ * バッチ実行のCLIパッケージ<br>
+ * <p>
+ * マニフェストに記載されたジョブを1つのプロセスで実行するバッチのエントリポイントが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.batch.presentation.ui.cli;
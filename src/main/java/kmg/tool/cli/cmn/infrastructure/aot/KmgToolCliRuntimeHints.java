@@ -0,0 +1,108 @@
+package kmg.tool.cli.cmn.infrastructure.aot;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliLogMsgTypes;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliValMsgTypes;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+
+/**
+ * KMGツールCLIのランタイムヒント<br>
+ * <p>
+ * ネイティブイメージでは、ビルド時に到達可能と判定されたリソースとリフレクションだけが実行ファイルに含まれる。<br>
+ * そのため、Springが自動で検出できない次のものをヒントとして登録する。
+ * </p>
+ * <ul>
+ * <li>メッセージのリソースバンドル（kmg-tool-cli-messages*.properties、およびKMGシリーズのメッセージ）</li>
+ * <li>ロガーの設定ファイル（logback-kmg-*.xml）</li>
+ * <li>メッセージの種類とコマンドの種類の列挙型</li>
+ * </ul>
+ * <p>
+ * ツールのテンプレート（tool/io/template配下のYAML）は、入出力サービスがファイルのパスで読み込み、クラスパスから読み込まないため、登録しない。
+ * ネイティブイメージで実行する場合も、テンプレートファイルはディスク上に配置する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class KmgToolCliRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * メッセージのリソースパターン
+     *
+     * @since 0.2.0
+     */
+    public static final String MESSAGES_PATTERN = "kmg-*-messages*.properties"; //$NON-NLS-1$
+
+    /**
+     * ロガー設定のリソースパターン
+     *
+     * @since 0.2.0
+     */
+    public static final String LOGBACK_PATTERN = "logback-kmg-*.xml"; //$NON-NLS-1$
+
+    /**
+     * メッセージのリソースバンドルの基底名の配列
+     * <p>
+     * application.propertiesのspring.messages.basenameと同じ並びとする。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    private static final String[] MESSAGES_BASENAMES = {
+        "kmg-core-messages", "kmg-core-messages-log", //$NON-NLS-1$ //$NON-NLS-2$
+        "kmg-fund-messages", "kmg-fund-messages-log", //$NON-NLS-1$ //$NON-NLS-2$
+        "kmg-tool-base-messages", "kmg-tool-base-messages-log", "kmg-tool-base-messages-val", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        "kmg-tool-cli-messages", "kmg-tool-cli-messages-log", "kmg-tool-cli-messages-val", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    };
+
+    /**
+     * リフレクションを登録する型の配列
+     *
+     * @since 0.2.0
+     */
+    private static final Class<?>[] REFLECTION_TYPES = {
+        KmgToolCliGenMsgTypes.class, KmgToolCliLogMsgTypes.class, KmgToolCliValMsgTypes.class,
+        KmgToolCliCmdTypes.class,
+    };
+
+    /**
+     * ランタイムヒントを登録する。
+     *
+     * @since 0.2.0
+     *
+     * @param hints
+     *                    ランタイムヒント
+     * @param classLoader
+     *                    クラスローダ
+     */
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+
+        /* リソース */
+        hints.resources().registerPattern(KmgToolCliRuntimeHints.MESSAGES_PATTERN);
+        hints.resources().registerPattern(KmgToolCliRuntimeHints.LOGBACK_PATTERN);
+
+        /* リソースバンドル */
+        for (final String basename : KmgToolCliRuntimeHints.MESSAGES_BASENAMES) {
+
+            hints.resources().registerResourceBundle(basename);
+
+        }
+
+        /* リフレクション */
+        for (final Class<?> type : KmgToolCliRuntimeHints.REFLECTION_TYPES) {
+
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,13 @@
+/**
+ * 共通のAOT（事前処理）パッケージ<br>
+ * <p>
+ * GraalVMのネイティブイメージで実行するために必要なリフレクションやリソースのヒントを提供します。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.cmn.infrastructure.aot;
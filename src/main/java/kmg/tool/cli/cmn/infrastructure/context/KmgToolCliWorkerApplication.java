@@ -0,0 +1,199 @@
+package kmg.tool.cli.cmn.infrastructure.context;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.NativeDetector;
+
+/**
+ * KMGツールCLIのワーカーのアプリケーション<br>
+ * <p>
+ * ツールはシングルトンであり、実行中のパスなどの状態を保持するため、1つのコンテキストで同時に複数のジョブを実行できない。<br>
+ * バッチ実行では、同時実行数の分だけこのクラスでコンテキストを起動し、ジョブごとに1つのコンテキストを貸し出す。
+ * パターンに一致したファイルの並列処理では、全てのツールを必要としないため、処理するツールのクラスでコンテキストを起動する。
+ * </p>
+ * <p>
+ * ワーカーのコンテキストは、起動したコンテキストのオプション引数（「--」で始まる引数）を引き継ぐ。 どのコンテキストを借りたジョブも、同じオプションで実行する。
+ * </p>
+ * <p>
+ * ネイティブイメージでは、Spring AOTで処理したランチャー以外のクラスを起点にコンテキストを起動できない。 そのため、ワーカーのコンテキストは起動せず、起動済みのコンテキストだけで処理する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SpringBootApplication(scanBasePackages = {
+    "kmg"
+})
+public class KmgToolCliWorkerApplication {
+
+    /**
+     * オプション引数の接頭辞
+     *
+     * @since 0.2.0
+     */
+    private static final String OPTION_PREFIX = "--"; //$NON-NLS-1$
+
+    /**
+     * オプション引数の名前と値の区切り文字
+     *
+     * @since 0.2.0
+     */
+    private static final String OPTION_VALUE_SEPARATOR = "="; //$NON-NLS-1$
+
+    /**
+     * バナーの表示のオプション名
+     *
+     * @since 0.2.0
+     */
+    private static final String BANNER_MODE_OPTION = "spring.main.banner-mode"; //$NON-NLS-1$
+
+    /**
+     * 起動情報のログの出力のオプション名
+     *
+     * @since 0.2.0
+     */
+    private static final String LOG_STARTUP_INFO_OPTION = "spring.main.log-startup-info"; //$NON-NLS-1$
+
+    /**
+     * ワーカーのコンテキストの起動引数
+     * <p>
+     * 起動したコンテキストのオプション引数より優先する。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    private static final String[] WORKER_ARGS = {
+        KmgToolCliWorkerApplication.OPTION_PREFIX + KmgToolCliWorkerApplication.BANNER_MODE_OPTION
+            + KmgToolCliWorkerApplication.OPTION_VALUE_SEPARATOR + "off", //$NON-NLS-1$
+        KmgToolCliWorkerApplication.OPTION_PREFIX + KmgToolCliWorkerApplication.LOG_STARTUP_INFO_OPTION
+            + KmgToolCliWorkerApplication.OPTION_VALUE_SEPARATOR + "false", //$NON-NLS-1$
+    };
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.0
+     */
+    public KmgToolCliWorkerApplication() {
+
+        // 処理なし
+    }
+
+    /**
+     * ワーカーのコンテキストを起動できるかを返す。
+     * <p>
+     * ネイティブイメージで実行している場合は、起動できない。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：起動できる、false：起動できない
+     */
+    public static boolean isContextAvailable() {
+
+        final boolean result = !NativeDetector.inNativeImage();
+        return result;
+
+    }
+
+    /**
+     * ワーカーのコンテキストを起動する。
+     *
+     * @since 0.2.0
+     *
+     * @param parentArguments
+     *                        起動したコンテキストの引数。ない場合は、null
+     *
+     * @return ワーカーのコンテキスト
+     */
+    public static ConfigurableApplicationContext createContext(final ApplicationArguments parentArguments) {
+
+        final ConfigurableApplicationContext result
+            = KmgToolCliWorkerApplication.createContext(KmgToolCliWorkerApplication.class, parentArguments);
+        return result;
+
+    }
+
+    /**
+     * 指定されたクラスを起点に、ワーカーのコンテキストを起動する。
+     *
+     * @since 0.2.0
+     *
+     * @param primarySource
+     *                        起点のクラス
+     * @param parentArguments
+     *                        起動したコンテキストの引数。ない場合は、null
+     *
+     * @return ワーカーのコンテキスト
+     */
+    public static ConfigurableApplicationContext createContext(final Class<?> primarySource,
+        final ApplicationArguments parentArguments) {
+
+        final ConfigurableApplicationContext result
+            = SpringApplication.run(primarySource, KmgToolCliWorkerApplication.toWorkerArgs(parentArguments));
+        return result;
+
+    }
+
+    /**
+     * 起動したコンテキストの引数から、ワーカーのコンテキストの起動引数を作成する。
+     * <p>
+     * 起動したコンテキストのオプション引数を引き継ぎ、バナーの表示と起動情報のログの出力を無効にする。 サブコマンドなどのオプション以外の引数は、引き継がない。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param parentArguments
+     *                        起動したコンテキストの引数。ない場合は、null
+     *
+     * @return ワーカーのコンテキストの起動引数
+     */
+    public static String[] toWorkerArgs(final ApplicationArguments parentArguments) {
+
+        final List<String> workerArgs = new ArrayList<>(List.of(KmgToolCliWorkerApplication.WORKER_ARGS));
+
+        if (parentArguments != null) {
+
+            for (final String optionName : parentArguments.getOptionNames()) {
+
+                if (KmgToolCliWorkerApplication.BANNER_MODE_OPTION.equals(optionName)
+                    || KmgToolCliWorkerApplication.LOG_STARTUP_INFO_OPTION.equals(optionName)) {
+
+                    continue;
+
+                }
+
+                final List<String> optionValues = parentArguments.getOptionValues(optionName);
+
+                if (optionValues.isEmpty()) {
+
+                    workerArgs.add(KmgToolCliWorkerApplication.OPTION_PREFIX + optionName);
+                    continue;
+
+                }
+
+                for (final String optionValue : optionValues) {
+
+                    workerArgs.add(KmgToolCliWorkerApplication.OPTION_PREFIX + optionName
+                        + KmgToolCliWorkerApplication.OPTION_VALUE_SEPARATOR + optionValue);
+
+                }
+
+            }
+
+        }
+
+        final String[] result = workerArgs.toArray(new String[0]);
+        return result;
+
+    }
+
+}
@@ -0,0 +1,14 @@
+/**
+ * 共通のコンテキストパッケージ<br>
+ * <p>
+ * ジョブやファイルを並行して処理するためのワーカーのSpringのコンテキストの定義が含まれます。<br>
+ * バッチ実行と、パターンに一致したファイルの並列処理で共通に使用します。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.cmn.infrastructure.context;
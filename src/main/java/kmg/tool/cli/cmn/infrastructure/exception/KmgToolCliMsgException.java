@@ -0,0 +1,62 @@
+package kmg.tool.cli.cmn.infrastructure.exception;
+
+import kmg.fund.infrastructure.exception.KmgFundMsgException;
+import kmg.tool.cli.cmn.infrastructure.msg.KmgToolCliCmnExcMsg;
+
+/**
+ * KMGツールCLIメッセージ例外<br>
+ * <p>
+ * Msgは、Messageの略。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class KmgToolCliMsgException extends KmgFundMsgException {
+
+    /**
+     * シリアルバージョンUID
+     *
+     * @since 0.2.0
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param messageTypes
+     *                     メッセージの種類
+     * @param messageArgs
+     *                     メッセージの引数
+     */
+    public KmgToolCliMsgException(final KmgToolCliCmnExcMsg messageTypes, final Object[] messageArgs) {
+
+        super(messageTypes, messageArgs);
+
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param messageTypes
+     *                     メッセージの種類
+     * @param messageArgs
+     *                     メッセージの引数
+     * @param cause
+     *                     原因
+     */
+    public KmgToolCliMsgException(final KmgToolCliCmnExcMsg messageTypes, final Object[] messageArgs,
+        final Throwable cause) {
+
+        super(messageTypes, messageArgs, cause);
+
+    }
+
+}
@@ -0,0 +1,13 @@
+/**
+ * 共通の例外パッケージ<br>
+ * <p>
+ * KMGツールCLIのメッセージの種類から、メッセージを取得する例外を提供します。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.cmn.infrastructure.exception;
@@ -0,0 +1,363 @@
+package kmg.tool.cli.cmn.infrastructure.output;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 上書き更新ガード<br>
+ * <p>
+ * 対象ファイルをその場で上書きする処理の前後で、対象ファイルの内容を比較する。 処理の前に、対象のファイルまたはディレクトリ配下の全てのファイルのサイズ、SHA-256のハッシュ値、更新日時を記録する。
+ * 処理の後に、更新日時が変わったファイルのうち内容が処理の前と同じファイルの更新日時を元に戻す。
+ * </p>
+ * <p>
+ * 処理が書き込むファイルの拡張子を指定した場合は、ディレクトリ配下のその拡張子のファイルだけを記録し、書き込まれないファイルのハッシュ値は求めない。
+ * </p>
+ * <p>
+ * 上書きは外部のサービスが行うため書き込み自体は止められないが、内容が同じファイルの更新日時は変わらないため、 更新日時を監視するIDEやビルドツールの再ビルドを防げる。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class InPlaceUpdateGuard {
+
+    /**
+     * 対象のファイルまたはディレクトリのパス
+     *
+     * @since 0.2.0
+     */
+    private final Path targetPath;
+
+    /**
+     * 処理の前のファイルの状態のマップ
+     *
+     * @since 0.2.0
+     */
+    private final Map<Path, FileState> beforeStates;
+
+    /**
+     * 内容が変わったファイルの数
+     *
+     * @since 0.2.0
+     */
+    private int changedCount;
+
+    /**
+     * 内容が同じため更新日時を元に戻したファイルの数
+     *
+     * @since 0.2.0
+     */
+    private int restoredCount;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param targetPath
+     *                     対象のファイルまたはディレクトリのパス
+     * @param beforeStates
+     *                     処理の前のファイルの状態のマップ
+     */
+    private InPlaceUpdateGuard(final Path targetPath, final Map<Path, FileState> beforeStates) {
+
+        this.targetPath = targetPath;
+        this.beforeStates = beforeStates;
+
+    }
+
+    /**
+     * 対象のファイルまたはディレクトリ配下の全てのファイルの状態を記録する。
+     *
+     * @since 0.2.0
+     *
+     * @param targetPath
+     *                   対象のファイルまたはディレクトリのパス
+     *
+     * @return 上書き更新ガード
+     *
+     * @throws IOException
+     *                     ファイルの読み込みに失敗した場合
+     */
+    public static InPlaceUpdateGuard snapshot(final Path targetPath) throws IOException {
+
+        final InPlaceUpdateGuard result = InPlaceUpdateGuard.snapshot(targetPath, null);
+        return result;
+
+    }
+
+    /**
+     * 対象のファイル、またはディレクトリ配下の拡張子のファイルの状態を記録する。
+     *
+     * @since 0.2.0
+     *
+     * @param targetPath
+     *                   対象のファイルまたはディレクトリのパス
+     * @param extension
+     *                   処理が書き込むファイルの拡張子（例：「.java」）。全てのファイルを記録する場合は、null
+     *
+     * @return 上書き更新ガード
+     *
+     * @throws IOException
+     *                     ファイルの読み込みに失敗した場合
+     */
+    public static InPlaceUpdateGuard snapshot(final Path targetPath, final String extension) throws IOException {
+
+        final Map<Path, FileState> states = new LinkedHashMap<>();
+
+        for (final Path path : InPlaceUpdateGuard.listFiles(targetPath, extension)) {
+
+            states.put(path, new FileState(Files.size(path), SkipUnchangedWriter.hash(path),
+                Files.getLastModifiedTime(path)));
+
+        }
+
+        final InPlaceUpdateGuard result = new InPlaceUpdateGuard(targetPath, states);
+        return result;
+
+    }
+
+    /**
+     * 記録したファイルのうち、更新日時が変わり内容が同じファイルの更新日時を元に戻す。
+     *
+     * @since 0.2.0
+     *
+     * @return 内容が同じため更新日時を元に戻したファイルの数
+     *
+     * @throws IOException
+     *                     ファイルの読み込みまたは更新日時の設定に失敗した場合
+     */
+    public int restoreUnchanged() throws IOException {
+
+        this.changedCount = 0;
+        this.restoredCount = 0;
+
+        for (final Map.Entry<Path, FileState> entry : this.beforeStates.entrySet()) {
+
+            final Path      path   = entry.getKey();
+            final FileState before = entry.getValue();
+
+            if (!Files.isRegularFile(path)) {
+
+                continue;
+
+            }
+
+            final FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+
+            if (lastModifiedTime.equals(before.getLastModifiedTime())) {
+
+                continue;
+
+            }
+
+            if ((Files.size(path) == before.getSize())
+                && Arrays.equals(SkipUnchangedWriter.hash(path), before.getHash())) {
+
+                Files.setLastModifiedTime(path, before.getLastModifiedTime());
+                this.restoredCount++;
+                continue;
+
+            }
+
+            this.changedCount++;
+
+        }
+
+        final int result = this.restoredCount;
+        return result;
+
+    }
+
+    /**
+     * 対象のファイルまたはディレクトリのパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 対象のファイルまたはディレクトリのパス
+     */
+    public Path getTargetPath() {
+
+        final Path result = this.targetPath;
+        return result;
+
+    }
+
+    /**
+     * 内容が変わったファイルの数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 内容が変わったファイルの数
+     */
+    public int getChangedCount() {
+
+        final int result = this.changedCount;
+        return result;
+
+    }
+
+    /**
+     * 内容が同じため更新日時を元に戻したファイルの数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 内容が同じため更新日時を元に戻したファイルの数
+     */
+    public int getRestoredCount() {
+
+        final int result = this.restoredCount;
+        return result;
+
+    }
+
+    /**
+     * 対象のファイル、またはディレクトリ配下の拡張子のファイルのパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param targetPath
+     *                   対象のファイルまたはディレクトリのパス
+     * @param extension
+     *                   ディレクトリ配下のファイルの拡張子。全てのファイルの場合は、null
+     *
+     * @return ファイルのパスのリスト。対象が存在しない場合は、空のリスト
+     *
+     * @throws IOException
+     *                     ディレクトリの検索に失敗した場合
+     */
+    private static List<Path> listFiles(final Path targetPath, final String extension) throws IOException {
+
+        List<Path> result = List.of();
+
+        if (Files.isRegularFile(targetPath)) {
+
+            result = List.of(targetPath);
+            return result;
+
+        }
+
+        if (!Files.isDirectory(targetPath)) {
+
+            return result;
+
+        }
+
+        try (final Stream<Path> paths = Files.walk(targetPath)) {
+
+            result = paths.filter(Files::isRegularFile)
+                .filter(path -> (extension == null) || path.getFileName().toString().endsWith(extension)).toList();
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * ファイルの状態<br>
+     *
+     * @author KenichiroArai
+     *
+     * @since 0.2.0
+     *
+     * @version 0.2.0
+     */
+    private static final class FileState {
+
+        /**
+         * ファイルサイズ
+         *
+         * @since 0.2.0
+         */
+        private final long size;
+
+        /**
+         * ハッシュ値
+         *
+         * @since 0.2.0
+         */
+        private final byte[] hash;
+
+        /**
+         * 更新日時
+         *
+         * @since 0.2.0
+         */
+        private final FileTime lastModifiedTime;
+
+        /**
+         * コンストラクタ<br>
+         *
+         * @since 0.2.0
+         *
+         * @param size
+         *                         ファイルサイズ
+         * @param hash
+         *                         ハッシュ値
+         * @param lastModifiedTime
+         *                         更新日時
+         */
+        FileState(final long size, final byte[] hash, final FileTime lastModifiedTime) {
+
+            this.size = size;
+            this.hash = hash;
+            this.lastModifiedTime = lastModifiedTime;
+
+        }
+
+        /**
+         * ファイルサイズを返す。
+         *
+         * @since 0.2.0
+         *
+         * @return ファイルサイズ
+         */
+        long getSize() {
+
+            final long result = this.size;
+            return result;
+
+        }
+
+        /**
+         * ハッシュ値を返す。
+         *
+         * @since 0.2.0
+         *
+         * @return ハッシュ値
+         */
+        byte[] getHash() {
+
+            final byte[] result = this.hash;
+            return result;
+
+        }
+
+        /**
+         * 更新日時を返す。
+         *
+         * @since 0.2.0
+         *
+         * @return 更新日時
+         */
+        FileTime getLastModifiedTime() {
+
+            final FileTime result = this.lastModifiedTime;
+            return result;
+
+        }
+
+    }
+
+}
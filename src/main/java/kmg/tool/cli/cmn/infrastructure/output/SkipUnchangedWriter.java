@@ -0,0 +1,581 @@
+package kmg.tool.cli.cmn.infrastructure.output;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 変更なし省略ライター<br>
+ * <p>
+ * 出力を出力ファイルと同じディレクトリの一時ファイル（ステージングファイル）に書き込み、書き込み後に既存の出力ファイルと比較する。
+ * 内容が同じ場合はステージングファイルを削除して出力ファイルに触れず、異なる場合はステージングファイルを出力ファイルにアトミックに置き換える。
+ * 出力ファイルの更新日時は内容が変わった場合にだけ変わるため、更新日時を監視するIDEやビルドツールの再ビルドを防げる。
+ * </p>
+ * <p>
+ * 内容の比較は、まずファイルサイズで行い、同じ場合にSHA-256のハッシュ値で行う。 {@link #openStaging(Path)}で開いた出力は、書き込みながらハッシュ値を計算する。
+ * 書き込みと省略の件数は、複数のスレッドから同時に更新できる。
+ * </p>
+ * <p>
+ * ステージングファイルは、既存の出力ファイルのアクセス権を引き継ぎ、出力ファイルがない場合は、umaskによる既定のアクセス権とする。 反映も削除もされなかったステージングファイルは残るため、呼び出し元は、
+ * {@link #commit(Path, Path)}の後にfinallyで{@link #discard(Path)}を呼び出す。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class SkipUnchangedWriter {
+
+    /**
+     * ハッシュ値のアルゴリズム
+     *
+     * @since 0.2.0
+     */
+    public static final String HASH_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+
+    /**
+     * ステージングファイルの接尾辞
+     *
+     * @since 0.2.0
+     */
+    private static final String STAGING_FILE_SUFFIX = ".tmp"; //$NON-NLS-1$
+
+    /**
+     * ステージングファイルの接頭辞の区切り
+     *
+     * @since 0.2.0
+     */
+    private static final String STAGING_FILE_PREFIX = "."; //$NON-NLS-1$
+
+    /**
+     * 読み込みのバッファサイズ
+     *
+     * @since 0.2.0
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 書き込んだ件数
+     *
+     * @since 0.2.0
+     */
+    private final AtomicInteger writtenCount;
+
+    /**
+     * 内容が同じため省略した件数
+     *
+     * @since 0.2.0
+     */
+    private final AtomicInteger skippedCount;
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.0
+     */
+    public SkipUnchangedWriter() {
+
+        this.writtenCount = new AtomicInteger();
+        this.skippedCount = new AtomicInteger();
+
+    }
+
+    /**
+     * ファイルの内容のハッシュ値を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param path
+     *             ファイルのパス
+     *
+     * @return ハッシュ値
+     *
+     * @throws IOException
+     *                     ファイルの読み込みに失敗した場合
+     */
+    public static byte[] hash(final Path path) throws IOException {
+
+        final MessageDigest digest = SkipUnchangedWriter.createDigest();
+
+        try (final InputStream input = Files.newInputStream(path)) {
+
+            final byte[] buffer = new byte[SkipUnchangedWriter.BUFFER_SIZE];
+            int          length;
+
+            while ((length = input.read(buffer)) != -1) {
+
+                digest.update(buffer, 0, length);
+
+            }
+
+        }
+
+        final byte[] result = digest.digest();
+        return result;
+
+    }
+
+    /**
+     * ハッシュ値を計算するメッセージダイジェストを作成する。
+     *
+     * @since 0.2.0
+     *
+     * @return メッセージダイジェスト
+     */
+    public static MessageDigest createDigest() {
+
+        MessageDigest result;
+
+        try {
+
+            result = MessageDigest.getInstance(SkipUnchangedWriter.HASH_ALGORITHM);
+
+        } catch (final NoSuchAlgorithmException e) {
+
+            // SHA-256は全てのJava実行環境で提供される
+            throw new IllegalStateException(e);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 出力ファイルに対するステージングファイルを作成する。 出力ファイルの親ディレクトリがない場合は、作成する。
+     * <p>
+     * 一時ファイルとして作成すると所有者だけが読み書きできるアクセス権となり、反映した出力ファイルに引き継がれるため、通常のファイルとして作成する。
+     * 既存の出力ファイルがある場合は、そのアクセス権を設定する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param outputPath
+     *                   出力ファイルパス
+     *
+     * @return ステージングファイルのパス
+     *
+     * @throws IOException
+     *                     ステージングファイルの作成に失敗した場合
+     */
+    public Path createStaging(final Path outputPath) throws IOException {
+
+        final Path absolutePath = outputPath.toAbsolutePath();
+        final Path parentPath   = absolutePath.getParent();
+        Files.createDirectories(parentPath);
+
+        final Path result = Files.createFile(parentPath.resolve(SkipUnchangedWriter.STAGING_FILE_PREFIX
+            + absolutePath.getFileName() + SkipUnchangedWriter.STAGING_FILE_PREFIX + UUID.randomUUID()
+            + SkipUnchangedWriter.STAGING_FILE_SUFFIX));
+
+        try {
+
+            if (Files.isRegularFile(absolutePath)
+                && Files.getFileStore(parentPath).supportsFileAttributeView(PosixFileAttributeView.class)) {
+
+                Files.setPosixFilePermissions(result, Files.getPosixFilePermissions(absolutePath));
+
+            }
+
+        } catch (final IOException e) {
+
+            Files.deleteIfExists(result);
+            throw e;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 出力ファイルに対するステージングファイルを作成し、書き込みながらハッシュ値を計算する出力を開く。
+     * <p>
+     * 出力を閉じた後に{@link #commit(StagedOutput)}を呼び出す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param outputPath
+     *                   出力ファイルパス
+     *
+     * @return ステージングの出力
+     *
+     * @throws IOException
+     *                     ステージングファイルの作成に失敗した場合
+     */
+    public StagedOutput openStaging(final Path outputPath) throws IOException {
+
+        final Path stagingPath = this.createStaging(outputPath);
+
+        final StagedOutput result = new StagedOutput(outputPath, stagingPath,
+            new DigestOutputStream(Files.newOutputStream(stagingPath), SkipUnchangedWriter.createDigest()));
+        return result;
+
+    }
+
+    /**
+     * ステージングの出力を出力ファイルに反映する。
+     *
+     * @since 0.2.0
+     *
+     * @param stagedOutput
+     *                     閉じたステージングの出力
+     *
+     * @return true：出力ファイルに書き込んだ、false：内容が同じため省略した
+     *
+     * @throws IOException
+     *                     出力ファイルの比較または置き換えに失敗した場合
+     */
+    public boolean commit(final StagedOutput stagedOutput) throws IOException {
+
+        final boolean result = this.commit(stagedOutput.getStagingPath(), stagedOutput.getOutputPath(),
+            stagedOutput.getDigest().digest());
+        return result;
+
+    }
+
+    /**
+     * ステージングファイルを出力ファイルに反映する。
+     *
+     * @since 0.2.0
+     *
+     * @param stagingPath
+     *                    ステージングファイルのパス
+     * @param outputPath
+     *                    出力ファイルパス
+     *
+     * @return true：出力ファイルに書き込んだ、false：内容が同じため省略した
+     *
+     * @throws IOException
+     *                     出力ファイルの比較または置き換えに失敗した場合
+     */
+    public boolean commit(final Path stagingPath, final Path outputPath) throws IOException {
+
+        final boolean result = this.commit(stagingPath, outputPath, null);
+        return result;
+
+    }
+
+    /**
+     * ステージングファイルを削除し、出力ファイルには反映しない。 処理が失敗した場合に使用する。
+     *
+     * @since 0.2.0
+     *
+     * @param stagingPath
+     *                    ステージングファイルのパス
+     *
+     * @throws IOException
+     *                     ステージングファイルの削除に失敗した場合
+     */
+    public void discard(final Path stagingPath) throws IOException {
+
+        Files.deleteIfExists(stagingPath);
+
+    }
+
+    /**
+     * 書き込んだ件数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 書き込んだ件数
+     */
+    public int getWrittenCount() {
+
+        final int result = this.writtenCount.get();
+        return result;
+
+    }
+
+    /**
+     * 内容が同じため省略した件数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 内容が同じため省略した件数
+     */
+    public int getSkippedCount() {
+
+        final int result = this.skippedCount.get();
+        return result;
+
+    }
+
+    /**
+     * 件数を0に戻す。
+     *
+     * @since 0.2.0
+     */
+    public void reset() {
+
+        this.writtenCount.set(0);
+        this.skippedCount.set(0);
+
+    }
+
+    /**
+     * ステージングファイルを出力ファイルに反映する。
+     *
+     * @since 0.2.0
+     *
+     * @param stagingPath
+     *                    ステージングファイルのパス
+     * @param outputPath
+     *                    出力ファイルパス
+     * @param stagingHash
+     *                    書き込みながら計算したステージングファイルのハッシュ値。ない場合は、null
+     *
+     * @return true：出力ファイルに書き込んだ、false：内容が同じため省略した
+     *
+     * @throws IOException
+     *                     出力ファイルの比較または置き換えに失敗した場合
+     */
+    private boolean commit(final Path stagingPath, final Path outputPath, final byte[] stagingHash)
+        throws IOException {
+
+        boolean result = false;
+
+        if (SkipUnchangedWriter.isSameContent(stagingPath, outputPath, stagingHash)) {
+
+            Files.deleteIfExists(stagingPath);
+            this.skippedCount.incrementAndGet();
+            return result;
+
+        }
+
+        try {
+
+            Files.move(stagingPath, outputPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        } catch (final AtomicMoveNotSupportedException e) {
+
+            Files.move(stagingPath, outputPath, StandardCopyOption.REPLACE_EXISTING);
+
+        }
+
+        this.writtenCount.incrementAndGet();
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * ステージングファイルと出力ファイルの内容が同じかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param stagingPath
+     *                    ステージングファイルのパス
+     * @param outputPath
+     *                    出力ファイルパス
+     * @param stagingHash
+     *                    ステージングファイルのハッシュ値。ない場合は、null
+     *
+     * @return true：同じ、false：異なるか出力ファイルがない
+     *
+     * @throws IOException
+     *                     ファイルの読み込みに失敗した場合
+     */
+    private static boolean isSameContent(final Path stagingPath, final Path outputPath, final byte[] stagingHash)
+        throws IOException {
+
+        boolean result = false;
+
+        if (!Files.isRegularFile(outputPath) || (Files.size(outputPath) != Files.size(stagingPath))) {
+
+            return result;
+
+        }
+
+        final byte[] newHash = stagingHash != null ? stagingHash : SkipUnchangedWriter.hash(stagingPath);
+
+        result = Arrays.equals(newHash, SkipUnchangedWriter.hash(outputPath));
+        return result;
+
+    }
+
+    /**
+     * ステージングの出力<br>
+     * <p>
+     * 書き込みながらハッシュ値を計算する出力と、そのステージングファイルと出力ファイルのパスを保持する。
+     * </p>
+     *
+     * @author KenichiroArai
+     *
+     * @since 0.2.0
+     *
+     * @version 0.2.0
+     */
+    public static class StagedOutput extends OutputStream {
+
+        /**
+         * 出力ファイルパス
+         *
+         * @since 0.2.0
+         */
+        private final Path outputPath;
+
+        /**
+         * ステージングファイルのパス
+         *
+         * @since 0.2.0
+         */
+        private final Path stagingPath;
+
+        /**
+         * ハッシュ値を計算する出力
+         *
+         * @since 0.2.0
+         */
+        private final DigestOutputStream output;
+
+        /**
+         * コンストラクタ<br>
+         *
+         * @since 0.2.0
+         *
+         * @param outputPath
+         *                    出力ファイルパス
+         * @param stagingPath
+         *                    ステージングファイルのパス
+         * @param output
+         *                    ハッシュ値を計算する出力
+         */
+        StagedOutput(final Path outputPath, final Path stagingPath, final DigestOutputStream output) {
+
+            this.outputPath = outputPath;
+            this.stagingPath = stagingPath;
+            this.output = output;
+
+        }
+
+        /**
+         * 出力ファイルパスを返す。
+         *
+         * @since 0.2.0
+         *
+         * @return 出力ファイルパス
+         */
+        public Path getOutputPath() {
+
+            final Path result = this.outputPath;
+            return result;
+
+        }
+
+        /**
+         * ステージングファイルのパスを返す。
+         *
+         * @since 0.2.0
+         *
+         * @return ステージングファイルのパス
+         */
+        public Path getStagingPath() {
+
+            final Path result = this.stagingPath;
+            return result;
+
+        }
+
+        /**
+         * 書き込んだ内容のハッシュ値を計算しているメッセージダイジェストを返す。
+         *
+         * @since 0.2.0
+         *
+         * @return メッセージダイジェスト
+         */
+        MessageDigest getDigest() {
+
+            final MessageDigest result = this.output.getMessageDigest();
+            return result;
+
+        }
+
+        /**
+         * 1バイトを書き込む。
+         *
+         * @since 0.2.0
+         *
+         * @param b
+         *          書き込むバイト
+         *
+         * @throws IOException
+         *                     書き込みに失敗した場合
+         */
+        @Override
+        public void write(final int b) throws IOException {
+
+            this.output.write(b);
+
+        }
+
+        /**
+         * バイト配列の指定範囲を書き込む。
+         *
+         * @since 0.2.0
+         *
+         * @param b
+         *            バイト配列
+         * @param off
+         *            開始位置
+         * @param len
+         *            長さ
+         *
+         * @throws IOException
+         *                     書き込みに失敗した場合
+         */
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+
+            this.output.write(b, off, len);
+
+        }
+
+        /**
+         * フラッシュする。
+         *
+         * @since 0.2.0
+         *
+         * @throws IOException
+         *                     フラッシュに失敗した場合
+         */
+        @Override
+        public void flush() throws IOException {
+
+            this.output.flush();
+
+        }
+
+        /**
+         * 閉じる。
+         *
+         * @since 0.2.0
+         *
+         * @throws IOException
+         *                     閉じるのに失敗した場合
+         */
+        @Override
+        public void close() throws IOException {
+
+            this.output.close();
+
+        }
+
+    }
+
+}
@@ -0,0 +1,14 @@
+/**
+ * 共通の出力パッケージ<br>
+ * <p>
+ * 出力ファイルの内容が既存のファイルと同じ場合に書き込みを省略し、更新日時を変えないための処理を提供します。<br>
+ * 変更の有無は、SHA-256のハッシュ値で判定します。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.cmn.infrastructure.output;
@@ -0,0 +1,451 @@
+package kmg.tool.cli.cmn.infrastructure.startup;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliLogMsgTypes;
+import kmg.tool.cli.io.infrastructure.stream.StandardStreams;
+
+/**
+ * KMGツールCLIのSpringアプリケーション<br>
+ * <p>
+ * 各ツールのエントリポイントで、Springのアプリケーションの起動と終了に使用する。
+ * </p>
+ * <p>
+ * システムプロパティ「{@value #TIMELINE_PROPERTY}」にtrueを指定するか、引数に「--{@value #TIMELINE_PROPERTY}=true」を指定すると、
+ * 起動時間の計測が有効になる。 Springの起動のステップ（環境の準備、ロガーの設定、コンテキストのリフレッシュ、ビーンの生成など）と、
+ * ツールの実行（{@link kmg.tool.cli.cmn.presentation.ui.cli.AbstractTool#startExecuteStep()}）を1つのタイムラインとして記録し、
+ * 終了時に「{@value #TIMELINE_DIR}」配下にJSONファイルとして出力する。
+ * </p>
+ *
+ * <pre>
+ * java -Dkmg.tool.cli.startup-timeline=true -cp ... kmg.tool.cli.mptf.presentation.ui.cli.MapTransformTool
+ * </pre>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public final class KmgToolCliSpringApplication {
+
+    /**
+     * 起動時間の計測を有効にするプロパティ名
+     *
+     * @since 0.2.0
+     */
+    public static final String TIMELINE_PROPERTY = "kmg.tool.cli.startup-timeline"; //$NON-NLS-1$
+
+    /**
+     * タイムラインの出力ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    public static final String TIMELINE_DIR = "work/startup-timeline"; //$NON-NLS-1$
+
+    /**
+     * タイムラインに記録するステップの最大数
+     *
+     * @since 0.2.0
+     */
+    private static final int TIMELINE_CAPACITY = 10000;
+
+    /**
+     * タイムラインのファイル名の日時の形式
+     *
+     * @since 0.2.0
+     */
+    private static final DateTimeFormatter FILE_NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"); //$NON-NLS-1$
+
+    /**
+     * ナノ秒からミリ秒への除数
+     *
+     * @since 0.2.0
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * ロガー
+     *
+     * @since 0.2.0
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(KmgToolCliSpringApplication.class);
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.0
+     */
+    private KmgToolCliSpringApplication() {
+
+        // 処理なし
+    }
+
+    /**
+     * Springのアプリケーションを起動する。
+     * <p>
+     * 起動時間の計測が有効の場合は、バッファリングする起動の計測を設定してから起動する。
+     * 出力に標準出力が指定されている場合は、ログとバナーを標準エラー出力に切り替えてから起動し、標準出力をツールの出力専用にする。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param primarySource
+     *                      起動するクラス
+     * @param args
+     *                      引数
+     *
+     * @return アプリケーションのコンテキスト
+     */
+    public static ConfigurableApplicationContext run(final Class<?> primarySource, final String[] args) {
+
+        ConfigurableApplicationContext result;
+
+        if (StandardStreams.isStdoutRequested(args)) {
+
+            StandardStreams.reserveStdout();
+
+        }
+
+        if (!KmgToolCliSpringApplication.isTimelineEnabled(args)) {
+
+            result = SpringApplication.run(primarySource, args);
+            return result;
+
+        }
+
+        final SpringApplication application = new SpringApplication(primarySource);
+        application
+            .setApplicationStartup(new BufferingApplicationStartup(KmgToolCliSpringApplication.TIMELINE_CAPACITY));
+
+        result = application.run(args);
+        return result;
+
+    }
+
+    /**
+     * Springのアプリケーションを終了する。
+     * <p>
+     * 起動時間の計測が有効の場合は、終了する前にタイムラインをJSONファイルに出力する。 出力に失敗しても、アプリケーションは終了する。
+     * 標準入力を書き出した一時ファイルがある場合は、削除する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param ctx
+     *                      アプリケーションのコンテキスト
+     * @param primarySource
+     *                      起動したクラス
+     */
+    public static void close(final ConfigurableApplicationContext ctx, final Class<?> primarySource) {
+
+        final ApplicationStartup startup = ctx.getApplicationStartup();
+
+        if (startup instanceof final BufferingApplicationStartup bufferingStartup) {
+
+            final Path outputDir = Paths.get(KmgToolCliSpringApplication.TIMELINE_DIR);
+            final Path outputPath = outputDir.resolve(KmgToolCliSpringApplication.getTimelineFileName(primarySource));
+
+            try {
+
+                KmgToolCliSpringApplication.writeTimeline(bufferingStartup, primarySource, outputPath);
+                KmgToolCliSpringApplication.log(ctx, KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG23000, outputPath, null);
+
+            } catch (final IOException e) {
+
+                KmgToolCliSpringApplication.log(ctx, KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG23001, outputPath, e);
+
+            }
+
+        }
+
+        try {
+
+            StandardStreams.releaseStdinFile();
+
+        } catch (final IOException e) {
+
+            KmgToolCliSpringApplication.log(ctx, KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG30008, null, e);
+
+        }
+
+        ctx.close();
+
+    }
+
+    /**
+     * 起動時間の計測が有効かを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param args
+     *             引数
+     *
+     * @return true：有効、false：無効
+     */
+    public static boolean isTimelineEnabled(final String[] args) {
+
+        boolean result = Boolean.getBoolean(KmgToolCliSpringApplication.TIMELINE_PROPERTY);
+
+        if (result || (args == null)) {
+
+            return result;
+
+        }
+
+        final String option = "--" + KmgToolCliSpringApplication.TIMELINE_PROPERTY + "=true"; //$NON-NLS-1$ //$NON-NLS-2$
+
+        for (final String arg : args) {
+
+            if (option.equalsIgnoreCase(arg)) {
+
+                result = true;
+                break;
+
+            }
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * タイムラインをJSONファイルに出力する。
+     * <p>
+     * JVMの起動時刻、Springの起動の開始時刻、および各ステップの開始時刻、終了時刻、所要時間（ミリ秒）、タグを出力する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param startup
+     *                      バッファリングする起動の計測
+     * @param primarySource
+     *                      起動したクラス
+     * @param outputPath
+     *                      出力ファイルのパス
+     *
+     * @throws IOException
+     *                     出力に失敗した場合
+     */
+    public static void writeTimeline(final BufferingApplicationStartup startup, final Class<?> primarySource,
+        final Path outputPath) throws IOException {
+
+        final StartupTimeline timeline     = startup.getBufferedTimeline();
+        final Instant         jvmStartTime = Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime());
+
+        final StringBuilder json = new StringBuilder();
+        json.append("{\n"); //$NON-NLS-1$
+        json.append("  \"tool\": ").append(KmgToolCliSpringApplication.quote(primarySource.getSimpleName())) //$NON-NLS-1$
+            .append(",\n"); //$NON-NLS-1$
+        json.append("  \"jvmStartTime\": ").append(KmgToolCliSpringApplication.quote(jvmStartTime.toString())) //$NON-NLS-1$
+            .append(",\n"); //$NON-NLS-1$
+        json.append("  \"startTime\": ") //$NON-NLS-1$
+            .append(KmgToolCliSpringApplication.quote(timeline.getStartTime().toString())).append(",\n"); //$NON-NLS-1$
+        json.append("  \"events\": ["); //$NON-NLS-1$
+
+        String separator = "\n"; //$NON-NLS-1$
+
+        for (final TimelineEvent event : timeline.getEvents()) {
+
+            json.append(separator);
+            KmgToolCliSpringApplication.appendEvent(json, event);
+            separator = ",\n"; //$NON-NLS-1$
+
+        }
+
+        json.append("\n  ]\n}\n"); //$NON-NLS-1$
+
+        final Path parentPath = outputPath.toAbsolutePath().getParent();
+
+        if (parentPath != null) {
+
+            Files.createDirectories(parentPath);
+
+        }
+
+        Files.writeString(outputPath, json, StandardCharsets.UTF_8);
+
+    }
+
+    /**
+     * ステップをJSONのオブジェクトとして追加する。
+     *
+     * @since 0.2.0
+     *
+     * @param json
+     *              JSONの文字列
+     * @param event
+     *              タイムラインのステップ
+     */
+    private static void appendEvent(final StringBuilder json, final TimelineEvent event) {
+
+        final StartupStep step = event.getStartupStep();
+
+        json.append("    {\"id\": ").append(step.getId()); //$NON-NLS-1$
+        json.append(", \"parentId\": ").append(step.getParentId()); //$NON-NLS-1$
+        json.append(", \"name\": ").append(KmgToolCliSpringApplication.quote(step.getName())); //$NON-NLS-1$
+        json.append(", \"startTime\": ").append(KmgToolCliSpringApplication.quote(event.getStartTime().toString())); //$NON-NLS-1$
+        json.append(", \"endTime\": ").append(KmgToolCliSpringApplication.quote(event.getEndTime().toString())); //$NON-NLS-1$
+        json.append(", \"durationMillis\": ").append(String.format(Locale.ROOT, "%.3f", //$NON-NLS-1$ //$NON-NLS-2$
+            event.getDuration().toNanos() / KmgToolCliSpringApplication.NANOS_PER_MILLI));
+        json.append(", \"tags\": {"); //$NON-NLS-1$
+
+        String separator = ""; //$NON-NLS-1$
+
+        for (final StartupStep.Tag tag : step.getTags()) {
+
+            json.append(separator).append(KmgToolCliSpringApplication.quote(tag.getKey())).append(": ") //$NON-NLS-1$
+                .append(KmgToolCliSpringApplication.quote(tag.getValue()));
+            separator = ", "; //$NON-NLS-1$
+
+        }
+
+        json.append("}}"); //$NON-NLS-1$
+
+    }
+
+    /**
+     * タイムラインのファイル名を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param primarySource
+     *                      起動したクラス
+     *
+     * @return タイムラインのファイル名
+     */
+    private static String getTimelineFileName(final Class<?> primarySource) {
+
+        final String result = String.format("%s-%s.json", primarySource.getSimpleName(), //$NON-NLS-1$
+            LocalDateTime.now().format(KmgToolCliSpringApplication.FILE_NAME_FORMATTER));
+        return result;
+
+    }
+
+    /**
+     * ログを出力する。
+     * <p>
+     * メッセージはコンテキストのメッセージソースから取得する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param ctx
+     *                アプリケーションのコンテキスト
+     * @param logType
+     *                ログメッセージの種類
+     * @param path
+     *                ファイルのパス。ない場合は、null
+     * @param e
+     *                例外。情報のログの場合は、null
+     */
+    private static void log(final ConfigurableApplicationContext ctx, final KmgToolCliLogMsgTypes logType,
+        final Path path, final Exception e) {
+
+        final KmgMessageSource messageSource = ctx.getBean(KmgMessageSource.class);
+        final Object[]         messageArgs   = {
+            path,
+        };
+        final String           msg           = messageSource.getLogMessage(logType, messageArgs);
+
+        if (e == null) {
+
+            KmgToolCliSpringApplication.LOGGER.info(msg);
+            return;
+
+        }
+
+        KmgToolCliSpringApplication.LOGGER.error(msg, e);
+
+    }
+
+    /**
+     * 文字列をJSONの文字列リテラルにする。
+     *
+     * @since 0.2.0
+     *
+     * @param value
+     *              文字列
+     *
+     * @return JSONの文字列リテラル。文字列がnullの場合は、null
+     */
+    private static String quote(final String value) {
+
+        if (value == null) {
+
+            final String result = "null"; //$NON-NLS-1$
+            return result;
+
+        }
+
+        final StringBuilder builder = new StringBuilder(value.length() + 2);
+        builder.append('"');
+
+        for (final char c : value.toCharArray()) {
+
+            switch (c) {
+
+                case '"':
+                    builder.append("\\\""); //$NON-NLS-1$
+                    break;
+
+                case '\\':
+                    builder.append("\\\\"); //$NON-NLS-1$
+                    break;
+
+                case '\n':
+                    builder.append("\\n"); //$NON-NLS-1$
+                    break;
+
+                case '\r':
+                    builder.append("\\r"); //$NON-NLS-1$
+                    break;
+
+                case '\t':
+                    builder.append("\\t"); //$NON-NLS-1$
+                    break;
+
+                default:
+                    if (c < ' ') {
+
+                        builder.append(String.format("\\u%04x", (int) c)); //$NON-NLS-1$
+                        break;
+
+                    }
+
+                    builder.append(c);
+                    break;
+
+            }
+
+        }
+
+        builder.append('"');
+
+        final String result = builder.toString();
+        return result;
+
+    }
+
+}
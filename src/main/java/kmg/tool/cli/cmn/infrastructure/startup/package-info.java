@@ -0,0 +1,14 @@
+/**
+ * 共通の起動パッケージ<br>
+ * <p>
+ * 各ツールのエントリポイントで使用する、Springのアプリケーションの起動と終了の処理を提供します。<br>
+ * オプトインで、起動のステップとツールの実行時間を1つのタイムラインとしてJSONファイルに出力できます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.cmn.infrastructure.startup;
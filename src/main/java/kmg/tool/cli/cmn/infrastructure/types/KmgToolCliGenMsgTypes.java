@@ -17,7 +17,7 @@ import kmg.tool.cli.cmn.infrastructure.msg.KmgToolCliCmnGenMsg;
  *
  * @since 0.1.1
  *
- * @version 0.1.3
+ * @version 0.2.0
  */
 @SuppressWarnings("nls")
 public enum KmgToolCliGenMsgTypes implements KmgToolCliCmnGenMsg, KmgToolCliCmnExcMsg {
@@ -150,6 +150,293 @@ public enum KmgToolCliGenMsgTypes implements KmgToolCliCmnGenMsg, KmgToolCliCmnE
      */
     KMGTOOLCLI_GEN19004("実行中に例外が発生しました。"),
 
+    /**
+     * サブコマンドが指定されていません。
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN20000("サブコマンドが指定されていません。"),
+
+    /**
+     * サブコマンドが不正です。サブコマンド：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN20001("サブコマンドが不正です。サブコマンド：[{0}]"),
+
+    /**
+     * サブコマンドの実行に失敗しました。サブコマンド：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN20002("サブコマンドの実行に失敗しました。サブコマンド：[{0}]"),
+
+    /**
+     * 全てのサブコマンドの実行が成功しました。
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN20003("全てのサブコマンドの実行が成功しました。"),
+
+    /**
+     * サブコマンドの実行中に例外が発生しました。サブコマンド：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN20004("サブコマンドの実行中に例外が発生しました。サブコマンド：[{0}]"),
+
+    /**
+     * デーモンが正常に終了しました。
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN21000("デーモンが正常に終了しました。"),
+
+    /**
+     * デーモンが異常終了しました。
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN21001("デーモンが異常終了しました。"),
+
+    /**
+     * 使用方法：KmgToolClient &lt;サブコマンド|shutdown&gt; [--input=パス] [--template=パス] [--output=パス]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN21002("使用方法：KmgToolClient <サブコマンド|shutdown> [--input=パス] [--template=パス] [--output=パス]"),
+
+    /**
+     * 引数が不正です。引数：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN21003("引数が不正です。引数：[{0}]"),
+
+    /**
+     * デーモンとの通信に失敗しました。ソケットファイル：[{0}]、理由：[{1}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN21004("デーモンとの通信に失敗しました。ソケットファイル：[{0}]、理由：[{1}]"),
+
+    /**
+     * トレーニング実行が正常に終了しました。
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN22000("トレーニング実行が正常に終了しました。"),
+
+    /**
+     * トレーニング実行で失敗したツールがあります。
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN22001("トレーニング実行で失敗したツールがあります。"),
+
+    /**
+     * バッチ実行の全てのジョブが成功しました。
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN24000("バッチ実行の全てのジョブが成功しました。"),
+
+    /**
+     * バッチ実行で成功しなかったジョブがあります。成功：[{0}]、失敗：[{1}]、例外発生：[{2}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN24001("バッチ実行で成功しなかったジョブがあります。成功：[{0}]、失敗：[{1}]、例外発生：[{2}]"),
+
+    /**
+     * マニフェストの読み込みに失敗しました。マニフェスト：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN24002("マニフェストの読み込みに失敗しました。マニフェスト：[{0}]"),
+
+    /**
+     * マニフェストにジョブがありません。マニフェスト：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN24003("マニフェストにジョブがありません。マニフェスト：[{0}]"),
+
+    /**
+     * ジョブ[{0}]：ツール：[{1}]、入力：[{2}]、テンプレート：[{3}]、出力：[{4}]、結果：[{5}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN24004("ジョブ[{0}]：ツール：[{1}]、入力：[{2}]、テンプレート：[{3}]、出力：[{4}]、結果：[{5}]"),
+
+    /**
+     * ストリーミングに対応していないツールのため、通常の処理で実行します。
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN25000("ストリーミングに対応していないツールのため、通常の処理で実行します。"),
+
+    /**
+     * ストリーミングで処理しました。チャンク数：[{0}]、行数：[{1}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN25001("ストリーミングで処理しました。チャンク数：[{0}]、行数：[{1}]"),
+
+    /**
+     * 入力ファイルの読み込みに失敗しました。入力ファイルパス：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN26000("入力ファイルの読み込みに失敗しました。入力ファイルパス：[{0}]"),
+
+    /**
+     * 入力ファイルのパターンに一致するファイルがありません。パターン：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN27000("入力ファイルのパターンに一致するファイルがありません。パターン：[{0}]"),
+
+    /**
+     * 出力ファイルのパターンには「*」を1つだけ含めてください。パターン：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN27001("出力ファイルのパターンには「*」を1つだけ含めてください。パターン：[{0}]"),
+
+    /**
+     * 複数の入力ファイルが同じ出力ファイルになります。出力ファイル：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN27002("複数の入力ファイルが同じ出力ファイルになります。出力ファイル：[{0}]"),
+
+    /**
+     * ワーカーの入出力サービスを作成できないため、並列数：[{0}]で処理します。
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN27003("ワーカーの入出力サービスを作成できないため、並列数：[{0}]で処理します。"),
+
+    /**
+     * ファイル[{0}]：入力：[{1}]、出力：[{2}]、結果：[{3}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN27004("ファイル[{0}]：入力：[{1}]、出力：[{2}]、結果：[{3}]"),
+
+    /**
+     * 全てのファイルの処理が成功しました。ファイル数：[{0}]、並列数：[{1}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN27005("全てのファイルの処理が成功しました。ファイル数：[{0}]、並列数：[{1}]"),
+
+    /**
+     * 処理が成功しなかったファイルがあります。成功：[{0}]、失敗：[{1}]、例外発生：[{2}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN27006("処理が成功しなかったファイルがあります。成功：[{0}]、失敗：[{1}]、例外発生：[{2}]"),
+
+    /**
+     * ネイティブイメージではワーカーのコンテキストを起動できないため、並列数：[1]で処理します。指定された並列数：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN27007("ネイティブイメージではワーカーのコンテキストを起動できないため、並列数：[1]で処理します。指定された並列数：[{0}]"),
+
+    /**
+     * 出力ファイルの書き込み結果。書き込み：[{0}]、内容が同じため省略：[{1}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN28000("出力ファイルの書き込み結果。書き込み：[{0}]、内容が同じため省略：[{1}]"),
+
+    /**
+     * 対象ファイルの更新結果。内容が変わったファイル：[{0}]、内容が同じため更新日時を戻したファイル：[{1}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN28001("対象ファイルの更新結果。内容が変わったファイル：[{0}]、内容が同じため更新日時を戻したファイル：[{1}]"),
+
+    /**
+     * 対象ファイルの内容の比較に失敗したため、更新日時を戻さずに処理します。対象ファイルパス：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN28002("対象ファイルの内容の比較に失敗したため、更新日時を戻さずに処理します。対象ファイルパス：[{0}]"),
+
+    /**
+     * gzipファイルを一時ファイルに展開して処理しました。このツールは、gzipファイルをストリーミングで処理できません。gzipファイルパス：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN29000("gzipファイルを一時ファイルに展開して処理しました。このツールは、gzipファイルをストリーミングで処理できません。gzipファイルパス：[{0}]"),
+
+    /**
+     * マッピングをオートマトンで置換しました。マッピング数：[{0}]、対象ファイル数：[{1}]、置換したファイル数：[{2}]、置換数：[{3}]、並列数：[{4}]、絞り込みで除いたファイル数：[{5}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN30000("マッピングをオートマトンで置換しました。マッピング数：[{0}]、対象ファイル数：[{1}]、置換したファイル数：[{2}]、置換数：[{3}]、並列数：[{4}]、絞り込みで除いたファイル数：[{5}]"),
+
+    /**
+     * 対象ファイルの置換に失敗しました。対象パス：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN30001("対象ファイルの置換に失敗しました。対象パス：[{0}]"),
+
+    /**
+     * マッピングの対象値に、他の対象値と重なる対象値があります。重なる箇所の置換の結果は、2段階置換方式と異なる場合があります。マッピング数：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN30002("マッピングの対象値に、他の対象値と重なる対象値があります。重なる箇所の置換の結果は、2段階置換方式と異なる場合があります。マッピング数：[{0}]"),
+
+    /**
+     * ドライランのため、対象ファイルを変更しませんでした。マッピング数：[{0}]、対象ファイル数：[{1}]、出現したファイル数：[{2}]、出現数：[{3}]、並列数：[{4}]、絞り込みで除いたファイル数：[{5}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN30003("ドライランのため、対象ファイルを変更しませんでした。マッピング数：[{0}]、対象ファイル数：[{1}]、出現したファイル数：[{2}]、出現数：[{3}]、並列数：[{4}]、絞り込みで除いたファイル数：[{5}]"),
+
+    /**
+     * 対象値の出現数です。対象値：[{0}]、置換値：[{1}]、出現数：[{2}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN30004("対象値の出現数です。対象値：[{0}]、置換値：[{1}]、出現数：[{2}]"),
+
+    /**
+     * 対象ファイルの出現数です。対象ファイル：[{0}]、出現数：[{1}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN30005("対象ファイルの出現数です。対象ファイル：[{0}]、出現数：[{1}]"),
+
+    /**
+     * 出現しない対象値です。対象値：[{0}]、置換値：[{1}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN30006("出現しない対象値です。対象値：[{0}]、置換値：[{1}]"),
+
+    /**
+     * 登録できない変換処理の名前です。名前：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN30007("登録できない変換処理の名前です。名前：[{0}]"),
+
+    /**
+     * 登録されていない変換処理です。名前：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_GEN30008("登録されていない変換処理です。名前：[{0}]"),
+
     /* 定義：終了 */
 
     ;
@@ -15,7 +15,7 @@ import kmg.tool.cli.cmn.infrastructure.msg.KmgToolCliCmnLogMsg;
  *
  * @since 0.1.1
  *
- * @version 0.1.3
+ * @version 0.2.0
  */
 @SuppressWarnings("nls")
 public enum KmgToolCliLogMsgTypes implements KmgToolCliCmnLogMsg {
@@ -50,6 +50,230 @@ public enum KmgToolCliLogMsgTypes implements KmgToolCliCmnLogMsg {
      */
     KMGTOOLCLI_LOG17000("初期化の失敗"),
 
+    /**
+     * 追加のテンプレートの指定が不正です。「テンプレートファイル=出力ファイル」を「,」で区切って指定してください。指定：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG17001("追加のテンプレートの指定が不正です。「テンプレートファイル=出力ファイル」を「,」で区切って指定してください。指定：[{0}]"),
+
+    /**
+     * デーモンの待ち受けを開始しました。ソケットファイル：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG21000("デーモンの待ち受けを開始しました。ソケットファイル：[{0}]"),
+
+    /**
+     * デーモンの待ち受けを終了しました。ソケットファイル：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG21001("デーモンの待ち受けを終了しました。ソケットファイル：[{0}]"),
+
+    /**
+     * デーモンの待ち受けに失敗しました。ソケットファイル：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG21002("デーモンの待ち受けに失敗しました。ソケットファイル：[{0}]"),
+
+    /**
+     * ジョブの送受信中に例外が発生しました。
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG21003("ジョブの送受信中に例外が発生しました。"),
+
+    /**
+     * ジョブのツールが不正です。ツール：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG21004("ジョブのツールが不正です。ツール：[{0}]"),
+
+    /**
+     * ジョブの実行中に例外が発生しました。ツール：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG21005("ジョブの実行中に例外が発生しました。ツール：[{0}]"),
+
+    /**
+     * ジョブの実行が終了しました。ツール：[{0}]、結果：[{1}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG21006("ジョブの実行が終了しました。ツール：[{0}]、結果：[{1}]"),
+
+    /**
+     * 他のデーモンが待ち受けているため、待ち受けを開始できません。ソケットファイル：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG21007("他のデーモンが待ち受けているため、待ち受けを開始できません。ソケットファイル：[{0}]"),
+
+    /**
+     * トレーニング実行を開始しました。サンプルディレクトリ：[{0}]、作業ディレクトリ：[{1}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG22000("トレーニング実行を開始しました。サンプルディレクトリ：[{0}]、作業ディレクトリ：[{1}]"),
+
+    /**
+     * サンプルの準備に失敗しました。サンプルディレクトリ：[{0}]、作業ディレクトリ：[{1}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG22001("サンプルの準備に失敗しました。サンプルディレクトリ：[{0}]、作業ディレクトリ：[{1}]"),
+
+    /**
+     * サンプルの入力ファイルがないため、ツールをスキップします。ツール：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG22002("サンプルの入力ファイルがないため、ツールをスキップします。ツール：[{0}]"),
+
+    /**
+     * ツールのトレーニング実行中に例外が発生しました。ツール：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG22003("ツールのトレーニング実行中に例外が発生しました。ツール：[{0}]"),
+
+    /**
+     * ツールのトレーニング実行が終了しました。ツール：[{0}]、結果：[{1}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG22004("ツールのトレーニング実行が終了しました。ツール：[{0}]、結果：[{1}]"),
+
+    /**
+     * 起動時間の計測結果を出力しました。ファイル：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG23000("起動時間の計測結果を出力しました。ファイル：[{0}]"),
+
+    /**
+     * 起動時間の計測結果の出力に失敗しました。ファイル：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG23001("起動時間の計測結果の出力に失敗しました。ファイル：[{0}]"),
+
+    /**
+     * バッチ実行を開始しました。ジョブ数：[{0}]、同時実行数：[{1}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG24000("バッチ実行を開始しました。ジョブ数：[{0}]、同時実行数：[{1}]"),
+
+    /**
+     * マニフェストのツールが不正です。ジョブ：[{0}]、ツール：[{1}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG24001("マニフェストのツールが不正です。ジョブ：[{0}]、ツール：[{1}]"),
+
+    /**
+     * ジョブ用のコンテキストの作成に失敗しました。作成済みのコンテキスト数：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG24002("ジョブ用のコンテキストの作成に失敗しました。作成済みのコンテキスト数：[{0}]"),
+
+    /**
+     * ジョブの実行中に例外が発生しました。ジョブ：[{0}]、ツール：[{1}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG24003("ジョブの実行中に例外が発生しました。ジョブ：[{0}]、ツール：[{1}]"),
+
+    /**
+     * ジョブの実行が終了しました。ジョブ：[{0}]、ツール：[{1}]、結果：[{2}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG24004("ジョブの実行が終了しました。ジョブ：[{0}]、ツール：[{1}]、結果：[{2}]"),
+
+    /**
+     * マニフェストの行の引用符が閉じていません。ジョブ：[{0}]、行：[{1}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG24005("マニフェストの行の引用符が閉じていません。ジョブ：[{0}]、行：[{1}]"),
+
+    /**
+     * ネイティブイメージではジョブ用のコンテキストを起動できないため、ジョブを1つずつ実行します。指定された同時実行数：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG24006("ネイティブイメージではジョブ用のコンテキストを起動できないため、ジョブを1つずつ実行します。指定された同時実行数：[{0}]"),
+
+    /**
+     * テンプレートファイルの定義が中間データの入力に対応していないため、通常の変換で処理します。テンプレートファイル：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG30000("テンプレートファイルの定義が中間データの入力に対応していないため、通常の変換で処理します。テンプレートファイル：[{0}]"),
+
+    /**
+     * テンプレートファイルの読み込みに失敗したため、通常の変換で処理します。テンプレートファイル：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG30001("テンプレートファイルの読み込みに失敗したため、通常の変換で処理します。テンプレートファイル：[{0}]"),
+
+    /**
+     * テンプレートの実行計画のキャッシュへの保存に失敗しました。テンプレートファイル：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG30002("テンプレートの実行計画のキャッシュへの保存に失敗しました。テンプレートファイル：[{0}]"),
+
+    /**
+     * 変換処理のキャッシュの使用状況です。変換処理：[{0}]、キャッシュ使用回数：[{1}]、変換回数：[{2}]、キャッシュ使用率：[{3}]%
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG30003("変換処理のキャッシュの使用状況です。変換処理：[{0}]、キャッシュ使用回数：[{1}]、変換回数：[{2}]、キャッシュ使用率：[{3}]%"),
+
+    /**
+     * 行ごとの出力のキャッシュの使用状況です。出力ファイル：[{0}]、キャッシュ使用行数：[{1}]、出力行数：[{2}]、キャッシュ使用率：[{3}]%
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG30006("行ごとの出力のキャッシュの使用状況です。出力ファイル：[{0}]、キャッシュ使用行数：[{1}]、出力行数：[{2}]、キャッシュ使用率：[{3}]%"),
+
+    /**
+     * 行ごとの出力のキャッシュへの保存に失敗しました。出力ファイル：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG30007("行ごとの出力のキャッシュへの保存に失敗しました。出力ファイル：[{0}]"),
+
+    /**
+     * 標準入力を書き出した一時ファイルの削除に失敗しました。
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG30008("標準入力を書き出した一時ファイルの削除に失敗しました。"),
+
+    /**
+     * 追加のテンプレートは、ストリーミングとパターンに一致したファイルの並列処理では使用できません。入力ファイル全体を処理してください。追加のテンプレート：[{0}]
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG30009("追加のテンプレートは、ストリーミングとパターンに一致したファイルの並列処理では使用できません。入力ファイル全体を処理してください。追加のテンプレート：[{0}]"),
+
+    /**
+     * 変換処理の登録に失敗しました。
+     *
+     * @since 0.2.0
+     */
+    KMGTOOLCLI_LOG30010("変換処理の登録に失敗しました。"),
+
     /* 定義：終了 */
     ;
 
@@ -1,5 +1,10 @@
 package kmg.tool.cli.cmn.presentation.ui.cli;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.util.ClassUtils;
+
 /**
  * ツール抽象クラス
  *
@@ -7,10 +12,35 @@ package kmg.tool.cli.cmn.presentation.ui.cli;
  *
  * @since 0.1.0
  *
- * @version 0.1.0
+ * @version 0.2.0
  */
 public abstract class AbstractTool {
 
+    /**
+     * ツールの実行のステップ名
+     *
+     * @since 0.2.0
+     */
+    public static final String EXECUTE_STEP_NAME = "kmg.tool.execute"; //$NON-NLS-1$
+
+    /**
+     * ツールの実行のステップのタグ名（ツールのクラス名）
+     *
+     * @since 0.2.0
+     */
+    public static final String EXECUTE_STEP_TOOL_TAG = "tool"; //$NON-NLS-1$
+
+    /**
+     * アプリケーションの起動の計測
+     * <p>
+     * 起動時間の計測が無効の場合は、何も記録しない既定の計測が設定される。Springを使用せずに生成した場合は、nullである。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    @Autowired(required = false)
+    private ApplicationStartup applicationStartup;
+
     /**
      * デフォルトコンストラクタ
      */
@@ -28,4 +58,30 @@ public abstract class AbstractTool {
      */
     public abstract boolean execute();
 
+    /**
+     * ツールの実行の計測を開始する。
+     * <p>
+     * 起動時間の計測が有効の場合、Springの起動のステップと同じタイムラインにツールの実行時間が記録される。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return ツールの実行のステップ。実行の終了時に{@link StartupStep#end()}を呼び出すこと。
+     */
+    protected StartupStep startExecuteStep() {
+
+        ApplicationStartup startup = this.applicationStartup;
+
+        if (startup == null) {
+
+            startup = ApplicationStartup.DEFAULT;
+
+        }
+
+        final StartupStep result = startup.start(AbstractTool.EXECUTE_STEP_NAME);
+        result.tag(AbstractTool.EXECUTE_STEP_TOOL_TAG, ClassUtils.getUserClass(this).getSimpleName());
+        return result;
+
+    }
+
 }
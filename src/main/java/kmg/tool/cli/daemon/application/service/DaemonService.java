@@ -0,0 +1,46 @@
+package kmg.tool.cli.daemon.application.service;
+
+import java.nio.file.Path;
+
+import kmg.tool.cli.daemon.domain.model.DaemonRequestModel;
+import kmg.tool.cli.daemon.domain.model.DaemonResponseModel;
+
+/**
+ * デーモンサービスインタフェース<br>
+ * <p>
+ * Unixドメインソケットでジョブの要求を受け付け、起動済みのSpringのコンテキストでツールを実行する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public interface DaemonService {
+
+    /**
+     * ソケットファイルで待ち受け、停止要求を受けるまでジョブを1件ずつ実行する。
+     *
+     * @since 0.2.0
+     *
+     * @param socketPath
+     *                   ソケットファイルのパス
+     *
+     * @return true：停止要求により正常に終了、false：待ち受けに失敗
+     */
+    boolean serve(Path socketPath);
+
+    /**
+     * ジョブの要求を実行し、実行結果と実行中に出力されたログを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param request
+     *                ジョブの要求
+     *
+     * @return 応答
+     */
+    DaemonResponseModel handle(DaemonRequestModel request);
+
+}
@@ -0,0 +1,421 @@
+package kmg.tool.cli.daemon.application.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliLogMsgTypes;
+import kmg.tool.cli.daemon.application.service.DaemonService;
+import kmg.tool.cli.daemon.domain.model.DaemonRequestModel;
+import kmg.tool.cli.daemon.domain.model.DaemonResponseModel;
+import kmg.tool.cli.daemon.domain.model.impl.DaemonResponseModelImpl;
+import kmg.tool.cli.daemon.infrastructure.logging.JobLogCapture;
+import kmg.tool.cli.daemon.infrastructure.protocol.DaemonProtocolUtils;
+import kmg.tool.cli.launcher.application.service.ToolDispatchService;
+import kmg.tool.cli.launcher.domain.model.ToolJobModel;
+import kmg.tool.cli.launcher.domain.model.impl.ToolJobModelImpl;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+
+/**
+ * デーモンサービス<br>
+ * <p>
+ * ツールはシングルトンであり、入出力のサービスも状態を持つため、ジョブは受け付けた順に1件ずつ実行する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@Service
+public class DaemonServiceImpl implements DaemonService {
+
+    /**
+     * ロガー
+     *
+     * @since 0.2.0
+     */
+    private final Logger logger;
+
+    /**
+     * メッセージソース
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private KmgMessageSource messageSource;
+
+    /**
+     * ツール振り分けサービス
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private ToolDispatchService toolDispatchService;
+
+    /**
+     * 標準ロガーを使用して初期化するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     */
+    public DaemonServiceImpl() {
+
+        this(LoggerFactory.getLogger(DaemonServiceImpl.class));
+
+    }
+
+    /**
+     * カスタムロガーを使用して初期化するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param logger
+     *               ロガー
+     */
+    protected DaemonServiceImpl(final Logger logger) {
+
+        this.logger = logger;
+
+    }
+
+    /**
+     * ソケットファイルで待ち受け、停止要求を受けるまでジョブを1件ずつ実行する。
+     * <p>
+     * ソケットファイルが既にある場合は接続を試し、接続できる場合は他のデーモンが待ち受けているため、ソケットファイルを削除せずに失敗とする。
+     * 接続できない場合は、前回の異常終了などで残ったソケットファイルとして削除してから待ち受ける。 終了時はソケットファイルを削除する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param socketPath
+     *                   ソケットファイルのパス
+     *
+     * @return true：停止要求により正常に終了、false：待ち受けに失敗、または他のデーモンが待ち受け中
+     */
+    @Override
+    public boolean serve(final Path socketPath) {
+
+        boolean result = false;
+
+        if (DaemonServiceImpl.isListening(socketPath)) {
+
+            final KmgToolCliLogMsgTypes logType     = KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21007;
+            final Object[]              messageArgs = {
+                socketPath,
+            };
+            final String                msg         = this.messageSource.getLogMessage(logType, messageArgs);
+            this.logger.error(msg);
+            return result;
+
+        }
+
+        try {
+
+            Files.deleteIfExists(socketPath);
+
+            final Path parentPath = socketPath.toAbsolutePath().getParent();
+
+            if (parentPath != null) {
+
+                Files.createDirectories(parentPath);
+
+            }
+
+        } catch (final IOException e) {
+
+            this.logError(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21002, e, socketPath);
+            return result;
+
+        }
+
+        try (final ServerSocketChannel serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+
+            serverChannel.bind(UnixDomainSocketAddress.of(socketPath));
+
+            this.logInfo(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21000, socketPath);
+
+            boolean running = true;
+
+            while (running) {
+
+                running = this.acceptJob(serverChannel);
+
+            }
+
+            result = true;
+
+        } catch (final IOException e) {
+
+            this.logError(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21002, e, socketPath);
+
+        } finally {
+
+            try {
+
+                Files.deleteIfExists(socketPath);
+
+            } catch (final IOException e) {
+
+                this.logError(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21002, e, socketPath);
+
+            }
+
+            this.logInfo(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21001, socketPath);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * ジョブの要求を実行し、実行結果と実行中に出力されたログを返す。
+     * <p>
+     * ツールで発生した実行時例外はここで受け止め、失敗として応答する。デーモンは次の要求を待ち受け続ける。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param request
+     *                ジョブの要求
+     *
+     * @return 応答
+     */
+    @Override
+    public DaemonResponseModel handle(final DaemonRequestModel request) {
+
+        DaemonResponseModel result;
+
+        boolean success = false;
+
+        try (final JobLogCapture logCapture = new JobLogCapture()) {
+
+            final KmgToolCliCmdTypes cmdType = KmgToolCliCmdTypes.getEnum(request.getTool());
+
+            if (cmdType == KmgToolCliCmdTypes.NONE) {
+
+                this.logWarn(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21004, request.getTool());
+
+            } else {
+
+                try {
+
+                    final ToolJobModel job = new ToolJobModelImpl(cmdType, DaemonServiceImpl.toPath(request.getInput()),
+                        DaemonServiceImpl.toPath(request.getTemplate()), DaemonServiceImpl.toPath(request.getOutput()));
+
+                    success = this.toolDispatchService.dispatch(job);
+
+                } catch (final RuntimeException e) {
+
+                    this.logError(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21005, e, request.getTool());
+
+                }
+
+                this.logInfo(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21006, request.getTool(), success);
+
+            }
+
+            result = new DaemonResponseModelImpl(success, logCapture.getLogLines());
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 接続を1件受け付け、要求を読み込んで応答を書き込む。
+     * <p>
+     * 接続ごとの送受信で発生した例外はログに出力し、待ち受けを継続する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param serverChannel
+     *                      待ち受けのチャネル
+     *
+     * @return true：待ち受けを継続、false：停止要求を受けた
+     *
+     * @throws IOException
+     *                     接続の受け付けに失敗した場合
+     */
+    private boolean acceptJob(final ServerSocketChannel serverChannel) throws IOException {
+
+        boolean result = true;
+
+        final SocketChannel channel = serverChannel.accept();
+
+        try (channel;
+            final BufferedReader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+            final Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8)) {
+
+            final DaemonRequestModel request = DaemonProtocolUtils.readRequest(reader);
+
+            if (request == null) {
+
+                return result;
+
+            }
+
+            if (request.isShutdown()) {
+
+                DaemonProtocolUtils.writeResponse(writer, new DaemonResponseModelImpl(true, Collections.emptyList()));
+
+                result = false;
+                return result;
+
+            }
+
+            final DaemonResponseModel response = this.handle(request);
+            DaemonProtocolUtils.writeResponse(writer, response);
+
+        } catch (final IOException e) {
+
+            final KmgToolCliLogMsgTypes logType     = KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21003;
+            final Object[]              messageArgs = {};
+            final String                msg         = this.messageSource.getLogMessage(logType, messageArgs);
+            this.logger.error(msg, e);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * ソケットファイルで他のデーモンが待ち受けているかを返す。
+     * <p>
+     * ソケットファイルに接続できる場合は、待ち受けているとする。 接続した後は要求を送らずに切断するため、待ち受けているデーモンは次の接続を待ち続ける。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param socketPath
+     *                   ソケットファイルのパス
+     *
+     * @return true：待ち受けている、false：ソケットファイルがない、または接続できない
+     */
+    private static boolean isListening(final Path socketPath) {
+
+        boolean result = false;
+
+        if (!Files.exists(socketPath)) {
+
+            return result;
+
+        }
+
+        try {
+
+            final SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath));
+            channel.close();
+
+            result = true;
+
+        } catch (final IOException e) {
+
+            // 接続できないソケットファイルは、前回の異常終了などで残ったファイルとする
+            result = false;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * パスの文字列をパスに変換する。
+     *
+     * @since 0.2.0
+     *
+     * @param value
+     *              パスの文字列
+     *
+     * @return パス。文字列がnullまたは空の場合は、null
+     */
+    private static Path toPath(final String value) {
+
+        Path result = null;
+
+        if ((value == null) || value.isEmpty()) {
+
+            return result;
+
+        }
+
+        result = Paths.get(value);
+        return result;
+
+    }
+
+    /**
+     * 情報のログを出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param logType
+     *                    ログメッセージの種類
+     * @param messageArgs
+     *                    メッセージの引数
+     */
+    private void logInfo(final KmgToolCliLogMsgTypes logType, final Object... messageArgs) {
+
+        final String msg = this.messageSource.getLogMessage(logType, messageArgs);
+        this.logger.info(msg);
+
+    }
+
+    /**
+     * 警告のログを出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param logType
+     *                    ログメッセージの種類
+     * @param messageArgs
+     *                    メッセージの引数
+     */
+    private void logWarn(final KmgToolCliLogMsgTypes logType, final Object... messageArgs) {
+
+        final String msg = this.messageSource.getLogMessage(logType, messageArgs);
+        this.logger.warn(msg);
+
+    }
+
+    /**
+     * エラーのログを出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param logType
+     *                    ログメッセージの種類
+     * @param e
+     *                    例外
+     * @param messageArgs
+     *                    メッセージの引数
+     */
+    private void logError(final KmgToolCliLogMsgTypes logType, final Exception e, final Object... messageArgs) {
+
+        final String msg = this.messageSource.getLogMessage(logType, messageArgs);
+        this.logger.error(msg, e);
+
+    }
+
+}
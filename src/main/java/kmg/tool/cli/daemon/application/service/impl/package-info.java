@@ -0,0 +1,13 @@
+/**
+ * デーモンのサービス実装パッケージ<br>
+ * <p>
+ * ソケットでジョブを受け付けて実行するサービスの実装クラスが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.daemon.application.service.impl;
@@ -0,0 +1,13 @@
+/**
+ * デーモンのサービスパッケージ<br>
+ * <p>
+ * ソケットでジョブを受け付けて実行するサービスのインタフェースが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.daemon.application.service;
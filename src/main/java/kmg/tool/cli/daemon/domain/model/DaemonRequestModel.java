@@ -0,0 +1,62 @@
+package kmg.tool.cli.daemon.domain.model;
+
+/**
+ * デーモン要求モデルインタフェース<br>
+ * <p>
+ * クライアントからデーモンに送るジョブの要求を表す。 パスはクライアントで絶対パスに変換した文字列であり、指定されていない場合はnullとなる。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public interface DaemonRequestModel {
+
+    /**
+     * ツールのキーを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return ツールのキー
+     */
+    String getTool();
+
+    /**
+     * 入力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 入力ファイルパス。指定されていない場合は、null
+     */
+    String getInput();
+
+    /**
+     * テンプレートファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return テンプレートファイルパス。指定されていない場合は、null
+     */
+    String getTemplate();
+
+    /**
+     * 出力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 出力ファイルパス。指定されていない場合は、null
+     */
+    String getOutput();
+
+    /**
+     * デーモンの停止要求かを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：停止要求、false：ジョブの要求
+     */
+    boolean isShutdown();
+
+}
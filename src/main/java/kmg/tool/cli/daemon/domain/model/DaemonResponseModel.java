@@ -0,0 +1,37 @@
+package kmg.tool.cli.daemon.domain.model;
+
+import java.util.List;
+
+/**
+ * デーモン応答モデルインタフェース<br>
+ * <p>
+ * デーモンからクライアントに返すジョブの実行結果と、実行中に出力されたログを表す。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public interface DaemonResponseModel {
+
+    /**
+     * ジョブの実行結果を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：成功、false：失敗
+     */
+    boolean isSuccess();
+
+    /**
+     * ジョブの実行中に出力されたログの行のリストを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return ログの行のリスト
+     */
+    List<String> getLogLines();
+
+}
@@ -0,0 +1,149 @@
+package kmg.tool.cli.daemon.domain.model.impl;
+
+import kmg.tool.cli.daemon.domain.model.DaemonRequestModel;
+
+/**
+ * デーモン要求モデル<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class DaemonRequestModelImpl implements DaemonRequestModel {
+
+    /**
+     * 停止要求のツールのキー
+     *
+     * @since 0.2.0
+     */
+    public static final String SHUTDOWN_TOOL = "shutdown"; //$NON-NLS-1$
+
+    /**
+     * ツールのキー
+     *
+     * @since 0.2.0
+     */
+    private final String tool;
+
+    /**
+     * 入力ファイルパス
+     *
+     * @since 0.2.0
+     */
+    private final String input;
+
+    /**
+     * テンプレートファイルパス
+     *
+     * @since 0.2.0
+     */
+    private final String template;
+
+    /**
+     * 出力ファイルパス
+     *
+     * @since 0.2.0
+     */
+    private final String output;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param tool
+     *                 ツールのキー
+     * @param input
+     *                 入力ファイルパス。指定しない場合は、null
+     * @param template
+     *                 テンプレートファイルパス。指定しない場合は、null
+     * @param output
+     *                 出力ファイルパス。指定しない場合は、null
+     */
+    public DaemonRequestModelImpl(final String tool, final String input, final String template, final String output) {
+
+        this.tool = tool;
+        this.input = input;
+        this.template = template;
+        this.output = output;
+
+    }
+
+    /**
+     * ツールのキーを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return ツールのキー
+     */
+    @Override
+    public String getTool() {
+
+        final String result = this.tool;
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 入力ファイルパス。指定されていない場合は、null
+     */
+    @Override
+    public String getInput() {
+
+        final String result = this.input;
+        return result;
+
+    }
+
+    /**
+     * テンプレートファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return テンプレートファイルパス。指定されていない場合は、null
+     */
+    @Override
+    public String getTemplate() {
+
+        final String result = this.template;
+        return result;
+
+    }
+
+    /**
+     * 出力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 出力ファイルパス。指定されていない場合は、null
+     */
+    @Override
+    public String getOutput() {
+
+        final String result = this.output;
+        return result;
+
+    }
+
+    /**
+     * デーモンの停止要求かを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：停止要求、false：ジョブの要求
+     */
+    @Override
+    public boolean isShutdown() {
+
+        final boolean result = DaemonRequestModelImpl.SHUTDOWN_TOOL.equals(this.tool);
+        return result;
+
+    }
+
+}
@@ -0,0 +1,81 @@
+package kmg.tool.cli.daemon.domain.model.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import kmg.tool.cli.daemon.domain.model.DaemonResponseModel;
+
+/**
+ * デーモン応答モデル<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class DaemonResponseModelImpl implements DaemonResponseModel {
+
+    /**
+     * ジョブの実行結果
+     *
+     * @since 0.2.0
+     */
+    private final boolean success;
+
+    /**
+     * ログの行のリスト
+     *
+     * @since 0.2.0
+     */
+    private final List<String> logLines;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param success
+     *                 ジョブの実行結果
+     * @param logLines
+     *                 ログの行のリスト
+     */
+    public DaemonResponseModelImpl(final boolean success, final List<String> logLines) {
+
+        this.success = success;
+        this.logLines = Collections.unmodifiableList(new ArrayList<>(logLines));
+
+    }
+
+    /**
+     * ジョブの実行結果を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：成功、false：失敗
+     */
+    @Override
+    public boolean isSuccess() {
+
+        final boolean result = this.success;
+        return result;
+
+    }
+
+    /**
+     * ジョブの実行中に出力されたログの行のリストを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return ログの行のリスト
+     */
+    @Override
+    public List<String> getLogLines() {
+
+        final List<String> result = this.logLines;
+        return result;
+
+    }
+
+}
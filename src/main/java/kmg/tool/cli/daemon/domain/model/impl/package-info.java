@@ -0,0 +1,13 @@
+/**
+ * デーモンのモデル実装パッケージ<br>
+ * <p>
+ * デーモンが受け付けるジョブの要求と応答のモデルの実装クラスが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.daemon.domain.model.impl;
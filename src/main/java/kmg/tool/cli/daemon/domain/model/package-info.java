@@ -0,0 +1,13 @@
+/**
+ * デーモンのモデルパッケージ<br>
+ * <p>
+ * デーモンが受け付けるジョブの要求と応答のモデルのインタフェースが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.daemon.domain.model;
@@ -0,0 +1,166 @@
+package kmg.tool.cli.daemon.infrastructure.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.read.ListAppender;
+
+/**
+ * ジョブログ収集<br>
+ * <p>
+ * 生成してから閉じるまでの間に出力されたログを収集する。 ジョブはデーモンで1件ずつ実行するため、収集期間中のログは全てそのジョブのログとして扱う。
+ * </p>
+ * <p>
+ * 「kmg.tool.cli」のロガーは親に伝播しない設定のため、ルートロガーと合わせて収集対象とする。 親に伝播する設定の場合は、二重に収集しないようルートロガーのみを対象とする。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class JobLogCapture implements AutoCloseable {
+
+    /**
+     * 収集対象のロガー名
+     *
+     * @since 0.2.0
+     */
+    private static final String[] TARGET_LOGGER_NAMES = {
+        org.slf4j.Logger.ROOT_LOGGER_NAME, "kmg.tool.cli", //$NON-NLS-1$
+    };
+
+    /**
+     * ログの行のフォーマット
+     *
+     * @since 0.2.0
+     */
+    private static final String LOG_LINE_FORMAT = "[%-5s] %s"; //$NON-NLS-1$
+
+    /**
+     * 収集用のアペンダー
+     *
+     * @since 0.2.0
+     */
+    private final ListAppender<ILoggingEvent> appender;
+
+    /**
+     * アペンダーを追加したロガーのリスト
+     *
+     * @since 0.2.0
+     */
+    private final List<Logger> loggers;
+
+    /**
+     * コンストラクタ<br>
+     * <p>
+     * ロガーの実装がLogbackでない場合は、何も収集しない。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    public JobLogCapture() {
+
+        this.appender = new ListAppender<>();
+        this.loggers = new ArrayList<>();
+
+        final ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+
+        if (!(loggerFactory instanceof final LoggerContext loggerContext)) {
+
+            return;
+
+        }
+
+        this.appender.setContext(loggerContext);
+        this.appender.start();
+
+        for (final String loggerName : JobLogCapture.TARGET_LOGGER_NAMES) {
+
+            final Logger logger = loggerContext.getLogger(loggerName);
+
+            if (!this.loggers.isEmpty() && logger.isAdditive()) {
+
+                // ルートロガーで収集されるため、追加しない
+                continue;
+
+            }
+
+            logger.addAppender(this.appender);
+            this.loggers.add(logger);
+
+        }
+
+    }
+
+    /**
+     * 収集したログの行のリストを返す。
+     * <p>
+     * 例外がある場合は、スタックトレースも含める。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return ログの行のリスト
+     */
+    public List<String> getLogLines() {
+
+        final List<String> result = new ArrayList<>();
+
+        final List<ILoggingEvent> events;
+
+        synchronized (this.appender) {
+
+            events = new ArrayList<>(this.appender.list);
+
+        }
+
+        for (final ILoggingEvent event : events) {
+
+            result.add(String.format(JobLogCapture.LOG_LINE_FORMAT, event.getLevel(), event.getFormattedMessage()));
+
+            final IThrowableProxy throwableProxy = event.getThrowableProxy();
+
+            if (throwableProxy == null) {
+
+                continue;
+
+            }
+
+            result.add(ThrowableProxyUtil.asString(throwableProxy));
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 収集を終了し、ロガーからアペンダーを取り除く。
+     *
+     * @since 0.2.0
+     */
+    @Override
+    public void close() {
+
+        for (final Logger logger : this.loggers) {
+
+            logger.detachAppender(this.appender);
+
+        }
+
+        this.loggers.clear();
+        this.appender.stop();
+
+    }
+
+}
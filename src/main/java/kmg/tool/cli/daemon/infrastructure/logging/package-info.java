@@ -0,0 +1,13 @@
+/**
+ * デーモンのログ収集パッケージ<br>
+ * <p>
+ * ジョブの実行中に出力されたログを収集し、クライアントに返すためのクラスが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.daemon.infrastructure.logging;
@@ -0,0 +1,345 @@
+package kmg.tool.cli.daemon.infrastructure.protocol;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import kmg.tool.cli.daemon.domain.model.DaemonRequestModel;
+import kmg.tool.cli.daemon.domain.model.DaemonResponseModel;
+import kmg.tool.cli.daemon.domain.model.impl.DaemonRequestModelImpl;
+import kmg.tool.cli.daemon.domain.model.impl.DaemonResponseModelImpl;
+
+/**
+ * デーモン通信規約ユーティリティ<br>
+ * <p>
+ * 要求と応答は、「キー=値」の行を並べ、空行で終端するUTF-8のテキストとして送受信する。 クライアントはSpringを起動せずに使用するため、このクラスはSpringに依存しない。
+ * </p>
+ *
+ * <pre>
+ * 要求：
+ * tool=acccrt
+ * input=/path/to/input.txt
+ * template=/path/to/template.yml
+ * output=/path/to/output.txt
+ * （空行）
+ *
+ * 応答：
+ * log=[INFO] ...
+ * result=true
+ * （空行）
+ * </pre>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public final class DaemonProtocolUtils {
+
+    /**
+     * ソケットファイルのパスを指定するプロパティ名
+     * <p>
+     * デーモンではSpringのプロパティとして、クライアントではシステムプロパティとして指定する。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    public static final String SOCKET_PATH_PROPERTY = "kmg.tool.cli.daemon.socket-path"; //$NON-NLS-1$
+
+    /**
+     * 既定のソケットファイルのパス
+     *
+     * @since 0.2.0
+     */
+    public static final String DEFAULT_SOCKET_PATH = "work/kmg-tool-cli.sock"; //$NON-NLS-1$
+
+    /**
+     * キーと値の区切り文字
+     *
+     * @since 0.2.0
+     */
+    private static final char KEY_VALUE_SEPARATOR = '=';
+
+    /**
+     * 行区切り
+     *
+     * @since 0.2.0
+     */
+    private static final String LINE_SEPARATOR = "\n"; //$NON-NLS-1$
+
+    /**
+     * キー：ツール
+     *
+     * @since 0.2.0
+     */
+    private static final String KEY_TOOL = "tool"; //$NON-NLS-1$
+
+    /**
+     * キー：入力ファイルパス
+     *
+     * @since 0.2.0
+     */
+    private static final String KEY_INPUT = "input"; //$NON-NLS-1$
+
+    /**
+     * キー：テンプレートファイルパス
+     *
+     * @since 0.2.0
+     */
+    private static final String KEY_TEMPLATE = "template"; //$NON-NLS-1$
+
+    /**
+     * キー：出力ファイルパス
+     *
+     * @since 0.2.0
+     */
+    private static final String KEY_OUTPUT = "output"; //$NON-NLS-1$
+
+    /**
+     * キー：ログ
+     *
+     * @since 0.2.0
+     */
+    private static final String KEY_LOG = "log"; //$NON-NLS-1$
+
+    /**
+     * キー：実行結果
+     *
+     * @since 0.2.0
+     */
+    private static final String KEY_RESULT = "result"; //$NON-NLS-1$
+
+    /**
+     * デフォルトコンストラクタ<br>
+     * <p>
+     * ユーティリティのため、インスタンス化を禁止する。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    private DaemonProtocolUtils() {
+
+        // 処理なし
+    }
+
+    /**
+     * 要求を読み込む。
+     *
+     * @since 0.2.0
+     *
+     * @param reader
+     *               読み込み
+     *
+     * @return 要求。何も読み込まずに終端に達した場合は、null
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    public static DaemonRequestModel readRequest(final BufferedReader reader) throws IOException {
+
+        DaemonRequestModel result = null;
+
+        String  tool     = null;
+        String  input    = null;
+        String  template = null;
+        String  output   = null;
+        boolean readAny  = false;
+
+        String line;
+
+        while (((line = reader.readLine()) != null) && !line.isEmpty()) {
+
+            readAny = true;
+
+            final int separatorIndex = line.indexOf(DaemonProtocolUtils.KEY_VALUE_SEPARATOR);
+
+            if (separatorIndex < 0) {
+
+                continue;
+
+            }
+
+            final String key   = line.substring(0, separatorIndex);
+            final String value = line.substring(separatorIndex + 1);
+
+            switch (key) {
+
+                case KEY_TOOL:
+                    tool = value;
+                    break;
+
+                case KEY_INPUT:
+                    input = value;
+                    break;
+
+                case KEY_TEMPLATE:
+                    template = value;
+                    break;
+
+                case KEY_OUTPUT:
+                    output = value;
+                    break;
+
+                default:
+                    // 未知のキーは無視する
+                    break;
+
+            }
+
+        }
+
+        if (!readAny) {
+
+            return result;
+
+        }
+
+        result = new DaemonRequestModelImpl(tool, input, template, output);
+        return result;
+
+    }
+
+    /**
+     * 要求を書き込む。
+     *
+     * @since 0.2.0
+     *
+     * @param writer
+     *                書き込み
+     * @param request
+     *                要求
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    public static void writeRequest(final Writer writer, final DaemonRequestModel request) throws IOException {
+
+        DaemonProtocolUtils.writeEntry(writer, DaemonProtocolUtils.KEY_TOOL, request.getTool());
+        DaemonProtocolUtils.writeEntry(writer, DaemonProtocolUtils.KEY_INPUT, request.getInput());
+        DaemonProtocolUtils.writeEntry(writer, DaemonProtocolUtils.KEY_TEMPLATE, request.getTemplate());
+        DaemonProtocolUtils.writeEntry(writer, DaemonProtocolUtils.KEY_OUTPUT, request.getOutput());
+        writer.write(DaemonProtocolUtils.LINE_SEPARATOR);
+        writer.flush();
+
+    }
+
+    /**
+     * 応答を読み込む。
+     *
+     * @since 0.2.0
+     *
+     * @param reader
+     *               読み込み
+     *
+     * @return 応答。実行結果を読み込めなかった場合は、失敗の応答
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    public static DaemonResponseModel readResponse(final BufferedReader reader) throws IOException {
+
+        DaemonResponseModel result;
+
+        final List<String> logLines = new ArrayList<>();
+        boolean            success  = false;
+
+        String line;
+
+        while (((line = reader.readLine()) != null) && !line.isEmpty()) {
+
+            final int separatorIndex = line.indexOf(DaemonProtocolUtils.KEY_VALUE_SEPARATOR);
+
+            if (separatorIndex < 0) {
+
+                continue;
+
+            }
+
+            final String key   = line.substring(0, separatorIndex);
+            final String value = line.substring(separatorIndex + 1);
+
+            if (DaemonProtocolUtils.KEY_LOG.equals(key)) {
+
+                logLines.add(value);
+
+            } else if (DaemonProtocolUtils.KEY_RESULT.equals(key)) {
+
+                success = Boolean.parseBoolean(value);
+
+            }
+
+        }
+
+        result = new DaemonResponseModelImpl(success, logLines);
+        return result;
+
+    }
+
+    /**
+     * 応答を書き込む。
+     * <p>
+     * ログに改行が含まれる場合は、行ごとに分けて書き込む。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param writer
+     *                 書き込み
+     * @param response
+     *                 応答
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    public static void writeResponse(final Writer writer, final DaemonResponseModel response) throws IOException {
+
+        for (final String logLine : response.getLogLines()) {
+
+            for (final String line : logLine.split("\\R")) { //$NON-NLS-1$
+
+                DaemonProtocolUtils.writeEntry(writer, DaemonProtocolUtils.KEY_LOG, line);
+
+            }
+
+        }
+
+        DaemonProtocolUtils.writeEntry(writer, DaemonProtocolUtils.KEY_RESULT, String.valueOf(response.isSuccess()));
+        writer.write(DaemonProtocolUtils.LINE_SEPARATOR);
+        writer.flush();
+
+    }
+
+    /**
+     * キーと値の行を書き込む。 値がnullの場合は、書き込まない。
+     *
+     * @since 0.2.0
+     *
+     * @param writer
+     *               書き込み
+     * @param key
+     *               キー
+     * @param value
+     *               値
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    private static void writeEntry(final Writer writer, final String key, final String value) throws IOException {
+
+        if (value == null) {
+
+            return;
+
+        }
+
+        writer.write(key);
+        writer.write(DaemonProtocolUtils.KEY_VALUE_SEPARATOR);
+        writer.write(value);
+        writer.write(DaemonProtocolUtils.LINE_SEPARATOR);
+
+    }
+
+}
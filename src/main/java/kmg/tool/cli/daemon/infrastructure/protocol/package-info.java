@@ -0,0 +1,13 @@
+/**
+ * デーモンの通信規約パッケージ<br>
+ * <p>
+ * デーモンとクライアントの間で送受信する要求と応答の読み書きを行うクラスが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.daemon.infrastructure.protocol;
@@ -0,0 +1,313 @@
+package kmg.tool.cli.daemon.presentation.ui.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.MessageFormat;
+
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.daemon.domain.model.DaemonRequestModel;
+import kmg.tool.cli.daemon.domain.model.DaemonResponseModel;
+import kmg.tool.cli.daemon.domain.model.impl.DaemonRequestModelImpl;
+import kmg.tool.cli.daemon.infrastructure.protocol.DaemonProtocolUtils;
+
+/**
+ * KMGツールクライアント<br>
+ * <p>
+ * {@link KmgToolDaemon}にジョブを送り、実行結果を終了コードで返す軽量なクライアント。 起動を速くするため、Springは使用しない。
+ * </p>
+ *
+ * <pre>
+ * java kmg.tool.cli.daemon.presentation.ui.cli.KmgToolClient &lt;サブコマンド&gt; [--input=パス] [--template=パス] [--output=パス]
+ * java kmg.tool.cli.daemon.presentation.ui.cli.KmgToolClient shutdown
+ * </pre>
+ * <p>
+ * パスは、クライアントの作業ディレクトリを基準に絶対パスへ変換してから送る。 ソケットファイルのパスは、システムプロパティ「kmg.tool.cli.daemon.socket-path」で指定する。
+ * </p>
+ * <p>
+ * メッセージは、一般メッセージの種類の内容から作成する。 Springを使用しないため、メッセージソースは使用しない。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class KmgToolClient {
+
+    /**
+     * 終了コード：成功
+     *
+     * @since 0.2.0
+     */
+    public static final int EXIT_CODE_SUCCESS = 0;
+
+    /**
+     * 終了コード：ジョブの失敗または通信の失敗
+     *
+     * @since 0.2.0
+     */
+    public static final int EXIT_CODE_FAILURE = 1;
+
+    /**
+     * 終了コード：引数の誤り
+     *
+     * @since 0.2.0
+     */
+    public static final int EXIT_CODE_USAGE = 2;
+
+    /**
+     * オプション：入力ファイルパス
+     *
+     * @since 0.2.0
+     */
+    private static final String OPTION_INPUT = "--input="; //$NON-NLS-1$
+
+    /**
+     * オプション：テンプレートファイルパス
+     *
+     * @since 0.2.0
+     */
+    private static final String OPTION_TEMPLATE = "--template="; //$NON-NLS-1$
+
+    /**
+     * オプション：出力ファイルパス
+     *
+     * @since 0.2.0
+     */
+    private static final String OPTION_OUTPUT = "--output="; //$NON-NLS-1$
+
+    /**
+     * ソケットファイルのパス
+     *
+     * @since 0.2.0
+     */
+    private final Path socketPath;
+
+    /**
+     * 標準出力
+     *
+     * @since 0.2.0
+     */
+    private final PrintStream out;
+
+    /**
+     * 標準エラー出力
+     *
+     * @since 0.2.0
+     */
+    private final PrintStream err;
+
+    /**
+     * メインメソッド
+     *
+     * @since 0.2.0
+     *
+     * @param args
+     *             引数
+     */
+    public static void main(final String[] args) {
+
+        final String socketPathValue
+            = System.getProperty(DaemonProtocolUtils.SOCKET_PATH_PROPERTY, DaemonProtocolUtils.DEFAULT_SOCKET_PATH);
+
+        final KmgToolClient client = new KmgToolClient(Paths.get(socketPathValue), System.out, System.err);
+
+        /* 実行 */
+        final int exitCode = client.run(args);
+
+        System.exit(exitCode);
+
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param socketPath
+     *                   ソケットファイルのパス
+     * @param out
+     *                   標準出力
+     * @param err
+     *                   標準エラー出力
+     */
+    public KmgToolClient(final Path socketPath, final PrintStream out, final PrintStream err) {
+
+        this.socketPath = socketPath;
+        this.out = out;
+        this.err = err;
+
+    }
+
+    /**
+     * 引数からジョブの要求を作成してデーモンに送り、応答のログを出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param args
+     *             引数
+     *
+     * @return 終了コード
+     */
+    public int run(final String[] args) {
+
+        int result = KmgToolClient.EXIT_CODE_USAGE;
+
+        final DaemonRequestModel request = this.createRequest(args);
+
+        if (request == null) {
+
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN21002;
+            final Object[]              messageArgs = {};
+            this.err.println(KmgToolClient.getMessage(msgType, messageArgs));
+            return result;
+
+        }
+
+        try (final SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(this.socketPath));
+            final BufferedReader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+            final Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8)) {
+
+            DaemonProtocolUtils.writeRequest(writer, request);
+
+            final DaemonResponseModel response = DaemonProtocolUtils.readResponse(reader);
+
+            for (final String logLine : response.getLogLines()) {
+
+                this.out.println(logLine);
+
+            }
+
+            if (response.isSuccess()) {
+
+                result = KmgToolClient.EXIT_CODE_SUCCESS;
+
+            } else {
+
+                result = KmgToolClient.EXIT_CODE_FAILURE;
+
+            }
+
+        } catch (final IOException e) {
+
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN21004;
+            final Object[]              messageArgs = {
+                this.socketPath, e.getMessage(),
+            };
+            this.err.println(KmgToolClient.getMessage(msgType, messageArgs));
+            result = KmgToolClient.EXIT_CODE_FAILURE;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 引数からジョブの要求を作成する。
+     * <p>
+     * 先頭の引数をツールのキーとし、以降の引数をオプションとして解析する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param args
+     *             引数
+     *
+     * @return ジョブの要求。引数が不正な場合は、null
+     */
+    private DaemonRequestModel createRequest(final String[] args) {
+
+        DaemonRequestModel result = null;
+
+        if ((args == null) || (args.length == 0) || (args[0] == null) || args[0].isBlank()) {
+
+            return result;
+
+        }
+
+        final String tool     = args[0].trim();
+        String       input    = null;
+        String       template = null;
+        String       output   = null;
+
+        for (int i = 1; i < args.length; i++) {
+
+            final String arg = args[i];
+
+            if (arg.startsWith(KmgToolClient.OPTION_INPUT)) {
+
+                input = KmgToolClient.toAbsolutePath(arg.substring(KmgToolClient.OPTION_INPUT.length()));
+
+            } else if (arg.startsWith(KmgToolClient.OPTION_TEMPLATE)) {
+
+                template = KmgToolClient.toAbsolutePath(arg.substring(KmgToolClient.OPTION_TEMPLATE.length()));
+
+            } else if (arg.startsWith(KmgToolClient.OPTION_OUTPUT)) {
+
+                output = KmgToolClient.toAbsolutePath(arg.substring(KmgToolClient.OPTION_OUTPUT.length()));
+
+            } else {
+
+                final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN21003;
+                final Object[]              messageArgs = {
+                    arg,
+                };
+                this.err.println(KmgToolClient.getMessage(msgType, messageArgs));
+                return result;
+
+            }
+
+        }
+
+        result = new DaemonRequestModelImpl(tool, input, template, output);
+        return result;
+
+    }
+
+    /**
+     * 一般メッセージの種類の内容に引数を埋め込み、メッセージを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param msgType
+     *                    一般メッセージの種類
+     * @param messageArgs
+     *                    メッセージの引数
+     *
+     * @return メッセージ
+     */
+    private static String getMessage(final KmgToolCliGenMsgTypes msgType, final Object[] messageArgs) {
+
+        final String result = MessageFormat.format(msgType.getDetail(), messageArgs);
+        return result;
+
+    }
+
+    /**
+     * パスの文字列を、作業ディレクトリを基準とした絶対パスの文字列に変換する。
+     *
+     * @since 0.2.0
+     *
+     * @param value
+     *              パスの文字列
+     *
+     * @return 絶対パスの文字列
+     */
+    private static String toAbsolutePath(final String value) {
+
+        final String result = Paths.get(value).toAbsolutePath().normalize().toString();
+        return result;
+
+    }
+
+}
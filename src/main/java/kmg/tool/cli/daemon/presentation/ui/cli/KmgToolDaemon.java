@@ -0,0 +1,181 @@
+package kmg.tool.cli.daemon.presentation.ui.cli;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import kmg.core.domain.service.KmgPfaMeasService;
+import kmg.core.domain.service.impl.KmgPfaMeasServiceImpl;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.cmn.infrastructure.startup.KmgToolCliSpringApplication;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.cmn.presentation.ui.cli.AbstractTool;
+import kmg.tool.cli.daemon.application.service.DaemonService;
+import kmg.tool.cli.daemon.infrastructure.protocol.DaemonProtocolUtils;
+
+/**
+ * KMGツールデーモン<br>
+ * <p>
+ * Springのコンテキストを一度だけ起動して常駐し、Unixドメインソケットで受け付けたジョブを実行する。 ジョブごとにJVMとSpringを起動しないため、ツールを繰り返し実行する場合の起動時間を省ける。
+ * </p>
+ * <p>
+ * ソケットファイルのパスは「--kmg.tool.cli.daemon.socket-path=パス」で指定する。 指定しない場合は、「work/kmg-tool-cli.sock」を使用する。
+ * ジョブの送信には{@link KmgToolClient}を使用する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SpringBootApplication(scanBasePackages = {
+    "kmg"
+})
+public class KmgToolDaemon extends AbstractTool {
+
+    /**
+     * ツール名
+     *
+     * @since 0.2.0
+     */
+    private static final String TOOL_NAME = "KMGツールデーモン"; //$NON-NLS-1$
+
+    /**
+     * メッセージソース
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private KmgMessageSource messageSource;
+
+    /**
+     * デーモンサービス
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private DaemonService daemonService;
+
+    /**
+     * ソケットファイルのパス
+     *
+     * @since 0.2.0
+     */
+    @Value("${" + DaemonProtocolUtils.SOCKET_PATH_PROPERTY + ":" + DaemonProtocolUtils.DEFAULT_SOCKET_PATH + "}")
+    private String socketPath;
+
+    /**
+     * メインメソッド
+     *
+     * @since 0.2.0
+     *
+     * @param args
+     *             引数
+     */
+    public static void main(final String[] args) {
+
+        @SuppressWarnings("resource")
+        final ConfigurableApplicationContext ctx = KmgToolCliSpringApplication.run(KmgToolDaemon.class, args);
+
+        final KmgToolDaemon daemon = ctx.getBean(KmgToolDaemon.class);
+
+        /* 実行 */
+        daemon.execute();
+
+        KmgToolCliSpringApplication.close(ctx, KmgToolDaemon.class);
+
+    }
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.0
+     */
+    public KmgToolDaemon() {
+
+        // 処理なし
+    }
+
+    /**
+     * 実行する<br>
+     * <p>
+     * 停止要求を受けるまで戻らない。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：停止要求により正常に終了、false：待ち受けに失敗
+     */
+    @Override
+    public boolean execute() {
+
+        boolean result = false;
+
+        final KmgPfaMeasService measService = new KmgPfaMeasServiceImpl(KmgToolDaemon.TOOL_NAME);
+
+        /* 開始 */
+        measService.start();
+
+        try {
+
+            /* 処理 */
+            result = this.daemonService.serve(this.getSocketPath());
+
+            if (!result) {
+
+                /* メッセージの出力 */
+                final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN21001;
+                final Object[]              messageArgs = {};
+                final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+                measService.error(msg);
+
+                return result;
+
+            }
+
+            /* 成功 */
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN21000;
+            final Object[]              messageArgs = {};
+            final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+            measService.info(msg);
+
+        } finally {
+
+            /* 終了 */
+            measService.end();
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * ソケットファイルのパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return ソケットファイルのパス
+     */
+    public Path getSocketPath() {
+
+        Path result;
+
+        if ((this.socketPath == null) || this.socketPath.isBlank()) {
+
+            result = Paths.get(DaemonProtocolUtils.DEFAULT_SOCKET_PATH);
+            return result;
+
+        }
+
+        result = Paths.get(this.socketPath);
+        return result;
+
+    }
+
+}
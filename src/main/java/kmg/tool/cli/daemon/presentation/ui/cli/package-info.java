@@ -0,0 +1,13 @@
+/**
+ * デーモンのCLIパッケージ<br>
+ * <p>
+ * 常駐してジョブを受け付けるデーモンと、デーモンにジョブを送るクライアントのエントリポイントが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.daemon.presentation.ui.cli;
@@ -0,0 +1,339 @@
+package kmg.tool.cli.dtc.infrastructure.template;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 中間データ<br>
+ * <p>
+ * 中間データのファイルを1回だけ読み込み、全ての行をメモリに保持したもの。 複数のテンプレートを同じ中間データに適用する場合に、入力の読み込みと列の分割をテンプレートごとに繰り返さない。
+ * 空の行は除き、入力の先頭のBOMは除く。
+ * </p>
+ * <p>
+ * 列の位置は、実行計画の列数ごとに初回の出力時に1回だけ求めて保持する。 読み込んだ後は変更しないため、複数のスレッドから同時に出力できる。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public final class DtcIntermediateData {
+
+    /**
+     * BOM
+     *
+     * @since 0.2.0
+     */
+    private static final char BOM = '\uFEFF';
+
+    /**
+     * 行の配列
+     *
+     * @since 0.2.0
+     */
+    private final String[] rows;
+
+    /**
+     * 区切り文字
+     *
+     * @since 0.2.0
+     */
+    private final String delimiter;
+
+    /**
+     * 列数ごとの列の位置
+     *
+     * @since 0.2.0
+     */
+    private final Map<Integer, ColumnIndex> columnIndexes;
+
+    /**
+     * 列の位置<br>
+     * <p>
+     * 全ての行の列ごとの値の開始位置と終了位置を、行の番号×列数＋列の番号の位置に保持する。
+     * </p>
+     *
+     * @author KenichiroArai
+     *
+     * @since 0.2.0
+     *
+     * @version 0.2.0
+     */
+    private static final class ColumnIndex {
+
+        /**
+         * 列ごとの値の開始位置
+         *
+         * @since 0.2.0
+         */
+        private final int[] starts;
+
+        /**
+         * 列ごとの値の終了位置
+         *
+         * @since 0.2.0
+         */
+        private final int[] ends;
+
+        /**
+         * 行ごとの行にある列数
+         *
+         * @since 0.2.0
+         */
+        private final int[] foundColumns;
+
+        /**
+         * コンストラクタ<br>
+         *
+         * @since 0.2.0
+         *
+         * @param rows
+         *                    行の配列
+         * @param delimiter
+         *                    区切り文字
+         * @param columnCount
+         *                    列数。1以上
+         */
+        ColumnIndex(final String[] rows, final String delimiter, final int columnCount) {
+
+            this.starts = new int[rows.length * columnCount];
+            this.ends = new int[rows.length * columnCount];
+            this.foundColumns = new int[rows.length];
+
+            final int[] rowStarts = new int[columnCount];
+            final int[] rowEnds   = new int[columnCount];
+
+            for (int i = 0; i < rows.length; i++) {
+
+                this.foundColumns[i] = DtcIntermediateData.split(rows[i], delimiter, rowStarts, rowEnds);
+                System.arraycopy(rowStarts, 0, this.starts, i * columnCount, columnCount);
+                System.arraycopy(rowEnds, 0, this.ends, i * columnCount, columnCount);
+
+            }
+
+        }
+
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param rows
+     *                  行の配列
+     * @param delimiter
+     *                  区切り文字
+     */
+    private DtcIntermediateData(final String[] rows, final String delimiter) {
+
+        this.rows = rows;
+        this.delimiter = delimiter;
+        this.columnIndexes = new ConcurrentHashMap<>();
+
+    }
+
+    /**
+     * 中間データのファイルを読み込む。
+     *
+     * @since 0.2.0
+     *
+     * @param inputPath
+     *                  中間データのファイルパス
+     * @param delimiter
+     *                  区切り文字。nullまたは空の場合は、既定の区切り文字
+     *
+     * @return 中間データ
+     *
+     * @throws IOException
+     *                     読み込みに失敗した場合
+     */
+    public static DtcIntermediateData read(final Path inputPath, final String delimiter) throws IOException {
+
+        final List<String> rowList = new ArrayList<>();
+
+        try (final BufferedReader reader = Files.newBufferedReader(inputPath, StandardCharsets.UTF_8)) {
+
+            boolean firstLine = true;
+            String  line;
+
+            while ((line = reader.readLine()) != null) {
+
+                if (firstLine && !line.isEmpty() && (line.charAt(0) == DtcIntermediateData.BOM)) {
+
+                    line = line.substring(1);
+
+                }
+
+                firstLine = false;
+
+                if (line.isEmpty()) {
+
+                    continue;
+
+                }
+
+                rowList.add(line);
+
+            }
+
+        }
+
+        final DtcIntermediateData result = new DtcIntermediateData(rowList.toArray(new String[0]),
+            DtcIntermediateData.toEffectiveDelimiter(delimiter));
+        return result;
+
+    }
+
+    /**
+     * 区切り文字を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 区切り文字
+     */
+    public String getDelimiter() {
+
+        final String result = this.delimiter;
+        return result;
+
+    }
+
+    /**
+     * 行数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 行数
+     */
+    public int getRowCount() {
+
+        final int result = this.rows.length;
+        return result;
+
+    }
+
+    /**
+     * 行を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param index
+     *              行の番号
+     *
+     * @return 行
+     */
+    public String getRow(final int index) {
+
+        final String result = this.rows[index];
+        return result;
+
+    }
+
+    /**
+     * 指定された範囲の行に実行計画を適用して、出力に書き込む。
+     *
+     * @since 0.2.0
+     *
+     * @param plan
+     *               実行計画
+     * @param from
+     *               開始する行の番号
+     * @param to
+     *               終了する行の番号（この行を含まない）
+     * @param output
+     *               出力
+     */
+    public void render(final DtcTemplatePlan plan, final int from, final int to, final StringBuilder output) {
+
+        final int         columnCount = Math.max(plan.getColumnCount(), 1);
+        final ColumnIndex index       = this.columnIndexes.computeIfAbsent(columnCount,
+            count -> new ColumnIndex(this.rows, this.delimiter, count));
+
+        for (int i = from; i < to; i++) {
+
+            plan.render(this.rows[i], index.starts, index.ends, i * columnCount, index.foundColumns[i], output);
+
+        }
+
+    }
+
+    /**
+     * 使用する区切り文字を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param delimiter
+     *                  区切り文字
+     *
+     * @return 使用する区切り文字。nullまたは空の場合は、既定の区切り文字
+     */
+    static String toEffectiveDelimiter(final String delimiter) {
+
+        String result = delimiter;
+
+        if ((result == null) || result.isEmpty()) {
+
+            result = DtcPlanRenderer.DEFAULT_DELIMITER;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 行を区切り文字で列に分け、列ごとの値の開始位置と終了位置を設定する。 列数を超える値は、最後の列に含める。
+     *
+     * @since 0.2.0
+     *
+     * @param line
+     *                     行
+     * @param delimiter
+     *                     区切り文字
+     * @param columnStarts
+     *                     列ごとの値の開始位置
+     * @param columnEnds
+     *                     列ごとの値の終了位置
+     *
+     * @return 行にある列数
+     */
+    static int split(final String line, final String delimiter, final int[] columnStarts, final int[] columnEnds) {
+
+        int result   = 0;
+        int position = 0;
+
+        while (result < (columnStarts.length - 1)) {
+
+            final int index = line.indexOf(delimiter, position);
+
+            if (index < 0) {
+
+                break;
+
+            }
+
+            columnStarts[result] = position;
+            columnEnds[result] = index;
+            result++;
+            position = index + delimiter.length();
+
+        }
+
+        columnStarts[result] = position;
+        columnEnds[result] = line.length();
+        result++;
+        return result;
+
+    }
+
+}
@@ -0,0 +1,617 @@
+package kmg.tool.cli.dtc.infrastructure.template;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 実行計画による出力処理<br>
+ * <p>
+ * 中間データを1行ずつ読み込み、{@link DtcTemplatePlan}に従って出力バッファに書き込む。 列の位置の配列と出力バッファは行をまたいで使い回し、出力バッファが一定の大きさに達したら出力に書き出す。
+ * 行ごとに生成する文字列は、読み込んだ行だけとなる。
+ * </p>
+ * <p>
+ * 中間データは1行が1件で、列を区切り文字で区切る。 空の行は読み飛ばし、入力の先頭のBOMは除く。 テンプレートの内容を適用した結果は、件ごとに改行せずにそのまま連結する。
+ * </p>
+ * <p>
+ * 並列処理の行数のしきい値を指定した場合は、しきい値までの行を読み込んだ時点で並列処理に切り替える。 読み込んだ行をチャンクに分けてフォークジョインプールで出力し、チャンクの出力を元の行の順に連結する。
+ * 各行の出力は他の行に依存しないため、並列処理の出力は順に処理した場合とバイト単位で同じになる。 しきい値に達しない入力は、順に処理する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class DtcPlanRenderer {
+
+    /**
+     * 既定の区切り文字
+     *
+     * @since 0.2.0
+     */
+    public static final String DEFAULT_DELIMITER = "\t"; //$NON-NLS-1$
+
+    /**
+     * 既定の並列処理の行数のしきい値
+     *
+     * @since 0.2.0
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 100_000;
+
+    /**
+     * 並列処理の1チャンクの行数
+     *
+     * @since 0.2.0
+     */
+    private static final int CHUNK_ROWS = 8 * 1024;
+
+    /**
+     * 出力バッファを書き出す大きさ（文字数）
+     *
+     * @since 0.2.0
+     */
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    /**
+     * 入出力のバッファサイズ
+     *
+     * @since 0.2.0
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * BOM
+     *
+     * @since 0.2.0
+     */
+    private static final char BOM = '\uFEFF';
+
+    /**
+     * 実行計画
+     *
+     * @since 0.2.0
+     */
+    private final DtcTemplatePlan plan;
+
+    /**
+     * 区切り文字
+     *
+     * @since 0.2.0
+     */
+    private final String delimiter;
+
+    /**
+     * 列ごとの値の開始位置
+     *
+     * @since 0.2.0
+     */
+    private final int[] columnStarts;
+
+    /**
+     * 列ごとの値の終了位置
+     *
+     * @since 0.2.0
+     */
+    private final int[] columnEnds;
+
+    /**
+     * 出力バッファ
+     *
+     * @since 0.2.0
+     */
+    private final StringBuilder buffer;
+
+    /**
+     * 並列処理の行数のしきい値
+     * <p>
+     * 0以下の場合は、並列処理しない。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    private final int parallelThreshold;
+
+    /**
+     * フォークジョインプール
+     *
+     * @since 0.2.0
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * 出力した件数
+     *
+     * @since 0.2.0
+     */
+    private long rowCount;
+
+    /**
+     * 並列処理したかの状態
+     *
+     * @since 0.2.0
+     */
+    private boolean parallelUsed;
+
+    /**
+     * 既定の区切り文字で出力するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param plan
+     *             実行計画
+     */
+    public DtcPlanRenderer(final DtcTemplatePlan plan) {
+
+        this(plan, DtcPlanRenderer.DEFAULT_DELIMITER);
+
+    }
+
+    /**
+     * 区切り文字を指定して出力するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param plan
+     *                  実行計画
+     * @param delimiter
+     *                  区切り文字。nullまたは空の場合は、既定の区切り文字
+     */
+    public DtcPlanRenderer(final DtcTemplatePlan plan, final String delimiter) {
+
+        this(plan, delimiter, 0, ForkJoinPool.commonPool());
+
+    }
+
+    /**
+     * 区切り文字と並列処理の行数のしきい値を指定して出力するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param plan
+     *                          実行計画
+     * @param delimiter
+     *                          区切り文字。nullまたは空の場合は、既定の区切り文字
+     * @param parallelThreshold
+     *                          並列処理の行数のしきい値。0以下の場合は、並列処理しない
+     * @param pool
+     *                          並列処理に使用するフォークジョインプール
+     */
+    public DtcPlanRenderer(final DtcTemplatePlan plan, final String delimiter, final int parallelThreshold,
+        final ForkJoinPool pool) {
+
+        this.plan = plan;
+        this.parallelThreshold = parallelThreshold;
+        this.pool = pool;
+        this.delimiter = (delimiter == null) || delimiter.isEmpty() ? DtcPlanRenderer.DEFAULT_DELIMITER : delimiter;
+        this.columnStarts = new int[Math.max(plan.getColumnCount(), 1)];
+        this.columnEnds = new int[Math.max(plan.getColumnCount(), 1)];
+        this.buffer = new StringBuilder(DtcPlanRenderer.FLUSH_THRESHOLD * 2);
+
+    }
+
+    /**
+     * 中間データのファイルを読み込み、出力ファイルに書き込む。 出力ファイルの親ディレクトリがない場合は、作成する。
+     *
+     * @since 0.2.0
+     *
+     * @param inputPath
+     *                   中間データのファイルパス
+     * @param outputPath
+     *                   出力ファイルパス
+     *
+     * @return 出力した件数
+     *
+     * @throws IOException
+     *                     読み込み、または書き込みに失敗した場合
+     */
+    public long render(final Path inputPath, final Path outputPath) throws IOException {
+
+        final Path outputParentPath = outputPath.toAbsolutePath().getParent();
+
+        if (outputParentPath != null) {
+
+            Files.createDirectories(outputParentPath);
+
+        }
+
+        try (final Reader reader = Files.newBufferedReader(inputPath, StandardCharsets.UTF_8);
+            final Writer writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
+
+            final long result = this.render(reader, writer);
+            return result;
+
+        }
+
+    }
+
+    /**
+     * 中間データを読み込み、出力に書き込む。 入力と出力は閉じない。
+     *
+     * @since 0.2.0
+     *
+     * @param reader
+     *               中間データの入力
+     * @param writer
+     *               出力
+     *
+     * @return 出力した件数
+     *
+     * @throws IOException
+     *                     読み込み、または書き込みに失敗した場合
+     */
+    public long render(final Reader reader, final Writer writer) throws IOException {
+
+        this.rowCount = 0;
+        this.parallelUsed = false;
+        this.buffer.setLength(0);
+
+        final BufferedReader bufferedReader = reader instanceof final BufferedReader br ? br
+            : new BufferedReader(reader, DtcPlanRenderer.BUFFER_SIZE);
+        final Writer         bufferedWriter = writer instanceof BufferedWriter ? writer
+            : new BufferedWriter(writer, DtcPlanRenderer.BUFFER_SIZE);
+
+        final int          windowRows = Math.max(this.parallelThreshold,
+            DtcPlanRenderer.CHUNK_ROWS * this.pool.getParallelism());
+        final List<String> window     = new ArrayList<>();
+        boolean            firstLine  = true;
+        String             line;
+
+        while ((line = bufferedReader.readLine()) != null) {
+
+            if (firstLine && !line.isEmpty() && (line.charAt(0) == DtcPlanRenderer.BOM)) {
+
+                line = line.substring(1);
+
+            }
+
+            firstLine = false;
+
+            if (this.parallelThreshold <= 0) {
+
+                // 並列処理しない場合は、1行ずつ出力する
+                this.renderRow(line, this.columnStarts, this.columnEnds, this.buffer);
+                this.flushIfFull(bufferedWriter);
+                continue;
+
+            }
+
+            window.add(line);
+
+            if (window.size() >= windowRows) {
+
+                this.renderParallel(window, bufferedWriter);
+                window.clear();
+
+            }
+
+        }
+
+        if (this.parallelUsed || (window.size() >= this.parallelThreshold)) {
+
+            this.renderParallel(window, bufferedWriter);
+
+        } else {
+
+            for (final String row : window) {
+
+                this.renderRow(row, this.columnStarts, this.columnEnds, this.buffer);
+                this.flushIfFull(bufferedWriter);
+
+            }
+
+        }
+
+        bufferedWriter.append(this.buffer);
+        this.buffer.setLength(0);
+        bufferedWriter.flush();
+
+        final long result = this.rowCount;
+        return result;
+
+    }
+
+    /**
+     * 読み込み済みの中間データを、出力ファイルに書き込む。 出力ファイルの親ディレクトリがない場合は、作成する。
+     *
+     * @since 0.2.0
+     *
+     * @param data
+     *                   中間データ
+     * @param outputPath
+     *                   出力ファイルパス
+     *
+     * @return 出力した件数
+     *
+     * @throws IOException
+     *                     書き込みに失敗した場合
+     */
+    public long render(final DtcIntermediateData data, final Path outputPath) throws IOException {
+
+        final Path outputParentPath = outputPath.toAbsolutePath().getParent();
+
+        if (outputParentPath != null) {
+
+            Files.createDirectories(outputParentPath);
+
+        }
+
+        try (final Writer writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
+
+            final long result = this.render(data, writer);
+            return result;
+
+        }
+
+    }
+
+    /**
+     * 読み込み済みの中間データを、出力に書き込む。 出力は閉じない。
+     * <p>
+     * 行数が並列処理の行数のしきい値に達した場合は、行をチャンクに分けて並列に出力し、元の行の順に書き込む。 列の位置は中間データが保持するため、行を分割し直さない。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param data
+     *               中間データ
+     * @param writer
+     *               出力
+     *
+     * @return 出力した件数
+     *
+     * @throws IOException
+     *                     書き込みに失敗した場合
+     */
+    public long render(final DtcIntermediateData data, final Writer writer) throws IOException {
+
+        this.rowCount = 0;
+        this.parallelUsed = false;
+        this.buffer.setLength(0);
+
+        final int rows = data.getRowCount();
+
+        if ((this.parallelThreshold > 0) && (rows >= this.parallelThreshold)) {
+
+            this.parallelUsed = true;
+
+            final List<ForkJoinTask<StringBuilder>> tasks = new ArrayList<>();
+
+            for (int from = 0; from < rows; from += DtcPlanRenderer.CHUNK_ROWS) {
+
+                final int chunkFrom = from;
+                final int chunkTo   = Math.min(from + DtcPlanRenderer.CHUNK_ROWS, rows);
+                tasks.add(this.pool.submit(() -> {
+
+                    final StringBuilder chunkOutput = new StringBuilder();
+                    data.render(this.plan, chunkFrom, chunkTo, chunkOutput);
+                    return chunkOutput;
+
+                }));
+
+            }
+
+            for (int i = 0; i < tasks.size(); i++) {
+
+                writer.append(tasks.get(i).join());
+                tasks.set(i, null);
+
+            }
+
+        } else {
+
+            for (int i = 0; i < rows; i++) {
+
+                data.render(this.plan, i, i + 1, this.buffer);
+                this.flushIfFull(writer);
+
+            }
+
+            writer.append(this.buffer);
+            this.buffer.setLength(0);
+
+        }
+
+        writer.flush();
+        this.rowCount = rows;
+
+        final long result = this.rowCount;
+        return result;
+
+    }
+
+    /**
+     * 出力した件数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 出力した件数
+     */
+    public long getRowCount() {
+
+        final long result = this.rowCount;
+        return result;
+
+    }
+
+    /**
+     * 直前の出力で並列処理したかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：並列処理した、false：順に処理した
+     */
+    public boolean isParallelUsed() {
+
+        final boolean result = this.parallelUsed;
+        return result;
+
+    }
+
+    /**
+     * 読み込んだ行をチャンクに分けてフォークジョインプールで出力し、チャンクの出力を元の行の順に書き込む。
+     *
+     * @since 0.2.0
+     *
+     * @param rows
+     *               読み込んだ行のリスト
+     * @param writer
+     *               出力
+     *
+     * @throws IOException
+     *                     書き込みに失敗した場合
+     */
+    private void renderParallel(final List<String> rows, final Writer writer) throws IOException {
+
+        this.parallelUsed = true;
+
+        // 先に出力バッファに残っている出力を書き込み、順序を保つ
+        writer.append(this.buffer);
+        this.buffer.setLength(0);
+
+        final List<ForkJoinTask<StringBuilder>> tasks = new ArrayList<>();
+
+        for (int from = 0; from < rows.size(); from += DtcPlanRenderer.CHUNK_ROWS) {
+
+            final List<String> chunk = rows.subList(from, Math.min(from + DtcPlanRenderer.CHUNK_ROWS, rows.size()));
+            tasks.add(this.pool.submit(() -> this.renderChunk(chunk)));
+
+        }
+
+        for (int i = 0; i < tasks.size(); i++) {
+
+            writer.append(tasks.get(i).join());
+            tasks.set(i, null);
+
+        }
+
+        for (final String row : rows) {
+
+            if (!row.isEmpty()) {
+
+                this.rowCount++;
+
+            }
+
+        }
+
+    }
+
+    /**
+     * チャンクの行を出力する。 列の位置の配列と出力バッファは、チャンクごとに作成する。
+     *
+     * @since 0.2.0
+     *
+     * @param chunk
+     *              チャンクの行のリスト
+     *
+     * @return チャンクの出力
+     */
+    private StringBuilder renderChunk(final List<String> chunk) {
+
+        final StringBuilder result       = new StringBuilder();
+        final int[]         columnStarts = new int[this.columnStarts.length];
+        final int[]         columnEnds   = new int[this.columnEnds.length];
+
+        for (final String row : chunk) {
+
+            if (row.isEmpty()) {
+
+                continue;
+
+            }
+
+            final int foundColumns = this.split(row, columnStarts, columnEnds);
+            this.plan.render(row, columnStarts, columnEnds, foundColumns, result);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 1行を出力バッファに出力する。 空の行は読み飛ばす。
+     *
+     * @since 0.2.0
+     *
+     * @param row
+     *                     行
+     * @param columnStarts
+     *                     列ごとの値の開始位置
+     * @param columnEnds
+     *                     列ごとの値の終了位置
+     * @param output
+     *                     出力バッファ
+     */
+    private void renderRow(final String row, final int[] columnStarts, final int[] columnEnds,
+        final StringBuilder output) {
+
+        if (row.isEmpty()) {
+
+            return;
+
+        }
+
+        final int foundColumns = this.split(row, columnStarts, columnEnds);
+        this.plan.render(row, columnStarts, columnEnds, foundColumns, output);
+        this.rowCount++;
+
+    }
+
+    /**
+     * 出力バッファが一定の大きさに達していれば、出力に書き出す。
+     *
+     * @since 0.2.0
+     *
+     * @param writer
+     *               出力
+     *
+     * @throws IOException
+     *                     書き込みに失敗した場合
+     */
+    private void flushIfFull(final Writer writer) throws IOException {
+
+        if (this.buffer.length() < DtcPlanRenderer.FLUSH_THRESHOLD) {
+
+            return;
+
+        }
+
+        writer.append(this.buffer);
+        this.buffer.setLength(0);
+
+    }
+
+    /**
+     * 行を区切り文字で列に分け、列ごとの値の開始位置と終了位置を設定する。 列数を超える値は、最後の列に含める。
+     *
+     * @since 0.2.0
+     *
+     * @param line
+     *                     行
+     * @param columnStarts
+     *                     列ごとの値の開始位置
+     * @param columnEnds
+     *                     列ごとの値の終了位置
+     *
+     * @return 行にある列数
+     */
+    private int split(final String line, final int[] columnStarts, final int[] columnEnds) {
+
+        final int result = DtcIntermediateData.split(line, this.delimiter, columnStarts, columnEnds);
+        return result;
+
+    }
+
+}
@@ -0,0 +1,501 @@
+package kmg.tool.cli.dtc.infrastructure.template;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import kmg.tool.cli.cmn.infrastructure.output.SkipUnchangedWriter;
+
+/**
+ * 行ごとの出力のキャッシュ<br>
+ * <p>
+ * 中間データの行ごとに、実行計画を適用した出力を、行の内容のハッシュ値をキーとしてキャッシュディレクトリに保存する。 次回以降は、キャッシュにある行の出力を再利用し、追加または変更された行だけに実行計画を適用する。
+ * 出力ファイルは、行の順にキャッシュの出力と新たに適用した出力を連結して作成する。
+ * </p>
+ * <p>
+ * キャッシュのファイルは、実行計画と区切り文字のハッシュ値ごとに作成する。 テンプレートファイルを変更した場合は、別のキャッシュのファイルを使用するため、全ての行に実行計画を適用する。
+ * 保存する出力は、今回の中間データにある行の出力だけとし、削除された行の出力は捨てる。
+ * </p>
+ * <p>
+ * 派生プレースホルダーの変換処理は、同じ値には同じ結果を返すことを前提とする。 変換処理の名前が同じで処理の内容を変更した場合は、キャッシュディレクトリを削除すること。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class DtcRowFragmentCache {
+
+    /**
+     * キャッシュディレクトリ内の行ごとの出力のディレクトリ名
+     *
+     * @since 0.2.0
+     */
+    private static final String FRAGMENT_DIR_NAME = "dtc-fragment"; //$NON-NLS-1$
+
+    /**
+     * キャッシュのファイルの拡張子
+     *
+     * @since 0.2.0
+     */
+    private static final String ENTRY_EXTENSION = ".bin"; //$NON-NLS-1$
+
+    /**
+     * 書き込み中のキャッシュのファイルの拡張子
+     *
+     * @since 0.2.0
+     */
+    private static final String TEMP_EXTENSION = ".tmp"; //$NON-NLS-1$
+
+    /**
+     * キャッシュのファイルの識別子（「KDCF」）
+     *
+     * @since 0.2.0
+     */
+    private static final int MAGIC = 0x4B444346;
+
+    /**
+     * キャッシュのファイルの形式のバージョン
+     *
+     * @since 0.2.0
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * 入出力のバッファサイズ
+     *
+     * @since 0.2.0
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 行ごとの出力のディレクトリ
+     *
+     * @since 0.2.0
+     */
+    private final Path fragmentDir;
+
+    /**
+     * 実行計画
+     *
+     * @since 0.2.0
+     */
+    private final DtcTemplatePlan plan;
+
+    /**
+     * キャッシュの出力を再利用した行数
+     *
+     * @since 0.2.0
+     */
+    private long hitCount;
+
+    /**
+     * 出力した行数
+     *
+     * @since 0.2.0
+     */
+    private long rowCount;
+
+    /**
+     * 行のキー<br>
+     * <p>
+     * 行の内容のハッシュ値の先頭の128ビットを保持する。
+     * </p>
+     *
+     * @author KenichiroArai
+     *
+     * @since 0.2.0
+     *
+     * @version 0.2.0
+     */
+    private static final class RowKey {
+
+        /**
+         * ハッシュ値の上位64ビット
+         *
+         * @since 0.2.0
+         */
+        private final long high;
+
+        /**
+         * ハッシュ値の下位64ビット
+         *
+         * @since 0.2.0
+         */
+        private final long low;
+
+        /**
+         * コンストラクタ<br>
+         *
+         * @since 0.2.0
+         *
+         * @param high
+         *             ハッシュ値の上位64ビット
+         * @param low
+         *             ハッシュ値の下位64ビット
+         */
+        RowKey(final long high, final long low) {
+
+            this.high = high;
+            this.low = low;
+
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+
+            boolean result = false;
+
+            if (!(obj instanceof final RowKey other)) {
+
+                return result;
+
+            }
+
+            result = (this.high == other.high) && (this.low == other.low);
+            return result;
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            final int result = Long.hashCode(this.high);
+            return result;
+
+        }
+
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param cacheDir
+     *                 キャッシュディレクトリ
+     * @param plan
+     *                 実行計画
+     */
+    public DtcRowFragmentCache(final Path cacheDir, final DtcTemplatePlan plan) {
+
+        this.fragmentDir = cacheDir.resolve(DtcRowFragmentCache.FRAGMENT_DIR_NAME);
+        this.plan = plan;
+
+    }
+
+    /**
+     * 中間データに実行計画を適用して、出力ファイルに書き込む。 キャッシュにある行は実行計画を適用せずにキャッシュの出力を書き込み、書き込んだ後に今回の行の出力をキャッシュに保存する。
+     * <p>
+     * キャッシュの保存に失敗しても、例外を投げない。 全ての行でキャッシュの出力を再利用し、削除された行もない場合は、キャッシュを保存し直さない。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param data
+     *                            中間データ
+     * @param outputPath
+     *                            出力ファイルパス
+     * @param storeFailureHandler
+     *                            キャッシュの保存に失敗した場合に、例外を受け取る処理
+     *
+     * @return 出力した行数
+     *
+     * @throws IOException
+     *                     出力ファイルの書き込みに失敗した場合
+     */
+    public long render(final DtcIntermediateData data, final Path outputPath,
+        final Consumer<IOException> storeFailureHandler) throws IOException {
+
+        final byte[]              planHash  = this.computePlanHash(data.getDelimiter());
+        final Path                entryPath = this.fragmentDir
+            .resolve(HexFormat.of().formatHex(planHash) + DtcRowFragmentCache.ENTRY_EXTENSION);
+        final Map<RowKey, String> previous  = DtcRowFragmentCache.loadFragments(entryPath, planHash);
+        final Map<RowKey, String> current   = new HashMap<>();
+        final MessageDigest       digest    = SkipUnchangedWriter.createDigest();
+        final StringBuilder       fragment  = new StringBuilder();
+        long                      hits      = 0;
+        long                      misses    = 0;
+
+        try (final Writer writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
+
+            for (int i = 0; i < data.getRowCount(); i++) {
+
+                final byte[]     rowBytes = data.getRow(i).getBytes(StandardCharsets.UTF_8);
+                final ByteBuffer rowHash  = ByteBuffer.wrap(digest.digest(rowBytes));
+                final RowKey     key      = new RowKey(rowHash.getLong(), rowHash.getLong());
+                String           output   = current.get(key);
+
+                if (output == null) {
+
+                    output = previous.remove(key);
+
+                }
+
+                if (output == null) {
+
+                    fragment.setLength(0);
+                    data.render(this.plan, i, i + 1, fragment);
+                    output = fragment.toString();
+                    misses++;
+
+                } else {
+
+                    hits++;
+
+                }
+
+                current.put(key, output);
+                writer.write(output);
+
+            }
+
+        }
+
+        this.hitCount += hits;
+        this.rowCount += hits + misses;
+
+        if ((misses > 0) || !previous.isEmpty()) {
+
+            DtcRowFragmentCache.storeFragments(this.fragmentDir, entryPath, planHash, current, storeFailureHandler);
+
+        }
+
+        final long result = hits + misses;
+        return result;
+
+    }
+
+    /**
+     * キャッシュの出力を再利用した行数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return キャッシュの出力を再利用した行数
+     */
+    public long getHitCount() {
+
+        final long result = this.hitCount;
+        return result;
+
+    }
+
+    /**
+     * 出力した行数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 出力した行数
+     */
+    public long getRowCount() {
+
+        final long result = this.rowCount;
+        return result;
+
+    }
+
+    /**
+     * 実行計画と区切り文字のハッシュ値を求める。
+     *
+     * @since 0.2.0
+     *
+     * @param delimiter
+     *                  区切り文字
+     *
+     * @return ハッシュ値
+     *
+     * @throws IOException
+     *                     実行計画の書き込みに失敗した場合
+     */
+    private byte[] computePlanHash(final String delimiter) throws IOException {
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (final DataOutputStream output = new DataOutputStream(bytes)) {
+
+            DtcTemplatePlan.writeString(output, delimiter);
+            this.plan.writeTo(output);
+
+        }
+
+        final byte[] result = SkipUnchangedWriter.createDigest().digest(bytes.toByteArray());
+        return result;
+
+    }
+
+    /**
+     * キャッシュのファイルから、行ごとの出力を読み込む。
+     *
+     * @since 0.2.0
+     *
+     * @param entryPath
+     *                  キャッシュのファイルのパス
+     * @param planHash
+     *                  実行計画と区切り文字のハッシュ値
+     *
+     * @return 行のキーごとの出力。キャッシュのファイルがない場合、または壊れている場合は、空のマップ
+     */
+    private static Map<RowKey, String> loadFragments(final Path entryPath, final byte[] planHash) {
+
+        Map<RowKey, String> result = new HashMap<>();
+
+        if (!Files.isRegularFile(entryPath)) {
+
+            return result;
+
+        }
+
+        try (final DataInputStream input = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(entryPath), DtcRowFragmentCache.BUFFER_SIZE))) {
+
+            final byte[] storedPlanHash = new byte[planHash.length];
+
+            if ((input.readInt() != DtcRowFragmentCache.MAGIC)
+                || (input.readInt() != DtcRowFragmentCache.FORMAT_VERSION)) {
+
+                return result;
+
+            }
+
+            input.readFully(storedPlanHash);
+
+            if (!Arrays.equals(storedPlanHash, planHash)) {
+
+                return result;
+
+            }
+
+            final int entryCount = input.readInt();
+
+            if (entryCount < 0) {
+
+                return result;
+
+            }
+
+            result = new HashMap<>(Math.max(16, (int) (entryCount / 0.75f) + 1));
+
+            for (int i = 0; i < entryCount; i++) {
+
+                final RowKey key      = new RowKey(input.readLong(), input.readLong());
+                final String fragment = DtcTemplatePlan.readString(input);
+
+                if (fragment == null) {
+
+                    // 行ごとの出力のバイト数が不正な場合は、全ての行に実行計画を適用する
+                    result = new HashMap<>();
+                    return result;
+
+                }
+
+                result.put(key, fragment);
+
+            }
+
+        } catch (final IOException e) {
+
+            // キャッシュのファイルが壊れている場合は、全ての行に実行計画を適用する
+            result = new HashMap<>();
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 行ごとの出力を、キャッシュのファイルに保存する。 書き込み中のファイルに書き込んでから置き換える。
+     *
+     * @since 0.2.0
+     *
+     * @param fragmentDir
+     *                            行ごとの出力のディレクトリ
+     * @param entryPath
+     *                            キャッシュのファイルのパス
+     * @param planHash
+     *                            実行計画と区切り文字のハッシュ値
+     * @param fragments
+     *                            行のキーごとの出力
+     * @param storeFailureHandler
+     *                            保存に失敗した場合に、例外を受け取る処理
+     */
+    private static void storeFragments(final Path fragmentDir, final Path entryPath, final byte[] planHash,
+        final Map<RowKey, String> fragments, final Consumer<IOException> storeFailureHandler) {
+
+        Path tempPath = null;
+
+        try {
+
+            Files.createDirectories(fragmentDir);
+            tempPath = Files.createTempFile(fragmentDir, entryPath.getFileName().toString(),
+                DtcRowFragmentCache.TEMP_EXTENSION);
+
+            try (final DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempPath), DtcRowFragmentCache.BUFFER_SIZE))) {
+
+                output.writeInt(DtcRowFragmentCache.MAGIC);
+                output.writeInt(DtcRowFragmentCache.FORMAT_VERSION);
+                output.write(planHash);
+                output.writeInt(fragments.size());
+
+                for (final Map.Entry<RowKey, String> fragment : fragments.entrySet()) {
+
+                    output.writeLong(fragment.getKey().high);
+                    output.writeLong(fragment.getKey().low);
+                    DtcTemplatePlan.writeString(output, fragment.getValue());
+
+                }
+
+            }
+
+            try {
+
+                Files.move(tempPath, entryPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            } catch (final AtomicMoveNotSupportedException e) {
+
+                Files.move(tempPath, entryPath, StandardCopyOption.REPLACE_EXISTING);
+
+            }
+
+        } catch (final IOException e) {
+
+            if (tempPath != null) {
+
+                try {
+
+                    Files.deleteIfExists(tempPath);
+
+                } catch (final IOException deleteException) {
+
+                    e.addSuppressed(deleteException);
+
+                }
+
+            }
+
+            storeFailureHandler.accept(e);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,929 @@
+package kmg.tool.cli.dtc.infrastructure.template;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.yaml.snakeyaml.Yaml;
+
+import kmg.tool.cli.dtc.infrastructure.transform.DtcTransformRegistry;
+import kmg.tool.cli.dtc.infrastructure.types.DtcPlanTransformTypes;
+
+/**
+ * テンプレートの実行計画<br>
+ * <p>
+ * テンプレートファイルの「templateContent」を1回だけ解析し、リテラルの並びと、その間に書き込むプレースホルダーの並びに変換したもの。
+ * 中間プレースホルダーは中間データの列の番号に、派生プレースホルダーは変換元の列の番号と変換処理に置き換える。
+ * 行ごとにテンプレートの内容を置換せずに、リテラルと列の値を順に出力に書き込むため、プレースホルダーごとの文字列を生成しない。
+ * </p>
+ * <p>
+ * プレースホルダーは、テンプレートの内容の先頭から、最も長く一致するものを1回だけ置き換える。 置き換えた値にプレースホルダーが含まれていても、再度置き換えない。
+ * </p>
+ * <p>
+ * 派生プレースホルダーの変換処理は、{@link DtcTransformRegistry}に登録された名前で指定し、「|」区切りまたはリストで連結できる。
+ * 変換処理が1つで、列の値を出力に直接書き込める場合は、文字列を生成せずに書き込む。 それ以外は、レジストリのキャッシュ付きの変換処理で変換する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public final class DtcTemplatePlan {
+
+    /**
+     * 中間プレースホルダー定義のキー
+     *
+     * @since 0.2.0
+     */
+    private static final String KEY_INTERMEDIATE_PLACEHOLDERS = "intermediatePlaceholders"; //$NON-NLS-1$
+
+    /**
+     * 派生プレースホルダー定義のキー
+     *
+     * @since 0.2.0
+     */
+    private static final String KEY_DERIVED_PLACEHOLDERS = "derivedPlaceholders"; //$NON-NLS-1$
+
+    /**
+     * テンプレートの内容のキー
+     *
+     * @since 0.2.0
+     */
+    private static final String KEY_TEMPLATE_CONTENT = "templateContent"; //$NON-NLS-1$
+
+    /**
+     * 表示名のキー
+     *
+     * @since 0.2.0
+     */
+    private static final String KEY_DISPLAY_NAME = "displayName"; //$NON-NLS-1$
+
+    /**
+     * 置換対象のパターンのキー
+     *
+     * @since 0.2.0
+     */
+    private static final String KEY_REPLACEMENT_PATTERN = "replacementPattern"; //$NON-NLS-1$
+
+    /**
+     * 変換元となる中間プレースホルダーの表示名のキー
+     *
+     * @since 0.2.0
+     */
+    private static final String KEY_SOURCE_KEY = "sourceKey"; //$NON-NLS-1$
+
+    /**
+     * 変換処理のキー
+     *
+     * @since 0.2.0
+     */
+    private static final String KEY_TRANSFORMATION = "transformation"; //$NON-NLS-1$
+
+    /**
+     * リテラルの配列
+     * <p>
+     * プレースホルダーの数より1つ多く、i番目のプレースホルダーの前にi番目のリテラルを書き込む。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    private final String[] literals;
+
+    /**
+     * プレースホルダーごとの中間データの列の番号の配列
+     *
+     * @since 0.2.0
+     */
+    private final int[] slotColumns;
+
+    /**
+     * プレースホルダーごとの変換処理の名前の配列
+     * <p>
+     * 変換処理を連結した場合は、変換する順に並べる。 変換処理がない場合は、空の配列とする。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    private final String[][] slotChains;
+
+    /**
+     * プレースホルダーごとの出力に直接書き込む変換処理の配列
+     * <p>
+     * レジストリで変換する場合は、null とする。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    private final DtcPlanTransformTypes[] slotTransforms;
+
+    /**
+     * プレースホルダーごとのレジストリの変換処理を連結した処理のリスト
+     * <p>
+     * 実行計画の作成時にレジストリから引き当てる。 出力に直接書き込む場合は、null とする。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    private final List<UnaryOperator<String>> slotOperators;
+
+    /**
+     * 中間データの列数
+     *
+     * @since 0.2.0
+     */
+    private final int columnCount;
+
+    /**
+     * プレースホルダー<br>
+     * <p>
+     * 実行計画の作成中に、置換対象のパターンと、書き込む列の番号と変換処理を保持する。
+     * </p>
+     *
+     * @author KenichiroArai
+     *
+     * @since 0.2.0
+     *
+     * @version 0.2.0
+     */
+    private static final class Placeholder {
+
+        /**
+         * 置換対象のパターン
+         *
+         * @since 0.2.0
+         */
+        private final String pattern;
+
+        /**
+         * 中間データの列の番号
+         *
+         * @since 0.2.0
+         */
+        private final int column;
+
+        /**
+         * 変換処理の名前の配列
+         *
+         * @since 0.2.0
+         */
+        private final String[] chain;
+
+        /**
+         * コンストラクタ<br>
+         *
+         * @since 0.2.0
+         *
+         * @param pattern
+         *                置換対象のパターン
+         * @param column
+         *                中間データの列の番号
+         * @param chain
+         *                変換処理の名前の配列
+         */
+        Placeholder(final String pattern, final int column, final String[] chain) {
+
+            this.pattern = pattern;
+            this.column = column;
+            this.chain = chain;
+
+        }
+
+        /**
+         * 置換対象のパターンを返す。
+         *
+         * @since 0.2.0
+         *
+         * @return 置換対象のパターン
+         */
+        String getPattern() {
+
+            final String result = this.pattern;
+            return result;
+
+        }
+
+        /**
+         * 中間データの列の番号を返す。
+         *
+         * @since 0.2.0
+         *
+         * @return 中間データの列の番号
+         */
+        int getColumn() {
+
+            final int result = this.column;
+            return result;
+
+        }
+
+        /**
+         * 変換処理の名前の配列を返す。
+         *
+         * @since 0.2.0
+         *
+         * @return 変換処理の名前の配列
+         */
+        String[] getChain() {
+
+            final String[] result = this.chain;
+            return result;
+
+        }
+
+    }
+
+    /**
+     * テンプレートファイルを読み込み、組み込みの変換処理のレジストリで実行計画を作成する。
+     *
+     * @since 0.2.0
+     *
+     * @param templatePath
+     *                     テンプレートファイルのパス
+     *
+     * @return 実行計画。テンプレートファイルの定義が実行計画に対応していない場合は、null
+     *
+     * @throws IOException
+     *                     テンプレートファイルの読み込みに失敗した場合
+     */
+    public static DtcTemplatePlan compile(final Path templatePath) throws IOException {
+
+        final DtcTemplatePlan result = DtcTemplatePlan.compile(templatePath, new DtcTransformRegistry());
+        return result;
+
+    }
+
+    /**
+     * テンプレートファイルを読み込み、実行計画を作成する。
+     *
+     * @since 0.2.0
+     *
+     * @param templatePath
+     *                     テンプレートファイルのパス
+     * @param registry
+     *                     変換処理のレジストリ
+     *
+     * @return 実行計画。テンプレートファイルの定義が実行計画に対応していない場合は、null
+     *
+     * @throws IOException
+     *                     テンプレートファイルの読み込みに失敗した場合
+     */
+    public static DtcTemplatePlan compile(final Path templatePath, final DtcTransformRegistry registry)
+        throws IOException {
+
+        DtcTemplatePlan result = null;
+
+        final Object document;
+
+        try (final Reader reader = Files.newBufferedReader(templatePath, StandardCharsets.UTF_8)) {
+
+            document = new Yaml().load(reader);
+
+        }
+
+        if (!(document instanceof final Map<?, ?> documentMap)) {
+
+            return result;
+
+        }
+
+        result = DtcTemplatePlan.compile(documentMap, registry);
+        return result;
+
+    }
+
+    /**
+     * テンプレートファイルの内容から、組み込みの変換処理のレジストリで実行計画を作成する。
+     *
+     * @since 0.2.0
+     *
+     * @param document
+     *                 テンプレートファイルの内容
+     *
+     * @return 実行計画。テンプレートファイルの定義が実行計画に対応していない場合は、null
+     */
+    public static DtcTemplatePlan compile(final Map<?, ?> document) {
+
+        final DtcTemplatePlan result = DtcTemplatePlan.compile(document, new DtcTransformRegistry());
+        return result;
+
+    }
+
+    /**
+     * テンプレートファイルの内容から、実行計画を作成する。
+     * <p>
+     * テンプレートの内容がない場合、派生プレースホルダーの変換元が中間プレースホルダーにない場合、または変換処理がレジストリに登録されていない場合は、実行計画を作成しない。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param document
+     *                 テンプレートファイルの内容
+     * @param registry
+     *                 変換処理のレジストリ
+     *
+     * @return 実行計画。テンプレートファイルの定義が実行計画に対応していない場合は、null
+     */
+    public static DtcTemplatePlan compile(final Map<?, ?> document, final DtcTransformRegistry registry) {
+
+        DtcTemplatePlan result = null;
+
+        if (!(document.get(DtcTemplatePlan.KEY_TEMPLATE_CONTENT) instanceof final String templateContent)) {
+
+            return result;
+
+        }
+
+        /* プレースホルダーの列と変換処理への置き換え */
+        final List<Placeholder>    placeholders   = new ArrayList<>();
+        final Map<String, Integer> columnsByName  = new HashMap<>();
+        final List<Map<?, ?>>      intermediates  = DtcTemplatePlan.toDefinitions(
+            document.get(DtcTemplatePlan.KEY_INTERMEDIATE_PLACEHOLDERS));
+        final List<Map<?, ?>>      derivedHolders = DtcTemplatePlan.toDefinitions(
+            document.get(DtcTemplatePlan.KEY_DERIVED_PLACEHOLDERS));
+
+        for (int i = 0; i < intermediates.size(); i++) {
+
+            final Map<?, ?> definition = intermediates.get(i);
+            columnsByName.put(String.valueOf(definition.get(DtcTemplatePlan.KEY_DISPLAY_NAME)), i);
+            placeholders.add(new Placeholder(String.valueOf(definition.get(DtcTemplatePlan.KEY_REPLACEMENT_PATTERN)), i,
+                new String[0]));
+
+        }
+
+        for (final Map<?, ?> definition : derivedHolders) {
+
+            final Integer column = columnsByName.get(String.valueOf(definition.get(DtcTemplatePlan.KEY_SOURCE_KEY)));
+
+            if (column == null) {
+
+                return result;
+
+            }
+
+            final String[] chain = DtcTemplatePlan.toChain(definition.get(DtcTemplatePlan.KEY_TRANSFORMATION));
+
+            for (final String name : chain) {
+
+                if (!registry.contains(name)) {
+
+                    // 登録されていない変換処理
+                    return result;
+
+                }
+
+            }
+
+            placeholders.add(new Placeholder(String.valueOf(definition.get(DtcTemplatePlan.KEY_REPLACEMENT_PATTERN)),
+                column, chain));
+
+        }
+
+        // 長いパターンを優先して一致させる
+        placeholders.removeIf(placeholder -> placeholder.getPattern().isEmpty());
+        placeholders.sort(Comparator.comparingInt((final Placeholder placeholder) -> placeholder.getPattern().length())
+            .reversed());
+
+        /* テンプレートの内容の解析 */
+        final List<String>      literalList    = new ArrayList<>();
+        final List<Placeholder> slotList       = new ArrayList<>();
+        final StringBuilder     currentLiteral = new StringBuilder();
+        int                     position       = 0;
+
+        while (position < templateContent.length()) {
+
+            final Placeholder matched = DtcTemplatePlan.match(templateContent, position, placeholders);
+
+            if (matched == null) {
+
+                currentLiteral.append(templateContent.charAt(position));
+                position++;
+                continue;
+
+            }
+
+            literalList.add(currentLiteral.toString());
+            currentLiteral.setLength(0);
+            slotList.add(matched);
+            position += matched.getPattern().length();
+
+        }
+
+        literalList.add(currentLiteral.toString());
+
+        result = new DtcTemplatePlan(literalList, slotList, intermediates.size(), registry);
+        return result;
+
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param literalList
+     *                    リテラルのリスト
+     * @param slotList
+     *                    プレースホルダーのリスト
+     * @param columnCount
+     *                    中間データの列数
+     * @param registry
+     *                    変換処理のレジストリ
+     */
+    private DtcTemplatePlan(final List<String> literalList, final List<Placeholder> slotList, final int columnCount,
+        final DtcTransformRegistry registry) {
+
+        this.literals = literalList.toArray(new String[0]);
+        this.slotColumns = new int[slotList.size()];
+        this.slotChains = new String[slotList.size()][];
+        this.slotTransforms = new DtcPlanTransformTypes[slotList.size()];
+        this.slotOperators = new ArrayList<>(slotList.size());
+        this.columnCount = columnCount;
+
+        for (int i = 0; i < slotList.size(); i++) {
+
+            this.slotColumns[i] = slotList.get(i).getColumn();
+            this.slotChains[i] = slotList.get(i).getChain();
+            this.slotTransforms[i] = DtcTemplatePlan.toStreamableTransform(this.slotChains[i]);
+            this.slotOperators.add(this.slotTransforms[i] == null ? registry.toOperator(this.slotChains[i]) : null);
+
+        }
+
+    }
+
+    /**
+     * 配列から作成するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param literals
+     *                    リテラルの配列
+     * @param slotColumns
+     *                    プレースホルダーごとの中間データの列の番号の配列
+     * @param slotChains
+     *                    プレースホルダーごとの変換処理の名前の配列
+     * @param columnCount
+     *                    中間データの列数
+     * @param registry
+     *                    変換処理のレジストリ
+     */
+    private DtcTemplatePlan(final String[] literals, final int[] slotColumns, final String[][] slotChains,
+        final int columnCount, final DtcTransformRegistry registry) {
+
+        this.literals = literals;
+        this.slotColumns = slotColumns;
+        this.slotChains = slotChains;
+        this.slotTransforms = new DtcPlanTransformTypes[slotChains.length];
+        this.slotOperators = new ArrayList<>(slotChains.length);
+        this.columnCount = columnCount;
+
+        for (int i = 0; i < slotChains.length; i++) {
+
+            this.slotTransforms[i] = DtcTemplatePlan.toStreamableTransform(slotChains[i]);
+            this.slotOperators.add(this.slotTransforms[i] == null ? registry.toOperator(slotChains[i]) : null);
+
+        }
+
+    }
+
+    /**
+     * バイナリ形式で書き込まれた実行計画を読み込む。
+     *
+     * @since 0.2.0
+     *
+     * @param input
+     *                 入力
+     * @param registry
+     *                 変換処理のレジストリ
+     *
+     * @return 実行計画。内容が不正な場合、または登録されていない変換処理を含む場合は、null
+     *
+     * @throws IOException
+     *                     読み込みに失敗した場合
+     */
+    static DtcTemplatePlan readFrom(final DataInput input, final DtcTransformRegistry registry) throws IOException {
+
+        DtcTemplatePlan result = null;
+
+        final int columnCount = input.readInt();
+        final int slotCount   = input.readInt();
+
+        if ((columnCount < 0) || (slotCount < 0)) {
+
+            return result;
+
+        }
+
+        final String[]   literals    = new String[slotCount + 1];
+        final int[]      slotColumns = new int[slotCount];
+        final String[][] slotChains  = new String[slotCount][];
+
+        for (int i = 0; i < literals.length; i++) {
+
+            literals[i] = DtcTemplatePlan.readString(input);
+
+            if (literals[i] == null) {
+
+                return result;
+
+            }
+
+        }
+
+        for (int i = 0; i < slotCount; i++) {
+
+            slotColumns[i] = input.readInt();
+
+            if ((slotColumns[i] < 0) || (slotColumns[i] >= columnCount)) {
+
+                return result;
+
+            }
+
+            final int chainLength = input.readInt();
+
+            if (chainLength < 0) {
+
+                return result;
+
+            }
+
+            slotChains[i] = new String[chainLength];
+
+            for (int j = 0; j < chainLength; j++) {
+
+                slotChains[i][j] = DtcTemplatePlan.readString(input);
+
+                if ((slotChains[i][j] == null) || !registry.contains(slotChains[i][j])) {
+
+                    return result;
+
+                }
+
+            }
+
+        }
+
+        result = new DtcTemplatePlan(literals, slotColumns, slotChains, columnCount, registry);
+        return result;
+
+    }
+
+    /**
+     * 実行計画をバイナリ形式で書き込む。
+     * <p>
+     * 列数、プレースホルダーの数、リテラル、プレースホルダーごとの列の番号と変換処理の数、変換処理の名前の順に書き込む。 文字列は、UTF-8のバイト数とバイト列で書き込む。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param output
+     *               出力
+     *
+     * @throws IOException
+     *                     書き込みに失敗した場合
+     */
+    void writeTo(final DataOutput output) throws IOException {
+
+        output.writeInt(this.columnCount);
+        output.writeInt(this.slotColumns.length);
+
+        for (final String literal : this.literals) {
+
+            DtcTemplatePlan.writeString(output, literal);
+
+        }
+
+        for (int i = 0; i < this.slotColumns.length; i++) {
+
+            output.writeInt(this.slotColumns[i]);
+            output.writeInt(this.slotChains[i].length);
+
+            for (final String name : this.slotChains[i]) {
+
+                DtcTemplatePlan.writeString(output, name);
+
+            }
+
+        }
+
+    }
+
+    /**
+     * 中間データの列数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 中間データの列数
+     */
+    public int getColumnCount() {
+
+        final int result = this.columnCount;
+        return result;
+
+    }
+
+    /**
+     * プレースホルダーの数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return プレースホルダーの数
+     */
+    public int getSlotCount() {
+
+        final int result = this.slotColumns.length;
+        return result;
+
+    }
+
+    /**
+     * 中間データの1行をテンプレートに適用して、出力に書き込む。
+     * <p>
+     * 列の値は、行の文字列の範囲として受け取り、そのまま出力に書き込む。 レジストリで変換する場合だけ、列の値の文字列を生成する。 行にない列の値は、空とする。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param row
+     *                     中間データの行
+     * @param columnStarts
+     *                     列ごとの値の開始位置
+     * @param columnEnds
+     *                     列ごとの値の終了位置（この位置を含まない）
+     * @param foundColumns
+     *                     行にある列数
+     * @param output
+     *                     出力
+     */
+    public void render(final CharSequence row, final int[] columnStarts, final int[] columnEnds,
+        final int foundColumns, final StringBuilder output) {
+
+        this.render(row, columnStarts, columnEnds, 0, foundColumns, output);
+
+    }
+
+    /**
+     * 中間データの1行をテンプレートに適用して、出力に書き込む。 列の位置は、複数の行の列の位置を並べた配列の指定された位置から読み込む。
+     *
+     * @since 0.2.0
+     *
+     * @param row
+     *                     中間データの行
+     * @param columnStarts
+     *                     列ごとの値の開始位置
+     * @param columnEnds
+     *                     列ごとの値の終了位置（この位置を含まない）
+     * @param columnOffset
+     *                     行の最初の列の位置の配列上の位置
+     * @param foundColumns
+     *                     行にある列数
+     * @param output
+     *                     出力
+     */
+    public void render(final CharSequence row, final int[] columnStarts, final int[] columnEnds,
+        final int columnOffset, final int foundColumns, final StringBuilder output) {
+
+        for (int i = 0; i < this.slotColumns.length; i++) {
+
+            output.append(this.literals[i]);
+
+            final int column = this.slotColumns[i];
+
+            if (column >= foundColumns) {
+
+                continue;
+
+            }
+
+            final int start = columnStarts[columnOffset + column];
+            final int end   = columnEnds[columnOffset + column];
+
+            if (this.slotTransforms[i] != null) {
+
+                this.slotTransforms[i].append(row, start, end, output);
+                continue;
+
+            }
+
+            output.append(this.slotOperators.get(i).apply(row.subSequence(start, end).toString()));
+
+        }
+
+        output.append(this.literals[this.slotColumns.length]);
+
+    }
+
+    /**
+     * 変換処理の指定を、変換処理の名前の配列に変換する。 文字列は「|」で区切り、リストは要素ごとの名前とする。
+     *
+     * @since 0.2.0
+     *
+     * @param transformation
+     *                       テンプレートファイルの変換処理の指定
+     *
+     * @return 変換処理の名前の配列。指定がない場合は、空の配列
+     */
+    private static String[] toChain(final Object transformation) {
+
+        String[] result = new String[0];
+
+        if (transformation == null) {
+
+            return result;
+
+        }
+
+        if (!(transformation instanceof final List<?> transformationList)) {
+
+            result = DtcTransformRegistry.splitChain(transformation.toString());
+            return result;
+
+        }
+
+        final List<String> names = new ArrayList<>();
+
+        for (final Object element : transformationList) {
+
+            names.addAll(List.of(DtcTransformRegistry.splitChain(String.valueOf(element))));
+
+        }
+
+        result = names.toArray(new String[0]);
+        return result;
+
+    }
+
+    /**
+     * 出力に直接書き込める変換処理を返す。 変換処理がない場合、または組み込みの変換処理が1つで文字列を生成しない場合が対象となる。
+     *
+     * @since 0.2.0
+     *
+     * @param chain
+     *              変換処理の名前の配列
+     *
+     * @return 出力に直接書き込める変換処理。対象でない場合は、null
+     */
+    private static DtcPlanTransformTypes toStreamableTransform(final String[] chain) {
+
+        DtcPlanTransformTypes result = null;
+
+        if (chain.length == 0) {
+
+            result = DtcPlanTransformTypes.NONE;
+            return result;
+
+        }
+
+        if (chain.length > 1) {
+
+            return result;
+
+        }
+
+        final DtcPlanTransformTypes type = DtcPlanTransformTypes.getEnum(chain[0]);
+
+        if (type.get().equals(chain[0]) && type.isStreamable()) {
+
+            result = type;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 指定された位置で一致するプレースホルダーを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param templateContent
+     *                        テンプレートの内容
+     * @param position
+     *                        位置
+     * @param placeholders
+     *                        パターンの長い順のプレースホルダーのリスト
+     *
+     * @return 一致したプレースホルダー。一致しない場合は、null
+     */
+    private static Placeholder match(final String templateContent, final int position,
+        final List<Placeholder> placeholders) {
+
+        Placeholder result = null;
+
+        for (final Placeholder placeholder : placeholders) {
+
+            if (templateContent.startsWith(placeholder.getPattern(), position)) {
+
+                result = placeholder;
+                break;
+
+            }
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * UTF-8のバイト数とバイト列で書き込まれた文字列を読み込む。
+     *
+     * @since 0.2.0
+     *
+     * @param input
+     *              入力
+     *
+     * @return 文字列。バイト数が不正な場合は、null
+     *
+     * @throws IOException
+     *                     読み込みに失敗した場合
+     */
+    static String readString(final DataInput input) throws IOException {
+
+        String result = null;
+
+        final int length = input.readInt();
+
+        if (length < 0) {
+
+            return result;
+
+        }
+
+        final byte[] bytes = new byte[length];
+        input.readFully(bytes);
+
+        result = new String(bytes, StandardCharsets.UTF_8);
+        return result;
+
+    }
+
+    /**
+     * 文字列を、UTF-8のバイト数とバイト列で書き込む。
+     *
+     * @since 0.2.0
+     *
+     * @param output
+     *               出力
+     * @param value
+     *               文字列
+     *
+     * @throws IOException
+     *                     書き込みに失敗した場合
+     */
+    static void writeString(final DataOutput output, final String value) throws IOException {
+
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+
+    }
+
+    /**
+     * プレースホルダー定義のリストに変換する。 マップでない要素は除く。
+     *
+     * @since 0.2.0
+     *
+     * @param definitions
+     *                    テンプレートファイルのプレースホルダー定義
+     *
+     * @return プレースホルダー定義のリスト。定義がない場合は、空のリスト
+     */
+    private static List<Map<?, ?>> toDefinitions(final Object definitions) {
+
+        final List<Map<?, ?>> result = new ArrayList<>();
+
+        if (!(definitions instanceof final List<?> definitionList)) {
+
+            return result;
+
+        }
+
+        for (final Object definition : definitionList) {
+
+            if (definition instanceof final Map<?, ?> definitionMap) {
+
+                result.add(definitionMap);
+
+            }
+
+        }
+
+        return result;
+
+    }
+
+}
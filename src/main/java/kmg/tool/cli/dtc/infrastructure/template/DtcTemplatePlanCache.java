@@ -0,0 +1,540 @@
+package kmg.tool.cli.dtc.infrastructure.template;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.function.Consumer;
+
+import kmg.tool.cli.cmn.infrastructure.output.SkipUnchangedWriter;
+import kmg.tool.cli.dtc.infrastructure.transform.DtcTransformRegistry;
+
+/**
+ * テンプレートの実行計画のキャッシュ<br>
+ * <p>
+ * テンプレートファイルを解析した実行計画を、キャッシュディレクトリにバイナリ形式で保存する。 次回以降は、YAMLを解析せずに保存した実行計画を読み込む。
+ * </p>
+ * <p>
+ * キャッシュのファイルは、テンプレートファイルの絶対パスごとに作成し、テンプレートファイルのサイズ、更新日時、内容のハッシュ値を保持する。 サイズと更新日時が同じ場合は、そのまま使用する。
+ * 異なる場合は内容のハッシュ値を比較し、同じ場合はサイズと更新日時を更新して使用し、異なる場合はテンプレートファイルを解析し直して保存する。
+ * キャッシュのファイルが壊れている場合も、解析し直して保存する。 実行計画に対応していないテンプレートファイルも、対応していないことを保存する。
+ * 登録されている変換処理の名前も保持し、変換処理の登録が変わった場合は解析し直す。
+ * </p>
+ * <p>
+ * 実行計画で出力する中間データの入力だけで使用する。 入出力サービスで処理する場合と、Javadocタグ設定ツールの定義ファイルは、入出力サービスがYAMLを解析するため、キャッシュしない。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class DtcTemplatePlanCache {
+
+    /**
+     * 既定のキャッシュディレクトリ
+     *
+     * @since 0.2.0
+     */
+    public static final Path DEFAULT_CACHE_DIR = Paths.get("work/cache"); //$NON-NLS-1$
+
+    /**
+     * キャッシュディレクトリ内の実行計画のディレクトリ名
+     *
+     * @since 0.2.0
+     */
+    private static final String PLAN_DIR_NAME = "dtc-plan"; //$NON-NLS-1$
+
+    /**
+     * キャッシュのファイルの拡張子
+     *
+     * @since 0.2.0
+     */
+    private static final String ENTRY_EXTENSION = ".bin"; //$NON-NLS-1$
+
+    /**
+     * 書き込み中のキャッシュのファイルの拡張子
+     *
+     * @since 0.2.0
+     */
+    private static final String TEMP_EXTENSION = ".tmp"; //$NON-NLS-1$
+
+    /**
+     * キャッシュのファイルの識別子（「KDCP」）
+     *
+     * @since 0.2.0
+     */
+    private static final int MAGIC = 0x4B444350;
+
+    /**
+     * キャッシュのファイルの形式のバージョン
+     *
+     * @since 0.2.0
+     */
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * 入出力のバッファサイズ
+     *
+     * @since 0.2.0
+     */
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * 実行計画のディレクトリ
+     *
+     * @since 0.2.0
+     */
+    private final Path planDir;
+
+    /**
+     * 変換処理のレジストリ
+     *
+     * @since 0.2.0
+     */
+    private final DtcTransformRegistry registry;
+
+    /**
+     * キャッシュを使用した回数
+     *
+     * @since 0.2.0
+     */
+    private int hitCount;
+
+    /**
+     * テンプレートファイルを解析した回数
+     *
+     * @since 0.2.0
+     */
+    private int missCount;
+
+    /**
+     * キャッシュのファイルの見出し<br>
+     * <p>
+     * キャッシュのファイルの先頭に書き込む、テンプレートファイルの識別情報。
+     * </p>
+     *
+     * @author KenichiroArai
+     *
+     * @since 0.2.0
+     *
+     * @version 0.2.0
+     */
+    private static final class EntryHeader {
+
+        /**
+         * テンプレートファイルの絶対パス
+         *
+         * @since 0.2.0
+         */
+        private final String sourcePath;
+
+        /**
+         * テンプレートファイルのサイズ
+         *
+         * @since 0.2.0
+         */
+        private final long size;
+
+        /**
+         * テンプレートファイルの更新日時（ミリ秒）
+         *
+         * @since 0.2.0
+         */
+        private final long lastModified;
+
+        /**
+         * テンプレートファイルの内容のハッシュ値
+         *
+         * @since 0.2.0
+         */
+        private final byte[] contentHash;
+
+        /**
+         * 登録されている変換処理の名前を「,」で連結したもの
+         *
+         * @since 0.2.0
+         */
+        private final String transformNames;
+
+        /**
+         * コンストラクタ<br>
+         *
+         * @since 0.2.0
+         *
+         * @param sourcePath
+         *                       テンプレートファイルの絶対パス
+         * @param size
+         *                       テンプレートファイルのサイズ
+         * @param lastModified
+         *                       テンプレートファイルの更新日時（ミリ秒）
+         * @param contentHash
+         *                       テンプレートファイルの内容のハッシュ値。計算していない場合は、null
+         * @param transformNames
+         *                       登録されている変換処理の名前を「,」で連結したもの
+         */
+        EntryHeader(final String sourcePath, final long size, final long lastModified, final byte[] contentHash,
+            final String transformNames) {
+
+            this.sourcePath = sourcePath;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.contentHash = contentHash;
+            this.transformNames = transformNames;
+
+        }
+
+    }
+
+    /**
+     * 既定のキャッシュディレクトリを使用するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     */
+    public DtcTemplatePlanCache() {
+
+        this(DtcTemplatePlanCache.DEFAULT_CACHE_DIR);
+
+    }
+
+    /**
+     * キャッシュディレクトリを指定するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param cacheDir
+     *                 キャッシュディレクトリ
+     */
+    public DtcTemplatePlanCache(final Path cacheDir) {
+
+        this(cacheDir, new DtcTransformRegistry());
+
+    }
+
+    /**
+     * キャッシュディレクトリと変換処理のレジストリを指定するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param cacheDir
+     *                 キャッシュディレクトリ
+     * @param registry
+     *                 変換処理のレジストリ
+     */
+    public DtcTemplatePlanCache(final Path cacheDir, final DtcTransformRegistry registry) {
+
+        this.planDir = cacheDir.resolve(DtcTemplatePlanCache.PLAN_DIR_NAME);
+        this.registry = registry;
+
+    }
+
+    /**
+     * テンプレートファイルの実行計画を返す。
+     * <p>
+     * キャッシュが使用できない場合は、テンプレートファイルを解析してキャッシュに保存する。 キャッシュへの保存に失敗しても、解析した実行計画を返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param templatePath
+     *                            テンプレートファイルのパス
+     * @param storeFailureHandler
+     *                            キャッシュへの保存に失敗した場合に、例外を受け取る処理
+     *
+     * @return 実行計画。テンプレートファイルの定義が実行計画に対応していない場合は、null
+     *
+     * @throws IOException
+     *                     テンプレートファイルの読み込みに失敗した場合
+     */
+    public DtcTemplatePlan load(final Path templatePath, final Consumer<IOException> storeFailureHandler)
+        throws IOException {
+
+        DtcTemplatePlan result = null;
+
+        final Path        sourcePath = templatePath.toAbsolutePath().normalize();
+        final String      names      = String.join(",", this.registry.getNames()); //$NON-NLS-1$
+        final EntryHeader current    = new EntryHeader(sourcePath.toString(), Files.size(sourcePath),
+            Files.getLastModifiedTime(sourcePath).toMillis(), null, names);
+        final Path        entryPath  = this.getEntryPath(sourcePath);
+
+        /* キャッシュの読み込み */
+        EntryHeader     cached      = null;
+        DtcTemplatePlan cachedPlan  = null;
+        byte[]          contentHash = null;
+
+        try (final DataInputStream input = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(entryPath), DtcTemplatePlanCache.BUFFER_SIZE))) {
+
+            cached = DtcTemplatePlanCache.readHeader(input);
+
+            if ((cached != null) && input.readBoolean()) {
+
+                cachedPlan = DtcTemplatePlan.readFrom(input, this.registry);
+
+                if (cachedPlan == null) {
+
+                    // 実行計画の内容が不正な場合は、解析し直す
+                    cached = null;
+
+                }
+
+            }
+
+        } catch (final IOException e) {
+
+            // キャッシュがない、または壊れている場合は、解析し直す
+            cached = null;
+
+        }
+
+        if ((cached != null) && cached.sourcePath.equals(current.sourcePath)
+            && cached.transformNames.equals(current.transformNames)) {
+
+            if ((cached.size == current.size) && (cached.lastModified == current.lastModified)) {
+
+                // サイズと更新日時が同じ場合は、そのまま使用する
+                result = cachedPlan;
+                this.hitCount++;
+                return result;
+
+            }
+
+            contentHash = SkipUnchangedWriter.hash(sourcePath);
+
+            if (Arrays.equals(cached.contentHash, contentHash)) {
+
+                // 内容が同じ場合は、サイズと更新日時を更新して使用する
+                result = cachedPlan;
+                this.hitCount++;
+                this.store(entryPath, new EntryHeader(current.sourcePath, current.size, current.lastModified,
+                    contentHash, current.transformNames), result, storeFailureHandler);
+                return result;
+
+            }
+
+        }
+
+        /* テンプレートファイルの解析 */
+        if (contentHash == null) {
+
+            contentHash = SkipUnchangedWriter.hash(sourcePath);
+
+        }
+
+        result = DtcTemplatePlan.compile(sourcePath, this.registry);
+        this.missCount++;
+
+        this.store(entryPath, new EntryHeader(current.sourcePath, current.size, current.lastModified, contentHash,
+            current.transformNames), result, storeFailureHandler);
+
+        return result;
+
+    }
+
+    /**
+     * キャッシュを使用した回数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return キャッシュを使用した回数
+     */
+    public int getHitCount() {
+
+        final int result = this.hitCount;
+        return result;
+
+    }
+
+    /**
+     * テンプレートファイルを解析した回数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return テンプレートファイルを解析した回数
+     */
+    public int getMissCount() {
+
+        final int result = this.missCount;
+        return result;
+
+    }
+
+    /**
+     * テンプレートファイルのキャッシュのファイルのパスを返す。 ファイル名は、テンプレートファイルの絶対パスのハッシュ値とする。
+     *
+     * @since 0.2.0
+     *
+     * @param sourcePath
+     *                   テンプレートファイルの絶対パス
+     *
+     * @return キャッシュのファイルのパス
+     */
+    private Path getEntryPath(final Path sourcePath) {
+
+        final byte[] pathHash = SkipUnchangedWriter.createDigest()
+            .digest(sourcePath.toString().getBytes(StandardCharsets.UTF_8));
+
+        final Path result
+            = this.planDir.resolve(HexFormat.of().formatHex(pathHash) + DtcTemplatePlanCache.ENTRY_EXTENSION);
+        return result;
+
+    }
+
+    /**
+     * キャッシュのファイルに、見出しと実行計画を保存する。 書き込み中のファイルに書き込んでから置き換えるため、読み込み中に内容が変わらない。
+     *
+     * @since 0.2.0
+     *
+     * @param entryPath
+     *                            キャッシュのファイルのパス
+     * @param header
+     *                            見出し
+     * @param plan
+     *                            実行計画。対応していない場合は、null
+     * @param storeFailureHandler
+     *                            保存に失敗した場合に、例外を受け取る処理
+     */
+    private void store(final Path entryPath, final EntryHeader header, final DtcTemplatePlan plan,
+        final Consumer<IOException> storeFailureHandler) {
+
+        Path tempPath = null;
+
+        try {
+
+            Files.createDirectories(this.planDir);
+            tempPath = Files.createTempFile(this.planDir, entryPath.getFileName().toString(),
+                DtcTemplatePlanCache.TEMP_EXTENSION);
+
+            try (final DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempPath), DtcTemplatePlanCache.BUFFER_SIZE))) {
+
+                DtcTemplatePlanCache.writeHeader(output, header);
+                output.writeBoolean(plan != null);
+
+                if (plan != null) {
+
+                    plan.writeTo(output);
+
+                }
+
+            }
+
+            try {
+
+                Files.move(tempPath, entryPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            } catch (final AtomicMoveNotSupportedException e) {
+
+                Files.move(tempPath, entryPath, StandardCopyOption.REPLACE_EXISTING);
+
+            }
+
+        } catch (final IOException e) {
+
+            DtcTemplatePlanCache.deleteQuietly(tempPath);
+            storeFailureHandler.accept(e);
+
+        }
+
+    }
+
+    /**
+     * キャッシュのファイルから見出しを読み込む。
+     *
+     * @since 0.2.0
+     *
+     * @param input
+     *              入力
+     *
+     * @return 見出し。識別子か形式のバージョンが異なる場合は、null
+     *
+     * @throws IOException
+     *                     読み込みに失敗した場合
+     */
+    private static EntryHeader readHeader(final DataInputStream input) throws IOException {
+
+        EntryHeader result = null;
+
+        if ((input.readInt() != DtcTemplatePlanCache.MAGIC)
+            || (input.readInt() != DtcTemplatePlanCache.FORMAT_VERSION)) {
+
+            return result;
+
+        }
+
+        final String sourcePath   = input.readUTF();
+        final long   size         = input.readLong();
+        final long   lastModified = input.readLong();
+        final byte[] contentHash  = new byte[input.readUnsignedShort()];
+        input.readFully(contentHash);
+        final String transformNames = input.readUTF();
+
+        result = new EntryHeader(sourcePath, size, lastModified, contentHash, transformNames);
+        return result;
+
+    }
+
+    /**
+     * キャッシュのファイルに見出しを書き込む。
+     *
+     * @since 0.2.0
+     *
+     * @param output
+     *               出力
+     * @param header
+     *               見出し
+     *
+     * @throws IOException
+     *                     書き込みに失敗した場合
+     */
+    private static void writeHeader(final DataOutputStream output, final EntryHeader header) throws IOException {
+
+        output.writeInt(DtcTemplatePlanCache.MAGIC);
+        output.writeInt(DtcTemplatePlanCache.FORMAT_VERSION);
+        output.writeUTF(header.sourcePath);
+        output.writeLong(header.size);
+        output.writeLong(header.lastModified);
+        output.writeShort(header.contentHash.length);
+        output.write(header.contentHash);
+        output.writeUTF(header.transformNames);
+
+    }
+
+    /**
+     * ファイルを削除する。 削除に失敗しても、例外を投げない。
+     *
+     * @since 0.2.0
+     *
+     * @param path
+     *             ファイルのパス。nullの場合は、何もしない
+     */
+    private static void deleteQuietly(final Path path) {
+
+        if (path == null) {
+
+            return;
+
+        }
+
+        try {
+
+            Files.deleteIfExists(path);
+
+        } catch (final IOException e) {
+
+            // 削除できなかった書き込み中のファイルは、次回の保存に影響しない
+        }
+
+    }
+
+}
@@ -0,0 +1,13 @@
+/**
+ * テンプレートの動的変換のテンプレートパッケージ<br>
+ * <p>
+ * テンプレートファイルを1回だけ解析してリテラルとプレースホルダーの並びに変換した実行計画と、実行計画で中間データの各行を出力に書き込むクラスが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.dtc.infrastructure.template;
@@ -0,0 +1,501 @@
+package kmg.tool.cli.dtc.infrastructure.transform;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import kmg.tool.cli.cmn.infrastructure.exception.KmgToolCliMsgException;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.dtc.infrastructure.types.DtcPlanTransformTypes;
+
+/**
+ * 変換処理のレジストリ<br>
+ * <p>
+ * 派生プレースホルダーの「transformation」に指定できる名前付きの変換処理を保持する。 {@link DtcPlanTransformTypes}の変換処理は登録済みとし、
+ * {@link #register(String, UnaryOperator)}で変換処理を追加できる。 変換処理は、同じ値には同じ結果を返し、状態を持たないこと。
+ * </p>
+ * <p>
+ * 変換処理ごとに、上限の件数までの変換結果を最近使用した順に保持するキャッシュを持つ。 上限を超えた場合は、最も長く使用していない変換結果を捨てる。
+ * 同じ名前や型が繰り返し現れる入力では、変換処理を呼び出さずにキャッシュの変換結果を返す。 キャッシュは複数のスレッドから使用できる。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class DtcTransformRegistry {
+
+    /**
+     * 既定のキャッシュの上限の件数
+     *
+     * @since 0.2.0
+     */
+    public static final int DEFAULT_CACHE_CAPACITY = 4096;
+
+    /**
+     * 変換処理の連結の区切り文字
+     * <p>
+     * 「transformation」に「snake_case|toUpperCase」のように指定すると、左から順に変換する。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    public static final String CHAIN_SEPARATOR = "|"; //$NON-NLS-1$
+
+    /**
+     * 変換処理の名前ごとのキャッシュ付きの変換処理
+     *
+     * @since 0.2.0
+     */
+    private final Map<String, MemoizedTransform> transforms;
+
+    /**
+     * キャッシュの上限の件数
+     *
+     * @since 0.2.0
+     */
+    private final int cacheCapacity;
+
+    /**
+     * キャッシュ付きの変換処理<br>
+     * <p>
+     * 変換処理と、変換結果のキャッシュ、キャッシュの使用回数を保持する。
+     * </p>
+     *
+     * @author KenichiroArai
+     *
+     * @since 0.2.0
+     *
+     * @version 0.2.0
+     */
+    private static final class MemoizedTransform {
+
+        /**
+         * 変換処理
+         *
+         * @since 0.2.0
+         */
+        private final UnaryOperator<String> transform;
+
+        /**
+         * 変換結果のキャッシュ
+         *
+         * @since 0.2.0
+         */
+        private final Map<String, String> cache;
+
+        /**
+         * キャッシュの変換結果を返した回数
+         *
+         * @since 0.2.0
+         */
+        private long hitCount;
+
+        /**
+         * 変換処理を呼び出した回数
+         *
+         * @since 0.2.0
+         */
+        private long missCount;
+
+        /**
+         * コンストラクタ<br>
+         *
+         * @since 0.2.0
+         *
+         * @param transform
+         *                      変換処理
+         * @param cacheCapacity
+         *                      キャッシュの上限の件数
+         */
+        MemoizedTransform(final UnaryOperator<String> transform, final int cacheCapacity) {
+
+            this.transform = transform;
+            this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+
+                /**
+                 * シリアルバージョンUID
+                 *
+                 * @since 0.2.0
+                 */
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+
+                    final boolean result = this.size() > cacheCapacity;
+                    return result;
+
+                }
+
+            };
+
+        }
+
+        /**
+         * 値を変換する。 キャッシュに変換結果があれば、それを返す。
+         *
+         * @since 0.2.0
+         *
+         * @param value
+         *              値
+         *
+         * @return 変換した値
+         */
+        synchronized String apply(final String value) {
+
+            String result = this.cache.get(value);
+
+            if (result != null) {
+
+                this.hitCount++;
+                return result;
+
+            }
+
+            result = this.transform.apply(value);
+            this.cache.put(value, result);
+            this.missCount++;
+            return result;
+
+        }
+
+        /**
+         * キャッシュの変換結果を返した回数を返す。
+         *
+         * @since 0.2.0
+         *
+         * @return キャッシュの変換結果を返した回数
+         */
+        synchronized long getHitCount() {
+
+            final long result = this.hitCount;
+            return result;
+
+        }
+
+        /**
+         * 変換処理を呼び出した回数を返す。
+         *
+         * @since 0.2.0
+         *
+         * @return 変換処理を呼び出した回数
+         */
+        synchronized long getMissCount() {
+
+            final long result = this.missCount;
+            return result;
+
+        }
+
+    }
+
+    /**
+     * 既定のキャッシュの上限の件数で作成するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     */
+    public DtcTransformRegistry() {
+
+        this(DtcTransformRegistry.DEFAULT_CACHE_CAPACITY);
+
+    }
+
+    /**
+     * キャッシュの上限の件数を指定して作成するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param cacheCapacity
+     *                      キャッシュの上限の件数。0以下の場合は、既定のキャッシュの上限の件数
+     */
+    public DtcTransformRegistry(final int cacheCapacity) {
+
+        this.cacheCapacity = cacheCapacity > 0 ? cacheCapacity : DtcTransformRegistry.DEFAULT_CACHE_CAPACITY;
+        this.transforms = new TreeMap<>();
+
+        for (final DtcPlanTransformTypes type : DtcPlanTransformTypes.values()) {
+
+            if (type == DtcPlanTransformTypes.NONE) {
+
+                continue;
+
+            }
+
+            this.transforms.put(type.get(), new MemoizedTransform(type::apply, this.cacheCapacity));
+
+        }
+
+    }
+
+    /**
+     * 変換処理を登録する。
+     *
+     * @since 0.2.0
+     *
+     * @param name
+     *                  変換処理の名前
+     * @param transform
+     *                  変換処理。同じ値には同じ結果を返し、状態を持たないこと
+     *
+     * @throws KmgToolCliMsgException
+     *                                 名前が空、区切り文字を含む、または既に登録されている場合
+     */
+    public synchronized void register(final String name, final UnaryOperator<String> transform)
+        throws KmgToolCliMsgException {
+
+        if (name.isEmpty() || name.contains(DtcTransformRegistry.CHAIN_SEPARATOR)
+            || DtcPlanTransformTypes.NONE.get().equals(name) || this.transforms.containsKey(name)) {
+
+            final KmgToolCliGenMsgTypes genMsgTypes = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN30007;
+            final Object[]              genMsgArgs  = {
+                name,
+            };
+            throw new KmgToolCliMsgException(genMsgTypes, genMsgArgs);
+
+        }
+
+        this.transforms.put(name, new MemoizedTransform(transform, this.cacheCapacity));
+
+    }
+
+    /**
+     * 変換処理が登録されているかを返す。 指定無し（{@link DtcPlanTransformTypes#NONE}）は、登録されているものとする。
+     *
+     * @since 0.2.0
+     *
+     * @param name
+     *             変換処理の名前
+     *
+     * @return true：登録されている、false：登録されていない
+     */
+    public synchronized boolean contains(final String name) {
+
+        final boolean result = DtcPlanTransformTypes.NONE.get().equals(name) || this.transforms.containsKey(name);
+        return result;
+
+    }
+
+    /**
+     * 登録されている変換処理の名前を、名前の順に返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 変換処理の名前のリスト
+     */
+    public synchronized List<String> getNames() {
+
+        final List<String> result = new ArrayList<>(this.transforms.keySet());
+        return result;
+
+    }
+
+    /**
+     * 値を変換する。 キャッシュに変換結果があれば、変換処理を呼び出さずに返す。
+     *
+     * @since 0.2.0
+     *
+     * @param name
+     *              変換処理の名前
+     * @param value
+     *              値
+     *
+     * @return 変換した値。指定無しの場合は、そのままの値
+     *
+     * @throws KmgToolCliMsgException
+     *                                 変換処理が登録されていない場合
+     */
+    public String apply(final String name, final String value) throws KmgToolCliMsgException {
+
+        String result = value;
+
+        if (DtcPlanTransformTypes.NONE.get().equals(name)) {
+
+            return result;
+
+        }
+
+        final MemoizedTransform transform = this.getTransform(name);
+
+        if (transform == null) {
+
+            final KmgToolCliGenMsgTypes genMsgTypes = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN30008;
+            final Object[]              genMsgArgs  = {
+                name,
+            };
+            throw new KmgToolCliMsgException(genMsgTypes, genMsgArgs);
+
+        }
+
+        result = transform.apply(value);
+        return result;
+
+    }
+
+    /**
+     * 変換処理を連結した処理を返す。 返した処理は、キャッシュを使用して左から順に変換する。
+     * <p>
+     * 実行計画の作成時に変換処理を引き当てておき、行ごとに名前で変換処理を探さないために使用する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param chain
+     *              変換する順に並べた変換処理の名前の配列
+     *
+     * @return 変換処理を連結した処理。登録されていない変換処理を含む場合は、null
+     */
+    public UnaryOperator<String> toOperator(final String[] chain) {
+
+        UnaryOperator<String> result = null;
+
+        final List<MemoizedTransform> chainTransforms = new ArrayList<>(chain.length);
+
+        for (final String name : chain) {
+
+            if (DtcPlanTransformTypes.NONE.get().equals(name)) {
+
+                continue;
+
+            }
+
+            final MemoizedTransform transform = this.getTransform(name);
+
+            if (transform == null) {
+
+                return result;
+
+            }
+
+            chainTransforms.add(transform);
+
+        }
+
+        result = value -> {
+
+            String converted = value;
+
+            for (final MemoizedTransform transform : chainTransforms) {
+
+                converted = transform.apply(converted);
+
+            }
+
+            return converted;
+
+        };
+        return result;
+
+    }
+
+    /**
+     * 変換処理のキャッシュの変換結果を返した回数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param name
+     *             変換処理の名前
+     *
+     * @return キャッシュの変換結果を返した回数。変換処理が登録されていない場合は、0
+     */
+    public long getHitCount(final String name) {
+
+        long result = 0;
+
+        final MemoizedTransform transform = this.getTransform(name);
+
+        if (transform == null) {
+
+            return result;
+
+        }
+
+        result = transform.getHitCount();
+        return result;
+
+    }
+
+    /**
+     * 変換処理を呼び出した回数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param name
+     *             変換処理の名前
+     *
+     * @return 変換処理を呼び出した回数。変換処理が登録されていない場合は、0
+     */
+    public long getMissCount(final String name) {
+
+        long result = 0;
+
+        final MemoizedTransform transform = this.getTransform(name);
+
+        if (transform == null) {
+
+            return result;
+
+        }
+
+        result = transform.getMissCount();
+        return result;
+
+    }
+
+    /**
+     * 変換処理を連結した指定を、変換処理の名前の配列に分ける。 前後の空白は除き、空の名前と指定無しは除く。
+     *
+     * @since 0.2.0
+     *
+     * @param chain
+     *              変換処理を連結した指定
+     *
+     * @return 変換処理の名前の配列
+     */
+    public static String[] splitChain(final String chain) {
+
+        final List<String> names = new ArrayList<>();
+
+        for (final String name : chain.split(Pattern.quote(DtcTransformRegistry.CHAIN_SEPARATOR))) {
+
+            final String trimmed = name.strip();
+
+            if (trimmed.isEmpty() || DtcPlanTransformTypes.NONE.get().equals(trimmed)) {
+
+                continue;
+
+            }
+
+            names.add(trimmed);
+
+        }
+
+        final String[] result = names.toArray(new String[0]);
+        return result;
+
+    }
+
+    /**
+     * キャッシュ付きの変換処理を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param name
+     *             変換処理の名前
+     *
+     * @return キャッシュ付きの変換処理。登録されていない場合は、null
+     */
+    private synchronized MemoizedTransform getTransform(final String name) {
+
+        final MemoizedTransform result = this.transforms.get(name);
+        return result;
+
+    }
+
+}
@@ -0,0 +1,383 @@
+package kmg.tool.cli.dtc.infrastructure.transform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 単語の区切りによる変換<br>
+ * <p>
+ * 値を単語に分け、スネークケース、大文字のスネークケース、キャメルケースに変換する。 単語の区切りは、「_」「-」「.」と空白、小文字または数字から大文字への変わり目、
+ * 及び大文字が続いた後の小文字の前（例：「HTTPServer」→「HTTP」「Server」）とする。 大文字と小文字の区別がない文字は、区切りとしない。
+ * </p>
+ * <p>
+ * 英単語の複数形への変換も提供する。 英字で終わらない値は、変換しない。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public final class DtcWordCases {
+
+    /**
+     * スネークケースの区切り文字
+     *
+     * @since 0.2.0
+     */
+    private static final char SNAKE_SEPARATOR = '_';
+
+    /**
+     * 母音
+     *
+     * @since 0.2.0
+     */
+    private static final String VOWELS = "aeiou"; //$NON-NLS-1$
+
+    /**
+     * 複数形で「es」を付ける語尾
+     *
+     * @since 0.2.0
+     */
+    private static final String[] ES_ENDINGS = {
+        "s", "x", "z", "ch", "sh", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+    };
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.0
+     */
+    private DtcWordCases() {
+
+        // 処理なし
+    }
+
+    /**
+     * スネークケースに変換する。
+     *
+     * @since 0.2.0
+     *
+     * @param source
+     *               値
+     *
+     * @return スネークケースの値
+     */
+    public static String toSnakeCase(final String source) {
+
+        final String result = DtcWordCases.joinWords(source, false);
+        return result;
+
+    }
+
+    /**
+     * 大文字のスネークケースに変換する。
+     *
+     * @since 0.2.0
+     *
+     * @param source
+     *               値
+     *
+     * @return 大文字のスネークケースの値
+     */
+    public static String toUpperSnakeCase(final String source) {
+
+        final String result = DtcWordCases.joinWords(source, true);
+        return result;
+
+    }
+
+    /**
+     * キャメルケースに変換する。 最初の単語を小文字にし、以降の単語は先頭を大文字、残りを小文字にして連結する。
+     *
+     * @since 0.2.0
+     *
+     * @param source
+     *               値
+     *
+     * @return キャメルケースの値
+     */
+    public static String toCamelCase(final String source) {
+
+        final StringBuilder result = new StringBuilder(source.length());
+
+        for (final String word : DtcWordCases.splitWords(source)) {
+
+            final String lowerWord = word.toLowerCase(Locale.ROOT);
+
+            if (result.isEmpty()) {
+
+                result.append(lowerWord);
+                continue;
+
+            }
+
+            result.append(Character.toUpperCase(lowerWord.charAt(0)));
+            result.append(lowerWord, 1, lowerWord.length());
+
+        }
+
+        return result.toString();
+
+    }
+
+    /**
+     * 英単語の複数形に変換する。
+     * <p>
+     * 「s」「x」「z」「ch」「sh」で終わる場合は「es」を、子音と「y」で終わる場合は「y」を「ies」に、それ以外は「s」を付ける。 最後の文字が大文字の場合は、付ける文字も大文字にする。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param source
+     *               値
+     *
+     * @return 複数形の値。英字で終わらない場合は、そのままの値
+     */
+    public static String toPlural(final String source) {
+
+        String result = source;
+
+        if (source.isEmpty()) {
+
+            return result;
+
+        }
+
+        final char last = source.charAt(source.length() - 1);
+
+        if (!DtcWordCases.isAsciiLetter(last)) {
+
+            return result;
+
+        }
+
+        final boolean upper = Character.isUpperCase(last);
+        final String  lower = source.toLowerCase(Locale.ROOT);
+        final String  suffix;
+        String        stem  = source;
+
+        if (DtcWordCases.endsWithAny(lower, DtcWordCases.ES_ENDINGS)) {
+
+            suffix = "es"; //$NON-NLS-1$
+
+        } else if (lower.endsWith("y") && (lower.length() > 1) //$NON-NLS-1$
+            && (DtcWordCases.VOWELS.indexOf(lower.charAt(lower.length() - 2)) < 0)) {
+
+            stem = source.substring(0, source.length() - 1);
+            suffix = "ies"; //$NON-NLS-1$
+
+        } else {
+
+            suffix = "s"; //$NON-NLS-1$
+
+        }
+
+        result = stem + (upper ? suffix.toUpperCase(Locale.ROOT) : suffix);
+        return result;
+
+    }
+
+    /**
+     * 値を単語に分ける。
+     *
+     * @since 0.2.0
+     *
+     * @param source
+     *               値
+     *
+     * @return 単語のリスト
+     */
+    public static List<String> splitWords(final String source) {
+
+        final List<String>  result = new ArrayList<>();
+        final StringBuilder word   = new StringBuilder();
+
+        for (int i = 0; i < source.length(); i++) {
+
+            final char c = source.charAt(i);
+
+            if (DtcWordCases.isSeparator(c)) {
+
+                DtcWordCases.flushWord(word, result);
+                continue;
+
+            }
+
+            if (!word.isEmpty() && DtcWordCases.isBoundary(source, i)) {
+
+                DtcWordCases.flushWord(word, result);
+
+            }
+
+            word.append(c);
+
+        }
+
+        DtcWordCases.flushWord(word, result);
+        return result;
+
+    }
+
+    /**
+     * 単語を大文字または小文字にして、「_」で連結する。
+     *
+     * @since 0.2.0
+     *
+     * @param source
+     *               値
+     * @param upper
+     *               true：大文字、false：小文字
+     *
+     * @return 連結した値
+     */
+    private static String joinWords(final String source, final boolean upper) {
+
+        final StringBuilder result = new StringBuilder(source.length() + 8);
+
+        for (final String word : DtcWordCases.splitWords(source)) {
+
+            if (!result.isEmpty()) {
+
+                result.append(DtcWordCases.SNAKE_SEPARATOR);
+
+            }
+
+            result.append(upper ? word.toUpperCase(Locale.ROOT) : word.toLowerCase(Locale.ROOT));
+
+        }
+
+        return result.toString();
+
+    }
+
+    /**
+     * 指定された位置の文字の前が、単語の区切りかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param source
+     *               値
+     * @param index
+     *               位置。1以上
+     *
+     * @return true：区切り、false：区切りでない
+     */
+    private static boolean isBoundary(final String source, final int index) {
+
+        boolean result = false;
+
+        final char previous = source.charAt(index - 1);
+        final char current  = source.charAt(index);
+
+        if (!Character.isUpperCase(current)) {
+
+            return result;
+
+        }
+
+        if (Character.isLowerCase(previous) || Character.isDigit(previous)) {
+
+            result = true;
+            return result;
+
+        }
+
+        // 大文字が続いた後の小文字の前で区切る
+        result = Character.isUpperCase(previous) && ((index + 1) < source.length())
+            && Character.isLowerCase(source.charAt(index + 1));
+        return result;
+
+    }
+
+    /**
+     * 単語の区切り文字かを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param c
+     *          文字
+     *
+     * @return true：区切り文字、false：区切り文字でない
+     */
+    private static boolean isSeparator(final char c) {
+
+        final boolean result = (c == '_') || (c == '-') || (c == '.') || Character.isWhitespace(c);
+        return result;
+
+    }
+
+    /**
+     * ASCIIの英字かを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param c
+     *          文字
+     *
+     * @return true：ASCIIの英字、false：それ以外
+     */
+    private static boolean isAsciiLetter(final char c) {
+
+        final boolean result = ((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z'));
+        return result;
+
+    }
+
+    /**
+     * 値が、いずれかの語尾で終わるかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param value
+     *                値
+     * @param endings
+     *                語尾の配列
+     *
+     * @return true：いずれかの語尾で終わる、false：いずれの語尾でも終わらない
+     */
+    private static boolean endsWithAny(final String value, final String[] endings) {
+
+        boolean result = false;
+
+        for (final String ending : endings) {
+
+            if (value.endsWith(ending)) {
+
+                result = true;
+                break;
+
+            }
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 単語を単語のリストに追加し、単語のバッファを空にする。 空の単語は追加しない。
+     *
+     * @since 0.2.0
+     *
+     * @param word
+     *              単語のバッファ
+     * @param words
+     *              単語のリスト
+     */
+    private static void flushWord(final StringBuilder word, final List<String> words) {
+
+        if (word.isEmpty()) {
+
+            return;
+
+        }
+
+        words.add(word.toString());
+        word.setLength(0);
+
+    }
+
+}
@@ -0,0 +1,13 @@
+/**
+ * テンプレートの動的変換の変換処理パッケージ<br>
+ * <p>
+ * 派生プレースホルダーの名前付きの変換処理を登録し、変換処理ごとに変換結果をキャッシュするレジストリと、単語の区切りを判定して変換するクラスが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.dtc.infrastructure.transform;
@@ -0,0 +1,467 @@
+package kmg.tool.cli.dtc.infrastructure.types;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import kmg.tool.cli.dtc.infrastructure.transform.DtcWordCases;
+
+/**
+ * テンプレートの実行計画の変換処理の種類<br>
+ * <p>
+ * 派生プレースホルダーの「transformation」に指定する変換処理と、変換した値を出力に直接書き込む処理を定義する。
+ * 文字ごとに変換できる変換処理は、変換した値の文字列を作らずに出力に書き込むため、行ごとの変換で文字列を生成しない。
+ * </p>
+ * <p>
+ * 単語の区切りを判定する変換処理は、値の文字列を変換した文字列を返す。 いずれの変換処理も、同じ値には同じ結果を返し、状態を持たない。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings("nls")
+public enum DtcPlanTransformTypes {
+
+    /* 定義：開始 */
+
+    /**
+     * 指定無し
+     * <p>
+     * 変換せずにそのまま書き込む。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    NONE("指定無し", "none"),
+
+    /**
+     * 先頭大文字
+     *
+     * @since 0.2.0
+     */
+    CAPITALIZE("先頭大文字", "capitalize"),
+
+    /**
+     * 先頭小文字
+     *
+     * @since 0.2.0
+     */
+    UNCAPITALIZE("先頭小文字", "uncapitalize"),
+
+    /**
+     * 大文字
+     *
+     * @since 0.2.0
+     */
+    TO_UPPER_CASE("大文字", "toUpperCase"),
+
+    /**
+     * 小文字
+     *
+     * @since 0.2.0
+     */
+    TO_LOWER_CASE("小文字", "toLowerCase"),
+
+    /**
+     * スネークケース
+     * <p>
+     * 例：「userName」→「user_name」
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    SNAKE_CASE("スネークケース", "snake_case"),
+
+    /**
+     * 大文字のスネークケース
+     * <p>
+     * 例：「userName」→「USER_NAME」
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    UPPER_SNAKE("大文字のスネークケース", "UPPER_SNAKE"),
+
+    /**
+     * キャメルケース
+     * <p>
+     * 例：「user_name」→「userName」
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    CAMEL_CASE("キャメルケース", "camelCase"),
+
+    /**
+     * 複数形
+     * <p>
+     * 例：「category」→「categories」
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    PLURAL("複数形", "plural"),
+
+    /* 定義：終了 */
+    ;
+
+    /**
+     * 種類のマップ
+     *
+     * @since 0.2.0
+     */
+    private static final Map<String, DtcPlanTransformTypes> VALUES_MAP = new HashMap<>();
+
+    static {
+
+        /* 種類のマップにプット */
+        for (final DtcPlanTransformTypes type : DtcPlanTransformTypes.values()) {
+
+            DtcPlanTransformTypes.VALUES_MAP.put(type.get(), type);
+
+        }
+
+    }
+
+    /**
+     * 表示名
+     *
+     * @since 0.2.0
+     */
+    private final String displayName;
+
+    /**
+     * キー（テンプレートファイルの変換処理）
+     *
+     * @since 0.2.0
+     */
+    private final String key;
+
+    /**
+     * 値
+     *
+     * @since 0.2.0
+     */
+    private final String value;
+
+    /**
+     * 詳細情報
+     *
+     * @since 0.2.0
+     */
+    private final String detail;
+
+    /**
+     * デフォルトの種類を返す<br>
+     *
+     * @since 0.2.0
+     *
+     * @return デフォルト値
+     */
+    public static DtcPlanTransformTypes getDefault() {
+
+        final DtcPlanTransformTypes result = NONE;
+        return result;
+
+    }
+
+    /**
+     * キーに該当する種類を返す<br>
+     * <p>
+     * 但し、キーが存在しない場合は、指定無し（NONE）を返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param key
+     *            キー（テンプレートファイルの変換処理）
+     *
+     * @return 種類。指定無し（NONE）：キーが存在しない場合。
+     */
+    public static DtcPlanTransformTypes getEnum(final String key) {
+
+        DtcPlanTransformTypes result = DtcPlanTransformTypes.VALUES_MAP.get(key);
+
+        if (result == null) {
+
+            result = NONE;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 初期値の種類を返す<br>
+     *
+     * @since 0.2.0
+     *
+     * @return 初期値
+     */
+    public static DtcPlanTransformTypes getInitValue() {
+
+        final DtcPlanTransformTypes result = NONE;
+        return result;
+
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param displayName
+     *                    表示名
+     * @param key
+     *                    キー（テンプレートファイルの変換処理）
+     */
+    DtcPlanTransformTypes(final String displayName, final String key) {
+
+        this.displayName = displayName;
+        this.key = key;
+        this.value = key;
+        this.detail = displayName;
+
+    }
+
+    /**
+     * 変換した値の文字列を作らずに、出力に書き込めるかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：文字ごとに変換して書き込める、false：値の文字列を変換する必要がある
+     */
+    public boolean isStreamable() {
+
+        boolean result;
+
+        switch (this) {
+
+            case NONE:
+            case CAPITALIZE:
+            case UNCAPITALIZE:
+            case TO_UPPER_CASE:
+            case TO_LOWER_CASE:
+                result = true;
+                break;
+
+            default:
+                result = false;
+                break;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 値を変換する。
+     *
+     * @since 0.2.0
+     *
+     * @param source
+     *               値
+     *
+     * @return 変換した値
+     */
+    public String apply(final String source) {
+
+        String result;
+
+        switch (this) {
+
+            case SNAKE_CASE:
+                result = DtcWordCases.toSnakeCase(source);
+                break;
+
+            case UPPER_SNAKE:
+                result = DtcWordCases.toUpperSnakeCase(source);
+                break;
+
+            case CAMEL_CASE:
+                result = DtcWordCases.toCamelCase(source);
+                break;
+
+            case PLURAL:
+                result = DtcWordCases.toPlural(source);
+                break;
+
+            default:
+                final StringBuilder output = new StringBuilder(source.length());
+                this.append(source, 0, source.length(), output);
+                result = output.toString();
+                break;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 値の範囲を変換して、出力に書き込む。
+     * <p>
+     * 文字ごとに変換できない変換処理は、値の範囲の文字列を変換して書き込む。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param source
+     *               値を含む文字列
+     * @param start
+     *               値の開始位置
+     * @param end
+     *               値の終了位置（この位置を含まない）
+     * @param output
+     *               出力
+     */
+    public void append(final CharSequence source, final int start, final int end, final StringBuilder output) {
+
+        switch (this) {
+
+            case CAPITALIZE:
+                if (start < end) {
+
+                    output.append(Character.toUpperCase(source.charAt(start)));
+                    output.append(source, start + 1, end);
+
+                }
+                break;
+
+            case UNCAPITALIZE:
+                if (start < end) {
+
+                    output.append(Character.toLowerCase(source.charAt(start)));
+                    output.append(source, start + 1, end);
+
+                }
+                break;
+
+            case TO_UPPER_CASE:
+                for (int i = start; i < end; i++) {
+
+                    output.append(Character.toUpperCase(source.charAt(i)));
+
+                }
+                break;
+
+            case TO_LOWER_CASE:
+                for (int i = start; i < end; i++) {
+
+                    output.append(Character.toLowerCase(source.charAt(i)));
+
+                }
+                break;
+
+            case SNAKE_CASE:
+            case UPPER_SNAKE:
+            case CAMEL_CASE:
+            case PLURAL:
+                output.append(this.apply(source.subSequence(start, end).toString()));
+                break;
+
+            default:
+                output.append(source, start, end);
+                break;
+
+        }
+
+    }
+
+    /**
+     * キー（テンプレートファイルの変換処理）を返す。<br>
+     *
+     * @since 0.2.0
+     *
+     * @return キー（テンプレートファイルの変換処理）
+     *
+     * @see #getKey()
+     */
+    public String get() {
+
+        final String result = this.getKey();
+        return result;
+
+    }
+
+    /**
+     * 詳細情報を返す。<br>
+     *
+     * @since 0.2.0
+     *
+     * @return 詳細情報
+     */
+    public String getDetail() {
+
+        final String result = this.detail;
+        return result;
+
+    }
+
+    /**
+     * 表示名を返す。<br>
+     * <p>
+     * 識別するための表示名を返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return 表示名
+     */
+    public String getDisplayName() {
+
+        final String result = this.displayName;
+        return result;
+
+    }
+
+    /**
+     * キー（テンプレートファイルの変換処理）を返す。<br>
+     *
+     * @since 0.2.0
+     *
+     * @return キー（テンプレートファイルの変換処理）
+     */
+    public String getKey() {
+
+        final String result = this.key;
+        return result;
+
+    }
+
+    /**
+     * 値を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 値
+     */
+    public String getValue() {
+
+        final String result = this.value;
+        return result;
+
+    }
+
+    /**
+     * キー（テンプレートファイルの変換処理）を返す。<br>
+     *
+     * @since 0.2.0
+     *
+     * @return キー（テンプレートファイルの変換処理）
+     *
+     * @see #getKey()
+     */
+    @Override
+    public String toString() {
+
+        final String result = this.getKey();
+        return result;
+
+    }
+
+}
@@ -0,0 +1,13 @@
+/**
+ * テンプレートの動的変換の型定義パッケージ<br>
+ * <p>
+ * テンプレートの実行計画で使用される変換処理の種類などの列挙型が定義されています。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.dtc.infrastructure.types;
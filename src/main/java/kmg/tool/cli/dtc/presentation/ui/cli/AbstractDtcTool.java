@@ -1,6 +1,33 @@
 package kmg.tool.cli.dtc.presentation.ui.cli;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.iito.domain.service.IitoProcessorService;
+import kmg.tool.base.io.domain.service.IoService;
+import kmg.tool.cli.cmn.infrastructure.exception.KmgToolCliMsgException;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliLogMsgTypes;
+import kmg.tool.cli.dtc.infrastructure.template.DtcIntermediateData;
+import kmg.tool.cli.dtc.infrastructure.template.DtcPlanRenderer;
+import kmg.tool.cli.dtc.infrastructure.template.DtcRowFragmentCache;
+import kmg.tool.cli.dtc.infrastructure.template.DtcTemplatePlan;
+import kmg.tool.cli.dtc.infrastructure.template.DtcTemplatePlanCache;
+import kmg.tool.cli.dtc.infrastructure.transform.DtcTransformRegistry;
 import kmg.tool.cli.two2one.presentation.ui.cli.AbstractTwo2OneTool;
 
 /**
@@ -8,15 +35,125 @@ import kmg.tool.cli.two2one.presentation.ui.cli.AbstractTwo2OneTool;
  * <p>
  * 「Dtc」→「DynamicTemplateConversion」の略。
  * </p>
+ * <p>
+ * 入力ファイルが中間データの場合は、テンプレートファイルを1回だけ解析した実行計画で出力する。 中間データは1行が1件で、列を区切り文字で区切り、列の順序はテンプレートファイルの中間プレースホルダー定義の順序とする。
+ * テンプレートファイルの定義が実行計画に対応していない場合は、入出力サービスで処理する。
+ * </p>
+ * <p>
+ * 実行計画はキャッシュディレクトリにバイナリ形式で保存し、テンプレートファイルが変更されるまでは、YAMLを解析せずに読み込む。
+ * 中間データの行数が並列処理のしきい値に達した場合は、行をチャンクに分けて並列に出力し、元の行の順に連結する。
+ * </p>
+ * <p>
+ * 派生プレースホルダーの変換処理は、変換処理のレジストリで変換結果をキャッシュする。 {@link #registerTransforms(DtcTransformRegistry)}で変換処理を追加でき、
+ * 実行の終了時に変換処理ごとのキャッシュの使用状況をログに出力する。
+ * </p>
+ * <p>
+ * 追加のテンプレートを指定した場合は、中間データを1回だけ読み込んで列に分け、全てのテンプレートの実行計画を並列に適用する。
+ * 実行計画に対応していない追加のテンプレートは、続けて入出力サービスで処理する。
+ * </p>
+ * <p>
+ * 差分出力を指定した場合は、行ごとの出力をキャッシュディレクトリに保存し、次回以降は追加または変更された行だけに実行計画を適用する。
+ * </p>
  *
  * @author KenichiroArai
  *
  * @since 0.1.0
  *
- * @version 0.1.0
+ * @version 0.2.0
  */
 public abstract class AbstractDtcTool extends AbstractTwo2OneTool {
 
+    /**
+     * ロガー
+     *
+     * @since 0.2.0
+     */
+    private final Logger logger;
+
+    /**
+     * メッセージソース
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private KmgMessageSource messageSource;
+
+    /**
+     * 入力ファイルが中間データかの指定
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.dtc.intermediate-input:false}")
+    private boolean intermediateInput;
+
+    /**
+     * 中間データの区切り文字
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.dtc.intermediate-delimiter:\t}")
+    private String intermediateDelimiter;
+
+    /**
+     * 並列処理の行数のしきい値
+     * <p>
+     * 中間データの行数がしきい値に達した場合に、並列に出力する。 0以下の場合は、並列処理しない。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.dtc.parallel-threshold:" + DtcPlanRenderer.DEFAULT_PARALLEL_THRESHOLD + "}")
+    private int parallelThreshold;
+
+    /**
+     * 実行計画のキャッシュを使用するかの指定
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    /**
+     * キャッシュディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.cache.dir:work/cache}")
+    private String cacheDir;
+
+    /**
+     * 差分出力を使用するかの指定
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.dtc.incremental:false}")
+    private boolean incremental;
+
+    /**
+     * 変換処理ごとのキャッシュの上限の件数
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.dtc.transform-cache-size:" + DtcTransformRegistry.DEFAULT_CACHE_CAPACITY + "}")
+    private int transformCacheSize;
+
+    /**
+     * 変換処理のレジストリ
+     *
+     * @since 0.2.0
+     */
+    private DtcTransformRegistry transformRegistry;
+
+    /**
+     * テンプレートの実行計画
+     * <p>
+     * 入力ファイルが中間データでない場合、またはテンプレートファイルの定義が実行計画に対応していない場合は、null
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    private DtcTemplatePlan templatePlan;
+
     /**
      * 標準ロガーを使用して初期化するコンストラクタ<br>
      *
@@ -28,17 +165,679 @@ public abstract class AbstractDtcTool extends AbstractTwo2OneTool {
     public AbstractDtcTool(final String toolName) {
 
         super(toolName);
+        this.logger = LoggerFactory.getLogger(AbstractDtcTool.class);
+
+    }
+
+    /**
+     * 入力ファイルが中間データかの指定を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param intermediateInput
+     *                          true：中間データ、false：中間データでない
+     */
+    public void setIntermediateInput(final boolean intermediateInput) {
+
+        this.intermediateInput = intermediateInput;
+
+    }
+
+    /**
+     * 中間データの区切り文字を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param intermediateDelimiter
+     *                              区切り文字。nullまたは空の場合は、タブ
+     */
+    public void setIntermediateDelimiter(final String intermediateDelimiter) {
+
+        this.intermediateDelimiter = intermediateDelimiter;
+
+    }
+
+    /**
+     * 並列処理の行数のしきい値を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param parallelThreshold
+     *                          並列処理の行数のしきい値。0以下の場合は、並列処理しない
+     */
+    public void setParallelThreshold(final int parallelThreshold) {
+
+        this.parallelThreshold = parallelThreshold;
+
+    }
+
+    /**
+     * 実行計画のキャッシュを使用するかの指定を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param cacheEnabled
+     *                     true：使用する、false：使用しない
+     */
+    public void setCacheEnabled(final boolean cacheEnabled) {
+
+        this.cacheEnabled = cacheEnabled;
+
+    }
+
+    /**
+     * キャッシュディレクトリを設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param cacheDir
+     *                 キャッシュディレクトリ。nullまたは空の場合は、既定のキャッシュディレクトリ
+     */
+    public void setCacheDir(final String cacheDir) {
+
+        this.cacheDir = cacheDir;
+
+    }
+
+    /**
+     * 差分出力を使用するかの指定を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param incremental
+     *                    true：使用する、false：使用しない
+     */
+    public void setIncremental(final boolean incremental) {
+
+        this.incremental = incremental;
+
+    }
+
+    /**
+     * 変換処理ごとのキャッシュの上限の件数を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param transformCacheSize
+     *                           キャッシュの上限の件数。0以下の場合は、既定のキャッシュの上限の件数
+     */
+    public void setTransformCacheSize(final int transformCacheSize) {
+
+        this.transformCacheSize = transformCacheSize;
 
     }
 
     /**
-     * 入力、中間、テンプレート、出力の処理サービスを返す。
+     * テンプレートの実行計画で出力するかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：実行計画で出力する、false：入出力サービスで処理する
+     */
+    public boolean isTemplatePlanUsed() {
+
+        final boolean result = this.templatePlan != null;
+        return result;
+
+    }
+
+    /**
+     * 初期化する
+     * <p>
+     * 入力ファイルが中間データの場合は、変換処理のレジストリを作成し、テンプレートファイルを解析して実行計画を作成する。 実行計画を作成できた場合は、入出力サービスを初期化しない。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：成功、false：失敗
+     */
+    @Override
+    public boolean initialize() {
+
+        boolean result;
+
+        this.templatePlan = null;
+
+        if (this.intermediateInput) {
+
+            this.transformRegistry = new DtcTransformRegistry(this.transformCacheSize);
+
+            try {
+
+                this.registerTransforms(this.transformRegistry);
+
+            } catch (final KmgToolCliMsgException e) {
+
+                // ログの出力
+                final KmgToolCliLogMsgTypes logType     = KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG30010;
+                final Object[]              messageArgs = {};
+                final String                msg         = this.messageSource.getLogMessage(logType, messageArgs);
+                this.logger.error(msg, e);
+
+                result = false;
+                return result;
+
+            }
+
+            this.templatePlan = this.compileTemplatePlan(this.getTemplatePath());
+
+        }
+
+        if (this.templatePlan != null) {
+
+            result = true;
+            return result;
+
+        }
+
+        result = super.initialize();
+        return result;
+
+    }
+
+    /**
+     * 実行する
+     * <p>
+     * 実行計画で出力した場合は、終了時に変換処理ごとのキャッシュの使用状況をログに出力する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：成功、false：失敗
+     */
+    @Override
+    public boolean execute() {
+
+        final boolean result = super.execute();
+
+        if (this.templatePlan != null) {
+
+            this.logTransformCacheUsage();
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 入出力サービスを返す。
      *
      * @since 0.1.0
      *
-     * @return 入力、中間、テンプレート、出力の処理サービス
+     * @return 入出力サービス
      */
     @Override
     protected abstract IitoProcessorService getIoService();
 
+    /**
+     * 変換処理のレジストリに、ツール独自の変換処理を登録する。 既定では、何も登録しない。
+     * <p>
+     * 登録する変換処理は、同じ値には同じ結果を返し、状態を持たないこと。 登録した名前は、テンプレートファイルの「transformation」に指定できる。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param registry
+     *                 変換処理のレジストリ
+     *
+     * @throws KmgToolCliMsgException
+     *                                 変換処理を登録できない名前の場合
+     */
+    protected void registerTransforms(final DtcTransformRegistry registry) throws KmgToolCliMsgException {
+
+        // 処理なし
+    }
+
+    /**
+     * 入力ファイル全体を処理する。 実行計画がある場合は、実行計画で出力する。
+     * <p>
+     * 実行計画があり、追加のテンプレートを指定した場合は、中間データを1回だけ読み込んで全てのテンプレートに適用する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     */
+    @Override
+    protected boolean processWholeFile() throws KmgToolBaseMsgException {
+
+        boolean result;
+
+        if (this.templatePlan == null) {
+
+            result = super.processWholeFile();
+            return result;
+
+        }
+
+        final Map<Path, Path> templateOutputs = this.getAdditionalTemplateOutputs();
+
+        if (templateOutputs == null) {
+
+            result = false;
+            return result;
+
+        }
+
+        if (templateOutputs.isEmpty() && !this.incremental) {
+
+            result = this.render(this.resolveInputPath(), this.resolveOutputPath());
+            return result;
+
+        }
+
+        result = this.renderAll(templateOutputs);
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルを処理して出力ファイルに書き込む。 実行計画がある場合は、実行計画で出力する。
+     * <p>
+     * 実行計画は読み取り専用のため、パターンに一致したファイルを並列に処理する場合も、全てのワーカーで同じ実行計画を使用する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param ioService
+     *                   入出力サービス
+     * @param inputPath
+     *                   入力ファイルパス
+     * @param outputPath
+     *                   出力ファイルパス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     */
+    @Override
+    protected boolean processFile(final IoService ioService, final Path inputPath, final Path outputPath)
+        throws KmgToolBaseMsgException {
+
+        boolean result;
+
+        if (this.templatePlan == null) {
+
+            result = super.processFile(ioService, inputPath, outputPath);
+            return result;
+
+        }
+
+        result = this.render(inputPath, outputPath);
+        return result;
+
+    }
+
+    /**
+     * パターンに一致したファイルの並列処理で、スレッドごとにワーカーのコンテキストが必要かを返す。
+     * <p>
+     * 実行計画がある場合は、入出力サービスを使用せずに、初期化で1回だけ解析した読み取り専用の実行計画で出力するため、ワーカーのコンテキストを起動しない。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：必要、false：不要
+     */
+    @Override
+    protected boolean isWorkerContextRequired() {
+
+        final boolean result = this.templatePlan == null;
+        return result;
+
+    }
+
+    /**
+     * テンプレートファイルを解析して、実行計画を作成する。 キャッシュを使用する場合は、キャッシュから読み込む。
+     *
+     * @since 0.2.0
+     *
+     * @param templateFile
+     *                     テンプレートファイルのパス
+     *
+     * @return 実行計画。作成できない場合は、null
+     */
+    private DtcTemplatePlan compileTemplatePlan(final Path templateFile) {
+
+        DtcTemplatePlan result = null;
+
+        try {
+
+            if (!this.cacheEnabled) {
+
+                result = DtcTemplatePlan.compile(templateFile, this.transformRegistry);
+
+            } else {
+
+                result = new DtcTemplatePlanCache(this.getCachePath(), this.transformRegistry).load(templateFile,
+                    e -> this.warnCacheStoreFailure(templateFile, e));
+
+            }
+
+        } catch (final IOException e) {
+
+            // ログの出力
+            final KmgToolCliLogMsgTypes logType     = KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG30001;
+            final Object[]              messageArgs = {
+                templateFile,
+            };
+            final String                msg         = this.messageSource.getLogMessage(logType, messageArgs);
+            this.logger.warn(msg, e);
+
+            return result;
+
+        }
+
+        if (result == null) {
+
+            // ログの出力
+            final KmgToolCliLogMsgTypes logType     = KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG30000;
+            final Object[]              messageArgs = {
+                templateFile,
+            };
+            final String                msg         = this.messageSource.getLogMessage(logType, messageArgs);
+            this.logger.warn(msg);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * キャッシュディレクトリのパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return キャッシュディレクトリのパス。指定がない場合は、既定のキャッシュディレクトリ
+     */
+    private Path getCachePath() {
+
+        final Path result = (this.cacheDir == null) || this.cacheDir.isEmpty() ? DtcTemplatePlanCache.DEFAULT_CACHE_DIR
+            : Paths.get(this.cacheDir);
+        return result;
+
+    }
+
+    /**
+     * 実行計画のキャッシュへの保存に失敗したことを、ログに出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param templateFile
+     *                     テンプレートファイルのパス
+     * @param exception
+     *                     保存に失敗した例外
+     */
+    private void warnCacheStoreFailure(final Path templateFile, final IOException exception) {
+
+        // ログの出力
+        final KmgToolCliLogMsgTypes logType     = KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG30002;
+        final Object[]              messageArgs = {
+            templateFile,
+        };
+        final String                msg         = this.messageSource.getLogMessage(logType, messageArgs);
+        this.logger.warn(msg, exception);
+
+    }
+
+    /**
+     * 変換処理ごとのキャッシュの使用状況を、ログに出力する。 使用されなかった変換処理は出力しない。
+     *
+     * @since 0.2.0
+     */
+    private void logTransformCacheUsage() {
+
+        for (final String name : this.transformRegistry.getNames()) {
+
+            final long hitCount  = this.transformRegistry.getHitCount(name);
+            final long missCount = this.transformRegistry.getMissCount(name);
+
+            if ((hitCount + missCount) == 0) {
+
+                continue;
+
+            }
+
+            final String hitRate = String.format("%.1f", (hitCount * 100.0) / (hitCount + missCount)); //$NON-NLS-1$
+
+            // ログの出力
+            final KmgToolCliLogMsgTypes logType     = KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG30003;
+            final Object[]              messageArgs = {
+                name, hitCount, missCount, hitRate,
+            };
+            final String                msg         = this.messageSource.getLogMessage(logType, messageArgs);
+            this.logger.info(msg);
+
+        }
+
+    }
+
+    /**
+     * 中間データの入力ファイルを1回だけ読み込み、このツールのテンプレートと追加のテンプレートの実行計画を並列に適用して、それぞれの出力ファイルに書き込む。
+     * 実行計画に対応していない追加のテンプレートは、入出力サービスで処理する。
+     *
+     * @since 0.2.0
+     *
+     * @param templateOutputs
+     *                        追加のテンプレートのテンプレートファイルと出力ファイル
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     * @throws UncheckedIOException
+     *                                 読み込み、または書き込みに失敗した場合
+     */
+    private boolean renderAll(final Map<Path, Path> templateOutputs) throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        final Map<Path, DtcTemplatePlan> plansByOutput           = new LinkedHashMap<>();
+        final Map<Path, Path>            fallbackTemplateOutputs = new LinkedHashMap<>();
+        plansByOutput.put(this.resolveOutputPath(), this.templatePlan);
+
+        for (final Map.Entry<Path, Path> templateOutput : templateOutputs.entrySet()) {
+
+            final DtcTemplatePlan plan = this.compileTemplatePlan(templateOutput.getKey());
+
+            if (plan == null) {
+
+                fallbackTemplateOutputs.put(templateOutput.getKey(), templateOutput.getValue());
+                continue;
+
+            }
+
+            plansByOutput.put(templateOutput.getValue(), plan);
+
+        }
+
+        /* 中間データの読み込みとテンプレートごとの出力 */
+        final DtcIntermediateData renderData;
+
+        try {
+
+            renderData = DtcIntermediateData.read(this.resolveInputPath(), this.intermediateDelimiter);
+
+        } catch (final IOException e) {
+
+            throw new UncheckedIOException(e);
+
+        }
+
+        final List<ForkJoinTask<Long>> tasks = new ArrayList<>();
+
+        for (final Map.Entry<Path, DtcTemplatePlan> planByOutput : plansByOutput.entrySet()) {
+
+            tasks.add(ForkJoinPool.commonPool()
+                .submit(() -> this.render(renderData, planByOutput.getValue(), planByOutput.getKey())));
+
+        }
+
+        for (final ForkJoinTask<Long> task : tasks) {
+
+            task.join();
+
+        }
+
+        /* 実行計画に対応していない追加のテンプレートの処理 */
+        for (final Map.Entry<Path, Path> templateOutput : fallbackTemplateOutputs.entrySet()) {
+
+            if (!this.processTemplate(this.getIoService(), this.resolveInputPath(), templateOutput.getKey(),
+                templateOutput.getValue())) {
+
+                return result;
+
+            }
+
+        }
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 読み込み済みの中間データに実行計画を適用して、出力ファイルに書き込む。 差分出力を使用する場合は、行ごとの出力のキャッシュを使用する。
+     *
+     * @since 0.2.0
+     *
+     * @param data
+     *                   中間データ
+     * @param plan
+     *                   実行計画
+     * @param outputPath
+     *                   出力ファイルパス
+     *
+     * @return 出力した件数
+     *
+     * @throws UncheckedIOException
+     *                              書き込みに失敗した場合
+     */
+    private long render(final DtcIntermediateData data, final DtcTemplatePlan plan, final Path outputPath) {
+
+        if (this.incremental) {
+
+            final long result = this.renderIncremental(data, plan, outputPath);
+            return result;
+
+        }
+
+        final DtcPlanRenderer renderer = new DtcPlanRenderer(plan, this.intermediateDelimiter, this.parallelThreshold,
+            ForkJoinPool.commonPool());
+
+        try {
+
+            final long result = renderer.render(data, outputPath);
+            return result;
+
+        } catch (final IOException e) {
+
+            throw new UncheckedIOException(e);
+
+        }
+
+    }
+
+    /**
+     * 読み込み済みの中間データに、行ごとの出力のキャッシュを使用して実行計画を適用し、出力ファイルに書き込む。 キャッシュの使用状況を、ログに出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param data
+     *                   中間データ
+     * @param plan
+     *                   実行計画
+     * @param outputPath
+     *                   出力ファイルパス
+     *
+     * @return 出力した件数
+     *
+     * @throws UncheckedIOException
+     *                              書き込みに失敗した場合
+     */
+    private long renderIncremental(final DtcIntermediateData data, final DtcTemplatePlan plan,
+        final Path outputPath) {
+
+        final long result;
+
+        final DtcRowFragmentCache fragmentCache = new DtcRowFragmentCache(this.getCachePath(), plan);
+
+        try {
+
+            result = fragmentCache.render(data, outputPath, e -> {
+
+                // ログの出力
+                final KmgToolCliLogMsgTypes logType     = KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG30007;
+                final Object[]              messageArgs = {
+                    outputPath,
+                };
+                final String                msg         = this.messageSource.getLogMessage(logType, messageArgs);
+                this.logger.warn(msg, e);
+
+            });
+
+        } catch (final IOException e) {
+
+            throw new UncheckedIOException(e);
+
+        }
+
+        final long   hitCount = fragmentCache.getHitCount();
+        final String hitRate  = String.format("%.1f", //$NON-NLS-1$
+            result == 0 ? 0.0 : (hitCount * 100.0) / result);
+
+        // ログの出力
+        final KmgToolCliLogMsgTypes logType     = KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG30006;
+        final Object[]              messageArgs = {
+            outputPath, hitCount, result, hitRate,
+        };
+        final String                msg         = this.messageSource.getLogMessage(logType, messageArgs);
+        this.logger.info(msg);
+
+        return result;
+
+    }
+
+    /**
+     * 実行計画で、中間データの入力ファイルを出力ファイルに書き込む。
+     *
+     * @since 0.2.0
+     *
+     * @param inputPath
+     *                   中間データの入力ファイルパス
+     * @param outputPath
+     *                   出力ファイルパス
+     *
+     * @return true：成功
+     *
+     * @throws UncheckedIOException
+     *                              読み込み、または書き込みに失敗した場合
+     */
+    private boolean render(final Path inputPath, final Path outputPath) {
+
+        boolean result = false;
+
+        final DtcPlanRenderer renderer = new DtcPlanRenderer(this.templatePlan, this.intermediateDelimiter,
+            this.parallelThreshold, ForkJoinPool.commonPool());
+
+        try {
+
+            renderer.render(inputPath, outputPath);
+
+        } catch (final IOException e) {
+
+            throw new UncheckedIOException(e);
+
+        }
+
+        result = true;
+        return result;
+
+    }
+
 }
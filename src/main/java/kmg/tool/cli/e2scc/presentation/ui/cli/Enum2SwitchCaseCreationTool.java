@@ -1,11 +1,11 @@
 package kmg.tool.cli.e2scc.presentation.ui.cli;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ConfigurableApplicationContext;
 
 import kmg.tool.base.e2scc.service.Enum2SwitchCaseCreationService;
+import kmg.tool.cli.cmn.infrastructure.startup.KmgToolCliSpringApplication;
 import kmg.tool.cli.dtc.presentation.ui.cli.AbstractDtcTool;
 
 /**
@@ -24,10 +24,10 @@ import kmg.tool.cli.dtc.presentation.ui.cli.AbstractDtcTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.0
+ * @version 0.2.0
  */
 @SpringBootApplication(scanBasePackages = {
-    "kmg"
+    "kmg.core", "kmg.fund", "kmg.tool.base"
 })
 public class Enum2SwitchCaseCreationTool extends AbstractDtcTool {
 
@@ -83,7 +83,8 @@ public class Enum2SwitchCaseCreationTool extends AbstractDtcTool {
     public static void main(final String[] args) {
 
         @SuppressWarnings("resource")
-        final ConfigurableApplicationContext ctx = SpringApplication.run(Enum2SwitchCaseCreationTool.class, args);
+        final ConfigurableApplicationContext ctx
+            = KmgToolCliSpringApplication.run(Enum2SwitchCaseCreationTool.class, args);
 
         final Enum2SwitchCaseCreationTool tool = ctx.getBean(Enum2SwitchCaseCreationTool.class);
 
@@ -93,7 +94,7 @@ public class Enum2SwitchCaseCreationTool extends AbstractDtcTool {
         /* 実行 */
         tool.execute();
 
-        ctx.close();
+        KmgToolCliSpringApplication.close(ctx, Enum2SwitchCaseCreationTool.class);
 
     }
 
@@ -114,6 +115,24 @@ public class Enum2SwitchCaseCreationTool extends AbstractDtcTool {
 
     }
 
+    /**
+     * ストリーミングに対応しているかを返す。
+     * <p>
+     * 列挙型の定数は、コメントと定数の宣言が複数行にわたり、区切りを行から判定できないため、対応していない。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return false：対応していない
+     */
+    @Override
+    protected boolean isStreamingSupported() {
+
+        final boolean result = false;
+        return result;
+
+    }
+
     /**
      * 列挙型からcase文作成サービスを返す
      * <p>
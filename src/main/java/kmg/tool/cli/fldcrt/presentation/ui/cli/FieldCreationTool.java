@@ -1,11 +1,11 @@
 package kmg.tool.cli.fldcrt.presentation.ui.cli;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ConfigurableApplicationContext;
 
 import kmg.tool.base.fldcrt.application.service.FieldCreationService;
+import kmg.tool.cli.cmn.infrastructure.startup.KmgToolCliSpringApplication;
 import kmg.tool.cli.dtc.presentation.ui.cli.AbstractDtcTool;
 
 /**
@@ -21,10 +21,10 @@ import kmg.tool.cli.dtc.presentation.ui.cli.AbstractDtcTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.0
+ * @version 0.2.0
  */
 @SpringBootApplication(scanBasePackages = {
-    "kmg"
+    "kmg.core", "kmg.fund", "kmg.tool.base"
 })
 public class FieldCreationTool extends AbstractDtcTool {
 
@@ -54,7 +54,7 @@ public class FieldCreationTool extends AbstractDtcTool {
     public static void main(final String[] args) {
 
         @SuppressWarnings("resource")
-        final ConfigurableApplicationContext ctx = SpringApplication.run(FieldCreationTool.class, args);
+        final ConfigurableApplicationContext ctx = KmgToolCliSpringApplication.run(FieldCreationTool.class, args);
 
         final FieldCreationTool tool = ctx.getBean(FieldCreationTool.class);
 
@@ -64,7 +64,7 @@ public class FieldCreationTool extends AbstractDtcTool {
         /* 実行 */
         tool.execute();
 
-        ctx.close();
+        KmgToolCliSpringApplication.close(ctx, FieldCreationTool.class);
 
     }
 
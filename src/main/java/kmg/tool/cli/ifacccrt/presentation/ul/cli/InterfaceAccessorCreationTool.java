@@ -1,11 +1,11 @@
 package kmg.tool.cli.ifacccrt.presentation.ul.cli;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ConfigurableApplicationContext;
 
 import kmg.tool.base.acccrt.application.service.AccessorCreationService;
+import kmg.tool.cli.cmn.infrastructure.startup.KmgToolCliSpringApplication;
 import kmg.tool.cli.dtc.presentation.ui.cli.AbstractDtcTool;
 
 /**
@@ -24,10 +24,10 @@ import kmg.tool.cli.dtc.presentation.ui.cli.AbstractDtcTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.0
+ * @version 0.2.0
  */
 @SpringBootApplication(scanBasePackages = {
-    "kmg"
+    "kmg.core", "kmg.fund", "kmg.tool.base"
 })
 public class InterfaceAccessorCreationTool extends AbstractDtcTool {
 
@@ -83,7 +83,8 @@ public class InterfaceAccessorCreationTool extends AbstractDtcTool {
     public static void main(final String[] args) {
 
         @SuppressWarnings("resource")
-        final ConfigurableApplicationContext ctx = SpringApplication.run(InterfaceAccessorCreationTool.class, args);
+        final ConfigurableApplicationContext ctx
+            = KmgToolCliSpringApplication.run(InterfaceAccessorCreationTool.class, args);
 
         final InterfaceAccessorCreationTool tool = ctx.getBean(InterfaceAccessorCreationTool.class);
 
@@ -93,7 +94,7 @@ public class InterfaceAccessorCreationTool extends AbstractDtcTool {
         /* 実行 */
         tool.execute();
 
-        ctx.close();
+        KmgToolCliSpringApplication.close(ctx, InterfaceAccessorCreationTool.class);
 
     }
 
@@ -114,6 +115,27 @@ public class InterfaceAccessorCreationTool extends AbstractDtcTool {
 
     }
 
+    /**
+     * 指定された行の後でチャンクを区切れるかを返す。
+     * <p>
+     * フィールドの宣言は、コメントの行の後に「;」で終わる宣言の行が続くため、宣言の行の後でのみ区切る。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param line
+     *             改行文字を除いた行
+     *
+     * @return true：区切れる、false：区切れない
+     */
+    @Override
+    protected boolean isChunkBoundary(final String line) {
+
+        final boolean result = line.endsWith(";"); //$NON-NLS-1$
+        return result;
+
+    }
+
     /**
      * アクセサ作成サービスを返す
      * <p>
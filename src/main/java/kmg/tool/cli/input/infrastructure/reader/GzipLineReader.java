@@ -0,0 +1,130 @@
+package kmg.tool.cli.input.infrastructure.reader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import kmg.tool.cli.io.infrastructure.stream.GzipStreams;
+
+/**
+ * gzip行リーダー<br>
+ * <p>
+ * gzipファイルを{@link java.util.zip.GZIPInputStream}で展開しながら、1行ずつUTF-8で復号して返す。
+ * 展開した内容をディスクにもヒープにも保持しないため、使用するメモリは展開と復号のバッファと1行分となる。
+ * </p>
+ * <p>
+ * 行の区切りはLF、CRLFまたはCRとし、返す行には改行文字を含めない。 ファイルの先頭のBOMは除く。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class GzipLineReader implements LineReader {
+
+    /**
+     * BOM
+     *
+     * @since 0.2.0
+     */
+    private static final char BOM = '\uFEFF';
+
+    /**
+     * リーダー
+     *
+     * @since 0.2.0
+     */
+    private final BufferedReader reader;
+
+    /**
+     * 読み込んだ行数
+     *
+     * @since 0.2.0
+     */
+    private long lineCount;
+
+    /**
+     * gzipファイルを開くコンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param gzipPath
+     *                 gzipファイルのパス
+     *
+     * @throws IOException
+     *                     gzipファイルを開けない場合、またはgzipファイルのヘッダが不正な場合
+     */
+    public GzipLineReader(final Path gzipPath) throws IOException {
+
+        this.reader
+            = new BufferedReader(new InputStreamReader(GzipStreams.openInput(gzipPath), StandardCharsets.UTF_8));
+
+    }
+
+    /**
+     * 次の1行を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 改行文字を除いた行。ファイルの終わりに達した場合は、null
+     *
+     * @throws IOException
+     *                     gzipファイルの展開に失敗した場合
+     */
+    @Override
+    public String readLine() throws IOException {
+
+        String result = this.reader.readLine();
+
+        if (result == null) {
+
+            return result;
+
+        }
+
+        if ((this.lineCount == 0) && !result.isEmpty() && (result.charAt(0) == GzipLineReader.BOM)) {
+
+            result = result.substring(1);
+
+        }
+
+        this.lineCount++;
+        return result;
+
+    }
+
+    /**
+     * 読み込んだ行数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 読み込んだ行数
+     */
+    @Override
+    public long getLineCount() {
+
+        final long result = this.lineCount;
+        return result;
+
+    }
+
+    /**
+     * gzipファイルを閉じる。
+     *
+     * @since 0.2.0
+     *
+     * @throws IOException
+     *                     gzipファイルを閉じられない場合
+     */
+    @Override
+    public void close() throws IOException {
+
+        this.reader.close();
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package kmg.tool.cli.input.infrastructure.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 行リーダーインタフェース<br>
+ * <p>
+ * 入力ファイルを1行ずつ読み込む。 入力ファイル全体をヒープの文字列にコピーせずに、行単位で処理するために使用する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public interface LineReader extends Closeable {
+
+    /**
+     * 次の1行を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 改行文字を除いた行。入力ファイルの終わりに達した場合は、null
+     *
+     * @throws IOException
+     *                     入力ファイルの読み込みに失敗した場合
+     */
+    String readLine() throws IOException;
+
+    /**
+     * 読み込んだ行数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 読み込んだ行数
+     */
+    long getLineCount();
+
+}
@@ -0,0 +1,369 @@
+package kmg.tool.cli.input.infrastructure.reader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * メモリマップ行リーダー<br>
+ * <p>
+ * 入力ファイルを{@link FileChannel#map(FileChannel.MapMode, long, long)}でメモリマップし、呼び出されるたびに次の1行だけをUTF-8で復号して返す。
+ * ファイル全体をヒープの文字列にコピーしないため、最初の行を返すまでの時間とヒープの使用量が、ファイルの大きさに依存しない。
+ * </p>
+ * <p>
+ * ファイルはウィンドウサイズごとに順にマップし、ウィンドウの境界をまたぐ行は連結して返す。 行の区切りはLFまたはCRLFとし、返す行には改行文字を含めない。
+ * ファイルの先頭のBOMは除く。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class MappedLineReader implements LineReader {
+
+    /**
+     * 既定のウィンドウサイズ（バイト）
+     *
+     * @since 0.2.0
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * 改行文字（LF）
+     *
+     * @since 0.2.0
+     */
+    private static final byte LF = '\n';
+
+    /**
+     * 復帰文字（CR）
+     *
+     * @since 0.2.0
+     */
+    private static final byte CR = '\r';
+
+    /**
+     * BOM
+     *
+     * @since 0.2.0
+     */
+    private static final char BOM = '\uFEFF';
+
+    /**
+     * ファイルチャネル
+     *
+     * @since 0.2.0
+     */
+    private final FileChannel channel;
+
+    /**
+     * ファイルサイズ
+     *
+     * @since 0.2.0
+     */
+    private final long fileSize;
+
+    /**
+     * ウィンドウサイズ
+     *
+     * @since 0.2.0
+     */
+    private final int windowSize;
+
+    /**
+     * 現在のウィンドウのファイル内の開始位置
+     *
+     * @since 0.2.0
+     */
+    private long windowPosition;
+
+    /**
+     * 現在のウィンドウ
+     *
+     * @since 0.2.0
+     */
+    private MappedByteBuffer window;
+
+    /**
+     * 読み込んだ行数
+     *
+     * @since 0.2.0
+     */
+    private long lineCount;
+
+    /**
+     * 既定のウィンドウサイズで入力ファイルを開くコンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param inputPath
+     *                  入力ファイルパス
+     *
+     * @throws IOException
+     *                     入力ファイルを開けない場合
+     */
+    public MappedLineReader(final Path inputPath) throws IOException {
+
+        this(inputPath, MappedLineReader.DEFAULT_WINDOW_SIZE);
+
+    }
+
+    /**
+     * ウィンドウサイズを指定して入力ファイルを開くコンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param inputPath
+     *                   入力ファイルパス
+     * @param windowSize
+     *                   ウィンドウサイズ（バイト）。0以下の場合は、既定のウィンドウサイズ
+     *
+     * @throws IOException
+     *                     入力ファイルを開けない場合
+     */
+    public MappedLineReader(final Path inputPath, final int windowSize) throws IOException {
+
+        this.channel = FileChannel.open(inputPath, StandardOpenOption.READ);
+        this.windowSize = windowSize > 0 ? windowSize : MappedLineReader.DEFAULT_WINDOW_SIZE;
+
+        try {
+
+            this.fileSize = this.channel.size();
+            this.windowPosition = 0;
+            this.window = this.map(0);
+
+        } catch (final IOException e) {
+
+            this.channel.close();
+            throw e;
+
+        }
+
+    }
+
+    /**
+     * 次の1行を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 改行文字を除いた行。ファイルの終わりに達した場合は、null
+     *
+     * @throws IOException
+     *                     入力ファイルのマップに失敗した場合
+     */
+    @Override
+    public String readLine() throws IOException {
+
+        String result = null;
+
+        if (!this.window.hasRemaining() && !this.mapNextWindow()) {
+
+            return result;
+
+        }
+
+        ByteArrayOutputStream carry = null;
+
+        while (true) {
+
+            final int start = this.window.position();
+            final int limit = this.window.limit();
+            int       index = start;
+
+            while ((index < limit) && (this.window.get(index) != MappedLineReader.LF)) {
+
+                index++;
+
+            }
+
+            if (index < limit) {
+
+                // 改行文字が見つかった場合
+                final byte[] bytes = MappedLineReader.concat(carry, this.window, start, index);
+                this.window.position(index + 1);
+
+                result = this.decode(bytes);
+                return result;
+
+            }
+
+            // ウィンドウの終わりまで改行文字がない場合は、次のウィンドウに続ける
+            if (carry == null) {
+
+                carry = new ByteArrayOutputStream();
+
+            }
+
+            final byte[] rest = new byte[limit - start];
+            this.window.get(start, rest);
+            carry.writeBytes(rest);
+            this.window.position(limit);
+
+            if (!this.mapNextWindow()) {
+
+                result = this.decode(carry.toByteArray());
+                return result;
+
+            }
+
+        }
+
+    }
+
+    /**
+     * 読み込んだ行数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 読み込んだ行数
+     */
+    @Override
+    public long getLineCount() {
+
+        final long result = this.lineCount;
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルを閉じる。
+     *
+     * @since 0.2.0
+     *
+     * @throws IOException
+     *                     入力ファイルを閉じられない場合
+     */
+    @Override
+    public void close() throws IOException {
+
+        this.channel.close();
+
+    }
+
+    /**
+     * 指定された位置からウィンドウサイズ分をマップする。
+     *
+     * @since 0.2.0
+     *
+     * @param position
+     *                 ファイル内の開始位置
+     *
+     * @return マップしたウィンドウ
+     *
+     * @throws IOException
+     *                     マップに失敗した場合
+     */
+    private MappedByteBuffer map(final long position) throws IOException {
+
+        final long size = Math.min(this.windowSize, this.fileSize - position);
+
+        final MappedByteBuffer result = this.channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        return result;
+
+    }
+
+    /**
+     * 次のウィンドウをマップする。
+     *
+     * @since 0.2.0
+     *
+     * @return true：マップした、false：ファイルの終わりに達した
+     *
+     * @throws IOException
+     *                     マップに失敗した場合
+     */
+    private boolean mapNextWindow() throws IOException {
+
+        boolean result = false;
+
+        final long nextPosition = this.windowPosition + this.window.capacity();
+
+        if (nextPosition >= this.fileSize) {
+
+            return result;
+
+        }
+
+        this.windowPosition = nextPosition;
+        this.window = this.map(nextPosition);
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 行のバイト列を文字列に復号する。 行末の復帰文字と、最初の行の先頭のBOMを除く。
+     *
+     * @since 0.2.0
+     *
+     * @param bytes
+     *              行のバイト列
+     *
+     * @return 行
+     */
+    private String decode(final byte[] bytes) {
+
+        int length = bytes.length;
+
+        if ((length > 0) && (bytes[length - 1] == MappedLineReader.CR)) {
+
+            length--;
+
+        }
+
+        String result = new String(bytes, 0, length, StandardCharsets.UTF_8);
+
+        if ((this.lineCount == 0) && !result.isEmpty() && (result.charAt(0) == MappedLineReader.BOM)) {
+
+            result = result.substring(1);
+
+        }
+
+        this.lineCount++;
+        return result;
+
+    }
+
+    /**
+     * 前のウィンドウから持ち越したバイト列と、現在のウィンドウの指定範囲を連結する。
+     *
+     * @since 0.2.0
+     *
+     * @param carry
+     *               前のウィンドウから持ち越したバイト列。ない場合は、null
+     * @param window
+     *               現在のウィンドウ
+     * @param start
+     *               開始位置
+     * @param end
+     *               終了位置（この位置を含まない）
+     *
+     * @return 連結したバイト列
+     */
+    private static byte[] concat(final ByteArrayOutputStream carry, final MappedByteBuffer window, final int start,
+        final int end) {
+
+        final byte[] bytes = new byte[end - start];
+        window.get(start, bytes);
+
+        if (carry == null) {
+
+            return bytes;
+
+        }
+
+        carry.writeBytes(bytes);
+
+        final byte[] result = carry.toByteArray();
+        return result;
+
+    }
+
+}
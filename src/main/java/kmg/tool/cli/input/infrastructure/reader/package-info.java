@@ -0,0 +1,13 @@
+/**
+ * 入力処理の読み込みパッケージ<br>
+ * <p>
+ * 入力ファイルをヒープにコピーせずに、メモリマップまたはgzipの展開で行単位に読み込むクラスが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.input.infrastructure.reader;
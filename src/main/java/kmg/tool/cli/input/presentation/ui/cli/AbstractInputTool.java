@@ -1,10 +1,25 @@
 package kmg.tool.cli.input.presentation.ui.cli;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import kmg.core.domain.service.KmgPfaMeasService;
+import kmg.fund.infrastructure.context.KmgMessageSource;
 import kmg.tool.base.input.domain.service.InputService;
+import kmg.tool.cli.cmn.infrastructure.output.InPlaceUpdateGuard;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
 import kmg.tool.cli.cmn.presentation.ui.cli.AbstractTool;
+import kmg.tool.cli.input.infrastructure.reader.GzipLineReader;
+import kmg.tool.cli.input.infrastructure.reader.LineReader;
+import kmg.tool.cli.input.infrastructure.reader.MappedLineReader;
+import kmg.tool.cli.io.infrastructure.stream.GzipStreams;
+import kmg.tool.cli.io.infrastructure.stream.StandardStreams;
 
 /**
  * 入力処理ツールの抽象基底クラス
@@ -16,6 +31,21 @@ import kmg.tool.cli.cmn.presentation.ui.cli.AbstractTool;
  * <li>work/ioディレクトリが存在しない場合：src/main/resources/tool/io/input.txt</li>
  * </ol>
  * <p>
+ * 「--kmg.tool.cli.io.input=パス」で入力ファイルを指定できる。パスに「-」を指定すると、標準入力から読み込む。
+ * </p>
+ * <p>
+ * 入力ファイルの大きさが「--kmg.tool.cli.input.mmap-threshold=バイト数」以上の場合、対応したツールは入力ファイルをヒープにコピーせず、
+ * {@link kmg.tool.cli.input.infrastructure.reader.MappedLineReader}でメモリマップして行単位に読み込む。
+ * </p>
+ * <p>
+ * 入力ファイルの拡張子が「.gz」の場合は、gzipファイルとして扱う。 行単位に読み込むツールは、{@link #openLineReader()}で展開しながら読み込むため、展開した内容の全体をディスクにもヒープにも保持しない。
+ * 入力ファイルのパスを必要とするツールでは、{@link #resolveInputPath()}が一時ファイルに展開し、{@link #releaseExpandedInput(KmgPfaMeasService)}で削除する。
+ * </p>
+ * <p>
+ * 対象ファイルをその場で上書きするツールは、{@link #snapshotTarget(Path, KmgPfaMeasService)}と{@link #restoreUnchanged(InPlaceUpdateGuard, KmgPfaMeasService)}で、
+ * 内容が変わらなかった対象ファイルの更新日時を元に戻す。「--kmg.tool.cli.output.skip-unchanged=false」で、元に戻さない。
+ * </p>
+ * <p>
  * このクラスを継承することで、カスタム入力処理ツールを実装できます。 継承クラスでは{@link #getInputService()}メソッドを実装する必要があります。
  * </p>
  * <h2>使用例：</h2>
@@ -54,7 +84,7 @@ import kmg.tool.cli.cmn.presentation.ui.cli.AbstractTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.0
+ * @version 0.2.0
  */
 public abstract class AbstractInputTool extends AbstractTool {
 
@@ -79,6 +109,68 @@ public abstract class AbstractInputTool extends AbstractTool {
      */
     private static final Path INPUT_FILE_NAME = Paths.get("input.txt"); //$NON-NLS-1$
 
+    /**
+     * メモリマップで読み込む入力ファイルの大きさの既定の閾値（バイト）
+     *
+     * @since 0.2.0
+     */
+    public static final long DEFAULT_MMAP_THRESHOLD = 64L * 1024 * 1024;
+
+    /**
+     * 指定入力ファイルパス
+     * <p>
+     * 指定されていない場合は、{@link #getInputPath()}の既定のパスを使用する。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    private Path specifiedInputPath;
+
+    /**
+     * 入力ファイルパスの指定
+     * <p>
+     * 「-」の場合は、標準入力を使用する。空の場合は、既定の入力ファイルパスを使用する。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.io.input:}")
+    private String input;
+
+    /**
+     * メモリマップで読み込む入力ファイルの大きさの閾値（バイト）
+     * <p>
+     * 0以下の場合は、メモリマップで読み込まない。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.input.mmap-threshold:" + AbstractInputTool.DEFAULT_MMAP_THRESHOLD + "}")
+    private long mmapThreshold;
+
+    /**
+     * 内容が変わらなかった対象ファイルの更新日時を元に戻すかの指定
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.output.skip-unchanged:true}")
+    private boolean skipUnchanged;
+
+    /**
+     * メッセージソース
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private KmgMessageSource messageSource;
+
+    /**
+     * gzipファイルの入力ファイルを展開した一時ファイルのパス
+     *
+     * @since 0.2.0
+     */
+    private Path expandedInputPath;
+
     /**
      * 基準パスを取得します。
      * <p>
@@ -180,6 +272,435 @@ public abstract class AbstractInputTool extends AbstractTool {
         // 処理なし
     }
 
+    /**
+     * 指定入力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 指定入力ファイルパス。指定されていない場合は、null
+     */
+    public Path getSpecifiedInputPath() {
+
+        final Path result = this.specifiedInputPath;
+        return result;
+
+    }
+
+    /**
+     * 指定入力ファイルパスを設定する。
+     * <p>
+     * nullを設定すると、既定の入力ファイルパスに戻る。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param specifiedInputPath
+     *                           指定入力ファイルパス
+     */
+    public void setSpecifiedInputPath(final Path specifiedInputPath) {
+
+        this.specifiedInputPath = specifiedInputPath;
+
+    }
+
+    /**
+     * 入力ファイルパスの指定を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param input
+     *              入力ファイルパスの指定。「-」の場合は、標準入力
+     */
+    public void setInput(final String input) {
+
+        this.input = input;
+
+    }
+
+    /**
+     * メモリマップで読み込む入力ファイルの大きさの閾値を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param mmapThreshold
+     *                      閾値（バイト）。0以下の場合は、メモリマップで読み込まない
+     */
+    public void setMmapThreshold(final long mmapThreshold) {
+
+        this.mmapThreshold = mmapThreshold;
+
+    }
+
+    /**
+     * 内容が変わらなかった対象ファイルの更新日時を元に戻すかを設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param skipUnchanged
+     *                      true：元に戻す、false：元に戻さない
+     */
+    public void setSkipUnchanged(final boolean skipUnchanged) {
+
+        this.skipUnchanged = skipUnchanged;
+
+    }
+
+    /**
+     * 入力ファイルをメモリマップで読み込むかを返す。
+     * <p>
+     * 閾値が設定され、入力ファイルが通常のファイルで、その大きさが閾値以上の場合に、メモリマップで読み込む。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param inputPath
+     *                  入力ファイルパス
+     *
+     * @return true：メモリマップで読み込む、false：入力サービスで読み込む
+     */
+    public boolean isMappedInput(final Path inputPath) {
+
+        boolean result = false;
+
+        if ((this.mmapThreshold <= 0) || (inputPath == null) || !Files.isRegularFile(inputPath)) {
+
+            return result;
+
+        }
+
+        try {
+
+            result = Files.size(inputPath) >= this.mmapThreshold;
+
+        } catch (final IOException e) {
+
+            // 大きさを取得できない場合は、入力サービスで読み込む
+            result = false;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルがgzipファイルかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：gzipファイル、false：gzipファイルでない
+     */
+    public boolean isGzipInput() {
+
+        final boolean result = GzipStreams.isGzip(this.getTargetInputPath());
+        return result;
+
+    }
+
+    /**
+     * 使用する入力ファイルパスを返す。 指定入力ファイルパスがあればそちらを使用し、なければ入力ファイルパスの指定、既定の入力ファイルパスの順に使用する。
+     * <p>
+     * 標準入力を使用する場合は、標準入力を書き出した一時ファイルのパスを返す。
+     * gzipファイルの場合は、展開した一時ファイルのパスを返す。一時ファイルは、{@link #releaseExpandedInput(KmgPfaMeasService)}で削除する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return 入力ファイルパス
+     *
+     * @throws UncheckedIOException
+     *                              標準入力の読み込み、またはgzipファイルの展開に失敗した場合
+     */
+    public Path resolveInputPath() {
+
+        final Path result = this.toPlainInputPath(this.getTargetInputPath());
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルを1行ずつ読み込む行リーダーを開く。
+     * <p>
+     * gzipファイルの場合は展開しながら読み込み、それ以外の場合はメモリマップで読み込む。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return 行リーダー
+     *
+     * @throws IOException
+     *                     入力ファイルを開けない場合
+     */
+    protected LineReader openLineReader() throws IOException {
+
+        final Path targetInputPath = this.getTargetInputPath();
+
+        if (GzipStreams.isGzip(targetInputPath)) {
+
+            final LineReader result = new GzipLineReader(targetInputPath);
+            return result;
+
+        }
+
+        final LineReader result = new MappedLineReader(this.resolveInputPath());
+        return result;
+
+    }
+
+    /**
+     * 指定入力ファイルパス、入力ファイルパスの指定、既定の入力ファイルパスの順に、使用する入力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 入力ファイルパス。標準入力を使用する場合は、「-」
+     */
+    protected Path getTargetInputPath() {
+
+        Path result = this.getRequestedInputPath();
+
+        if (result != null) {
+
+            return result;
+
+        }
+
+        result = AbstractInputTool.getInputPath();
+        return result;
+
+    }
+
+    /**
+     * 指定入力ファイルパス、入力ファイルパスの指定の順に、指定された入力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 指定された入力ファイルパス。どちらも指定されていない場合は、null
+     */
+    protected Path getRequestedInputPath() {
+
+        Path result = this.specifiedInputPath;
+
+        if (result != null) {
+
+            return result;
+
+        }
+
+        if ((this.input != null) && !this.input.isBlank()) {
+
+            result = Paths.get(this.input);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルパスを、入力サービスで読み込めるファイルのパスにする。
+     * <p>
+     * 標準入力の場合は標準入力を書き出した一時ファイルのパスを、gzipファイルの場合は展開した一時ファイルのパスを返す。 それ以外の場合は、そのまま返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param inputPath
+     *                  入力ファイルパス
+     *
+     * @return 入力サービスで読み込めるファイルのパス
+     *
+     * @throws UncheckedIOException
+     *                              標準入力の読み込み、またはgzipファイルの展開に失敗した場合
+     */
+    protected Path toPlainInputPath(final Path inputPath) {
+
+        Path result = inputPath;
+
+        try {
+
+            if (GzipStreams.isGzip(result)) {
+
+                if (this.expandedInputPath == null) {
+
+                    this.expandedInputPath = GzipStreams.expandToTemp(result);
+
+                }
+
+                result = this.expandedInputPath;
+                return result;
+
+            }
+
+            if (StandardStreams.isStandardStream(result)) {
+
+                result = StandardStreams.getStdinFile();
+
+            }
+
+        } catch (final IOException e) {
+
+            throw new UncheckedIOException(e);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * gzipファイルの入力ファイルを展開した一時ファイルを削除する。
+     * <p>
+     * 一時ファイルを使用した場合は、gzipファイルを展開せずに処理できなかったことを警告する。 一時ファイルを使用していない場合は、何もしない。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param measService
+     *                    計測サービス
+     */
+    protected void releaseExpandedInput(final KmgPfaMeasService measService) {
+
+        if (this.expandedInputPath == null) {
+
+            return;
+
+        }
+
+        final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN29000;
+        final Object[]              messageArgs = {
+            this.getTargetInputPath(),
+        };
+        final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+        measService.warn(msg);
+
+        try {
+
+            Files.deleteIfExists(this.expandedInputPath);
+
+        } catch (final IOException e) {
+
+            // 削除できなかった一時ファイルは、プロセスの終了時に削除される
+            this.expandedInputPath.toFile().deleteOnExit();
+
+        }
+
+        this.expandedInputPath = null;
+
+    }
+
+    /**
+     * 対象ファイルを上書きする前に、対象のファイルまたはディレクトリ配下の全てのファイルの状態を記録する。
+     * <p>
+     * 記録に失敗した場合は、警告を出力し、更新日時を戻さずに処理を続けられるようにnullを返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param targetPath
+     *                    対象のファイルまたはディレクトリのパス
+     * @param measService
+     *                    計測サービス
+     *
+     * @return 上書き更新ガード。更新日時を元に戻さない場合、または記録に失敗した場合は、null
+     */
+    protected InPlaceUpdateGuard snapshotTarget(final Path targetPath, final KmgPfaMeasService measService) {
+
+        final InPlaceUpdateGuard result = this.snapshotTarget(targetPath, null, measService);
+        return result;
+
+    }
+
+    /**
+     * 対象ファイルを上書きする前に、対象のファイル、またはディレクトリ配下の処理が書き込む拡張子のファイルの状態を記録する。
+     * <p>
+     * 記録に失敗した場合は、警告を出力し、更新日時を戻さずに処理を続けられるようにnullを返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param targetPath
+     *                    対象のファイルまたはディレクトリのパス
+     * @param extension
+     *                    処理が書き込むファイルの拡張子。全てのファイルを記録する場合は、null
+     * @param measService
+     *                    計測サービス
+     *
+     * @return 上書き更新ガード。更新日時を元に戻さない場合、または記録に失敗した場合は、null
+     */
+    protected InPlaceUpdateGuard snapshotTarget(final Path targetPath, final String extension,
+        final KmgPfaMeasService measService) {
+
+        InPlaceUpdateGuard result = null;
+
+        if (!this.skipUnchanged || (targetPath == null)) {
+
+            return result;
+
+        }
+
+        try {
+
+            result = InPlaceUpdateGuard.snapshot(targetPath, extension);
+
+        } catch (final IOException e) {
+
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN28002;
+            final Object[]              messageArgs = {
+                targetPath,
+            };
+            final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+            measService.warn(msg);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 対象ファイルを上書きした後に、内容が変わらなかった対象ファイルの更新日時を元に戻し、結果を出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param updateGuard
+     *                    {@link #snapshotTarget(Path, KmgPfaMeasService)}で記録した上書き更新ガード。nullの場合は、何もしない
+     * @param measService
+     *                    計測サービス
+     */
+    protected void restoreUnchanged(final InPlaceUpdateGuard updateGuard, final KmgPfaMeasService measService) {
+
+        if (updateGuard == null) {
+
+            return;
+
+        }
+
+        try {
+
+            updateGuard.restoreUnchanged();
+
+        } catch (final IOException e) {
+
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN28002;
+            final Object[]              messageArgs = {
+                updateGuard.getTargetPath(),
+            };
+            final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+            measService.warn(msg);
+
+            return;
+
+        }
+
+        final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN28001;
+        final Object[]              messageArgs = {
+            updateGuard.getChangedCount(), updateGuard.getRestoredCount(),
+        };
+        final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+        measService.info(msg);
+
+    }
+
     /**
      * 入力サービスを取得します。
      * <p>
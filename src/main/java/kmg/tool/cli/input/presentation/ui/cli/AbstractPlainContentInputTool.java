@@ -12,7 +12,7 @@ import kmg.tool.base.input.domain.service.PlainContentInputServic;
  *
  * @since 0.1.0
  *
- * @version 0.1.2
+ * @version 0.2.0
  */
 public abstract class AbstractPlainContentInputTool extends AbstractInputTool {
 
@@ -72,7 +72,7 @@ public abstract class AbstractPlainContentInputTool extends AbstractInputTool {
 
         boolean result = true;
 
-        result &= this.getInputService().initialize(AbstractInputTool.getInputPath());
+        result &= this.getInputService().initialize(inputPath);
 
         result &= this.getInputService().process();
 
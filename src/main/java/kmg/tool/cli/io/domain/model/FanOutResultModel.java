@@ -0,0 +1,69 @@
+package kmg.tool.cli.io.domain.model;
+
+import java.nio.file.Path;
+
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+
+/**
+ * ファンアウト結果モデルインタフェース<br>
+ * <p>
+ * 入力ファイルのパターンに一致したファイルの1つと、その処理結果を保持する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public interface FanOutResultModel {
+
+    /**
+     * ファイル番号を返す。
+     * <p>
+     * 入力ファイルのパスの順の1から始まる番号。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return ファイル番号
+     */
+    int getFileNo();
+
+    /**
+     * 入力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 入力ファイルパス
+     */
+    Path getInputPath();
+
+    /**
+     * 出力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 出力ファイルパス
+     */
+    Path getOutputPath();
+
+    /**
+     * 処理結果の種類を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 処理結果の種類。成功（KMGTOOLCLI_GEN09001）、失敗（KMGTOOLCLI_GEN09000）、例外発生（KMGTOOLCLI_GEN09002）のいずれか
+     */
+    KmgToolCliGenMsgTypes getResultType();
+
+    /**
+     * 発生した例外を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 発生した例外。例外が発生していない場合は、null
+     */
+    Exception getException();
+
+}
@@ -0,0 +1,156 @@
+package kmg.tool.cli.io.domain.model.impl;
+
+import java.nio.file.Path;
+
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.io.domain.model.FanOutResultModel;
+
+/**
+ * ファンアウト結果モデル<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class FanOutResultModelImpl implements FanOutResultModel {
+
+    /**
+     * ファイル番号
+     *
+     * @since 0.2.0
+     */
+    private final int fileNo;
+
+    /**
+     * 入力ファイルパス
+     *
+     * @since 0.2.0
+     */
+    private final Path inputPath;
+
+    /**
+     * 出力ファイルパス
+     *
+     * @since 0.2.0
+     */
+    private final Path outputPath;
+
+    /**
+     * 処理結果の種類
+     *
+     * @since 0.2.0
+     */
+    private final KmgToolCliGenMsgTypes resultType;
+
+    /**
+     * 発生した例外
+     *
+     * @since 0.2.0
+     */
+    private final Exception exception;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param fileNo
+     *                   ファイル番号
+     * @param inputPath
+     *                   入力ファイルパス
+     * @param outputPath
+     *                   出力ファイルパス
+     * @param resultType
+     *                   処理結果の種類
+     * @param exception
+     *                   発生した例外。例外が発生していない場合は、null
+     */
+    public FanOutResultModelImpl(final int fileNo, final Path inputPath, final Path outputPath,
+        final KmgToolCliGenMsgTypes resultType, final Exception exception) {
+
+        this.fileNo = fileNo;
+        this.inputPath = inputPath;
+        this.outputPath = outputPath;
+        this.resultType = resultType;
+        this.exception = exception;
+
+    }
+
+    /**
+     * ファイル番号を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return ファイル番号
+     */
+    @Override
+    public int getFileNo() {
+
+        final int result = this.fileNo;
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 入力ファイルパス
+     */
+    @Override
+    public Path getInputPath() {
+
+        final Path result = this.inputPath;
+        return result;
+
+    }
+
+    /**
+     * 出力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 出力ファイルパス
+     */
+    @Override
+    public Path getOutputPath() {
+
+        final Path result = this.outputPath;
+        return result;
+
+    }
+
+    /**
+     * 処理結果の種類を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 処理結果の種類
+     */
+    @Override
+    public KmgToolCliGenMsgTypes getResultType() {
+
+        final KmgToolCliGenMsgTypes result = this.resultType;
+        return result;
+
+    }
+
+    /**
+     * 発生した例外を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 発生した例外。例外が発生していない場合は、null
+     */
+    @Override
+    public Exception getException() {
+
+        final Exception result = this.exception;
+        return result;
+
+    }
+
+}
@@ -0,0 +1,13 @@
+/**
+ * 入出力ツールのモデル実装パッケージ<br>
+ * <p>
+ * 入力ファイルのパターンに一致した複数のファイルを処理した結果のモデルの実装クラスが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.io.domain.model.impl;
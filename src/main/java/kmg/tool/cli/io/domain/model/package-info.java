@@ -0,0 +1,13 @@
+/**
+ * 入出力ツールのモデルパッケージ<br>
+ * <p>
+ * 入力ファイルのパターンに一致した複数のファイルを処理した結果のモデルのインタフェースが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.io.domain.model;
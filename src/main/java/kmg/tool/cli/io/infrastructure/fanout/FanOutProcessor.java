@@ -0,0 +1,44 @@
+package kmg.tool.cli.io.infrastructure.fanout;
+
+import java.nio.file.Path;
+
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+
+/**
+ * ファンアウト処理インタフェース<br>
+ * <p>
+ * ワーカーを使用して、1つの入力ファイルを処理し、出力ファイルに書き込む。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ *
+ * @param <W>
+ *            ワーカーの型
+ */
+@FunctionalInterface
+public interface FanOutProcessor<W> {
+
+    /**
+     * 入力ファイルを処理する。
+     *
+     * @since 0.2.0
+     *
+     * @param worker
+     *                   ワーカー。処理中は他のスレッドから使用されない
+     * @param inputPath
+     *                   入力ファイルパス
+     * @param outputPath
+     *                   出力ファイルパス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     */
+    boolean process(W worker, Path inputPath, Path outputPath) throws KmgToolBaseMsgException;
+
+}
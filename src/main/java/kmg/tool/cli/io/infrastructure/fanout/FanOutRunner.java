@@ -0,0 +1,279 @@
+package kmg.tool.cli.io.infrastructure.fanout;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import kmg.core.domain.service.KmgPfaMeasService;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.io.domain.model.FanOutResultModel;
+
+/**
+ * ファンアウト実行<br>
+ * <p>
+ * 入力ファイルのパターンと出力ファイルのパターンを検証し、ワーカーを用意して、{@link FileFanOut}でパターンに一致したファイルを並列に処理する。
+ * 結果はファイルごとと全体で、計測サービスに出力する。
+ * </p>
+ * <p>
+ * ワーカーが状態を保持する場合は、2つ目以降のワーカーごとにワーカーのコンテキストを起動し、処理の終了後に閉じる。 ワーカーが状態を保持しない場合は、全てのスレッドで1つ目のワーカーを共有し、コンテキストを起動しない。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ *
+ * @param <W>
+ *            ワーカーの型
+ */
+public class FanOutRunner<W> {
+
+    /**
+     * メッセージソース
+     *
+     * @since 0.2.0
+     */
+    private final KmgMessageSource messageSource;
+
+    /**
+     * 計測サービス
+     *
+     * @since 0.2.0
+     */
+    private final KmgPfaMeasService measService;
+
+    /**
+     * コンストラクタ
+     *
+     * @since 0.2.0
+     *
+     * @param messageSource
+     *                      メッセージソース
+     * @param measService
+     *                      計測サービス
+     */
+    public FanOutRunner(final KmgMessageSource messageSource, final KmgPfaMeasService measService) {
+
+        this.messageSource = messageSource;
+        this.measService = measService;
+
+    }
+
+    /**
+     * 入力ファイルのパターンに一致したファイルを並列に処理する。
+     * <p>
+     * 並列数はファイルの数までに切り詰める。 ワーカーのコンテキストの起動に失敗した場合は、起動できた数で処理する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param inputGlob
+     *                        入力ファイルのパターン
+     * @param outputPattern
+     *                        出力ファイルのパターン
+     * @param parallelism
+     *                        並列数。0以下の場合は、CPUのコア数
+     * @param primaryWorker
+     *                        1つ目のワーカー
+     * @param contextFactory
+     *                        ワーカーのコンテキストの起動処理。nullの場合は、全てのスレッドで1つ目のワーカーを共有する
+     * @param workerResolver
+     *                        ワーカーのコンテキストからワーカーを取り出す処理
+     * @param processor
+     *                        ファンアウト処理
+     *
+     * @return true：全てのファイルが成功、false：成功しなかったファイルがある
+     *
+     * @throws IOException
+     *                     入力ファイルの検索に失敗した場合
+     */
+    public boolean run(final String inputGlob, final String outputPattern, final int parallelism, final W primaryWorker,
+        final Supplier<ConfigurableApplicationContext> contextFactory,
+        final Function<ApplicationContext, W> workerResolver, final FanOutProcessor<W> processor) throws IOException {
+
+        boolean result = false;
+
+        if (!FileFanOut.isValidOutputPattern(outputPattern)) {
+
+            this.warn(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN27001, outputPattern);
+            return result;
+
+        }
+
+        final List<Path> inputPaths = FileFanOut.findInputs(inputGlob);
+
+        if (inputPaths.isEmpty()) {
+
+            this.warn(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN27000, inputGlob);
+            return result;
+
+        }
+
+        final Path duplicateOutputPath = FileFanOut.findDuplicateOutput(inputPaths, outputPattern);
+
+        if (duplicateOutputPath != null) {
+
+            this.warn(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN27002, duplicateOutputPath);
+            return result;
+
+        }
+
+        final int requestedParallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        final int poolSize             = Math.max(1, Math.min(requestedParallelism, inputPaths.size()));
+
+        if (contextFactory == null) {
+
+            /* ワーカーの共有 */
+            final List<W>                 workers       = Collections.nCopies(poolSize, primaryWorker);
+            final List<FanOutResultModel> fanOutResults
+                = FileFanOut.execute(inputPaths, outputPattern, workers, processor);
+
+            result = this.report(fanOutResults, workers.size());
+            return result;
+
+        }
+
+        /* ワーカーの準備 */
+        final List<ConfigurableApplicationContext> workerContexts = new ArrayList<>();
+        final List<W>                              workers        = new ArrayList<>(poolSize);
+        workers.add(primaryWorker);
+
+        final List<FanOutResultModel> fanOutResults;
+
+        try {
+
+            for (int i = 1; i < poolSize; i++) {
+
+                try {
+
+                    final ConfigurableApplicationContext workerContext = contextFactory.get();
+                    workerContexts.add(workerContext);
+                    workers.add(workerResolver.apply(workerContext));
+
+                } catch (final RuntimeException e) {
+
+                    this.warn(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN27003, workers.size());
+                    break;
+
+                }
+
+            }
+
+            /* ファイルの処理 */
+            fanOutResults = FileFanOut.execute(inputPaths, outputPattern, workers, processor);
+
+        } finally {
+
+            /* ワーカーの終了 */
+            for (final ConfigurableApplicationContext workerContext : workerContexts) {
+
+                workerContext.close();
+
+            }
+
+        }
+
+        /* 結果の出力 */
+        result = this.report(fanOutResults, workers.size());
+        return result;
+
+    }
+
+    /**
+     * パターンに一致したファイルの処理の結果を、ファイルごとと全体で出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param fanOutResults
+     *                      結果のリスト
+     * @param poolSize
+     *                      並列数
+     *
+     * @return true：全てのファイルが成功、false：成功しなかったファイルがある
+     */
+    private boolean report(final List<FanOutResultModel> fanOutResults, final int poolSize) {
+
+        boolean result = false;
+
+        int successCount   = 0;
+        int failureCount   = 0;
+        int exceptionCount = 0;
+
+        for (final FanOutResultModel fanOutResult : fanOutResults) {
+
+            final KmgToolCliGenMsgTypes resultType = fanOutResult.getResultType();
+
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN27004;
+            final Object[]              messageArgs = {
+                fanOutResult.getFileNo(), fanOutResult.getInputPath(), fanOutResult.getOutputPath(),
+                this.messageSource.getGenMessage(resultType, new Object[] {}),
+            };
+            final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+
+            switch (resultType) {
+
+                case KMGTOOLCLI_GEN09001:
+                    successCount++;
+                    this.measService.info(msg);
+                    break;
+
+                case KMGTOOLCLI_GEN09000:
+                    failureCount++;
+                    this.measService.warn(msg);
+                    break;
+
+                default:
+                    exceptionCount++;
+                    this.measService.error(msg, fanOutResult.getException());
+                    break;
+
+            }
+
+        }
+
+        if ((failureCount > 0) || (exceptionCount > 0)) {
+
+            this.warn(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN27006, successCount, failureCount, exceptionCount);
+            return result;
+
+        }
+
+        final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN27005;
+        final Object[]              messageArgs = {
+            successCount, poolSize,
+        };
+        final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+        this.measService.info(msg);
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 警告のメッセージを出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param msgType
+     *                    メッセージの種類
+     * @param messageArgs
+     *                    メッセージの引数
+     */
+    private void warn(final KmgToolCliGenMsgTypes msgType, final Object... messageArgs) {
+
+        final String msg = this.messageSource.getGenMessage(msgType, messageArgs);
+        this.measService.warn(msg);
+
+    }
+
+}
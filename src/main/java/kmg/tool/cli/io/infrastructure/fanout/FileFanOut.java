@@ -0,0 +1,466 @@
+package kmg.tool.cli.io.infrastructure.fanout;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.io.domain.model.FanOutResultModel;
+import kmg.tool.cli.io.domain.model.impl.FanOutResultModelImpl;
+import kmg.tool.cli.io.infrastructure.stream.GzipStreams;
+
+/**
+ * ファイルファンアウト<br>
+ * <p>
+ * 入力ファイルのパターン（globパターン）に一致したファイルを、ワーカーの数のスレッドで並列に処理する。 ワーカーは処理中に1つのファイルが占有し、処理後に返却する。
+ * </p>
+ * <p>
+ * 出力ファイルパスは、出力ファイルのパターンの「{@value #OUTPUT_PATTERN_WILDCARD}」を入力ファイルの拡張子を除いたファイル名に置き換えて決める。
+ * 入力ファイルはパスの文字列の順に並べ、処理の完了順に関わらず、結果はその順に返す。1つのファイルが失敗しても、他のファイルの処理は続ける。
+ * </p>
+ *
+ * <pre>
+ * 入力ファイルのパターン：work/io/input/*.txt
+ * 出力ファイルのパターン：work/io/output/*.java
+ * work/io/input/UserDto.txt → work/io/output/UserDto.java
+ * </pre>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public final class FileFanOut {
+
+    /**
+     * 出力ファイルのパターンのワイルドカード
+     *
+     * @since 0.2.0
+     */
+    public static final String OUTPUT_PATTERN_WILDCARD = "*"; //$NON-NLS-1$
+
+    /**
+     * globパターンの特殊文字
+     *
+     * @since 0.2.0
+     */
+    private static final String GLOB_META_CHARS = "*?[{"; //$NON-NLS-1$
+
+    /**
+     * 任意の階層に一致するglobパターン
+     *
+     * @since 0.2.0
+     */
+    private static final String GLOB_ANY_DEPTH = "**"; //$NON-NLS-1$
+
+    /**
+     * globパターンの構文の接頭辞
+     *
+     * @since 0.2.0
+     */
+    private static final String GLOB_SYNTAX = "glob:"; //$NON-NLS-1$
+
+    /**
+     * パスの区切り文字
+     *
+     * @since 0.2.0
+     */
+    private static final char SEPARATOR = '/';
+
+    /**
+     * 拡張子の区切り文字
+     *
+     * @since 0.2.0
+     */
+    private static final char EXTENSION_SEPARATOR = '.';
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.0
+     */
+    private FileFanOut() {
+
+        // 処理なし
+    }
+
+    /**
+     * 入力ファイルのパターンに一致するファイルのパスを返す。
+     * <p>
+     * パターンの最初の特殊文字を含む階層より前をディレクトリとし、その配下を検索する。 「**」を含まない場合は、パターンの階層の深さまでしか検索しない。
+     * パターンに特殊文字を含まない場合は、そのファイルが存在すればそのパスを返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param inputPattern
+     *                     入力ファイルのパターン。区切り文字には「/」または「\」を使用できる
+     *
+     * @return 一致したファイルのパスのリスト。パスの文字列の順。一致するファイルがない場合は、空のリスト
+     *
+     * @throws IOException
+     *                     ディレクトリの検索に失敗した場合
+     */
+    public static List<Path> findInputs(final String inputPattern) throws IOException {
+
+        List<Path> result = new ArrayList<>();
+
+        final String normalized = inputPattern.replace('\\', FileFanOut.SEPARATOR);
+
+        int metaIndex = -1;
+
+        for (int i = 0; i < normalized.length(); i++) {
+
+            if (FileFanOut.GLOB_META_CHARS.indexOf(normalized.charAt(i)) >= 0) {
+
+                metaIndex = i;
+                break;
+
+            }
+
+        }
+
+        if (metaIndex < 0) {
+
+            // 特殊文字を含まない場合
+            final Path path = Paths.get(normalized);
+
+            if (Files.isRegularFile(path)) {
+
+                result.add(path);
+
+            }
+
+            return result;
+
+        }
+
+        final int    separatorIndex = normalized.lastIndexOf(FileFanOut.SEPARATOR, metaIndex);
+        final Path   baseDir        = FileFanOut.getBaseDir(normalized, separatorIndex);
+        final String relative       = normalized.substring(separatorIndex + 1);
+
+        if (!Files.isDirectory(baseDir)) {
+
+            return result;
+
+        }
+
+        final int maxDepth = relative.contains(FileFanOut.GLOB_ANY_DEPTH) ? Integer.MAX_VALUE
+            : relative.split(String.valueOf(FileFanOut.SEPARATOR)).length;
+
+        final PathMatcher matcher = FileSystems.getDefault().getPathMatcher(FileFanOut.GLOB_SYNTAX + relative);
+
+        try (final Stream<Path> paths = Files.walk(baseDir, maxDepth)) {
+
+            result = paths.filter(Files::isRegularFile).filter(path -> matcher.matches(baseDir.relativize(path)))
+                .sorted(Comparator.comparing(Path::toString)).toList();
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 出力ファイルのパターンが正しいかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param outputPattern
+     *                      出力ファイルのパターン
+     *
+     * @return true：「{@value #OUTPUT_PATTERN_WILDCARD}」を1つだけ含む、false：それ以外
+     */
+    public static boolean isValidOutputPattern(final String outputPattern) {
+
+        boolean result = false;
+
+        if (outputPattern == null) {
+
+            return result;
+
+        }
+
+        final int index = outputPattern.indexOf(FileFanOut.OUTPUT_PATTERN_WILDCARD);
+        result = (index >= 0) && (outputPattern.indexOf(FileFanOut.OUTPUT_PATTERN_WILDCARD, index + 1) < 0);
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルパスに対応する出力ファイルパスを返す。
+     * <p>
+     * 入力ファイルがgzipファイルの場合は、拡張子「.gz」とその前の拡張子を除いたファイル名を使用する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param inputPath
+     *                      入力ファイルパス
+     * @param outputPattern
+     *                      出力ファイルのパターン
+     *
+     * @return 出力ファイルパス
+     */
+    public static Path toOutputPath(final Path inputPath, final String outputPattern) {
+
+        final String fileName       = GzipStreams.stripGzipExtension(inputPath.getFileName().toString());
+        final int    extensionIndex = fileName.lastIndexOf(FileFanOut.EXTENSION_SEPARATOR);
+        final String baseName       = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+
+        final Path result = Paths.get(outputPattern.replace(FileFanOut.OUTPUT_PATTERN_WILDCARD, baseName));
+        return result;
+
+    }
+
+    /**
+     * 複数の入力ファイルが同じ出力ファイルになる場合に、その出力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param inputPaths
+     *                      入力ファイルパスのリスト
+     * @param outputPattern
+     *                      出力ファイルのパターン
+     *
+     * @return 重複した出力ファイルパス。重複がない場合は、null
+     */
+    public static Path findDuplicateOutput(final List<Path> inputPaths, final String outputPattern) {
+
+        Path result = null;
+
+        final Set<Path> outputPaths = new HashSet<>();
+
+        for (final Path inputPath : inputPaths) {
+
+            final Path outputPath = FileFanOut.toOutputPath(inputPath, outputPattern).toAbsolutePath().normalize();
+
+            if (!outputPaths.add(outputPath)) {
+
+                result = outputPath;
+                break;
+
+            }
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルを、ワーカーの数のスレッドで並列に処理する。
+     * <p>
+     * 出力ファイルの親ディレクトリがない場合は、作成する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param <W>
+     *                      ワーカーの型
+     * @param inputPaths
+     *                      入力ファイルパスのリスト
+     * @param outputPattern
+     *                      出力ファイルのパターン
+     * @param workers
+     *                      ワーカーのリスト。1つ以上
+     * @param processor
+     *                      ファンアウト処理
+     *
+     * @return 結果のリスト。入力ファイルパスのリストと同じ順
+     */
+    public static <W> List<FanOutResultModel> execute(final List<Path> inputPaths, final String outputPattern,
+        final List<W> workers, final FanOutProcessor<W> processor) {
+
+        final List<FanOutResultModel> result = new ArrayList<>(inputPaths.size());
+
+        if (inputPaths.isEmpty()) {
+
+            return result;
+
+        }
+
+        final BlockingQueue<W> workerPool = new ArrayBlockingQueue<>(workers.size(), false, workers);
+
+        final List<Future<FanOutResultModel>> futures = new ArrayList<>(inputPaths.size());
+
+        try (final ExecutorService executor = Executors.newFixedThreadPool(workers.size())) {
+
+            for (int i = 0; i < inputPaths.size(); i++) {
+
+                final int  fileNo     = i + 1;
+                final Path inputPath  = inputPaths.get(i);
+                final Path outputPath = FileFanOut.toOutputPath(inputPath, outputPattern);
+                futures.add(executor
+                    .submit(() -> FileFanOut.processFile(fileNo, inputPath, outputPath, workerPool, processor)));
+
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+
+                final Path inputPath = inputPaths.get(i);
+                result.add(FileFanOut.getFileResult(i + 1, inputPath, FileFanOut.toOutputPath(inputPath, outputPattern),
+                    futures.get(i)));
+
+            }
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * パターンの検索を始めるディレクトリを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param normalized
+     *                       区切り文字を「/」にしたパターン
+     * @param separatorIndex
+     *                       最初の特殊文字より前の最後の区切り文字の位置。ない場合は、-1
+     *
+     * @return 検索を始めるディレクトリ
+     */
+    private static Path getBaseDir(final String normalized, final int separatorIndex) {
+
+        Path result;
+
+        if (separatorIndex < 0) {
+
+            result = Paths.get("."); //$NON-NLS-1$
+            return result;
+
+        }
+
+        if (separatorIndex == 0) {
+
+            result = Paths.get(String.valueOf(FileFanOut.SEPARATOR));
+            return result;
+
+        }
+
+        result = Paths.get(normalized.substring(0, separatorIndex));
+        return result;
+
+    }
+
+    /**
+     * ワーカーを1つ借りて入力ファイルを処理し、処理後に返却する。
+     *
+     * @since 0.2.0
+     *
+     * @param <W>
+     *                   ワーカーの型
+     * @param fileNo
+     *                   ファイル番号
+     * @param inputPath
+     *                   入力ファイルパス
+     * @param outputPath
+     *                   出力ファイルパス
+     * @param workerPool
+     *                   ワーカーのプール
+     * @param processor
+     *                   ファンアウト処理
+     *
+     * @return 結果
+     *
+     * @throws Exception
+     *                   処理中に例外が発生した場合
+     */
+    private static <W> FanOutResultModel processFile(final int fileNo, final Path inputPath, final Path outputPath,
+        final BlockingQueue<W> workerPool, final FanOutProcessor<W> processor) throws Exception {
+
+        FanOutResultModel result;
+
+        final Path outputParentPath = outputPath.toAbsolutePath().getParent();
+
+        if (outputParentPath != null) {
+
+            Files.createDirectories(outputParentPath);
+
+        }
+
+        final W worker = workerPool.take();
+
+        try {
+
+            final KmgToolCliGenMsgTypes resultType = processor.process(worker, inputPath, outputPath)
+                ? KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09001
+                : KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09000;
+
+            result = new FanOutResultModelImpl(fileNo, inputPath, outputPath, resultType, null);
+
+        } finally {
+
+            workerPool.add(worker);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルの処理の完了を待ち、結果を返す。
+     * <p>
+     * 処理中に例外が発生した場合は、例外発生の結果を返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param fileNo
+     *                   ファイル番号
+     * @param inputPath
+     *                   入力ファイルパス
+     * @param outputPath
+     *                   出力ファイルパス
+     * @param future
+     *                   入力ファイルの処理
+     *
+     * @return 結果
+     */
+    private static FanOutResultModel getFileResult(final int fileNo, final Path inputPath, final Path outputPath,
+        final Future<FanOutResultModel> future) {
+
+        FanOutResultModel result;
+
+        try {
+
+            result = future.get();
+
+        } catch (final InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+            result = new FanOutResultModelImpl(fileNo, inputPath, outputPath, KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09002,
+                e);
+
+        } catch (final ExecutionException e) {
+
+            final Exception cause = e.getCause() instanceof final Exception exception ? exception : e;
+            result = new FanOutResultModelImpl(fileNo, inputPath, outputPath, KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09002,
+                cause);
+
+        }
+
+        return result;
+
+    }
+
+}
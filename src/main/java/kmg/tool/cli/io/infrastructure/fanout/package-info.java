@@ -0,0 +1,13 @@
+/**
+ * 入出力のファンアウトパッケージ<br>
+ * <p>
+ * 入力ファイルのパターンに一致した複数のファイルを、複数のワーカーで並列に処理するクラスが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.io.infrastructure.fanout;
@@ -0,0 +1,606 @@
+package kmg.tool.cli.io.infrastructure.staging;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.cli.cmn.infrastructure.output.SkipUnchangedWriter;
+import kmg.tool.cli.cmn.infrastructure.output.SkipUnchangedWriter.StagedOutput;
+import kmg.tool.cli.io.infrastructure.fanout.FanOutProcessor;
+import kmg.tool.cli.io.infrastructure.stream.GzipStreams;
+import kmg.tool.cli.io.infrastructure.stream.StandardStreams;
+
+/**
+ * 入出力ファイルのステージング<br>
+ * <p>
+ * 入出力サービスがファイルのパスを必要とする場合に、入力ファイルと出力ファイルの代わりに使用する一時ファイルを管理する。
+ * </p>
+ * <ul>
+ * <li>gzipファイルの入力ファイルは、一時ファイルに展開する。</li>
+ * <li>gzipファイルの出力ファイルは、一時ファイルに書き込み、処理の終了後に圧縮して書き込む。</li>
+ * <li>標準出力は、一時ファイルに書き込み、処理の終了後に標準出力に書き出す。</li>
+ * <li>内容が同じ出力ファイルの書き込みを省略する場合は、ステージングファイルに書き込み、内容が既存の出力ファイルと異なる場合にだけ反映する。</li>
+ * </ul>
+ * <p>
+ * 1つの入力ファイルの処理で使用する一時ファイルは、{@link #commit(Path, boolean)}で出力ファイルに反映し、{@link #release()}で削除する。 呼び出し元は、反映の後にfinallyで削除する。
+ * パターンに一致したファイルの並列処理では、{@link #processFile(Object, Path, Path, boolean, FanOutProcessor)}がファイルごとに一時ファイルを作成して削除するため、複数のスレッドから呼び出せる。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class IoFileStaging {
+
+    /**
+     * 変更なし省略ライター
+     *
+     * @since 0.2.0
+     */
+    private final SkipUnchangedWriter outputWriter;
+
+    /**
+     * 標準出力に書き出すための一時ファイルのパス
+     *
+     * @since 0.2.0
+     */
+    private Path stdoutFilePath;
+
+    /**
+     * 出力ファイルの代わりに書き込むステージングファイルのパス
+     *
+     * @since 0.2.0
+     */
+    private Path stagingOutputPath;
+
+    /**
+     * gzipファイルの入力ファイルを展開した一時ファイルのパス
+     *
+     * @since 0.2.0
+     */
+    private Path gzipInputPath;
+
+    /**
+     * gzipファイルの出力ファイルに圧縮する前の内容を書き込む一時ファイルのパス
+     *
+     * @since 0.2.0
+     */
+    private Path gzipOutputPath;
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.0
+     */
+    public IoFileStaging() {
+
+        this.outputWriter = new SkipUnchangedWriter();
+
+    }
+
+    /**
+     * 書き込んだ件数と省略した件数を0に戻す。
+     *
+     * @since 0.2.0
+     */
+    public void reset() {
+
+        this.outputWriter.reset();
+
+    }
+
+    /**
+     * 書き込んだ件数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 書き込んだ件数
+     */
+    public int getWrittenCount() {
+
+        final int result = this.outputWriter.getWrittenCount();
+        return result;
+
+    }
+
+    /**
+     * 内容が同じため書き込みを省略した件数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 省略した件数
+     */
+    public int getSkippedCount() {
+
+        final int result = this.outputWriter.getSkippedCount();
+        return result;
+
+    }
+
+    /**
+     * gzipファイルの入力ファイルを一時ファイルに展開したかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：展開した、false：展開していない
+     */
+    public boolean isGzipInputExpanded() {
+
+        final boolean result = this.gzipInputPath != null;
+        return result;
+
+    }
+
+    /**
+     * gzipファイルの出力ファイルの代わりに一時ファイルを使用したかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：使用した、false：使用していない
+     */
+    public boolean isGzipOutputBuffered() {
+
+        final boolean result = this.gzipOutputPath != null;
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルの代わりに使用するパスを返す。
+     * <p>
+     * 標準入力の場合は、標準入力を書き出した一時ファイルのパスを返す。 gzipファイルの場合は、展開した一時ファイルのパスを返す。 いずれでもない場合は、入力ファイルパスを返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param inputPath
+     *                  入力ファイルパス。標準入力の場合は、「-」
+     *
+     * @return 使用する入力ファイルパス
+     *
+     * @throws IOException
+     *                     標準入力の読み込み、またはgzipファイルの展開に失敗した場合
+     */
+    public Path resolveInputPath(final Path inputPath) throws IOException {
+
+        Path result = inputPath;
+
+        if (GzipStreams.isGzip(inputPath)) {
+
+            if (this.gzipInputPath == null) {
+
+                this.gzipInputPath = GzipStreams.expandToTemp(inputPath);
+
+            }
+
+            result = this.gzipInputPath;
+            return result;
+
+        }
+
+        if (!StandardStreams.isStandardStream(inputPath)) {
+
+            return result;
+
+        }
+
+        result = StandardStreams.getStdinFile();
+        return result;
+
+    }
+
+    /**
+     * 出力ファイルの代わりに使用するパスを返す。
+     * <p>
+     * 標準出力の場合は、標準出力に書き出す一時ファイルのパスを返す。 gzipファイルの場合は、圧縮して書き込む一時ファイルのパスを返す。
+     * 内容が同じ出力ファイルの書き込みを省略する場合は、出力ファイルと比較するステージングファイルのパスを返す。 いずれでもない場合は、出力ファイルパスを返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param outputPath
+     *                      出力ファイルパス。標準出力の場合は、「-」
+     * @param skipUnchanged
+     *                      内容が同じ出力ファイルの書き込みを省略するか
+     *
+     * @return 使用する出力ファイルパス
+     *
+     * @throws IOException
+     *                     一時ファイルの作成に失敗した場合
+     */
+    public Path resolveOutputPath(final Path outputPath, final boolean skipUnchanged) throws IOException {
+
+        Path result = outputPath;
+
+        if (GzipStreams.isGzip(outputPath)) {
+
+            if (this.gzipOutputPath == null) {
+
+                this.gzipOutputPath = GzipStreams.createTemp();
+
+            }
+
+            result = this.gzipOutputPath;
+            return result;
+
+        }
+
+        if (!StandardStreams.isStandardStream(outputPath)) {
+
+            if (!skipUnchanged) {
+
+                return result;
+
+            }
+
+            if (this.stagingOutputPath == null) {
+
+                this.stagingOutputPath = this.outputWriter.createStaging(outputPath);
+
+            }
+
+            result = this.stagingOutputPath;
+            return result;
+
+        }
+
+        if (this.stdoutFilePath == null) {
+
+            this.stdoutFilePath = StandardStreams.createStdoutFile();
+
+        }
+
+        result = this.stdoutFilePath;
+        return result;
+
+    }
+
+    /**
+     * 出力ファイルの代わりに使用した一時ファイルの内容を、出力ファイルまたは標準出力に反映する。
+     *
+     * @since 0.2.0
+     *
+     * @param outputPath
+     *                      出力ファイルパス
+     * @param skipUnchanged
+     *                      内容が同じ出力ファイルの書き込みを省略するか
+     *
+     * @throws IOException
+     *                     標準出力への書き出し、圧縮、またはステージングファイルの比較、反映に失敗した場合
+     */
+    public void commit(final Path outputPath, final boolean skipUnchanged) throws IOException {
+
+        if (this.stdoutFilePath != null) {
+
+            StandardStreams.flushStdoutFile(this.stdoutFilePath);
+
+        }
+
+        if (this.stagingOutputPath != null) {
+
+            this.outputWriter.commit(this.stagingOutputPath, outputPath);
+
+        }
+
+        if (this.gzipOutputPath != null) {
+
+            this.writeGzipOutput(this.gzipOutputPath, outputPath, skipUnchanged);
+
+        }
+
+    }
+
+    /**
+     * 入力ファイルと出力ファイルの代わりに使用した一時ファイルを削除する。
+     *
+     * @since 0.2.0
+     *
+     * @throws IOException
+     *                     一時ファイルの削除に失敗した場合
+     */
+    public void release() throws IOException {
+
+        if (this.stdoutFilePath != null) {
+
+            // 失敗して標準出力に書き出さなかった一時ファイルを削除する
+            Files.deleteIfExists(this.stdoutFilePath);
+            this.stdoutFilePath = null;
+
+        }
+
+        if (this.stagingOutputPath != null) {
+
+            this.outputWriter.discard(this.stagingOutputPath);
+            this.stagingOutputPath = null;
+
+        }
+
+        if (this.gzipInputPath != null) {
+
+            Files.deleteIfExists(this.gzipInputPath);
+            this.gzipInputPath = null;
+
+        }
+
+        if (this.gzipOutputPath != null) {
+
+            Files.deleteIfExists(this.gzipOutputPath);
+            this.gzipOutputPath = null;
+
+        }
+
+    }
+
+    /**
+     * ストリーミングの出力ファイルを開く。 出力ファイルの親ディレクトリがない場合は、作成する。
+     * <p>
+     * 内容が同じ出力ファイルの書き込みを省略する場合は、書き込みながらハッシュ値を計算するステージングの出力を開く。 呼び出し元は、出力を閉じた後に{@link #commitOutput(OutputStream)}で反映し、
+     * finallyで{@link #discardOutput(OutputStream)}を呼び出す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param outputPath
+     *                      出力ファイルパス
+     * @param skipUnchanged
+     *                      内容が同じ出力ファイルの書き込みを省略するか
+     *
+     * @return 出力ファイルの出力
+     *
+     * @throws IOException
+     *                     出力ファイルを開けない場合
+     */
+    public OutputStream openOutput(final Path outputPath, final boolean skipUnchanged) throws IOException {
+
+        if (skipUnchanged) {
+
+            final OutputStream result = this.outputWriter.openStaging(outputPath);
+            return result;
+
+        }
+
+        final Path outputParentPath = outputPath.toAbsolutePath().getParent();
+
+        if (outputParentPath != null) {
+
+            Files.createDirectories(outputParentPath);
+
+        }
+
+        final OutputStream result = Files.newOutputStream(outputPath);
+        return result;
+
+    }
+
+    /**
+     * ストリーミングの出力がステージングの出力の場合に、出力ファイルに反映する。
+     *
+     * @since 0.2.0
+     *
+     * @param output
+     *               閉じたストリーミングの出力
+     *
+     * @throws IOException
+     *                     ステージングファイルの比較、反映に失敗した場合
+     */
+    public void commitOutput(final OutputStream output) throws IOException {
+
+        if (!(output instanceof final StagedOutput stagedOutput)) {
+
+            return;
+
+        }
+
+        this.outputWriter.commit(stagedOutput);
+
+    }
+
+    /**
+     * ストリーミングの出力がステージングの出力の場合に、反映しなかったステージングファイルを削除する。
+     *
+     * @since 0.2.0
+     *
+     * @param output
+     *               ストリーミングの出力
+     *
+     * @throws IOException
+     *                     ステージングファイルの削除に失敗した場合
+     */
+    public void discardOutput(final OutputStream output) throws IOException {
+
+        if (!(output instanceof final StagedOutput stagedOutput)) {
+
+            return;
+
+        }
+
+        this.outputWriter.discard(stagedOutput.getStagingPath());
+
+    }
+
+    /**
+     * パターンに一致した1つのファイルを、一時ファイルを介して処理する。
+     * <p>
+     * gzipファイルの入力ファイルは一時ファイルに展開して処理し、gzipファイルの出力ファイルには一時ファイルに出力した内容を圧縮して書き込む。
+     * 内容が同じ出力ファイルの書き込みを省略する場合は、ステージングファイルを介して出力ファイルに反映する。 一時ファイルはファイルごとに作成し、処理の終了後に削除する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param <W>
+     *                      ワーカーの型
+     * @param worker
+     *                      ワーカー
+     * @param inputPath
+     *                      入力ファイルパス
+     * @param outputPath
+     *                      出力ファイルパス
+     * @param skipUnchanged
+     *                      内容が同じ出力ファイルの書き込みを省略するか
+     * @param processor
+     *                      ファイルの処理
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     * @throws UncheckedIOException
+     *                                 gzipファイルの展開または圧縮、ステージングファイルの作成、比較、反映に失敗した場合
+     */
+    public <W> boolean processFile(final W worker, final Path inputPath, final Path outputPath,
+        final boolean skipUnchanged, final FanOutProcessor<W> processor) throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        Path plainInputPath  = null;
+        Path plainOutputPath = null;
+
+        try {
+
+            try {
+
+                plainInputPath = GzipStreams.isGzip(inputPath) ? GzipStreams.expandToTemp(inputPath) : inputPath;
+
+                if (!GzipStreams.isGzip(outputPath)) {
+
+                    result = skipUnchanged
+                        ? this.processFileSkippingUnchanged(worker, plainInputPath, outputPath, processor)
+                        : processor.process(worker, plainInputPath, outputPath);
+                    return result;
+
+                }
+
+                plainOutputPath = GzipStreams.createTemp();
+                result = processor.process(worker, plainInputPath, plainOutputPath);
+
+                if (result) {
+
+                    this.writeGzipOutput(plainOutputPath, outputPath, skipUnchanged);
+
+                }
+
+            } finally {
+
+                if ((plainInputPath != null) && !plainInputPath.equals(inputPath)) {
+
+                    Files.deleteIfExists(plainInputPath);
+
+                }
+
+                if (plainOutputPath != null) {
+
+                    Files.deleteIfExists(plainOutputPath);
+
+                }
+
+            }
+
+        } catch (final IOException e) {
+
+            throw new UncheckedIOException(e);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * ステージングファイルに出力して処理し、内容が既存の出力ファイルと異なる場合にだけ出力ファイルに反映する。
+     *
+     * @since 0.2.0
+     *
+     * @param <W>
+     *                   ワーカーの型
+     * @param worker
+     *                   ワーカー
+     * @param inputPath
+     *                   入力ファイルパス
+     * @param outputPath
+     *                   出力ファイルパス
+     * @param processor
+     *                   ファイルの処理
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     * @throws IOException
+     *                                 ステージングファイルの作成、比較、反映に失敗した場合
+     */
+    private <W> boolean processFileSkippingUnchanged(final W worker, final Path inputPath, final Path outputPath,
+        final FanOutProcessor<W> processor) throws KmgToolBaseMsgException, IOException {
+
+        boolean result = false;
+
+        final Path stagingPath = this.outputWriter.createStaging(outputPath);
+
+        try {
+
+            result = processor.process(worker, inputPath, stagingPath);
+
+            if (result) {
+
+                this.outputWriter.commit(stagingPath, outputPath);
+
+            }
+
+        } finally {
+
+            this.outputWriter.discard(stagingPath);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 一時ファイルの内容を圧縮して、gzipファイルの出力ファイルに書き込む。
+     * <p>
+     * 内容が同じ出力ファイルの書き込みを省略する場合は、ステージングファイルに圧縮して書き込み、内容が既存の出力ファイルと異なる場合にだけ反映する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param plainPath
+     *                      圧縮前の内容を書き込んだ一時ファイルのパス
+     * @param outputPath
+     *                      出力ファイルパス
+     * @param skipUnchanged
+     *                      内容が同じ出力ファイルの書き込みを省略するか
+     *
+     * @throws IOException
+     *                     圧縮、またはステージングファイルの作成、比較、反映に失敗した場合
+     */
+    private void writeGzipOutput(final Path plainPath, final Path outputPath, final boolean skipUnchanged)
+        throws IOException {
+
+        if (!skipUnchanged) {
+
+            GzipStreams.compress(plainPath, outputPath);
+            return;
+
+        }
+
+        final Path stagingPath = this.outputWriter.createStaging(outputPath);
+
+        try {
+
+            GzipStreams.compress(plainPath, stagingPath);
+            this.outputWriter.commit(stagingPath, outputPath);
+
+        } finally {
+
+            this.outputWriter.discard(stagingPath);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,13 @@
+/**
+ * 入出力のステージングパッケージ<br>
+ * <p>
+ * 入出力サービスがファイルのパスを必要とする場合に、gzipファイル、標準入出力、ステージングファイルの代わりに使用する一時ファイルを管理するクラスが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.io.infrastructure.staging;
@@ -0,0 +1,39 @@
+package kmg.tool.cli.io.infrastructure.stream;
+
+import java.nio.file.Path;
+
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+
+/**
+ * チャンク処理インタフェース<br>
+ * <p>
+ * チャンクの入力ファイルを処理し、チャンクの出力ファイルに書き込む。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@FunctionalInterface
+public interface ChunkProcessor {
+
+    /**
+     * チャンクを処理する。
+     *
+     * @since 0.2.0
+     *
+     * @param chunkInputPath
+     *                        チャンクの入力ファイルパス
+     * @param chunkOutputPath
+     *                        チャンクの出力ファイルパス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     */
+    boolean process(Path chunkInputPath, Path chunkOutputPath) throws KmgToolBaseMsgException;
+
+}
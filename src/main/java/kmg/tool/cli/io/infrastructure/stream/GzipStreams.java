@@ -0,0 +1,275 @@
+package kmg.tool.cli.io.infrastructure.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * gzip入出力<br>
+ * <p>
+ * 拡張子が「{@value #GZIP_EXTENSION}」の入力ファイルと出力ファイルを、{@link GZIPInputStream}と{@link GZIPOutputStream}で展開しながら読み込み、圧縮しながら書き込むためのクラス。
+ * ストリームで展開と圧縮をするため、ストリーミングで処理する場合は、展開した内容の全体をディスクにもヒープにも保持しない。
+ * </p>
+ * <p>
+ * 入力ファイルパスが必要なツールのために、展開した内容を一時ファイルに書き出すメソッドと、一時ファイルの内容を圧縮して出力ファイルに書き込むメソッドも提供する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public final class GzipStreams {
+
+    /**
+     * gzipファイルの拡張子
+     *
+     * @since 0.2.0
+     */
+    public static final String GZIP_EXTENSION = ".gz"; //$NON-NLS-1$
+
+    /**
+     * 展開と圧縮のバッファサイズ
+     *
+     * @since 0.2.0
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 一時ファイルの接頭辞
+     *
+     * @since 0.2.0
+     */
+    private static final String TEMP_FILE_PREFIX = "kmg-tool-gzip"; //$NON-NLS-1$
+
+    /**
+     * 一時ファイルの接尾辞
+     *
+     * @since 0.2.0
+     */
+    private static final String TEMP_FILE_SUFFIX = ".txt"; //$NON-NLS-1$
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.0
+     */
+    private GzipStreams() {
+
+        // 処理なし
+    }
+
+    /**
+     * 指定されたパスがgzipファイルを表すかを返す。 拡張子の大文字と小文字は区別しない。
+     *
+     * @since 0.2.0
+     *
+     * @param path
+     *             パス
+     *
+     * @return true：gzipファイルを表す、false：gzipファイルを表さない、または標準入出力を表す
+     */
+    public static boolean isGzip(final Path path) {
+
+        boolean result = false;
+
+        if ((path == null) || StandardStreams.isStandardStream(path) || (path.getFileName() == null)) {
+
+            return result;
+
+        }
+
+        result = path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(GzipStreams.GZIP_EXTENSION);
+        return result;
+
+    }
+
+    /**
+     * 指定されたパスのファイル名から、拡張子「{@value #GZIP_EXTENSION}」を除いたファイル名を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param fileName
+     *                 ファイル名
+     *
+     * @return 拡張子「{@value #GZIP_EXTENSION}」を除いたファイル名。gzipファイルでない場合は、そのままのファイル名
+     */
+    public static String stripGzipExtension(final String fileName) {
+
+        String result = fileName;
+
+        if (!result.toLowerCase(Locale.ROOT).endsWith(GzipStreams.GZIP_EXTENSION)) {
+
+            return result;
+
+        }
+
+        result = result.substring(0, result.length() - GzipStreams.GZIP_EXTENSION.length());
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルを開く。 gzipファイルの場合は、展開しながら読み込む入力を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param inputPath
+     *                  入力ファイルパス
+     *
+     * @return 入力
+     *
+     * @throws IOException
+     *                     入力ファイルを開けない場合、またはgzipファイルのヘッダが不正な場合
+     */
+    public static InputStream openInput(final Path inputPath) throws IOException {
+
+        final InputStream input = Files.newInputStream(inputPath);
+
+        if (!GzipStreams.isGzip(inputPath)) {
+
+            return input;
+
+        }
+
+        try {
+
+            final InputStream result = new GZIPInputStream(input, GzipStreams.BUFFER_SIZE);
+            return result;
+
+        } catch (final IOException e) {
+
+            input.close();
+            throw e;
+
+        }
+
+    }
+
+    /**
+     * 出力ファイルパスがgzipファイルの場合に、指定された出力を圧縮しながら書き込む出力で包む。
+     * <p>
+     * 返した出力を閉じると、gzipのトレーラーを書き込んでから指定された出力を閉じる。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param outputPath
+     *                   出力ファイルパス
+     * @param output
+     *                   出力ファイルに書き込む出力
+     *
+     * @return 出力。gzipファイルでない場合は、指定された出力
+     *
+     * @throws IOException
+     *                     gzipのヘッダの書き込みに失敗した場合
+     */
+    public static OutputStream wrapOutput(final Path outputPath, final OutputStream output) throws IOException {
+
+        if (!GzipStreams.isGzip(outputPath)) {
+
+            return output;
+
+        }
+
+        final OutputStream result = new GZIPOutputStream(output, GzipStreams.BUFFER_SIZE);
+        return result;
+
+    }
+
+    /**
+     * gzipファイルを展開して一時ファイルに書き出す。
+     * <p>
+     * 入力ファイルパスが必要なツールで使用する。一時ファイルは使用後に削除すること。削除されなかった一時ファイルは、プロセスの終了時に削除する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param gzipPath
+     *                 gzipファイルのパス
+     *
+     * @return 展開した一時ファイルのパス
+     *
+     * @throws IOException
+     *                     gzipファイルの展開、または一時ファイルの書き出しに失敗した場合
+     */
+    public static Path expandToTemp(final Path gzipPath) throws IOException {
+
+        final Path result = GzipStreams.createTemp();
+
+        try (final InputStream input = GzipStreams.openInput(gzipPath)) {
+
+            Files.copy(input, result, StandardCopyOption.REPLACE_EXISTING);
+
+        } catch (final IOException e) {
+
+            Files.deleteIfExists(result);
+            throw e;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 圧縮前の内容を書き込むための一時ファイルを作成する。
+     * <p>
+     * 一時ファイルは使用後に削除すること。削除されなかった一時ファイルは、プロセスの終了時に削除する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return 一時ファイルのパス
+     *
+     * @throws IOException
+     *                     一時ファイルの作成に失敗した場合
+     */
+    public static Path createTemp() throws IOException {
+
+        final Path result = Files.createTempFile(GzipStreams.TEMP_FILE_PREFIX, GzipStreams.TEMP_FILE_SUFFIX);
+        result.toFile().deleteOnExit();
+        return result;
+
+    }
+
+    /**
+     * ファイルの内容を圧縮して、gzipファイルに書き込む。 gzipファイルの親ディレクトリがない場合は、作成する。
+     *
+     * @since 0.2.0
+     *
+     * @param plainPath
+     *                  圧縮前のファイルのパス
+     * @param gzipPath
+     *                  書き込むgzipファイルのパス
+     *
+     * @throws IOException
+     *                     読み込み、または書き込みに失敗した場合
+     */
+    public static void compress(final Path plainPath, final Path gzipPath) throws IOException {
+
+        final Path gzipParentPath = gzipPath.toAbsolutePath().getParent();
+
+        if (gzipParentPath != null) {
+
+            Files.createDirectories(gzipParentPath);
+
+        }
+
+        try (final OutputStream output = new GZIPOutputStream(Files.newOutputStream(gzipPath),
+            GzipStreams.BUFFER_SIZE)) {
+
+            Files.copy(plainPath, output);
+
+        }
+
+    }
+
+}
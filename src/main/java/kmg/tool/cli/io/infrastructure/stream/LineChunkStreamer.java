@@ -0,0 +1,392 @@
+package kmg.tool.cli.io.infrastructure.stream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+
+/**
+ * 行チャンクストリーマー<br>
+ * <p>
+ * 入力を先頭から読み込み、チャンク行数ごとに一時ファイルに書き出してチャンク処理に渡す。 チャンク処理の出力は、固定サイズのバッファを通して出力に順に追記する。
+ * 入力全体をメモリに読み込まないため、入力の大きさに関わらず使用するメモリはチャンクの大きさまでとなる。 入出力には、ファイルのほか標準入出力も使用できる。
+ * </p>
+ * <p>
+ * チャンク行数に達した後は、チャンクの区切りとして判定された行までを同じチャンクに含める。 複数行で1件のレコードとなる入力を、レコードの途中で分割しないために使用する。
+ * 改行文字は入力ファイルのまま保持する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class LineChunkStreamer {
+
+    /**
+     * 既定のチャンク行数
+     *
+     * @since 0.2.0
+     */
+    public static final int DEFAULT_CHUNK_LINES = 10000;
+
+    /**
+     * 入出力のバッファサイズ
+     *
+     * @since 0.2.0
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 一時ディレクトリの接頭辞
+     *
+     * @since 0.2.0
+     */
+    private static final String TEMP_DIR_PREFIX = "kmg-tool-stream"; //$NON-NLS-1$
+
+    /**
+     * チャンクの入力ファイル名
+     *
+     * @since 0.2.0
+     */
+    private static final String CHUNK_INPUT_FILE_NAME = "chunk-input.txt"; //$NON-NLS-1$
+
+    /**
+     * チャンクの出力ファイル名
+     *
+     * @since 0.2.0
+     */
+    private static final String CHUNK_OUTPUT_FILE_NAME = "chunk-output.txt"; //$NON-NLS-1$
+
+    /**
+     * 改行文字（LF）
+     *
+     * @since 0.2.0
+     */
+    private static final int LF = '\n';
+
+    /**
+     * チャンク行数
+     *
+     * @since 0.2.0
+     */
+    private final int chunkLines;
+
+    /**
+     * チャンクの区切りの判定
+     *
+     * @since 0.2.0
+     */
+    private final Predicate<String> chunkBoundary;
+
+    /**
+     * 処理したチャンク数
+     *
+     * @since 0.2.0
+     */
+    private int chunkCount;
+
+    /**
+     * 処理した行数
+     *
+     * @since 0.2.0
+     */
+    private long lineCount;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param chunkLines
+     *                      チャンク行数。0以下の場合は、既定のチャンク行数
+     * @param chunkBoundary
+     *                      チャンクの区切りの判定。改行文字を除いた行を受け取り、その行の後でチャンクを区切れる場合にtrueを返す
+     */
+    public LineChunkStreamer(final int chunkLines, final Predicate<String> chunkBoundary) {
+
+        this.chunkLines = chunkLines > 0 ? chunkLines : LineChunkStreamer.DEFAULT_CHUNK_LINES;
+        this.chunkBoundary = chunkBoundary;
+
+    }
+
+    /**
+     * 入力ファイルをチャンクに分けて処理し、出力ファイルに書き込む。
+     * <p>
+     * 入力ファイルが空の場合も、空のチャンクを1回処理する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param inputPath
+     *                       入力ファイルパス
+     * @param outputPath
+     *                       出力ファイルパス
+     * @param chunkProcessor
+     *                       チャンク処理
+     *
+     * @return true：成功、false：チャンク処理が失敗した
+     *
+     * @throws IOException
+     *                                 入出力に失敗した場合
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     */
+    public boolean stream(final Path inputPath, final Path outputPath, final ChunkProcessor chunkProcessor)
+        throws IOException, KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        final Path outputParentPath = outputPath.toAbsolutePath().getParent();
+
+        if (outputParentPath != null) {
+
+            Files.createDirectories(outputParentPath);
+
+        }
+
+        try (final InputStream input = Files.newInputStream(inputPath);
+            final OutputStream output = Files.newOutputStream(outputPath)) {
+
+            result = this.stream(input, output, chunkProcessor);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 入力をチャンクに分けて処理し、出力に書き込む。
+     * <p>
+     * チャンクごとに出力をフラッシュするため、出力が標準出力の場合は、入力の終わりを待たずに後続のプロセスに渡る。 入力と出力は閉じない。
+     * 入力が空の場合も、空のチャンクを1回処理する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param input
+     *                       入力
+     * @param output
+     *                       出力
+     * @param chunkProcessor
+     *                       チャンク処理
+     *
+     * @return true：成功、false：チャンク処理が失敗した
+     *
+     * @throws IOException
+     *                                 入出力に失敗した場合
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     */
+    public boolean stream(final InputStream input, final OutputStream output, final ChunkProcessor chunkProcessor)
+        throws IOException, KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        this.chunkCount = 0;
+        this.lineCount = 0;
+
+        final Path tempDir         = Files.createTempDirectory(LineChunkStreamer.TEMP_DIR_PREFIX);
+        final Path chunkInputPath  = tempDir.resolve(LineChunkStreamer.CHUNK_INPUT_FILE_NAME);
+        final Path chunkOutputPath = tempDir.resolve(LineChunkStreamer.CHUNK_OUTPUT_FILE_NAME);
+
+        final InputStream  bufferedInput  = new BufferedInputStream(input, LineChunkStreamer.BUFFER_SIZE);
+        final OutputStream bufferedOutput = new BufferedOutputStream(output, LineChunkStreamer.BUFFER_SIZE);
+
+        try {
+
+            final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+            while (true) {
+
+                final int chunkLineCount = this.writeChunk(bufferedInput, chunkInputPath, line);
+
+                if ((chunkLineCount == 0) && (this.chunkCount > 0)) {
+
+                    break;
+
+                }
+
+                Files.deleteIfExists(chunkOutputPath);
+
+                if (!chunkProcessor.process(chunkInputPath, chunkOutputPath)) {
+
+                    return result;
+
+                }
+
+                if (Files.exists(chunkOutputPath)) {
+
+                    Files.copy(chunkOutputPath, bufferedOutput);
+
+                }
+
+                bufferedOutput.flush();
+
+                this.chunkCount++;
+                this.lineCount += chunkLineCount;
+
+                if (chunkLineCount < this.chunkLines) {
+
+                    break;
+
+                }
+
+            }
+
+        } finally {
+
+            Files.deleteIfExists(chunkInputPath);
+            Files.deleteIfExists(chunkOutputPath);
+            Files.deleteIfExists(tempDir);
+
+        }
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 処理したチャンク数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 処理したチャンク数
+     */
+    public int getChunkCount() {
+
+        final int result = this.chunkCount;
+        return result;
+
+    }
+
+    /**
+     * 処理した行数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 処理した行数
+     */
+    public long getLineCount() {
+
+        final long result = this.lineCount;
+        return result;
+
+    }
+
+    /**
+     * 入力から次のチャンクを読み込み、チャンクの入力ファイルに書き込む。
+     * <p>
+     * チャンク行数に達した後は、チャンクの区切りの行まで読み込む。入力の終わりに達した場合は、チャンク行数未満で終わる。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param input
+     *                       入力
+     * @param chunkInputPath
+     *                       チャンクの入力ファイルパス
+     * @param line
+     *                       行のバッファ
+     *
+     * @return チャンクの行数
+     *
+     * @throws IOException
+     *                     入出力に失敗した場合
+     */
+    private int writeChunk(final InputStream input, final Path chunkInputPath, final ByteArrayOutputStream line)
+        throws IOException {
+
+        int result = 0;
+
+        try (final OutputStream chunkOutput = new BufferedOutputStream(Files.newOutputStream(chunkInputPath),
+            LineChunkStreamer.BUFFER_SIZE)) {
+
+            while (LineChunkStreamer.readLine(input, line)) {
+
+                line.writeTo(chunkOutput);
+                result++;
+
+                if ((result >= this.chunkLines) && this.chunkBoundary.test(LineChunkStreamer.decodeLine(line))) {
+
+                    break;
+
+                }
+
+            }
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 入力から改行文字を含む1行を読み込む。
+     *
+     * @since 0.2.0
+     *
+     * @param input
+     *              入力
+     * @param line
+     *              行のバッファ。読み込んだ行で置き換える
+     *
+     * @return true：行を読み込んだ、false：入力の終わり
+     *
+     * @throws IOException
+     *                     入出力に失敗した場合
+     */
+    private static boolean readLine(final InputStream input, final ByteArrayOutputStream line) throws IOException {
+
+        boolean result = false;
+
+        line.reset();
+
+        int b;
+
+        while ((b = input.read()) != -1) {
+
+            line.write(b);
+
+            if (b == LineChunkStreamer.LF) {
+
+                break;
+
+            }
+
+        }
+
+        result = line.size() > 0;
+        return result;
+
+    }
+
+    /**
+     * 改行文字を除いた行の文字列を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param line
+     *             行のバッファ
+     *
+     * @return 改行文字を除いた行の文字列
+     */
+    private static String decodeLine(final ByteArrayOutputStream line) {
+
+        final String result = line.toString(StandardCharsets.UTF_8).stripTrailing();
+        return result;
+
+    }
+
+}
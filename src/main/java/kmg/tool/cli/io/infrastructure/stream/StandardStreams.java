@@ -0,0 +1,336 @@
+package kmg.tool.cli.io.infrastructure.stream;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 標準入出力<br>
+ * <p>
+ * 入力ファイルパスまたは出力ファイルパスに「{@value #STANDARD_STREAM_NAME}」を指定した場合に、ファイルの代わりに標準入力または標準出力を使用するためのクラス。
+ * </p>
+ * <p>
+ * 標準出力を出力に使用する場合は、{@link #reserveStdout()}でログなどの出力を標準エラー出力に切り替え、標準出力を出力専用にする。
+ * 標準入力は1回しか読み込めないため、ファイルとして必要な場合は一時ファイルに1回だけ書き出し、同じプロセス内では同じ一時ファイルを使用する。
+ * 一時ファイルは、プロセスの終了前に{@link #releaseStdinFile()}で削除する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public final class StandardStreams {
+
+    /**
+     * 標準入出力を表すパスの名前
+     *
+     * @since 0.2.0
+     */
+    public static final String STANDARD_STREAM_NAME = "-"; //$NON-NLS-1$
+
+    /**
+     * 出力ファイルパスを指定するプロパティ名
+     *
+     * @since 0.2.0
+     */
+    public static final String OUTPUT_PROPERTY = "kmg.tool.cli.io.output"; //$NON-NLS-1$
+
+    /**
+     * 一時ファイルの接頭辞
+     *
+     * @since 0.2.0
+     */
+    private static final String TEMP_FILE_PREFIX = "kmg-tool-stdio"; //$NON-NLS-1$
+
+    /**
+     * 一時ファイルの接尾辞
+     *
+     * @since 0.2.0
+     */
+    private static final String TEMP_FILE_SUFFIX = ".txt"; //$NON-NLS-1$
+
+    /**
+     * 出力専用にした標準出力
+     * <p>
+     * {@link #reserveStdout()}を呼び出していない場合は、null
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    private static PrintStream reservedStdout;
+
+    /**
+     * 標準入力を書き出した一時ファイルのパス
+     *
+     * @since 0.2.0
+     */
+    private static Path stdinFilePath;
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.0
+     */
+    private StandardStreams() {
+
+        // 処理なし
+    }
+
+    /**
+     * 指定されたパスが標準入出力を表すかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param path
+     *             パス
+     *
+     * @return true：標準入出力を表す、false：ファイルを表す
+     */
+    public static boolean isStandardStream(final Path path) {
+
+        final boolean result = (path != null) && StandardStreams.STANDARD_STREAM_NAME.equals(path.toString());
+        return result;
+
+    }
+
+    /**
+     * 引数またはシステムプロパティで、出力に標準出力が指定されているかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param args
+     *             引数
+     *
+     * @return true：標準出力が指定されている、false：指定されていない
+     */
+    public static boolean isStdoutRequested(final String[] args) {
+
+        boolean result = StandardStreams.STANDARD_STREAM_NAME
+            .equals(System.getProperty(StandardStreams.OUTPUT_PROPERTY));
+
+        if (result || (args == null)) {
+
+            return result;
+
+        }
+
+        final String option = "--" + StandardStreams.OUTPUT_PROPERTY + "=" + StandardStreams.STANDARD_STREAM_NAME; //$NON-NLS-1$ //$NON-NLS-2$
+
+        for (final String arg : args) {
+
+            if (option.equals(arg)) {
+
+                result = true;
+                break;
+
+            }
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 標準出力を出力専用にする。
+     * <p>
+     * 以降に{@link System#out}に書き込まれるログやバナーは、標準エラー出力に出力される。 ロガーを初期化する前に呼び出すこと。2回目以降の呼び出しでは何もしない。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    public static synchronized void reserveStdout() {
+
+        if (StandardStreams.reservedStdout != null) {
+
+            return;
+
+        }
+
+        StandardStreams.reservedStdout = System.out;
+        System.setOut(System.err);
+
+    }
+
+    /**
+     * 標準出力を返す。
+     * <p>
+     * 出力専用にした標準出力があれば、そちらを返す。 返した出力を閉じても、標準出力は閉じない。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return 標準出力
+     */
+    public static synchronized OutputStream getStdout() {
+
+        final PrintStream stdout = StandardStreams.reservedStdout != null ? StandardStreams.reservedStdout : System.out;
+
+        final OutputStream result = new FilterOutputStream(stdout) {
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+
+                this.out.write(b, off, len);
+
+            }
+
+            @Override
+            public void close() throws IOException {
+
+                this.flush();
+
+            }
+
+        };
+        return result;
+
+    }
+
+    /**
+     * 標準入力を返す。
+     * <p>
+     * 返した入力を閉じても、標準入力は閉じない。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return 標準入力
+     */
+    public static InputStream getStdin() {
+
+        final InputStream result = new FilterInputStream(System.in) {
+
+            @Override
+            public void close() {
+
+                // 標準入力は閉じない
+            }
+
+        };
+        return result;
+
+    }
+
+    /**
+     * 標準入力を書き出した一時ファイルのパスを返す。
+     * <p>
+     * 初回の呼び出しで標準入力を終わりまで読み込んで一時ファイルに書き出す。一時ファイルは、{@link #releaseStdinFile()}で削除する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return 標準入力を書き出した一時ファイルのパス
+     *
+     * @throws IOException
+     *                     標準入力の読み込み、または一時ファイルの書き出しに失敗した場合
+     */
+    public static synchronized Path getStdinFile() throws IOException {
+
+        Path result = StandardStreams.stdinFilePath;
+
+        if (result != null) {
+
+            return result;
+
+        }
+
+        result = Files.createTempFile(StandardStreams.TEMP_FILE_PREFIX, StandardStreams.TEMP_FILE_SUFFIX);
+
+        try (final InputStream stdin = StandardStreams.getStdin()) {
+
+            Files.copy(stdin, result, StandardCopyOption.REPLACE_EXISTING);
+
+        } catch (final IOException e) {
+
+            Files.deleteIfExists(result);
+            throw e;
+
+        }
+
+        StandardStreams.stdinFilePath = result;
+        return result;
+
+    }
+
+    /**
+     * 標準入力を書き出した一時ファイルを削除する。 一時ファイルを作成していない場合は、何もしない。
+     *
+     * @since 0.2.0
+     *
+     * @throws IOException
+     *                     一時ファイルの削除に失敗した場合
+     */
+    public static synchronized void releaseStdinFile() throws IOException {
+
+        final Path stdinFile = StandardStreams.stdinFilePath;
+
+        if (stdinFile == null) {
+
+            return;
+
+        }
+
+        StandardStreams.stdinFilePath = null;
+        Files.deleteIfExists(stdinFile);
+
+    }
+
+    /**
+     * 標準出力に書き出すための一時ファイルを作成する。
+     * <p>
+     * 一時ファイルは、{@link #flushStdoutFile(Path)}で削除する。 書き出さない場合は、呼び出し元が削除する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return 一時ファイルのパス
+     *
+     * @throws IOException
+     *                     一時ファイルの作成に失敗した場合
+     */
+    public static Path createStdoutFile() throws IOException {
+
+        final Path result = Files.createTempFile(StandardStreams.TEMP_FILE_PREFIX, StandardStreams.TEMP_FILE_SUFFIX);
+        return result;
+
+    }
+
+    /**
+     * 一時ファイルの内容を標準出力に書き出し、一時ファイルを削除する。
+     *
+     * @since 0.2.0
+     *
+     * @param stdoutFilePath
+     *                       一時ファイルのパス
+     *
+     * @throws IOException
+     *                     書き出しに失敗した場合
+     */
+    public static void flushStdoutFile(final Path stdoutFilePath) throws IOException {
+
+        try (final OutputStream stdout = StandardStreams.getStdout()) {
+
+            if (Files.exists(stdoutFilePath)) {
+
+                Files.copy(stdoutFilePath, stdout);
+
+            }
+
+        } finally {
+
+            Files.deleteIfExists(stdoutFilePath);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,13 @@
+/**
+ * 入出力のストリーミングパッケージ<br>
+ * <p>
+ * 入力ファイルを行単位のチャンクに分けて処理し、チャンクごとの出力を出力ファイルに書き込むクラスと、ファイルの代わりに標準入出力を使用するためのクラスが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.io.infrastructure.stream;
@@ -1,16 +1,34 @@
 package kmg.tool.cli.io.presentation.ui.cli;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.util.ClassUtils;
 
 import kmg.core.domain.service.KmgPfaMeasService;
 import kmg.core.domain.service.impl.KmgPfaMeasServiceImpl;
 import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.io.domain.service.IoService;
+import kmg.tool.cli.cmn.infrastructure.context.KmgToolCliWorkerApplication;
 import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
 import kmg.tool.cli.cmn.presentation.ui.cli.AbstractTool;
+import kmg.tool.cli.io.infrastructure.fanout.FanOutProcessor;
+import kmg.tool.cli.io.infrastructure.fanout.FanOutRunner;
+import kmg.tool.cli.io.infrastructure.staging.IoFileStaging;
+import kmg.tool.cli.io.infrastructure.stream.GzipStreams;
+import kmg.tool.cli.io.infrastructure.stream.LineChunkStreamer;
+import kmg.tool.cli.io.infrastructure.stream.StandardStreams;
 
 /**
  * 入出力ツール抽象クラス
@@ -22,6 +40,28 @@ import kmg.tool.cli.cmn.presentation.ui.cli.AbstractTool;
  * <li>work/ioディレクトリが存在しない場合：src/main/resources/tool/io/[input|output].txt</li>
  * </ol>
  * <p>
+ * 「--kmg.tool.cli.io.streaming=true」を指定すると、ストリーミングに対応したツールは入力ファイルをチャンク行数（「--kmg.tool.cli.io.chunk-lines=行数」）ごとに分けて処理し、
+ * チャンクごとの出力を出力ファイルに順に書き込む。入力ファイルの大きさに関わらず、使用するメモリはチャンクの大きさまでとなる。
+ * </p>
+ * <p>
+ * 「--kmg.tool.cli.io.input=パス」「--kmg.tool.cli.io.output=パス」で入力ファイルと出力ファイルを指定できる。パスに「-」を指定すると、標準入力から読み込み、標準出力に書き込む。
+ * 標準入出力を使用する場合、ストリーミングに対応したツールはチャンクごとに標準出力に書き込むため、「fldcrt | acccrt」のように一時ファイルを介さずにツールをつなげられる。
+ * </p>
+ * <p>
+ * 「--kmg.tool.cli.io.input-glob=パターン」「--kmg.tool.cli.io.output-pattern=パターン」を指定すると、入力ファイルのパターンに一致した全てのファイルを、
+ * 並列数（「--kmg.tool.cli.io.parallelism=並列数」。既定はCPUのコア数）のスレッドで並列に処理する。結果はファイルごとに、入力ファイルのパスの順に出力する。
+ * 入出力サービスは状態を保持するため、スレッドごとにこのツールのクラスでワーカーのコンテキストを起動して、それぞれの入出力サービスを使用する。
+ * 並列処理は{@link FanOutRunner}、一時ファイルとステージングファイルは{@link IoFileStaging}が扱う。
+ * </p>
+ * <p>
+ * 出力ファイルは、出力ファイルと同じディレクトリのステージングファイルに書き込み、内容が既存の出力ファイルと同じ場合は書き込みを省略する。
+ * 異なる場合は、ステージングファイルを出力ファイルにアトミックに置き換える。「--kmg.tool.cli.output.skip-unchanged=false」で、常に書き込む。
+ * </p>
+ * <p>
+ * 入力ファイルまたは出力ファイルの拡張子が「.gz」の場合は、gzipファイルとして展開しながら読み込み、圧縮しながら書き込む。 ストリーミングに対応したツールは常にストリーミングで処理するため、展開した内容の全体をディスクにもヒープにも保持しない。
+ * ストリーミングに対応していないツールと、パターンに一致したファイルの並列処理では、入出力サービスがファイルのパスを必要とするため、一時ファイルに展開して処理する。
+ * </p>
+ * <p>
  * 使用例：
  * </p>
  *
@@ -50,7 +90,7 @@ import kmg.tool.cli.cmn.presentation.ui.cli.AbstractTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.1
+ * @version 0.2.0
  */
 public abstract class AbstractIoTool extends AbstractTool {
 
@@ -90,6 +130,14 @@ public abstract class AbstractIoTool extends AbstractTool {
     @Autowired
     private KmgMessageSource messageSource;
 
+    /**
+     * アプリケーションの起動引数
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private ApplicationArguments applicationArguments;
+
     /**
      * ツール名
      *
@@ -97,6 +145,112 @@ public abstract class AbstractIoTool extends AbstractTool {
      */
     private final String toolName;
 
+    /**
+     * 指定入力ファイルパス
+     * <p>
+     * 指定されていない場合は、{@link #getInputPath()}の既定のパスを使用する。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    private Path specifiedInputPath;
+
+    /**
+     * 指定出力ファイルパス
+     * <p>
+     * 指定されていない場合は、{@link #getOutputPath()}の既定のパスを使用する。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    private Path specifiedOutputPath;
+
+    /**
+     * 入力ファイルパスの指定
+     * <p>
+     * 「-」の場合は、標準入力を使用する。空の場合は、既定の入力ファイルパスを使用する。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.io.input:}")
+    private String input;
+
+    /**
+     * 出力ファイルパスの指定
+     * <p>
+     * 「-」の場合は、標準出力を使用する。空の場合は、既定の出力ファイルパスを使用する。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.io.output:}")
+    private String output;
+
+    /**
+     * ストリーミングの指定
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.io.streaming:false}")
+    private boolean streaming;
+
+    /**
+     * ストリーミングのチャンク行数
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.io.chunk-lines:" + LineChunkStreamer.DEFAULT_CHUNK_LINES + "}")
+    private int chunkLines;
+
+    /**
+     * 入力ファイルのパターン
+     * <p>
+     * 指定されている場合は、パターンに一致した全てのファイルを並列に処理する。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.io.input-glob:}")
+    private String inputGlob;
+
+    /**
+     * 出力ファイルのパターン
+     * <p>
+     * 「*」を入力ファイルの拡張子を除いたファイル名に置き換えて、出力ファイルパスとする。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.io.output-pattern:}")
+    private String outputPattern;
+
+    /**
+     * 並列数
+     * <p>
+     * 0以下の場合は、CPUのコア数とする。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.io.parallelism:0}")
+    private int parallelism;
+
+    /**
+     * 内容が同じ出力ファイルの書き込みを省略するかの指定
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.output.skip-unchanged:true}")
+    private boolean skipUnchanged;
+
+    /**
+     * 入出力ファイルのステージング
+     *
+     * @since 0.2.0
+     */
+    private final IoFileStaging fileStaging;
+
     /**
      * 基準パスを返す。
      *
@@ -218,6 +372,321 @@ public abstract class AbstractIoTool extends AbstractTool {
     public AbstractIoTool(final String toolName) {
 
         this.toolName = toolName;
+        this.fileStaging = new IoFileStaging();
+
+    }
+
+    /**
+     * 指定入力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 指定入力ファイルパス。指定されていない場合は、null
+     */
+    public Path getSpecifiedInputPath() {
+
+        final Path result = this.specifiedInputPath;
+        return result;
+
+    }
+
+    /**
+     * 指定入力ファイルパスを設定する。
+     * <p>
+     * nullを設定すると、既定の入力ファイルパスに戻る。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param specifiedInputPath
+     *                           指定入力ファイルパス
+     */
+    public void setSpecifiedInputPath(final Path specifiedInputPath) {
+
+        this.specifiedInputPath = specifiedInputPath;
+
+    }
+
+    /**
+     * 指定出力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 指定出力ファイルパス。指定されていない場合は、null
+     */
+    public Path getSpecifiedOutputPath() {
+
+        final Path result = this.specifiedOutputPath;
+        return result;
+
+    }
+
+    /**
+     * 指定出力ファイルパスを設定する。
+     * <p>
+     * nullを設定すると、既定の出力ファイルパスに戻る。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param specifiedOutputPath
+     *                            指定出力ファイルパス
+     */
+    public void setSpecifiedOutputPath(final Path specifiedOutputPath) {
+
+        this.specifiedOutputPath = specifiedOutputPath;
+
+    }
+
+    /**
+     * 入力ファイルパスの指定を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param input
+     *              入力ファイルパスの指定。「-」の場合は、標準入力
+     */
+    public void setInput(final String input) {
+
+        this.input = input;
+
+    }
+
+    /**
+     * 出力ファイルパスの指定を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param output
+     *               出力ファイルパスの指定。「-」の場合は、標準出力
+     */
+    public void setOutput(final String output) {
+
+        this.output = output;
+
+    }
+
+    /**
+     * 入力に標準入力を使用するかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：標準入力を使用する、false：入力ファイルを使用する
+     */
+    public boolean isStandardInput() {
+
+        final boolean result = StandardStreams.isStandardStream(this.getTargetInputPath());
+        return result;
+
+    }
+
+    /**
+     * 出力に標準出力を使用するかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：標準出力を使用する、false：出力ファイルを使用する
+     */
+    public boolean isStandardOutput() {
+
+        final boolean result = StandardStreams.isStandardStream(this.getTargetOutputPath());
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルまたは出力ファイルにgzipファイルを使用するかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：gzipファイルを使用する、false：使用しない
+     */
+    public boolean isGzip() {
+
+        final boolean result = GzipStreams.isGzip(this.getTargetInputPath())
+            || GzipStreams.isGzip(this.getTargetOutputPath());
+        return result;
+
+    }
+
+    /**
+     * ストリーミングで処理するかを返す。
+     * <p>
+     * ストリーミングが指定されているか、標準入出力またはgzipファイルを使用し、かつツールがストリーミングに対応している場合に、ストリーミングで処理する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：ストリーミングで処理する、false：入力ファイル全体を処理する
+     */
+    public boolean isStreaming() {
+
+        final boolean result
+            = (this.streaming || this.isStandardInput() || this.isStandardOutput() || this.isGzip())
+                && this.isStreamingSupported();
+        return result;
+
+    }
+
+    /**
+     * ストリーミングの指定を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param streaming
+     *                  true：ストリーミングを指定する、false：指定しない
+     */
+    public void setStreaming(final boolean streaming) {
+
+        this.streaming = streaming;
+
+    }
+
+    /**
+     * ストリーミングのチャンク行数を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param chunkLines
+     *                   チャンク行数。0以下の場合は、既定のチャンク行数
+     */
+    public void setChunkLines(final int chunkLines) {
+
+        this.chunkLines = chunkLines;
+
+    }
+
+    /**
+     * 入力ファイルのパターンを設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param inputGlob
+     *                  入力ファイルのパターン。空の場合は、パターンに一致したファイルの並列処理をしない
+     */
+    public void setInputGlob(final String inputGlob) {
+
+        this.inputGlob = inputGlob;
+
+    }
+
+    /**
+     * 出力ファイルのパターンを設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param outputPattern
+     *                      出力ファイルのパターン。「*」を1つだけ含む
+     */
+    public void setOutputPattern(final String outputPattern) {
+
+        this.outputPattern = outputPattern;
+
+    }
+
+    /**
+     * 並列数を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param parallelism
+     *                    並列数。0以下の場合は、CPUのコア数
+     */
+    public void setParallelism(final int parallelism) {
+
+        this.parallelism = parallelism;
+
+    }
+
+    /**
+     * 内容が同じ出力ファイルの書き込みを省略するかを設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param skipUnchanged
+     *                      true：省略する、false：常に書き込む
+     */
+    public void setSkipUnchanged(final boolean skipUnchanged) {
+
+        this.skipUnchanged = skipUnchanged;
+
+    }
+
+    /**
+     * 入力ファイルのパターンに一致したファイルを並列に処理するかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：パターンに一致したファイルを並列に処理する、false：1つの入力ファイルを処理する
+     */
+    public boolean isFanOut() {
+
+        final boolean result = (this.inputGlob != null) && !this.inputGlob.isBlank();
+        return result;
+
+    }
+
+    /**
+     * 使用する入力ファイルパスを返す。 指定入力ファイルパスがあればそちらを使用し、なければ入力ファイルパスの指定、既定の入力ファイルパスの順に使用する。
+     * <p>
+     * 標準入力を使用する場合は、標準入力を書き出した一時ファイルのパスを返す。 gzipファイルの場合は、展開した一時ファイルのパスを返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return 入力ファイルパス
+     *
+     * @throws UncheckedIOException
+     *                              標準入力の読み込み、またはgzipファイルの展開に失敗した場合
+     */
+    public Path resolveInputPath() {
+
+        Path result;
+
+        try {
+
+            result = this.fileStaging.resolveInputPath(this.getTargetInputPath());
+
+        } catch (final IOException e) {
+
+            throw new UncheckedIOException(e);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 使用する出力ファイルパスを返す。 指定出力ファイルパスがあればそちらを使用し、なければ出力ファイルパスの指定、既定の出力ファイルパスの順に使用する。
+     * <p>
+     * 標準出力を使用する場合は、処理の終了後に標準出力に書き出す一時ファイルのパスを返す。
+     * gzipファイルの場合は、処理の終了後に圧縮して出力ファイルに書き込む一時ファイルのパスを返す。
+     * 内容が同じ出力ファイルの書き込みを省略する場合は、処理の終了後に出力ファイルと比較するステージングファイルのパスを返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return 出力ファイルパス
+     *
+     * @throws UncheckedIOException
+     *                              一時ファイルの作成に失敗した場合
+     */
+    public Path resolveOutputPath() {
+
+        Path result;
+
+        try {
+
+            result = this.fileStaging.resolveOutputPath(this.getTargetOutputPath(), this.skipUnchanged);
+
+        } catch (final IOException e) {
+
+            throw new UncheckedIOException(e);
+
+        }
+
+        return result;
 
     }
 
@@ -233,6 +702,8 @@ public abstract class AbstractIoTool extends AbstractTool {
 
         boolean result = false;
 
+        final StartupStep executeStep = this.startExecuteStep();
+
         final KmgPfaMeasService measService = new KmgPfaMeasServiceImpl(this.toolName);
 
         try {
@@ -241,7 +712,8 @@ public abstract class AbstractIoTool extends AbstractTool {
             measService.start();
 
             /* 処理 */
-            final boolean processResult = this.getIoService().process();
+            final boolean processResult = this.process(measService);
+            this.reportSkipUnchanged(measService);
 
             if (!processResult) {
 
@@ -278,6 +750,7 @@ public abstract class AbstractIoTool extends AbstractTool {
             /* 終了 */
 
             measService.end();
+            executeStep.end();
 
         }
 
@@ -286,12 +759,532 @@ public abstract class AbstractIoTool extends AbstractTool {
     }
 
     /**
-     * 入出力サービスを返す。
+     * 指定された処理の方法で処理できるかを返す。
+     * <p>
+     * 出力ファイルに書き込む前に呼び出す。 処理できない場合は、何も出力せずに失敗とする。 処理できない組み合わせの指定があるツールは、オーバーライドする。
+     * </p>
      *
-     * @since 0.1.0
+     * @since 0.2.0
      *
-     * @return 入出力サービス
+     * @return true：処理できる、false：処理できない
      */
-    protected abstract IoService getIoService();
+    protected boolean isProcessable() {
+
+        final boolean result = true;
+        return result;
+
+    }
+
+    /**
+     * ツールがストリーミングに対応しているかを返す。
+     * <p>
+     * 入力ファイルをチャンクに分けて処理しても、チャンクごとの出力を連結した結果が入力ファイル全体を処理した結果と同じになるツールは、trueを返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：対応している、false：対応していない
+     */
+    protected boolean isStreamingSupported() {
+
+        final boolean result = false;
+        return result;
+
+    }
+
+    /**
+     * 指定された行の後でチャンクを区切れるかを返す。
+     * <p>
+     * 複数行で1件のレコードとなるツールは、レコードの最終行の場合にのみtrueを返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param line
+     *             改行文字を除いた行
+     *
+     * @return true：区切れる、false：区切れない
+     */
+    protected boolean isChunkBoundary(final String line) {
+
+        final boolean result = true;
+        return result;
+
+    }
+
+    /**
+     * チャンクを処理する。
+     * <p>
+     * チャンクの入力ファイルと出力ファイルで、このツールの入出力サービスを使用して{@link #processFile(IoService, Path, Path)}を呼び出す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param chunkInputPath
+     *                        チャンクの入力ファイルパス
+     * @param chunkOutputPath
+     *                        チャンクの出力ファイルパス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     */
+    protected boolean processChunk(final Path chunkInputPath, final Path chunkOutputPath)
+        throws KmgToolBaseMsgException {
+
+        final boolean result = this.processFile(this.getIoService(), chunkInputPath, chunkOutputPath);
+        return result;
+
+    }
+
+    /**
+     * 指定された入出力サービスで、入力ファイルを処理して出力ファイルに書き込む。
+     * <p>
+     * ストリーミングのチャンクと、パターンに一致したファイルの並列処理で使用する。 ファイルごとに処理できるツールは、入出力サービスを入力ファイルと出力ファイルで初期化して処理する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param ioService
+     *                   入出力サービス。{@link #getIoService()}と同じクラスで、処理中は他のスレッドから使用されない
+     * @param inputPath
+     *                   入力ファイルパス
+     * @param outputPath
+     *                   出力ファイルパス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     */
+    protected boolean processFile(final IoService ioService, final Path inputPath, final Path outputPath)
+        throws KmgToolBaseMsgException {
+
+        final boolean result = false;
+        return result;
+
+    }
+
+    /**
+     * 入力ファイル全体を処理する。
+     * <p>
+     * ストリーミングと並列処理のいずれでもない場合に呼び出す。 初期化済みの入出力サービスで処理する。
+     * 入出力サービスを使用せずに、{@link #resolveInputPath()}と{@link #resolveOutputPath()}で処理するツールは、オーバーライドする。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     */
+    protected boolean processWholeFile() throws KmgToolBaseMsgException {
+
+        final boolean result = this.getIoService().process();
+        return result;
+
+    }
+
+    /**
+     * パターンに一致したファイルの並列処理で、スレッドごとにワーカーのコンテキストが必要かを返す。
+     * <p>
+     * {@link #processFile(IoService, Path, Path)}が入出力サービスを使用せず、読み取り専用の状態だけで処理するツールは、falseを返す。
+     * falseの場合は、ワーカーのコンテキストを起動せずに、全てのスレッドでこのツールを共有する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：必要、false：不要
+     */
+    protected boolean isWorkerContextRequired() {
+
+        final boolean result = true;
+        return result;
+
+    }
+
+    /**
+     * ワーカーのコンテキストを起動できるかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：起動できる、false：起動できない
+     */
+    protected boolean isWorkerContextAvailable() {
+
+        final boolean result = KmgToolCliWorkerApplication.isContextAvailable();
+        return result;
+
+    }
+
+    /**
+     * ワーカーのコンテキストを起動する。
+     * <p>
+     * このツールのクラスを起点に起動するため、コンポーネントの検索対象はツール単体で起動した場合と同じになる。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return ワーカーのコンテキスト
+     */
+    protected ConfigurableApplicationContext createWorkerContext() {
+
+        final ConfigurableApplicationContext result = KmgToolCliWorkerApplication
+            .createContext(ClassUtils.getUserClass(this.getClass()), this.applicationArguments);
+        return result;
+
+    }
+
+    /**
+     * 入出力サービスを返す。
+     *
+     * @since 0.1.0
+     *
+     * @return 入出力サービス
+     */
+    protected abstract IoService getIoService();
+
+    /**
+     * 入出力サービスで処理する。
+     * <p>
+     * ストリーミングで処理する場合は、入力ファイルをチャンクに分けて処理する。 ストリーミングが指定されていても、ツールが対応していない場合は入力ファイル全体を処理する。
+     * 入力ファイル全体を処理した場合に標準出力を使用するときは、処理の終了後に出力を標準出力に書き出す。
+     * 指定された処理の方法で処理できない場合は、何も出力せずに失敗とする。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param measService
+     *                    計測サービス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     * @throws IOException
+     *                                 ストリーミングの入出力に失敗した場合
+     */
+    private boolean process(final KmgPfaMeasService measService) throws KmgToolBaseMsgException, IOException {
+
+        boolean result;
+
+        this.fileStaging.reset();
+
+        if (!this.isProcessable()) {
+
+            result = false;
+            return result;
+
+        }
+
+        if (this.isFanOut()) {
+
+            result = this.processFanOut(measService);
+            return result;
+
+        }
+
+        if (!this.isStreaming()) {
+
+            if (this.streaming) {
+
+                final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN25000;
+                final Object[]              messageArgs = {};
+                final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+                measService.warn(msg);
+
+            }
+
+            try {
+
+                result = this.processWholeFile();
+
+                if (result) {
+
+                    this.fileStaging.commit(this.getTargetOutputPath(), this.skipUnchanged);
+
+                }
+
+            } finally {
+
+                this.warnGzipNotStreamed(measService);
+                this.fileStaging.release();
+
+            }
+
+            return result;
+
+        }
+
+        final LineChunkStreamer streamer = new LineChunkStreamer(this.chunkLines, this::isChunkBoundary);
+
+        final OutputStream streamingOutput = this.openStreamingOutput();
+
+        try {
+
+            try (final OutputStream targetOutput = streamingOutput;
+                final OutputStream streamOutput = GzipStreams.wrapOutput(this.getTargetOutputPath(), targetOutput);
+                final InputStream streamInput = this.openStreamingInput()) {
+
+                result = streamer.stream(streamInput, streamOutput, this::processChunk);
+
+            }
+
+            if (result) {
+
+                this.fileStaging.commitOutput(streamingOutput);
+
+            }
+
+        } finally {
+
+            // 失敗して反映しなかったステージングファイルを削除する
+            this.fileStaging.discardOutput(streamingOutput);
+
+        }
+
+        final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN25001;
+        final Object[]              messageArgs = {
+            streamer.getChunkCount(), streamer.getLineCount(),
+        };
+        final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+        measService.info(msg);
+
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルのパターンに一致したファイルを並列に処理する。
+     * <p>
+     * 1つ目のワーカーにはこのツールの入出力サービスを使用し、2つ目以降はワーカーのコンテキストの入出力サービスを使用する。
+     * ワーカーのコンテキストが不要なツールは、全てのワーカーでこのツールの入出力サービスを使用する。
+     * ワーカーのコンテキストが必要でも起動できない場合は、このツールの入出力サービスだけで、ファイルを1つずつ処理する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param measService
+     *                    計測サービス
+     *
+     * @return true：全てのファイルが成功、false：成功しなかったファイルがある
+     *
+     * @throws IOException
+     *                     入力ファイルの検索に失敗した場合
+     */
+    private boolean processFanOut(final KmgPfaMeasService measService) throws IOException {
+
+        final Class<?> toolClass = ClassUtils.getUserClass(this.getClass());
+
+        final FanOutRunner<IoService>    runner    = new FanOutRunner<>(this.messageSource, measService);
+        final FanOutProcessor<IoService> processor = (ioService, inputPath, outputPath) -> this.fileStaging
+            .processFile(ioService, inputPath, outputPath, this.skipUnchanged, this::processFile);
+
+        int                                      fanOutParallelism = this.parallelism;
+        Supplier<ConfigurableApplicationContext> contextFactory    = null;
+
+        if (this.isWorkerContextRequired()) {
+
+            contextFactory = this::createWorkerContext;
+
+            if (!this.isWorkerContextAvailable()) {
+
+                final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN27007;
+                final Object[]              messageArgs = {
+                    this.parallelism,
+                };
+                final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+                measService.warn(msg);
+
+                fanOutParallelism = 1;
+                contextFactory = null;
+
+            }
+
+        }
+
+        final boolean result = runner.run(this.inputGlob, this.outputPattern, fanOutParallelism, this.getIoService(),
+            contextFactory, workerContext -> ((AbstractIoTool) workerContext.getBean(toolClass)).getIoService(),
+            processor);
+        return result;
+
+    }
+
+    /**
+     * gzipファイルを一時ファイルに展開した場合と、圧縮する前の内容を一時ファイルに書き込んだ場合に、ストリーミングで処理できなかったことを警告する。
+     *
+     * @since 0.2.0
+     *
+     * @param measService
+     *                    計測サービス
+     */
+    private void warnGzipNotStreamed(final KmgPfaMeasService measService) {
+
+        if (this.fileStaging.isGzipInputExpanded()) {
+
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN29000;
+            final Object[]              messageArgs = {
+                this.getTargetInputPath(),
+            };
+            final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+            measService.warn(msg);
+
+        }
+
+        if (this.fileStaging.isGzipOutputBuffered()) {
+
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN29000;
+            final Object[]              messageArgs = {
+                this.getTargetOutputPath(),
+            };
+            final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+            measService.warn(msg);
+
+        }
+
+    }
+
+    /**
+     * 内容が同じ出力ファイルの書き込みを省略した場合に、書き込んだ件数と省略した件数を出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param measService
+     *                    計測サービス
+     */
+    private void reportSkipUnchanged(final KmgPfaMeasService measService) {
+
+        final int writtenCount = this.fileStaging.getWrittenCount();
+        final int skippedCount = this.fileStaging.getSkippedCount();
+
+        if ((writtenCount + skippedCount) == 0) {
+
+            return;
+
+        }
+
+        final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN28000;
+        final Object[]              messageArgs = {
+            writtenCount, skippedCount,
+        };
+        final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+        measService.info(msg);
+
+    }
+
+    /**
+     * 指定入力ファイルパス、入力ファイルパスの指定、既定の入力ファイルパスの順に、使用する入力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 入力ファイルパス。標準入力を使用する場合は、「-」
+     */
+    private Path getTargetInputPath() {
+
+        Path result = this.specifiedInputPath;
+
+        if (result != null) {
+
+            return result;
+
+        }
+
+        if ((this.input != null) && !this.input.isBlank()) {
+
+            result = Paths.get(this.input);
+            return result;
+
+        }
+
+        result = AbstractIoTool.getInputPath();
+        return result;
+
+    }
+
+    /**
+     * 指定出力ファイルパス、出力ファイルパスの指定、既定の出力ファイルパスの順に、使用する出力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 出力ファイルパス。標準出力を使用する場合は、「-」
+     */
+    private Path getTargetOutputPath() {
+
+        Path result = this.specifiedOutputPath;
+
+        if (result != null) {
+
+            return result;
+
+        }
+
+        if ((this.output != null) && !this.output.isBlank()) {
+
+            result = Paths.get(this.output);
+            return result;
+
+        }
+
+        result = AbstractIoTool.getOutputPath();
+        return result;
+
+    }
+
+    /**
+     * ストリーミングの入力を開く。
+     *
+     * @since 0.2.0
+     *
+     * @return 標準入力または入力ファイルの入力。gzipファイルの場合は、展開しながら読み込む入力
+     *
+     * @throws IOException
+     *                     入力ファイルを開けない場合
+     */
+    private InputStream openStreamingInput() throws IOException {
+
+        final Path inputPath = this.getTargetInputPath();
+
+        if (StandardStreams.isStandardStream(inputPath)) {
+
+            final InputStream result = StandardStreams.getStdin();
+            return result;
+
+        }
+
+        final InputStream result = GzipStreams.openInput(inputPath);
+        return result;
+
+    }
+
+    /**
+     * ストリーミングの出力を開く。 出力ファイルの親ディレクトリがない場合は、作成する。
+     * <p>
+     * 内容が同じ出力ファイルの書き込みを省略する場合は、書き込みながらハッシュ値を計算するステージングの出力を開く。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return 標準出力または出力ファイルの出力
+     *
+     * @throws IOException
+     *                     出力ファイルを開けない場合
+     */
+    private OutputStream openStreamingOutput() throws IOException {
+
+        final Path outputPath = this.getTargetOutputPath();
+
+        if (StandardStreams.isStandardStream(outputPath)) {
+
+            final OutputStream result = StandardStreams.getStdout();
+            return result;
+
+        }
+
+        final OutputStream result = this.fileStaging.openOutput(outputPath, this.skipUnchanged);
+        return result;
+
+    }
 
 }
@@ -3,9 +3,9 @@ package kmg.tool.cli.jdocr.presentation.ui.cli;
 import java.nio.file.Path;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
 
 import kmg.core.domain.service.KmgPfaMeasService;
 import kmg.core.domain.service.impl.KmgPfaMeasServiceImpl;
@@ -13,6 +13,7 @@ import kmg.fund.infrastructure.context.KmgMessageSource;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.jdocr.service.JavadocLineRemoverService;
 import kmg.tool.base.simple.domain.service.SimpleInputService;
+import kmg.tool.cli.cmn.infrastructure.startup.KmgToolCliSpringApplication;
 import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
 import kmg.tool.cli.input.presentation.ui.cli.AbstractInputTool;
 
@@ -23,10 +24,10 @@ import kmg.tool.cli.input.presentation.ui.cli.AbstractInputTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.2
+ * @version 0.2.0
  */
 @SpringBootApplication(scanBasePackages = {
-    "kmg"
+    "kmg.core", "kmg.fund", "kmg.tool.base"
 })
 public class JavadocLineRemoverTool extends AbstractInputTool {
 
@@ -75,14 +76,14 @@ public class JavadocLineRemoverTool extends AbstractInputTool {
     public static void main(final String[] args) {
 
         @SuppressWarnings("resource")
-        final ConfigurableApplicationContext ctx = SpringApplication.run(JavadocLineRemoverTool.class, args);
+        final ConfigurableApplicationContext ctx = KmgToolCliSpringApplication.run(JavadocLineRemoverTool.class, args);
 
         final JavadocLineRemoverTool tool = ctx.getBean(JavadocLineRemoverTool.class);
 
         /* 実行 */
         tool.execute();
 
-        ctx.close();
+        KmgToolCliSpringApplication.close(ctx, JavadocLineRemoverTool.class);
 
     }
 
@@ -106,6 +107,8 @@ public class JavadocLineRemoverTool extends AbstractInputTool {
 
         boolean result = true;
 
+        final StartupStep executeStep = this.startExecuteStep();
+
         final KmgPfaMeasService measService = new KmgPfaMeasServiceImpl(JavadocLineRemoverTool.TOOL_NAME);
 
         /* 開始 */
@@ -114,8 +117,17 @@ public class JavadocLineRemoverTool extends AbstractInputTool {
         try {
 
             /* ファイルのパスの取得 */
-            // 入力ファイルのパス
-            final Path inputPath = this.inputService.getInputPath();
+            // 入力ファイルのパス。指定入力ファイルパスまたは入力ファイルパスの指定があればそちらを優先する。
+            Path inputPath = this.getRequestedInputPath();
+
+            if (inputPath == null) {
+
+                inputPath = this.inputService.getInputPath();
+
+            }
+
+            // 標準入力またはgzipファイルの場合は、書き出した一時ファイルのパス
+            inputPath = this.toPlainInputPath(inputPath);
 
             /* Javadoc行削除の初期化 */
             result &= this.javadocLineRemoverService.initialize(inputPath);
@@ -154,7 +166,9 @@ public class JavadocLineRemoverTool extends AbstractInputTool {
         } finally {
 
             /* 終了 */
+            this.releaseExpandedInput(measService);
             measService.end();
+            executeStep.end();
 
         }
 
@@ -6,9 +6,9 @@ import java.nio.file.Paths;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
 
 import kmg.core.domain.service.KmgPfaMeasService;
 import kmg.core.domain.service.impl.KmgPfaMeasServiceImpl;
@@ -19,8 +19,9 @@ import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseValException;
 import kmg.tool.base.input.domain.service.PlainContentInputServic;
 import kmg.tool.base.jdts.application.service.JdtsService;
+import kmg.tool.cli.cmn.infrastructure.output.InPlaceUpdateGuard;
+import kmg.tool.cli.cmn.infrastructure.startup.KmgToolCliSpringApplication;
 import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
-import kmg.tool.cli.input.presentation.ui.cli.AbstractInputTool;
 import kmg.tool.cli.input.presentation.ui.cli.AbstractPlainContentInputTool;
 
 /**
@@ -30,10 +31,10 @@ import kmg.tool.cli.input.presentation.ui.cli.AbstractPlainContentInputTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.3
+ * @version 0.2.0
  */
 @SpringBootApplication(scanBasePackages = {
-    "kmg"
+    "kmg.core", "kmg.fund", "kmg.tool.base"
 })
 public class JavadocTagSetterTool extends AbstractPlainContentInputTool {
 
@@ -61,6 +62,13 @@ public class JavadocTagSetterTool extends AbstractPlainContentInputTool {
      */
     private static final String TOOL_NAME = "Javadocタグ設定ツール"; //$NON-NLS-1$
 
+    /**
+     * 対象パスがディレクトリの場合に、Javadocタグ設定サービスが書き込むファイルの拡張子
+     *
+     * @since 0.2.0
+     */
+    private static final String TARGET_EXTENSION = ".java"; //$NON-NLS-1$
+
     /**
      * メッセージソース
      *
@@ -110,13 +118,13 @@ public class JavadocTagSetterTool extends AbstractPlainContentInputTool {
     public static void main(final String[] args) {
 
         @SuppressWarnings("resource")
-        final ConfigurableApplicationContext ctx = SpringApplication.run(JavadocTagSetterTool.class, args);
+        final ConfigurableApplicationContext ctx = KmgToolCliSpringApplication.run(JavadocTagSetterTool.class, args);
 
         final JavadocTagSetterTool tool = ctx.getBean(JavadocTagSetterTool.class);
 
         tool.run(args);
 
-        ctx.close();
+        KmgToolCliSpringApplication.close(ctx, JavadocTagSetterTool.class);
 
     }
 
@@ -159,8 +167,12 @@ public class JavadocTagSetterTool extends AbstractPlainContentInputTool {
 
         boolean result = true;
 
+        final StartupStep executeStep = this.startExecuteStep();
+
         final KmgPfaMeasService measService = new KmgPfaMeasServiceImpl(JavadocTagSetterTool.TOOL_NAME);
 
+        InPlaceUpdateGuard updateGuard = null;
+
         /* 開始 */
         measService.start();
 
@@ -184,6 +196,9 @@ public class JavadocTagSetterTool extends AbstractPlainContentInputTool {
             }
 
             /* Javadoc追加処理 */
+
+            // Javadocタグ設定サービスが書き込むJavaファイルだけを記録する
+            updateGuard = this.snapshotTarget(this.targetPath, JavadocTagSetterTool.TARGET_EXTENSION, measService);
             result &= this.jdtsService.initialize(this.targetPath, this.definitionPath);
             result &= this.jdtsService.process();
 
@@ -241,7 +256,12 @@ public class JavadocTagSetterTool extends AbstractPlainContentInputTool {
 
             /* 終了 */
 
+            // 例外で中断した場合も、内容が変わらなかった対象ファイルの更新日時を元に戻す
+            this.restoreUnchanged(updateGuard, measService);
+            this.releaseExpandedInput(measService);
+
             measService.end();
+            executeStep.end();
 
         }
 
@@ -329,7 +349,7 @@ public class JavadocTagSetterTool extends AbstractPlainContentInputTool {
 
         boolean result = true;
 
-        result &= this.loadPlainContent(AbstractInputTool.getInputPath());
+        result &= this.loadPlainContent(this.resolveInputPath());
 
         if (!result) {
 
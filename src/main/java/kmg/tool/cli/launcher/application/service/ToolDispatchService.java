@@ -0,0 +1,50 @@
+package kmg.tool.cli.launcher.application.service;
+
+import kmg.tool.cli.launcher.domain.model.ToolJobModel;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+
+/**
+ * ツール振り分けサービスインタフェース<br>
+ * <p>
+ * サブコマンドの種類に対応するツールをSpringのコンテキストから取得し、実行する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public interface ToolDispatchService {
+
+    /**
+     * サブコマンドの種類に対応するツールを実行する。
+     * <p>
+     * 入出力ツールの場合は、初期化してから実行する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param cmdType
+     *                サブコマンドの種類
+     *
+     * @return true：成功、false：失敗
+     */
+    boolean dispatch(KmgToolCliCmdTypes cmdType);
+
+    /**
+     * ジョブのツールを、ジョブで指定されたパスを使用して実行する。
+     * <p>
+     * 指定されたパスは実行中のみ有効であり、実行後はツールの既定のパスに戻す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param job
+     *            ツールジョブ
+     *
+     * @return true：成功、false：失敗
+     */
+    boolean dispatch(ToolJobModel job);
+
+}
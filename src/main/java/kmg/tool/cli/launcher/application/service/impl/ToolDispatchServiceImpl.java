@@ -0,0 +1,165 @@
+package kmg.tool.cli.launcher.application.service.impl;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Service;
+
+import kmg.tool.cli.cmn.presentation.ui.cli.AbstractTool;
+import kmg.tool.cli.input.presentation.ui.cli.AbstractInputTool;
+import kmg.tool.cli.io.presentation.ui.cli.AbstractIoTool;
+import kmg.tool.cli.launcher.application.service.ToolDispatchService;
+import kmg.tool.cli.launcher.domain.model.ToolJobModel;
+import kmg.tool.cli.launcher.domain.model.impl.ToolJobModelImpl;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+import kmg.tool.cli.one2one.presentation.ui.cli.AbstractOne2OneTool;
+import kmg.tool.cli.two2one.presentation.ui.cli.AbstractTwo2OneTool;
+
+/**
+ * ツール振り分けサービス<br>
+ * <p>
+ * 起動済みのSpringのコンテキストからツールを取得するため、複数のツールを同じコンテキストで続けて実行できる。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@Service
+public class ToolDispatchServiceImpl implements ToolDispatchService {
+
+    /**
+     * アプリケーションコンテキスト
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.0
+     */
+    public ToolDispatchServiceImpl() {
+
+        // 処理なし
+    }
+
+    /**
+     * サブコマンドの種類に対応するツールを実行する。
+     * <p>
+     * 入出力ツールの場合は、各ツールのエントリポイントと同じく初期化してから実行する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param cmdType
+     *                サブコマンドの種類
+     *
+     * @return true：成功、false：失敗
+     */
+    @Override
+    public boolean dispatch(final KmgToolCliCmdTypes cmdType) {
+
+        final boolean result = this.dispatch(new ToolJobModelImpl(cmdType));
+        return result;
+
+    }
+
+    /**
+     * ジョブのツールを、ジョブで指定されたパスを使用して実行する。
+     * <p>
+     * ツールはシングルトンのため、実行後は指定されたパスを解除し、次の実行に持ち越さない。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param job
+     *            ツールジョブ
+     *
+     * @return true：成功、false：失敗
+     */
+    @Override
+    public boolean dispatch(final ToolJobModel job) {
+
+        boolean result = false;
+
+        if ((job == null) || (job.getCmdType() == null) || (job.getCmdType().getToolClass() == null)) {
+
+            return result;
+
+        }
+
+        final AbstractTool tool = this.applicationContext.getBean(job.getCmdType().getToolClass());
+
+        /* パスの指定 */
+        ToolDispatchServiceImpl.specifyPaths(tool, job.getInputPath(), job.getTemplatePath(), job.getOutputPath());
+
+        try {
+
+            /* 初期化 */
+            if (tool instanceof final AbstractOne2OneTool one2OneTool) {
+
+                one2OneTool.initialize();
+
+            } else if (tool instanceof final AbstractTwo2OneTool two2OneTool) {
+
+                two2OneTool.initialize();
+
+            }
+
+            /* 実行 */
+            result = tool.execute();
+
+        } finally {
+
+            /* パスの指定の解除 */
+            ToolDispatchServiceImpl.specifyPaths(tool, null, null, null);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * ツールの種類に応じて、指定されたパスをツールに設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param tool
+     *                     ツール
+     * @param inputPath
+     *                     入力ファイルパス
+     * @param templatePath
+     *                     テンプレートファイルパス
+     * @param outputPath
+     *                     出力ファイルパス
+     */
+    private static void specifyPaths(final AbstractTool tool, final Path inputPath, final Path templatePath,
+        final Path outputPath) {
+
+        if (tool instanceof final AbstractIoTool ioTool) {
+
+            ioTool.setSpecifiedInputPath(inputPath);
+            ioTool.setSpecifiedOutputPath(outputPath);
+
+        } else if (tool instanceof final AbstractInputTool inputTool) {
+
+            inputTool.setSpecifiedInputPath(inputPath);
+
+        }
+
+        if (tool instanceof final AbstractTwo2OneTool two2OneTool) {
+
+            two2OneTool.setSpecifiedTemplatePath(templatePath);
+
+        }
+
+    }
+
+}
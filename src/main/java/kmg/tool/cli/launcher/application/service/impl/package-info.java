@@ -0,0 +1,13 @@
+/**
+ * ランチャーのサービス実装パッケージ<br>
+ * <p>
+ * サブコマンドに対応するツールを振り分けて実行するサービスの実装が含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.launcher.application.service.impl;
@@ -0,0 +1,13 @@
+/**
+ * ランチャーのサービスパッケージ<br>
+ * <p>
+ * サブコマンドに対応するツールを振り分けて実行するサービスのインタフェースが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.launcher.application.service;
@@ -0,0 +1,57 @@
+package kmg.tool.cli.launcher.domain.model;
+
+import java.nio.file.Path;
+
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+
+/**
+ * ツールジョブモデルインタフェース<br>
+ * <p>
+ * 実行するツールと、そのツールが使用する入力ファイル、テンプレートファイル、出力ファイルのパスを保持する。 パスがnullの場合は、ツールの既定のパスを使用する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public interface ToolJobModel {
+
+    /**
+     * サブコマンドの種類を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return サブコマンドの種類
+     */
+    KmgToolCliCmdTypes getCmdType();
+
+    /**
+     * 入力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 入力ファイルパス。指定されていない場合は、null
+     */
+    Path getInputPath();
+
+    /**
+     * テンプレートファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return テンプレートファイルパス。指定されていない場合は、null
+     */
+    Path getTemplatePath();
+
+    /**
+     * 出力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 出力ファイルパス。指定されていない場合は、null
+     */
+    Path getOutputPath();
+
+}
@@ -0,0 +1,148 @@
+package kmg.tool.cli.launcher.domain.model.impl;
+
+import java.nio.file.Path;
+
+import kmg.tool.cli.launcher.domain.model.ToolJobModel;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+
+/**
+ * ツールジョブモデル<br>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class ToolJobModelImpl implements ToolJobModel {
+
+    /**
+     * サブコマンドの種類
+     *
+     * @since 0.2.0
+     */
+    private final KmgToolCliCmdTypes cmdType;
+
+    /**
+     * 入力ファイルパス
+     *
+     * @since 0.2.0
+     */
+    private final Path inputPath;
+
+    /**
+     * テンプレートファイルパス
+     *
+     * @since 0.2.0
+     */
+    private final Path templatePath;
+
+    /**
+     * 出力ファイルパス
+     *
+     * @since 0.2.0
+     */
+    private final Path outputPath;
+
+    /**
+     * コンストラクタ<br>
+     * <p>
+     * 各パスは、ツールの既定のパスを使用する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param cmdType
+     *                サブコマンドの種類
+     */
+    public ToolJobModelImpl(final KmgToolCliCmdTypes cmdType) {
+
+        this(cmdType, null, null, null);
+
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param cmdType
+     *                     サブコマンドの種類
+     * @param inputPath
+     *                     入力ファイルパス。nullの場合は、既定のパス
+     * @param templatePath
+     *                     テンプレートファイルパス。nullの場合は、既定のパス
+     * @param outputPath
+     *                     出力ファイルパス。nullの場合は、既定のパス
+     */
+    public ToolJobModelImpl(final KmgToolCliCmdTypes cmdType, final Path inputPath, final Path templatePath,
+        final Path outputPath) {
+
+        this.cmdType = cmdType;
+        this.inputPath = inputPath;
+        this.templatePath = templatePath;
+        this.outputPath = outputPath;
+
+    }
+
+    /**
+     * サブコマンドの種類を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return サブコマンドの種類
+     */
+    @Override
+    public KmgToolCliCmdTypes getCmdType() {
+
+        final KmgToolCliCmdTypes result = this.cmdType;
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 入力ファイルパス。指定されていない場合は、null
+     */
+    @Override
+    public Path getInputPath() {
+
+        final Path result = this.inputPath;
+        return result;
+
+    }
+
+    /**
+     * テンプレートファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return テンプレートファイルパス。指定されていない場合は、null
+     */
+    @Override
+    public Path getTemplatePath() {
+
+        final Path result = this.templatePath;
+        return result;
+
+    }
+
+    /**
+     * 出力ファイルパスを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 出力ファイルパス。指定されていない場合は、null
+     */
+    @Override
+    public Path getOutputPath() {
+
+        final Path result = this.outputPath;
+        return result;
+
+    }
+
+}
@@ -0,0 +1,13 @@
+/**
+ * ランチャーのモデルパッケージ<br>
+ * <p>
+ * ツールの実行単位であるジョブのモデルのインタフェースが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.launcher.domain.model;
@@ -0,0 +1,352 @@
+package kmg.tool.cli.launcher.infrastructure.types;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import kmg.tool.cli.acccrt.presentation.ul.cli.AccessorCreationTool;
+import kmg.tool.cli.cmn.presentation.ui.cli.AbstractTool;
+import kmg.tool.cli.e2scc.presentation.ui.cli.Enum2SwitchCaseCreationTool;
+import kmg.tool.cli.fldcrt.presentation.ui.cli.FieldCreationTool;
+import kmg.tool.cli.ifacccrt.presentation.ul.cli.InterfaceAccessorCreationTool;
+import kmg.tool.cli.jdocr.presentation.ui.cli.JavadocLineRemoverTool;
+import kmg.tool.cli.jdts.presentation.ui.cli.JavadocTagSetterTool;
+import kmg.tool.cli.mptf.presentation.ui.cli.MapTransformTool;
+import kmg.tool.cli.msgtpcrt.presentation.ul.cli.MessageTypesCreationTool;
+import kmg.tool.cli.simple.presentation.ui.cli.SimpleOne2OneTool;
+import kmg.tool.cli.simple.presentation.ui.cli.SimpleTwo2OneTool;
+
+/**
+ * KMGツールCLIサブコマンドの種類<br>
+ * <p>
+ * ランチャーに指定するサブコマンドと、実行するツールクラスの対応を定義する。<br>
+ * Cmdは、Commandの略。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings("nls")
+public enum KmgToolCliCmdTypes {
+
+    /* 定義：開始 */
+
+    /**
+     * 指定無し
+     *
+     * @since 0.2.0
+     */
+    NONE("指定無し", "none", null),
+
+    /**
+     * アクセサ作成ツール
+     *
+     * @since 0.2.0
+     */
+    ACCCRT("アクセサ作成ツール", "acccrt", AccessorCreationTool.class),
+
+    /**
+     * 列挙型からcase文作成ツール
+     *
+     * @since 0.2.0
+     */
+    E2SCC("列挙型からcase文作成ツール", "e2scc", Enum2SwitchCaseCreationTool.class),
+
+    /**
+     * フィールド作成ツール
+     *
+     * @since 0.2.0
+     */
+    FLDCRT("フィールド作成ツール", "fldcrt", FieldCreationTool.class),
+
+    /**
+     * インタフェースのアクセサ作成ツール
+     *
+     * @since 0.2.0
+     */
+    IFACCCRT("インタフェースのアクセサ作成ツール", "ifacccrt", InterfaceAccessorCreationTool.class),
+
+    /**
+     * Javadoc行削除ツール
+     *
+     * @since 0.2.0
+     */
+    JDOCR("Javadoc行削除ツール", "jdocr", JavadocLineRemoverTool.class),
+
+    /**
+     * Javadocタグ設定ツール
+     *
+     * @since 0.2.0
+     */
+    JDTS("Javadocタグ設定ツール", "jdts", JavadocTagSetterTool.class),
+
+    /**
+     * マッピング変換ツール
+     *
+     * @since 0.2.0
+     */
+    MPTF("マッピング変換ツール", "mptf", MapTransformTool.class),
+
+    /**
+     * メッセージの種類作成ツール
+     *
+     * @since 0.2.0
+     */
+    MSGTPCRT("メッセージの種類作成ツール", "msgtpcrt", MessageTypesCreationTool.class),
+
+    /**
+     * シンプル1入力ファイルから1出力ファイルへの変換ツール
+     *
+     * @since 0.2.0
+     */
+    ONE2ONE("シンプル1入力ファイルから1出力ファイルへの変換ツール", "one2one", SimpleOne2OneTool.class),
+
+    /**
+     * シンプル2入力ファイルから1出力ファイルへの変換ツール
+     *
+     * @since 0.2.0
+     */
+    TWO2ONE("シンプル2入力ファイルから1出力ファイルへの変換ツール", "two2one", SimpleTwo2OneTool.class),
+
+    /* 定義：終了 */
+
+    ;
+
+    /**
+     * 種類のマップ
+     *
+     * @since 0.2.0
+     */
+    private static final Map<String, KmgToolCliCmdTypes> VALUES_MAP = new HashMap<>();
+
+    static {
+
+        /* 種類のマップにプット */
+        for (final KmgToolCliCmdTypes type : KmgToolCliCmdTypes.values()) {
+
+            KmgToolCliCmdTypes.VALUES_MAP.put(type.get(), type);
+
+        }
+
+    }
+
+    /**
+     * 表示名
+     *
+     * @since 0.2.0
+     */
+    private final String displayName;
+
+    /**
+     * キー（サブコマンド）
+     *
+     * @since 0.2.0
+     */
+    private final String key;
+
+    /**
+     * 値
+     *
+     * @since 0.2.0
+     */
+    private final String value;
+
+    /**
+     * 詳細情報
+     *
+     * @since 0.2.0
+     */
+    private final String detail;
+
+    /**
+     * ツールクラス
+     *
+     * @since 0.2.0
+     */
+    private final Class<? extends AbstractTool> toolClass;
+
+    /**
+     * デフォルトの種類を返す<br>
+     *
+     * @since 0.2.0
+     *
+     * @return デフォルト値
+     */
+    public static KmgToolCliCmdTypes getDefault() {
+
+        final KmgToolCliCmdTypes result = NONE;
+        return result;
+
+    }
+
+    /**
+     * キーに該当する種類を返す<br>
+     * <p>
+     * 但し、キーが存在しない場合は、指定無し（NONE）を返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param key
+     *            キー（サブコマンド）
+     *
+     * @return 種類。指定無し（NONE）：キーが存在しない場合。
+     */
+    public static KmgToolCliCmdTypes getEnum(final String key) {
+
+        KmgToolCliCmdTypes result = KmgToolCliCmdTypes.VALUES_MAP.get(key);
+
+        if (result == null) {
+
+            result = NONE;
+
+        }
+        return result;
+
+    }
+
+    /**
+     * 初期値の種類を返す<br>
+     *
+     * @since 0.2.0
+     *
+     * @return 初期値
+     */
+    public static KmgToolCliCmdTypes getInitValue() {
+
+        final KmgToolCliCmdTypes result = NONE;
+        return result;
+
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param displayName
+     *                    表示名
+     * @param key
+     *                    キー（サブコマンド）
+     * @param toolClass
+     *                    ツールクラス
+     */
+    KmgToolCliCmdTypes(final String displayName, final String key, final Class<? extends AbstractTool> toolClass) {
+
+        this.displayName = displayName;
+        this.key = key;
+        this.value = key;
+        this.detail = displayName;
+        this.toolClass = toolClass;
+
+    }
+
+    /**
+     * キー（サブコマンド）を返す。<br>
+     *
+     * @since 0.2.0
+     *
+     * @return キー（サブコマンド）
+     *
+     * @see #getKey()
+     */
+    public String get() {
+
+        final String result = this.getKey();
+        return result;
+
+    }
+
+    /**
+     * 詳細情報を返す。<br>
+     *
+     * @since 0.2.0
+     *
+     * @return 詳細情報
+     */
+    public String getDetail() {
+
+        final String result = this.detail;
+        return result;
+
+    }
+
+    /**
+     * 表示名を返す。<br>
+     * <p>
+     * 識別するための表示名を返す。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return 表示名
+     */
+    public String getDisplayName() {
+
+        final String result = this.displayName;
+        return result;
+
+    }
+
+    /**
+     * キー（サブコマンド）を返す。<br>
+     *
+     * @since 0.2.0
+     *
+     * @return キー（サブコマンド）
+     */
+    public String getKey() {
+
+        final String result = this.key;
+        return result;
+
+    }
+
+    /**
+     * ツールクラスを返す。<br>
+     *
+     * @since 0.2.0
+     *
+     * @return ツールクラス。指定無し（NONE）の場合は、null。
+     */
+    public Class<? extends AbstractTool> getToolClass() {
+
+        final Class<? extends AbstractTool> result = this.toolClass;
+        return result;
+
+    }
+
+    /**
+     * 値を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 値
+     */
+    public String getValue() {
+
+        final String result = this.value;
+        return result;
+
+    }
+
+    /**
+     * キー（サブコマンド）を返す。<br>
+     *
+     * @since 0.2.0
+     *
+     * @return キー（サブコマンド）
+     *
+     * @see #getKey()
+     */
+    @Override
+    public String toString() {
+
+        final String result = this.getKey();
+        return result;
+
+    }
+
+}
@@ -0,0 +1,13 @@
+/**
+ * ランチャーの型定義パッケージ<br>
+ * <p>
+ * ランチャーで使用されるサブコマンドの種類などの列挙型が定義されています。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.launcher.infrastructure.types;
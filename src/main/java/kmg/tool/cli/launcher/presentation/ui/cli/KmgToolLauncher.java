@@ -0,0 +1,308 @@
+package kmg.tool.cli.launcher.presentation.ui.cli;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import kmg.core.domain.service.KmgPfaMeasService;
+import kmg.core.domain.service.impl.KmgPfaMeasServiceImpl;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.cmn.infrastructure.aot.KmgToolCliRuntimeHints;
+import kmg.tool.cli.cmn.infrastructure.startup.KmgToolCliSpringApplication;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.cmn.presentation.ui.cli.AbstractTool;
+import kmg.tool.cli.launcher.application.service.ToolDispatchService;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+
+/**
+ * KMGツールランチャー<br>
+ * <p>
+ * サブコマンドで指定したツールを、1つのSpringのコンテキスト上で実行する。<br>
+ * 複数のサブコマンドを指定した場合は、起動済みのコンテキストを使い回して指定順に実行する。
+ * </p>
+ * <p>
+ * 使用例：
+ * </p>
+ *
+ * <pre>
+ * kmg-tool fldcrt acccrt
+ * </pre>
+ * <p>
+ * 「--」で始まる引数はSpringのオプションとして扱い、サブコマンドには含めない。
+ * </p>
+ * <p>
+ * ネイティブイメージ（nativeプロファイル）では、本クラスを起点に全ツールを1つの実行ファイルにまとめる。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SpringBootApplication(scanBasePackages = {
+    "kmg"
+})
+@ImportRuntimeHints(KmgToolCliRuntimeHints.class)
+public class KmgToolLauncher extends AbstractTool {
+
+    /**
+     * ツール名
+     *
+     * @since 0.2.0
+     */
+    private static final String TOOL_NAME = "KMGツールランチャー"; //$NON-NLS-1$
+
+    /**
+     * オプションの接頭辞
+     *
+     * @since 0.2.0
+     */
+    private static final String OPTION_PREFIX = "--"; //$NON-NLS-1$
+
+    /**
+     * メッセージソース
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private KmgMessageSource messageSource;
+
+    /**
+     * ツール振り分けサービス
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private ToolDispatchService toolDispatchService;
+
+    /**
+     * サブコマンドのリスト
+     *
+     * @since 0.2.0
+     */
+    private final List<String> subCommands;
+
+    /**
+     * エントリポイント
+     *
+     * @since 0.2.0
+     *
+     * @param args
+     *             コマンドライン引数。実行するツールのサブコマンドを1つ以上指定する。
+     */
+    public static void main(final String[] args) {
+
+        @SuppressWarnings("resource")
+        final ConfigurableApplicationContext ctx = KmgToolCliSpringApplication.run(KmgToolLauncher.class, args);
+
+        final KmgToolLauncher launcher = ctx.getBean(KmgToolLauncher.class);
+
+        launcher.run(args);
+
+        KmgToolCliSpringApplication.close(ctx, KmgToolLauncher.class);
+
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @since 0.2.0
+     */
+    public KmgToolLauncher() {
+
+        this.subCommands = new ArrayList<>();
+
+    }
+
+    /**
+     * 実行する
+     * <p>
+     * 全てのサブコマンドを検証してから、指定順にツールを実行する。失敗したサブコマンドがあれば、以降のサブコマンドは実行しない。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：成功、false：失敗
+     */
+    @Override
+    public boolean execute() {
+
+        boolean result = false;
+
+        final KmgPfaMeasService measService = new KmgPfaMeasServiceImpl(KmgToolLauncher.TOOL_NAME);
+
+        /* 開始 */
+        measService.start();
+
+        try {
+
+            /* サブコマンドの検証 */
+            if (this.subCommands.isEmpty()) {
+
+                final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN20000;
+                final Object[]              messageArgs = {};
+                final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+                measService.warn(msg);
+
+                return result;
+
+            }
+
+            final List<KmgToolCliCmdTypes> cmdTypes = new ArrayList<>();
+
+            for (final String subCommand : this.subCommands) {
+
+                final KmgToolCliCmdTypes cmdType = KmgToolCliCmdTypes.getEnum(subCommand);
+
+                if (cmdType == KmgToolCliCmdTypes.NONE) {
+
+                    final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN20001;
+                    final Object[]              messageArgs = {
+                        subCommand,
+                    };
+                    final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+                    measService.warn(msg);
+
+                    return result;
+
+                }
+
+                cmdTypes.add(cmdType);
+
+            }
+
+            /* 処理 */
+            for (final KmgToolCliCmdTypes cmdType : cmdTypes) {
+
+                boolean dispatchResult;
+
+                try {
+
+                    dispatchResult = this.toolDispatchService.dispatch(cmdType);
+
+                } catch (final RuntimeException e) {
+
+                    final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN20004;
+                    final Object[]              messageArgs = {
+                        cmdType.getKey(),
+                    };
+                    final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+                    measService.error(msg, e);
+
+                    return result;
+
+                }
+
+                if (!dispatchResult) {
+
+                    final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN20002;
+                    final Object[]              messageArgs = {
+                        cmdType.getKey(),
+                    };
+                    final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+                    measService.warn(msg);
+
+                    return result;
+
+                }
+
+            }
+
+            /* 成功 */
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN20003;
+            final Object[]              messageArgs = {};
+            final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+            measService.info(msg);
+
+            result = true;
+
+        } finally {
+
+            /* 終了 */
+            measService.end();
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * サブコマンドのリストを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return サブコマンドのリスト
+     */
+    public List<String> getSubCommands() {
+
+        final List<String> result = this.subCommands;
+        return result;
+
+    }
+
+    /**
+     * ツール実行メソッド
+     * <p>
+     * コマンドライン引数からサブコマンドを設定し、実行する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param args
+     *             コマンドライン引数
+     *
+     * @return true：成功、false：失敗
+     */
+    public boolean run(final String[] args) {
+
+        /* サブコマンドの設定 */
+        this.setSubCommands(args);
+
+        /* 実行 */
+        final boolean result = this.execute();
+        return result;
+
+    }
+
+    /**
+     * コマンドライン引数からサブコマンドを設定する。
+     * <p>
+     * 「--」で始まる引数はSpringのオプションのため、除外する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param args
+     *             コマンドライン引数
+     */
+    public void setSubCommands(final String[] args) {
+
+        this.subCommands.clear();
+
+        if (args == null) {
+
+            return;
+
+        }
+
+        for (final String arg : args) {
+
+            if ((arg == null) || arg.isBlank() || arg.startsWith(KmgToolLauncher.OPTION_PREFIX)) {
+
+                continue;
+
+            }
+
+            this.subCommands.add(arg.trim());
+
+        }
+
+    }
+
+}
@@ -0,0 +1,14 @@
+/**
+ * ランチャーのCLIパッケージ<br>
+ * <p>
+ * サブコマンドで指定したツールを1つのSpringのコンテキスト上で実行するランチャーを提供します。<br>
+ * コマンドラインから実行可能なランチャーの実装が含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.launcher.presentation.ui.cli;
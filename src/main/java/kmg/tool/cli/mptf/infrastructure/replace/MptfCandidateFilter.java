@@ -0,0 +1,309 @@
+package kmg.tool.cli.mptf.infrastructure.replace;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 対象ファイルの候補の絞り込み<br>
+ * <p>
+ * 置換対象ごとに、UTF-8のバイト列の中で最も出現しにくい2バイトの組（バイグラム）を1つ選び、全ての置換対象の組を1つのビット集合にまとめる。 対象ファイルのバイト列に、いずれの組も含まれない場合は、
+ * いずれの置換対象も含まれないため、復号と置換をせずに除く。 組を含む場合は候補とし、置換対象を含むかは置換処理で確認する。
+ * </p>
+ * <p>
+ * 置換対象を含む対象ファイルを除くことはない。 1バイトの置換対象は、バイトそのものをビット集合にまとめる。 UTF-8に符号化できない置換対象と、不正なバイト列の復号で生じる置換文字（U+FFFD）を含む置換対象がある場合は、
+ * 全ての対象ファイルを候補とする。
+ * </p>
+ * <p>
+ * バイトの出現のしやすさは、Javaのソースでよく使われる文字の順を目安とし、目安にないバイト（大文字、数字、UTF-8の多バイト文字など）は、最も出現しにくいとする。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class MptfCandidateFilter {
+
+    /**
+     * Javaのソースでよく使われるバイト（よく使われる順）
+     *
+     * @since 0.2.0
+     */
+    private static final String COMMON_BYTES = " etnaroisl\n\r\t;.()cdpu=fmgh,\"{}bywkvxjqz_"; //$NON-NLS-1$
+
+    /**
+     * バイグラムの数
+     *
+     * @since 0.2.0
+     */
+    private static final int BIGRAM_COUNT = 1 << (Byte.SIZE * 2);
+
+    /**
+     * バイトの値の数
+     *
+     * @since 0.2.0
+     */
+    private static final int BYTE_VALUE_COUNT = 1 << Byte.SIZE;
+
+    /**
+     * バイトの値のマスク
+     *
+     * @since 0.2.0
+     */
+    private static final int BYTE_MASK = 0xFF;
+
+    /**
+     * ビット集合の要素の位置を求めるシフト数（1要素のビット数の2を底とする対数）
+     *
+     * @since 0.2.0
+     */
+    private static final int WORD_SHIFT = 6;
+
+    /**
+     * 不正なバイト列の復号で生じる置換文字
+     *
+     * @since 0.2.0
+     */
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+    /**
+     * 置換対象ごとに選んだバイグラムのビット集合
+     *
+     * @since 0.2.0
+     */
+    private final long[] bigrams;
+
+    /**
+     * 1バイトの置換対象のビット集合
+     *
+     * @since 0.2.0
+     */
+    private final long[] singles;
+
+    /**
+     * 1バイトの置換対象があるか
+     *
+     * @since 0.2.0
+     */
+    private boolean hasSingles;
+
+    /**
+     * 全ての対象ファイルを候補とするか
+     *
+     * @since 0.2.0
+     */
+    private boolean acceptAll;
+
+    /**
+     * コンストラクタ<br>
+     * <p>
+     * 複数パターンの置換処理の置換対象から、ビット集合を作成する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param replacer
+     *                 複数パターンの置換処理
+     */
+    public MptfCandidateFilter(final MptfMultiPatternReplacer replacer) {
+
+        this.bigrams = new long[MptfCandidateFilter.BIGRAM_COUNT / Long.SIZE];
+        this.singles = new long[MptfCandidateFilter.BYTE_VALUE_COUNT / Long.SIZE];
+
+        for (int i = 0; i < replacer.getKeyCount(); i++) {
+
+            this.addKey(replacer.getKey(i));
+
+        }
+
+    }
+
+    /**
+     * バイト列が、いずれかの置換対象を含む可能性があるかを返す。 バイト列の位置は変更しない。
+     *
+     * @since 0.2.0
+     *
+     * @param bytes
+     *              バイト列（位置から上限まで）
+     *
+     * @return true：含む可能性がある、false：いずれの置換対象も含まない
+     */
+    public boolean mayContain(final ByteBuffer bytes) {
+
+        boolean result = this.acceptAll;
+
+        if (result) {
+
+            return result;
+
+        }
+
+        int previous = -1;
+
+        for (int i = bytes.position(); i < bytes.limit(); i++) {
+
+            final int current = bytes.get(i) & MptfCandidateFilter.BYTE_MASK;
+
+            if (this.hasSingles && MptfCandidateFilter.contains(this.singles, current)) {
+
+                result = true;
+                return result;
+
+            }
+
+            if ((previous >= 0) && MptfCandidateFilter.contains(this.bigrams, (previous << Byte.SIZE) | current)) {
+
+                result = true;
+                return result;
+
+            }
+
+            previous = current;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 全ての対象ファイルを候補とするかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return true：全ての対象ファイルを候補とする、false：絞り込む
+     */
+    public boolean isAcceptAll() {
+
+        final boolean result = this.acceptAll;
+        return result;
+
+    }
+
+    /**
+     * 置換対象の最も出現しにくいバイグラムを、ビット集合に追加する。
+     *
+     * @since 0.2.0
+     *
+     * @param key
+     *            置換対象
+     */
+    private void addKey(final String key) {
+
+        if (key.indexOf(MptfCandidateFilter.REPLACEMENT_CHAR) >= 0) {
+
+            this.acceptAll = true;
+            return;
+
+        }
+
+        final ByteBuffer encoded;
+
+        try {
+
+            encoded = StandardCharsets.UTF_8.newEncoder().encode(CharBuffer.wrap(key));
+
+        } catch (final CharacterCodingException e) {
+
+            // 対になっていないサロゲートなど、バイト列で判定できない置換対象
+            this.acceptAll = true;
+            return;
+
+        }
+
+        if (encoded.remaining() == 1) {
+
+            MptfCandidateFilter.add(this.singles, encoded.get(0) & MptfCandidateFilter.BYTE_MASK);
+            this.hasSingles = true;
+            return;
+
+        }
+
+        int rarestBigram = 0;
+        int rarestScore  = Integer.MAX_VALUE;
+
+        for (int i = encoded.position() + 1; i < encoded.limit(); i++) {
+
+            final int first  = encoded.get(i - 1) & MptfCandidateFilter.BYTE_MASK;
+            final int second = encoded.get(i) & MptfCandidateFilter.BYTE_MASK;
+            final int score  = MptfCandidateFilter.commonness(first) + MptfCandidateFilter.commonness(second);
+
+            if (score < rarestScore) {
+
+                rarestBigram = (first << Byte.SIZE) | second;
+                rarestScore = score;
+
+            }
+
+        }
+
+        MptfCandidateFilter.add(this.bigrams, rarestBigram);
+
+    }
+
+    /**
+     * バイトの出現のしやすさを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param value
+     *              バイトの値
+     *
+     * @return 出現のしやすさ。大きいほど出現しやすい。目安にないバイトは、0
+     */
+    private static int commonness(final int value) {
+
+        int result = 0;
+
+        final int index = MptfCandidateFilter.COMMON_BYTES.indexOf(value);
+
+        if (index < 0) {
+
+            return result;
+
+        }
+
+        result = MptfCandidateFilter.COMMON_BYTES.length() - index;
+        return result;
+
+    }
+
+    /**
+     * ビット集合に値を追加する。
+     *
+     * @since 0.2.0
+     *
+     * @param bits
+     *              ビット集合
+     * @param value
+     *              値
+     */
+    private static void add(final long[] bits, final int value) {
+
+        bits[value >>> MptfCandidateFilter.WORD_SHIFT] |= 1L << value;
+
+    }
+
+    /**
+     * ビット集合が値を含むかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param bits
+     *              ビット集合
+     * @param value
+     *              値
+     *
+     * @return true：含む、false：含まない
+     */
+    private static boolean contains(final long[] bits, final int value) {
+
+        final boolean result = (bits[value >>> MptfCandidateFilter.WORD_SHIFT] & (1L << value)) != 0;
+        return result;
+
+    }
+
+}
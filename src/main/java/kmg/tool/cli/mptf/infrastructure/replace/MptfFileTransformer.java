@@ -0,0 +1,821 @@
+package kmg.tool.cli.mptf.infrastructure.replace;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 対象ファイルの置換処理<br>
+ * <p>
+ * 対象パスのファイルを、複数パターンの置換処理で置換する。 置換した対象ファイルだけを書き込む。 対象パスがディレクトリの場合は、配下の全てのJavaファイルを対象とし、対象ファイルの文字コードは、UTF-8とする。
+ * </p>
+ * <p>
+ * 対象ファイルごとに、読み込んだ内容をメモリ上で1回だけ走査して置換し、同じディレクトリの一時ファイルに書き込んだ後に、対象ファイルに置き換える。 中間ファイルを経由しないため、ディスクへの書き込みは対象ファイルごとに1回であり、
+ * 書き込みの途中で失敗しても、対象ファイルは置換の前の内容のままとなる。
+ * </p>
+ * <p>
+ * ドライランの場合は、対象ファイルを読み込み専用でメモリマップし、一定の文字数ずつ復号しながら走査して、置換した場合と同じ置換対象の出現を数える。 対象ファイルには書き込まず、内容の全体をメモリ上に保持しない。
+ * 出現数は、置換対象ごとと、対象ファイルごとに集計する。 2段階置換方式の出現数を指定した場合は、{@link MptfTwoStageCounter}で数える。 この場合は、対象ファイルの全体を復号する。
+ * </p>
+ * <p>
+ * 候補の絞り込みを指定した場合は、対象ファイルのバイト列を{@link MptfCandidateFilter}で確認し、いずれの置換対象も含まない対象ファイルは、復号と走査をせずに除く。
+ * </p>
+ * <p>
+ * ディレクトリの検索と対象ファイルごとの置換は、並列数のスレッドのワークスティーリングプールで並列に処理する。 ディレクトリごとにサブディレクトリと対象ファイルをタスクに分け、空いたスレッドが他のスレッドのタスクを処理する。
+ * 置換した数は、対象ファイルごとのタスクの結果をディレクトリごとに合計するため、処理の順に関わらず、対象ファイルごとの置換した数の合計と一致する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class MptfFileTransformer {
+
+    /**
+     * ディレクトリを対象とする場合の対象ファイルの拡張子
+     *
+     * @since 0.2.0
+     */
+    private static final String TARGET_EXTENSION = ".java"; //$NON-NLS-1$
+
+    /**
+     * 一時ファイルの接尾辞
+     *
+     * @since 0.2.0
+     */
+    private static final String TEMP_EXTENSION = ".tmp"; //$NON-NLS-1$
+
+    /**
+     * ドライランで一度に復号する文字数
+     *
+     * @since 0.2.0
+     */
+    private static final int DECODE_CHUNK_SIZE = 8 * 1024;
+
+    /**
+     * 複数パターンの置換処理
+     *
+     * @since 0.2.0
+     */
+    private final MptfMultiPatternReplacer replacer;
+
+    /**
+     * 並列数
+     *
+     * @since 0.2.0
+     */
+    private final int parallelism;
+
+    /**
+     * ドライランか
+     *
+     * @since 0.2.0
+     */
+    private final boolean dryRun;
+
+    /**
+     * 候補の絞り込み。絞り込まない場合は、null
+     *
+     * @since 0.2.0
+     */
+    private final MptfCandidateFilter candidateFilter;
+
+    /**
+     * ドライランで2段階置換方式の出現数を数える集計。オートマトンで数える場合は、null
+     *
+     * @since 0.2.0
+     */
+    private final MptfTwoStageCounter twoStageCounter;
+
+    /**
+     * 置換対象の番号ごとの出現数
+     *
+     * @since 0.2.0
+     */
+    private final AtomicLongArray keyHitCounts;
+
+    /**
+     * 対象ファイルごとの出現数。出現した対象ファイルだけを保持する。
+     *
+     * @since 0.2.0
+     */
+    private final ConcurrentMap<Path, Long> fileHitCounts;
+
+    /**
+     * 処理した対象ファイルの数
+     *
+     * @since 0.2.0
+     */
+    private final AtomicInteger fileCount;
+
+    /**
+     * 内容を変更した対象ファイルの数
+     *
+     * @since 0.2.0
+     */
+    private final AtomicInteger changedFileCount;
+
+    /**
+     * 候補の絞り込みで除いた対象ファイルの数
+     *
+     * @since 0.2.0
+     */
+    private final AtomicInteger skippedFileCount;
+
+    /**
+     * ディレクトリのタスク<br>
+     * <p>
+     * ディレクトリのサブディレクトリと対象ファイルをタスクに分けて処理し、置換した数を合計する。
+     * </p>
+     *
+     * @author KenichiroArai
+     *
+     * @since 0.2.0
+     *
+     * @version 0.2.0
+     */
+    private final class DirectoryTask extends RecursiveTask<Long> {
+
+        /**
+         * シリアルバージョンUID
+         *
+         * @since 0.2.0
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * ディレクトリのパス
+         *
+         * @since 0.2.0
+         */
+        private final transient Path directory;
+
+        /**
+         * コンストラクタ<br>
+         *
+         * @since 0.2.0
+         *
+         * @param directory
+         *                  ディレクトリのパス
+         */
+        DirectoryTask(final Path directory) {
+
+            this.directory = directory;
+
+        }
+
+        /**
+         * ディレクトリを処理する。
+         *
+         * @since 0.2.0
+         *
+         * @return 置換した数
+         *
+         * @throws UncheckedIOException
+         *                              ディレクトリの検索、または対象ファイルの置換に失敗した場合
+         */
+        @Override
+        protected Long compute() {
+
+            long result = 0;
+
+            final List<ForkJoinTask<Long>> tasks = new ArrayList<>();
+
+            try (final DirectoryStream<Path> entries = Files.newDirectoryStream(this.directory)) {
+
+                for (final Path entry : entries) {
+
+                    if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+
+                        tasks.add(new DirectoryTask(entry).fork());
+                        continue;
+
+                    }
+
+                    if (!MptfFileTransformer.isTargetFile(entry)) {
+
+                        continue;
+
+                    }
+
+                    tasks.add(ForkJoinTask.adapt(() -> MptfFileTransformer.this.transformFile(entry)).fork());
+
+                }
+
+            } catch (final IOException e) {
+
+                throw new UncheckedIOException(e);
+
+            }
+
+            for (final ForkJoinTask<Long> task : tasks) {
+
+                result += task.join();
+
+            }
+
+            return result;
+
+        }
+
+    }
+
+    /**
+     * メモリマップしたバイト列の読み込み<br>
+     * <p>
+     * バイト列を一定の文字数ずつUTF-8で復号して読み込む。 不正なバイト列は、置換する場合と同じく、例外とする。
+     * </p>
+     *
+     * @author KenichiroArai
+     *
+     * @since 0.2.0
+     *
+     * @version 0.2.0
+     */
+    private static final class MappedReader extends Reader {
+
+        /**
+         * 復号するバイト列
+         *
+         * @since 0.2.0
+         */
+        private final ByteBuffer bytes;
+
+        /**
+         * 復号器
+         *
+         * @since 0.2.0
+         */
+        private final CharsetDecoder decoder;
+
+        /**
+         * 復号した文字
+         *
+         * @since 0.2.0
+         */
+        private final CharBuffer chars;
+
+        /**
+         * 全てのバイト列を復号したか
+         *
+         * @since 0.2.0
+         */
+        private boolean finished;
+
+        /**
+         * コンストラクタ<br>
+         *
+         * @since 0.2.0
+         *
+         * @param bytes
+         *              復号するバイト列
+         */
+        MappedReader(final ByteBuffer bytes) {
+
+            this.bytes = bytes;
+            this.decoder = StandardCharsets.UTF_8.newDecoder();
+            this.chars = CharBuffer.allocate(MptfFileTransformer.DECODE_CHUNK_SIZE);
+            this.chars.flip();
+
+        }
+
+        /**
+         * 文字を読み込む。
+         *
+         * @since 0.2.0
+         *
+         * @param cbuf
+         *             格納先
+         * @param off
+         *             格納を始める位置
+         * @param len
+         *             読み込む最大の文字数
+         *
+         * @return 読み込んだ文字数。終わりの場合は、-1
+         *
+         * @throws IOException
+         *                     不正なバイト列の場合
+         */
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) throws IOException {
+
+            int result = 0;
+
+            if (len == 0) {
+
+                return result;
+
+            }
+
+            while (!this.chars.hasRemaining() && !this.finished) {
+
+                this.decodeChunk();
+
+            }
+
+            if (!this.chars.hasRemaining()) {
+
+                result = -1;
+                return result;
+
+            }
+
+            result = Math.min(len, this.chars.remaining());
+            this.chars.get(cbuf, off, result);
+            return result;
+
+        }
+
+        /**
+         * 閉じる。 メモリマップは、呼び出し元のファイルチャネルが管理するため、何もしない。
+         *
+         * @since 0.2.0
+         */
+        @Override
+        public void close() {
+
+            // 処理なし
+        }
+
+        /**
+         * 次の文字を復号する。
+         *
+         * @since 0.2.0
+         *
+         * @throws IOException
+         *                     不正なバイト列の場合
+         */
+        private void decodeChunk() throws IOException {
+
+            this.chars.clear();
+
+            CoderResult coderResult = this.decoder.decode(this.bytes, this.chars, true);
+
+            if (coderResult.isError()) {
+
+                coderResult.throwException();
+
+            }
+
+            if (coderResult.isUnderflow()) {
+
+                coderResult = this.decoder.flush(this.chars);
+                this.finished = coderResult.isUnderflow();
+
+            }
+
+            this.chars.flip();
+
+        }
+
+    }
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param replacer
+     *                    複数パターンの置換処理
+     * @param parallelism
+     *                    並列数。0以下の場合は、CPUのコア数
+     */
+    public MptfFileTransformer(final MptfMultiPatternReplacer replacer, final int parallelism) {
+
+        this(replacer, parallelism, false, false);
+
+    }
+
+    /**
+     * ドライランと候補の絞り込みを指定するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param replacer
+     *                    複数パターンの置換処理
+     * @param parallelism
+     *                    並列数。0以下の場合は、CPUのコア数
+     * @param dryRun
+     *                    true：ドライラン（出現数だけを数え、書き込まない）、false：置換する
+     * @param prefilter
+     *                    true：候補の絞り込みで対象ファイルを除く、false：全ての対象ファイルを走査する
+     */
+    public MptfFileTransformer(final MptfMultiPatternReplacer replacer, final int parallelism, final boolean dryRun,
+        final boolean prefilter) {
+
+        this(replacer, parallelism, dryRun, prefilter, false);
+
+    }
+
+    /**
+     * ドライランで数える方式を指定するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param replacer
+     *                    複数パターンの置換処理
+     * @param parallelism
+     *                    並列数。0以下の場合は、CPUのコア数
+     * @param dryRun
+     *                    true：ドライラン（出現数だけを数え、書き込まない）、false：置換する
+     * @param prefilter
+     *                    true：候補の絞り込みで対象ファイルを除く、false：全ての対象ファイルを走査する
+     * @param twoStage
+     *                    true：ドライランで2段階置換方式の出現数を数える、false：オートマトンで置換した場合の出現数を数える
+     */
+    public MptfFileTransformer(final MptfMultiPatternReplacer replacer, final int parallelism, final boolean dryRun,
+        final boolean prefilter, final boolean twoStage) {
+
+        this.replacer = replacer;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.dryRun = dryRun;
+        this.candidateFilter = prefilter ? new MptfCandidateFilter(replacer) : null;
+        this.twoStageCounter = twoStage ? new MptfTwoStageCounter(replacer) : null;
+        this.fileCount = new AtomicInteger();
+        this.changedFileCount = new AtomicInteger();
+        this.skippedFileCount = new AtomicInteger();
+        this.keyHitCounts = new AtomicLongArray(replacer.getKeyCount());
+        this.fileHitCounts = new ConcurrentHashMap<>();
+
+    }
+
+    /**
+     * 対象パスのファイルを置換する。
+     *
+     * @since 0.2.0
+     *
+     * @param targetPath
+     *                   対象パス（ディレクトリまたはファイル）
+     *
+     * @return 置換した数。ドライランの場合は、出現数
+     *
+     * @throws IOException
+     *                     ディレクトリの検索、または対象ファイルの読み込みか書き込みに失敗した場合
+     */
+    public long transform(final Path targetPath) throws IOException {
+
+        long result = 0;
+
+        try {
+
+            if (Files.isRegularFile(targetPath)) {
+
+                result = this.transformFile(targetPath);
+                return result;
+
+            }
+
+            try (final ForkJoinPool pool = new ForkJoinPool(this.parallelism)) {
+
+                result = pool.invoke(new DirectoryTask(targetPath));
+
+            }
+
+        } catch (final UncheckedIOException e) {
+
+            throw e.getCause();
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 並列数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 並列数
+     */
+    public int getParallelism() {
+
+        final int result = this.parallelism;
+        return result;
+
+    }
+
+    /**
+     * 処理した対象ファイルの数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 処理した対象ファイルの数
+     */
+    public int getFileCount() {
+
+        final int result = this.fileCount.get();
+        return result;
+
+    }
+
+    /**
+     * 候補の絞り込みで除いた対象ファイルの数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 候補の絞り込みで除いた対象ファイルの数
+     */
+    public int getSkippedFileCount() {
+
+        final int result = this.skippedFileCount.get();
+        return result;
+
+    }
+
+    /**
+     * 置換対象の番号の出現数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param keyIndex
+     *                 置換対象の番号
+     *
+     * @return 出現数
+     */
+    public long getKeyHitCount(final int keyIndex) {
+
+        final long result = this.keyHitCounts.get(keyIndex);
+        return result;
+
+    }
+
+    /**
+     * 出現した対象ファイルごとの出現数を、対象ファイルのパスの順に返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 対象ファイルごとの出現数
+     */
+    public Map<Path, Long> getFileHitCounts() {
+
+        final Map<Path, Long> result = new TreeMap<>(this.fileHitCounts);
+        return result;
+
+    }
+
+    /**
+     * 内容を変更した対象ファイルの数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 内容を変更した対象ファイルの数
+     */
+    public int getChangedFileCount() {
+
+        final int result = this.changedFileCount.get();
+        return result;
+
+    }
+
+    /**
+     * 対象ファイルを読み込み専用でメモリマップし、復号しながら走査して、置換対象の出現を数える。
+     *
+     * @since 0.2.0
+     *
+     * @param targetFile
+     *                   対象ファイルのパス
+     *
+     * @return 出現数
+     *
+     * @throws UncheckedIOException
+     *                              読み込み、または復号に失敗した場合
+     */
+    private long countFile(final Path targetFile) {
+
+        final long result;
+
+        final long[] keyCounts = new long[this.replacer.getKeyCount()];
+
+        try (final FileChannel channel = FileChannel.open(targetFile, StandardOpenOption.READ)) {
+
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            this.fileCount.incrementAndGet();
+
+            if (!this.isCandidate(mapped)) {
+
+                result = 0;
+                return result;
+
+            }
+
+            if (this.twoStageCounter != null) {
+
+                // 前の置換対象の置換が後の置換対象の出現に影響するため、全体を復号する
+                final String content = StandardCharsets.UTF_8.newDecoder().decode(mapped).toString();
+                result = this.twoStageCounter.count(content, keyCounts);
+
+            } else {
+
+                result = this.replacer.count(new MappedReader(mapped), keyCounts);
+
+            }
+
+        } catch (final IOException e) {
+
+            throw new UncheckedIOException(e);
+
+        }
+
+        if (result == 0) {
+
+            return result;
+
+        }
+
+        for (int i = 0; i < keyCounts.length; i++) {
+
+            if (keyCounts[i] != 0) {
+
+                this.keyHitCounts.addAndGet(i, keyCounts[i]);
+
+            }
+
+        }
+
+        this.fileHitCounts.put(targetFile, result);
+        return result;
+
+    }
+
+    /**
+     * 対象ファイルを置換する。 置換した場合だけ書き込む。
+     *
+     * @since 0.2.0
+     *
+     * @param targetFile
+     *                   対象ファイルのパス
+     *
+     * @return 置換した数
+     *
+     * @throws UncheckedIOException
+     *                              読み込み、または書き込みに失敗した場合
+     */
+    private long transformFile(final Path targetFile) {
+
+        final long result;
+
+        if (this.dryRun) {
+
+            result = this.countFile(targetFile);
+            return result;
+
+        }
+
+        try {
+
+            // メモリマップしたままのファイルを置き換えられない環境があるため、メモリマップせずに読み込む
+            final ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(targetFile));
+            this.fileCount.incrementAndGet();
+
+            if (!this.isCandidate(bytes)) {
+
+                result = 0;
+                return result;
+
+            }
+
+            final CharBuffer    content  = StandardCharsets.UTF_8.newDecoder().decode(bytes);
+            final StringBuilder replaced = new StringBuilder(content.length());
+            result = this.replacer.replace(content, replaced);
+
+            if (result == 0) {
+
+                return result;
+
+            }
+
+            MptfFileTransformer.writeAtomically(targetFile, replaced);
+            this.changedFileCount.incrementAndGet();
+
+        } catch (final IOException e) {
+
+            throw new UncheckedIOException(e);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 対象ファイルのバイト列が、候補の絞り込みで候補となるかを返す。 候補とならない場合は、除いた対象ファイルとして数える。
+     *
+     * @since 0.2.0
+     *
+     * @param bytes
+     *              対象ファイルのバイト列
+     *
+     * @return true：候補となる、false：除く
+     */
+    private boolean isCandidate(final ByteBuffer bytes) {
+
+        boolean result = true;
+
+        if ((this.candidateFilter == null) || this.candidateFilter.mayContain(bytes)) {
+
+            return result;
+
+        }
+
+        this.skippedFileCount.incrementAndGet();
+
+        result = false;
+        return result;
+
+    }
+
+    /**
+     * ディレクトリ内の対象ファイルかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param path
+     *             パス
+     *
+     * @return true：対象ファイル、false：対象ファイルではない
+     */
+    private static boolean isTargetFile(final Path path) {
+
+        final boolean result = Files.isRegularFile(path)
+            && path.getFileName().toString().endsWith(MptfFileTransformer.TARGET_EXTENSION);
+        return result;
+
+    }
+
+    /**
+     * 内容を一時ファイルに書き込み、対象ファイルに置き換える。 一時ファイルには、対象ファイルのアクセス権を設定する。
+     * アトミックな移動に対応しないファイルシステムの場合は、通常の移動で置き換える。
+     *
+     * @since 0.2.0
+     *
+     * @param targetFile
+     *                   対象ファイルのパス
+     * @param content
+     *                   内容
+     *
+     * @throws IOException
+     *                     一時ファイルの書き込み、または対象ファイルの置き換えに失敗した場合
+     */
+    private static void writeAtomically(final Path targetFile, final CharSequence content) throws IOException {
+
+        final Path tempPath = Files.createTempFile(targetFile.toAbsolutePath().getParent(),
+            targetFile.getFileName().toString(), MptfFileTransformer.TEMP_EXTENSION);
+
+        try {
+
+            Files.writeString(tempPath, content, StandardCharsets.UTF_8);
+
+            if (Files.getFileStore(targetFile).supportsFileAttributeView(PosixFileAttributeView.class)) {
+
+                Files.setPosixFilePermissions(tempPath, Files.getPosixFilePermissions(targetFile));
+
+            }
+
+            try {
+
+                Files.move(tempPath, targetFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            } catch (final AtomicMoveNotSupportedException e) {
+
+                Files.move(tempPath, targetFile, StandardCopyOption.REPLACE_EXISTING);
+
+            }
+
+        } finally {
+
+            Files.deleteIfExists(tempPath);
+
+        }
+
+    }
+
+}
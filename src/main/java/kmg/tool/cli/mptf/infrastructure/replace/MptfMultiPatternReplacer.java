@@ -0,0 +1,885 @@
+package kmg.tool.cli.mptf.infrastructure.replace;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 複数パターンの置換処理<br>
+ * <p>
+ * 全てのマッピングの置換対象をAho-Corasick法のオートマトンにまとめ、文字列を先頭から1回だけ走査して置換する。 マッピングの件数に関わらず、走査の時間は文字列の長さと置換対象の最大の長さの積以下となる。
+ * </p>
+ * <p>
+ * 置換対象が重なる場合は、最も左から始まる置換対象を優先し、同じ位置から始まる場合は最も長い置換対象を優先する。 置換した値は再び走査しないため、置換値が他のマッピングの置換対象を含んでも、続けて置換されない。
+ * </p>
+ * <p>
+ * 置換対象が互いに重ならない場合（他の置換対象を含まず、末尾が他の置換対象の先頭と一致しない場合）は、置換対象の出現が互いに重ならないため、マッピングの順に置換対象を一意の値に置換し、続けて置換値に置換する2段階置換方式と、
+ * 置換の結果と置換した数が一致する。 重なるかは{@link #isOverlapFree()}で確認できる。
+ * </p>
+ * <p>
+ * オートマトンは作成した後に変更しないため、{@link #replace(CharSequence, StringBuilder)}は複数のスレッドから同時に呼び出せる。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class MptfMultiPatternReplacer {
+
+    /**
+     * 根のノードの番号
+     *
+     * @since 0.2.0
+     */
+    private static final int ROOT = 0;
+
+    /**
+     * 置換対象がないことを表す番号
+     *
+     * @since 0.2.0
+     */
+    private static final int NONE = -1;
+
+    /**
+     * 初期のノードの数
+     *
+     * @since 0.2.0
+     */
+    private static final int INITIAL_NODE_CAPACITY = 16;
+
+    /**
+     * 遷移の表のハッシュ値の乗数
+     *
+     * @since 0.2.0
+     */
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /**
+     * 読み込みながら数える場合に、1回に走査する文字数
+     *
+     * @since 0.2.0
+     */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * 置換対象の番号ごとの置換対象
+     *
+     * @since 0.2.0
+     */
+    private final String[] keys;
+
+    /**
+     * 置換対象の番号ごとの置換値
+     *
+     * @since 0.2.0
+     */
+    private final String[] replacements;
+
+    /**
+     * 置換対象の数
+     *
+     * @since 0.2.0
+     */
+    private final int keyCount;
+
+    /**
+     * 置換対象の最大の長さ
+     *
+     * @since 0.2.0
+     */
+    private final int maxKeyLength;
+
+    /**
+     * 置換対象が互いに重ならないか
+     *
+     * @since 0.2.0
+     */
+    private final boolean overlapFree;
+
+    /**
+     * ノードの数
+     *
+     * @since 0.2.0
+     */
+    private int nodeCount;
+
+    /**
+     * ノードごとの失敗時の遷移先
+     *
+     * @since 0.2.0
+     */
+    private int[] failures;
+
+    /**
+     * ノードごとの根からの深さ
+     *
+     * @since 0.2.0
+     */
+    private int[] depths;
+
+    /**
+     * ノードごとの置換対象の番号。置換対象の終わりでない場合は、{@link #NONE}
+     *
+     * @since 0.2.0
+     */
+    private int[] keyIndexes;
+
+    /**
+     * ノードごとの、失敗時の遷移先をたどって最初に見つかる置換対象の終わりのノード。ない場合は、{@link #NONE}
+     *
+     * @since 0.2.0
+     */
+    private int[] outputLinks;
+
+    /**
+     * ノードごとの最初の子のノード。ない場合は、{@link #ROOT}
+     *
+     * @since 0.2.0
+     */
+    private int[] firstChildren;
+
+    /**
+     * ノードごとの次の兄弟のノード。ない場合は、{@link #ROOT}
+     *
+     * @since 0.2.0
+     */
+    private int[] nextSiblings;
+
+    /**
+     * ノードごとの親からの遷移の文字
+     *
+     * @since 0.2.0
+     */
+    private char[] nodeChars;
+
+    /**
+     * 遷移の表のキー（ノードの番号と文字）
+     *
+     * @since 0.2.0
+     */
+    private long[] transitionKeys;
+
+    /**
+     * 遷移の表の遷移先のノード。空きの場合は、{@link #ROOT}
+     *
+     * @since 0.2.0
+     */
+    private int[] transitionTargets;
+
+    /**
+     * 遷移の数
+     *
+     * @since 0.2.0
+     */
+    private int transitionCount;
+
+    /**
+     * コンストラクタ<br>
+     * <p>
+     * マッピングの置換対象からオートマトンを作成する。 置換対象が空のマッピングは除く。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param mapping
+     *                置換対象と置換値のマッピング
+     */
+    public MptfMultiPatternReplacer(final Map<String, String> mapping) {
+
+        this.keys = new String[mapping.size()];
+        this.replacements = new String[mapping.size()];
+        this.failures = new int[MptfMultiPatternReplacer.INITIAL_NODE_CAPACITY];
+        this.depths = new int[MptfMultiPatternReplacer.INITIAL_NODE_CAPACITY];
+        this.keyIndexes = new int[MptfMultiPatternReplacer.INITIAL_NODE_CAPACITY];
+        this.outputLinks = new int[MptfMultiPatternReplacer.INITIAL_NODE_CAPACITY];
+        this.firstChildren = new int[MptfMultiPatternReplacer.INITIAL_NODE_CAPACITY];
+        this.nextSiblings = new int[MptfMultiPatternReplacer.INITIAL_NODE_CAPACITY];
+        this.nodeChars = new char[MptfMultiPatternReplacer.INITIAL_NODE_CAPACITY];
+        this.transitionKeys = new long[MptfMultiPatternReplacer.INITIAL_NODE_CAPACITY * 2];
+        this.transitionTargets = new int[MptfMultiPatternReplacer.INITIAL_NODE_CAPACITY * 2];
+
+        /* 根のノードの作成 */
+        this.addNode(MptfMultiPatternReplacer.ROOT, '\0');
+
+        /* 置換対象の追加 */
+        int keyIndex  = 0;
+        int maxLength = 0;
+
+        for (final Map.Entry<String, String> entry : mapping.entrySet()) {
+
+            if (entry.getKey().isEmpty()) {
+
+                continue;
+
+            }
+
+            this.addKey(entry.getKey(), keyIndex);
+            this.keys[keyIndex] = entry.getKey();
+            this.replacements[keyIndex] = entry.getValue();
+            maxLength = Math.max(maxLength, entry.getKey().length());
+            keyIndex++;
+
+        }
+
+        this.keyCount = keyIndex;
+        this.maxKeyLength = maxLength;
+
+        /* 失敗時の遷移先の設定 */
+        this.buildFailures();
+
+        this.overlapFree = this.checkOverlapFree();
+
+    }
+
+    /**
+     * 文字列を1回だけ走査して、全ての置換対象を置換値に置換し、出力に追加する。
+     *
+     * @since 0.2.0
+     *
+     * @param text
+     *               文字列
+     * @param output
+     *               出力
+     *
+     * @return 置換した数
+     */
+    public long replace(final CharSequence text, final StringBuilder output) {
+
+        final long result = this.scan(text, output, null, true, null);
+        return result;
+
+    }
+
+    /**
+     * 文字列を1回だけ走査して、置換した場合と同じ置換対象の出現を、置換対象の番号ごとに数える。 置換はしない。
+     *
+     * @since 0.2.0
+     *
+     * @param text
+     *                  文字列
+     * @param keyCounts
+     *                  置換対象の番号ごとの出現数。出現数を加算する。長さは、置換対象の数以上とする。
+     *
+     * @return 出現数の合計
+     */
+    public long count(final CharSequence text, final long[] keyCounts) {
+
+        final long result = this.scan(text, null, keyCounts, true, null);
+        return result;
+
+    }
+
+    /**
+     * 読み込みながら走査して、置換した場合と同じ置換対象の出現を、置換対象の番号ごとに数える。 置換はしない。
+     * <p>
+     * 一定の文字数ごとに走査し、確定していない末尾の文字（置換対象の最大の長さ以下）だけを次の走査に持ち越すため、文字列の全体を保持しない。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param reader
+     *                  読み込み元
+     * @param keyCounts
+     *                  置換対象の番号ごとの出現数。出現数を加算する。長さは、置換対象の数以上とする。
+     *
+     * @return 出現数の合計
+     *
+     * @throws IOException
+     *                     読み込みに失敗した場合
+     */
+    public long count(final Reader reader, final long[] keyCounts) throws IOException {
+
+        long result = 0;
+
+        final char[] buffer = new char[MptfMultiPatternReplacer.CHUNK_SIZE + this.maxKeyLength];
+        final int[]  resume = new int[1];
+        int          length = 0;
+        boolean      end    = false;
+
+        while (!end) {
+
+            final int read = reader.read(buffer, length, buffer.length - length);
+            end = read < 0;
+
+            if (!end) {
+
+                length += read;
+
+                if (length < buffer.length) {
+
+                    continue;
+
+                }
+
+            }
+
+            result += this.scan(CharBuffer.wrap(buffer, 0, length), null, keyCounts, end, resume);
+
+            if (!end) {
+
+                // 確定していない末尾の文字を、先頭に移して持ち越す
+                System.arraycopy(buffer, resume[0], buffer, 0, length - resume[0]);
+                length -= resume[0];
+
+            }
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 置換対象の数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 置換対象の数
+     */
+    public int getKeyCount() {
+
+        final int result = this.keyCount;
+        return result;
+
+    }
+
+    /**
+     * 置換対象を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param keyIndex
+     *                 置換対象の番号
+     *
+     * @return 置換対象
+     */
+    public String getKey(final int keyIndex) {
+
+        final String result = this.keys[keyIndex];
+        return result;
+
+    }
+
+    /**
+     * 置換値を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param keyIndex
+     *                 置換対象の番号
+     *
+     * @return 置換値
+     */
+    public String getReplacement(final int keyIndex) {
+
+        final String result = this.replacements[keyIndex];
+        return result;
+
+    }
+
+    /**
+     * 置換対象が互いに重ならないかを返す。
+     * <p>
+     * 重ならない場合は、2段階置換方式と置換の結果が一致する。 重なる場合は、最も左から始まり、同じ位置では最も長い置換対象を置換するため、マッピングの順に置換する2段階置換方式と結果が異なる場合がある。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：重ならない、false：重なる
+     */
+    public boolean isOverlapFree() {
+
+        final boolean result = this.overlapFree;
+        return result;
+
+    }
+
+    /**
+     * 文字列を1回だけ走査して、置換対象を見つける。
+     * <p>
+     * 置換対象を確定した時点で、確定した置換対象の後ろの文字を既に読んでいる場合は、確定した置換対象の終わりから根の状態で走査し直す。
+     * 長い置換対象の途中を読んでいる間に見つかった、確定した置換対象の後ろから始まる置換対象を取りこぼさない。 走査し直す文字数は、置換対象の最大の長さ以下となる。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param text
+     *                  文字列
+     * @param output
+     *                  出力。置換しない場合は、null
+     * @param keyCounts
+     *                  置換対象の番号ごとの出現数。数えない場合は、null
+     * @param endOfInput
+     *                  true：文字列の終わりが入力の終わり、false：続きの入力がある（出力しない場合だけ指定できる）
+     * @param resume
+     *                  続きの入力がある場合に、次の走査を始める位置（確定していない文字の開始位置）の格納先。入力の終わりの場合は、null
+     *
+     * @return 確定した置換対象の数
+     */
+    private long scan(final CharSequence text, final StringBuilder output, final long[] keyCounts,
+        final boolean endOfInput, final int[] resume) {
+
+        long result = 0;
+
+        int state        = MptfMultiPatternReplacer.ROOT;
+        int cursor       = 0;
+        int pendingStart = 0;
+        int pendingEnd   = 0;
+        int pendingKey   = MptfMultiPatternReplacer.NONE;
+        int i            = 0;
+
+        while ((i < text.length()) || (endOfInput && (pendingKey != MptfMultiPatternReplacer.NONE))) {
+
+            final boolean end = i == text.length();
+
+            if (!end) {
+
+                state = this.nextState(state, text.charAt(i));
+
+            }
+
+            /* 保留中の置換対象の確定 */
+            // 文字列の終わりに達した場合か、以降に見つかる置換対象が、保留中の置換対象より前から始まらない場合
+            if ((pendingKey != MptfMultiPatternReplacer.NONE)
+                && (end || ((i + 1 - this.depths[state]) > pendingStart))) {
+
+                this.commit(text, output, keyCounts, cursor, pendingStart, pendingKey);
+                cursor = pendingEnd;
+                pendingKey = MptfMultiPatternReplacer.NONE;
+                result++;
+
+                // 確定した置換対象の終わりから走査し直す
+                state = MptfMultiPatternReplacer.ROOT;
+                i = cursor;
+                continue;
+
+            }
+
+            /* この位置で終わる置換対象の検索 */
+            // 置換済みの範囲と重ならない、最も長い置換対象
+            int node = this.keyIndexes[state] != MptfMultiPatternReplacer.NONE ? state : this.outputLinks[state];
+
+            while ((node != MptfMultiPatternReplacer.NONE) && ((i + 1 - this.depths[node]) < cursor)) {
+
+                node = this.outputLinks[node];
+
+            }
+
+            if (node != MptfMultiPatternReplacer.NONE) {
+
+                final int start = i + 1 - this.depths[node];
+
+                if ((pendingKey == MptfMultiPatternReplacer.NONE) || (start <= pendingStart)) {
+
+                    pendingStart = start;
+                    pendingEnd = i + 1;
+                    pendingKey = this.keyIndexes[node];
+
+                }
+
+            }
+
+            i++;
+
+        }
+
+        if (!endOfInput) {
+
+            // 保留中の置換対象、または以降の置換対象の先頭となり得る末尾の文字から再開する
+            resume[0] = pendingKey != MptfMultiPatternReplacer.NONE ? pendingStart
+                : Math.max(cursor, text.length() - this.depths[state]);
+            return result;
+
+        }
+
+        if (output != null) {
+
+            output.append(text, cursor, text.length());
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 確定した置換対象を、出力に置換値として追加し、出現数を数える。
+     *
+     * @since 0.2.0
+     *
+     * @param text
+     *                  文字列
+     * @param output
+     *                  出力。置換しない場合は、null
+     * @param keyCounts
+     *                  置換対象の番号ごとの出現数。数えない場合は、null
+     * @param cursor
+     *                  出力に追加していない文字列の開始位置
+     * @param start
+     *                  置換対象の開始位置
+     * @param keyIndex
+     *                  置換対象の番号
+     */
+    private void commit(final CharSequence text, final StringBuilder output, final long[] keyCounts, final int cursor,
+        final int start, final int keyIndex) {
+
+        if (output != null) {
+
+            output.append(text, cursor, start).append(this.replacements[keyIndex]);
+
+        }
+
+        if (keyCounts != null) {
+
+            keyCounts[keyIndex]++;
+
+        }
+
+    }
+
+    /**
+     * 文字を読んだ後の状態を返す。 遷移がない場合は、失敗時の遷移先をたどる。
+     *
+     * @since 0.2.0
+     *
+     * @param state
+     *              現在の状態
+     * @param c
+     *              文字
+     *
+     * @return 次の状態
+     */
+    private int nextState(final int state, final char c) {
+
+        int result = state;
+
+        while (true) {
+
+            final int target = this.getTransition(result, c);
+
+            if (target != MptfMultiPatternReplacer.ROOT) {
+
+                result = target;
+                return result;
+
+            }
+
+            if (result == MptfMultiPatternReplacer.ROOT) {
+
+                return result;
+
+            }
+
+            result = this.failures[result];
+
+        }
+
+    }
+
+    /**
+     * 置換対象をトライ木に追加する。
+     *
+     * @since 0.2.0
+     *
+     * @param key
+     *                 置換対象
+     * @param keyIndex
+     *                 置換対象の番号
+     */
+    private void addKey(final String key, final int keyIndex) {
+
+        int node = MptfMultiPatternReplacer.ROOT;
+
+        for (int i = 0; i < key.length(); i++) {
+
+            final char c     = key.charAt(i);
+            int        child = this.getTransition(node, c);
+
+            if (child == MptfMultiPatternReplacer.ROOT) {
+
+                child = this.addNode(node, c);
+                this.putTransition(node, c, child);
+
+            }
+
+            node = child;
+
+        }
+
+        this.keyIndexes[node] = keyIndex;
+
+    }
+
+    /**
+     * ノードを追加する。
+     *
+     * @since 0.2.0
+     *
+     * @param parent
+     *               親のノード。根のノードを追加する場合は、{@link #ROOT}
+     * @param c
+     *               親からの遷移の文字
+     *
+     * @return 追加したノード
+     */
+    private int addNode(final int parent, final char c) {
+
+        final int result = this.nodeCount;
+
+        if (result == this.failures.length) {
+
+            final int capacity = result * 2;
+            this.failures = Arrays.copyOf(this.failures, capacity);
+            this.depths = Arrays.copyOf(this.depths, capacity);
+            this.keyIndexes = Arrays.copyOf(this.keyIndexes, capacity);
+            this.outputLinks = Arrays.copyOf(this.outputLinks, capacity);
+            this.firstChildren = Arrays.copyOf(this.firstChildren, capacity);
+            this.nextSiblings = Arrays.copyOf(this.nextSiblings, capacity);
+            this.nodeChars = Arrays.copyOf(this.nodeChars, capacity);
+
+        }
+
+        this.keyIndexes[result] = MptfMultiPatternReplacer.NONE;
+        this.outputLinks[result] = MptfMultiPatternReplacer.NONE;
+        this.nodeChars[result] = c;
+
+        if (result != MptfMultiPatternReplacer.ROOT) {
+
+            this.depths[result] = this.depths[parent] + 1;
+            this.nextSiblings[result] = this.firstChildren[parent];
+            this.firstChildren[parent] = result;
+
+        }
+
+        this.nodeCount++;
+        return result;
+
+    }
+
+    /**
+     * 根に近いノードから順に、失敗時の遷移先と、置換対象の終わりのノードへのリンクを設定する。
+     *
+     * @since 0.2.0
+     */
+    private void buildFailures() {
+
+        final int[] queue = new int[this.nodeCount];
+        int         head  = 0;
+        int         tail  = 0;
+
+        queue[tail++] = MptfMultiPatternReplacer.ROOT;
+
+        while (head < tail) {
+
+            final int parent = queue[head++];
+
+            for (int child = this.firstChildren[parent]; child != MptfMultiPatternReplacer.ROOT;
+                child = this.nextSiblings[child]) {
+
+                int failure = MptfMultiPatternReplacer.ROOT;
+
+                if (parent != MptfMultiPatternReplacer.ROOT) {
+
+                    failure = this.nextState(this.failures[parent], this.nodeChars[child]);
+
+                }
+
+                this.failures[child] = failure;
+                this.outputLinks[child] = this.keyIndexes[failure] != MptfMultiPatternReplacer.NONE ? failure
+                    : this.outputLinks[failure];
+                queue[tail++] = child;
+
+            }
+
+        }
+
+    }
+
+    /**
+     * 置換対象が互いに重ならないかを確認する。
+     * <p>
+     * 全てのノードは置換対象の先頭の部分を表すため、次のいずれかの場合に重なる。 ノードが置換対象の終わりのノードへのリンクを持つ場合（他の置換対象を含む）。
+     * 置換対象の終わりのノードが、子のノードを持つ場合（他の置換対象の先頭と一致する）、または失敗時の遷移先が根でない場合（末尾が置換対象の先頭と一致する）。 末尾が自身の先頭と一致する置換対象も、重なるとする。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：重ならない、false：重なる
+     */
+    private boolean checkOverlapFree() {
+
+        boolean result = false;
+
+        for (int node = MptfMultiPatternReplacer.ROOT + 1; node < this.nodeCount; node++) {
+
+            if (this.outputLinks[node] != MptfMultiPatternReplacer.NONE) {
+
+                return result;
+
+            }
+
+            if (this.keyIndexes[node] == MptfMultiPatternReplacer.NONE) {
+
+                continue;
+
+            }
+
+            if ((this.firstChildren[node] != MptfMultiPatternReplacer.ROOT)
+                || (this.failures[node] != MptfMultiPatternReplacer.ROOT)) {
+
+                return result;
+
+            }
+
+        }
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 遷移先のノードを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param node
+     *             ノード
+     * @param c
+     *             文字
+     *
+     * @return 遷移先のノード。遷移がない場合は、{@link #ROOT}
+     */
+    private int getTransition(final int node, final char c) {
+
+        int result = MptfMultiPatternReplacer.ROOT;
+
+        final long key  = MptfMultiPatternReplacer.toTransitionKey(node, c);
+        final int  mask = this.transitionKeys.length - 1;
+
+        for (int slot = MptfMultiPatternReplacer.toSlot(key, mask); ; slot = (slot + 1) & mask) {
+
+            if (this.transitionTargets[slot] == MptfMultiPatternReplacer.ROOT) {
+
+                return result;
+
+            }
+
+            if (this.transitionKeys[slot] == key) {
+
+                result = this.transitionTargets[slot];
+                return result;
+
+            }
+
+        }
+
+    }
+
+    /**
+     * 遷移を追加する。 遷移の数が表の大きさの半分を超える場合は、表を大きくする。
+     *
+     * @since 0.2.0
+     *
+     * @param node
+     *               ノード
+     * @param c
+     *               文字
+     * @param target
+     *               遷移先のノード
+     */
+    private void putTransition(final int node, final char c, final int target) {
+
+        if (((this.transitionCount + 1) * 2) > this.transitionKeys.length) {
+
+            final long[] oldKeys    = this.transitionKeys;
+            final int[]  oldTargets = this.transitionTargets;
+            this.transitionKeys = new long[oldKeys.length * 2];
+            this.transitionTargets = new int[oldKeys.length * 2];
+
+            for (int i = 0; i < oldKeys.length; i++) {
+
+                if (oldTargets[i] != MptfMultiPatternReplacer.ROOT) {
+
+                    this.insertTransition(oldKeys[i], oldTargets[i]);
+
+                }
+
+            }
+
+        }
+
+        this.insertTransition(MptfMultiPatternReplacer.toTransitionKey(node, c), target);
+        this.transitionCount++;
+
+    }
+
+    /**
+     * 遷移の表の空きに、遷移を書き込む。
+     *
+     * @since 0.2.0
+     *
+     * @param key
+     *               遷移のキー
+     * @param target
+     *               遷移先のノード
+     */
+    private void insertTransition(final long key, final int target) {
+
+        final int mask = this.transitionKeys.length - 1;
+        int       slot = MptfMultiPatternReplacer.toSlot(key, mask);
+
+        while (this.transitionTargets[slot] != MptfMultiPatternReplacer.ROOT) {
+
+            slot = (slot + 1) & mask;
+
+        }
+
+        this.transitionKeys[slot] = key;
+        this.transitionTargets[slot] = target;
+
+    }
+
+    /**
+     * ノードと文字から、遷移のキーを作成する。
+     *
+     * @since 0.2.0
+     *
+     * @param node
+     *             ノード
+     * @param c
+     *             文字
+     *
+     * @return 遷移のキー
+     */
+    private static long toTransitionKey(final int node, final char c) {
+
+        final long result = ((long) node << Character.SIZE) | c;
+        return result;
+
+    }
+
+    /**
+     * 遷移のキーから、遷移の表の位置を求める。
+     *
+     * @since 0.2.0
+     *
+     * @param key
+     *             遷移のキー
+     * @param mask
+     *             遷移の表の大きさから1を引いた値
+     *
+     * @return 遷移の表の位置
+     */
+    private static int toSlot(final long key, final int mask) {
+
+        final int result = (int) ((key * MptfMultiPatternReplacer.HASH_MULTIPLIER) >>> Integer.SIZE) & mask;
+        return result;
+
+    }
+
+}
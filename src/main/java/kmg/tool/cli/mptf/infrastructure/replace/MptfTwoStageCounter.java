@@ -0,0 +1,108 @@
+package kmg.tool.cli.mptf.infrastructure.replace;
+
+import java.util.UUID;
+
+/**
+ * 2段階置換方式の出現数の集計<br>
+ * <p>
+ * マッピング変換サービスと同じく、マッピングの順に対象値を一意の値（UUID）に置換しながら、対象値ごとの出現を数える。 置換値への置換（第2段階）は、出現数に影響しないため行わない。
+ * </p>
+ * <p>
+ * 前の対象値の置換が後の対象値の出現に影響するため、オートマトンによる1回の走査では数えられない。 対象値が互いに重なるマッピングのドライランに使い、文字列の全体をメモリ上に保持する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public class MptfTwoStageCounter {
+
+    /**
+     * 複数パターンの置換処理（対象値の順の参照元）
+     *
+     * @since 0.2.0
+     */
+    private final MptfMultiPatternReplacer replacer;
+
+    /**
+     * コンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param replacer
+     *                 複数パターンの置換処理。対象値をマッピングの順に保持する。
+     */
+    public MptfTwoStageCounter(final MptfMultiPatternReplacer replacer) {
+
+        this.replacer = replacer;
+
+    }
+
+    /**
+     * 2段階置換方式で置換した場合の対象値の出現を、対象値の番号ごとに数える。 置換はしない。
+     *
+     * @since 0.2.0
+     *
+     * @param text
+     *                  文字列
+     * @param keyCounts
+     *                  対象値の番号ごとの出現数。出現数を加算する。長さは、対象値の数以上とする。
+     *
+     * @return 出現数の合計
+     */
+    public long count(final String text, final long[] keyCounts) {
+
+        long result = 0;
+
+        String content = text;
+
+        for (int i = 0; i < this.replacer.getKeyCount(); i++) {
+
+            final String key   = this.replacer.getKey(i);
+            final long   count = MptfTwoStageCounter.countOccurrences(content, key);
+
+            if (count == 0) {
+
+                continue;
+
+            }
+
+            keyCounts[i] += count;
+            result += count;
+            content = content.replace(key, UUID.randomUUID().toString());
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 文字列に含まれる対象値の、重ならない出現の数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param text
+     *              文字列
+     * @param value
+     *              対象値
+     *
+     * @return 出現の数
+     */
+    private static long countOccurrences(final String text, final String value) {
+
+        long result = 0;
+
+        for (int index = text.indexOf(value); index >= 0; index = text.indexOf(value, index + value.length())) {
+
+            result++;
+
+        }
+
+        return result;
+
+    }
+
+}
@@ -0,0 +1,13 @@
+/**
+ * マッピング変換の置換処理パッケージ<br>
+ * <p>
+ * 全てのマッピングの置換対象を1つのオートマトンにまとめ、対象ファイルを1回の走査で置換するクラスと、ディレクトリの対象ファイルを並列に置換するクラス、置換対象を含まない対象ファイルを事前に除くクラスが含まれます。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.mptf.infrastructure.replace;
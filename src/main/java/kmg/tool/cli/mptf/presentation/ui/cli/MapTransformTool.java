@@ -1,14 +1,16 @@
 package kmg.tool.cli.mptf.presentation.ui.cli;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.SpringApplication;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
 
 import kmg.core.domain.service.KmgPfaMeasService;
 import kmg.core.domain.service.impl.KmgPfaMeasServiceImpl;
@@ -19,21 +21,41 @@ import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseValException;
 import kmg.tool.base.input.domain.service.PlainContentInputServic;
 import kmg.tool.base.mptf.application.service.MapTransformService;
+import kmg.tool.cli.cmn.infrastructure.output.InPlaceUpdateGuard;
+import kmg.tool.cli.cmn.infrastructure.startup.KmgToolCliSpringApplication;
 import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
-import kmg.tool.cli.input.presentation.ui.cli.AbstractInputTool;
+import kmg.tool.cli.input.infrastructure.reader.LineReader;
 import kmg.tool.cli.input.presentation.ui.cli.AbstractPlainContentInputTool;
+import kmg.tool.cli.mptf.infrastructure.replace.MptfFileTransformer;
+import kmg.tool.cli.mptf.infrastructure.replace.MptfMultiPatternReplacer;
 
 /**
  * マッピング変換ツール<br>
+ * <p>
+ * 入力ファイルの1行目に対象ファイルのパス、2行目以降に「置換対象,置換値」の形式でマッピングを記載する。
+ * 入力ファイルがメモリマップの閾値以上の場合は、入力ファイルをメモリマップして行単位に読み込む。
+ * </p>
+ * <p>
+ * オートマトンによる置換を指定した場合は、マッピング変換サービスの代わりに、全てのマッピングの置換対象をまとめたオートマトンで対象ファイルを1回だけ走査して置換する。
+ * 置換した内容は、中間ファイルを経由せず、対象ファイルごとに1回の書き込みで置き換える。 マッピングの対象値が互いに重ならない場合、結果は2段階置換方式と一致する。 重なる場合は、警告を出力する。
+ * 対象パスがディレクトリの場合は、ディレクトリの検索と対象ファイルごとの置換を、並列数（「--kmg.tool.cli.mptf.parallelism=並列数」。既定はCPUのコア数）のスレッドで並列に処理する。
+ * </p>
+ * <p>
+ * オートマトンで置換する場合は、対象ファイルのバイト列から、いずれの対象値も含まない対象ファイルを事前に除き、復号と走査をしない。
+ * 事前に除かない場合は、「--kmg.tool.cli.mptf.prefilter=false」を指定する。
+ * ドライラン（「--kmg.tool.cli.mptf.dry-run=true」）を指定した場合は、対象ファイルを変更せず、実際の実行と同じ方式で置換した場合の出現数を、
+ * 対象値ごとと対象ファイルごとに出力する。 出現しない対象値は、警告として出力する。
+ * 対象値が重ならない場合は、どちらの方式でも出現数が一致するため、オートマトンで読み込みながら数える。 オートマトンを指定せず、対象値が重なる場合は、2段階置換方式で数える。
+ * </p>
  *
  * @author KenichiroArai
  *
  * @since 0.1.0
  *
- * @version 0.1.3
+ * @version 0.2.0
  */
 @SpringBootApplication(scanBasePackages = {
-    "kmg"
+    "kmg.core", "kmg.fund", "kmg.tool.base"
 })
 public class MapTransformTool extends AbstractPlainContentInputTool {
 
@@ -47,6 +69,13 @@ public class MapTransformTool extends AbstractPlainContentInputTool {
      */
     private static final String TOOL_NAME = "マッピング変換ツール"; //$NON-NLS-1$
 
+    /**
+     * 対象パスがディレクトリの場合に、マッピング変換サービスが書き込むファイルの拡張子
+     *
+     * @since 0.2.0
+     */
+    private static final String TARGET_EXTENSION = ".java"; //$NON-NLS-1$
+
     /**
      * メッセージソース
      *
@@ -71,6 +100,38 @@ public class MapTransformTool extends AbstractPlainContentInputTool {
     @Autowired
     private MapTransformService mapTransformService;
 
+    /**
+     * オートマトンで置換するかの指定
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.mptf.automaton:false}")
+    private boolean automaton;
+
+    /**
+     * オートマトンで置換する場合の並列数。0以下の場合は、CPUのコア数
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.mptf.parallelism:0}")
+    private int parallelism;
+
+    /**
+     * ドライランの指定。対象ファイルを変更せず、出現数だけを出力する。
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.mptf.dry-run:false}")
+    private boolean dryRun;
+
+    /**
+     * オートマトンで置換する場合に、対象値を含まない対象ファイルを事前に除くかの指定
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.mptf.prefilter:true}")
+    private boolean prefilter;
+
     /**
      * 対象ファイルのパス
      *
@@ -96,14 +157,14 @@ public class MapTransformTool extends AbstractPlainContentInputTool {
     public static void main(final String[] args) {
 
         @SuppressWarnings("resource")
-        final ConfigurableApplicationContext ctx = SpringApplication.run(MapTransformTool.class, args);
+        final ConfigurableApplicationContext ctx = KmgToolCliSpringApplication.run(MapTransformTool.class, args);
 
         final MapTransformTool tool = ctx.getBean(MapTransformTool.class);
 
         /* 実行 */
         tool.execute();
 
-        ctx.close();
+        KmgToolCliSpringApplication.close(ctx, MapTransformTool.class);
 
     }
 
@@ -118,6 +179,62 @@ public class MapTransformTool extends AbstractPlainContentInputTool {
 
     }
 
+    /**
+     * オートマトンで置換するかの指定を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param automaton
+     *                  true：オートマトンで置換する、false：マッピング変換サービスで置換する
+     */
+    public void setAutomaton(final boolean automaton) {
+
+        this.automaton = automaton;
+
+    }
+
+    /**
+     * オートマトンで置換する場合の並列数を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param parallelism
+     *                    並列数。0以下の場合は、CPUのコア数
+     */
+    public void setParallelism(final int parallelism) {
+
+        this.parallelism = parallelism;
+
+    }
+
+    /**
+     * ドライランを設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param dryRun
+     *               true：対象ファイルを変更せず、出現数だけを出力する、false：置換する
+     */
+    public void setDryRun(final boolean dryRun) {
+
+        this.dryRun = dryRun;
+
+    }
+
+    /**
+     * オートマトンで置換する場合に、対象値を含まない対象ファイルを事前に除くかを設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param prefilter
+     *                  true：事前に除く、false：全ての対象ファイルを走査する
+     */
+    public void setPrefilter(final boolean prefilter) {
+
+        this.prefilter = prefilter;
+
+    }
+
     /**
      * 実行する
      *
@@ -130,8 +247,12 @@ public class MapTransformTool extends AbstractPlainContentInputTool {
 
         boolean result = true;
 
+        final StartupStep executeStep = this.startExecuteStep();
+
         final KmgPfaMeasService measService = new KmgPfaMeasServiceImpl(MapTransformTool.TOOL_NAME);
 
+        InPlaceUpdateGuard updateGuard = null;
+
         /* 開始 */
         measService.start();
 
@@ -155,8 +276,25 @@ public class MapTransformTool extends AbstractPlainContentInputTool {
             }
 
             /* マッピング変換処理 */
-            result &= this.mapTransformService.initialize(this.targetPath, this.mapping);
-            result &= this.mapTransformService.process();
+            if (this.dryRun) {
+
+                // 対象ファイルを変更しないため、更新日時の記録と復元はしない
+                result &= this.preview(measService);
+
+            } else if (this.automaton) {
+
+                // 置換した対象ファイルだけを書き込むため、更新日時の記録と復元はしない
+                result &= this.replaceByAutomaton(measService);
+
+            } else {
+
+                // マッピング変換サービスが書き込むJavaファイルだけを記録する
+                updateGuard = this.snapshotTarget(this.targetPath, MapTransformTool.TARGET_EXTENSION, measService);
+
+                result &= this.mapTransformService.initialize(this.targetPath, this.mapping);
+                result &= this.mapTransformService.process();
+
+            }
 
             /* 成功 */
             final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN19001;
@@ -174,6 +312,18 @@ public class MapTransformTool extends AbstractPlainContentInputTool {
 
             result = false;
 
+        } catch (final IOException e) {
+
+            /* 例外 */
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN26000;
+            final Object[]              messageArgs = {
+                this.getTargetInputPath(),
+            };
+            final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+            measService.error(msg, e);
+
+            result = false;
+
         } catch (final KmgFundMsgException e) {
 
             /* 例外 */
@@ -201,7 +351,12 @@ public class MapTransformTool extends AbstractPlainContentInputTool {
 
             /* 終了 */
 
+            // 例外で中断した場合も、内容が変わらなかった対象ファイルの更新日時を元に戻す
+            this.restoreUnchanged(updateGuard, measService);
+            this.releaseExpandedInput(measService);
+
             measService.end();
+            executeStep.end();
 
         }
 
@@ -226,6 +381,9 @@ public class MapTransformTool extends AbstractPlainContentInputTool {
 
     /**
      * 入力ファイルから設定する
+     * <p>
+     * 入力ファイルがgzipファイルの場合は展開しながら、メモリマップの閾値以上の場合はメモリマップで、行単位に読み込む。 それ以外の場合は入力サービスで読み込む。
+     * </p>
      *
      * @since 0.1.2
      *
@@ -233,12 +391,30 @@ public class MapTransformTool extends AbstractPlainContentInputTool {
      *
      * @throws KmgToolBaseMsgException
      *                                 KMGツールメッセージ例外
+     * @throws IOException
+     *                                 行単位での読み込みに失敗した場合
      */
-    private boolean fromInputFile() throws KmgToolBaseMsgException {
+    private boolean fromInputFile() throws KmgToolBaseMsgException, IOException {
 
         boolean result = true;
 
-        result &= this.loadPlainContent(AbstractInputTool.getInputPath());
+        if (this.isGzipInput()) {
+
+            result = this.fromLineReader();
+            return result;
+
+        }
+
+        final Path inputPath = this.resolveInputPath();
+
+        if (this.isMappedInput(inputPath)) {
+
+            result = this.fromLineReader();
+            return result;
+
+        }
+
+        result &= this.loadPlainContent(inputPath);
 
         final String content = this.getContent();
 
@@ -258,31 +434,278 @@ public class MapTransformTool extends AbstractPlainContentInputTool {
         // 2行目以降をマッピングデータとして処理
         for (int i = 1; i < lines.length; i++) {
 
-            final String line = lines[i].trim();
+            this.addMapping(lines[i]);
 
-            if (line.isEmpty()) {
+        }
 
-                continue;
+        return result;
+
+    }
+
+    /**
+     * 行リーダーで入力ファイルを行単位に読み込み、設定する。
+     * <p>
+     * 入力ファイル全体を文字列として保持しないため、大きな入力ファイルでもヒープの使用量は1行分となる。 空行以外の2行目がない場合は、入力サービスで読み込む場合と同じく失敗とする。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws IOException
+     *                     入力ファイルの読み込みに失敗した場合
+     */
+    private boolean fromLineReader() throws IOException {
+
+        boolean result = false;
+
+        try (final LineReader reader = this.openLineReader()) {
+
+            // 1行目はパス
+            final String firstLine = reader.readLine();
+
+            if (firstLine == null) {
+
+                return result;
 
             }
 
-            final String[] parts = KmgDelimiterTypes.COMMA.split(line);
+            // 2行目以降をマッピングデータとして処理
+            boolean hasMappingLine = false;
+            String  line;
 
-            if (parts.length < 2) {
+            while ((line = reader.readLine()) != null) {
+
+                hasMappingLine |= !line.isEmpty();
+                this.addMapping(line);
+
+            }
+
+            if (!hasMappingLine) {
+
+                return result;
 
+            }
+
+            this.targetPath = Paths.get(firstLine.trim());
+
+        }
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 全てのマッピングの置換対象をまとめたオートマトンで、対象パスのファイルを置換する。
+     *
+     * @since 0.2.0
+     *
+     * @param measService
+     *                    性能測定サービス
+     *
+     * @return true：成功、false：失敗
+     */
+    private boolean replaceByAutomaton(final KmgPfaMeasService measService) {
+
+        boolean result = false;
+
+        final MptfMultiPatternReplacer replacer    = new MptfMultiPatternReplacer(this.mapping);
+        final MptfFileTransformer      transformer
+            = new MptfFileTransformer(replacer, this.parallelism, false, this.prefilter);
+        final long                     count;
+
+        this.warnOverlapping(replacer, measService);
+
+        try {
+
+            count = transformer.transform(this.targetPath);
+
+        } catch (final IOException e) {
+
+            /* 例外 */
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN30001;
+            final Object[]              messageArgs = {
+                this.targetPath,
+            };
+            final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+            measService.error(msg, e);
+
+            return result;
+
+        }
+
+        final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN30000;
+        final Object[]              messageArgs = {
+            replacer.getKeyCount(), transformer.getFileCount(), transformer.getChangedFileCount(), count,
+            transformer.getParallelism(), transformer.getSkippedFileCount(),
+        };
+        final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+        measService.info(msg);
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * 対象パスを走査し、実際の実行と同じ方式で置換した場合の出現数を出力する。 対象ファイルは変更しない。
+     * <p>
+     * オートマトンを指定した場合と、対象値が重ならない場合は、オートマトンで数える。 オートマトンを指定せず、対象値が重なる場合は、マッピング変換サービスと同じ2段階置換方式で数える。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param measService
+     *                    計測サービス
+     *
+     * @return true：成功、false：失敗
+     */
+    private boolean preview(final KmgPfaMeasService measService) {
+
+        boolean result = false;
+
+        final MptfMultiPatternReplacer replacer    = new MptfMultiPatternReplacer(this.mapping);
+        final boolean                  twoStage    = !this.automaton && !replacer.isOverlapFree();
+        final MptfFileTransformer      transformer
+            = new MptfFileTransformer(replacer, this.parallelism, true, this.prefilter, twoStage);
+        final long                     count;
+
+        if (this.automaton) {
+
+            this.warnOverlapping(replacer, measService);
+
+        }
+
+        try {
+
+            count = transformer.transform(this.targetPath);
+
+        } catch (final IOException e) {
+
+            /* 例外 */
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN30001;
+            final Object[]              messageArgs = {
+                this.targetPath,
+            };
+            final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+            measService.error(msg, e);
+
+            return result;
+
+        }
+
+        /* 対象値ごとの出現数 */
+        for (int i = 0; i < replacer.getKeyCount(); i++) {
+
+            final long hitCount = transformer.getKeyHitCount(i);
+
+            if (hitCount == 0) {
+
+                final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN30006;
+                final Object[]              messageArgs = {
+                    replacer.getKey(i), replacer.getReplacement(i),
+                };
+                final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+                measService.warn(msg);
                 continue;
 
             }
 
-            final String targetValue      = parts[0].trim();
-            final String replacementValue = parts[1].trim();
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN30004;
+            final Object[]              messageArgs = {
+                replacer.getKey(i), replacer.getReplacement(i), hitCount,
+            };
+            final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+            measService.info(msg);
+
+        }
 
-            this.mapping.put(targetValue, replacementValue);
+        /* 対象ファイルごとの出現数 */
+        final Map<Path, Long> fileHitCounts = transformer.getFileHitCounts();
+
+        for (final Map.Entry<Path, Long> entry : fileHitCounts.entrySet()) {
+
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN30005;
+            final Object[]              messageArgs = {
+                entry.getKey(), entry.getValue(),
+            };
+            final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+            measService.info(msg);
 
         }
 
+        final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN30003;
+        final Object[]              messageArgs = {
+            replacer.getKeyCount(), transformer.getFileCount(), fileHitCounts.size(), count,
+            transformer.getParallelism(), transformer.getSkippedFileCount(),
+        };
+        final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+        measService.info(msg);
+
+        result = true;
         return result;
 
     }
 
+    /**
+     * マッピングの対象値が重なる場合は、2段階置換方式と結果が異なる場合があるため、警告を出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param replacer
+     *                    複数パターンの置換処理
+     * @param measService
+     *                    計測サービス
+     */
+    private void warnOverlapping(final MptfMultiPatternReplacer replacer, final KmgPfaMeasService measService) {
+
+        if (replacer.isOverlapFree()) {
+
+            return;
+
+        }
+
+        final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN30002;
+        final Object[]              messageArgs = {
+            replacer.getKeyCount(),
+        };
+        final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+        measService.warn(msg);
+
+    }
+
+    /**
+     * マッピングデータの1行をマッピングに追加する。 空行とカンマ区切りで2項目未満の行は無視する。
+     *
+     * @since 0.2.0
+     *
+     * @param mappingLine
+     *                    マッピングデータの行
+     */
+    private void addMapping(final String mappingLine) {
+
+        final String line = mappingLine.trim();
+
+        if (line.isEmpty()) {
+
+            return;
+
+        }
+
+        final String[] parts = KmgDelimiterTypes.COMMA.split(line);
+
+        if (parts.length < 2) {
+
+            return;
+
+        }
+
+        final String targetValue      = parts[0].trim();
+        final String replacementValue = parts[1].trim();
+
+        this.mapping.put(targetValue, replacementValue);
+
+    }
+
 }
@@ -1,11 +1,11 @@
 package kmg.tool.cli.msgtpcrt.presentation.ul.cli;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ConfigurableApplicationContext;
 
 import kmg.tool.base.msgtpcrt.service.MessageTypesCreationService;
+import kmg.tool.cli.cmn.infrastructure.startup.KmgToolCliSpringApplication;
 import kmg.tool.cli.dtc.presentation.ui.cli.AbstractDtcTool;
 
 /**
@@ -24,10 +24,10 @@ import kmg.tool.cli.dtc.presentation.ui.cli.AbstractDtcTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.0
+ * @version 0.2.0
  */
 @SpringBootApplication(scanBasePackages = {
-    "kmg"
+    "kmg.core", "kmg.fund", "kmg.tool.base"
 })
 public class MessageTypesCreationTool extends AbstractDtcTool {
 
@@ -83,7 +83,8 @@ public class MessageTypesCreationTool extends AbstractDtcTool {
     public static void main(final String[] args) {
 
         @SuppressWarnings("resource")
-        final ConfigurableApplicationContext ctx = SpringApplication.run(MessageTypesCreationTool.class, args);
+        final ConfigurableApplicationContext ctx
+            = KmgToolCliSpringApplication.run(MessageTypesCreationTool.class, args);
 
         final MessageTypesCreationTool tool = ctx.getBean(MessageTypesCreationTool.class);
 
@@ -93,7 +94,7 @@ public class MessageTypesCreationTool extends AbstractDtcTool {
         /* 実行 */
         tool.execute();
 
-        ctx.close();
+        KmgToolCliSpringApplication.close(ctx, MessageTypesCreationTool.class);
 
     }
 
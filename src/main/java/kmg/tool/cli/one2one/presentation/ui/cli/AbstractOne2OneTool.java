@@ -1,11 +1,14 @@
 package kmg.tool.cli.one2one.presentation.ui.cli;
 
+import java.nio.file.Path;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import kmg.fund.infrastructure.context.KmgMessageSource;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.io.domain.service.IoService;
 import kmg.tool.base.one2one.domain.service.One2OneService;
 import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliLogMsgTypes;
 import kmg.tool.cli.io.presentation.ui.cli.AbstractIoTool;
@@ -17,7 +20,7 @@ import kmg.tool.cli.io.presentation.ui.cli.AbstractIoTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.3
+ * @version 0.2.0
  */
 public abstract class AbstractOne2OneTool extends AbstractIoTool {
 
@@ -69,6 +72,9 @@ public abstract class AbstractOne2OneTool extends AbstractIoTool {
 
     /**
      * 初期化する
+     * <p>
+     * ストリーミングで処理する場合、またはパターンに一致したファイルを並列に処理する場合は、チャンクまたはファイルごとに初期化するため、ここでは初期化しない。
+     * </p>
      *
      * @since 0.1.0
      *
@@ -78,12 +84,18 @@ public abstract class AbstractOne2OneTool extends AbstractIoTool {
 
         final boolean result = false;
 
+        if (this.isStreaming() || this.isFanOut()) {
+
+            // ストリーミングまたは並列処理の場合は、チャンクまたはファイルごとに初期化する
+            return result;
+
+        }
+
         boolean initializeResult = false;
 
         try {
 
-            initializeResult
-                = this.getIoService().initialize(AbstractIoTool.getInputPath(), AbstractIoTool.getOutputPath());
+            initializeResult = this.getIoService().initialize(this.resolveInputPath(), this.resolveOutputPath());
 
         } catch (final KmgToolBaseMsgException e) {
 
@@ -109,6 +121,60 @@ public abstract class AbstractOne2OneTool extends AbstractIoTool {
 
     }
 
+    /**
+     * ストリーミングに対応しているかを返す。
+     * <p>
+     * 1入力ファイルから1出力ファイルへの変換ツールは、入力ファイルの行ごとに変換するため、対応している。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：対応している
+     */
+    @Override
+    protected boolean isStreamingSupported() {
+
+        final boolean result = true;
+        return result;
+
+    }
+
+    /**
+     * 入力ファイルと出力ファイルで入出力サービスを初期化し、処理する。
+     *
+     * @since 0.2.0
+     *
+     * @param ioService
+     *                   1入力ファイルから1出力ファイルへの変換ツールサービス
+     * @param inputPath
+     *                   入力ファイルパス
+     * @param outputPath
+     *                   出力ファイルパス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     */
+    @Override
+    protected boolean processFile(final IoService ioService, final Path inputPath, final Path outputPath)
+        throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        final One2OneService one2OneService = (One2OneService) ioService;
+
+        if (!one2OneService.initialize(inputPath, outputPath)) {
+
+            return result;
+
+        }
+
+        result = one2OneService.process();
+        return result;
+
+    }
+
     /**
      * 1入力ファイルから1出力ファイルへの変換ツールサービスを返す。
      *
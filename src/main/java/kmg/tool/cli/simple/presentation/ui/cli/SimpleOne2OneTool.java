@@ -1,11 +1,11 @@
 package kmg.tool.cli.simple.presentation.ui.cli;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ConfigurableApplicationContext;
 
 import kmg.tool.base.one2one.application.service.SimpleOne2OneService;
+import kmg.tool.cli.cmn.infrastructure.startup.KmgToolCliSpringApplication;
 import kmg.tool.cli.one2one.presentation.ui.cli.AbstractOne2OneTool;
 
 /**
@@ -15,10 +15,10 @@ import kmg.tool.cli.one2one.presentation.ui.cli.AbstractOne2OneTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.0
+ * @version 0.2.0
  */
 @SpringBootApplication(scanBasePackages = {
-    "kmg"
+    "kmg.core", "kmg.fund", "kmg.tool.base"
 })
 public class SimpleOne2OneTool extends AbstractOne2OneTool {
 
@@ -48,7 +48,7 @@ public class SimpleOne2OneTool extends AbstractOne2OneTool {
     public static void main(final String[] args) {
 
         @SuppressWarnings("resource")
-        final ConfigurableApplicationContext ctx = SpringApplication.run(SimpleOne2OneTool.class, args);
+        final ConfigurableApplicationContext ctx = KmgToolCliSpringApplication.run(SimpleOne2OneTool.class, args);
 
         final SimpleOne2OneTool tool = ctx.getBean(SimpleOne2OneTool.class);
 
@@ -58,7 +58,7 @@ public class SimpleOne2OneTool extends AbstractOne2OneTool {
         /* 実行 */
         tool.execute();
 
-        ctx.close();
+        KmgToolCliSpringApplication.close(ctx, SimpleOne2OneTool.class);
 
     }
 
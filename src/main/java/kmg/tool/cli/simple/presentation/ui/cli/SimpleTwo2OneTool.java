@@ -1,11 +1,11 @@
 package kmg.tool.cli.simple.presentation.ui.cli;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ConfigurableApplicationContext;
 
 import kmg.tool.base.simple.application.service.SimpleTwo2OneService;
+import kmg.tool.cli.cmn.infrastructure.startup.KmgToolCliSpringApplication;
 import kmg.tool.cli.two2one.presentation.ui.cli.AbstractTwo2OneTool;
 
 /**
@@ -15,10 +15,10 @@ import kmg.tool.cli.two2one.presentation.ui.cli.AbstractTwo2OneTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.0
+ * @version 0.2.0
  */
 @SpringBootApplication(scanBasePackages = {
-    "kmg"
+    "kmg.core", "kmg.fund", "kmg.tool.base"
 })
 public class SimpleTwo2OneTool extends AbstractTwo2OneTool {
 
@@ -48,7 +48,7 @@ public class SimpleTwo2OneTool extends AbstractTwo2OneTool {
     public static void main(final String[] args) {
 
         @SuppressWarnings("resource")
-        final ConfigurableApplicationContext ctx = SpringApplication.run(SimpleTwo2OneTool.class, args);
+        final ConfigurableApplicationContext ctx = KmgToolCliSpringApplication.run(SimpleTwo2OneTool.class, args);
 
         final SimpleTwo2OneTool tool = ctx.getBean(SimpleTwo2OneTool.class);
 
@@ -58,7 +58,7 @@ public class SimpleTwo2OneTool extends AbstractTwo2OneTool {
         /* 実行 */
         tool.execute();
 
-        ctx.close();
+        KmgToolCliSpringApplication.close(ctx, SimpleTwo2OneTool.class);
 
     }
 
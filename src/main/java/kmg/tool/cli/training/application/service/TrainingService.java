@@ -0,0 +1,34 @@
+package kmg.tool.cli.training.application.service;
+
+import java.nio.file.Path;
+
+/**
+ * トレーニング実行サービスインタフェース<br>
+ * <p>
+ * サンプルの入力で全てのツールを実行し、ツールの実行で使用するクラスをJVMに読み込ませる。<br>
+ * AOTキャッシュ（-XX:AOTCacheOutput）を指定したJVMで実行することで、本番の起動で再利用できるキャッシュを作成する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+public interface TrainingService {
+
+    /**
+     * サンプルの入力を作業ディレクトリに準備し、全てのツールを順に実行する。
+     *
+     * @since 0.2.0
+     *
+     * @param sampleDir
+     *                  サンプルディレクトリ
+     * @param workDir
+     *                  作業ディレクトリ
+     *
+     * @return true：全てのツールが成功、false：失敗したツールがある
+     */
+    boolean train(Path sampleDir, Path workDir);
+
+}
@@ -0,0 +1,291 @@
+package kmg.tool.cli.training.application.service.impl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliLogMsgTypes;
+import kmg.tool.cli.launcher.application.service.ToolDispatchService;
+import kmg.tool.cli.launcher.domain.model.ToolJobModel;
+import kmg.tool.cli.launcher.domain.model.impl.ToolJobModelImpl;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+import kmg.tool.cli.training.application.service.TrainingService;
+
+/**
+ * トレーニング実行サービス<br>
+ * <p>
+ * サンプルディレクトリには、サブコマンドのキーをファイル名とする入力ファイル（例：acccrt.txt）を配置する。<br>
+ * 入力ファイル中の「{@value #WORK_DIR_PLACEHOLDER}」は、作業ディレクトリの絶対パスに置き換える。 マッピング変換ツールのように、入力ファイルで対象のパスを指定するツールのために使用する。
+ * </p>
+ * <p>
+ * 入力ファイルがないツールは実行しない。ツールが失敗しても、残りのツールの実行を続ける。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@Service
+public class TrainingServiceImpl implements TrainingService {
+
+    /**
+     * 作業ディレクトリのプレースホルダ
+     *
+     * @since 0.2.0
+     */
+    public static final String WORK_DIR_PLACEHOLDER = "${workDir}"; //$NON-NLS-1$
+
+    /**
+     * 入力ファイルの拡張子
+     *
+     * @since 0.2.0
+     */
+    private static final String INPUT_FILE_EXTENSION = ".txt"; //$NON-NLS-1$
+
+    /**
+     * 出力ディレクトリ名
+     *
+     * @since 0.2.0
+     */
+    private static final String OUTPUT_DIR_NAME = "output"; //$NON-NLS-1$
+
+    /**
+     * ロガー
+     *
+     * @since 0.2.0
+     */
+    private final Logger logger;
+
+    /**
+     * メッセージソース
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private KmgMessageSource messageSource;
+
+    /**
+     * ツール振り分けサービス
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private ToolDispatchService toolDispatchService;
+
+    /**
+     * 標準ロガーを使用して初期化するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     */
+    public TrainingServiceImpl() {
+
+        this(LoggerFactory.getLogger(TrainingServiceImpl.class));
+
+    }
+
+    /**
+     * カスタムロガーを使用して初期化するコンストラクタ<br>
+     *
+     * @since 0.2.0
+     *
+     * @param logger
+     *               ロガー
+     */
+    protected TrainingServiceImpl(final Logger logger) {
+
+        this.logger = logger;
+
+    }
+
+    /**
+     * サンプルの入力を作業ディレクトリに準備し、全てのツールを順に実行する。
+     *
+     * @since 0.2.0
+     *
+     * @param sampleDir
+     *                  サンプルディレクトリ
+     * @param workDir
+     *                  作業ディレクトリ
+     *
+     * @return true：全てのツールが成功、false：失敗したツールがある
+     */
+    @Override
+    public boolean train(final Path sampleDir, final Path workDir) {
+
+        boolean result = false;
+
+        this.logInfo(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG22000, sampleDir, workDir);
+
+        /* サンプルの準備 */
+        try {
+
+            this.prepare(sampleDir, workDir);
+
+        } catch (final IOException e) {
+
+            final KmgToolCliLogMsgTypes logType     = KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG22001;
+            final Object[]              messageArgs = {
+                sampleDir, workDir,
+            };
+            final String                msg         = this.messageSource.getLogMessage(logType, messageArgs);
+            this.logger.error(msg, e);
+
+            return result;
+
+        }
+
+        /* ツールの実行 */
+        result = true;
+
+        for (final KmgToolCliCmdTypes cmdType : KmgToolCliCmdTypes.values()) {
+
+            if (cmdType == KmgToolCliCmdTypes.NONE) {
+
+                continue;
+
+            }
+
+            final Path inputPath = workDir.resolve(cmdType.getKey() + TrainingServiceImpl.INPUT_FILE_EXTENSION);
+
+            if (!Files.isRegularFile(inputPath)) {
+
+                this.logInfo(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG22002, cmdType.getKey());
+                continue;
+
+            }
+
+            result &= this.runTool(cmdType, inputPath, workDir);
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * サンプルディレクトリの内容を作業ディレクトリにコピーする。
+     * <p>
+     * 入力ファイルはプレースホルダを置き換えて書き込み、それ以外のファイルはそのままコピーする。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param sampleDir
+     *                  サンプルディレクトリ
+     * @param workDir
+     *                  作業ディレクトリ
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    @SuppressWarnings("static-method")
+    private void prepare(final Path sampleDir, final Path workDir) throws IOException {
+
+        final String workDirText = workDir.toAbsolutePath().normalize().toString();
+
+        Files.createDirectories(workDir.resolve(TrainingServiceImpl.OUTPUT_DIR_NAME));
+
+        final List<Path> samplePaths;
+
+        try (Stream<Path> stream = Files.walk(sampleDir)) {
+
+            samplePaths = stream.filter(Files::isRegularFile).toList();
+
+        }
+
+        for (final Path samplePath : samplePaths) {
+
+            final Path targetPath = workDir.resolve(sampleDir.relativize(samplePath).toString());
+            Files.createDirectories(targetPath.getParent());
+
+            if (!samplePath.getFileName().toString().endsWith(TrainingServiceImpl.INPUT_FILE_EXTENSION)) {
+
+                Files.copy(samplePath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                continue;
+
+            }
+
+            final String content = Files.readString(samplePath, StandardCharsets.UTF_8);
+            Files.writeString(targetPath, content.replace(TrainingServiceImpl.WORK_DIR_PLACEHOLDER, workDirText),
+                StandardCharsets.UTF_8);
+
+        }
+
+    }
+
+    /**
+     * ツールを1件実行する。
+     * <p>
+     * 出力ファイルは作業ディレクトリの出力ディレクトリに、サブコマンドのキーをファイル名として出力する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param cmdType
+     *                  サブコマンドの種類
+     * @param inputPath
+     *                  入力ファイルパス
+     * @param workDir
+     *                  作業ディレクトリ
+     *
+     * @return true：成功、false：失敗
+     */
+    private boolean runTool(final KmgToolCliCmdTypes cmdType, final Path inputPath, final Path workDir) {
+
+        boolean result = false;
+
+        final Path outputPath = workDir.resolve(TrainingServiceImpl.OUTPUT_DIR_NAME)
+            .resolve(cmdType.getKey() + TrainingServiceImpl.INPUT_FILE_EXTENSION);
+
+        try {
+
+            final ToolJobModel job = new ToolJobModelImpl(cmdType, inputPath, null, outputPath);
+            result = this.toolDispatchService.dispatch(job);
+
+        } catch (final RuntimeException e) {
+
+            final KmgToolCliLogMsgTypes logType     = KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG22003;
+            final Object[]              messageArgs = {
+                cmdType.getKey(),
+            };
+            final String                msg         = this.messageSource.getLogMessage(logType, messageArgs);
+            this.logger.error(msg, e);
+
+        }
+
+        this.logInfo(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG22004, cmdType.getKey(), result);
+
+        return result;
+
+    }
+
+    /**
+     * 情報のログを出力する。
+     *
+     * @since 0.2.0
+     *
+     * @param logType
+     *                    ログメッセージの種類
+     * @param messageArgs
+     *                    メッセージの引数
+     */
+    private void logInfo(final KmgToolCliLogMsgTypes logType, final Object... messageArgs) {
+
+        final String msg = this.messageSource.getLogMessage(logType, messageArgs);
+        this.logger.info(msg);
+
+    }
+
+}
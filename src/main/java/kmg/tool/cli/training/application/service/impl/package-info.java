@@ -0,0 +1,13 @@
+/**
+ * トレーニング実行のアプリケーションサービス実装パッケージ<br>
+ * <p>
+ * トレーニング実行サービスの実装を提供します。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.training.application.service.impl;
@@ -0,0 +1,13 @@
+/**
+ * トレーニング実行のアプリケーションサービスパッケージ<br>
+ * <p>
+ * サンプルの入力を準備し、全てのツールを順に実行するサービスのインタフェースを提供します。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.training.application.service;
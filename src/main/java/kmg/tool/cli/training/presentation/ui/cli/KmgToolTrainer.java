@@ -0,0 +1,235 @@
+package kmg.tool.cli.training.presentation.ui.cli;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import kmg.core.domain.service.KmgPfaMeasService;
+import kmg.core.domain.service.impl.KmgPfaMeasServiceImpl;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.cmn.infrastructure.startup.KmgToolCliSpringApplication;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.cmn.presentation.ui.cli.AbstractTool;
+import kmg.tool.cli.training.application.service.TrainingService;
+
+/**
+ * KMGツールトレーニング<br>
+ * <p>
+ * サンプルの入力で全てのツールを実行する。JDKのAOTキャッシュを作成するためのトレーニング実行に使用する。
+ * </p>
+ *
+ * <pre>
+ * java -XX:AOTCacheOutput=target/kmg-tool.aot -cp ... kmg.tool.cli.training.presentation.ui.cli.KmgToolTrainer
+ * </pre>
+ * <p>
+ * サンプルディレクトリは「--kmg.tool.cli.training.sample-dir=パス」、作業ディレクトリは「--kmg.tool.cli.training.work-dir=パス」で指定する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SpringBootApplication(scanBasePackages = {
+    "kmg"
+})
+public class KmgToolTrainer extends AbstractTool {
+
+    /**
+     * ツール名
+     *
+     * @since 0.2.0
+     */
+    private static final String TOOL_NAME = "KMGツールトレーニング"; //$NON-NLS-1$
+
+    /**
+     * 既定のサンプルディレクトリ
+     *
+     * @since 0.2.0
+     */
+    public static final String DEFAULT_SAMPLE_DIR = "src/main/resources/tool/io/training"; //$NON-NLS-1$
+
+    /**
+     * 既定の作業ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    public static final String DEFAULT_WORK_DIR = "work/training"; //$NON-NLS-1$
+
+    /**
+     * メッセージソース
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private KmgMessageSource messageSource;
+
+    /**
+     * トレーニング実行サービス
+     *
+     * @since 0.2.0
+     */
+    @Autowired
+    private TrainingService trainingService;
+
+    /**
+     * サンプルディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.training.sample-dir:" + KmgToolTrainer.DEFAULT_SAMPLE_DIR + "}")
+    private String sampleDir;
+
+    /**
+     * 作業ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.training.work-dir:" + KmgToolTrainer.DEFAULT_WORK_DIR + "}")
+    private String workDir;
+
+    /**
+     * メインメソッド
+     *
+     * @since 0.2.0
+     *
+     * @param args
+     *             引数
+     */
+    public static void main(final String[] args) {
+
+        @SuppressWarnings("resource")
+        final ConfigurableApplicationContext ctx = KmgToolCliSpringApplication.run(KmgToolTrainer.class, args);
+
+        final KmgToolTrainer trainer = ctx.getBean(KmgToolTrainer.class);
+
+        /* 実行 */
+        trainer.execute();
+
+        KmgToolCliSpringApplication.close(ctx, KmgToolTrainer.class);
+
+    }
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.0
+     */
+    public KmgToolTrainer() {
+
+        // 処理なし
+    }
+
+    /**
+     * 実行する
+     *
+     * @since 0.2.0
+     *
+     * @return true：全てのツールが成功、false：失敗したツールがある
+     */
+    @Override
+    public boolean execute() {
+
+        boolean result = false;
+
+        final KmgPfaMeasService measService = new KmgPfaMeasServiceImpl(KmgToolTrainer.TOOL_NAME);
+
+        /* 開始 */
+        measService.start();
+
+        try {
+
+            /* 処理 */
+            result = this.trainingService.train(this.getSampleDir(), this.getWorkDir());
+
+            if (!result) {
+
+                /* メッセージの出力 */
+                final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN22001;
+                final Object[]              messageArgs = {};
+                final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+                measService.warn(msg);
+
+                return result;
+
+            }
+
+            /* 成功 */
+            final KmgToolCliGenMsgTypes msgType     = KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN22000;
+            final Object[]              messageArgs = {};
+            final String                msg         = this.messageSource.getGenMessage(msgType, messageArgs);
+            measService.info(msg);
+
+        } finally {
+
+            /* 終了 */
+            measService.end();
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * サンプルディレクトリを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return サンプルディレクトリ
+     */
+    public Path getSampleDir() {
+
+        final Path result = KmgToolTrainer.toPath(this.sampleDir, KmgToolTrainer.DEFAULT_SAMPLE_DIR);
+        return result;
+
+    }
+
+    /**
+     * 作業ディレクトリを返す。
+     *
+     * @since 0.2.0
+     *
+     * @return 作業ディレクトリ
+     */
+    public Path getWorkDir() {
+
+        final Path result = KmgToolTrainer.toPath(this.workDir, KmgToolTrainer.DEFAULT_WORK_DIR);
+        return result;
+
+    }
+
+    /**
+     * パスの文字列をパスに変換する。
+     *
+     * @since 0.2.0
+     *
+     * @param value
+     *                     パスの文字列
+     * @param defaultValue
+     *                     文字列がnullまたは空白の場合に使用する既定値
+     *
+     * @return パス
+     */
+    private static Path toPath(final String value, final String defaultValue) {
+
+        Path result;
+
+        if ((value == null) || value.isBlank()) {
+
+            result = Paths.get(defaultValue);
+            return result;
+
+        }
+
+        result = Paths.get(value);
+        return result;
+
+    }
+
+}
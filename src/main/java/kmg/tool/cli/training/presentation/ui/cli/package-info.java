@@ -0,0 +1,13 @@
+/**
+ * トレーニング実行のCLIパッケージ<br>
+ * <p>
+ * トレーニング実行のエントリポイントを提供します。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+package kmg.tool.cli.training.presentation.ui.cli;
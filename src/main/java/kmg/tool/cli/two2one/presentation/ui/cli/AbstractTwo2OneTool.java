@@ -2,26 +2,39 @@ package kmg.tool.cli.two2one.presentation.ui.cli;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 import kmg.core.infrastructure.utils.KmgPathUtils;
 import kmg.fund.infrastructure.context.KmgMessageSource;
 import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
+import kmg.tool.base.io.domain.service.IoService;
 import kmg.tool.base.two2one.domain.service.Two2OneService;
 import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliLogMsgTypes;
 import kmg.tool.cli.io.presentation.ui.cli.AbstractIoTool;
 
 /**
  * シンプル2入力ファイルから1出力ファイルへの変換ツールサービス抽象クラス
+ * <p>
+ * 追加のテンプレートを指定した場合は、ツールの起動と入力ファイルの指定を1回で、同じ入力ファイルを追加のテンプレートごとの出力ファイルにも出力する。
+ * 入出力サービスは初期化した入力ファイルとテンプレートを状態として持つため、テンプレートごとに順に初期化して処理し、入力ファイルはテンプレートごとに解析される。
+ * 入力ファイルを1回だけ解析して並列に出力するのは、実行計画で出力する{@link kmg.tool.cli.dtc.presentation.ui.cli.AbstractDtcTool}の中間データの入力だけである。
+ * </p>
+ * <p>
+ * 追加のテンプレートは、入力ファイル全体を処理する場合だけ出力する。 ストリーミング、またはパターンに一致したファイルの並列処理と組み合わせた場合は、出力を省略せずに、
+ * 実行で何も出力せずにエラーとする。
+ * </p>
  *
  * @author KenichiroArai
  *
  * @since 0.1.0
  *
- * @version 0.1.3
+ * @version 0.2.0
  */
 public abstract class AbstractTwo2OneTool extends AbstractIoTool {
 
@@ -32,6 +45,20 @@ public abstract class AbstractTwo2OneTool extends AbstractIoTool {
      */
     private static final String TEMPLATE_FILE_PATH_FORMAT = "template/%s.yml"; //$NON-NLS-1$
 
+    /**
+     * 追加のテンプレートの区切り文字
+     *
+     * @since 0.2.0
+     */
+    private static final String ADDITIONAL_TEMPLATE_SEPARATOR = ","; //$NON-NLS-1$
+
+    /**
+     * 追加のテンプレートのテンプレートファイルと出力ファイルの区切り文字
+     *
+     * @since 0.2.0
+     */
+    private static final String ADDITIONAL_TEMPLATE_OUTPUT_SEPARATOR = "="; //$NON-NLS-1$
+
     /**
      * メッセージソース
      *
@@ -54,6 +81,27 @@ public abstract class AbstractTwo2OneTool extends AbstractIoTool {
      */
     private final Path templatePath;
 
+    /**
+     * 指定テンプレートファイルパス
+     * <p>
+     * 指定されていない場合は、既定のテンプレートファイルパスを使用する。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    private Path specifiedTemplatePath;
+
+    /**
+     * 追加のテンプレートの指定
+     * <p>
+     * 「テンプレートファイル=出力ファイル」を「,」で区切って指定する。 空の場合は、追加のテンプレートを使用しない。
+     * </p>
+     *
+     * @since 0.2.0
+     */
+    @Value("${kmg.tool.cli.two2one.additional-templates:}")
+    private String additionalTemplates;
+
     /**
      * 標準ロガーを使用して初期化するコンストラクタ<br>
      *
@@ -95,13 +143,105 @@ public abstract class AbstractTwo2OneTool extends AbstractIoTool {
      */
     public Path getTemplatePath() {
 
-        final Path result = this.templatePath;
+        Path result = this.specifiedTemplatePath;
+
+        if (result != null) {
+
+            return result;
+
+        }
+
+        result = this.templatePath;
+        return result;
+
+    }
+
+    /**
+     * 指定テンプレートファイルパスを設定する。
+     * <p>
+     * nullを設定すると、既定のテンプレートファイルパスに戻る。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param specifiedTemplatePath
+     *                              指定テンプレートファイルパス
+     */
+    public void setSpecifiedTemplatePath(final Path specifiedTemplatePath) {
+
+        this.specifiedTemplatePath = specifiedTemplatePath;
+
+    }
+
+    /**
+     * 追加のテンプレートの指定を設定する。
+     *
+     * @since 0.2.0
+     *
+     * @param additionalTemplates
+     *                            「テンプレートファイル=出力ファイル」を「,」で区切った指定。空の場合は、追加のテンプレートを使用しない
+     */
+    public void setAdditionalTemplates(final String additionalTemplates) {
+
+        this.additionalTemplates = additionalTemplates;
+
+    }
+
+    /**
+     * 追加のテンプレートのテンプレートファイルと出力ファイルを、指定の順に返す。
+     *
+     * @since 0.2.0
+     *
+     * @return テンプレートファイルをキー、出力ファイルを値とするマップ。指定がない場合は空のマップ、指定が不正な場合は、null
+     */
+    public Map<Path, Path> getAdditionalTemplateOutputs() {
+
+        Map<Path, Path> result = new LinkedHashMap<>();
+
+        if ((this.additionalTemplates == null) || this.additionalTemplates.isBlank()) {
+
+            return result;
+
+        }
+
+        for (final String entry : this.additionalTemplates.split(AbstractTwo2OneTool.ADDITIONAL_TEMPLATE_SEPARATOR)) {
+
+            if (entry.isBlank()) {
+
+                continue;
+
+            }
+
+            final String[] paths = entry.split(AbstractTwo2OneTool.ADDITIONAL_TEMPLATE_OUTPUT_SEPARATOR, -1);
+
+            if ((paths.length != 2) || paths[0].isBlank() || paths[1].isBlank()) {
+
+                // ログの出力
+                final KmgToolCliLogMsgTypes logType     = KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG17001;
+                final Object[]              messageArgs = {
+                    this.additionalTemplates,
+                };
+                final String                msg         = this.messageSource.getLogMessage(logType, messageArgs);
+                this.logger.error(msg);
+
+                result = null;
+                return result;
+
+            }
+
+            result.put(Paths.get(paths[0].strip()), Paths.get(paths[1].strip()));
+
+        }
+
         return result;
 
     }
 
     /**
      * 初期化する
+     * <p>
+     * ストリーミングで処理する場合、またはパターンに一致したファイルを並列に処理する場合は、チャンクまたはファイルごとに初期化するため、ここでは初期化しない。
+     * </p>
      *
      * @since 0.1.0
      *
@@ -111,10 +251,18 @@ public abstract class AbstractTwo2OneTool extends AbstractIoTool {
 
         boolean result;
 
+        if (this.isStreaming() || this.isFanOut()) {
+
+            // ストリーミングまたは並列処理の場合は、チャンクまたはファイルごとに初期化する
+            result = true;
+            return result;
+
+        }
+
         try {
 
-            result = this.getIoService().initialize(AbstractIoTool.getInputPath(), this.getTemplatePath(),
-                AbstractIoTool.getOutputPath());
+            result = this.getIoService().initialize(this.resolveInputPath(), this.getTemplatePath(),
+                this.resolveOutputPath());
 
         } catch (final KmgToolBaseMsgException e) {
 
@@ -132,6 +280,178 @@ public abstract class AbstractTwo2OneTool extends AbstractIoTool {
 
     }
 
+    /**
+     * 指定された処理の方法で処理できるかを返す。
+     * <p>
+     * 追加のテンプレートは、入力ファイル全体を処理する場合だけ出力する。 ストリーミング、またはパターンに一致したファイルの並列処理で追加のテンプレートを指定した場合は、エラーのログを出力し、
+     * 処理できないとする。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：追加のテンプレートがないか、出力できる、false：出力できない
+     */
+    @Override
+    protected boolean isProcessable() {
+
+        boolean result = true;
+
+        if ((this.additionalTemplates == null) || this.additionalTemplates.isBlank()) {
+
+            return result;
+
+        }
+
+        if (!this.isStreaming() && !this.isFanOut()) {
+
+            return result;
+
+        }
+
+        // ログの出力
+        final KmgToolCliLogMsgTypes logType     = KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG30009;
+        final Object[]              messageArgs = {
+            this.additionalTemplates,
+        };
+        final String                msg         = this.messageSource.getLogMessage(logType, messageArgs);
+        this.logger.error(msg);
+
+        result = false;
+        return result;
+
+    }
+
+    /**
+     * ストリーミングに対応しているかを返す。
+     * <p>
+     * 2入力ファイルから1出力ファイルへの変換ツールは、入力ファイルのレコードごとにテンプレートを適用するため、対応している。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @return true：対応している
+     */
+    @Override
+    protected boolean isStreamingSupported() {
+
+        final boolean result = true;
+        return result;
+
+    }
+
+    /**
+     * 入力ファイル、テンプレートファイル、出力ファイルで入出力サービスを初期化し、処理する。
+     * <p>
+     * パターンに一致したファイルを並列に処理している場合も、ワーカーごとの入出力サービスがテンプレートファイルを解析する。 並列に処理している間は、テンプレートファイルを変更しないこと。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param ioService
+     *                   2入力ファイルから1出力ファイルへの変換ツールサービス
+     * @param inputPath
+     *                   入力ファイルパス
+     * @param outputPath
+     *                   出力ファイルパス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     */
+    @Override
+    protected boolean processFile(final IoService ioService, final Path inputPath, final Path outputPath)
+        throws KmgToolBaseMsgException {
+
+        final boolean result = this.processTemplate(ioService, inputPath, this.getTemplatePath(), outputPath);
+        return result;
+
+    }
+
+    /**
+     * 入力ファイル全体を処理する。 追加のテンプレートを指定した場合は、続けて追加のテンプレートごとに出力する。
+     *
+     * @since 0.2.0
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     */
+    @Override
+    protected boolean processWholeFile() throws KmgToolBaseMsgException {
+
+        boolean result = super.processWholeFile();
+
+        if (!result) {
+
+            return result;
+
+        }
+
+        final Map<Path, Path> templateOutputs = this.getAdditionalTemplateOutputs();
+
+        if (templateOutputs == null) {
+
+            result = false;
+            return result;
+
+        }
+
+        for (final Map.Entry<Path, Path> templateOutput : templateOutputs.entrySet()) {
+
+            result = this.processTemplate(this.getIoService(), this.resolveInputPath(), templateOutput.getKey(),
+                templateOutput.getValue());
+
+            if (!result) {
+
+                return result;
+
+            }
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 入力ファイル、テンプレートファイル、出力ファイルで入出力サービスを初期化し、処理する。
+     *
+     * @since 0.2.0
+     *
+     * @param ioService
+     *                     2入力ファイルから1出力ファイルへの変換ツールサービス
+     * @param inputPath
+     *                     入力ファイルパス
+     * @param templateFile
+     *                     テンプレートファイルパス
+     * @param outputPath
+     *                     出力ファイルパス
+     *
+     * @return true：成功、false：失敗
+     *
+     * @throws KmgToolBaseMsgException
+     *                                 KMGツールベースメッセージ例外
+     */
+    protected boolean processTemplate(final IoService ioService, final Path inputPath, final Path templateFile,
+        final Path outputPath) throws KmgToolBaseMsgException {
+
+        boolean result = false;
+
+        final Two2OneService two2OneService = (Two2OneService) ioService;
+
+        if (!two2OneService.initialize(inputPath, templateFile, outputPath)) {
+
+            return result;
+
+        }
+
+        result = two2OneService.process();
+        return result;
+
+    }
+
     /**
      * 2入力ファイルから1出力ファイルへの変換ツールサービスを返す。
      *
@@ -0,0 +1,16 @@
+package sample;
+
+/**
+ * サンプル
+ */
+public class OldSample {
+
+    /**
+     * 旧メソッド
+     * 削除対象の行
+     */
+    public void oldMethod() {
+        // 処理なし
+    }
+
+}
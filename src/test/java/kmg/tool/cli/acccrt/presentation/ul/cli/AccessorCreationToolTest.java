@@ -1,5 +1,7 @@
 package kmg.tool.cli.acccrt.presentation.ul.cli;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,7 +26,7 @@ import kmg.tool.cli.dtc.presentation.ui.cli.AbstractDtcTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.0
+ * @version 0.2.0
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -446,6 +448,9 @@ public class AccessorCreationToolTest extends AbstractKmgTest {
     public void testSpringBootApplicationAnnotation_normalCorrect() {
 
         /* 期待値の定義 */
+        final String[] expectedPackages = {
+            "kmg.core", "kmg.fund", "kmg.tool.base",
+        };
 
         /* 準備 */
         final AccessorCreationTool localTestTarget = new AccessorCreationTool();
@@ -455,7 +460,8 @@ public class AccessorCreationToolTest extends AbstractKmgTest {
         final SpringBootApplication annotation = testClass.getAnnotation(SpringBootApplication.class);
 
         /* 検証の準備 */
-        final boolean actualResult = (annotation != null) && "kmg".equals(annotation.scanBasePackages()[0]);
+        final boolean actualResult
+            = (annotation != null) && Arrays.equals(expectedPackages, annotation.scanBasePackages());
 
         /* 検証の実施 */
         Assertions.assertTrue(actualResult, "SpringBootApplicationアノテーションが正しく設定されていること");
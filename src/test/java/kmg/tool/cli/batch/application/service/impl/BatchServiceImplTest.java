@@ -0,0 +1,469 @@
+package kmg.tool.cli.batch.application.service.impl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import kmg.core.infrastructure.model.impl.KmgReflectionModelImpl;
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.batch.domain.model.BatchJobResultModel;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliLogMsgTypes;
+import kmg.tool.cli.launcher.application.service.ToolDispatchService;
+import kmg.tool.cli.launcher.domain.model.ToolJobModel;
+import kmg.tool.cli.launcher.domain.model.impl.ToolJobModelImpl;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+
+/**
+ * バッチ実行サービスのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class BatchServiceImplTest extends AbstractKmgTest {
+
+    /**
+     * テンポラリディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.0
+     */
+    private BatchServiceImpl testTarget;
+
+    /**
+     * モックメッセージソース
+     *
+     * @since 0.2.0
+     */
+    private KmgMessageSource mockMessageSource;
+
+    /**
+     * モックアプリケーションコンテキスト
+     *
+     * @since 0.2.0
+     */
+    private ApplicationContext mockApplicationContext;
+
+    /**
+     * モックツール振り分けサービス
+     *
+     * @since 0.2.0
+     */
+    private ToolDispatchService mockToolDispatchService;
+
+    /**
+     * セットアップ
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        this.testTarget = new BatchServiceImpl();
+        this.mockMessageSource = Mockito.mock(KmgMessageSource.class);
+        this.mockApplicationContext = Mockito.mock(ApplicationContext.class);
+        this.mockToolDispatchService = Mockito.mock(ToolDispatchService.class);
+
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        reflectionModel.set("messageSource", this.mockMessageSource);
+        reflectionModel.set("applicationContext", this.mockApplicationContext);
+
+        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("テストログ");
+        Mockito.when(this.mockMessageSource.getGenMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("テストメッセージ");
+        Mockito.when(this.mockApplicationContext.getBean(ToolDispatchService.class))
+            .thenReturn(this.mockToolDispatchService);
+
+    }
+
+    /**
+     * readManifest メソッドのテスト - 正常系：CSVのマニフェストの場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadManifest_normalCsv() throws Exception {
+
+        /* 期待値の定義 */
+        final int  expectedSize     = 2;
+        final Path expectedInput    = Paths.get("work/batch/UserDto.txt");
+        final Path expectedTemplate = Paths.get("work/batch/template.yml");
+        final Path expectedOutput   = Paths.get("work/batch/output/UserDto.txt");
+
+        /* 準備 */
+        final Path manifestPath = this.tempDir.resolve("manifest.csv");
+        Files.writeString(manifestPath, """
+            tool,input,template,output
+            # コメント
+
+            acccrt, work/batch/UserDto.txt ,,work/batch/output/UserDto.txt
+            two2one,work/batch/UserDto.txt,work/batch/template.yml,work/batch/output/UserDto.txt
+            """, StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        final List<ToolJobModel> actual = this.testTarget.readManifest(manifestPath);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedSize, actual.size(), "見出し、コメント、空行を除いたジョブが読み込まれること");
+        Assertions.assertEquals(KmgToolCliCmdTypes.ACCCRT, actual.get(0).getCmdType(), "1件目のツールが読み込まれること");
+        Assertions.assertEquals(expectedInput, actual.get(0).getInputPath(), "入力ファイルパスの前後の空白が除かれること");
+        Assertions.assertNull(actual.get(0).getTemplatePath(), "空のテンプレートファイルパスはnullであること");
+        Assertions.assertEquals(expectedOutput, actual.get(0).getOutputPath(), "出力ファイルパスが読み込まれること");
+        Assertions.assertEquals(KmgToolCliCmdTypes.TWO2ONE, actual.get(1).getCmdType(), "2件目のツールが読み込まれること");
+        Assertions.assertEquals(expectedTemplate, actual.get(1).getTemplatePath(), "テンプレートファイルパスが読み込まれること");
+
+    }
+
+    /**
+     * readManifest メソッドのテスト - 正常系：YAMLのマニフェストの場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadManifest_normalYaml() throws Exception {
+
+        /* 期待値の定義 */
+        final int  expectedSize   = 2;
+        final Path expectedInput  = Paths.get("work/batch/UserDto.txt");
+        final Path expectedOutput = Paths.get("work/batch/output/UserDto.txt");
+
+        /* 準備 */
+        final Path manifestPath = this.tempDir.resolve("manifest.yml");
+        Files.writeString(manifestPath, """
+            jobs:
+              - tool: acccrt
+                input: work/batch/UserDto.txt
+                output: work/batch/output/UserDto.txt
+              - tool: fldcrt
+            """, StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        final List<ToolJobModel> actual = this.testTarget.readManifest(manifestPath);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedSize, actual.size(), "ジョブが読み込まれること");
+        Assertions.assertEquals(KmgToolCliCmdTypes.ACCCRT, actual.get(0).getCmdType(), "1件目のツールが読み込まれること");
+        Assertions.assertEquals(expectedInput, actual.get(0).getInputPath(), "入力ファイルパスが読み込まれること");
+        Assertions.assertEquals(expectedOutput, actual.get(0).getOutputPath(), "出力ファイルパスが読み込まれること");
+        Assertions.assertEquals(KmgToolCliCmdTypes.FLDCRT, actual.get(1).getCmdType(), "2件目のツールが読み込まれること");
+        Assertions.assertNull(actual.get(1).getInputPath(), "省略した入力ファイルパスはnullであること");
+
+    }
+
+    /**
+     * readManifest メソッドのテスト - 準正常系：ツールが不正な場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadManifest_semiInvalidTool() throws Exception {
+
+        /* 期待値の定義 */
+        final KmgToolCliCmdTypes expected = KmgToolCliCmdTypes.NONE;
+
+        /* 準備 */
+        final Path manifestPath = this.tempDir.resolve("manifest.csv");
+        Files.writeString(manifestPath, "unknown,input.txt,,output.txt\n", StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        final List<ToolJobModel> actual = this.testTarget.readManifest(manifestPath);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual.get(0).getCmdType(), "不正なツールは指定無しとして読み込まれること");
+        Mockito.verify(this.mockMessageSource)
+            .getLogMessage(ArgumentMatchers.eq(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG24001), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * readManifest メソッドのテスト - 正常系：CSVの値を引用符で囲んだ場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadManifest_normalCsvQuoted() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expectedInput    = Paths.get("work/batch/a,b/UserDto.txt");
+        final Path expectedTemplate = Paths.get(" work/batch/\"t\".yml");
+        final Path expectedOutput   = Paths.get("work/batch/output/UserDto.txt");
+
+        /* 準備 */
+        final Path manifestPath = this.tempDir.resolve("manifest.csv");
+        Files.writeString(manifestPath, """
+            two2one, "work/batch/a,b/UserDto.txt" ," work/batch/""t"".yml",work/batch/output/UserDto.txt
+            """, StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        final List<ToolJobModel> actual = this.testTarget.readManifest(manifestPath);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(KmgToolCliCmdTypes.TWO2ONE, actual.get(0).getCmdType(), "ツールが読み込まれること");
+        Assertions.assertEquals(expectedInput, actual.get(0).getInputPath(), "引用符で囲んだ値はカンマを含めて読み込まれること");
+        Assertions.assertEquals(expectedTemplate, actual.get(0).getTemplatePath(),
+            "引用符で囲んだ値は空白を保持し、「\"\"」は「\"」として読み込まれること");
+        Assertions.assertEquals(expectedOutput, actual.get(0).getOutputPath(), "囲んでいない値が読み込まれること");
+
+    }
+
+    /**
+     * readManifest メソッドのテスト - 準正常系：CSVの引用符が閉じていない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadManifest_semiUnclosedQuote() throws Exception {
+
+        /* 期待値の定義 */
+        final int                expectedSize = 2;
+        final KmgToolCliCmdTypes expected     = KmgToolCliCmdTypes.NONE;
+
+        /* 準備 */
+        final Path manifestPath = this.tempDir.resolve("manifest.csv");
+        Files.writeString(manifestPath, """
+            acccrt,"work/batch/a,b/UserDto.txt,,output.txt
+            acccrt,input.txt,,output.txt
+            """, StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        final List<ToolJobModel> actual = this.testTarget.readManifest(manifestPath);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedSize, actual.size(), "引用符が閉じていない行もジョブとして数えられること");
+        Assertions.assertEquals(expected, actual.get(0).getCmdType(), "引用符が閉じていない行は指定無しのジョブとなること");
+        Assertions.assertNull(actual.get(0).getInputPath(), "引用符が閉じていない行の入力ファイルパスはnullであること");
+        Assertions.assertEquals(KmgToolCliCmdTypes.ACCCRT, actual.get(1).getCmdType(), "次の行は読み込まれること");
+        Mockito.verify(this.mockMessageSource)
+            .getLogMessage(ArgumentMatchers.eq(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG24005), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * readManifest メソッドのテスト - 異常系：マニフェストが存在しない場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testReadManifest_errorNotFound() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final Path manifestPath = this.tempDir.resolve("notFound.csv");
+
+        /* テスト対象の実行・検証の実施 */
+        Assertions.assertThrows(IOException.class, () -> this.testTarget.readManifest(manifestPath),
+            "マニフェストが存在しない場合はIOExceptionが発生すること");
+
+    }
+
+    /**
+     * execute メソッドのテスト - 正常系：ジョブごとの結果がマニフェストの順で返される場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testExecute_normalResultsInOrder() {
+
+        /* 期待値の定義 */
+        final List<KmgToolCliGenMsgTypes> expected = List.of(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09001,
+            KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09000, KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09002);
+
+        /* 準備 */
+        final ToolJobModel successJob   = new ToolJobModelImpl(KmgToolCliCmdTypes.ACCCRT);
+        final ToolJobModel failureJob   = new ToolJobModelImpl(KmgToolCliCmdTypes.FLDCRT);
+        final ToolJobModel exceptionJob = new ToolJobModelImpl(KmgToolCliCmdTypes.E2SCC);
+        Mockito.when(this.mockToolDispatchService.dispatch(successJob)).thenReturn(true);
+        Mockito.when(this.mockToolDispatchService.dispatch(failureJob)).thenReturn(false);
+        Mockito.when(this.mockToolDispatchService.dispatch(exceptionJob)).thenThrow(new RuntimeException("テスト例外"));
+
+        /* テスト対象の実行 */
+        final List<BatchJobResultModel> actual
+            = this.testTarget.execute(List.of(successJob, failureJob, exceptionJob), 1);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected.size(), actual.size(), "全てのジョブの結果が返されること");
+
+        for (int i = 0; i < expected.size(); i++) {
+
+            Assertions.assertEquals(i + 1, actual.get(i).getJobNo(), "ジョブ番号がマニフェストの順であること");
+            Assertions.assertEquals(expected.get(i), actual.get(i).getResultType(), "ジョブの結果が正しいこと");
+
+        }
+
+    }
+
+    /**
+     * execute メソッドのテスト - 正常系：同時実行数の分だけワーカーのコンテキストを使用する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testExecute_normalWorkerContexts() {
+
+        /* 期待値の定義 */
+        final int expectedDispatchCount = 3;
+
+        /* 準備 */
+        final BatchServiceImpl               spyTarget         = Mockito.spy(this.testTarget);
+        final ConfigurableApplicationContext mockWorkerContext = Mockito.mock(ConfigurableApplicationContext.class);
+        Mockito.doReturn(mockWorkerContext).when(spyTarget).createWorkerContext();
+        Mockito.when(mockWorkerContext.getBean(ToolDispatchService.class)).thenReturn(this.mockToolDispatchService);
+        Mockito.when(this.mockToolDispatchService.dispatch(ArgumentMatchers.any(ToolJobModel.class))).thenReturn(true);
+
+        final List<ToolJobModel> jobs = List.of(new ToolJobModelImpl(KmgToolCliCmdTypes.ACCCRT),
+            new ToolJobModelImpl(KmgToolCliCmdTypes.FLDCRT), new ToolJobModelImpl(KmgToolCliCmdTypes.E2SCC));
+
+        /* テスト対象の実行 */
+        final List<BatchJobResultModel> actual = spyTarget.execute(jobs, 2);
+
+        /* 検証の実施 */
+        Mockito.verify(spyTarget, Mockito.times(1)).createWorkerContext();
+        Mockito.verify(this.mockToolDispatchService, Mockito.times(expectedDispatchCount))
+            .dispatch(ArgumentMatchers.any(ToolJobModel.class));
+        Mockito.verify(mockWorkerContext).close();
+
+        for (final BatchJobResultModel jobResult : actual) {
+
+            Assertions.assertEquals(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09001, jobResult.getResultType(),
+                "全てのジョブが成功すること");
+
+        }
+
+    }
+
+    /**
+     * execute メソッドのテスト - 準正常系：ワーカーのコンテキストの起動に失敗した場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testExecute_semiWorkerContextFailed() {
+
+        /* 期待値の定義 */
+        final int expectedSize = 2;
+
+        /* 準備 */
+        final BatchServiceImpl spyTarget = Mockito.spy(this.testTarget);
+        Mockito.doThrow(new IllegalStateException("テスト例外")).when(spyTarget).createWorkerContext();
+        Mockito.when(this.mockToolDispatchService.dispatch(ArgumentMatchers.any(ToolJobModel.class))).thenReturn(true);
+
+        final List<ToolJobModel> jobs
+            = List.of(new ToolJobModelImpl(KmgToolCliCmdTypes.ACCCRT), new ToolJobModelImpl(KmgToolCliCmdTypes.FLDCRT));
+
+        /* テスト対象の実行 */
+        final List<BatchJobResultModel> actual = spyTarget.execute(jobs, 4);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedSize, actual.size(), "起動できたコンテキストで全てのジョブが実行されること");
+        Mockito.verify(this.mockMessageSource)
+            .getLogMessage(ArgumentMatchers.eq(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG24002), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * execute メソッドのテスト - 準正常系：ワーカーのコンテキストを起動できない場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testExecute_semiWorkerContextUnavailable() {
+
+        /* 期待値の定義 */
+        final int expectedDispatchCount = 2;
+
+        /* 準備 */
+        final BatchServiceImpl spyTarget = Mockito.spy(this.testTarget);
+        Mockito.doReturn(false).when(spyTarget).isWorkerContextAvailable();
+        Mockito.when(this.mockToolDispatchService.dispatch(ArgumentMatchers.any(ToolJobModel.class))).thenReturn(true);
+
+        final List<ToolJobModel> jobs
+            = List.of(new ToolJobModelImpl(KmgToolCliCmdTypes.ACCCRT), new ToolJobModelImpl(KmgToolCliCmdTypes.FLDCRT));
+
+        /* テスト対象の実行 */
+        final List<BatchJobResultModel> actual = spyTarget.execute(jobs, 2);
+
+        /* 検証の実施 */
+        Mockito.verify(spyTarget, Mockito.never()).createWorkerContext();
+        Mockito.verify(this.mockToolDispatchService, Mockito.times(expectedDispatchCount))
+            .dispatch(ArgumentMatchers.any(ToolJobModel.class));
+        Mockito.verify(this.mockMessageSource)
+            .getLogMessage(ArgumentMatchers.eq(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG24006), ArgumentMatchers.any());
+
+        for (final BatchJobResultModel jobResult : actual) {
+
+            Assertions.assertEquals(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09001, jobResult.getResultType(),
+                "起動済みのコンテキストで全てのジョブが成功すること");
+
+        }
+
+    }
+
+    /**
+     * execute メソッドのテスト - 準正常系：ジョブがない場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testExecute_semiNoJobs() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final List<BatchJobResultModel> actual = this.testTarget.execute(Collections.emptyList(), 4);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actual.isEmpty(), "結果が空であること");
+        Mockito.verifyNoInteractions(this.mockToolDispatchService);
+
+    }
+
+}
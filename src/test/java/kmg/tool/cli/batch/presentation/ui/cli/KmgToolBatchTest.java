@@ -0,0 +1,308 @@
+package kmg.tool.cli.batch.presentation.ui.cli;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import kmg.core.infrastructure.model.impl.KmgReflectionModelImpl;
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.batch.application.service.BatchService;
+import kmg.tool.cli.batch.domain.model.BatchJobResultModel;
+import kmg.tool.cli.batch.domain.model.impl.BatchJobResultModelImpl;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.launcher.domain.model.ToolJobModel;
+import kmg.tool.cli.launcher.domain.model.impl.ToolJobModelImpl;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+
+/**
+ * KMGツールバッチのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class KmgToolBatchTest extends AbstractKmgTest {
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.0
+     */
+    private KmgToolBatch testTarget;
+
+    /**
+     * モックメッセージソース
+     *
+     * @since 0.2.0
+     */
+    private KmgMessageSource mockMessageSource;
+
+    /**
+     * モックバッチ実行サービス
+     *
+     * @since 0.2.0
+     */
+    private BatchService mockBatchService;
+
+    /**
+     * リフレクションモデル
+     *
+     * @since 0.2.0
+     */
+    private KmgReflectionModelImpl reflectionModel;
+
+    /**
+     * セットアップ
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        this.testTarget = new KmgToolBatch();
+        this.mockMessageSource = Mockito.mock(KmgMessageSource.class);
+        this.mockBatchService = Mockito.mock(BatchService.class);
+
+        this.reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        this.reflectionModel.set("messageSource", this.mockMessageSource);
+        this.reflectionModel.set("batchService", this.mockBatchService);
+
+        Mockito.when(this.mockMessageSource.getGenMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("テストメッセージ");
+
+    }
+
+    /**
+     * execute メソッドのテスト - 正常系：全てのジョブが成功する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testExecute_normalSuccess() throws Exception {
+
+        /* 期待値の定義 */
+        final boolean expected = true;
+
+        /* 準備 */
+        final ToolJobModel       job  = new ToolJobModelImpl(KmgToolCliCmdTypes.ACCCRT);
+        final List<ToolJobModel> jobs = List.of(job);
+        this.reflectionModel.set("concurrency", 3);
+        Mockito.when(this.mockBatchService.readManifest(Paths.get(KmgToolBatch.DEFAULT_MANIFEST))).thenReturn(jobs);
+        Mockito.when(this.mockBatchService.execute(jobs, 3)).thenReturn(List
+            .<BatchJobResultModel> of(new BatchJobResultModelImpl(1, job, KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09001)));
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.execute();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "全てのジョブが成功した場合、trueが返されること");
+        Mockito.verify(this.mockMessageSource)
+            .getGenMessage(ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN24004), ArgumentMatchers.any());
+        Mockito.verify(this.mockMessageSource)
+            .getGenMessage(ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN24000), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * execute メソッドのテスト - 準正常系：成功しなかったジョブがある場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testExecute_semiJobFailed() throws Exception {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        final ToolJobModel       job  = new ToolJobModelImpl(KmgToolCliCmdTypes.ACCCRT);
+        final List<ToolJobModel> jobs = List.of(job, job);
+        Mockito.when(this.mockBatchService.readManifest(ArgumentMatchers.any(Path.class))).thenReturn(jobs);
+        Mockito.when(this.mockBatchService.execute(ArgumentMatchers.eq(jobs), ArgumentMatchers.anyInt()))
+            .thenReturn(List.<BatchJobResultModel> of(
+                new BatchJobResultModelImpl(1, job, KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09000),
+                new BatchJobResultModelImpl(2, job, KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09002)));
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.execute();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "成功しなかったジョブがある場合、falseが返されること");
+        Mockito.verify(this.mockMessageSource, Mockito.times(2))
+            .getGenMessage(ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN24004), ArgumentMatchers.any());
+        Mockito.verify(this.mockMessageSource)
+            .getGenMessage(ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN24001), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * execute メソッドのテスト - 準正常系：マニフェストにジョブがない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testExecute_semiNoJobs() throws Exception {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        Mockito.when(this.mockBatchService.readManifest(ArgumentMatchers.any(Path.class)))
+            .thenReturn(Collections.emptyList());
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.execute();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "ジョブがない場合、falseが返されること");
+        Mockito.verify(this.mockMessageSource)
+            .getGenMessage(ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN24003), ArgumentMatchers.any());
+        Mockito.verify(this.mockBatchService, Mockito.never()).execute(ArgumentMatchers.any(),
+            ArgumentMatchers.anyInt());
+
+    }
+
+    /**
+     * execute メソッドのテスト - 異常系：マニフェストの読み込みに失敗した場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testExecute_errorReadManifest() throws Exception {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        Mockito.when(this.mockBatchService.readManifest(ArgumentMatchers.any(Path.class)))
+            .thenThrow(new IOException("テスト例外"));
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.execute();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "マニフェストの読み込みに失敗した場合、falseが返されること");
+        Mockito.verify(this.mockMessageSource)
+            .getGenMessage(ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN24002), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * getConcurrency メソッドのテスト - 正常系：同時実行数が指定されていない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testGetConcurrency_normalNotSpecified() throws Exception {
+
+        /* 期待値の定義 */
+        final int expected = Runtime.getRuntime().availableProcessors();
+
+        /* 準備 */
+        this.reflectionModel.set("concurrency", 0);
+
+        /* テスト対象の実行 */
+        final int actual = this.testTarget.getConcurrency();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "利用可能なプロセッサ数が返されること");
+
+    }
+
+    /**
+     * getManifestPath メソッドのテスト - 正常系：マニフェストが指定されている場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testGetManifestPath_normalSpecified() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = Paths.get("work/test/manifest.csv");
+
+        /* 準備 */
+        this.reflectionModel.set("manifest", expected.toString());
+
+        /* テスト対象の実行 */
+        final Path actual = this.testTarget.getManifestPath();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "指定されたマニフェストのパスが返されること");
+
+    }
+
+    /**
+     * main メソッドのテスト - 正常系：コンテキストを起動してバッチを実行し、終了後に閉じる場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testMain_normalRun() {
+
+        /* 期待値の定義 */
+        final String[] testArgs = {
+            "--kmg.tool.cli.batch.manifest=work/test/manifest.yml",
+        };
+
+        /* 準備 */
+        try (final MockedStatic<SpringApplication> mockedSpringApplication
+            = Mockito.mockStatic(SpringApplication.class)) {
+
+            final ConfigurableApplicationContext mockContext = Mockito.mock(ConfigurableApplicationContext.class);
+            final KmgToolBatch                   mockBatch   = Mockito.mock(KmgToolBatch.class);
+
+            mockedSpringApplication.when(() -> SpringApplication.run(KmgToolBatch.class, testArgs))
+                .thenReturn(mockContext);
+            Mockito.when(mockContext.getBean(KmgToolBatch.class)).thenReturn(mockBatch);
+
+            /* テスト対象の実行 */
+            KmgToolBatch.main(testArgs);
+
+            /* 検証の実施 */
+            final var inOrder = Mockito.inOrder(mockBatch, mockContext);
+            inOrder.verify(mockBatch).execute();
+            inOrder.verify(mockContext).close();
+
+        }
+
+    }
+
+}
@@ -0,0 +1,191 @@
+package kmg.tool.cli.cmn.infrastructure.aot;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliLogMsgTypes;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliValMsgTypes;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+import kmg.tool.cli.launcher.presentation.ui.cli.KmgToolLauncher;
+
+/**
+ * KMGツールCLIのランタイムヒントのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class KmgToolCliRuntimeHintsTest extends AbstractKmgTest {
+
+    /**
+     * ランタイムヒント
+     *
+     * @since 0.2.0
+     */
+    private RuntimeHints hints;
+
+    /**
+     * セットアップ
+     *
+     * @since 0.2.0
+     */
+    @BeforeEach
+    public void setUp() {
+
+        this.hints = new RuntimeHints();
+
+        final KmgToolCliRuntimeHints testTarget = new KmgToolCliRuntimeHints();
+        testTarget.registerHints(this.hints, this.getClass().getClassLoader());
+
+    }
+
+    /**
+     * ImportRuntimeHints のテスト - 正常系：ランチャーにヒントが登録されている場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testImportRuntimeHints_normalLauncher() {
+
+        /* 期待値の定義 */
+        final Class<?> expected = KmgToolCliRuntimeHints.class;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final ImportRuntimeHints actual = KmgToolLauncher.class.getAnnotation(ImportRuntimeHints.class);
+
+        /* 検証の実施 */
+        Assertions.assertNotNull(actual, "ランチャーにImportRuntimeHintsが付与されていること");
+        Assertions.assertArrayEquals(new Class<?>[] {
+            expected
+        }, actual.value(), "ランチャーにランタイムヒントが登録されていること");
+
+    }
+
+    /**
+     * registerHints のテスト - 正常系：ロガー設定のリソースが登録される場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testRegisterHints_normalLogbackResource() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final boolean actual = RuntimeHintsPredicates.resource().forResource("logback-kmg-tool-cli.xml")
+            .test(this.hints);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actual, "ロガー設定のリソースが登録されること");
+
+    }
+
+    /**
+     * registerHints のテスト - 正常系：メッセージのリソースバンドルが登録される場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testRegisterHints_normalMessageBundles() {
+
+        /* 期待値の定義 */
+        final String[] expectedBundles = {
+            "kmg-tool-cli-messages", "kmg-tool-cli-messages-log", "kmg-tool-cli-messages-val",
+        };
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        // 登録済みのランタイムヒントを検証する
+
+        /* 検証の実施 */
+        for (final String expectedBundle : expectedBundles) {
+
+            Assertions.assertTrue(RuntimeHintsPredicates.resource().forBundle(expectedBundle).test(this.hints),
+                String.format("リソースバンドル[%s]が登録されること", expectedBundle));
+            Assertions.assertTrue(
+                RuntimeHintsPredicates.resource().forResource(expectedBundle + ".properties").test(this.hints),
+                String.format("リソース[%s.properties]が登録されること", expectedBundle));
+
+        }
+
+    }
+
+    /**
+     * registerHints のテスト - 正常系：列挙型のリフレクションが登録される場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testRegisterHints_normalReflectionTypes() {
+
+        /* 期待値の定義 */
+        final Class<?>[] expectedTypes = {
+            KmgToolCliGenMsgTypes.class, KmgToolCliLogMsgTypes.class, KmgToolCliValMsgTypes.class,
+            KmgToolCliCmdTypes.class,
+        };
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        // 登録済みのランタイムヒントを検証する
+
+        /* 検証の実施 */
+        for (final Class<?> expectedType : expectedTypes) {
+
+            Assertions.assertTrue(RuntimeHintsPredicates.reflection().onType(expectedType)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(this.hints),
+                String.format("型[%s]のリフレクションが登録されること", expectedType.getSimpleName()));
+
+        }
+
+    }
+
+    /**
+     * registerHints のテスト - 正常系：テンプレートのリソースが登録されない場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testRegisterHints_normalTemplateResourcesNotRegistered() {
+
+        /* 期待値の定義 */
+        final String[] expectedTemplates = {
+            "tool/io/template/AccessorCreationTool.yml", "tool/io/template/Enum2SwitchCaseCreationTool.yml",
+            "tool/io/template/FieldCreationTool.yml", "tool/io/template/InterfaceAccessorCreationTool.yml",
+            "tool/io/template/JavadocTagSetterTool.yml", "tool/io/template/MessageTypesCreationTool.yml",
+            "tool/io/template/SimpleTwo2OneTool.yml",
+        };
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        // 登録済みのランタイムヒントを検証する
+
+        /* 検証の実施 */
+        for (final String expectedTemplate : expectedTemplates) {
+
+            Assertions.assertFalse(RuntimeHintsPredicates.resource().forResource(expectedTemplate).test(this.hints),
+                String.format("ディスク上から読み込むテンプレート[%s]は登録されないこと", expectedTemplate));
+
+        }
+
+    }
+
+}
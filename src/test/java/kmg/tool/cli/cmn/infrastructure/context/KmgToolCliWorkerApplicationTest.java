@@ -0,0 +1,73 @@
+package kmg.tool.cli.cmn.infrastructure.context;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * KMGツールCLIのワーカーのアプリケーションのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class KmgToolCliWorkerApplicationTest extends AbstractKmgTest {
+
+    /**
+     * toWorkerArgs のテスト - 正常系：起動したコンテキストの引数がない場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testToWorkerArgs_normalNoParent() {
+
+        /* 期待値の定義 */
+        final List<String> expected = List.of("--spring.main.banner-mode=off", "--spring.main.log-startup-info=false");
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final String[] actual = KmgToolCliWorkerApplication.toWorkerArgs(null);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, List.of(actual), "バナーと起動情報のログを無効にする引数のみであること");
+
+    }
+
+    /**
+     * toWorkerArgs のテスト - 正常系：起動したコンテキストのオプション引数を引き継ぐ場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testToWorkerArgs_normalInheritOptions() {
+
+        /* 期待値の定義 */
+        final List<String> expected = List.of("--spring.main.banner-mode=off", "--spring.main.log-startup-info=false",
+            "--kmg.tool.cli.stream=true", "--kmg.tool.cli.skip-unchanged", "--kmg.tool.cli.ext=.java",
+            "--kmg.tool.cli.ext=.txt");
+
+        /* 準備 */
+        final DefaultApplicationArguments parentArguments = new DefaultApplicationArguments("batch", "manifest.csv",
+            "--kmg.tool.cli.stream=true", "--kmg.tool.cli.skip-unchanged", "--kmg.tool.cli.ext=.java",
+            "--kmg.tool.cli.ext=.txt", "--spring.main.banner-mode=console");
+
+        /* テスト対象の実行 */
+        final String[] actual = KmgToolCliWorkerApplication.toWorkerArgs(parentArguments);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, List.of(actual),
+            "オプション引数を引き継ぎ、オプション以外の引数とバナーの指定は引き継がないこと");
+
+    }
+
+}
@@ -0,0 +1,144 @@
+package kmg.tool.cli.cmn.infrastructure.output;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * 上書き更新ガードのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class InPlaceUpdateGuardTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * restoreUnchanged メソッドのテスト - 正常系：内容が同じファイルだけ更新日時が元に戻る場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRestoreUnchanged_normalRestoreSameContent() throws Exception {
+
+        /* 期待値の定義 */
+        final FileTime expectedTime          = FileTime.fromMillis(1_000_000_000_000L);
+        final int      expectedRestoredCount = 1;
+        final int      expectedChangedCount  = 1;
+
+        /* 準備 */
+        final Path unchangedPath = this.tempDir.resolve("src/Unchanged.java");
+        final Path changedPath   = this.tempDir.resolve("src/sub/Changed.java");
+        Files.createDirectories(changedPath.getParent());
+        Files.writeString(unchangedPath, "class Unchanged {}", StandardCharsets.UTF_8);
+        Files.writeString(changedPath, "class Changed {}", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(unchangedPath, expectedTime);
+        Files.setLastModifiedTime(changedPath, expectedTime);
+
+        final InPlaceUpdateGuard testTarget = InPlaceUpdateGuard.snapshot(this.tempDir.resolve("src"));
+
+        // 上書きする処理
+        Files.writeString(unchangedPath, "class Unchanged {}", StandardCharsets.UTF_8);
+        Files.writeString(changedPath, "class Changed { int a; }", StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        final int testResult = testTarget.restoreUnchanged();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedRestoredCount, testResult, "更新日時を元に戻したファイルの数が一致すること");
+        Assertions.assertEquals(expectedChangedCount, testTarget.getChangedCount(), "内容が変わったファイルの数が一致すること");
+        Assertions.assertEquals(expectedTime, Files.getLastModifiedTime(unchangedPath), "内容が同じファイルの更新日時が元に戻ること");
+        Assertions.assertNotEquals(expectedTime, Files.getLastModifiedTime(changedPath), "内容が変わったファイルの更新日時は元に戻らないこと");
+
+    }
+
+    /**
+     * snapshot メソッドのテスト - 正常系：拡張子のファイルだけを記録する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testSnapshot_normalExtensionOnly() throws Exception {
+
+        /* 期待値の定義 */
+        final FileTime expectedTime          = FileTime.fromMillis(1_000_000_000_000L);
+        final int      expectedRestoredCount = 1;
+
+        /* 準備 */
+        final Path javaPath = this.tempDir.resolve("src/Target.java");
+        final Path textPath = this.tempDir.resolve("src/note.txt");
+        Files.createDirectories(javaPath.getParent());
+        Files.writeString(javaPath, "class Target {}", StandardCharsets.UTF_8);
+        Files.writeString(textPath, "note", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(javaPath, expectedTime);
+        Files.setLastModifiedTime(textPath, expectedTime);
+
+        final InPlaceUpdateGuard testTarget = InPlaceUpdateGuard.snapshot(this.tempDir.resolve("src"), ".java");
+
+        // 上書きする処理
+        Files.writeString(javaPath, "class Target {}", StandardCharsets.UTF_8);
+        Files.writeString(textPath, "note", StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        final int testResult = testTarget.restoreUnchanged();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedRestoredCount, testResult, "拡張子のファイルだけ更新日時を元に戻すこと");
+        Assertions.assertEquals(expectedTime, Files.getLastModifiedTime(javaPath), "拡張子のファイルの更新日時が元に戻ること");
+        Assertions.assertNotEquals(expectedTime, Files.getLastModifiedTime(textPath), "記録しないファイルは対象外であること");
+
+    }
+
+    /**
+     * snapshot メソッドのテスト - 準正常系：対象が存在しない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testSnapshot_semiTargetNotExists() throws Exception {
+
+        /* 期待値の定義 */
+        final int expected = 0;
+
+        /* 準備 */
+        final InPlaceUpdateGuard testTarget = InPlaceUpdateGuard.snapshot(this.tempDir.resolve("none"));
+
+        /* テスト対象の実行 */
+        final int testResult = testTarget.restoreUnchanged();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, testResult, "更新日時を元に戻したファイルがないこと");
+        Assertions.assertEquals(expected, testTarget.getChangedCount(), "内容が変わったファイルがないこと");
+
+    }
+
+}
@@ -0,0 +1,228 @@
+package kmg.tool.cli.cmn.infrastructure.output;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.tool.cli.cmn.infrastructure.output.SkipUnchangedWriter.StagedOutput;
+
+/**
+ * 変更なし省略ライターのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class SkipUnchangedWriterTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * commit メソッドのテスト - 正常系：出力ファイルがない場合に書き込まれる場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testCommit_normalNewOutput() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedContent = "content";
+
+        /* 準備 */
+        final Path                outputPath  = this.tempDir.resolve("output/output.txt");
+        final SkipUnchangedWriter testTarget  = new SkipUnchangedWriter();
+        final Path                stagingPath = testTarget.createStaging(outputPath);
+        Files.writeString(stagingPath, expectedContent, StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.commit(stagingPath, outputPath);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "書き込んだ場合、trueが返されること");
+        Assertions.assertEquals(expectedContent, Files.readString(outputPath, StandardCharsets.UTF_8),
+            "出力ファイルの内容が一致すること");
+        Assertions.assertFalse(Files.exists(stagingPath), "ステージングファイルが残らないこと");
+        Assertions.assertEquals(1, testTarget.getWrittenCount(), "書き込んだ件数が1であること");
+        Assertions.assertEquals(0, testTarget.getSkippedCount(), "省略した件数が0であること");
+
+    }
+
+    /**
+     * commit メソッドのテスト - 正常系：内容が同じ場合に出力ファイルの更新日時が変わらない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testCommit_normalUnchangedSkipped() throws Exception {
+
+        /* 期待値の定義 */
+        final FileTime expectedTime = FileTime.fromMillis(1_000_000_000_000L);
+
+        /* 準備 */
+        final Path outputPath = this.tempDir.resolve("output.txt");
+        Files.writeString(outputPath, "content", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(outputPath, expectedTime);
+
+        final SkipUnchangedWriter testTarget  = new SkipUnchangedWriter();
+        final Path                stagingPath = testTarget.createStaging(outputPath);
+        Files.writeString(stagingPath, "content", StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.commit(stagingPath, outputPath);
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "省略した場合、falseが返されること");
+        Assertions.assertEquals(expectedTime, Files.getLastModifiedTime(outputPath), "出力ファイルの更新日時が変わらないこと");
+        Assertions.assertFalse(Files.exists(stagingPath), "ステージングファイルが削除されること");
+        Assertions.assertEquals(0, testTarget.getWrittenCount(), "書き込んだ件数が0であること");
+        Assertions.assertEquals(1, testTarget.getSkippedCount(), "省略した件数が1であること");
+
+    }
+
+    /**
+     * commit メソッドのテスト - 正常系：サイズが同じで内容が異なる場合に書き込まれる場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testCommit_normalSameSizeChanged() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedContent = "abd";
+
+        /* 準備 */
+        final Path outputPath = this.tempDir.resolve("output.txt");
+        Files.writeString(outputPath, "abc", StandardCharsets.UTF_8);
+
+        final SkipUnchangedWriter testTarget = new SkipUnchangedWriter();
+        final StagedOutput        staged     = testTarget.openStaging(outputPath);
+
+        try (staged) {
+
+            staged.write(expectedContent.getBytes(StandardCharsets.UTF_8));
+
+        }
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.commit(staged);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "書き込んだ場合、trueが返されること");
+        Assertions.assertEquals(expectedContent, Files.readString(outputPath, StandardCharsets.UTF_8),
+            "出力ファイルの内容が一致すること");
+
+    }
+
+    /**
+     * commit メソッドのテスト - 正常系：既存の出力ファイルのアクセス権を引き継ぐ場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testCommit_normalKeepPermissions() throws Exception {
+
+        /* 期待値の定義 */
+        final Set<PosixFilePermission> expected = PosixFilePermissions.fromString("rw-r--r--");
+
+        /* 準備 */
+        Assumptions.assumeTrue(
+            Files.getFileStore(this.tempDir).supportsFileAttributeView(PosixFileAttributeView.class),
+            "POSIXのアクセス権に対応するファイルシステムであること");
+
+        final Path outputPath = this.tempDir.resolve("output.txt");
+        Files.writeString(outputPath, "old", StandardCharsets.UTF_8);
+        Files.setPosixFilePermissions(outputPath, expected);
+
+        final SkipUnchangedWriter testTarget  = new SkipUnchangedWriter();
+        final Path                stagingPath = testTarget.createStaging(outputPath);
+        Files.writeString(stagingPath, "new", StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        testTarget.commit(stagingPath, outputPath);
+
+        /* 検証の準備 */
+        final Set<PosixFilePermission> actual = Files.getPosixFilePermissions(outputPath);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "出力ファイルのアクセス権が変わらないこと");
+        Assertions.assertEquals("new", Files.readString(outputPath, StandardCharsets.UTF_8), "出力ファイルに反映されること");
+
+    }
+
+    /**
+     * discard メソッドのテスト - 正常系：ステージングファイルが削除され、出力ファイルに反映されない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testDiscard_normalDeleteStaging() throws Exception {
+
+        /* 期待値の定義 */
+        final List<Path> expected = List.of(this.tempDir.resolve("output.txt"));
+
+        /* 準備 */
+        final Path outputPath = this.tempDir.resolve("output.txt");
+        Files.writeString(outputPath, "old", StandardCharsets.UTF_8);
+
+        final SkipUnchangedWriter testTarget  = new SkipUnchangedWriter();
+        final Path                stagingPath = testTarget.createStaging(outputPath);
+        Files.writeString(stagingPath, "new", StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        testTarget.discard(stagingPath);
+
+        /* 検証の準備 */
+        final List<Path> actual;
+
+        try (final Stream<Path> paths = Files.list(this.tempDir)) {
+
+            actual = paths.toList();
+
+        }
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "出力ファイルだけが残ること");
+        Assertions.assertEquals("old", Files.readString(outputPath, StandardCharsets.UTF_8), "出力ファイルの内容が変わらないこと");
+
+    }
+
+}
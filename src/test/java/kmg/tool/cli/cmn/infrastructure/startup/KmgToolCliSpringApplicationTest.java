@@ -0,0 +1,185 @@
+package kmg.tool.cli.cmn.infrastructure.startup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.tool.cli.launcher.presentation.ui.cli.KmgToolLauncher;
+
+/**
+ * KMGツールCLIのSpringアプリケーションのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class KmgToolCliSpringApplicationTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * クリーンアップ
+     *
+     * @since 0.2.0
+     */
+    @AfterEach
+    public void tearDown() {
+
+        System.clearProperty(KmgToolCliSpringApplication.TIMELINE_PROPERTY);
+
+    }
+
+    /**
+     * isTimelineEnabled のテスト - 正常系：引数で有効にした場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testIsTimelineEnabled_normalArgs() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final String[] args = {
+            "input.txt", "--kmg.tool.cli.startup-timeline=true",
+        };
+
+        /* テスト対象の実行 */
+        final boolean actual = KmgToolCliSpringApplication.isTimelineEnabled(args);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actual, "引数で起動時間の計測が有効になること");
+
+    }
+
+    /**
+     * isTimelineEnabled のテスト - 正常系：システムプロパティで有効にした場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testIsTimelineEnabled_normalSystemProperty() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        System.setProperty(KmgToolCliSpringApplication.TIMELINE_PROPERTY, "true");
+
+        /* テスト対象の実行 */
+        final boolean actual = KmgToolCliSpringApplication.isTimelineEnabled(new String[0]);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actual, "システムプロパティで起動時間の計測が有効になること");
+
+    }
+
+    /**
+     * isTimelineEnabled のテスト - 準正常系：指定がない場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testIsTimelineEnabled_semiNotSpecified() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final String[] args = {
+            "--kmg.tool.cli.startup-timeline=false",
+        };
+
+        /* テスト対象の実行 */
+        final boolean actualArgs = KmgToolCliSpringApplication.isTimelineEnabled(args);
+        final boolean actualNull = KmgToolCliSpringApplication.isTimelineEnabled(null);
+
+        /* 検証の実施 */
+        Assertions.assertFalse(actualArgs, "無効を指定した場合は起動時間の計測が無効であること");
+        Assertions.assertFalse(actualNull, "引数がnullの場合は起動時間の計測が無効であること");
+
+    }
+
+    /**
+     * writeTimeline のテスト - 正常系：ステップとタグがJSONに出力される場合
+     *
+     * @since 0.2.0
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    @Test
+    public void testWriteTimeline_normalStepsAndTags() throws IOException {
+
+        /* 期待値の定義 */
+        final String expectedTool = "\"tool\": \"KmgToolLauncher\"";
+        final String expectedName = "\"name\": \"kmg.tool.execute\"";
+        final String expectedTag  = "\"tool\": \"Sample\\\"Tool\\\\\"";
+
+        /* 準備 */
+        final BufferingApplicationStartup startup = new BufferingApplicationStartup(10);
+        final StartupStep                 step    = startup.start("kmg.tool.execute");
+        step.tag("tool", "Sample\"Tool\\");
+        step.end();
+
+        final Path outputPath = this.tempDir.resolve("timeline").resolve("timeline.json");
+
+        /* テスト対象の実行 */
+        KmgToolCliSpringApplication.writeTimeline(startup, KmgToolLauncher.class, outputPath);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(Files.exists(outputPath), "タイムラインのファイルが出力されること");
+
+        final String actual = Files.readString(outputPath, StandardCharsets.UTF_8);
+        Assertions.assertTrue(actual.contains(expectedTool), "ツール名が出力されること");
+        Assertions.assertTrue(actual.contains(expectedName), "ステップ名が出力されること");
+        Assertions.assertTrue(actual.contains(expectedTag), "タグがエスケープされて出力されること");
+        Assertions.assertTrue(actual.contains("\"durationMillis\": "), "所要時間が出力されること");
+
+    }
+
+    /**
+     * close のテスト - 正常系：起動時間の計測が無効の場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testClose_normalTimelineDisabled() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final ConfigurableApplicationContext mockCtx = Mockito.mock(ConfigurableApplicationContext.class);
+        Mockito.when(mockCtx.getApplicationStartup()).thenReturn(ApplicationStartup.DEFAULT);
+
+        /* テスト対象の実行 */
+        KmgToolCliSpringApplication.close(mockCtx, KmgToolLauncher.class);
+
+        /* 検証の実施 */
+        Mockito.verify(mockCtx).close();
+        Mockito.verify(mockCtx, Mockito.never()).getBean(Mockito.any(Class.class));
+
+    }
+
+}
@@ -0,0 +1,197 @@
+package kmg.tool.cli.cmn.presentation.ui.cli;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+
+/**
+ * ツールごとのビーン数のレポート<br>
+ * <p>
+ * 各ツールのコンテキストを実際に起動し、ツールのビーンを取得した時点で生成済みのシングルトンの数を数える。<br>
+ * 変更前の構成（「kmg」全体をスキャンし、全てのビーンを即時に生成）と、現在の構成（ツールが使用するライブラリのみをスキャンし、ビーンは遅延生成）を比較し、
+ * 結果を「{@value #REPORT_PATH}」にMarkdownの表で出力する。
+ * </p>
+ * <p>
+ * 全てのツールのコンテキストを2回ずつ起動するため、システムプロパティ「{@value #REPORT_PROPERTY}」を指定した場合のみ実行する。
+ * </p>
+ *
+ * <pre>
+ * mvn test -Dtest=ToolBeanCountReportTest -Dkmg.tool.cli.bean-report=true
+ * </pre>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+@EnabledIfSystemProperty(named = ToolBeanCountReportTest.REPORT_PROPERTY, matches = "true")
+public class ToolBeanCountReportTest extends AbstractKmgTest {
+
+    /**
+     * レポートを出力するシステムプロパティ名
+     *
+     * @since 0.2.0
+     */
+    static final String REPORT_PROPERTY = "kmg.tool.cli.bean-report";
+
+    /**
+     * レポートのファイルパス
+     *
+     * @since 0.2.0
+     */
+    static final String REPORT_PATH = "target/bean-count-report.md";
+
+    /**
+     * KMGのクラスの接頭辞
+     *
+     * @since 0.2.0
+     */
+    private static final String KMG_CLASS_PREFIX = "kmg.";
+
+    /**
+     * 変更前の構成<br>
+     * <p>
+     * 全てのツールが「scanBasePackages = {"kmg"}」を指定していたときと同じく、「kmg」全体をスキャンする。
+     * </p>
+     *
+     * @author KenichiroArai
+     *
+     * @since 0.2.0
+     *
+     * @version 0.2.0
+     */
+    @Configuration
+    @ComponentScan("kmg")
+    static class FullScanConfiguration {
+        // 処理なし
+    }
+
+    /**
+     * ビーン数のテスト - 正常系：全てのツールで生成するKMGのビーンが減る場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testBeanCount_normalReduced() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final List<String> reportLines = new ArrayList<>();
+        reportLines.add("| ツール | 変更前（全体） | 変更前（KMG） | 変更後（全体） | 変更後（KMG） |");
+        reportLines.add("| ------ | -------------: | ------------: | -------------: | ------------: |");
+
+        final List<String> notReducedTools = new ArrayList<>();
+
+        for (final KmgToolCliCmdTypes cmdType : KmgToolCliCmdTypes.values()) {
+
+            if (cmdType == KmgToolCliCmdTypes.NONE) {
+
+                continue;
+
+            }
+
+            /* テスト対象の実行 */
+            final int[] before = ToolBeanCountReportTest.countBeans(cmdType.getToolClass(), new Class<?>[] {
+                cmdType.getToolClass(), FullScanConfiguration.class
+            }, "--spring.main.lazy-initialization=false");
+            final int[] after  = ToolBeanCountReportTest.countBeans(cmdType.getToolClass(), new Class<?>[] {
+                cmdType.getToolClass()
+            });
+
+            /* 検証の準備 */
+            reportLines.add(String.format("| %s | %d | %d | %d | %d |", cmdType.getKey(), before[0], before[1],
+                after[0], after[1]));
+
+            if (after[1] >= before[1]) {
+
+                notReducedTools.add(cmdType.getKey());
+
+            }
+
+        }
+
+        final Path reportPath = Paths.get(ToolBeanCountReportTest.REPORT_PATH);
+        Files.createDirectories(reportPath.getParent());
+        Files.write(reportPath, reportLines, StandardCharsets.UTF_8);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(notReducedTools.isEmpty(),
+            String.format("全てのツールで生成するKMGのビーンが減ること。減らないツール：%s", notReducedTools));
+
+    }
+
+    /**
+     * コンテキストを起動してツールのビーンを取得し、生成済みのシングルトンの数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param toolClass
+     *                       ツールのクラス
+     * @param primarySources
+     *                       コンテキストの構成クラスの配列
+     * @param args
+     *                       コマンドライン引数
+     *
+     * @return [0]：全てのシングルトンの数、[1]：KMGのクラスのシングルトンの数
+     */
+    private static int[] countBeans(final Class<? extends AbstractTool> toolClass, final Class<?>[] primarySources,
+        final String... args) {
+
+        final int[] result = new int[2];
+
+        try (final ConfigurableApplicationContext ctx = SpringApplication.run(primarySources, args)) {
+
+            ctx.getBean(toolClass);
+
+            final ConfigurableListableBeanFactory beanFactory = ctx.getBeanFactory();
+
+            for (final String singletonName : beanFactory.getSingletonNames()) {
+
+                result[0]++;
+
+                final Object singleton = beanFactory.getSingleton(singletonName);
+
+                if (singleton == null) {
+
+                    continue;
+
+                }
+
+                if (singleton.getClass().getName().startsWith(ToolBeanCountReportTest.KMG_CLASS_PREFIX)) {
+
+                    result[1]++;
+
+                }
+
+            }
+
+        }
+
+        return result;
+
+    }
+
+}
@@ -0,0 +1,426 @@
+package kmg.tool.cli.daemon.application.service.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import kmg.core.infrastructure.model.impl.KmgReflectionModelImpl;
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliLogMsgTypes;
+import kmg.tool.cli.daemon.domain.model.DaemonResponseModel;
+import kmg.tool.cli.daemon.domain.model.impl.DaemonRequestModelImpl;
+import kmg.tool.cli.daemon.presentation.ui.cli.KmgToolClient;
+import kmg.tool.cli.launcher.application.service.ToolDispatchService;
+import kmg.tool.cli.launcher.domain.model.ToolJobModel;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+
+/**
+ * デーモンサービスのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class DaemonServiceImplTest extends AbstractKmgTest {
+
+    /**
+     * 待ち受け開始を待つ最大時間（ミリ秒）
+     *
+     * @since 0.2.0
+     */
+    private static final long WAIT_MILLIS = 10000L;
+
+    /**
+     * テンポラリディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.0
+     */
+    private DaemonServiceImpl testTarget;
+
+    /**
+     * モックメッセージソース
+     *
+     * @since 0.2.0
+     */
+    private KmgMessageSource mockMessageSource;
+
+    /**
+     * モックツール振り分けサービス
+     *
+     * @since 0.2.0
+     */
+    private ToolDispatchService mockToolDispatchService;
+
+    /**
+     * 待ち受け用のスレッド
+     *
+     * @since 0.2.0
+     */
+    private ExecutorService executor;
+
+    /**
+     * セットアップ
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        this.testTarget = new DaemonServiceImpl();
+        this.mockMessageSource = Mockito.mock(KmgMessageSource.class);
+        this.mockToolDispatchService = Mockito.mock(ToolDispatchService.class);
+        this.executor = Executors.newSingleThreadExecutor();
+
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        reflectionModel.set("messageSource", this.mockMessageSource);
+        reflectionModel.set("toolDispatchService", this.mockToolDispatchService);
+
+        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("テストログ");
+
+    }
+
+    /**
+     * クリーンアップ
+     *
+     * @since 0.2.0
+     */
+    @AfterEach
+    public void tearDown() {
+
+        this.executor.shutdownNow();
+
+    }
+
+    /**
+     * handle メソッドのテスト - 正常系：ジョブのパスを指定してツールを実行する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testHandle_normalSuccess() {
+
+        /* 期待値の定義 */
+        final boolean expected             = true;
+        final Path    expectedInputPath    = Paths.get("/job/input.txt");
+        final Path    expectedTemplatePath = Paths.get("/job/template.yml");
+        final Path    expectedOutputPath   = Paths.get("/job/output.txt");
+
+        /* 準備 */
+        Mockito.when(this.mockToolDispatchService.dispatch(ArgumentMatchers.any(ToolJobModel.class))).thenReturn(true);
+
+        /* テスト対象の実行 */
+        final DaemonResponseModel testResult = this.testTarget.handle(new DaemonRequestModelImpl("acccrt",
+            expectedInputPath.toString(), expectedTemplatePath.toString(), expectedOutputPath.toString()));
+
+        /* 検証の準備 */
+        final boolean                      actual    = testResult.isSuccess();
+        final ArgumentCaptor<ToolJobModel> jobCaptor = ArgumentCaptor.forClass(ToolJobModel.class);
+        Mockito.verify(this.mockToolDispatchService).dispatch(jobCaptor.capture());
+        final ToolJobModel actualJob = jobCaptor.getValue();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "成功の応答が返されること");
+        Assertions.assertEquals(KmgToolCliCmdTypes.ACCCRT, actualJob.getCmdType(), "ツールが変換されること");
+        Assertions.assertEquals(expectedInputPath, actualJob.getInputPath(), "入力ファイルパスが変換されること");
+        Assertions.assertEquals(expectedTemplatePath, actualJob.getTemplatePath(), "テンプレートファイルパスが変換されること");
+        Assertions.assertEquals(expectedOutputPath, actualJob.getOutputPath(), "出力ファイルパスが変換されること");
+        Mockito.verify(this.mockMessageSource)
+            .getLogMessage(ArgumentMatchers.eq(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21006), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * handle メソッドのテスト - 準正常系：ツールが不正な場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testHandle_semiUnknownTool() {
+
+        /* 期待値の定義 */
+        final boolean expected    = false;
+        final String  expectedLog = "[WARN ] 不正なツール";
+
+        /* 準備 */
+        Mockito.when(this.mockMessageSource
+            .getLogMessage(ArgumentMatchers.eq(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21004), ArgumentMatchers.any()))
+            .thenReturn("不正なツール");
+
+        /* テスト対象の実行 */
+        final DaemonResponseModel testResult
+            = this.testTarget.handle(new DaemonRequestModelImpl("unknown", null, null, null));
+
+        /* 検証の準備 */
+        final boolean actual = testResult.isSuccess();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "失敗の応答が返されること");
+        Assertions.assertTrue(testResult.getLogLines().contains(expectedLog), "警告のログが応答に含まれること");
+        Mockito.verifyNoInteractions(this.mockToolDispatchService);
+
+    }
+
+    /**
+     * handle メソッドのテスト - 異常系：ツールの実行中に実行時例外が発生する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testHandle_errorRuntimeException() {
+
+        /* 期待値の定義 */
+        final boolean expected    = false;
+        final String  expectedLog = "[ERROR] 実行時例外";
+
+        /* 準備 */
+        Mockito.when(this.mockToolDispatchService.dispatch(ArgumentMatchers.any(ToolJobModel.class)))
+            .thenThrow(new IllegalStateException("テスト例外"));
+        Mockito.when(this.mockMessageSource
+            .getLogMessage(ArgumentMatchers.eq(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21005), ArgumentMatchers.any()))
+            .thenReturn("実行時例外");
+
+        /* テスト対象の実行 */
+        final DaemonResponseModel testResult
+            = this.testTarget.handle(new DaemonRequestModelImpl("mptf", null, null, null));
+
+        /* 検証の準備 */
+        final boolean actual = testResult.isSuccess();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "失敗の応答が返されること");
+        Assertions.assertTrue(testResult.getLogLines().contains(expectedLog), "エラーのログが応答に含まれること");
+
+    }
+
+    /**
+     * serve メソッドのテスト - 正常系：ジョブを実行してから停止要求で終了する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testServe_normalJobAndShutdown() throws Exception {
+
+        /* 期待値の定義 */
+        final boolean expected         = true;
+        final int     expectedExitCode = KmgToolClient.EXIT_CODE_SUCCESS;
+
+        /* 準備 */
+        final Path socketPath = this.tempDir.resolve("daemon.sock");
+        Mockito.when(this.mockToolDispatchService.dispatch(ArgumentMatchers.any(ToolJobModel.class))).thenReturn(true);
+
+        final ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+        final ByteArrayOutputStream errStream = new ByteArrayOutputStream();
+        final KmgToolClient         client    = new KmgToolClient(socketPath,
+            new PrintStream(outStream, true, StandardCharsets.UTF_8),
+            new PrintStream(errStream, true, StandardCharsets.UTF_8));
+
+        /* テスト対象の実行 */
+        final Future<Boolean> future = this.executor.submit(() -> this.testTarget.serve(socketPath));
+        this.waitForSocket(socketPath);
+
+        final int jobExitCode = client.run(new String[] {
+            "acccrt",
+        });
+        final int shutdownExitCode = client.run(new String[] {
+            DaemonRequestModelImpl.SHUTDOWN_TOOL,
+        });
+
+        final boolean testResult = future.get(DaemonServiceImplTest.WAIT_MILLIS, TimeUnit.MILLISECONDS);
+
+        /* 検証の準備 */
+        final boolean actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "停止要求により正常に終了すること");
+        Assertions.assertEquals(expectedExitCode, jobExitCode, "ジョブが成功した終了コードであること");
+        Assertions.assertEquals(expectedExitCode, shutdownExitCode, "停止要求が成功した終了コードであること");
+        Assertions.assertTrue(outStream.toString(StandardCharsets.UTF_8).contains("テストログ"),
+            "ジョブのログがクライアントに出力されること");
+        Assertions.assertFalse(Files.exists(socketPath), "終了後にソケットファイルが削除されること");
+        Mockito.verify(this.mockToolDispatchService).dispatch(ArgumentMatchers.any(ToolJobModel.class));
+
+    }
+
+    /**
+     * serve メソッドのテスト - 準正常系：前回の異常終了などでソケットファイルが残っている場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testServe_semiStaleSocketFile() throws Exception {
+
+        /* 期待値の定義 */
+        final boolean expected         = true;
+        final int     expectedExitCode = KmgToolClient.EXIT_CODE_SUCCESS;
+
+        /* 準備 */
+        final Path                  socketPath = Files.createFile(this.tempDir.resolve("daemon.sock"));
+        final ByteArrayOutputStream outStream  = new ByteArrayOutputStream();
+        final ByteArrayOutputStream errStream  = new ByteArrayOutputStream();
+        final KmgToolClient         client     = new KmgToolClient(socketPath,
+            new PrintStream(outStream, true, StandardCharsets.UTF_8),
+            new PrintStream(errStream, true, StandardCharsets.UTF_8));
+
+        /* テスト対象の実行 */
+        final Future<Boolean> future = this.executor.submit(() -> this.testTarget.serve(socketPath));
+        Mockito.verify(this.mockMessageSource, Mockito.timeout(DaemonServiceImplTest.WAIT_MILLIS))
+            .getLogMessage(ArgumentMatchers.eq(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21000), ArgumentMatchers.any());
+
+        final int shutdownExitCode = client.run(new String[] {
+            DaemonRequestModelImpl.SHUTDOWN_TOOL,
+        });
+
+        final boolean testResult = future.get(DaemonServiceImplTest.WAIT_MILLIS, TimeUnit.MILLISECONDS);
+
+        /* 検証の準備 */
+        final boolean actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "残っていたソケットファイルを削除して待ち受けること");
+        Assertions.assertEquals(expectedExitCode, shutdownExitCode, "停止要求が成功した終了コードであること");
+
+    }
+
+    /**
+     * serve メソッドのテスト - 異常系：他のデーモンが待ち受けている場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testServe_errorAlreadyServing() throws Exception {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        final Path                  socketPath = this.tempDir.resolve("daemon.sock");
+        final ByteArrayOutputStream outStream  = new ByteArrayOutputStream();
+        final ByteArrayOutputStream errStream  = new ByteArrayOutputStream();
+        final KmgToolClient         client     = new KmgToolClient(socketPath,
+            new PrintStream(outStream, true, StandardCharsets.UTF_8),
+            new PrintStream(errStream, true, StandardCharsets.UTF_8));
+
+        final Future<Boolean> future = this.executor.submit(() -> this.testTarget.serve(socketPath));
+        Mockito.verify(this.mockMessageSource, Mockito.timeout(DaemonServiceImplTest.WAIT_MILLIS))
+            .getLogMessage(ArgumentMatchers.eq(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21000), ArgumentMatchers.any());
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.serve(socketPath);
+
+        /* 検証の準備 */
+        final boolean actual          = testResult;
+        final boolean actualRemaining = Files.exists(socketPath);
+
+        client.run(new String[] {
+            DaemonRequestModelImpl.SHUTDOWN_TOOL,
+        });
+        future.get(DaemonServiceImplTest.WAIT_MILLIS, TimeUnit.MILLISECONDS);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "他のデーモンが待ち受けている場合、falseが返されること");
+        Assertions.assertTrue(actualRemaining, "待ち受け中のソケットファイルが削除されないこと");
+        Mockito.verify(this.mockMessageSource)
+            .getLogMessage(ArgumentMatchers.eq(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21007), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * serve メソッドのテスト - 異常系：ソケットファイルのディレクトリを作成できない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testServe_errorInvalidSocketPath() throws Exception {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        final Path regularFile = Files.createFile(this.tempDir.resolve("regular-file"));
+        final Path socketPath  = regularFile.resolve("daemon.sock");
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.serve(socketPath);
+
+        /* 検証の準備 */
+        final boolean actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "待ち受けに失敗した場合、falseが返されること");
+        Mockito.verify(this.mockMessageSource)
+            .getLogMessage(ArgumentMatchers.eq(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG21002), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * ソケットファイルが作成されるまで待つ。
+     *
+     * @since 0.2.0
+     *
+     * @param socketPath
+     *                   ソケットファイルのパス
+     *
+     * @throws InterruptedException
+     *                              割り込み例外
+     */
+    private void waitForSocket(final Path socketPath) throws InterruptedException {
+
+        final long deadline = System.currentTimeMillis() + DaemonServiceImplTest.WAIT_MILLIS;
+
+        while (!Files.exists(socketPath) && (System.currentTimeMillis() < deadline)) {
+
+            Thread.sleep(10L);
+
+        }
+
+        Assertions.assertTrue(Files.exists(socketPath), "ソケットファイルが作成されること");
+
+    }
+
+}
@@ -0,0 +1,117 @@
+package kmg.tool.cli.daemon.domain.model.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * デーモン要求モデルのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class DaemonRequestModelImplTest extends AbstractKmgTest {
+
+    /**
+     * コンストラクタ のテスト - 正常系：全ての項目を指定する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testConstructor_normalAllItems() {
+
+        /* 期待値の定義 */
+        final String expectedTool     = "acccrt";
+        final String expectedInput    = "/work/input.txt";
+        final String expectedTemplate = "/work/template.yml";
+        final String expectedOutput   = "/work/output.txt";
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final DaemonRequestModelImpl testTarget
+            = new DaemonRequestModelImpl(expectedTool, expectedInput, expectedTemplate, expectedOutput);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTool, testTarget.getTool(), "ツールのキーが設定されること");
+        Assertions.assertEquals(expectedInput, testTarget.getInput(), "入力ファイルパスが設定されること");
+        Assertions.assertEquals(expectedTemplate, testTarget.getTemplate(), "テンプレートファイルパスが設定されること");
+        Assertions.assertEquals(expectedOutput, testTarget.getOutput(), "出力ファイルパスが設定されること");
+
+    }
+
+    /**
+     * isShutdown メソッドのテスト - 正常系：停止要求の場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testIsShutdown_normalShutdown() {
+
+        /* 期待値の定義 */
+        final boolean expected = true;
+
+        /* 準備 */
+        final DaemonRequestModelImpl testTarget
+            = new DaemonRequestModelImpl(DaemonRequestModelImpl.SHUTDOWN_TOOL, null, null, null);
+
+        /* テスト対象の実行 */
+        final boolean actual = testTarget.isShutdown();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "停止要求と判定されること");
+
+    }
+
+    /**
+     * isShutdown メソッドのテスト - 正常系：ジョブの要求の場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testIsShutdown_normalJob() {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        final DaemonRequestModelImpl testTarget = new DaemonRequestModelImpl("acccrt", null, null, null);
+
+        /* テスト対象の実行 */
+        final boolean actual = testTarget.isShutdown();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "ジョブの要求と判定されること");
+
+    }
+
+    /**
+     * isShutdown メソッドのテスト - 準正常系：ツールのキーがnullの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testIsShutdown_semiNullTool() {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        final DaemonRequestModelImpl testTarget = new DaemonRequestModelImpl(null, null, null, null);
+
+        /* テスト対象の実行 */
+        final boolean actual = testTarget.isShutdown();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "停止要求と判定されないこと");
+
+    }
+
+}
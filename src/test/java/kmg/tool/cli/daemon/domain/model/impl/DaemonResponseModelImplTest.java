@@ -0,0 +1,74 @@
+package kmg.tool.cli.daemon.domain.model.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * デーモン応答モデルのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class DaemonResponseModelImplTest extends AbstractKmgTest {
+
+    /**
+     * コンストラクタ のテスト - 正常系：実行結果とログを指定する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testConstructor_normalSuccessWithLogs() {
+
+        /* 期待値の定義 */
+        final boolean      expectedSuccess  = true;
+        final List<String> expectedLogLines = List.of("[INFO ] 開始", "[INFO ] 終了");
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final DaemonResponseModelImpl testTarget = new DaemonResponseModelImpl(expectedSuccess, expectedLogLines);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedSuccess, testTarget.isSuccess(), "実行結果が設定されること");
+        Assertions.assertEquals(expectedLogLines, testTarget.getLogLines(), "ログの行が設定されること");
+
+    }
+
+    /**
+     * getLogLines メソッドのテスト - 正常系：生成後に元のリストを変更しても影響を受けない場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testGetLogLines_normalCopied() {
+
+        /* 期待値の定義 */
+        final List<String> expected = List.of("[INFO ] 開始");
+
+        /* 準備 */
+        final List<String>            logLines   = new ArrayList<>(expected);
+        final DaemonResponseModelImpl testTarget = new DaemonResponseModelImpl(false, logLines);
+        logLines.add("[INFO ] 追加");
+
+        /* テスト対象の実行 */
+        final List<String> actual = testTarget.getLogLines();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "生成時のログの行が保持されること");
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> actual.add("変更"),
+            "ログの行のリストは変更できないこと");
+
+    }
+
+}
@@ -0,0 +1,121 @@
+package kmg.tool.cli.daemon.infrastructure.logging;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * ジョブログ収集のテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class JobLogCaptureTest extends AbstractKmgTest {
+
+    /**
+     * テスト用のロガー
+     *
+     * @since 0.2.0
+     */
+    private static final Logger TEST_LOGGER = LoggerFactory.getLogger("kmg.tool.cli.daemon.test");
+
+    /**
+     * getLogLines メソッドのテスト - 正常系：収集期間中のログを1回だけ収集する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testGetLogLines_normalCapture() {
+
+        /* 期待値の定義 */
+        final String expected = "[INFO ] ジョブのログ";
+
+        /* 準備 */
+        List<String> actual;
+
+        /* テスト対象の実行 */
+        try (final JobLogCapture testTarget = new JobLogCapture()) {
+
+            JobLogCaptureTest.TEST_LOGGER.info("ジョブのログ");
+            actual = testTarget.getLogLines();
+
+        }
+
+        /* 検証の準備 */
+        final long count = actual.stream().filter(expected::equals).count();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(1L, count, "ログが重複せずに収集されること");
+
+    }
+
+    /**
+     * getLogLines メソッドのテスト - 正常系：例外のスタックトレースを含める場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testGetLogLines_normalThrowable() {
+
+        /* 期待値の定義 */
+        final String expectedMessage   = "[ERROR] 例外のログ";
+        final String expectedException = IllegalStateException.class.getName();
+
+        /* 準備 */
+        List<String> actual;
+
+        /* テスト対象の実行 */
+        try (final JobLogCapture testTarget = new JobLogCapture()) {
+
+            JobLogCaptureTest.TEST_LOGGER.error("例外のログ", new IllegalStateException("テスト例外"));
+            actual = testTarget.getLogLines();
+
+        }
+
+        /* 検証の準備 */
+        final int messageIndex = actual.indexOf(expectedMessage);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(messageIndex >= 0, "エラーのログが収集されること");
+        Assertions.assertTrue(actual.get(messageIndex + 1).contains(expectedException), "スタックトレースが続けて収集されること");
+
+    }
+
+    /**
+     * close メソッドのテスト - 正常系：閉じた後のログは収集しない場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testClose_normalStopCapture() {
+
+        /* 期待値の定義 */
+        final String unexpected = "[INFO ] 閉じた後のログ";
+
+        /* 準備 */
+        final JobLogCapture testTarget = new JobLogCapture();
+
+        /* テスト対象の実行 */
+        testTarget.close();
+        JobLogCaptureTest.TEST_LOGGER.info("閉じた後のログ");
+
+        /* 検証の準備 */
+        final List<String> actual = testTarget.getLogLines();
+
+        /* 検証の実施 */
+        Assertions.assertFalse(actual.contains(unexpected), "閉じた後のログは収集されないこと");
+
+    }
+
+}
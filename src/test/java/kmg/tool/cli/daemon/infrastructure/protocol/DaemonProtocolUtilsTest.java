@@ -0,0 +1,201 @@
+package kmg.tool.cli.daemon.infrastructure.protocol;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.tool.cli.daemon.domain.model.DaemonRequestModel;
+import kmg.tool.cli.daemon.domain.model.DaemonResponseModel;
+import kmg.tool.cli.daemon.domain.model.impl.DaemonRequestModelImpl;
+import kmg.tool.cli.daemon.domain.model.impl.DaemonResponseModelImpl;
+
+/**
+ * デーモン通信規約ユーティリティのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class DaemonProtocolUtilsTest extends AbstractKmgTest {
+
+    /**
+     * readRequest メソッドのテスト - 正常系：書き込んだ要求を読み込める場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadRequest_normalRoundTrip() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedTool     = "acccrt";
+        final String expectedInput    = "/work/input.txt";
+        final String expectedTemplate = "/work/template.yml";
+        final String expectedOutput   = "/work/output.txt";
+
+        /* 準備 */
+        final StringWriter writer = new StringWriter();
+        DaemonProtocolUtils.writeRequest(writer,
+            new DaemonRequestModelImpl(expectedTool, expectedInput, expectedTemplate, expectedOutput));
+
+        /* テスト対象の実行 */
+        final DaemonRequestModel actual
+            = DaemonProtocolUtils.readRequest(new BufferedReader(new StringReader(writer.toString())));
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTool, actual.getTool(), "ツールのキーが読み込まれること");
+        Assertions.assertEquals(expectedInput, actual.getInput(), "入力ファイルパスが読み込まれること");
+        Assertions.assertEquals(expectedTemplate, actual.getTemplate(), "テンプレートファイルパスが読み込まれること");
+        Assertions.assertEquals(expectedOutput, actual.getOutput(), "出力ファイルパスが読み込まれること");
+
+    }
+
+    /**
+     * readRequest メソッドのテスト - 正常系：指定されていない項目と未知のキーがある場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadRequest_normalMissingAndUnknownKeys() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedTool = "mptf";
+
+        /* 準備 */
+        final String text = "tool=mptf\nunknown=value\nno-separator\n\n";
+
+        /* テスト対象の実行 */
+        final DaemonRequestModel actual = DaemonProtocolUtils.readRequest(new BufferedReader(new StringReader(text)));
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedTool, actual.getTool(), "ツールのキーが読み込まれること");
+        Assertions.assertNull(actual.getInput(), "入力ファイルパスはnullであること");
+        Assertions.assertNull(actual.getTemplate(), "テンプレートファイルパスはnullであること");
+        Assertions.assertNull(actual.getOutput(), "出力ファイルパスはnullであること");
+
+    }
+
+    /**
+     * readRequest メソッドのテスト - 準正常系：何も読み込まずに終端に達した場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadRequest_semiEndOfStream() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final DaemonRequestModel actual = DaemonProtocolUtils.readRequest(new BufferedReader(new StringReader("")));
+
+        /* 検証の実施 */
+        Assertions.assertNull(actual, "nullが返されること");
+
+    }
+
+    /**
+     * writeRequest メソッドのテスト - 正常系：nullの項目は書き込まない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testWriteRequest_normalSkipNull() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "tool=shutdown\n\n";
+
+        /* 準備 */
+        final StringWriter writer = new StringWriter();
+
+        /* テスト対象の実行 */
+        DaemonProtocolUtils.writeRequest(writer,
+            new DaemonRequestModelImpl(DaemonRequestModelImpl.SHUTDOWN_TOOL, null, null, null));
+
+        /* 検証の準備 */
+        final String actual = writer.toString();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "nullの項目が書き込まれないこと");
+
+    }
+
+    /**
+     * readResponse メソッドのテスト - 正常系：改行を含むログを行ごとに読み込める場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadResponse_normalMultiLineLog() throws Exception {
+
+        /* 期待値の定義 */
+        final boolean      expectedSuccess  = true;
+        final List<String> expectedLogLines = List.of("[INFO ] 開始", "[ERROR] 例外", "\tat Sample.run", "[INFO ] 終了");
+
+        /* 準備 */
+        final StringWriter writer = new StringWriter();
+        DaemonProtocolUtils.writeResponse(writer, new DaemonResponseModelImpl(expectedSuccess,
+            List.of("[INFO ] 開始", "[ERROR] 例外" + System.lineSeparator() + "\tat Sample.run", "[INFO ] 終了")));
+
+        /* テスト対象の実行 */
+        final DaemonResponseModel actual
+            = DaemonProtocolUtils.readResponse(new BufferedReader(new StringReader(writer.toString())));
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedSuccess, actual.isSuccess(), "実行結果が読み込まれること");
+        Assertions.assertEquals(expectedLogLines, actual.getLogLines(), "ログが行ごとに読み込まれること");
+
+    }
+
+    /**
+     * readResponse メソッドのテスト - 準正常系：実行結果が無いまま終端に達した場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadResponse_semiNoResult() throws Exception {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        final String text = "log=[INFO ] 開始\n";
+
+        /* テスト対象の実行 */
+        final DaemonResponseModel actual = DaemonProtocolUtils.readResponse(new BufferedReader(new StringReader(text)));
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual.isSuccess(), "失敗として扱われること");
+        Assertions.assertEquals(List.of("[INFO ] 開始"), actual.getLogLines(), "読み込めたログは保持されること");
+
+    }
+
+}
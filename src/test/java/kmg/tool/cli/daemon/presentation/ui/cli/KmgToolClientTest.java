@@ -0,0 +1,317 @@
+package kmg.tool.cli.daemon.presentation.ui.cli;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.tool.cli.daemon.domain.model.DaemonRequestModel;
+import kmg.tool.cli.daemon.domain.model.impl.DaemonResponseModelImpl;
+import kmg.tool.cli.daemon.infrastructure.protocol.DaemonProtocolUtils;
+
+/**
+ * KMGツールクライアントのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class KmgToolClientTest extends AbstractKmgTest {
+
+    /**
+     * 応答を待つ最大時間（ミリ秒）
+     *
+     * @since 0.2.0
+     */
+    private static final long WAIT_MILLIS = 10000L;
+
+    /**
+     * テンポラリディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * ソケットファイルのパス
+     *
+     * @since 0.2.0
+     */
+    private Path socketPath;
+
+    /**
+     * 標準出力の出力先
+     *
+     * @since 0.2.0
+     */
+    private ByteArrayOutputStream outStream;
+
+    /**
+     * 標準エラー出力の出力先
+     *
+     * @since 0.2.0
+     */
+    private ByteArrayOutputStream errStream;
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.0
+     */
+    private KmgToolClient testTarget;
+
+    /**
+     * 擬似デーモン用のスレッド
+     *
+     * @since 0.2.0
+     */
+    private ExecutorService executor;
+
+    /**
+     * セットアップ
+     *
+     * @since 0.2.0
+     */
+    @BeforeEach
+    public void setUp() {
+
+        this.socketPath = this.tempDir.resolve("client.sock");
+        this.outStream = new ByteArrayOutputStream();
+        this.errStream = new ByteArrayOutputStream();
+        this.testTarget = new KmgToolClient(this.socketPath,
+            new PrintStream(this.outStream, true, StandardCharsets.UTF_8),
+            new PrintStream(this.errStream, true, StandardCharsets.UTF_8));
+        this.executor = Executors.newSingleThreadExecutor();
+
+    }
+
+    /**
+     * クリーンアップ
+     *
+     * @since 0.2.0
+     */
+    @AfterEach
+    public void tearDown() {
+
+        this.executor.shutdownNow();
+
+    }
+
+    /**
+     * run メソッドのテスト - 正常系：ジョブが成功し、ログを出力する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRun_normalSuccess() throws Exception {
+
+        /* 期待値の定義 */
+        final int    expected      = KmgToolClient.EXIT_CODE_SUCCESS;
+        final String expectedTool  = "acccrt";
+        final String expectedInput = Paths.get("in.txt").toAbsolutePath().normalize().toString();
+        final String expectedLog   = "[INFO ] ジョブのログ";
+
+        /* 準備 */
+        final Future<DaemonRequestModel> serverFuture = this.startServer(true, List.of(expectedLog));
+
+        /* テスト対象の実行 */
+        final int testResult = this.testTarget.run(new String[] {
+            expectedTool, "--input=in.txt",
+        });
+
+        /* 検証の準備 */
+        final int                actual        = testResult;
+        final DaemonRequestModel actualRequest = serverFuture.get(KmgToolClientTest.WAIT_MILLIS, TimeUnit.MILLISECONDS);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "成功の終了コードが返されること");
+        Assertions.assertEquals(expectedTool, actualRequest.getTool(), "ツールのキーが送られること");
+        Assertions.assertEquals(expectedInput, actualRequest.getInput(), "入力ファイルパスが絶対パスで送られること");
+        Assertions.assertNull(actualRequest.getOutput(), "指定していない出力ファイルパスは送られないこと");
+        Assertions.assertTrue(this.outStream.toString(StandardCharsets.UTF_8).contains(expectedLog),
+            "応答のログが標準出力に出力されること");
+
+    }
+
+    /**
+     * run メソッドのテスト - 準正常系：ジョブが失敗する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRun_semiJobFailure() throws Exception {
+
+        /* 期待値の定義 */
+        final int expected = KmgToolClient.EXIT_CODE_FAILURE;
+
+        /* 準備 */
+        final Future<DaemonRequestModel> serverFuture = this.startServer(false, List.of());
+
+        /* テスト対象の実行 */
+        final int testResult = this.testTarget.run(new String[] {
+            "mptf",
+        });
+        serverFuture.get(KmgToolClientTest.WAIT_MILLIS, TimeUnit.MILLISECONDS);
+
+        /* 検証の準備 */
+        final int actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "失敗の終了コードが返されること");
+
+    }
+
+    /**
+     * run メソッドのテスト - 準正常系：引数が無い場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testRun_semiNoArgs() {
+
+        /* 期待値の定義 */
+        final int expected = KmgToolClient.EXIT_CODE_USAGE;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final int testResult = this.testTarget.run(new String[] {});
+
+        /* 検証の準備 */
+        final int actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "引数の誤りの終了コードが返されること");
+        Assertions.assertFalse(this.errStream.toString(StandardCharsets.UTF_8).isEmpty(), "使用方法が標準エラー出力に出力されること");
+
+    }
+
+    /**
+     * run メソッドのテスト - 準正常系：不正なオプションが指定された場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testRun_semiInvalidOption() {
+
+        /* 期待値の定義 */
+        final int    expected    = KmgToolClient.EXIT_CODE_USAGE;
+        final String expectedArg = "--unknown=value";
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final int testResult = this.testTarget.run(new String[] {
+            "acccrt", expectedArg,
+        });
+
+        /* 検証の準備 */
+        final int actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "引数の誤りの終了コードが返されること");
+        Assertions.assertTrue(this.errStream.toString(StandardCharsets.UTF_8).contains(expectedArg),
+            "不正な引数が標準エラー出力に出力されること");
+
+    }
+
+    /**
+     * run メソッドのテスト - 異常系：デーモンが起動していない場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testRun_errorDaemonNotRunning() {
+
+        /* 期待値の定義 */
+        final int expected = KmgToolClient.EXIT_CODE_FAILURE;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final int testResult = this.testTarget.run(new String[] {
+            "acccrt",
+        });
+
+        /* 検証の準備 */
+        final int actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "失敗の終了コードが返されること");
+        Assertions.assertTrue(this.errStream.toString(StandardCharsets.UTF_8).contains(this.socketPath.toString()),
+            "ソケットファイルを含むメッセージが標準エラー出力に出力されること");
+
+    }
+
+    /**
+     * 1件の要求を受け付けて、指定の応答を返す擬似デーモンを起動する。
+     *
+     * @since 0.2.0
+     *
+     * @param success
+     *                 応答する実行結果
+     * @param logLines
+     *                 応答するログの行のリスト
+     *
+     * @return 受け付けた要求
+     *
+     * @throws Exception
+     *                   例外
+     */
+    private Future<DaemonRequestModel> startServer(final boolean success, final List<String> logLines)
+        throws Exception {
+
+        final ServerSocketChannel serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        serverChannel.bind(UnixDomainSocketAddress.of(this.socketPath));
+
+        final Future<DaemonRequestModel> result = this.executor.submit(() -> {
+
+            try (serverChannel; final SocketChannel channel = serverChannel.accept();
+                final BufferedReader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+                final Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8)) {
+
+                final DaemonRequestModel request = DaemonProtocolUtils.readRequest(reader);
+                DaemonProtocolUtils.writeResponse(writer, new DaemonResponseModelImpl(success, logLines));
+                return request;
+
+            }
+
+        });
+
+        return result;
+
+    }
+
+}
@@ -0,0 +1,218 @@
+package kmg.tool.cli.daemon.presentation.ui.cli;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import kmg.core.infrastructure.model.impl.KmgReflectionModelImpl;
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.daemon.application.service.DaemonService;
+import kmg.tool.cli.daemon.infrastructure.protocol.DaemonProtocolUtils;
+
+/**
+ * KMGツールデーモンのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class KmgToolDaemonTest extends AbstractKmgTest {
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.0
+     */
+    private KmgToolDaemon testTarget;
+
+    /**
+     * モックメッセージソース
+     *
+     * @since 0.2.0
+     */
+    private KmgMessageSource mockMessageSource;
+
+    /**
+     * モックデーモンサービス
+     *
+     * @since 0.2.0
+     */
+    private DaemonService mockDaemonService;
+
+    /**
+     * リフレクションモデル
+     *
+     * @since 0.2.0
+     */
+    private KmgReflectionModelImpl reflectionModel;
+
+    /**
+     * セットアップ
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        this.testTarget = new KmgToolDaemon();
+        this.mockMessageSource = Mockito.mock(KmgMessageSource.class);
+        this.mockDaemonService = Mockito.mock(DaemonService.class);
+
+        this.reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        this.reflectionModel.set("messageSource", this.mockMessageSource);
+        this.reflectionModel.set("daemonService", this.mockDaemonService);
+
+        Mockito.when(this.mockMessageSource.getGenMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("テストメッセージ");
+
+    }
+
+    /**
+     * execute メソッドのテスト - 正常系：停止要求により正常に終了する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testExecute_normalShutdown() {
+
+        /* 期待値の定義 */
+        final boolean expected = true;
+
+        /* 準備 */
+        Mockito.when(this.mockDaemonService.serve(ArgumentMatchers.any(Path.class))).thenReturn(true);
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.execute();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "正常に終了した場合、trueが返されること");
+        Mockito.verify(this.mockMessageSource)
+            .getGenMessage(ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN21000), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * execute メソッドのテスト - 準正常系：待ち受けに失敗する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testExecute_semiServeFailure() {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        Mockito.when(this.mockDaemonService.serve(ArgumentMatchers.any(Path.class))).thenReturn(false);
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.execute();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "待ち受けに失敗した場合、falseが返されること");
+        Mockito.verify(this.mockMessageSource)
+            .getGenMessage(ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN21001), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * getSocketPath メソッドのテスト - 正常系：ソケットファイルのパスが指定されていない場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testGetSocketPath_normalDefault() {
+
+        /* 期待値の定義 */
+        final Path expected = Paths.get(DaemonProtocolUtils.DEFAULT_SOCKET_PATH);
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final Path actual = this.testTarget.getSocketPath();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "既定のソケットファイルのパスが返されること");
+
+    }
+
+    /**
+     * getSocketPath メソッドのテスト - 正常系：ソケットファイルのパスが指定されている場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testGetSocketPath_normalSpecified() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = Paths.get("/tmp/kmg-tool-test.sock");
+
+        /* 準備 */
+        this.reflectionModel.set("socketPath", expected.toString());
+
+        /* テスト対象の実行 */
+        final Path actual = this.testTarget.getSocketPath();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "指定されたソケットファイルのパスが返されること");
+
+    }
+
+    /**
+     * main メソッドのテスト - 正常系：コンテキストを起動してデーモンを実行し、終了後に閉じる場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testMain_normalRun() {
+
+        /* 期待値の定義 */
+        final String[] testArgs = {
+            "--kmg.tool.cli.daemon.socket-path=work/test.sock",
+        };
+
+        /* 準備 */
+        try (final MockedStatic<SpringApplication> mockedSpringApplication
+            = Mockito.mockStatic(SpringApplication.class)) {
+
+            final ConfigurableApplicationContext mockContext = Mockito.mock(ConfigurableApplicationContext.class);
+            final KmgToolDaemon                  mockDaemon  = Mockito.mock(KmgToolDaemon.class);
+
+            mockedSpringApplication.when(() -> SpringApplication.run(KmgToolDaemon.class, testArgs))
+                .thenReturn(mockContext);
+            Mockito.when(mockContext.getBean(KmgToolDaemon.class)).thenReturn(mockDaemon);
+
+            /* テスト対象の実行 */
+            KmgToolDaemon.main(testArgs);
+
+            /* 検証の実施 */
+            final var inOrder = Mockito.inOrder(mockDaemon, mockContext);
+            inOrder.verify(mockDaemon).execute();
+            inOrder.verify(mockContext).close();
+
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+package kmg.tool.cli.dtc.infrastructure.template;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * 中間データのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class DtcIntermediateDataTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * render メソッドのテスト - 正常系：列数の異なる複数の実行計画を1回読み込んだ中間データに適用する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRender_normalMultiplePlans() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedField    = "private String name;\nprivate int age;\n";
+        final String expectedAccessor = "getName:String\tx\ngetAge:int\n";
+        final int    expectedRowCount = 2;
+
+        /* 準備 */
+        final Path inputPath = this.tempDir.resolve("input.tsv");
+        Files.writeString(inputPath, "\uFEFFname\tString\tx\n\nage\tint\n", StandardCharsets.UTF_8);
+
+        final DtcTemplatePlan fieldPlan    = DtcIntermediateDataTest.createPlan(List.of("{item}", "{type}", "{extra}"),
+            "private {type} {item};\n");
+        final DtcTemplatePlan accessorPlan = DtcIntermediateDataTest.createPlan(List.of("{item}", "{type}"),
+            "get{capitalize}:{type}\n");
+
+        /* テスト対象の実行 */
+        final DtcIntermediateData testTarget = DtcIntermediateData.read(inputPath, null);
+
+        final StringBuilder actualField    = new StringBuilder();
+        final StringBuilder actualAccessor = new StringBuilder();
+        testTarget.render(fieldPlan, 0, testTarget.getRowCount(), actualField);
+        testTarget.render(accessorPlan, 0, testTarget.getRowCount(), actualAccessor);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedRowCount, testTarget.getRowCount(), "BOMと空の行を除いて読み込むこと");
+        Assertions.assertEquals(expectedField, actualField.toString(), "3列の実行計画が適用されること");
+        Assertions.assertEquals(expectedAccessor, actualAccessor.toString(), "2列の実行計画では、列数を超える値を最後の列に含めること");
+
+    }
+
+    /**
+     * テスト用の実行計画を作成する。 最初の列を変換元とする「{capitalize}」を派生プレースホルダーとする。
+     *
+     * @since 0.2.0
+     *
+     * @param patterns
+     *                        中間プレースホルダーの置換対象のパターンのリスト
+     * @param templateContent
+     *                        テンプレートの内容
+     *
+     * @return 実行計画
+     */
+    private static DtcTemplatePlan createPlan(final List<String> patterns, final String templateContent) {
+
+        final List<Map<String, Object>> intermediates = patterns.stream()
+            .map(pattern -> Map.<String, Object> of("displayName", pattern, "replacementPattern", pattern)).toList();
+
+        final Map<String, Object> document = Map.of( //
+            "intermediatePlaceholders", intermediates, //
+            "derivedPlaceholders", List.of(Map.of("displayName", "先頭大文字", "replacementPattern", "{capitalize}", //
+                "sourceKey", patterns.get(0), "transformation", "capitalize")), //
+            "templateContent", templateContent);
+
+        final DtcTemplatePlan result = DtcTemplatePlan.compile(document);
+        return result;
+
+    }
+
+}
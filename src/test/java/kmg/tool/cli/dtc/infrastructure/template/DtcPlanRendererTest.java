@@ -0,0 +1,266 @@
+package kmg.tool.cli.dtc.infrastructure.template;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * 実行計画による出力処理のテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class DtcPlanRendererTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * render メソッドのテスト - 正常系：BOMと空の行を含む中間データの場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRender_normalBomAndBlankLines() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected      = "String getName();\nint getAge();\n";
+        final long   expectedCount = 2L;
+
+        /* 準備 */
+        final DtcPlanRenderer testTarget = new DtcPlanRenderer(DtcPlanRendererTest.createPlan());
+        final StringWriter    writer     = new StringWriter();
+
+        /* テスト対象の実行 */
+        final long actualCount = testTarget.render(new StringReader("\uFEFFname\tString\r\n\nage\tint\n"), writer);
+
+        /* 検証の準備 */
+        final String actual = writer.toString();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "空の行を除いた行ごとにテンプレートが適用されること");
+        Assertions.assertEquals(expectedCount, actualCount, "出力した件数が一致すること");
+        Assertions.assertEquals(expectedCount, testTarget.getRowCount(), "出力した件数が保持されること");
+
+    }
+
+    /**
+     * render メソッドのテスト - 正常系：区切り文字を指定し、出力ファイルの親ディレクトリがない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRender_normalDelimiterAndFile() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "List<String> getNames();\n";
+
+        /* 準備 */
+        final Path inputPath  = this.tempDir.resolve("input.txt");
+        final Path outputPath = this.tempDir.resolve("out/output.txt");
+        Files.writeString(inputPath, "names,List<String>\n", StandardCharsets.UTF_8);
+
+        final DtcPlanRenderer testTarget = new DtcPlanRenderer(DtcPlanRendererTest.createPlan(), ",");
+
+        /* テスト対象の実行 */
+        testTarget.render(inputPath, outputPath);
+
+        /* 検証の準備 */
+        final String actual = Files.readString(outputPath, StandardCharsets.UTF_8);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "指定した区切り文字で列に分けられ、出力ファイルに書き込まれること");
+
+    }
+
+    /**
+     * render メソッドのテスト - 正常系：行数が並列処理のしきい値以上の場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRender_normalParallelSameAsSequential() throws Exception {
+
+        /* 準備 */
+        final StringBuilder input = new StringBuilder();
+
+        for (int i = 0; i < 50_000; i++) {
+
+            input.append("item").append(i).append("\tType").append(i % 7).append('\n');
+
+            if ((i % 1000) == 0) {
+
+                input.append('\n');
+
+            }
+
+        }
+
+        final StringWriter expectedWriter = new StringWriter();
+        final long         expectedCount  = new DtcPlanRenderer(DtcPlanRendererTest.createPlan())
+            .render(new StringReader(input.toString()), expectedWriter);
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+
+            final DtcPlanRenderer testTarget = new DtcPlanRenderer(DtcPlanRendererTest.createPlan(), null, 1000, pool);
+            final StringWriter    writer     = new StringWriter();
+
+            /* テスト対象の実行 */
+            final long actualCount = testTarget.render(new StringReader(input.toString()), writer);
+
+            /* 検証の実施 */
+            Assertions.assertTrue(testTarget.isParallelUsed(), "しきい値以上の行数は並列処理されること");
+            Assertions.assertEquals(expectedWriter.toString(), writer.toString(), "順に処理した場合と同じ出力であること");
+            Assertions.assertEquals(expectedCount, actualCount, "順に処理した場合と同じ件数であること");
+
+        } finally {
+
+            pool.shutdown();
+
+        }
+
+    }
+
+    /**
+     * render メソッドのテスト - 正常系：行数が並列処理のしきい値未満の場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRender_normalBelowParallelThreshold() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "String getName();\n";
+
+        /* 準備 */
+        final DtcPlanRenderer testTarget = new DtcPlanRenderer(DtcPlanRendererTest.createPlan(), null, 10,
+            ForkJoinPool.commonPool());
+        final StringWriter    writer     = new StringWriter();
+
+        /* テスト対象の実行 */
+        testTarget.render(new StringReader("name\tString\n"), writer);
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testTarget.isParallelUsed(), "しきい値未満の行数は順に処理されること");
+        Assertions.assertEquals(expected, writer.toString(), "テンプレートが適用されること");
+
+    }
+
+    /**
+     * render メソッドのテスト - 正常系：読み込み済みの中間データを並列に出力する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRender_normalIntermediateDataSameAsStream() throws Exception {
+
+        /* 準備 */
+        final Path inputPath = this.tempDir.resolve("input.tsv");
+
+        try (final Writer inputWriter = Files.newBufferedWriter(inputPath, StandardCharsets.UTF_8)) {
+
+            for (int i = 0; i < 20_000; i++) {
+
+                inputWriter.append("item").append(String.valueOf(i)).append("\tType").append('\n');
+
+            }
+
+        }
+
+        final StringWriter expectedWriter = new StringWriter();
+        final long         expectedCount;
+
+        try (final Reader reader = Files.newBufferedReader(inputPath, StandardCharsets.UTF_8)) {
+
+            expectedCount = new DtcPlanRenderer(DtcPlanRendererTest.createPlan()).render(reader, expectedWriter);
+
+        }
+
+        final DtcIntermediateData data = DtcIntermediateData.read(inputPath, null);
+        final ForkJoinPool        pool = new ForkJoinPool(4);
+
+        try {
+
+            final DtcPlanRenderer testTarget = new DtcPlanRenderer(DtcPlanRendererTest.createPlan(), null, 1000, pool);
+            final StringWriter    writer     = new StringWriter();
+
+            /* テスト対象の実行 */
+            final long actualCount = testTarget.render(data, writer);
+
+            /* 検証の実施 */
+            Assertions.assertTrue(testTarget.isParallelUsed(), "しきい値以上の行数は並列処理されること");
+            Assertions.assertEquals(expectedWriter.toString(), writer.toString(), "入力を読み込みながら処理した場合と同じ出力であること");
+            Assertions.assertEquals(expectedCount, actualCount, "入力を読み込みながら処理した場合と同じ件数であること");
+
+        } finally {
+
+            pool.shutdown();
+
+        }
+
+    }
+
+    /**
+     * テスト用の実行計画を作成する。
+     *
+     * @since 0.2.0
+     *
+     * @return 実行計画
+     */
+    private static DtcTemplatePlan createPlan() {
+
+        final Map<String, Object> document = Map.of( //
+            "intermediatePlaceholders", List.of( //
+                Map.of("displayName", "項目", "replacementPattern", "{item}"), //
+                Map.of("displayName", "型", "replacementPattern", "{type}")), //
+            "derivedPlaceholders", List.of(Map.of("displayName", "先頭大文字項目", "replacementPattern", "{capitalize}", //
+                "sourceKey", "項目", "transformation", "capitalize")), //
+            "templateContent", "{type} get{capitalize}();\n");
+
+        final DtcTemplatePlan result = DtcTemplatePlan.compile(document);
+        return result;
+
+    }
+
+}
@@ -0,0 +1,140 @@
+package kmg.tool.cli.dtc.infrastructure.template;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * 行ごとの出力のキャッシュのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class DtcRowFragmentCacheTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * render メソッドのテスト - 正常系：一部の行を変更して出力し直す場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRender_normalChangedRow() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected         = "private String name;\nprivate long age;\nprivate int id;\n";
+        final long   expectedHitCount = 2;
+
+        /* 準備 */
+        final Path inputPath  = this.tempDir.resolve("input.tsv");
+        final Path outputPath = this.tempDir.resolve("output.txt");
+        final Path cacheDir   = this.tempDir.resolve("cache");
+
+        final DtcTemplatePlan plan = DtcRowFragmentCacheTest.createPlan("private {type} {item};\n");
+        Files.writeString(inputPath, "name\tString\nage\tint\nid\tint\n", StandardCharsets.UTF_8);
+        new DtcRowFragmentCache(cacheDir, plan).render(DtcIntermediateData.read(inputPath, null), outputPath,
+            Assertions::fail);
+        Files.writeString(inputPath, "name\tString\nage\tlong\nid\tint\n", StandardCharsets.UTF_8);
+
+        final DtcRowFragmentCache testTarget = new DtcRowFragmentCache(cacheDir, plan);
+
+        /* テスト対象の実行 */
+        final long rowCount = testTarget.render(DtcIntermediateData.read(inputPath, null), outputPath,
+            Assertions::fail);
+
+        /* 検証の準備 */
+        final String actual = Files.readString(outputPath, StandardCharsets.UTF_8);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "全ての行に実行計画を適用した場合と同じ内容を出力すること");
+        Assertions.assertEquals(3, rowCount, "全ての行を出力すること");
+        Assertions.assertEquals(expectedHitCount, testTarget.getHitCount(), "変更されていない行はキャッシュの出力を再利用すること");
+
+    }
+
+    /**
+     * render メソッドのテスト - 準正常系：テンプレートを変更して出力し直す場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRender_semiTemplateChanged() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "String name\nint age\n";
+
+        /* 準備 */
+        final Path inputPath  = this.tempDir.resolve("input.tsv");
+        final Path outputPath = this.tempDir.resolve("output.txt");
+        final Path cacheDir   = this.tempDir.resolve("cache");
+        Files.writeString(inputPath, "name\tString\nage\tint\n", StandardCharsets.UTF_8);
+
+        new DtcRowFragmentCache(cacheDir, DtcRowFragmentCacheTest.createPlan("private {type} {item};\n"))
+            .render(DtcIntermediateData.read(inputPath, null), outputPath, Assertions::fail);
+
+        final DtcRowFragmentCache testTarget = new DtcRowFragmentCache(cacheDir,
+            DtcRowFragmentCacheTest.createPlan("{type} {item}\n"));
+
+        /* テスト対象の実行 */
+        testTarget.render(DtcIntermediateData.read(inputPath, null), outputPath, Assertions::fail);
+
+        /* 検証の準備 */
+        final String actual = Files.readString(outputPath, StandardCharsets.UTF_8);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "変更したテンプレートで出力すること");
+        Assertions.assertEquals(0, testTarget.getHitCount(), "変更前のテンプレートの出力は再利用しないこと");
+
+    }
+
+    /**
+     * テスト用の実行計画を作成する。
+     *
+     * @since 0.2.0
+     *
+     * @param templateContent
+     *                        テンプレートの内容
+     *
+     * @return 実行計画
+     */
+    private static DtcTemplatePlan createPlan(final String templateContent) {
+
+        final Map<String, Object> document = Map.of( //
+            "intermediatePlaceholders",
+            List.of(Map.of("displayName", "項目", "replacementPattern", "{item}"),
+                Map.of("displayName", "型", "replacementPattern", "{type}")), //
+            "templateContent", templateContent);
+
+        final DtcTemplatePlan result = DtcTemplatePlan.compile(document);
+        return result;
+
+    }
+
+}
@@ -0,0 +1,195 @@
+package kmg.tool.cli.dtc.infrastructure.template;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * テンプレートの実行計画のベンチマーク
+ * <p>
+ * アクセサ作成ツールのテンプレートファイルで、100万行の中間データを実行計画で出力した時間、実行計画で並列に出力した時間と、行ごとにプレースホルダーを順に置換した時間を比較する。
+ * 既定のテストでは実行せず、「mvn -Pbenchmark test」で実行する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@Tag("benchmark")
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class DtcTemplatePlanBenchmarkTest extends AbstractKmgTest {
+
+    /**
+     * 中間データの行数
+     *
+     * @since 0.2.0
+     */
+    private static final int ROW_COUNT = 1_000_000;
+
+    /**
+     * テンプレートファイルのパス
+     *
+     * @since 0.2.0
+     */
+    private static final Path TEMPLATE_PATH = Paths.get("src/main/resources/tool/io/template/AccessorCreationTool.yml");
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * render メソッドのベンチマーク - 正常系：100万行の中間データの場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRender_normalMillionRows() throws Exception {
+
+        /* 準備 */
+        final Path inputPath    = this.tempDir.resolve("input.tsv");
+        final Path planPath     = this.tempDir.resolve("plan.txt");
+        final Path baselinePath = this.tempDir.resolve("baseline.txt");
+        final Path parallelPath = this.tempDir.resolve("parallel.txt");
+
+        try (final Writer writer = Files.newBufferedWriter(inputPath, StandardCharsets.UTF_8)) {
+
+            for (int i = 0; i < DtcTemplatePlanBenchmarkTest.ROW_COUNT; i++) {
+
+                writer.append("項目名").append(String.valueOf(i)).append("\tString\tfield").append(String.valueOf(i))
+                    .append('\n');
+
+            }
+
+        }
+
+        final String templateContent = DtcTemplatePlanBenchmarkTest.readTemplateContent();
+
+        /* テスト対象の実行 */
+        final long baselineStart = System.nanoTime();
+        DtcTemplatePlanBenchmarkTest.renderByReplace(templateContent, inputPath, baselinePath);
+        final long baselineNanos = System.nanoTime() - baselineStart;
+
+        final long            planStart  = System.nanoTime();
+        final DtcTemplatePlan testTarget = DtcTemplatePlan.compile(DtcTemplatePlanBenchmarkTest.TEMPLATE_PATH);
+        final long            actualRows = new DtcPlanRenderer(testTarget).render(inputPath, planPath);
+        final long            planNanos  = System.nanoTime() - planStart;
+
+        final long parallelStart = System.nanoTime();
+        new DtcPlanRenderer(testTarget, null, DtcPlanRenderer.DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool())
+            .render(inputPath, parallelPath);
+        final long parallelNanos = System.nanoTime() - parallelStart;
+
+        System.out.printf("rows=%d, replace=%dms, plan=%dms, parallel=%dms%n", actualRows,
+            baselineNanos / 1_000_000, planNanos / 1_000_000, parallelNanos / 1_000_000);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(DtcTemplatePlanBenchmarkTest.ROW_COUNT, actualRows, "全ての行が出力されること");
+        Assertions.assertEquals(-1L, Files.mismatch(baselinePath, planPath), "置換による出力と実行計画による出力が一致すること");
+        Assertions.assertEquals(-1L, Files.mismatch(planPath, parallelPath), "並列処理の出力が順に処理した出力と一致すること");
+
+    }
+
+    /**
+     * テンプレートファイルからテンプレートの内容を読み込む。
+     *
+     * @since 0.2.0
+     *
+     * @return テンプレートの内容
+     *
+     * @throws IOException
+     *                     読み込みに失敗した場合
+     */
+    private static String readTemplateContent() throws IOException {
+
+        final StringBuilder result = new StringBuilder();
+
+        boolean inContent = false;
+
+        for (final String line : Files.readAllLines(DtcTemplatePlanBenchmarkTest.TEMPLATE_PATH,
+            StandardCharsets.UTF_8)) {
+
+            if (line.startsWith("templateContent:")) {
+
+                inContent = true;
+                continue;
+
+            }
+
+            if (inContent) {
+
+                result.append(line.length() >= 4 ? line.substring(4) : "").append('\n');
+
+            }
+
+        }
+
+        return result.toString();
+
+    }
+
+    /**
+     * 行ごとにプレースホルダーを順に置換して出力する。比較の基準とする。
+     *
+     * @since 0.2.0
+     *
+     * @param templateContent
+     *                        テンプレートの内容
+     * @param inputPath
+     *                        中間データのファイルパス
+     * @param outputPath
+     *                        出力ファイルパス
+     *
+     * @throws IOException
+     *                     読み込み、または書き込みに失敗した場合
+     */
+    private static void renderByReplace(final String templateContent, final Path inputPath, final Path outputPath)
+        throws IOException {
+
+        try (final BufferedReader reader = Files.newBufferedReader(inputPath, StandardCharsets.UTF_8);
+            final BufferedWriter writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
+
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+
+                final String[] columns    = line.split("\t", -1);
+                final String   capitalize = Character.toUpperCase(columns[2].charAt(0)) + columns[2].substring(1);
+
+                String content = templateContent;
+                content = content.replace("{capitalize}", capitalize);
+                content = content.replace("{name}", columns[0]);
+                content = content.replace("{type}", columns[1]);
+                content = content.replace("{item}", columns[2]);
+                writer.write(content);
+
+            }
+
+        }
+
+    }
+
+}
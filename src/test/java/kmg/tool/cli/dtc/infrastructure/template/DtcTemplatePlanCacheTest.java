@@ -0,0 +1,190 @@
+package kmg.tool.cli.dtc.infrastructure.template;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * テンプレートの実行計画のキャッシュのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class DtcTemplatePlanCacheTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * load メソッドのテスト - 正常系：2回目はキャッシュから読み込み、更新日時だけが変わった場合もキャッシュを使用する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testLoad_normalHitAfterStore() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected         = "<A>";
+        final int    expectedHitCount = 2;
+
+        /* 準備 */
+        final Path templatePath = this.writeTemplate("<{item}>");
+
+        final DtcTemplatePlanCache testTarget = new DtcTemplatePlanCache(this.tempDir.resolve("cache"));
+        final List<Exception>      failures   = new ArrayList<>();
+
+        /* テスト対象の実行 */
+        testTarget.load(templatePath, failures::add);
+        final DtcTemplatePlan cachedPlan = testTarget.load(templatePath, failures::add);
+
+        Files.setLastModifiedTime(templatePath, FileTime.fromMillis(0L));
+        testTarget.load(templatePath, failures::add);
+
+        /* 検証の準備 */
+        final StringBuilder output = new StringBuilder();
+        cachedPlan.render("A", new int[] {
+            0,
+        }, new int[] {
+            1,
+        }, 1, output);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, output.toString(), "キャッシュから読み込んだ実行計画で出力できること");
+        Assertions.assertEquals(expectedHitCount, testTarget.getHitCount(), "2回目以降はキャッシュを使用すること");
+        Assertions.assertEquals(1, testTarget.getMissCount(), "テンプレートファイルの解析は1回だけであること");
+        Assertions.assertTrue(failures.isEmpty(), "キャッシュへの保存に失敗しないこと");
+
+    }
+
+    /**
+     * load メソッドのテスト - 正常系：テンプレートファイルの内容が変わった場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testLoad_normalRebuildOnChange() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "[A]";
+
+        /* 準備 */
+        final Path templatePath = this.writeTemplate("<{item}>");
+
+        final DtcTemplatePlanCache testTarget = new DtcTemplatePlanCache(this.tempDir.resolve("cache"));
+        testTarget.load(templatePath, e -> Assertions.fail(e));
+
+        this.writeTemplate("[{item}]");
+        Files.setLastModifiedTime(templatePath, FileTime.fromMillis(0L));
+
+        /* テスト対象の実行 */
+        final DtcTemplatePlan actualPlan = testTarget.load(templatePath, e -> Assertions.fail(e));
+
+        /* 検証の準備 */
+        final StringBuilder output = new StringBuilder();
+        actualPlan.render("A", new int[] {
+            0,
+        }, new int[] {
+            1,
+        }, 1, output);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, output.toString(), "変更後のテンプレートファイルの実行計画であること");
+        Assertions.assertEquals(2, testTarget.getMissCount(), "内容が変わった場合は解析し直すこと");
+
+    }
+
+    /**
+     * load メソッドのテスト - 準正常系：キャッシュのファイルが壊れている場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testLoad_semiCorruptedEntry() throws Exception {
+
+        /* 準備 */
+        final Path templatePath = this.writeTemplate("<{item}>");
+        final Path cacheDir     = this.tempDir.resolve("cache");
+
+        new DtcTemplatePlanCache(cacheDir).load(templatePath, e -> Assertions.fail(e));
+
+        try (Stream<Path> entries = Files.list(cacheDir.resolve("dtc-plan"))) {
+
+            for (final Path entry : entries.toList()) {
+
+                Files.write(entry, new byte[] {
+                    1, 2, 3,
+                });
+
+            }
+
+        }
+
+        final DtcTemplatePlanCache testTarget = new DtcTemplatePlanCache(cacheDir);
+
+        /* テスト対象の実行 */
+        final DtcTemplatePlan actual = testTarget.load(templatePath, e -> Assertions.fail(e));
+
+        /* 検証の実施 */
+        Assertions.assertNotNull(actual, "壊れたキャッシュの代わりに解析した実行計画を返すこと");
+        Assertions.assertEquals(1, testTarget.getMissCount(), "テンプレートファイルを解析し直すこと");
+        Assertions.assertEquals(0, testTarget.getHitCount(), "壊れたキャッシュは使用しないこと");
+
+    }
+
+    /**
+     * テスト用のテンプレートファイルを書き込む。
+     *
+     * @since 0.2.0
+     *
+     * @param templateContent
+     *                        テンプレートの内容
+     *
+     * @return テンプレートファイルのパス
+     *
+     * @throws Exception
+     *                   例外
+     */
+    private Path writeTemplate(final String templateContent) throws Exception {
+
+        final Path result = this.tempDir.resolve("template.yml");
+        Files.writeString(result, String.join("\n", //
+            "intermediatePlaceholders:", //
+            "    - displayName: \"項目\"", //
+            "      replacementPattern: \"{item}\"", //
+            "templateContent: \"" + templateContent + "\"", //
+            ""), StandardCharsets.UTF_8);
+        return result;
+
+    }
+
+}
@@ -0,0 +1,251 @@
+package kmg.tool.cli.dtc.infrastructure.template;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.tool.cli.dtc.infrastructure.transform.DtcTransformRegistry;
+
+/**
+ * テンプレートの実行計画のテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class DtcTemplatePlanTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * compile メソッドのテスト - 正常系：中間プレースホルダーと派生プレースホルダーを含むテンプレートファイルの場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testCompile_normalDerivedPlaceholder() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected          = "public void setUserName(String userName) { // ユーザ名\n}\n";
+        final int    expectedColumns   = 3;
+        final int    expectedSlotCount = 4;
+
+        /* 準備 */
+        final Path templatePath = this.tempDir.resolve("template.yml");
+        Files.writeString(templatePath, String.join("\n", //
+            "intermediatePlaceholders:", //
+            "    - displayName: \"名称\"", //
+            "      replacementPattern: \"{name}\"", //
+            "    - displayName: \"型\"", //
+            "      replacementPattern: \"{type}\"", //
+            "    - displayName: \"項目\"", //
+            "      replacementPattern: \"{item}\"", //
+            "derivedPlaceholders:", //
+            "    - displayName: \"先頭大文字項目\"", //
+            "      replacementPattern: \"{capitalize}\"", //
+            "      sourceKey: \"項目\"", //
+            "      transformation: \"capitalize\"", //
+            "templateContent: |", //
+            "    public void set{capitalize}({type} {item}) { // {name}", //
+            "    }", //
+            ""), StandardCharsets.UTF_8);
+
+        final String        row          = "ユーザ名\tString\tuserName";
+        final int[]         columnStarts = {
+            0, 5, 12,
+        };
+        final int[]         columnEnds   = {
+            4, 11, 20,
+        };
+        final StringBuilder output       = new StringBuilder();
+
+        /* テスト対象の実行 */
+        final DtcTemplatePlan testTarget = DtcTemplatePlan.compile(templatePath);
+        testTarget.render(row, columnStarts, columnEnds, 3, output);
+
+        /* 検証の準備 */
+        final String actual = output.toString();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedColumns, testTarget.getColumnCount(), "列数が中間プレースホルダーの数であること");
+        Assertions.assertEquals(expectedSlotCount, testTarget.getSlotCount(), "プレースホルダーの出現数だけ書き込み位置があること");
+        Assertions.assertEquals(expected, actual, "プレースホルダーが列の値と変換した値に置き換わること");
+
+    }
+
+    /**
+     * compile メソッドのテスト - 正常系：変換処理を連結し、登録した変換処理を使用する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testCompile_normalChainedTransformation() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "USER_NAMES/[userName]/user_names";
+
+        /* 準備 */
+        final DtcTransformRegistry registry = new DtcTransformRegistry();
+        registry.register("bracket", value -> "[" + value + "]");
+
+        final Map<String, Object> document = Map.of( //
+            "intermediatePlaceholders", List.of(Map.of("displayName", "項目", "replacementPattern", "{item}")), //
+            "derivedPlaceholders", List.of( //
+                Map.of("displayName", "定数", "replacementPattern", "{constant}", //
+                    "sourceKey", "項目", "transformation", "plural | UPPER_SNAKE"), //
+                Map.of("displayName", "括弧", "replacementPattern", "{bracket}", //
+                    "sourceKey", "項目", "transformation", "bracket"), //
+                Map.of("displayName", "表", "replacementPattern", "{table}", //
+                    "sourceKey", "項目", "transformation", List.of("snake_case", "plural"))), //
+            "templateContent", "{constant}/{bracket}/{table}");
+
+        final StringBuilder output = new StringBuilder();
+
+        /* テスト対象の実行 */
+        final DtcTemplatePlan testTarget = DtcTemplatePlan.compile(document, registry);
+        testTarget.render("userName", new int[] {
+            0,
+        }, new int[] {
+            8,
+        }, 1, output);
+
+        /* 検証の準備 */
+        final String actual = output.toString();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "変換処理を左から順に適用し、登録した変換処理も使用できること");
+        Assertions.assertEquals(1, registry.getMissCount("bracket"), "登録した変換処理をレジストリで変換すること");
+
+    }
+
+    /**
+     * compile メソッドのテスト - 準正常系：派生プレースホルダーの変換処理に対応していない場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testCompile_semiUnknownTransformation() {
+
+        /* 準備 */
+        final Map<String, Object> document = Map.of( //
+            "intermediatePlaceholders", List.of(Map.of("displayName", "項目", "replacementPattern", "{item}")), //
+            "derivedPlaceholders", List.of(Map.of("displayName", "変換", "replacementPattern", "{camel}", //
+                "sourceKey", "項目", "transformation", "toCamelCase")), //
+            "templateContent", "{camel}");
+
+        /* テスト対象の実行 */
+        final DtcTemplatePlan actual = DtcTemplatePlan.compile(document);
+
+        /* 検証の実施 */
+        Assertions.assertNull(actual, "対応していない変換処理の場合は実行計画を作成しないこと");
+
+    }
+
+    /**
+     * render メソッドのテスト - 準正常系：パターンが重なり、値にパターンを含み、行に列が足りない場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testRender_semiOverlappingPatternAndMissingColumn() {
+
+        /* 期待値の定義 */
+        final String expected = "[x$idName][][x$idName]";
+
+        /* 準備 */
+        final Map<String, Object> document = Map.of( //
+            "intermediatePlaceholders", List.of( //
+                Map.of("displayName", "短い", "replacementPattern", "$id"), //
+                Map.of("displayName", "長い", "replacementPattern", "$idName")), //
+            "templateContent", "[$id][$idName][$id]");
+
+        final DtcTemplatePlan testTarget   = DtcTemplatePlan.compile(document);
+        final String          row          = "x$idName";
+        final int[]           columnStarts = {
+            0, 0,
+        };
+        final int[]           columnEnds   = {
+            8, 0,
+        };
+        final StringBuilder   output       = new StringBuilder();
+
+        /* テスト対象の実行 */
+        testTarget.render(row, columnStarts, columnEnds, 1, output);
+
+        /* 検証の準備 */
+        final String actual = output.toString();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "長いパターンが優先され、値は再度置き換えず、行にない列は空になること");
+
+    }
+
+
+    /**
+     * readFrom メソッドのテスト - 準正常系：実行計画の列の番号が列数を超える場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadFrom_semiColumnOutOfRange() throws Exception {
+
+        /* 準備 */
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (final DataOutputStream output = new DataOutputStream(bytes)) {
+
+            output.writeInt(1);
+            output.writeInt(1);
+            DtcTemplatePlan.writeString(output, "[");
+            DtcTemplatePlan.writeString(output, "]");
+            output.writeInt(1);
+            output.writeInt(0);
+
+        }
+
+        /* テスト対象の実行 */
+        final DtcTemplatePlan actual;
+
+        try (final DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+
+            actual = DtcTemplatePlan.readFrom(input, new DtcTransformRegistry());
+
+        }
+
+        /* 検証の実施 */
+        Assertions.assertNull(actual, "内容が不正な実行計画は読み込まないこと");
+
+    }
+
+}
@@ -0,0 +1,192 @@
+package kmg.tool.cli.dtc.infrastructure.transform;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.fund.infrastructure.context.SpringApplicationContextHelper;
+import kmg.tool.cli.cmn.infrastructure.exception.KmgToolCliMsgException;
+
+/**
+ * 変換処理のレジストリのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class DtcTransformRegistryTest extends AbstractKmgTest {
+
+    /**
+     * apply メソッドのテスト - 正常系：同じ値を繰り返し変換する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testApply_normalMemoized() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "user_name";
+
+        /* 準備 */
+        final DtcTransformRegistry testTarget = new DtcTransformRegistry();
+
+        /* テスト対象の実行 */
+        testTarget.apply("snake_case", "userName");
+        testTarget.apply("snake_case", "userName");
+        final String actual = testTarget.apply("snake_case", "userName");
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "変換した値を返すこと");
+        Assertions.assertEquals(2, testTarget.getHitCount("snake_case"), "2回目以降はキャッシュの変換結果を返すこと");
+        Assertions.assertEquals(1, testTarget.getMissCount("snake_case"), "変換処理の呼び出しは1回だけであること");
+
+    }
+
+    /**
+     * apply メソッドのテスト - 正常系：キャッシュの上限の件数を超えた場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testApply_normalEvictLeastRecentlyUsed() throws Exception {
+
+        /* 期待値の定義 */
+        final int expectedCalls = 4;
+
+        /* 準備 */
+        final AtomicInteger        calls      = new AtomicInteger();
+        final DtcTransformRegistry testTarget = new DtcTransformRegistry(2);
+        testTarget.register("count", value -> {
+
+            calls.incrementAndGet();
+            return value + "!";
+
+        });
+
+        /* テスト対象の実行 */
+        testTarget.apply("count", "a");
+        testTarget.apply("count", "b");
+        testTarget.apply("count", "a");
+        testTarget.apply("count", "c");
+        testTarget.apply("count", "a");
+        testTarget.apply("count", "b");
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedCalls, calls.get(), "最も長く使用していない変換結果を捨てること");
+        Assertions.assertEquals(2, testTarget.getHitCount("count"), "キャッシュに残っている変換結果を返すこと");
+
+    }
+
+    /**
+     * apply メソッドのテスト - 異常系：登録されていない変換処理の場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testApply_errorUnregisteredName() {
+
+        /* 期待値の定義 */
+        final String expectedMessage = "[KMGTOOLCLI_GEN30008] 登録されていない変換処理です。名前：[unknown]";
+
+        /* 準備 */
+        final DtcTransformRegistry testTarget = new DtcTransformRegistry();
+
+        // SpringApplicationContextHelperのモック化
+        try (final MockedStatic<SpringApplicationContextHelper> mockedStatic
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final KmgMessageSource mockMessageSource = Mockito.mock(KmgMessageSource.class);
+            mockedStatic.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSource);
+            Mockito.when(mockMessageSource.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(expectedMessage);
+
+            /* テスト対象の実行 */
+            final KmgToolCliMsgException actual
+                = Assertions.assertThrows(KmgToolCliMsgException.class, () -> testTarget.apply("unknown", "value"));
+
+            /* 検証の実施 */
+            Assertions.assertEquals(expectedMessage, actual.getMessage(), "メッセージの種類のメッセージであること");
+            Assertions.assertEquals(0, testTarget.getHitCount("unknown"), "登録されていない変換処理の使用回数は0であること");
+
+        }
+
+    }
+
+    /**
+     * register メソッドのテスト - 異常系：登録済みの名前の場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testRegister_errorDuplicateName() {
+
+        /* 期待値の定義 */
+        final String expectedMessage = "[KMGTOOLCLI_GEN30007] 登録できない変換処理の名前です。名前：[capitalize]";
+
+        /* 準備 */
+        final DtcTransformRegistry testTarget = new DtcTransformRegistry();
+
+        // SpringApplicationContextHelperのモック化
+        try (final MockedStatic<SpringApplicationContextHelper> mockedStatic
+            = Mockito.mockStatic(SpringApplicationContextHelper.class)) {
+
+            final KmgMessageSource mockMessageSource = Mockito.mock(KmgMessageSource.class);
+            mockedStatic.when(() -> SpringApplicationContextHelper.getBean(KmgMessageSource.class))
+                .thenReturn(mockMessageSource);
+            Mockito.when(mockMessageSource.getExcMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenReturn(expectedMessage);
+
+            /* テスト対象の実行 */
+            final KmgToolCliMsgException actual = Assertions.assertThrows(KmgToolCliMsgException.class,
+                () -> testTarget.register("capitalize", value -> value));
+
+            /* 検証の実施 */
+            Assertions.assertEquals(expectedMessage, actual.getMessage(), "組み込みの変換処理の名前は登録できないこと");
+
+        }
+
+    }
+
+    /**
+     * splitChain メソッドのテスト - 正常系：空白と指定無しを含む場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testSplitChain_normalTrimAndSkipNone() {
+
+        /* 期待値の定義 */
+        final String[] expected = {
+            "snake_case", "plural",
+        };
+
+        /* 準備 */
+        final String chain = " snake_case | none || plural ";
+
+        /* テスト対象の実行 */
+        final String[] actual = DtcTransformRegistry.splitChain(chain);
+
+        /* 検証の実施 */
+        Assertions.assertArrayEquals(expected, actual, "前後の空白を除き、空の名前と指定無しを除くこと");
+
+    }
+
+}
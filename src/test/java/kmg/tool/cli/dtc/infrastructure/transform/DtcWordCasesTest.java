@@ -0,0 +1,134 @@
+package kmg.tool.cli.dtc.infrastructure.transform;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * 単語の区切りによる変換のテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class DtcWordCasesTest extends AbstractKmgTest {
+
+    /**
+     * splitWords メソッドのテスト - 正常系：区切り文字、大文字への変わり目、大文字が続く場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testSplitWords_normalMixedBoundaries() {
+
+        /* 期待値の定義 */
+        final List<String> expected = List.of("parse", "HTTP", "Server", "v2", "Name", "id");
+
+        /* 準備 */
+        final String source = "parseHTTPServer_v2Name-id";
+
+        /* テスト対象の実行 */
+        final List<String> actual = DtcWordCases.splitWords(source);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "区切り文字と大文字小文字の変わり目で単語に分けること");
+
+    }
+
+    /**
+     * toSnakeCase メソッドのテスト - 正常系：キャメルケースの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testToSnakeCase_normalCamelCase() {
+
+        /* 期待値の定義 */
+        final String expected = "user_http_name";
+
+        /* 準備 */
+        final String source = "userHTTPName";
+
+        /* テスト対象の実行 */
+        final String actual = DtcWordCases.toSnakeCase(source);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "小文字の単語を「_」で連結すること");
+
+    }
+
+    /**
+     * toUpperSnakeCase メソッドのテスト - 正常系：キャメルケースの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testToUpperSnakeCase_normalCamelCase() {
+
+        /* 期待値の定義 */
+        final String expected = "USER_NAME";
+
+        /* 準備 */
+        final String source = "userName";
+
+        /* テスト対象の実行 */
+        final String actual = DtcWordCases.toUpperSnakeCase(source);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "大文字の単語を「_」で連結すること");
+
+    }
+
+    /**
+     * toCamelCase メソッドのテスト - 正常系：大文字のスネークケースの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testToCamelCase_normalUpperSnakeCase() {
+
+        /* 期待値の定義 */
+        final String expected = "userHttpName";
+
+        /* 準備 */
+        final String source = "USER_HTTP_NAME";
+
+        /* テスト対象の実行 */
+        final String actual = DtcWordCases.toCamelCase(source);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "最初の単語を小文字、以降の単語の先頭を大文字にすること");
+
+    }
+
+    /**
+     * toPlural メソッドのテスト - 正常系：語尾ごとの複数形の場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testToPlural_normalSuffixRules() {
+
+        /* 期待値の定義 */
+        final List<String> expected = List.of("boxes", "categories", "keys", "users", "ADDRESSES", "項目");
+
+        /* 準備 */
+        final List<String> sources = List.of("box", "category", "key", "user", "ADDRESS", "項目");
+
+        /* テスト対象の実行 */
+        final List<String> actual = sources.stream().map(DtcWordCases::toPlural).toList();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "語尾に応じて複数形にし、英字で終わらない値は変換しないこと");
+
+    }
+
+}
@@ -3,6 +3,7 @@ package kmg.tool.cli.fldcrt.presentation.ui.cli;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -25,7 +26,7 @@ import kmg.tool.cli.dtc.presentation.ui.cli.AbstractDtcTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.0
+ * @version 0.2.0
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -414,6 +415,9 @@ public class FieldCreationToolTest extends AbstractKmgTest {
     public void testSpringBootApplicationAnnotation_normalCorrect() {
 
         /* 期待値の定義 */
+        final String[] expectedPackages = {
+            "kmg.core", "kmg.fund", "kmg.tool.base",
+        };
 
         /* 準備 */
         final FieldCreationTool testTarget = new FieldCreationTool();
@@ -423,7 +427,8 @@ public class FieldCreationToolTest extends AbstractKmgTest {
         final SpringBootApplication annotation = testClass.getAnnotation(SpringBootApplication.class);
 
         /* 検証の準備 */
-        final boolean actualResult = (annotation != null) && "kmg".equals(annotation.scanBasePackages()[0]);
+        final boolean actualResult
+            = (annotation != null) && Arrays.equals(expectedPackages, annotation.scanBasePackages());
 
         /* 検証の実施 */
         Assertions.assertTrue(actualResult, "SpringBootApplicationアノテーションが正しく設定されていること");
@@ -0,0 +1,87 @@
+package kmg.tool.cli.input.infrastructure.reader;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * gzip行リーダーのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class GzipLineReaderTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * readLine メソッドのテスト - 正常系：BOMとLF、CRLFを含むgzipファイルの場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadLine_normalMixedLineSeparators() throws Exception {
+
+        /* 期待値の定義 */
+        final List<String> expected          = List.of("abc", "あいう", "", "last");
+        final long         expectedLineCount = 4L;
+
+        /* 準備 */
+        final Path gzipPath = this.tempDir.resolve("input.txt.gz");
+
+        try (final OutputStream output = new GZIPOutputStream(Files.newOutputStream(gzipPath))) {
+
+            output.write("\uFEFFabc\r\nあいう\n\nlast".getBytes(StandardCharsets.UTF_8));
+
+        }
+
+        /* テスト対象の実行 */
+        final List<String> actual = new ArrayList<>();
+        final long         actualLineCount;
+
+        try (final GzipLineReader testTarget = new GzipLineReader(gzipPath)) {
+
+            String line;
+
+            while ((line = testTarget.readLine()) != null) {
+
+                actual.add(line);
+
+            }
+
+            actualLineCount = testTarget.getLineCount();
+
+        }
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "BOMと改行文字を除いた行が順に返されること");
+        Assertions.assertEquals(expectedLineCount, actualLineCount, "読み込んだ行数が一致すること");
+
+    }
+
+}
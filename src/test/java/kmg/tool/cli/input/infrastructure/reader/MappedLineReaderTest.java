@@ -0,0 +1,177 @@
+package kmg.tool.cli.input.infrastructure.reader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * メモリマップ行リーダーのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class MappedLineReaderTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * readLine メソッドのテスト - 正常系：LFとCRLFが混在する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadLine_normalMixedLineSeparators() throws Exception {
+
+        /* 期待値の定義 */
+        final List<String> expected = List.of("abc", "あいう", "", "last");
+
+        /* 準備 */
+        final Path inputPath = this.tempDir.resolve("input.txt");
+        Files.writeString(inputPath, "abc\r\nあいう\n\nlast", StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        final List<String> actual = MappedLineReaderTest.readAll(inputPath, 0);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "改行文字を除いた行が順に返されること");
+
+    }
+
+    /**
+     * readLine メソッドのテスト - 正常系：行がウィンドウの境界をまたぐ場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadLine_normalAcrossWindows() throws Exception {
+
+        /* 期待値の定義 */
+        final List<String> expected = List.of("abcdefg", "あいうえお", "x");
+
+        /* 準備 */
+        final Path inputPath = this.tempDir.resolve("input.txt");
+        Files.writeString(inputPath, "abcdefg\r\nあいうえお\r\nx\r\n", StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        final List<String> actual = MappedLineReaderTest.readAll(inputPath, 3);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "ウィンドウの境界をまたぐ行が連結されて返されること");
+
+    }
+
+    /**
+     * readLine メソッドのテスト - 正常系：先頭にBOMがある場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadLine_normalBom() throws Exception {
+
+        /* 期待値の定義 */
+        final List<String> expected = List.of("first", "second");
+
+        /* 準備 */
+        final Path inputPath = this.tempDir.resolve("input.txt");
+        Files.writeString(inputPath, "\uFEFFfirst\nsecond\n", StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        final List<String> actual = MappedLineReaderTest.readAll(inputPath, 0);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "BOMが除かれること");
+
+    }
+
+    /**
+     * readLine メソッドのテスト - 正常系：空のファイルの場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReadLine_normalEmptyFile() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final Path inputPath = this.tempDir.resolve("input.txt");
+        Files.createFile(inputPath);
+
+        /* テスト対象の実行 */
+        final List<String> actual = MappedLineReaderTest.readAll(inputPath, 0);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actual.isEmpty(), "行が返されないこと");
+
+    }
+
+    /**
+     * 入力ファイルの全ての行を読み込む。
+     *
+     * @since 0.2.0
+     *
+     * @param inputPath
+     *                   入力ファイルパス
+     * @param windowSize
+     *                   ウィンドウサイズ
+     *
+     * @return 行のリスト
+     *
+     * @throws Exception
+     *                   例外
+     */
+    private static List<String> readAll(final Path inputPath, final int windowSize) throws Exception {
+
+        final List<String> result = new ArrayList<>();
+
+        try (final MappedLineReader reader = new MappedLineReader(inputPath, windowSize)) {
+
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+
+                result.add(line);
+
+            }
+
+            Assertions.assertEquals(result.size(), reader.getLineCount(), "読み込んだ行数が一致すること");
+
+        }
+
+        return result;
+
+    }
+
+}
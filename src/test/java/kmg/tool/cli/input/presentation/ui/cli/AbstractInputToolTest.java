@@ -20,7 +20,7 @@ import kmg.tool.base.input.domain.service.InputService;
  *
  * @since 0.1.0
  *
- * @version 0.1.3
+ * @version 0.2.0
  */
 @SuppressWarnings({
     "nls", "static-method"
@@ -614,4 +614,88 @@ public class AbstractInputToolTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * resolveInputPath メソッドのテスト - 正常系：指定入力ファイルパスがある場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testResolveInputPath_normalSpecified() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = Paths.get("specified", "input.txt");
+
+        /* 準備 */
+        this.testTarget.setSpecifiedInputPath(expected);
+
+        /* テスト対象の実行 */
+        final Path testResult = this.testTarget.resolveInputPath();
+
+        /* 検証の準備 */
+        final Path actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "指定入力ファイルパスが返されること");
+        Assertions.assertEquals(expected, this.testTarget.getSpecifiedInputPath(), "指定入力ファイルパスが保持されていること");
+
+    }
+
+    /**
+     * resolveInputPath メソッドのテスト - 正常系：指定入力ファイルパスがない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testResolveInputPath_normalUnspecified() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = AbstractInputTool.getInputPath();
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final Path testResult = this.testTarget.resolveInputPath();
+
+        /* 検証の準備 */
+        final Path actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "既定の入力ファイルパスが返されること");
+
+    }
+
+    /**
+     * resolveInputPath メソッドのテスト - 正常系：入力ファイルパスの指定がある場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testResolveInputPath_normalInputProperty() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = Paths.get("property", "input.txt");
+
+        /* 準備 */
+        this.testTarget.setInput(expected.toString());
+
+        /* テスト対象の実行 */
+        final Path testResult = this.testTarget.resolveInputPath();
+
+        /* 検証の準備 */
+        final Path actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "入力ファイルパスの指定が返されること");
+
+    }
+
 }
@@ -0,0 +1,221 @@
+package kmg.tool.cli.io.infrastructure.fanout;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import kmg.core.domain.service.KmgPfaMeasService;
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+
+/**
+ * ファンアウト実行のテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class FanOutRunnerTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * モックメッセージソース
+     *
+     * @since 0.2.0
+     */
+    private KmgMessageSource mockMessageSource;
+
+    /**
+     * モック計測サービス
+     *
+     * @since 0.2.0
+     */
+    private KmgPfaMeasService mockMeasService;
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.0
+     */
+    private FanOutRunner<String> testTarget;
+
+    /**
+     * セットアップ
+     *
+     * @since 0.2.0
+     */
+    @BeforeEach
+    public void setUp() {
+
+        this.mockMessageSource = Mockito.mock(KmgMessageSource.class);
+        this.mockMeasService = Mockito.mock(KmgPfaMeasService.class);
+        Mockito.when(this.mockMessageSource.getGenMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("テストメッセージ");
+
+        this.testTarget = new FanOutRunner<>(this.mockMessageSource, this.mockMeasService);
+
+    }
+
+    /**
+     * run メソッドのテスト - 正常系：ワーカーのコンテキストを起動する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRun_normalWorkerContexts() throws Exception {
+
+        /* 期待値の定義 */
+        final int expectedContextCount = 1;
+
+        /* 準備 */
+        Files.createDirectories(this.tempDir.resolve("in"));
+        Files.writeString(this.tempDir.resolve("in/a.txt"), "a");
+        Files.writeString(this.tempDir.resolve("in/b.txt"), "b");
+
+        final ConfigurableApplicationContext mockWorkerContext = Mockito.mock(ConfigurableApplicationContext.class);
+        final AtomicInteger                  contextCount      = new AtomicInteger();
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.run(this.tempDir.resolve("in") + "/*.txt",
+            this.tempDir.resolve("out") + "/*.txt", 2, "primary", () -> {
+
+                contextCount.incrementAndGet();
+                return mockWorkerContext;
+
+            }, workerContext -> "worker", (worker, inputPath, outputPath) -> {
+
+                try {
+
+                    Files.copy(inputPath, outputPath);
+
+                } catch (final IOException e) {
+
+                    throw new IllegalStateException(e);
+
+                }
+
+                return true;
+
+            });
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "全てのファイルが成功すること");
+        Assertions.assertEquals(expectedContextCount, contextCount.get(), "2つ目のワーカーの分だけコンテキストが起動されること");
+        Assertions.assertTrue(Files.exists(this.tempDir.resolve("out/a.txt")), "1つ目の出力ファイルが作成されること");
+        Assertions.assertTrue(Files.exists(this.tempDir.resolve("out/b.txt")), "2つ目の出力ファイルが作成されること");
+        Mockito.verify(mockWorkerContext, Mockito.times(1)).close();
+
+    }
+
+    /**
+     * run メソッドのテスト - 正常系：ワーカーのコンテキストが不要な場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRun_normalSharedWorker() throws Exception {
+
+        /* 期待値の定義 */
+        final Set<String> expected = Set.of("primary");
+
+        /* 準備 */
+        Files.createDirectories(this.tempDir.resolve("in"));
+        Files.writeString(this.tempDir.resolve("in/a.txt"), "a");
+        Files.writeString(this.tempDir.resolve("in/b.txt"), "b");
+        Files.writeString(this.tempDir.resolve("in/c.txt"), "c");
+
+        final Set<String> usedWorkers = Collections.synchronizedSet(new HashSet<>());
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.run(this.tempDir.resolve("in") + "/*.txt",
+            this.tempDir.resolve("out") + "/*.txt", 3, "primary", null, workerContext -> "worker",
+            (worker, inputPath, outputPath) -> {
+
+                usedWorkers.add(worker);
+                try {
+
+                    Files.copy(inputPath, outputPath);
+
+                } catch (final IOException e) {
+
+                    throw new IllegalStateException(e);
+
+                }
+
+                return true;
+
+            });
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "全てのファイルが成功すること");
+        Assertions.assertEquals(expected, usedWorkers, "全てのスレッドで1つ目のワーカーが共有されること");
+        Mockito.verify(this.mockMessageSource).getGenMessage(
+            ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN27005), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * run メソッドのテスト - 準正常系：出力ファイルのパターンが不正な場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testRun_semiInvalidOutputPattern() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final AtomicInteger contextCount = new AtomicInteger();
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.run(this.tempDir.resolve("in") + "/*.txt",
+            this.tempDir.resolve("out") + "/out.txt", 2, "primary", () -> {
+
+                contextCount.incrementAndGet();
+                return Mockito.mock(ConfigurableApplicationContext.class);
+
+            }, workerContext -> "worker", (worker, inputPath, outputPath) -> true);
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "失敗となること");
+        Assertions.assertEquals(0, contextCount.get(), "コンテキストが起動されないこと");
+        Mockito.verify(this.mockMessageSource).getGenMessage(
+            ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN27001), ArgumentMatchers.any());
+
+    }
+
+}
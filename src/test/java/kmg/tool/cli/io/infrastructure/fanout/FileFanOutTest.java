@@ -0,0 +1,331 @@
+package kmg.tool.cli.io.infrastructure.fanout;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.io.domain.model.FanOutResultModel;
+
+/**
+ * ファイルファンアウトのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class FileFanOutTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * findInputs メソッドのテスト - 正常系：パターンの階層に一致するファイルだけがパスの順に返される場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testFindInputs_normalSortedSameDepth() throws Exception {
+
+        /* 期待値の定義 */
+        final List<Path> expected = List.of(this.tempDir.resolve("in/a.txt"), this.tempDir.resolve("in/b.txt"));
+
+        /* 準備 */
+        Files.createDirectories(this.tempDir.resolve("in/sub"));
+        Files.writeString(this.tempDir.resolve("in/b.txt"), "b");
+        Files.writeString(this.tempDir.resolve("in/a.txt"), "a");
+        Files.writeString(this.tempDir.resolve("in/c.csv"), "c");
+        Files.writeString(this.tempDir.resolve("in/sub/d.txt"), "d");
+
+        /* テスト対象の実行 */
+        final List<Path> testResult = FileFanOut.findInputs(this.tempDir.resolve("in").toString() + "/*.txt");
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, testResult, "同じ階層の一致するファイルがパスの順に返されること");
+
+    }
+
+    /**
+     * findInputs メソッドのテスト - 正常系：「**」で下位の階層のファイルも返される場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testFindInputs_normalAnyDepth() throws Exception {
+
+        /* 期待値の定義 */
+        final List<Path> expected
+            = List.of(this.tempDir.resolve("in/sub/d.txt"), this.tempDir.resolve("in/sub/deep/e.txt"));
+
+        /* 準備 */
+        Files.createDirectories(this.tempDir.resolve("in/sub/deep"));
+        Files.writeString(this.tempDir.resolve("in/a.txt"), "a");
+        Files.writeString(this.tempDir.resolve("in/sub/d.txt"), "d");
+        Files.writeString(this.tempDir.resolve("in/sub/deep/e.txt"), "e");
+
+        /* テスト対象の実行 */
+        final List<Path> testResult = FileFanOut.findInputs(this.tempDir.resolve("in").toString() + "/**/*.txt");
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, testResult, "下位の階層の一致するファイルが返されること");
+
+    }
+
+    /**
+     * findInputs メソッドのテスト - 準正常系：ディレクトリが存在しない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testFindInputs_semiDirectoryNotExists() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final String pattern = this.tempDir.resolve("none").toString() + "/*.txt";
+
+        /* テスト対象の実行 */
+        final List<Path> testResult = FileFanOut.findInputs(pattern);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult.isEmpty(), "空のリストが返されること");
+
+    }
+
+    /**
+     * toOutputPath メソッドのテスト - 正常系：「*」が拡張子を除いたファイル名に置き換えられる場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testToOutputPath_normalReplaceBaseName() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = Paths.get("out/UserDto.java");
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final Path testResult = FileFanOut.toOutputPath(Paths.get("in/UserDto.txt"), "out/*.java");
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, testResult, "出力ファイルパスが一致すること");
+
+    }
+
+    /**
+     * toOutputPath メソッドのテスト - 正常系：gzipファイルの場合は、拡張子「.gz」とその前の拡張子が除かれる場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testToOutputPath_normalGzipInput() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = Paths.get("out/UserDto.java.gz");
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final Path testResult = FileFanOut.toOutputPath(Paths.get("in/UserDto.txt.gz"), "out/*.java.gz");
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, testResult, "出力ファイルパスが一致すること");
+
+    }
+
+    /**
+     * isValidOutputPattern メソッドのテスト - 準正常系：「*」が1つではない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testIsValidOutputPattern_semiWildcardCount() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        /* 検証の実施 */
+        Assertions.assertTrue(FileFanOut.isValidOutputPattern("out/*.java"), "「*」が1つの場合、trueが返されること");
+        Assertions.assertFalse(FileFanOut.isValidOutputPattern("out/output.java"), "「*」がない場合、falseが返されること");
+        Assertions.assertFalse(FileFanOut.isValidOutputPattern("out/*/*.java"), "「*」が2つの場合、falseが返されること");
+        Assertions.assertFalse(FileFanOut.isValidOutputPattern(null), "nullの場合、falseが返されること");
+
+    }
+
+    /**
+     * findDuplicateOutput メソッドのテスト - 準正常系：異なる階層の同じ名前のファイルが同じ出力ファイルになる場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testFindDuplicateOutput_semiSameBaseName() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = Paths.get("out/a.java").toAbsolutePath().normalize();
+
+        /* 準備 */
+        final List<Path> inputPaths = List.of(Paths.get("in/a.txt"), Paths.get("in/sub/a.txt"));
+
+        /* テスト対象の実行 */
+        final Path testResult = FileFanOut.findDuplicateOutput(inputPaths, "out/*.java");
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, testResult, "重複した出力ファイルパスが返されること");
+
+    }
+
+    /**
+     * execute メソッドのテスト - 正常系：完了順に関わらず入力ファイルの順に結果が返される場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testExecute_normalOrderedResults() throws Exception {
+
+        /* 期待値の定義 */
+        final int fileCount = 8;
+
+        /* 準備 */
+        Files.createDirectories(this.tempDir.resolve("in"));
+
+        for (int i = 0; i < fileCount; i++) {
+
+            Files.writeString(this.tempDir.resolve(String.format("in/file%02d.txt", i)), "content" + i,
+                StandardCharsets.UTF_8);
+
+        }
+
+        final List<Path> inputPaths    = FileFanOut.findInputs(this.tempDir.resolve("in").toString() + "/*.txt");
+        final String     outputPattern = this.tempDir.resolve("out").toString() + "/*.out";
+
+        /* テスト対象の実行 */
+        final List<FanOutResultModel> testResult = FileFanOut.execute(inputPaths, outputPattern,
+            List.of("worker1", "worker2", "worker3"), (worker, inputPath, outputPath) -> {
+
+                try {
+
+                    // 先のファイルほど遅く完了させる
+                    final int index = inputPaths.indexOf(inputPath);
+                    Thread.sleep((fileCount - index) * 5L);
+                    Files.copy(inputPath, outputPath);
+
+                } catch (final IOException | InterruptedException e) {
+
+                    throw new IllegalStateException(e);
+
+                }
+
+                return true;
+
+            });
+
+        /* 検証の実施 */
+        Assertions.assertEquals(fileCount, testResult.size(), "全てのファイルの結果が返されること");
+
+        for (int i = 0; i < fileCount; i++) {
+
+            final FanOutResultModel fileResult = testResult.get(i);
+            Assertions.assertEquals(i + 1, fileResult.getFileNo(), "ファイル番号が入力ファイルの順であること");
+            Assertions.assertEquals(inputPaths.get(i), fileResult.getInputPath(), "入力ファイルの順に結果が返されること");
+            Assertions.assertEquals(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09001, fileResult.getResultType(), "成功であること");
+            Assertions.assertEquals("content" + i, Files.readString(fileResult.getOutputPath(), StandardCharsets.UTF_8),
+                "出力ファイルの内容が一致すること");
+
+        }
+
+    }
+
+    /**
+     * execute メソッドのテスト - 準正常系：失敗と例外がファイルごとに返され、他のファイルの処理は続く場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testExecute_semiFailureAndExceptionPerFile() throws Exception {
+
+        /* 期待値の定義 */
+        final List<KmgToolCliGenMsgTypes> expected = List.of(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09001,
+            KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09000, KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09002,
+            KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN09001);
+
+        /* 準備 */
+        final List<Path> inputPaths = List.of(Paths.get("a.txt"), Paths.get("b.txt"), Paths.get("c.txt"),
+            Paths.get("d.txt"));
+        final String     outputPattern = this.tempDir.toString() + "/*.out";
+
+        /* テスト対象の実行 */
+        final List<FanOutResultModel> testResult
+            = FileFanOut.execute(inputPaths, outputPattern, List.of("worker1", "worker2"),
+                (worker, inputPath, outputPath) -> {
+
+                    final String fileName = inputPath.getFileName().toString();
+
+                    if ("c.txt".equals(fileName)) {
+
+                        throw new IllegalStateException("例外");
+
+                    }
+
+                    return !"b.txt".equals(fileName);
+
+                });
+
+        /* 検証の準備 */
+        final List<KmgToolCliGenMsgTypes> actual = testResult.stream().map(FanOutResultModel::getResultType).toList();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "ファイルごとの結果が入力ファイルの順に返されること");
+        Assertions.assertInstanceOf(IllegalStateException.class, testResult.get(2).getException(), "発生した例外が返されること");
+        Assertions.assertNull(testResult.get(1).getException(), "失敗の場合、例外はnullであること");
+
+    }
+
+}
@@ -0,0 +1,215 @@
+package kmg.tool.cli.io.infrastructure.staging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * 入出力ファイルのステージングのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class IoFileStagingTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * resolveOutputPath メソッドのテスト - 正常系：内容が同じ出力ファイルの書き込みを省略する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testResolveOutputPath_normalSkipUnchanged() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected      = "出力";
+        final int    expectedCount = 1;
+
+        /* 準備 */
+        final IoFileStaging testTarget = new IoFileStaging();
+        final Path          outputPath = this.tempDir.resolve("output.txt");
+
+        /* テスト対象の実行 */
+        final Path stagingPath = testTarget.resolveOutputPath(outputPath, true);
+        Files.writeString(stagingPath, expected, StandardCharsets.UTF_8);
+
+        try {
+
+            testTarget.commit(outputPath, true);
+
+        } finally {
+
+            testTarget.release();
+
+        }
+
+        /* 検証の実施 */
+        Assertions.assertNotEquals(outputPath, stagingPath, "ステージングファイルのパスが返されること");
+        Assertions.assertEquals(expected, Files.readString(outputPath, StandardCharsets.UTF_8), "出力ファイルに反映されること");
+        Assertions.assertFalse(Files.exists(stagingPath), "ステージングファイルが削除されていること");
+        Assertions.assertEquals(expectedCount, testTarget.getWrittenCount(), "書き込んだ件数が数えられること");
+
+    }
+
+    /**
+     * resolveOutputPath メソッドのテスト - 正常系：書き込みを省略しない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testResolveOutputPath_normalNoSkip() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = this.tempDir.resolve("output.txt");
+
+        /* 準備 */
+        final IoFileStaging testTarget = new IoFileStaging();
+
+        /* テスト対象の実行 */
+        final Path testResult = testTarget.resolveOutputPath(expected, false);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, testResult, "出力ファイルパスがそのまま返されること");
+
+    }
+
+    /**
+     * processFile メソッドのテスト - 正常系：gzipファイルの出力ファイルに圧縮して書き込む場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testProcessFile_normalGzipOutput() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "入力";
+
+        /* 準備 */
+        final IoFileStaging testTarget = new IoFileStaging();
+        final Path          inputPath  = this.tempDir.resolve("input.txt");
+        final Path          outputPath = this.tempDir.resolve("output.txt.gz");
+        Files.writeString(inputPath, expected, StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.processFile("worker", inputPath, outputPath, true,
+            (worker, plainInputPath, plainOutputPath) -> {
+
+                try {
+
+                    Files.copy(plainInputPath, plainOutputPath, StandardCopyOption.REPLACE_EXISTING);
+
+                } catch (final IOException e) {
+
+                    throw new IllegalStateException(e);
+
+                }
+
+                return true;
+
+            });
+
+        /* 検証の準備 */
+        final String actual;
+
+        try (final InputStream input = new GZIPInputStream(Files.newInputStream(outputPath))) {
+
+            actual = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+
+        }
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "成功すること");
+        Assertions.assertEquals(expected, actual, "圧縮して書き込まれること");
+        Assertions.assertFalse(testTarget.isGzipOutputBuffered(), "実行全体の一時ファイルは使用されないこと");
+
+    }
+
+    /**
+     * processFile メソッドのテスト - 準正常系：処理が失敗した場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testProcessFile_semiFailure() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "既存";
+
+        /* 準備 */
+        final IoFileStaging testTarget = new IoFileStaging();
+        final Path          inputPath  = this.tempDir.resolve("input.txt");
+        final Path          outputPath = this.tempDir.resolve("output.txt");
+        Files.writeString(inputPath, "入力", StandardCharsets.UTF_8);
+        Files.writeString(outputPath, expected, StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.processFile("worker", inputPath, outputPath, true,
+            (worker, plainInputPath, plainOutputPath) -> {
+
+                try {
+
+                    Files.writeString(plainOutputPath, "途中", StandardCharsets.UTF_8);
+
+                } catch (final IOException e) {
+
+                    throw new IllegalStateException(e);
+
+                }
+
+                return false;
+
+            });
+
+        /* 検証の準備 */
+        final long fileCount;
+
+        try (final Stream<Path> files = Files.list(this.tempDir)) {
+
+            fileCount = files.count();
+
+        }
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "失敗となること");
+        Assertions.assertEquals(expected, Files.readString(outputPath, StandardCharsets.UTF_8), "出力ファイルが変わらないこと");
+        Assertions.assertEquals(2, fileCount, "ステージングファイルが残らないこと");
+
+    }
+
+}
@@ -0,0 +1,197 @@
+package kmg.tool.cli.io.infrastructure.stream;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * gzip入出力のテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class GzipStreamsTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * isGzip メソッドのテスト - 正常系：拡張子で判定される場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testIsGzip_normalExtension() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final boolean gzipResult      = GzipStreams.isGzip(Paths.get("work/io/input.txt.GZ"));
+        final boolean plainResult     = GzipStreams.isGzip(Paths.get("work/io/input.txt"));
+        final boolean standardResult  = GzipStreams.isGzip(Paths.get("-"));
+        final boolean nullInputResult = GzipStreams.isGzip(null);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(gzipResult, "拡張子が「.gz」の場合、大文字と小文字を区別せずにtrueが返されること");
+        Assertions.assertFalse(plainResult, "拡張子が「.gz」でない場合、falseが返されること");
+        Assertions.assertFalse(standardResult, "標準入出力の場合、falseが返されること");
+        Assertions.assertFalse(nullInputResult, "nullの場合、falseが返されること");
+
+    }
+
+    /**
+     * openInput メソッドと wrapOutput メソッドのテスト - 正常系：圧縮して書き込んだ内容を展開して読み込める場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testOpenInput_normalRoundTrip() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "abc\r\nあいう\n";
+
+        /* 準備 */
+        final Path gzipPath = this.tempDir.resolve("data.txt.gz");
+
+        try (final OutputStream output = GzipStreams.wrapOutput(gzipPath, Files.newOutputStream(gzipPath))) {
+
+            output.write(expected.getBytes(StandardCharsets.UTF_8));
+
+        }
+
+        /* テスト対象の実行 */
+        final String actual;
+
+        try (final InputStream input = GzipStreams.openInput(gzipPath)) {
+
+            actual = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+
+        }
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "展開した内容が圧縮前の内容と一致すること");
+        Assertions.assertNotEquals(expected, Files.readString(gzipPath, StandardCharsets.ISO_8859_1),
+            "ファイルには圧縮した内容が書き込まれること");
+
+    }
+
+    /**
+     * wrapOutput メソッドのテスト - 正常系：gzipファイルでない場合は、そのままの出力が返される場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testWrapOutput_normalPlainFile() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final Path outputPath = this.tempDir.resolve("output.txt");
+
+        try (final OutputStream expected = Files.newOutputStream(outputPath)) {
+
+            /* テスト対象の実行 */
+            final OutputStream actual = GzipStreams.wrapOutput(outputPath, expected);
+
+            /* 検証の実施 */
+            Assertions.assertSame(expected, actual, "指定された出力がそのまま返されること");
+
+        }
+
+    }
+
+    /**
+     * compress メソッドと expandToTemp メソッドのテスト - 正常系：一時ファイルを介して圧縮と展開ができる場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testCompress_normalExpandToTemp() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "line1\nline2\n";
+
+        /* 準備 */
+        final Path plainPath = this.tempDir.resolve("plain.txt");
+        final Path gzipPath  = this.tempDir.resolve("out/plain.txt.gz");
+        Files.writeString(plainPath, expected, StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        GzipStreams.compress(plainPath, gzipPath);
+        final Path expandedPath = GzipStreams.expandToTemp(gzipPath);
+
+        /* 検証の準備 */
+        final String compressedContent;
+
+        try (final InputStream input = new GZIPInputStream(Files.newInputStream(gzipPath))) {
+
+            compressedContent = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+
+        }
+
+        final String actual = Files.readString(expandedPath, StandardCharsets.UTF_8);
+        Files.deleteIfExists(expandedPath);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, compressedContent, "gzipファイルに圧縮した内容が書き込まれること");
+        Assertions.assertEquals(expected, actual, "展開した一時ファイルの内容が圧縮前の内容と一致すること");
+
+    }
+
+    /**
+     * stripGzipExtension メソッドのテスト - 正常系：拡張子「.gz」だけが除かれる場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testStripGzipExtension_normalStrip() {
+
+        /* 期待値の定義 */
+        final String expectedGzip  = "input.txt";
+        final String expectedPlain = "input.txt";
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final String actualGzip  = GzipStreams.stripGzipExtension("input.txt.gz");
+        final String actualPlain = GzipStreams.stripGzipExtension("input.txt");
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedGzip, actualGzip, "拡張子「.gz」が除かれること");
+        Assertions.assertEquals(expectedPlain, actualPlain, "gzipファイルでない場合は、そのままのファイル名が返されること");
+
+    }
+
+}
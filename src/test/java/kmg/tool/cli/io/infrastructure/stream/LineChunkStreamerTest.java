@@ -0,0 +1,195 @@
+package kmg.tool.cli.io.infrastructure.stream;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * 行チャンクストリーマーのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class LineChunkStreamerTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * stream メソッドのテスト - 正常系：複数のチャンクに分けても入力と同じ内容が出力される場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testStream_normalMultipleChunks() throws Exception {
+
+        /* 期待値の定義 */
+        final String expectedContent    = "a\r\nb\r\nc\r\nd\r\ne";
+        final int    expectedChunkCount = 3;
+        final long   expectedLineCount  = 5L;
+
+        /* 準備 */
+        final Path inputPath  = this.tempDir.resolve("input.txt");
+        final Path outputPath = this.tempDir.resolve("output/output.txt");
+        Files.writeString(inputPath, expectedContent, StandardCharsets.UTF_8);
+
+        final LineChunkStreamer testTarget = new LineChunkStreamer(2, line -> true);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.stream(inputPath, outputPath, (chunkInputPath, chunkOutputPath) -> {
+
+            try {
+
+                Files.copy(chunkInputPath, chunkOutputPath);
+
+            } catch (final IOException e) {
+
+                throw new IllegalStateException(e);
+
+            }
+
+            return true;
+
+        });
+
+        /* 検証の準備 */
+        final String actualContent = Files.readString(outputPath, StandardCharsets.UTF_8);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "処理が成功すること");
+        Assertions.assertEquals(expectedContent, actualContent, "改行文字を含めて入力と同じ内容が出力されること");
+        Assertions.assertEquals(expectedChunkCount, testTarget.getChunkCount(), "チャンク数が一致すること");
+        Assertions.assertEquals(expectedLineCount, testTarget.getLineCount(), "行数が一致すること");
+
+    }
+
+    /**
+     * stream メソッドのテスト - 正常系：チャンクの区切りの行までチャンクが延長される場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testStream_normalChunkBoundary() throws Exception {
+
+        /* 期待値の定義 */
+        final List<String> expected = List.of("int a\n;\n", "int b\n;\n");
+
+        /* 準備 */
+        final Path inputPath  = this.tempDir.resolve("input.txt");
+        final Path outputPath = this.tempDir.resolve("output.txt");
+        Files.writeString(inputPath, "int a\n;\nint b\n;\n", StandardCharsets.UTF_8);
+
+        final List<String>      actual     = new ArrayList<>();
+        final LineChunkStreamer testTarget = new LineChunkStreamer(1, line -> line.endsWith(";"));
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.stream(inputPath, outputPath, (chunkInputPath, chunkOutputPath) -> {
+
+            try {
+
+                actual.add(Files.readString(chunkInputPath, StandardCharsets.UTF_8));
+
+            } catch (final IOException e) {
+
+                throw new IllegalStateException(e);
+
+            }
+
+            return true;
+
+        });
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "処理が成功すること");
+        Assertions.assertEquals(expected, actual, "区切りの行までが1つのチャンクになること");
+
+    }
+
+    /**
+     * stream メソッドのテスト - 正常系：入力ファイルが空の場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testStream_normalEmptyInput() throws Exception {
+
+        /* 期待値の定義 */
+        final int expectedChunkCount = 1;
+
+        /* 準備 */
+        final Path inputPath  = this.tempDir.resolve("input.txt");
+        final Path outputPath = this.tempDir.resolve("output.txt");
+        Files.createFile(inputPath);
+
+        final LineChunkStreamer testTarget = new LineChunkStreamer(0, line -> true);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.stream(inputPath, outputPath, (chunkInputPath, chunkOutputPath) -> true);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "処理が成功すること");
+        Assertions.assertEquals(expectedChunkCount, testTarget.getChunkCount(), "空のチャンクが1回処理されること");
+        Assertions.assertEquals(0L, Files.size(outputPath), "空の出力ファイルが作成されること");
+
+    }
+
+    /**
+     * stream メソッドのテスト - 準正常系：チャンク処理が失敗した場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testStream_semiChunkProcessorFailed() throws Exception {
+
+        /* 期待値の定義 */
+        final int expectedChunkCount = 0;
+
+        /* 準備 */
+        final Path inputPath  = this.tempDir.resolve("input.txt");
+        final Path outputPath = this.tempDir.resolve("output.txt");
+        Files.writeString(inputPath, "a\nb\n", StandardCharsets.UTF_8);
+
+        final LineChunkStreamer testTarget = new LineChunkStreamer(1, line -> true);
+
+        /* テスト対象の実行 */
+        final boolean testResult = testTarget.stream(inputPath, outputPath, (chunkInputPath, chunkOutputPath) -> false);
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testResult, "チャンク処理が失敗した場合、falseが返されること");
+        Assertions.assertEquals(expectedChunkCount, testTarget.getChunkCount(), "以降のチャンクが処理されないこと");
+
+    }
+
+}
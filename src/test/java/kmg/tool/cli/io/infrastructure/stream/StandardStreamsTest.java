@@ -0,0 +1,250 @@
+package kmg.tool.cli.io.infrastructure.stream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * 標準入出力のテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class StandardStreamsTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * クリーンアップ
+     *
+     * @since 0.2.0
+     */
+    @AfterEach
+    public void tearDown() {
+
+        System.clearProperty(StandardStreams.OUTPUT_PROPERTY);
+
+    }
+
+    /**
+     * isStandardStream のテスト - 正常系：「-」の場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testIsStandardStream_normalDash() {
+
+        /* 期待値の定義 */
+        final boolean expected = true;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final boolean actual = StandardStreams.isStandardStream(Paths.get("-"));
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "「-」は標準入出力を表すこと");
+
+    }
+
+    /**
+     * isStandardStream のテスト - 正常系：ファイルのパスまたはnullの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testIsStandardStream_normalFilePath() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final boolean actualFile = StandardStreams.isStandardStream(Paths.get("work/io/-"));
+        final boolean actualNull = StandardStreams.isStandardStream(null);
+
+        /* 検証の実施 */
+        Assertions.assertFalse(actualFile, "ファイルのパスは標準入出力を表さないこと");
+        Assertions.assertFalse(actualNull, "nullは標準入出力を表さないこと");
+
+    }
+
+    /**
+     * isStdoutRequested のテスト - 正常系：引数で標準出力を指定した場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testIsStdoutRequested_normalArgs() {
+
+        /* 期待値の定義 */
+        final boolean expected = true;
+
+        /* 準備 */
+        final String[] args = {
+            "acccrt", "--kmg.tool.cli.io.output=-",
+        };
+
+        /* テスト対象の実行 */
+        final boolean actual = StandardStreams.isStdoutRequested(args);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "標準出力が指定されていること");
+
+    }
+
+    /**
+     * isStdoutRequested のテスト - 正常系：システムプロパティで標準出力を指定した場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testIsStdoutRequested_normalSystemProperty() {
+
+        /* 期待値の定義 */
+        final boolean expected = true;
+
+        /* 準備 */
+        System.setProperty(StandardStreams.OUTPUT_PROPERTY, "-");
+
+        /* テスト対象の実行 */
+        final boolean actual = StandardStreams.isStdoutRequested(null);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "標準出力が指定されていること");
+
+    }
+
+    /**
+     * isStdoutRequested のテスト - 正常系：出力ファイルを指定した場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testIsStdoutRequested_normalFileOutput() {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        final String[] args = {
+            "--kmg.tool.cli.io.output=work/io/output.txt",
+        };
+
+        /* テスト対象の実行 */
+        final boolean actual = StandardStreams.isStdoutRequested(args);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "標準出力が指定されていないこと");
+
+    }
+
+    /**
+     * flushStdoutFile のテスト - 正常系：一時ファイルの内容を標準出力に書き出す場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testFlushStdoutFile_normalWrite() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "line1\r\nline2\n";
+
+        /* 準備 */
+        final Path stdoutFilePath = this.tempDir.resolve("stdout.txt");
+        Files.writeString(stdoutFilePath, expected, StandardCharsets.UTF_8);
+
+        final PrintStream           originalOut = System.out;
+        final ByteArrayOutputStream capturedOut = new ByteArrayOutputStream();
+
+        /* テスト対象の実行 */
+        try {
+
+            System.setOut(new PrintStream(capturedOut, true, StandardCharsets.UTF_8));
+            StandardStreams.flushStdoutFile(stdoutFilePath);
+
+        } finally {
+
+            System.setOut(originalOut);
+
+        }
+
+        /* 検証の準備 */
+        final String actual = capturedOut.toString(StandardCharsets.UTF_8);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "一時ファイルの内容が標準出力に書き出されること");
+        Assertions.assertFalse(Files.exists(stdoutFilePath), "一時ファイルが削除されていること");
+
+    }
+
+
+    /**
+     * releaseStdinFile のテスト - 正常系：標準入力を書き出した一時ファイルを削除する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testReleaseStdinFile_normalDelete() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "input";
+
+        /* 準備 */
+        final InputStream originalIn = System.in;
+        final Path        stdinFilePath;
+
+        try {
+
+            System.setIn(new ByteArrayInputStream(expected.getBytes(StandardCharsets.UTF_8)));
+            stdinFilePath = StandardStreams.getStdinFile();
+
+        } finally {
+
+            System.setIn(originalIn);
+
+        }
+
+        final String actual = Files.readString(stdinFilePath, StandardCharsets.UTF_8);
+
+        /* テスト対象の実行 */
+        StandardStreams.releaseStdinFile();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "標準入力が一時ファイルに書き出されること");
+        Assertions.assertFalse(Files.exists(stdinFilePath), "一時ファイルが削除されていること");
+        Assertions.assertDoesNotThrow(StandardStreams::releaseStdinFile, "削除した後の呼び出しは何もしないこと");
+
+    }
+
+}
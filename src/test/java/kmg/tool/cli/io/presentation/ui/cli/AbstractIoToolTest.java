@@ -1,8 +1,15 @@
 package kmg.tool.cli.io.presentation.ui.cli;
 
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -23,7 +30,7 @@ import kmg.tool.base.io.domain.service.IoService;
  *
  * @since 0.1.0
  *
- * @version 0.1.1
+ * @version 0.2.0
  */
 @SuppressWarnings({
     "nls", "static-method"
@@ -913,4 +920,314 @@ public class AbstractIoToolTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * resolveInputPath メソッドのテスト - 正常系：指定入力ファイルパスがある場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testResolveInputPath_normalSpecified() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = this.tempDir.resolve("specified-input.txt");
+
+        /* 準備 */
+        this.testTarget.setSpecifiedInputPath(expected);
+
+        /* テスト対象の実行 */
+        final Path testResult = this.testTarget.resolveInputPath();
+
+        /* 検証の準備 */
+        final Path actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "指定入力ファイルパスが返されること");
+
+    }
+
+    /**
+     * resolveInputPath メソッドのテスト - 正常系：指定入力ファイルパスを解除した場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testResolveInputPath_normalUnspecified() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = AbstractIoTool.getInputPath();
+
+        /* 準備 */
+        this.testTarget.setSpecifiedInputPath(this.tempDir.resolve("specified-input.txt"));
+        this.testTarget.setSpecifiedInputPath(null);
+
+        /* テスト対象の実行 */
+        final Path testResult = this.testTarget.resolveInputPath();
+
+        /* 検証の準備 */
+        final Path actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "既定の入力ファイルパスが返されること");
+        Assertions.assertNull(this.testTarget.getSpecifiedInputPath(), "指定入力ファイルパスが解除されていること");
+
+    }
+
+    /**
+     * resolveOutputPath メソッドのテスト - 正常系：指定出力ファイルパスがある場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testResolveOutputPath_normalSpecified() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = this.tempDir.resolve("specified-output.txt");
+
+        /* 準備 */
+        this.testTarget.setSpecifiedOutputPath(expected);
+
+        /* テスト対象の実行 */
+        final Path testResult = this.testTarget.resolveOutputPath();
+
+        /* 検証の準備 */
+        final Path actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "指定出力ファイルパスが返されること");
+        Assertions.assertEquals(expected, this.testTarget.getSpecifiedOutputPath(), "指定出力ファイルパスが保持されていること");
+
+    }
+
+    /**
+     * resolveOutputPath メソッドのテスト - 正常系：指定出力ファイルパスがない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testResolveOutputPath_normalUnspecified() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = AbstractIoTool.getOutputPath();
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final Path testResult = this.testTarget.resolveOutputPath();
+
+        /* 検証の準備 */
+        final Path actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "既定の出力ファイルパスが返されること");
+
+    }
+
+    /**
+     * resolveInputPath メソッドのテスト - 正常系：入力ファイルパスの指定がある場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testResolveInputPath_normalInputProperty() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = this.tempDir.resolve("property-input.txt");
+
+        /* 準備 */
+        this.testTarget.setInput(expected.toString());
+
+        /* テスト対象の実行 */
+        final Path testResult = this.testTarget.resolveInputPath();
+
+        /* 検証の準備 */
+        final Path actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "入力ファイルパスの指定が返されること");
+        Assertions.assertFalse(this.testTarget.isStandardInput(), "標準入力を使用しないこと");
+
+    }
+
+    /**
+     * isStreaming メソッドのテスト - 正常系：標準出力を使用するが、ストリーミングに対応していない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testIsStreaming_normalStandardOutputNotSupported() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        this.testTarget.setOutput("-");
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.isStreaming();
+
+        /* 検証の準備 */
+        final boolean actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertFalse(actual, "ストリーミングに対応していない場合、falseが返されること");
+        Assertions.assertTrue(this.testTarget.isStandardOutput(), "標準出力を使用すること");
+
+    }
+
+    /**
+     * execute メソッドのテスト - 正常系：標準出力を使用する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testExecute_normalStandardOutput() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "出力内容\n";
+
+        /* 準備 */
+        this.testTarget.setOutput("-");
+        final Path stdoutFilePath = this.testTarget.resolveOutputPath();
+        Files.writeString(stdoutFilePath, expected, StandardCharsets.UTF_8);
+
+        Mockito.when(this.mockIoService.process()).thenReturn(true);
+        Mockito.when(this.mockMessageSource.getGenMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("成功");
+
+        final var reflectionModel = new kmg.core.infrastructure.model.impl.KmgReflectionModelImpl(this.testTarget);
+        reflectionModel.set("messageSource", this.mockMessageSource);
+
+        final PrintStream           originalOut = System.out;
+        final ByteArrayOutputStream capturedOut = new ByteArrayOutputStream();
+
+        /* テスト対象の実行 */
+        final boolean testResult;
+
+        try {
+
+            System.setOut(new PrintStream(capturedOut, true, StandardCharsets.UTF_8));
+            testResult = this.testTarget.execute();
+
+        } finally {
+
+            System.setOut(originalOut);
+
+        }
+
+        /* 検証の準備 */
+        final String actual = capturedOut.toString(StandardCharsets.UTF_8);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "処理が成功した場合、trueが返されること");
+        Assertions.assertEquals(expected, actual, "出力が標準出力に書き出されること");
+        Assertions.assertFalse(Files.exists(stdoutFilePath), "一時ファイルが削除されていること");
+
+    }
+
+    /**
+     * resolveInputPath メソッドのテスト - 正常系：入力ファイルがgzipファイルの場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testResolveInputPath_normalGzipInput() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "入力内容\n";
+
+        /* 準備 */
+        final Path gzipInputPath = this.tempDir.resolve("input.txt.gz");
+
+        try (final OutputStream output = new GZIPOutputStream(Files.newOutputStream(gzipInputPath))) {
+
+            output.write(expected.getBytes(StandardCharsets.UTF_8));
+
+        }
+
+        this.testTarget.setInput(gzipInputPath.toString());
+
+        /* テスト対象の実行 */
+        final Path testResult = this.testTarget.resolveInputPath();
+
+        /* 検証の準備 */
+        final String actual = Files.readString(testResult, StandardCharsets.UTF_8);
+        Files.deleteIfExists(testResult);
+
+        /* 検証の実施 */
+        Assertions.assertNotEquals(gzipInputPath, testResult, "展開した一時ファイルのパスが返されること");
+        Assertions.assertEquals(expected, actual, "展開した内容が圧縮前の内容と一致すること");
+        Assertions.assertTrue(this.testTarget.isGzip(), "gzipファイルを使用すること");
+
+    }
+
+    /**
+     * execute メソッドのテスト - 正常系：出力ファイルがgzipファイルで、ストリーミングに対応していない場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testExecute_normalGzipOutput() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "出力内容\n";
+
+        /* 準備 */
+        final Path gzipOutputPath = this.tempDir.resolve("output/output.txt.gz");
+        this.testTarget.setOutput(gzipOutputPath.toString());
+        final Path plainOutputPath = this.testTarget.resolveOutputPath();
+        Files.writeString(plainOutputPath, expected, StandardCharsets.UTF_8);
+
+        Mockito.when(this.mockIoService.process()).thenReturn(true);
+        Mockito.when(this.mockMessageSource.getGenMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("成功");
+
+        final var reflectionModel = new kmg.core.infrastructure.model.impl.KmgReflectionModelImpl(this.testTarget);
+        reflectionModel.set("messageSource", this.mockMessageSource);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.execute();
+
+        /* 検証の準備 */
+        final String actual;
+
+        try (final InputStream input = new GZIPInputStream(Files.newInputStream(gzipOutputPath))) {
+
+            actual = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+
+        }
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "処理が成功した場合、trueが返されること");
+        Assertions.assertNotEquals(gzipOutputPath, plainOutputPath, "圧縮前の内容を書き込む一時ファイルのパスが返されること");
+        Assertions.assertEquals(expected, actual, "出力ファイルに圧縮した内容が書き込まれること");
+        Assertions.assertFalse(Files.exists(plainOutputPath), "一時ファイルが削除されていること");
+
+    }
+
 }
@@ -5,6 +5,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,7 +38,7 @@ import kmg.tool.cli.input.presentation.ui.cli.AbstractInputTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.2
+ * @version 0.2.0
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -835,6 +836,9 @@ public class JavadocLineRemoverToolTest extends AbstractKmgTest {
     public void testSpringBootApplicationAnnotation_normalCorrect() {
 
         /* 期待値の定義 */
+        final String[] expectedPackages = {
+            "kmg.core", "kmg.fund", "kmg.tool.base",
+        };
 
         /* 準備 */
         final JavadocLineRemoverTool localTestTarget = new JavadocLineRemoverTool();
@@ -844,7 +848,8 @@ public class JavadocLineRemoverToolTest extends AbstractKmgTest {
         final SpringBootApplication annotation = testClass.getAnnotation(SpringBootApplication.class);
 
         /* 検証の準備 */
-        final boolean actualResult = (annotation != null) && "kmg".equals(annotation.scanBasePackages()[0]);
+        final boolean actualResult
+            = (annotation != null) && Arrays.equals(expectedPackages, annotation.scanBasePackages());
 
         /* 検証の実施 */
         Assertions.assertTrue(actualResult, "SpringBootApplicationアノテーションが正しく設定されていること");
@@ -0,0 +1,316 @@
+package kmg.tool.cli.launcher.application.service.impl;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationContext;
+
+import kmg.core.infrastructure.model.impl.KmgReflectionModelImpl;
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.tool.cli.acccrt.presentation.ul.cli.AccessorCreationTool;
+import kmg.tool.cli.launcher.domain.model.impl.ToolJobModelImpl;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+import kmg.tool.cli.jdocr.presentation.ui.cli.JavadocLineRemoverTool;
+import kmg.tool.cli.mptf.presentation.ui.cli.MapTransformTool;
+import kmg.tool.cli.simple.presentation.ui.cli.SimpleOne2OneTool;
+
+/**
+ * ツール振り分けサービスのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class ToolDispatchServiceImplTest extends AbstractKmgTest {
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.0
+     */
+    private ToolDispatchServiceImpl testTarget;
+
+    /**
+     * モックアプリケーションコンテキスト
+     *
+     * @since 0.2.0
+     */
+    private ApplicationContext mockApplicationContext;
+
+    /**
+     * セットアップ
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        this.testTarget = new ToolDispatchServiceImpl();
+        this.mockApplicationContext = Mockito.mock(ApplicationContext.class);
+
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        reflectionModel.set("applicationContext", this.mockApplicationContext);
+
+    }
+
+    /**
+     * dispatch メソッドのテスト - 正常系：2入力1出力ツールを初期化してから実行する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testDispatch_normalTwo2OneTool() {
+
+        /* 期待値の定義 */
+        final boolean expected = true;
+
+        /* 準備 */
+        final AccessorCreationTool mockTool = Mockito.mock(AccessorCreationTool.class);
+        Mockito.when(this.mockApplicationContext.getBean(AccessorCreationTool.class)).thenReturn(mockTool);
+        Mockito.when(mockTool.initialize()).thenReturn(true);
+        Mockito.when(mockTool.execute()).thenReturn(true);
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.dispatch(KmgToolCliCmdTypes.ACCCRT);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "実行結果が返されること");
+        final var inOrder = Mockito.inOrder(mockTool);
+        inOrder.verify(mockTool).initialize();
+        inOrder.verify(mockTool).execute();
+
+    }
+
+    /**
+     * dispatch メソッドのテスト - 正常系：1入力1出力ツールを初期化してから実行する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testDispatch_normalOne2OneTool() {
+
+        /* 期待値の定義 */
+        final boolean expected = true;
+
+        /* 準備 */
+        final SimpleOne2OneTool mockTool = Mockito.mock(SimpleOne2OneTool.class);
+        Mockito.when(this.mockApplicationContext.getBean(SimpleOne2OneTool.class)).thenReturn(mockTool);
+        Mockito.when(mockTool.execute()).thenReturn(true);
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.dispatch(KmgToolCliCmdTypes.ONE2ONE);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "実行結果が返されること");
+        Mockito.verify(mockTool).initialize();
+        Mockito.verify(mockTool).execute();
+
+    }
+
+    /**
+     * dispatch メソッドのテスト - 正常系：ジョブで指定されたパスを設定して実行し、実行後に解除する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testDispatch_normalJobWithPaths() {
+
+        /* 期待値の定義 */
+        final boolean expected             = true;
+        final Path    expectedInputPath    = Paths.get("job", "input.txt");
+        final Path    expectedTemplatePath = Paths.get("job", "template.yml");
+        final Path    expectedOutputPath   = Paths.get("job", "output.txt");
+
+        /* 準備 */
+        final AccessorCreationTool mockTool = Mockito.mock(AccessorCreationTool.class);
+        Mockito.when(this.mockApplicationContext.getBean(AccessorCreationTool.class)).thenReturn(mockTool);
+        Mockito.when(mockTool.initialize()).thenReturn(true);
+        Mockito.when(mockTool.execute()).thenReturn(true);
+
+        final ToolJobModelImpl job = new ToolJobModelImpl(KmgToolCliCmdTypes.ACCCRT, expectedInputPath,
+            expectedTemplatePath, expectedOutputPath);
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.dispatch(job);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "実行結果が返されること");
+        final var inOrder = Mockito.inOrder(mockTool);
+        inOrder.verify(mockTool).setSpecifiedInputPath(expectedInputPath);
+        inOrder.verify(mockTool).setSpecifiedOutputPath(expectedOutputPath);
+        inOrder.verify(mockTool).setSpecifiedTemplatePath(expectedTemplatePath);
+        inOrder.verify(mockTool).initialize();
+        inOrder.verify(mockTool).execute();
+        inOrder.verify(mockTool).setSpecifiedInputPath(null);
+        inOrder.verify(mockTool).setSpecifiedOutputPath(null);
+        inOrder.verify(mockTool).setSpecifiedTemplatePath(null);
+
+    }
+
+    /**
+     * dispatch メソッドのテスト - 正常系：入力ツールのジョブで入力ファイルパスのみ設定する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testDispatch_normalInputToolJob() {
+
+        /* 期待値の定義 */
+        final boolean expected          = true;
+        final Path    expectedInputPath = Paths.get("job", "input.txt");
+
+        /* 準備 */
+        final JavadocLineRemoverTool mockTool = Mockito.mock(JavadocLineRemoverTool.class);
+        Mockito.when(this.mockApplicationContext.getBean(JavadocLineRemoverTool.class)).thenReturn(mockTool);
+        Mockito.when(mockTool.execute()).thenReturn(true);
+
+        final ToolJobModelImpl job
+            = new ToolJobModelImpl(KmgToolCliCmdTypes.JDOCR, expectedInputPath, null, Paths.get("ignored"));
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.dispatch(job);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "実行結果が返されること");
+        final var inOrder = Mockito.inOrder(mockTool);
+        inOrder.verify(mockTool).setSpecifiedInputPath(expectedInputPath);
+        inOrder.verify(mockTool).execute();
+        inOrder.verify(mockTool).setSpecifiedInputPath(null);
+
+    }
+
+    /**
+     * dispatch メソッドのテスト - 異常系：実行中に例外が発生してもパスの指定を解除する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testDispatch_errorJobExceptionResetsPaths() {
+
+        /* 期待値の定義 */
+        final Path expectedInputPath = Paths.get("job", "input.txt");
+
+        /* 準備 */
+        final AccessorCreationTool mockTool = Mockito.mock(AccessorCreationTool.class);
+        Mockito.when(this.mockApplicationContext.getBean(AccessorCreationTool.class)).thenReturn(mockTool);
+        Mockito.when(mockTool.execute()).thenThrow(new IllegalStateException("実行時例外"));
+
+        final ToolJobModelImpl job = new ToolJobModelImpl(KmgToolCliCmdTypes.ACCCRT, expectedInputPath, null, null);
+
+        /* テスト対象の実行 */
+        Assertions.assertThrows(IllegalStateException.class, () -> this.testTarget.dispatch(job),
+            "ツールの例外がそのまま送出されること");
+
+        /* 検証の実施 */
+        final var inOrder = Mockito.inOrder(mockTool);
+        inOrder.verify(mockTool).setSpecifiedInputPath(expectedInputPath);
+        inOrder.verify(mockTool).execute();
+        inOrder.verify(mockTool).setSpecifiedInputPath(null);
+
+    }
+
+    /**
+     * dispatch メソッドのテスト - 正常系：初期化が不要なツールを実行する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testDispatch_normalInputTool() {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        final MapTransformTool mockTool = Mockito.mock(MapTransformTool.class);
+        Mockito.when(this.mockApplicationContext.getBean(MapTransformTool.class)).thenReturn(mockTool);
+        Mockito.when(mockTool.execute()).thenReturn(false);
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.dispatch(KmgToolCliCmdTypes.MPTF);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "ツールの実行結果がそのまま返されること");
+        Mockito.verify(mockTool).execute();
+
+    }
+
+    /**
+     * dispatch メソッドのテスト - 準正常系：指定無しの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testDispatch_semiNone() {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.dispatch(KmgToolCliCmdTypes.NONE);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "指定無しの場合、falseが返されること");
+        Mockito.verifyNoInteractions(this.mockApplicationContext);
+
+    }
+
+    /**
+     * dispatch メソッドのテスト - 準正常系：ジョブがnullの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testDispatch_semiNullJob() {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        final ToolJobModelImpl job = null;
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.dispatch(job);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "ジョブがnullの場合、falseが返されること");
+        Mockito.verifyNoInteractions(this.mockApplicationContext);
+
+    }
+
+    /**
+     * dispatch メソッドのテスト - 準正常系：nullの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testDispatch_semiNull() {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.dispatch((KmgToolCliCmdTypes) null);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "nullの場合、falseが返されること");
+        Mockito.verifyNoInteractions(this.mockApplicationContext);
+
+    }
+
+}
@@ -0,0 +1,78 @@
+package kmg.tool.cli.launcher.domain.model.impl;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+
+/**
+ * ツールジョブモデルのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class ToolJobModelImplTest extends AbstractKmgTest {
+
+    /**
+     * コンストラクタ のテスト - 正常系：全てのパスを指定する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testConstructor_normalAllPaths() {
+
+        /* 期待値の定義 */
+        final KmgToolCliCmdTypes expectedCmdType      = KmgToolCliCmdTypes.ACCCRT;
+        final Path               expectedInputPath    = Paths.get("input.txt");
+        final Path               expectedTemplatePath = Paths.get("template.yml");
+        final Path               expectedOutputPath   = Paths.get("output.txt");
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final ToolJobModelImpl testTarget = new ToolJobModelImpl(expectedCmdType, expectedInputPath,
+            expectedTemplatePath, expectedOutputPath);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedCmdType, testTarget.getCmdType(), "サブコマンドの種類が設定されること");
+        Assertions.assertEquals(expectedInputPath, testTarget.getInputPath(), "入力ファイルパスが設定されること");
+        Assertions.assertEquals(expectedTemplatePath, testTarget.getTemplatePath(), "テンプレートファイルパスが設定されること");
+        Assertions.assertEquals(expectedOutputPath, testTarget.getOutputPath(), "出力ファイルパスが設定されること");
+
+    }
+
+    /**
+     * コンストラクタ のテスト - 正常系：サブコマンドの種類のみ指定する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testConstructor_normalCmdTypeOnly() {
+
+        /* 期待値の定義 */
+        final KmgToolCliCmdTypes expectedCmdType = KmgToolCliCmdTypes.MPTF;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final ToolJobModelImpl testTarget = new ToolJobModelImpl(expectedCmdType);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedCmdType, testTarget.getCmdType(), "サブコマンドの種類が設定されること");
+        Assertions.assertNull(testTarget.getInputPath(), "入力ファイルパスはnullであること");
+        Assertions.assertNull(testTarget.getTemplatePath(), "テンプレートファイルパスはnullであること");
+        Assertions.assertNull(testTarget.getOutputPath(), "出力ファイルパスはnullであること");
+
+    }
+
+}
@@ -0,0 +1,230 @@
+package kmg.tool.cli.launcher.infrastructure.types;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.tool.cli.acccrt.presentation.ul.cli.AccessorCreationTool;
+import kmg.tool.cli.mptf.presentation.ui.cli.MapTransformTool;
+
+/**
+ * KMGツールCLIサブコマンドの種類のテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class KmgToolCliCmdTypesTest {
+
+    /**
+     * デフォルトコンストラクタ
+     *
+     * @since 0.2.0
+     */
+    public KmgToolCliCmdTypesTest() {
+
+        // 処理なし
+    }
+
+    /**
+     * getDefault メソッドのテスト - 正常系:デフォルト値の取得
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testGetDefault_normalDefaultValue() {
+
+        /* 期待値の定義 */
+        final KmgToolCliCmdTypes expected = KmgToolCliCmdTypes.NONE;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final KmgToolCliCmdTypes actual = KmgToolCliCmdTypes.getDefault();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "デフォルト値がNONEであること");
+
+    }
+
+    /**
+     * getEnum メソッドのテスト - 正常系:存在するサブコマンドの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testGetEnum_normalExistingKey() {
+
+        /* 期待値の定義 */
+        final KmgToolCliCmdTypes expected = KmgToolCliCmdTypes.MPTF;
+
+        /* 準備 */
+        final String testKey = "mptf";
+
+        /* テスト対象の実行 */
+        final KmgToolCliCmdTypes actual = KmgToolCliCmdTypes.getEnum(testKey);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "サブコマンドに該当する種類が返されること");
+
+    }
+
+    /**
+     * getEnum メソッドのテスト - 準正常系:存在しないサブコマンドの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testGetEnum_semiNonExistingKey() {
+
+        /* 期待値の定義 */
+        final KmgToolCliCmdTypes expected = KmgToolCliCmdTypes.NONE;
+
+        /* 準備 */
+        final String testKey = "unknown";
+
+        /* テスト対象の実行 */
+        final KmgToolCliCmdTypes actual = KmgToolCliCmdTypes.getEnum(testKey);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "存在しないサブコマンドの場合、NONEが返されること");
+
+    }
+
+    /**
+     * getEnum メソッドのテスト - 準正常系:nullの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testGetEnum_semiNullKey() {
+
+        /* 期待値の定義 */
+        final KmgToolCliCmdTypes expected = KmgToolCliCmdTypes.NONE;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final KmgToolCliCmdTypes actual = KmgToolCliCmdTypes.getEnum(null);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "nullの場合、NONEが返されること");
+
+    }
+
+    /**
+     * getInitValue メソッドのテスト - 正常系:初期値の取得
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testGetInitValue_normalInitialValue() {
+
+        /* 期待値の定義 */
+        final KmgToolCliCmdTypes expected = KmgToolCliCmdTypes.NONE;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final KmgToolCliCmdTypes actual = KmgToolCliCmdTypes.getInitValue();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "初期値がNONEであること");
+
+    }
+
+    /**
+     * getToolClass メソッドのテスト - 正常系:ツールクラスの取得
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testGetToolClass_normalToolClass() {
+
+        /* 期待値の定義 */
+        final Class<?> expected = AccessorCreationTool.class;
+
+        /* 準備 */
+        final KmgToolCliCmdTypes testType = KmgToolCliCmdTypes.ACCCRT;
+
+        /* テスト対象の実行 */
+        final Class<?> actual = testType.getToolClass();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "アクセサ作成ツールのクラスが返されること");
+
+    }
+
+    /**
+     * getToolClass メソッドのテスト - 準正常系:指定無しの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testGetToolClass_semiNone() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final KmgToolCliCmdTypes testType = KmgToolCliCmdTypes.NONE;
+
+        /* テスト対象の実行 */
+        final Class<?> actual = testType.getToolClass();
+
+        /* 検証の実施 */
+        Assertions.assertNull(actual, "指定無しの場合、nullが返されること");
+
+    }
+
+    /**
+     * toString メソッドのテスト - 正常系:サブコマンドの取得
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testToString_normalKey() {
+
+        /* 期待値の定義 */
+        final String expected = "mptf";
+
+        /* 準備 */
+        final KmgToolCliCmdTypes testType = KmgToolCliCmdTypes.MPTF;
+
+        /* テスト対象の実行 */
+        final String actual = testType.toString();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "サブコマンドが返されること");
+        Assertions.assertEquals(MapTransformTool.class, testType.getToolClass(), "マッピング変換ツールのクラスであること");
+
+    }
+
+    /**
+     * values メソッドのテスト - 正常系:すべての列挙値を取得
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testValues_normalAllValues() {
+
+        /* 期待値の定義 */
+        final int expectedCount = 11;
+
+        /* 準備 */
+
+        /* テスト対象の実行 */
+        final KmgToolCliCmdTypes[] actualValues = KmgToolCliCmdTypes.values();
+
+        /* 検証の準備 */
+        final int actualCount = actualValues.length;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedCount, actualCount, "列挙値の数が一致しません");
+
+    }
+
+}
@@ -0,0 +1,531 @@
+package kmg.tool.cli.launcher.presentation.ui.cli;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * KMGツールランチャーのネイティブイメージのテスト<br>
+ * <p>
+ * 同じ入力に対して、JVMで実行したランチャーとネイティブイメージのランチャーが、バイト単位で同一のファイルを出力することを検証する。<br>
+ * ネイティブイメージの実行ファイルをシステムプロパティ「{@value #NATIVE_EXECUTABLE_PROPERTY}」に指定した場合のみ実行する。
+ * </p>
+ *
+ * <pre>
+ * mvn -Pnative verify
+ * mvn test -Dtest=KmgToolLauncherNativeImageTest -Dkmg.tool.cli.native.executable=target/kmg-tool
+ * </pre>
+ * <p>
+ * nativeプロファイルでは、ネイティブイメージのビルドの後に、ビルドした実行ファイルを指定して実行する。<br>
+ * mptf、jdts、jdocrはoutput.txtを出力せず、対象のJavaファイルをその場で書き換えるため、書き換えた後の対象ファイルを比較する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+@EnabledIfSystemProperty(named = KmgToolLauncherNativeImageTest.NATIVE_EXECUTABLE_PROPERTY, matches = ".+")
+public class KmgToolLauncherNativeImageTest extends AbstractKmgTest {
+
+    /**
+     * ネイティブイメージの実行ファイルのパスを指定するシステムプロパティ名
+     *
+     * @since 0.2.0
+     */
+    static final String NATIVE_EXECUTABLE_PROPERTY = "kmg.tool.cli.native.executable";
+
+    /**
+     * プロセスの待機時間（秒）
+     *
+     * @since 0.2.0
+     */
+    private static final long PROCESS_TIMEOUT_SECONDS = 120L;
+
+    /**
+     * テンプレートのディレクトリパス
+     *
+     * @since 0.2.0
+     */
+    private static final Path TEMPLATE_DIR_PATH = Paths.get("src/main/resources/tool/io/template");
+
+    /**
+     * 入出力のディレクトリパス（実行時のカレントディレクトリからの相対パス）
+     *
+     * @since 0.2.0
+     */
+    private static final Path IO_DIR_PATH = Paths.get("work/io");
+
+    /**
+     * 出力ファイルパス（実行時のカレントディレクトリからの相対パス）
+     *
+     * @since 0.2.0
+     */
+    private static final Path OUTPUT_PATH = KmgToolLauncherNativeImageTest.IO_DIR_PATH.resolve("output.txt");
+
+    /**
+     * 書き換えの対象ファイルパス（実行時のカレントディレクトリからの相対パス）
+     *
+     * @since 0.2.0
+     */
+    private static final Path TARGET_PATH = Paths.get("work/src/Sample.java");
+
+    /**
+     * 書き換えの対象ディレクトリのプレースホルダ
+     *
+     * @since 0.2.0
+     */
+    private static final String TARGET_DIR_PLACEHOLDER = "${targetDir}";
+
+    /**
+     * 書き換えの対象ファイルのプレースホルダ
+     *
+     * @since 0.2.0
+     */
+    private static final String TARGET_FILE_PLACEHOLDER = "${targetFile}";
+
+    /**
+     * 書き換えの対象ファイルの内容
+     *
+     * @since 0.2.0
+     */
+    private static final String TARGET_CONTENT = """
+        package com.example;
+
+        /**
+         * サンプル
+         */
+        public class oldClassName {
+
+            /**
+             * メソッド
+             */
+            public void oldMethodName() {
+                // oldClassName#oldMethodName
+            }
+        }
+        """;
+
+    /**
+     * アクセサ作成系ツールの入力
+     *
+     * @since 0.2.0
+     */
+    private static final String ACCESSOR_INPUT = """
+        /** フィールドのコメント */
+        private String comment;
+
+        /** フィールド名 */
+        private String field;
+
+        /** フィールドの型 */
+        private String type;
+        """;
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * acccrt のテスト - 正常系：JVMとネイティブイメージで出力が同一の場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testAcccrt_normalSameOutput() throws Exception {
+
+        this.assertSameOutput("acccrt", KmgToolLauncherNativeImageTest.ACCESSOR_INPUT,
+            KmgToolLauncherNativeImageTest.OUTPUT_PATH);
+
+    }
+
+    /**
+     * e2scc のテスト - 正常系：JVMとネイティブイメージで出力が同一の場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testE2scc_normalSameOutput() throws Exception {
+
+        final String input = """
+                /**
+                 * 指定無し
+                 *
+                 * @since 0.1.0
+                 */
+                NONE("指定無し",
+
+                /**
+                 * クラス
+                 *
+                 * @since 0.1.0
+                 */
+                CLASS("クラス",
+            """;
+
+        this.assertSameOutput("e2scc", input, KmgToolLauncherNativeImageTest.OUTPUT_PATH);
+
+    }
+
+    /**
+     * fldcrt のテスト - 正常系：JVMとネイティブイメージで出力が同一の場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testFldcrt_normalSameOutput() throws Exception {
+
+        final String input = """
+            ユーザーID user_id 文字列型
+            ユーザー名 user_name 文字列型
+            年齢 age 整数型
+            作成日時 created_at 日時型
+            更新フラグ update_flag 論理型
+            """;
+
+        this.assertSameOutput("fldcrt", input, KmgToolLauncherNativeImageTest.OUTPUT_PATH);
+
+    }
+
+    /**
+     * ifacccrt のテスト - 正常系：JVMとネイティブイメージで出力が同一の場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testIfacccrt_normalSameOutput() throws Exception {
+
+        this.assertSameOutput("ifacccrt", KmgToolLauncherNativeImageTest.ACCESSOR_INPUT,
+            KmgToolLauncherNativeImageTest.OUTPUT_PATH);
+
+    }
+
+    /**
+     * jdocr のテスト - 正常系：JVMとネイティブイメージで行を削除した後のファイルが同一の場合
+     * <p>
+     * 入力の対象パスは、{@value #TARGET_FILE_PLACEHOLDER}を実行時の対象ファイルに置き換える。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testJdocr_normalSameOutput() throws Exception {
+
+        final String input = """
+            ${targetFile}:9: 警告: コメントがありません
+            """;
+
+        this.assertSameOutput("jdocr", input, KmgToolLauncherNativeImageTest.TARGET_PATH);
+
+    }
+
+    /**
+     * jdts のテスト - 正常系：JVMとネイティブイメージでタグを設定した後のファイルが同一の場合
+     * <p>
+     * 入力の対象パスは、{@value #TARGET_DIR_PLACEHOLDER}を実行時のディレクトリに置き換える。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testJdts_normalSameOutput() throws Exception {
+
+        final String input = """
+            ${targetDir}
+            """;
+
+        this.assertSameOutput("jdts", input, KmgToolLauncherNativeImageTest.TARGET_PATH);
+
+    }
+
+    /**
+     * mptf のテスト - 正常系：JVMとネイティブイメージで変換後のファイルが同一の場合
+     * <p>
+     * 入力の1行目の対象パスは、{@value #TARGET_DIR_PLACEHOLDER}を実行時のディレクトリに置き換える。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testMptf_normalSameOutput() throws Exception {
+
+        final String input = """
+            ${targetDir}
+            oldClassName,newClassName
+            oldMethodName,newMethodName
+            """;
+
+        this.assertSameOutput("mptf", input, KmgToolLauncherNativeImageTest.TARGET_PATH);
+
+    }
+
+    /**
+     * msgtpcrt のテスト - 正常系：JVMとネイティブイメージで出力が同一の場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testMsgtpcrt_normalSameOutput() throws Exception {
+
+        final String input = """
+            KMGTOOL_GEN14000=メッセージの種類が指定されていません。
+            KMGTOOL_GEN14001=項目が指定されていません。
+            KMGTOOL_GEN14002=メッセージの種類定義の形式が正しくありません。行番号：{0}、内容：{1}
+            """;
+
+        this.assertSameOutput("msgtpcrt", input, KmgToolLauncherNativeImageTest.OUTPUT_PATH);
+
+    }
+
+    /**
+     * one2one のテスト - 正常系：JVMとネイティブイメージで出力が同一の場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testOne2one_normalSameOutput() throws Exception {
+
+        final String input = """
+            test input content
+            line2
+            line3
+            """;
+
+        this.assertSameOutput("one2one", input, KmgToolLauncherNativeImageTest.OUTPUT_PATH);
+
+    }
+
+    /**
+     * one2one のテスト - 正常系：パターンに一致したファイルの並列処理で、JVMとネイティブイメージで出力が同一の場合
+     * <p>
+     * ネイティブイメージではワーカーのコンテキストを起動できないため、1スレッドで処理した出力がJVMと同一であることを検証する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testOne2one_normalSameOutputFanOut() throws Exception {
+
+        final String input = """
+            test input content
+            line2
+            line3
+            """;
+
+        this.assertSameOutput("one2one", input, KmgToolLauncherNativeImageTest.IO_DIR_PATH.resolve("out/input.txt"),
+            "--kmg.tool.cli.io.input-glob=work/io/*.txt", "--kmg.tool.cli.io.output-pattern=work/io/out/*.txt",
+            "--kmg.tool.cli.io.parallelism=2");
+
+    }
+
+    /**
+     * two2one のテスト - 正常系：JVMとネイティブイメージで出力が同一の場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testTwo2one_normalSameOutput() throws Exception {
+
+        final String input = """
+            User
+            Product
+            Order
+            """;
+
+        this.assertSameOutput("two2one", input, KmgToolLauncherNativeImageTest.OUTPUT_PATH);
+
+    }
+
+    /**
+     * JVMとネイティブイメージで同じサブコマンドを実行し、出力ファイルがバイト単位で同一であることを検証する。
+     *
+     * @since 0.2.0
+     *
+     * @param subCommand
+     *                   サブコマンド
+     * @param input
+     *                   入力ファイルの内容
+     * @param outputPath
+     *                   比較する出力ファイルパス（実行時のカレントディレクトリからの相対パス）
+     * @param options
+     *                   オプション引数
+     *
+     * @throws Exception
+     *                   例外
+     */
+    private void assertSameOutput(final String subCommand, final String input, final Path outputPath,
+        final String... options) throws Exception {
+
+        /* 準備 */
+        final Path jvmDir    = this.prepareWorkDir("jvm", input);
+        final Path nativeDir = this.prepareWorkDir("native", input);
+
+        final Path         javaPath   = Paths.get(System.getProperty("java.home"), "bin", "java");
+        final List<String> jvmCommand = new ArrayList<>(List.of(javaPath.toString(), "-cp",
+            System.getProperty("java.class.path"), KmgToolLauncher.class.getName(), subCommand));
+        jvmCommand.addAll(List.of(options));
+
+        final Path         nativePath    = Paths
+            .get(System.getProperty(KmgToolLauncherNativeImageTest.NATIVE_EXECUTABLE_PROPERTY)).toAbsolutePath();
+        final List<String> nativeCommand = new ArrayList<>(List.of(nativePath.toString(), subCommand));
+        nativeCommand.addAll(List.of(options));
+
+        /* テスト対象の実行 */
+        KmgToolLauncherNativeImageTest.runProcess(jvmCommand, jvmDir);
+        KmgToolLauncherNativeImageTest.runProcess(nativeCommand, nativeDir);
+
+        /* 検証の準備 */
+        final byte[] expected = Files.readAllBytes(jvmDir.resolve(outputPath));
+        final byte[] actual   = Files.readAllBytes(nativeDir.resolve(outputPath));
+
+        /* 検証の実施 */
+        Assertions.assertTrue(expected.length > 0, String.format("JVMで[%s]の出力があること", subCommand));
+        Assertions.assertArrayEquals(expected, actual,
+            String.format("JVMとネイティブイメージで[%s]の出力が同一であること", subCommand));
+
+    }
+
+    /**
+     * 実行時のカレントディレクトリを準備する。
+     * <p>
+     * 入力ファイル、空の出力ファイル、テンプレート、および書き換えの対象ファイルを配置する。
+     * </p>
+     *
+     * @since 0.2.0
+     *
+     * @param name
+     *              ディレクトリ名
+     * @param input
+     *              入力ファイルの内容
+     *
+     * @return 実行時のカレントディレクトリ
+     *
+     * @throws IOException
+     *                     入出力例外
+     */
+    private Path prepareWorkDir(final String name, final String input) throws IOException {
+
+        final Path result = this.tempDir.resolve(name);
+
+        final Path ioDir = result.resolve(KmgToolLauncherNativeImageTest.IO_DIR_PATH);
+        Files.createDirectories(ioDir);
+
+        /* 書き換えの対象ファイル */
+        final Path targetPath = result.resolve(KmgToolLauncherNativeImageTest.TARGET_PATH);
+        Files.createDirectories(targetPath.getParent());
+        Files.writeString(targetPath, KmgToolLauncherNativeImageTest.TARGET_CONTENT, StandardCharsets.UTF_8);
+
+        /* 入出力ファイル */
+        final String resolvedInput = input
+            .replace(KmgToolLauncherNativeImageTest.TARGET_FILE_PLACEHOLDER, targetPath.toString())
+            .replace(KmgToolLauncherNativeImageTest.TARGET_DIR_PLACEHOLDER, targetPath.getParent().toString());
+        Files.writeString(ioDir.resolve("input.txt"), resolvedInput, StandardCharsets.UTF_8);
+        Files.createFile(result.resolve(KmgToolLauncherNativeImageTest.OUTPUT_PATH));
+
+        /* テンプレート */
+        final Path templateDir = Files.createDirectories(ioDir.resolve("template"));
+
+        try (Stream<Path> templates = Files.list(KmgToolLauncherNativeImageTest.TEMPLATE_DIR_PATH)) {
+
+            for (final Path template : templates.toList()) {
+
+                Files.copy(template, templateDir.resolve(template.getFileName()));
+
+            }
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * プロセスを実行し、正常に終了することを検証する。
+     *
+     * @since 0.2.0
+     *
+     * @param command
+     *                   コマンド
+     * @param workDir
+     *                   実行時のカレントディレクトリ
+     *
+     * @throws Exception
+     *                   例外
+     */
+    private static void runProcess(final List<String> command, final Path workDir) throws Exception {
+
+        final Path logPath = workDir.resolveSibling(workDir.getFileName() + ".log");
+
+        final Process process = new ProcessBuilder(command).directory(workDir.toFile())
+            .redirectErrorStream(true).redirectOutput(logPath.toFile()).start();
+
+        final boolean finished = process.waitFor(KmgToolLauncherNativeImageTest.PROCESS_TIMEOUT_SECONDS,
+            TimeUnit.SECONDS);
+
+        if (!finished) {
+
+            process.destroyForcibly();
+
+        }
+
+        Assertions.assertTrue(finished, String.format("プロセスが終了すること：%s", Files.readString(logPath)));
+        Assertions.assertEquals(0, process.exitValue(),
+            String.format("プロセスが正常終了すること：%s", Files.readString(logPath)));
+
+    }
+
+}
@@ -0,0 +1,291 @@
+package kmg.tool.cli.launcher.presentation.ui.cli;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import kmg.core.infrastructure.model.impl.KmgReflectionModelImpl;
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.launcher.application.service.ToolDispatchService;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+
+/**
+ * KMGツールランチャーのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class KmgToolLauncherTest extends AbstractKmgTest {
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.0
+     */
+    private KmgToolLauncher testTarget;
+
+    /**
+     * モックメッセージソース
+     *
+     * @since 0.2.0
+     */
+    private KmgMessageSource mockMessageSource;
+
+    /**
+     * モックツール振り分けサービス
+     *
+     * @since 0.2.0
+     */
+    private ToolDispatchService mockToolDispatchService;
+
+    /**
+     * セットアップ
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        this.testTarget = new KmgToolLauncher();
+        this.mockMessageSource = Mockito.mock(KmgMessageSource.class);
+        this.mockToolDispatchService = Mockito.mock(ToolDispatchService.class);
+
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        reflectionModel.set("messageSource", this.mockMessageSource);
+        reflectionModel.set("toolDispatchService", this.mockToolDispatchService);
+
+        Mockito.when(this.mockMessageSource.getGenMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("テストメッセージ");
+
+    }
+
+    /**
+     * execute メソッドのテスト - 正常系：複数のサブコマンドを指定順に実行する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testExecute_normalMultipleSubCommands() {
+
+        /* 期待値の定義 */
+        final boolean expected = true;
+
+        /* 準備 */
+        this.testTarget.setSubCommands(new String[] {
+            "fldcrt", "acccrt",
+        });
+        Mockito.when(this.mockToolDispatchService.dispatch(ArgumentMatchers.any(KmgToolCliCmdTypes.class)))
+            .thenReturn(true);
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.execute();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "全てのサブコマンドが成功した場合、trueが返されること");
+        final var inOrder = Mockito.inOrder(this.mockToolDispatchService);
+        inOrder.verify(this.mockToolDispatchService).dispatch(KmgToolCliCmdTypes.FLDCRT);
+        inOrder.verify(this.mockToolDispatchService).dispatch(KmgToolCliCmdTypes.ACCCRT);
+
+    }
+
+    /**
+     * execute メソッドのテスト - 準正常系：サブコマンドが指定されていない場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testExecute_semiNoSubCommand() {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        this.testTarget.setSubCommands(new String[] {});
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.execute();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "サブコマンドが無い場合、falseが返されること");
+        Mockito.verifyNoInteractions(this.mockToolDispatchService);
+
+    }
+
+    /**
+     * execute メソッドのテスト - 準正常系：不正なサブコマンドが含まれる場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testExecute_semiUnknownSubCommand() {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        this.testTarget.setSubCommands(new String[] {
+            "acccrt", "unknown",
+        });
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.execute();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "不正なサブコマンドがある場合、falseが返されること");
+        Mockito.verifyNoInteractions(this.mockToolDispatchService);
+
+    }
+
+    /**
+     * execute メソッドのテスト - 準正常系：途中のサブコマンドが失敗した場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testExecute_semiDispatchFailure() {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        this.testTarget.setSubCommands(new String[] {
+            "fldcrt", "acccrt",
+        });
+        Mockito.when(this.mockToolDispatchService.dispatch(KmgToolCliCmdTypes.FLDCRT)).thenReturn(false);
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.execute();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "失敗したサブコマンドがある場合、falseが返されること");
+        Mockito.verify(this.mockToolDispatchService, Mockito.never()).dispatch(KmgToolCliCmdTypes.ACCCRT);
+
+    }
+
+    /**
+     * execute メソッドのテスト - 異常系：サブコマンドの実行中に例外が発生した場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testExecute_errorDispatchException() {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        this.testTarget.setSubCommands(new String[] {
+            "mptf",
+        });
+        Mockito.when(this.mockToolDispatchService.dispatch(KmgToolCliCmdTypes.MPTF))
+            .thenThrow(new RuntimeException("テスト例外"));
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.execute();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "例外が発生した場合、falseが返されること");
+
+    }
+
+    /**
+     * main メソッドのテスト - 正常系：メインメソッドが正常に実行される場合
+     *
+     * @since 0.2.0
+     */
+    @SuppressWarnings("resource")
+    @Test
+    public void testMain_normalSuccess() {
+
+        /* 期待値の定義 */
+        final String[] testArgs = {
+            "jdocr",
+        };
+
+        /* 準備 */
+        try (final MockedStatic<SpringApplication> mockedSpringApplication
+            = Mockito.mockStatic(SpringApplication.class)) {
+
+            final ConfigurableApplicationContext mockContext  = Mockito.mock(ConfigurableApplicationContext.class);
+            final KmgToolLauncher                mockLauncher = Mockito.mock(KmgToolLauncher.class);
+
+            mockedSpringApplication.when(() -> SpringApplication.run(KmgToolLauncher.class, testArgs))
+                .thenReturn(mockContext);
+            Mockito.when(mockContext.getBean(KmgToolLauncher.class)).thenReturn(mockLauncher);
+
+            /* テスト対象の実行 */
+            KmgToolLauncher.main(testArgs);
+
+            /* 検証の実施 */
+            Mockito.verify(mockLauncher).run(testArgs);
+            Mockito.verify(mockContext).close();
+
+        }
+
+    }
+
+    /**
+     * setSubCommands メソッドのテスト - 正常系：オプションを除外してサブコマンドを設定する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testSetSubCommands_normalExcludeOptions() {
+
+        /* 期待値の定義 */
+        final List<String> expected = List.of("fldcrt", "acccrt");
+
+        /* 準備 */
+        final String[] testArgs = {
+            "--spring.main.banner-mode=off", "fldcrt", " ", "acccrt",
+        };
+
+        /* テスト対象の実行 */
+        this.testTarget.setSubCommands(testArgs);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, this.testTarget.getSubCommands(), "オプションと空白を除いたサブコマンドが設定されること");
+
+    }
+
+    /**
+     * setSubCommands メソッドのテスト - 準正常系：引数がnullの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testSetSubCommands_semiNullArgs() {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        this.testTarget.setSubCommands(new String[] {
+            "fldcrt",
+        });
+
+        /* テスト対象の実行 */
+        this.testTarget.setSubCommands(null);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(this.testTarget.getSubCommands().isEmpty(), "サブコマンドが空になること");
+
+    }
+
+}
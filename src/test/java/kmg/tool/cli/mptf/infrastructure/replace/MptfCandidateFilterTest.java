@@ -0,0 +1,195 @@
+package kmg.tool.cli.mptf.infrastructure.replace;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * 対象ファイルの候補の絞り込みのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class MptfCandidateFilterTest extends AbstractKmgTest {
+
+    /**
+     * mayContain メソッドのテスト - 正常系：置換対象を含むかで判定する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testMayContain_normalContainsKey() {
+
+        /* 準備 */
+        final Map<String, String> mapping = new LinkedHashMap<>();
+        mapping.put("OldName", "NewName");
+        mapping.put("日本語名", "にほんごめい");
+
+        final MptfCandidateFilter testTarget = new MptfCandidateFilter(new MptfMultiPatternReplacer(mapping));
+
+        /* テスト対象の実行 */
+        final boolean actualAscii    = testTarget.mayContain(MptfCandidateFilterTest.toBytes("class OldName {}"));
+        final boolean actualJapanese = testTarget.mayContain(MptfCandidateFilterTest.toBytes("// 日本語名のコメント"));
+        final boolean actualNone     = testTarget.mayContain(MptfCandidateFilterTest.toBytes("class Other { int x; }"));
+
+        /* 検証の実施 */
+        Assertions.assertFalse(testTarget.isAcceptAll(), "絞り込むこと");
+        Assertions.assertTrue(actualAscii, "置換対象を含むバイト列は候補とすること");
+        Assertions.assertTrue(actualJapanese, "多バイト文字の置換対象を含むバイト列は候補とすること");
+        Assertions.assertFalse(actualNone, "置換対象を含まないバイト列は除くこと");
+
+    }
+
+    /**
+     * mayContain メソッドのテスト - 正常系：1バイトの置換対象の場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testMayContain_normalSingleByteKey() {
+
+        /* 準備 */
+        final MptfCandidateFilter testTarget
+            = new MptfCandidateFilter(new MptfMultiPatternReplacer(Map.of("$", "#", "LongKey", "Value")));
+
+        /* テスト対象の実行 */
+        final boolean actualSingle = testTarget.mayContain(MptfCandidateFilterTest.toBytes("$"));
+        final boolean actualNone   = testTarget.mayContain(MptfCandidateFilterTest.toBytes("class Other {}"));
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualSingle, "1バイトの置換対象を含むバイト列は候補とすること");
+        Assertions.assertFalse(actualNone, "置換対象を含まないバイト列は除くこと");
+
+    }
+
+    /**
+     * mayContain メソッドのテスト - 正常系：ランダムな置換対象と文字列の場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testMayContain_normalNoFalseNegative() {
+
+        /* 準備 */
+        final Random random = new Random(20_261_020L);
+        final String chars  = "abAB語 ";
+        int          skip   = 0;
+
+        for (int trial = 0; trial < 2_000; trial++) {
+
+            final Map<String, String> mapping = new LinkedHashMap<>();
+
+            for (int i = 0; i < 3; i++) {
+
+                mapping.put(MptfCandidateFilterTest.randomText(random, chars, 2 + random.nextInt(3)), "x");
+
+            }
+
+            final String              text       = MptfCandidateFilterTest.randomText(random, chars, 12);
+            final MptfCandidateFilter testTarget = new MptfCandidateFilter(new MptfMultiPatternReplacer(mapping));
+
+            /* テスト対象の実行 */
+            final boolean actual = testTarget.mayContain(MptfCandidateFilterTest.toBytes(text));
+
+            /* 検証の実施 */
+            final boolean expected = mapping.keySet().stream().anyMatch(text::contains);
+
+            if (expected) {
+
+                Assertions.assertTrue(actual, "置換対象を含む文字列を除かないこと。マッピング：" + mapping + "、文字列：" + text);
+
+            }
+
+            if (!actual) {
+
+                skip++;
+
+            }
+
+        }
+
+        Assertions.assertTrue(skip > 0, "置換対象を含まない文字列を除くこと");
+
+    }
+
+    /**
+     * isAcceptAll メソッドのテスト - 正常系：バイト列で判定できない置換対象がある場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testIsAcceptAll_normalUnencodableKey() {
+
+        /* 準備 */
+        final MptfCandidateFilter replacementChar
+            = new MptfCandidateFilter(new MptfMultiPatternReplacer(Map.of("a\uFFFDb", "x")));
+        final MptfCandidateFilter loneSurrogate
+            = new MptfCandidateFilter(new MptfMultiPatternReplacer(Map.of("a\uD800b", "x")));
+
+        /* 検証の実施 */
+        Assertions.assertTrue(replacementChar.isAcceptAll(), "置換文字を含む置換対象がある場合は、全てを候補とすること");
+        Assertions.assertTrue(loneSurrogate.isAcceptAll(), "対になっていないサロゲートを含む置換対象がある場合は、全てを候補とすること");
+        Assertions.assertTrue(loneSurrogate.mayContain(MptfCandidateFilterTest.toBytes("class Other {}")),
+            "全てのバイト列を候補とすること");
+
+    }
+
+    /**
+     * 文字列をUTF-8のバイト列にする。
+     *
+     * @since 0.2.0
+     *
+     * @param text
+     *             文字列
+     *
+     * @return バイト列
+     */
+    private static ByteBuffer toBytes(final String text) {
+
+        final ByteBuffer result = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        return result;
+
+    }
+
+    /**
+     * 指定した文字からランダムな文字列を作成する。
+     *
+     * @since 0.2.0
+     *
+     * @param random
+     *               乱数
+     * @param chars
+     *               使用する文字
+     * @param length
+     *               文字列の長さ
+     *
+     * @return ランダムな文字列
+     */
+    private static String randomText(final Random random, final String chars, final int length) {
+
+        final StringBuilder result = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+
+            result.append(chars.charAt(random.nextInt(chars.length())));
+
+        }
+
+        return result.toString();
+
+    }
+
+}
@@ -0,0 +1,302 @@
+package kmg.tool.cli.mptf.infrastructure.replace;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * 対象ファイルの置換処理のテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class MptfFileTransformerTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * transform メソッドのテスト - 正常系：ディレクトリを対象とする場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testTransform_normalDirectory() throws Exception {
+
+        /* 期待値の定義 */
+        final long expectedCount = 3;
+
+        /* 準備 */
+        final Path sub = Files.createDirectories(this.tempDir.resolve("sub"));
+        Files.writeString(this.tempDir.resolve("A.java"), "class OldName { OldName x; }", StandardCharsets.UTF_8);
+        Files.writeString(sub.resolve("B.java"), "class Other { OldName y; }", StandardCharsets.UTF_8);
+        Files.writeString(sub.resolve("C.java"), "class Unchanged {}", StandardCharsets.UTF_8);
+        Files.writeString(this.tempDir.resolve("note.txt"), "OldName", StandardCharsets.UTF_8);
+
+        final MptfFileTransformer testTarget
+            = new MptfFileTransformer(new MptfMultiPatternReplacer(Map.of("OldName", "NewName")), 2);
+
+        /* テスト対象の実行 */
+        final long actualCount = testTarget.transform(this.tempDir);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedCount, actualCount, "全てのJavaファイルの置換した数を返すこと");
+        Assertions.assertEquals("class NewName { NewName x; }",
+            Files.readString(this.tempDir.resolve("A.java"), StandardCharsets.UTF_8), "Javaファイルを置換すること");
+        Assertions.assertEquals("OldName", Files.readString(this.tempDir.resolve("note.txt"), StandardCharsets.UTF_8),
+            "Javaファイル以外は置換しないこと");
+        Assertions.assertEquals(3, testTarget.getFileCount(), "Javaファイルだけを処理すること");
+        Assertions.assertEquals(2, testTarget.getChangedFileCount(), "置換したファイルだけを書き込むこと");
+
+    }
+
+    /**
+     * transform メソッドのテスト - 正常系：多数のファイルを並列に処理する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testTransform_normalParallelCountIntegrity() throws Exception {
+
+        /* 準備 */
+        long expectedCount = 0;
+
+        for (int dir = 0; dir < 8; dir++) {
+
+            final Path sub = Files.createDirectories(this.tempDir.resolve("d" + dir).resolve("nested"));
+
+            for (int file = 0; file < 25; file++) {
+
+                final int occurrences = (dir + file) % 4;
+                Files.writeString(sub.resolve("F" + file + ".java"), "OldName ".repeat(occurrences),
+                    StandardCharsets.UTF_8);
+                expectedCount += occurrences;
+
+            }
+
+        }
+
+        final MptfFileTransformer testTarget
+            = new MptfFileTransformer(new MptfMultiPatternReplacer(Map.of("OldName", "NewName")), 4);
+
+        /* テスト対象の実行 */
+        final long actualCount = testTarget.transform(this.tempDir);
+
+        /* 検証の準備 */
+        final long secondCount = new MptfFileTransformer(new MptfMultiPatternReplacer(Map.of("OldName", "NewName")), 4)
+            .transform(this.tempDir);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedCount, actualCount, "ファイルごとの置換した数の合計を返すこと");
+        Assertions.assertEquals(200, testTarget.getFileCount(), "全てのJavaファイルを処理すること");
+        Assertions.assertEquals(150, testTarget.getChangedFileCount(), "置換したファイルだけを書き込むこと");
+        Assertions.assertEquals(4, testTarget.getParallelism(), "指定した並列数であること");
+        Assertions.assertEquals(0, secondCount, "全ての置換対象を置換済みであること");
+
+    }
+
+    /**
+     * transform メソッドのテスト - 正常系：ファイルを対象とする場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testTransform_normalSingleFile() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "NewName.txt";
+
+        /* 準備 */
+        final Path file = this.tempDir.resolve("note.txt");
+        Files.writeString(file, "OldName.txt", StandardCharsets.UTF_8);
+
+        final MptfFileTransformer testTarget
+            = new MptfFileTransformer(new MptfMultiPatternReplacer(Map.of("OldName", "NewName")), 0);
+
+        /* テスト対象の実行 */
+        final long actualCount = testTarget.transform(file);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(1, actualCount, "置換した数を返すこと");
+        Assertions.assertEquals(expected, Files.readString(file, StandardCharsets.UTF_8), "拡張子に関わらず指定したファイルを置換すること");
+        Assertions.assertEquals(Runtime.getRuntime().availableProcessors(), testTarget.getParallelism(),
+            "並列数に0を指定した場合は、CPUのコア数であること");
+
+    }
+
+    /**
+     * transform メソッドのテスト - 正常系：ドライランの場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testTransform_normalDryRun() throws Exception {
+
+        /* 期待値の定義 */
+        final long expectedCount = 4;
+
+        /* 準備 */
+        final Path sub   = Files.createDirectories(this.tempDir.resolve("sub"));
+        final Path fileA = this.tempDir.resolve("A.java");
+        final Path fileB = sub.resolve("B.java");
+        Files.writeString(fileA, "class OldName { OldName x; OldType y; }", StandardCharsets.UTF_8);
+        Files.writeString(fileB, "class 日本語 { OldName z; }", StandardCharsets.UTF_8);
+        Files.writeString(sub.resolve("C.java"), "class Unchanged {}", StandardCharsets.UTF_8);
+
+        final Map<String, String> mapping = new LinkedHashMap<>();
+        mapping.put("OldName", "NewName");
+        mapping.put("OldType", "NewType");
+        mapping.put("Missing", "Found");
+
+        final MptfFileTransformer testTarget
+            = new MptfFileTransformer(new MptfMultiPatternReplacer(mapping), 2, true, false);
+
+        /* テスト対象の実行 */
+        final long actualCount = testTarget.transform(this.tempDir);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedCount, actualCount, "全ての出現数を返すこと");
+        Assertions.assertEquals(3, testTarget.getKeyHitCount(0), "対象値ごとの出現数を数えること");
+        Assertions.assertEquals(1, testTarget.getKeyHitCount(1), "対象値ごとの出現数を数えること");
+        Assertions.assertEquals(0, testTarget.getKeyHitCount(2), "出現しない対象値は0であること");
+        Assertions.assertEquals(Map.of(fileA, 3L, fileB, 1L), testTarget.getFileHitCounts(),
+            "出現した対象ファイルごとの出現数を返すこと");
+        Assertions.assertEquals(3, testTarget.getFileCount(), "全てのJavaファイルを走査すること");
+        Assertions.assertEquals(0, testTarget.getChangedFileCount(), "対象ファイルを書き込まないこと");
+        Assertions.assertEquals("class OldName { OldName x; OldType y; }",
+            Files.readString(fileA, StandardCharsets.UTF_8), "対象ファイルを変更しないこと");
+
+    }
+
+    /**
+     * transform メソッドのテスト - 正常系：ドライランで2段階置換方式の出現数を数える場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testTransform_normalDryRunTwoStage() throws Exception {
+
+        /* 期待値の定義 */
+        final long expectedCount = 3;
+
+        /* 準備 */
+        final Path file = this.tempDir.resolve("A.java");
+        Files.writeString(file, "XYY XY X", StandardCharsets.UTF_8);
+
+        final Map<String, String> mapping = new LinkedHashMap<>();
+        mapping.put("X", "A");
+        mapping.put("XY", "B");
+
+        final MptfFileTransformer testTarget
+            = new MptfFileTransformer(new MptfMultiPatternReplacer(mapping), 1, true, true, true);
+
+        /* テスト対象の実行 */
+        final long actualCount = testTarget.transform(this.tempDir);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedCount, actualCount, "2段階置換方式の出現数を返すこと");
+        Assertions.assertEquals(3, testTarget.getKeyHitCount(0), "前のマッピングの対象値が先に置換されること");
+        Assertions.assertEquals(0, testTarget.getKeyHitCount(1), "置換された後の対象値は出現しないこと");
+        Assertions.assertEquals("XYY XY X", Files.readString(file, StandardCharsets.UTF_8), "対象ファイルを変更しないこと");
+
+    }
+
+    /**
+     * transform メソッドのテスト - 正常系：候補の絞り込みで対象ファイルを除く場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testTransform_normalPrefilter() throws Exception {
+
+        /* 期待値の定義 */
+        final long expectedCount = 10;
+
+        /* 準備 */
+        for (int i = 0; i < 50; i++) {
+
+            final String content = (i % 5) == 0 ? "class C" + i + " { OldName x; }" : "class C" + i + " { int x; }";
+            Files.writeString(this.tempDir.resolve("C" + i + ".java"), content, StandardCharsets.UTF_8);
+
+        }
+
+        final Map<String, String> mapping = Map.of("OldName", "NewName", "Missing", "Found");
+
+        final MptfFileTransformer dryRun
+            = new MptfFileTransformer(new MptfMultiPatternReplacer(mapping), 2, true, true);
+        final MptfFileTransformer testTarget
+            = new MptfFileTransformer(new MptfMultiPatternReplacer(mapping), 2, false, true);
+
+        /* テスト対象の実行 */
+        final long dryRunCount = dryRun.transform(this.tempDir);
+        final long actualCount = testTarget.transform(this.tempDir);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedCount, dryRunCount, "ドライランで全ての出現数を返すこと");
+        Assertions.assertEquals(40, dryRun.getSkippedFileCount(), "ドライランで置換対象を含まないファイルを除くこと");
+        Assertions.assertEquals(expectedCount, actualCount, "全ての置換した数を返すこと");
+        Assertions.assertEquals(40, testTarget.getSkippedFileCount(), "置換対象を含まないファイルを除くこと");
+        Assertions.assertEquals(50, testTarget.getFileCount(), "除いたファイルを含めて数えること");
+        Assertions.assertEquals(10, testTarget.getChangedFileCount(), "置換したファイルだけを書き込むこと");
+        Assertions.assertEquals("class C0 { NewName x; }",
+            Files.readString(this.tempDir.resolve("C0.java"), StandardCharsets.UTF_8), "候補のファイルを置換すること");
+
+    }
+
+    /**
+     * transform メソッドのテスト - 異常系：対象パスが存在しない場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testTransform_errorNotExists() {
+
+        /* 準備 */
+        final MptfFileTransformer testTarget
+            = new MptfFileTransformer(new MptfMultiPatternReplacer(Map.of("OldName", "NewName")), 2);
+
+        /* 検証の実施 */
+        Assertions.assertThrows(IOException.class, () -> testTarget.transform(this.tempDir.resolve("missing")),
+            "ディレクトリの検索に失敗した場合は、IOExceptionを投げること");
+
+    }
+
+}
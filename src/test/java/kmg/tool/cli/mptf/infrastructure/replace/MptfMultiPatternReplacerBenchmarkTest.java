@@ -0,0 +1,134 @@
+package kmg.tool.cli.mptf.infrastructure.replace;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * 複数パターンの置換処理のベンチマーク
+ * <p>
+ * 10件、1000件、10万件のマッピングで、約1MBのJavaソースに相当する文字列を、オートマトンで1回走査して置換した時間と、マッピングごとに順に置換した時間を比較する。
+ * 既定のテストでは実行せず、「mvn -Pbenchmark test」で実行する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@Tag("benchmark")
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class MptfMultiPatternReplacerBenchmarkTest extends AbstractKmgTest {
+
+    /**
+     * 文字列の行数
+     *
+     * @since 0.2.0
+     */
+    private static final int LINE_COUNT = 20_000;
+
+    /**
+     * replace メソッドのベンチマーク - 正常系：10件のマッピングの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testReplace_normalTenMappings() {
+
+        MptfMultiPatternReplacerBenchmarkTest.measure(10);
+
+    }
+
+    /**
+     * replace メソッドのベンチマーク - 正常系：1000件のマッピングの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testReplace_normalThousandMappings() {
+
+        MptfMultiPatternReplacerBenchmarkTest.measure(1_000);
+
+    }
+
+    /**
+     * replace メソッドのベンチマーク - 正常系：10万件のマッピングの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testReplace_normalHundredThousandMappings() {
+
+        MptfMultiPatternReplacerBenchmarkTest.measure(100_000);
+
+    }
+
+    /**
+     * マッピングの件数を指定して、置換の時間を計測し、結果を比較する。
+     *
+     * @since 0.2.0
+     *
+     * @param mappingCount
+     *                     マッピングの件数
+     */
+    private static void measure(final int mappingCount) {
+
+        /* 準備 */
+        final Map<String, String> mapping = new LinkedHashMap<>();
+
+        for (int i = 0; i < mappingCount; i++) {
+
+            mapping.put("OldType" + i + "Name", "NewType" + i + "Name");
+
+        }
+
+        final StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < MptfMultiPatternReplacerBenchmarkTest.LINE_COUNT; i++) {
+
+            text.append("    private OldType").append(i % mappingCount).append("Name field").append(i)
+                .append(" = new Object();\n");
+
+        }
+
+        final String content = text.toString();
+
+        /* テスト対象の実行 */
+        final long baselineStart = System.nanoTime();
+        String     baseline      = content;
+
+        for (final Map.Entry<String, String> entry : mapping.entrySet()) {
+
+            baseline = baseline.replace(entry.getKey(), entry.getValue());
+
+        }
+
+        final long baselineNanos = System.nanoTime() - baselineStart;
+
+        final long                     buildStart = System.nanoTime();
+        final MptfMultiPatternReplacer testTarget = new MptfMultiPatternReplacer(mapping);
+        final long                     buildNanos = System.nanoTime() - buildStart;
+
+        final long          scanStart   = System.nanoTime();
+        final StringBuilder actual      = new StringBuilder(content.length());
+        final long          actualCount = testTarget.replace(content, actual);
+        final long          scanNanos   = System.nanoTime() - scanStart;
+
+        System.out.printf("mappings=%d, chars=%d, replace=%dms, build=%dms, scan=%dms%n", mappingCount,
+            content.length(), baselineNanos / 1_000_000, buildNanos / 1_000_000, scanNanos / 1_000_000);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(MptfMultiPatternReplacerBenchmarkTest.LINE_COUNT, actualCount, "全ての置換対象を置換すること");
+        Assertions.assertEquals(baseline, actual.toString(), "マッピングごとに順に置換した結果と一致すること");
+
+    }
+
+}
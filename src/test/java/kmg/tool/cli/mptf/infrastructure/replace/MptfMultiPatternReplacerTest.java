@@ -0,0 +1,350 @@
+package kmg.tool.cli.mptf.infrastructure.replace;
+
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * 複数パターンの置換処理のテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class MptfMultiPatternReplacerTest extends AbstractKmgTest {
+
+    /**
+     * replace メソッドのテスト - 正常系：置換値が他のマッピングの置換対象を含む場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testReplace_normalNoCascade() {
+
+        /* 期待値の定義 */
+        final String expected      = "newName anotherName";
+        final long   expectedCount = 2;
+
+        /* 準備 */
+        final Map<String, String> mapping = new LinkedHashMap<>();
+        mapping.put("oldName", "newName");
+        mapping.put("newName", "anotherName");
+
+        final MptfMultiPatternReplacer testTarget = new MptfMultiPatternReplacer(mapping);
+
+        /* テスト対象の実行 */
+        final StringBuilder actual      = new StringBuilder();
+        final long          actualCount = testTarget.replace("oldName newName", actual);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual.toString(), "置換した値を続けて置換しないこと");
+        Assertions.assertEquals(expectedCount, actualCount, "置換した数を返すこと");
+
+    }
+
+    /**
+     * replace メソッドのテスト - 正常系：置換対象が重なる場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testReplace_normalLeftmostLongest() {
+
+        /* 期待値の定義 */
+        final String expected = "[FooBar]Baz [Foo] [abcd] [bc] [abc]de";
+
+        /* 準備 */
+        final Map<String, String> mapping = new LinkedHashMap<>();
+
+        for (final String key : new String[] {
+            "Foo", "FooBar", "Bar", "bc", "abcd", "abc", "bcde",
+        }) {
+
+            mapping.put(key, "[" + key + "]");
+
+        }
+
+        final MptfMultiPatternReplacer testTarget = new MptfMultiPatternReplacer(mapping);
+
+        /* テスト対象の実行 */
+        final StringBuilder actual = new StringBuilder();
+        testTarget.replace("FooBarBaz Foo abcd bc abcde", actual);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual.toString(), "最も左から始まり、同じ位置では最も長い置換対象を置換すること");
+
+    }
+
+    /**
+     * replace メソッドのテスト - 正常系：置換対象が他の置換対象を先頭に含む場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testReplace_normalKeyPrefixOfLongerKey() {
+
+        /* 期待値の定義 */
+        final String expected      = "XY; Z; XYBa";
+        final long   expectedCount = 5;
+
+        /* 準備 */
+        final Map<String, String> mapping = new LinkedHashMap<>();
+        mapping.put("Foo", "X");
+        mapping.put("Bar", "Y");
+        mapping.put("FooBarBaz", "Z");
+
+        final MptfMultiPatternReplacer testTarget = new MptfMultiPatternReplacer(mapping);
+
+        /* テスト対象の実行 */
+        final StringBuilder actual      = new StringBuilder();
+        final long          actualCount = testTarget.replace("FooBar; FooBarBaz; FooBarBa", actual);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual.toString(), "長い置換対象の途中で見つかった置換対象を取りこぼさないこと");
+        Assertions.assertEquals(expectedCount, actualCount, "置換した数を返すこと");
+
+    }
+
+    /**
+     * replace メソッドのテスト - 正常系：置換対象が他の置換対象を途中に含む場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testReplace_normalKeyInfixOfLongerKey() {
+
+        /* 期待値の定義 */
+        final String expected = "XYY Z xbYX";
+
+        /* 準備 */
+        final Map<String, String> mapping = new LinkedHashMap<>();
+        mapping.put("ab", "X");
+        mapping.put("cd", "Y");
+        mapping.put("abcdQ", "Z");
+        mapping.put("bcdE", "W");
+
+        final MptfMultiPatternReplacer testTarget = new MptfMultiPatternReplacer(mapping);
+
+        /* テスト対象の実行 */
+        final StringBuilder actual = new StringBuilder();
+        testTarget.replace("abcdcd abcdQ xbcdab", actual);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual.toString(), "長い置換対象の途中で見つかった置換対象を取りこぼさないこと");
+
+    }
+
+    /**
+     * replace メソッドのテスト - 正常系：ランダムな置換対象と文字列の場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testReplace_normalSameAsNaiveScan() {
+
+        /* 準備 */
+        final Random random = new Random(20_260_101L);
+
+        for (int trial = 0; trial < 2_000; trial++) {
+
+            final Map<String, String> mapping = new LinkedHashMap<>();
+
+            for (int i = 0; i < 8; i++) {
+
+                // 他の置換対象を先頭や途中に含む、長い置換対象も作成する
+                mapping.put(MptfMultiPatternReplacerTest.randomText(random, 1 + random.nextInt(8)), "<" + i + ">");
+
+            }
+
+            final String text = MptfMultiPatternReplacerTest.randomText(random, 60);
+
+            final MptfMultiPatternReplacer testTarget = new MptfMultiPatternReplacer(mapping);
+
+            /* テスト対象の実行 */
+            final StringBuilder actual = new StringBuilder();
+            testTarget.replace(text, actual);
+
+            /* 検証の実施 */
+            Assertions.assertEquals(MptfMultiPatternReplacerTest.replaceByNaiveScan(mapping, text), actual.toString(),
+                "位置ごとに最も長い置換対象を探して置換した結果と一致すること。文字列：" + text);
+
+        }
+
+    }
+
+    /**
+     * count メソッドのテスト - 正常系：置換した場合と同じ出現を数える場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testCount_normalSameAsReplace() {
+
+        /* 期待値の定義 */
+        final long[] expectedKeyCounts = {
+            1, 1, 0, 0, 1, 0, 0,
+        };
+
+        /* 準備 */
+        final Map<String, String> mapping = new LinkedHashMap<>();
+
+        for (final String key : new String[] {
+            "Foo", "FooBar", "Bar", "bc", "abcd", "abc", "bcde",
+        }) {
+
+            mapping.put(key, "[" + key + "]");
+
+        }
+
+        final MptfMultiPatternReplacer testTarget = new MptfMultiPatternReplacer(mapping);
+        final String                   text       = "FooBarBaz Foo abcd";
+
+        /* テスト対象の実行 */
+        final long[] actualKeyCounts = new long[testTarget.getKeyCount()];
+        final long   actualCount     = testTarget.count(text, actualKeyCounts);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(testTarget.replace(text, new StringBuilder()), actualCount, "置換した数と一致すること");
+        Assertions.assertArrayEquals(expectedKeyCounts, actualKeyCounts, "置換対象ごとの出現数を数えること");
+        Assertions.assertEquals("FooBar", testTarget.getKey(1), "置換対象の番号の置換対象を返すこと");
+        Assertions.assertEquals("[FooBar]", testTarget.getReplacement(1), "置換対象の番号の置換値を返すこと");
+
+    }
+
+    /**
+     * count メソッドのテスト - 正常系：読み込みながら数える場合に、走査の区切りをまたぐ出現を数える場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testCount_normalReaderSameAsText() throws Exception {
+
+        /* 準備 */
+        final Random random = new Random(20_261_018L);
+
+        for (int trial = 0; trial < 5; trial++) {
+
+            final Map<String, String> mapping = new LinkedHashMap<>();
+
+            for (int i = 0; i < 20; i++) {
+
+                final String key = MptfMultiPatternReplacerTest.randomText(random, 1 + random.nextInt(8));
+                mapping.put(key, "[" + key + "]");
+
+            }
+
+            final MptfMultiPatternReplacer testTarget = new MptfMultiPatternReplacer(mapping);
+            final String                   text       = MptfMultiPatternReplacerTest.randomText(random, 300_000);
+
+            final long[] expectedKeyCounts = new long[testTarget.getKeyCount()];
+            final long   expectedCount     = testTarget.count(text, expectedKeyCounts);
+
+            /* テスト対象の実行 */
+            final long[] actualKeyCounts = new long[testTarget.getKeyCount()];
+            final long   actualCount;
+
+            try (final StringReader reader = new StringReader(text)) {
+
+                actualCount = testTarget.count(reader, actualKeyCounts);
+
+            }
+
+            /* 検証の実施 */
+            Assertions.assertEquals(expectedCount, actualCount, "文字列の全体を数えた場合と一致すること：" + mapping.keySet());
+            Assertions.assertArrayEquals(expectedKeyCounts, actualKeyCounts,
+                "置換対象ごとの出現数が文字列の全体を数えた場合と一致すること：" + mapping.keySet());
+
+        }
+
+    }
+
+    /**
+     * ランダムな文字列を作成する。 置換対象が重なりやすいように、3種類の文字を使用する。
+     *
+     * @since 0.2.0
+     *
+     * @param random
+     *               乱数
+     * @param length
+     *               文字列の長さ
+     *
+     * @return ランダムな文字列
+     */
+    private static String randomText(final Random random, final int length) {
+
+        final StringBuilder result = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+
+            result.append((char) ('a' + random.nextInt(3)));
+
+        }
+
+        return result.toString();
+
+    }
+
+    /**
+     * 位置ごとに最も長い置換対象を探して置換する。比較の基準とする。
+     *
+     * @since 0.2.0
+     *
+     * @param mapping
+     *                置換対象と置換値のマッピング
+     * @param text
+     *                文字列
+     *
+     * @return 置換した文字列
+     */
+    private static String replaceByNaiveScan(final Map<String, String> mapping, final String text) {
+
+        final StringBuilder result = new StringBuilder();
+
+        int position = 0;
+
+        while (position < text.length()) {
+
+            String longest = null;
+
+            for (final String key : mapping.keySet()) {
+
+                if (text.startsWith(key, position) && ((longest == null) || (key.length() > longest.length()))) {
+
+                    longest = key;
+
+                }
+
+            }
+
+            if (longest == null) {
+
+                result.append(text.charAt(position));
+                position++;
+                continue;
+
+            }
+
+            result.append(mapping.get(longest));
+            position += longest.length();
+
+        }
+
+        return result.toString();
+
+    }
+
+}
@@ -0,0 +1,90 @@
+package kmg.tool.cli.mptf.infrastructure.replace;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * 2段階置換方式の出現数の集計のテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class MptfTwoStageCounterTest extends AbstractKmgTest {
+
+    /**
+     * count メソッドのテスト - 正常系：前の対象値の置換が後の対象値の出現に影響する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testCount_normalEarlierKeyFirst() {
+
+        /* 期待値の定義 */
+        final long   expectedCount     = 3;
+        final long[] expectedKeyCounts = {
+            1, 2,
+        };
+
+        /* 準備 */
+        final Map<String, String> mapping = new LinkedHashMap<>();
+        mapping.put("XY", "A");
+        mapping.put("Y", "B");
+
+        final MptfMultiPatternReplacer replacer   = new MptfMultiPatternReplacer(mapping);
+        final MptfTwoStageCounter      testTarget = new MptfTwoStageCounter(replacer);
+
+        /* テスト対象の実行 */
+        final long[] actualKeyCounts = new long[replacer.getKeyCount()];
+        final long   actualCount     = testTarget.count("XYY YX", actualKeyCounts);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expectedCount, actualCount, "出現数の合計を返すこと");
+        Assertions.assertArrayEquals(expectedKeyCounts, actualKeyCounts, "マッピングの順に置換した後の出現を数えること");
+
+    }
+
+    /**
+     * count メソッドのテスト - 正常系：対象値が重ならない場合に、オートマトンと出現数が一致する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testCount_normalSameAsAutomatonWhenOverlapFree() {
+
+        /* 準備 */
+        final Map<String, String> mapping = new LinkedHashMap<>();
+        mapping.put("OrderService", "PurchaseService");
+        mapping.put("PurchaseService", "LegacyPurchaseService");
+        mapping.put("findById", "findPurchaseById");
+
+        final MptfMultiPatternReplacer replacer   = new MptfMultiPatternReplacer(mapping);
+        final MptfTwoStageCounter      testTarget = new MptfTwoStageCounter(replacer);
+        final String                   text
+            = "OrderService s; PurchaseService p = s.findById(1); OrderService.findById(2);";
+
+        final long[] expectedKeyCounts = new long[replacer.getKeyCount()];
+        final long   expectedCount     = replacer.count(text, expectedKeyCounts);
+
+        /* テスト対象の実行 */
+        final long[] actualKeyCounts = new long[replacer.getKeyCount()];
+        final long   actualCount     = testTarget.count(text, actualKeyCounts);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(replacer.isOverlapFree(), "対象値が重ならないこと");
+        Assertions.assertEquals(expectedCount, actualCount, "オートマトンと出現数の合計が一致すること");
+        Assertions.assertArrayEquals(expectedKeyCounts, actualKeyCounts, "オートマトンと対象値ごとの出現数が一致すること");
+
+    }
+
+}
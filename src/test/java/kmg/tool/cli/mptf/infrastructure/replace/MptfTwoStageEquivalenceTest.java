@@ -0,0 +1,387 @@
+package kmg.tool.cli.mptf.infrastructure.replace;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kmg.core.infrastructure.test.AbstractKmgTest;
+
+/**
+ * 1回の走査による置換と2段階置換方式の一致のテスト
+ * <p>
+ * マッピングの順に対象値を一意の値（UUID）に置換し、続けて置換値に置換する2段階置換方式を基準とし、オートマトンによる1回の走査の置換と、置換の結果と置換した数が一致することを検証する。
+ * </p>
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class MptfTwoStageEquivalenceTest extends AbstractKmgTest {
+
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * replace メソッドのテスト - 正常系：置換値が他のマッピングの対象値と一致する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testReplace_normalChainedAndSwappedMappings() {
+
+        /* 準備 */
+        final Map<String, String> mapping = new LinkedHashMap<>();
+        mapping.put("oldName", "newName");
+        mapping.put("newName", "anotherName");
+        mapping.put("TypeA", "TypeB");
+        mapping.put("TypeB", "TypeA");
+
+        final String text = """
+            class TypeA extends TypeB {
+                private String oldName;
+                private String newName;
+                TypeB swap(TypeA value) { return oldName + newName; }
+            }
+            """;
+
+        final MptfMultiPatternReplacer testTarget = new MptfMultiPatternReplacer(mapping);
+
+        /* テスト対象の実行 */
+        final StringBuilder actual      = new StringBuilder();
+        final long          actualCount = testTarget.replace(text, actual);
+
+        /* 検証の準備 */
+        final StringBuilder expected      = new StringBuilder();
+        final long          expectedCount = MptfTwoStageEquivalenceTest.replaceByTwoStage(mapping, text, expected);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testTarget.isOverlapFree(), "対象値が重ならないこと");
+        Assertions.assertEquals(expected.toString(), actual.toString(), "2段階置換方式と置換の結果が一致すること");
+        Assertions.assertEquals(expectedCount, actualCount, "2段階置換方式と置換した数が一致すること");
+
+    }
+
+    /**
+     * replace メソッドのテスト - 正常系：ランダムな対象値が重ならないマッピングの場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testReplace_normalRandomOverlapFreeMappings() {
+
+        /* 準備 */
+        final Random random   = new Random(20_261_018L);
+        int          verified = 0;
+
+        for (int trial = 0; trial < 2_000; trial++) {
+
+            final Map<String, String> mapping      = new LinkedHashMap<>();
+            final int                 mappingCount = 1 + random.nextInt(4);
+
+            for (int i = 0; i < mappingCount; i++) {
+
+                // 置換値には、他のマッピングの対象値を含める
+                mapping.put(MptfTwoStageEquivalenceTest.randomText(random, 2 + random.nextInt(4)),
+                    "<" + MptfTwoStageEquivalenceTest.randomText(random, random.nextInt(4)) + ">");
+
+            }
+
+            final String                   text       = MptfTwoStageEquivalenceTest.randomText(random, 200);
+            final MptfMultiPatternReplacer testTarget = new MptfMultiPatternReplacer(mapping);
+
+            /* 検証の実施 */
+            Assertions.assertEquals(MptfTwoStageEquivalenceTest.isOverlapFreeByNaiveCheck(mapping),
+                testTarget.isOverlapFree(), "対象値の組み合わせを比較した結果と一致すること。マッピング：" + mapping);
+
+            if (!testTarget.isOverlapFree()) {
+
+                continue;
+
+            }
+
+            /* テスト対象の実行 */
+            final StringBuilder actual      = new StringBuilder();
+            final long          actualCount = testTarget.replace(text, actual);
+
+            /* 検証の準備 */
+            final StringBuilder expected      = new StringBuilder();
+            final long          expectedCount
+                = MptfTwoStageEquivalenceTest.replaceByTwoStage(mapping, text, expected);
+
+            /* 検証の実施 */
+            Assertions.assertEquals(expected.toString(), actual.toString(),
+                "2段階置換方式と置換の結果が一致すること。マッピング：" + mapping);
+            Assertions.assertEquals(expectedCount, actualCount, "2段階置換方式と置換した数が一致すること。マッピング：" + mapping);
+            verified++;
+
+        }
+
+        Assertions.assertTrue(verified >= 200, "十分な数のマッピングで検証すること。検証数：" + verified);
+
+    }
+
+    /**
+     * isOverlapFree メソッドのテスト - 正常系：対象値が重なる場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testIsOverlapFree_normalOverlapping() {
+
+        /* 準備 */
+        final List<Map<String, String>> mappings = List.of(Map.of("Foo", "x", "FooBar", "y"),
+            Map.of("abc", "x", "b", "y"), Map.of("abc", "x", "cde", "y"), Map.of("abab", "x"));
+
+        for (final Map<String, String> mapping : mappings) {
+
+            /* テスト対象の実行 */
+            final boolean actual = new MptfMultiPatternReplacer(mapping).isOverlapFree();
+
+            /* 検証の実施 */
+            Assertions.assertFalse(actual, "対象値が重なると判定すること。マッピング：" + mapping);
+
+        }
+
+    }
+
+    /**
+     * transform メソッドのテスト - 正常系：ディレクトリの全ファイルが2段階置換方式と一致する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testTransform_normalSameFilesAsTwoStage() throws Exception {
+
+        /* 準備 */
+        final Map<String, String> mapping = new LinkedHashMap<>();
+        mapping.put("OrderService", "PurchaseService");
+        mapping.put("PurchaseService", "LegacyPurchaseService");
+        mapping.put("findById", "findPurchaseById");
+        mapping.put("日本語名", "にほんごめい");
+
+        final Random       random   = new Random(20_261_019L);
+        final List<Path>   files    = new ArrayList<>();
+        final List<String> expected = new ArrayList<>();
+        long               total    = 0;
+
+        for (int i = 0; i < 40; i++) {
+
+            final Path          file    = Files.createDirectories(this.tempDir.resolve("p" + (i % 5)))
+                .resolve("C" + i + ".java");
+            final StringBuilder content = new StringBuilder();
+
+            for (int line = 0; line < 30; line++) {
+
+                final String[] words = {
+                    "OrderService", "PurchaseService", "findById", "日本語名", "other",
+                };
+                content.append(words[random.nextInt(words.length)]).append(' ')
+                    .append(words[random.nextInt(words.length)]).append(";\r\n");
+
+            }
+
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+            files.add(file);
+
+            final StringBuilder replaced = new StringBuilder();
+            total += MptfTwoStageEquivalenceTest.replaceByTwoStage(mapping, content.toString(), replaced);
+            expected.add(replaced.toString());
+
+        }
+
+        final MptfMultiPatternReplacer replacer   = new MptfMultiPatternReplacer(mapping);
+        final MptfFileTransformer      testTarget = new MptfFileTransformer(replacer, 4);
+
+        /* テスト対象の実行 */
+        final long actualCount = testTarget.transform(this.tempDir);
+
+        /* 検証の準備 */
+        final List<String> actual = new ArrayList<>();
+
+        for (final Path file : files) {
+
+            actual.add(Files.readString(file, StandardCharsets.UTF_8));
+
+        }
+
+        final long fileCount;
+
+        try (final Stream<Path> stream = Files.walk(this.tempDir)) {
+
+            fileCount = stream.filter(Files::isRegularFile).count();
+
+        }
+
+        /* 検証の実施 */
+        Assertions.assertTrue(replacer.isOverlapFree(), "対象値が重ならないこと");
+        Assertions.assertEquals(expected, actual, "全ての対象ファイルが2段階置換方式と一致すること");
+        Assertions.assertEquals(total, actualCount, "2段階置換方式と置換した数が一致すること");
+        Assertions.assertEquals(files.size(), fileCount, "一時ファイルが残らないこと");
+
+    }
+
+    /**
+     * マッピングの順に対象値をUUIDに置換し、続けてUUIDを置換値に置換する。比較の基準とする。
+     *
+     * @since 0.2.0
+     *
+     * @param mapping
+     *                対象値と置換値のマッピング
+     * @param text
+     *                文字列
+     * @param output
+     *                出力
+     *
+     * @return UUIDに置換した数
+     */
+    private static long replaceByTwoStage(final Map<String, String> mapping, final String text,
+        final StringBuilder output) {
+
+        long result = 0;
+
+        final Map<String, String> placeholders = new LinkedHashMap<>();
+        String                    content      = text;
+
+        /* 第1段階：対象値をUUIDに置換 */
+        for (final Map.Entry<String, String> entry : mapping.entrySet()) {
+
+            final String placeholder = UUID.randomUUID().toString();
+            result += MptfTwoStageEquivalenceTest.countOccurrences(content, entry.getKey());
+            content = content.replace(entry.getKey(), placeholder);
+            placeholders.put(placeholder, entry.getValue());
+
+        }
+
+        /* 第2段階：UUIDを置換値に置換 */
+        for (final Map.Entry<String, String> entry : placeholders.entrySet()) {
+
+            content = content.replace(entry.getKey(), entry.getValue());
+
+        }
+
+        output.append(content);
+        return result;
+
+    }
+
+    /**
+     * 文字列に含まれる対象値の、重ならない出現の数を返す。
+     *
+     * @since 0.2.0
+     *
+     * @param text
+     *              文字列
+     * @param value
+     *              対象値
+     *
+     * @return 出現の数
+     */
+    private static long countOccurrences(final String text, final String value) {
+
+        long result = 0;
+
+        for (int index = text.indexOf(value); index >= 0; index = text.indexOf(value, index + value.length())) {
+
+            result++;
+
+        }
+
+        return result;
+
+    }
+
+    /**
+     * 対象値の全ての組み合わせを比較して、対象値が互いに重ならないかを返す。
+     *
+     * @since 0.2.0
+     *
+     * @param mapping
+     *                対象値と置換値のマッピング
+     *
+     * @return true：重ならない、false：重なる
+     */
+    private static boolean isOverlapFreeByNaiveCheck(final Map<String, String> mapping) {
+
+        boolean result = false;
+
+        for (final String first : mapping.keySet()) {
+
+            for (final String second : mapping.keySet()) {
+
+                if (!first.equals(second) && first.contains(second)) {
+
+                    return result;
+
+                }
+
+                // 末尾と先頭の一致（自身との一致を含む）
+                for (int length = 1; length <= Math.min(first.length() - 1, second.length()); length++) {
+
+                    if (first.endsWith(second.substring(0, length))) {
+
+                        return result;
+
+                    }
+
+                }
+
+            }
+
+        }
+
+        result = true;
+        return result;
+
+    }
+
+    /**
+     * ランダムな文字列を作成する。 対象値が重なりやすいように、UUIDに含まれない3種類の文字を使用する。
+     *
+     * @since 0.2.0
+     *
+     * @param random
+     *               乱数
+     * @param length
+     *               文字列の長さ
+     *
+     * @return ランダムな文字列
+     */
+    private static String randomText(final Random random, final int length) {
+
+        final StringBuilder result = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+
+            result.append((char) ('x' + random.nextInt(3)));
+
+        }
+
+        return result.toString();
+
+    }
+
+}
@@ -3,8 +3,11 @@ package kmg.tool.cli.mptf.presentation.ui.cli;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -38,6 +42,7 @@ import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseValException;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
 import kmg.tool.base.input.domain.service.PlainContentInputServic;
 import kmg.tool.base.mptf.application.service.MapTransformService;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
 import kmg.tool.cli.input.presentation.ui.cli.AbstractPlainContentInputTool;
 
 /**
@@ -47,7 +52,7 @@ import kmg.tool.cli.input.presentation.ui.cli.AbstractPlainContentInputTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.2
+ * @version 0.2.0
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -71,6 +76,14 @@ public class MapTransformToolTest extends AbstractKmgTest {
      */
     private KmgReflectionModelImpl reflectionModel;
 
+    /**
+     * 一時ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
     /**
      * KmgMessageSourceのモック
      *
@@ -437,6 +450,144 @@ public class MapTransformToolTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * execute メソッドのテスト - 正常系：オートマトンで置換する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testExecute_normalAutomaton() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "class NewValue { NewValue x; }";
+
+        /* 準備 */
+        final Path targetFile = this.tempDir.resolve("Target.java");
+        Files.writeString(targetFile, "class OldValue { OldValue x; }", StandardCharsets.UTF_8);
+
+        final MapTransformTool       localTestTarget      = new MapTransformTool();
+        final KmgReflectionModelImpl localReflectionModel = new KmgReflectionModelImpl(localTestTarget);
+        localReflectionModel.set("messageSource", this.mockMessageSource);
+        localReflectionModel.set("inputService", this.mockInputService);
+        localReflectionModel.set("mapTransformService", this.mockMapTransformService);
+        localTestTarget.setAutomaton(true);
+        Mockito.when(this.mockInputService.initialize(ArgumentMatchers.any())).thenReturn(true);
+        Mockito.when(this.mockInputService.process()).thenReturn(true);
+        Mockito.when(this.mockInputService.getContent()).thenReturn(targetFile + "\nOldValue,NewValue");
+        Mockito.when(this.mockMessageSource.getGenMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("テストメッセージ");
+
+        /* テスト対象の実行 */
+        final boolean actualResult = localTestTarget.execute();
+
+        /* 検証の準備 */
+        final String actual = Files.readString(targetFile, StandardCharsets.UTF_8);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualResult, "正常に処理が完了すること");
+        Assertions.assertEquals(expected, actual, "対象ファイルを置換すること");
+        Mockito.verify(this.mockMapTransformService, Mockito.never()).process();
+
+    }
+
+    /**
+     * execute メソッドのテスト - 正常系：ドライランの場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testExecute_normalDryRun() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "class OldValue { OldValue x; }";
+
+        /* 準備 */
+        final Path targetFile = this.tempDir.resolve("Target.java");
+        Files.writeString(targetFile, expected, StandardCharsets.UTF_8);
+
+        final MapTransformTool       localTestTarget      = new MapTransformTool();
+        final KmgReflectionModelImpl localReflectionModel = new KmgReflectionModelImpl(localTestTarget);
+        localReflectionModel.set("messageSource", this.mockMessageSource);
+        localReflectionModel.set("inputService", this.mockInputService);
+        localReflectionModel.set("mapTransformService", this.mockMapTransformService);
+        localTestTarget.setDryRun(true);
+        Mockito.when(this.mockInputService.initialize(ArgumentMatchers.any())).thenReturn(true);
+        Mockito.when(this.mockInputService.process()).thenReturn(true);
+        Mockito.when(this.mockInputService.getContent())
+            .thenReturn(targetFile + "\nOldValue,NewValue\nMissingValue,FoundValue");
+        Mockito.when(this.mockMessageSource.getGenMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("テストメッセージ");
+
+        /* テスト対象の実行 */
+        final boolean actualResult = localTestTarget.execute();
+
+        /* 検証の準備 */
+        final String actual = Files.readString(targetFile, StandardCharsets.UTF_8);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualResult, "正常に処理が完了すること");
+        Assertions.assertEquals(expected, actual, "対象ファイルを変更しないこと");
+        Mockito.verify(this.mockMapTransformService, Mockito.never()).process();
+        Mockito.verify(this.mockMessageSource)
+            .getGenMessage(ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN30004), ArgumentMatchers.any());
+        Mockito.verify(this.mockMessageSource)
+            .getGenMessage(ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN30006), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * execute メソッドのテスト - 正常系：オートマトンを指定せず、対象値が重なるマッピングのドライランの場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testExecute_normalDryRunTwoStage() throws Exception {
+
+        /* 期待値の定義 */
+        final String expected = "class XYY { XY x; }";
+
+        /* 準備 */
+        final Path targetFile = this.tempDir.resolve("Target.java");
+        Files.writeString(targetFile, expected, StandardCharsets.UTF_8);
+
+        final MapTransformTool       localTestTarget      = new MapTransformTool();
+        final KmgReflectionModelImpl localReflectionModel = new KmgReflectionModelImpl(localTestTarget);
+        localReflectionModel.set("messageSource", this.mockMessageSource);
+        localReflectionModel.set("inputService", this.mockInputService);
+        localReflectionModel.set("mapTransformService", this.mockMapTransformService);
+        localTestTarget.setDryRun(true);
+        Mockito.when(this.mockInputService.initialize(ArgumentMatchers.any())).thenReturn(true);
+        Mockito.when(this.mockInputService.process()).thenReturn(true);
+        Mockito.when(this.mockInputService.getContent()).thenReturn(targetFile + "\nX,A\nXY,B");
+        Mockito.when(this.mockMessageSource.getGenMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("テストメッセージ");
+
+        /* テスト対象の実行 */
+        final boolean actualResult = localTestTarget.execute();
+
+        /* 検証の準備 */
+        final String actual = Files.readString(targetFile, StandardCharsets.UTF_8);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualResult, "正常に処理が完了すること");
+        Assertions.assertEquals(expected, actual, "対象ファイルを変更しないこと");
+        Mockito.verify(this.mockMapTransformService, Mockito.never()).process();
+        Mockito.verify(this.mockMessageSource, Mockito.never())
+            .getGenMessage(ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN30002), ArgumentMatchers.any());
+        Mockito.verify(this.mockMessageSource)
+            .getGenMessage(ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN30003), ArgumentMatchers.any());
+
+    }
+
     /**
      * execute メソッドのテスト - 準正常系：fromInputFileがfalseを返す場合
      *
@@ -692,6 +843,82 @@ public class MapTransformToolTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * fromInputFile メソッドのテスト - 正常系：入力ファイルがメモリマップの閾値以上の場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testFromInputFile_normalMappedInput() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expectedTargetPath = Paths.get("test/path");
+
+        /* 準備 */
+        final Path inputPath = this.tempDir.resolve("input.txt");
+        Files.writeString(inputPath, "test/path\r\n\r\noldValue,newValue\r\nnoComma\r\n", StandardCharsets.UTF_8);
+
+        final MapTransformTool       localTestTarget      = new MapTransformTool();
+        final KmgReflectionModelImpl localReflectionModel = new KmgReflectionModelImpl(localTestTarget);
+        localReflectionModel.set("messageSource", this.mockMessageSource);
+        localReflectionModel.set("inputService", this.mockInputService);
+        localTestTarget.setSpecifiedInputPath(inputPath);
+        localTestTarget.setMmapThreshold(1L);
+
+        /* テスト対象の実行 */
+        final boolean actualResult = (Boolean) localReflectionModel.getMethod("fromInputFile");
+
+        /* 検証の準備 */
+        final Path                actualTargetPath = (Path) localReflectionModel.get("targetPath");
+        @SuppressWarnings("unchecked")
+        final Map<String, String> actualMapping    = (Map<String, String>) localReflectionModel.get("mapping");
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actualResult, "入力ファイルから設定が正常に完了すること");
+        Assertions.assertEquals(expectedTargetPath, actualTargetPath, "対象パスが正しく設定されること");
+        Assertions.assertEquals(1, actualMapping.size(), "カンマ区切りの行だけがマッピングに設定されること");
+        Assertions.assertEquals("newValue", actualMapping.get("oldValue"), "マッピングが正しく設定されること");
+        Mockito.verify(this.mockInputService, Mockito.never()).initialize(ArgumentMatchers.any());
+
+    }
+
+    /**
+     * fromInputFile メソッドのテスト - 準正常系：メモリマップで読み込んだ入力ファイルが1行のみの場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testFromInputFile_semiMappedInputLessThanTwoLines() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        final Path inputPath = this.tempDir.resolve("input.txt");
+        Files.writeString(inputPath, "test/path\n\n", StandardCharsets.UTF_8);
+
+        final MapTransformTool       localTestTarget      = new MapTransformTool();
+        final KmgReflectionModelImpl localReflectionModel = new KmgReflectionModelImpl(localTestTarget);
+        localReflectionModel.set("messageSource", this.mockMessageSource);
+        localReflectionModel.set("inputService", this.mockInputService);
+        localTestTarget.setSpecifiedInputPath(inputPath);
+        localTestTarget.setMmapThreshold(1L);
+
+        /* テスト対象の実行 */
+        final boolean actualResult = (Boolean) localReflectionModel.getMethod("fromInputFile");
+
+        /* 検証の準備 */
+
+        /* 検証の実施 */
+        Assertions.assertFalse(actualResult, "空行以外の2行目がない場合、falseが返されること");
+
+    }
+
     /**
      * getInputService メソッドのテスト - 正常系：プレーンコンテンツ入力サービスが正常に返される場合
      *
@@ -1328,6 +1555,9 @@ public class MapTransformToolTest extends AbstractKmgTest {
     public void testSpringBootApplicationAnnotation_normalCorrect() {
 
         /* 期待値の定義 */
+        final String[] expectedPackages = {
+            "kmg.core", "kmg.fund", "kmg.tool.base",
+        };
 
         /* 準備 */
         final MapTransformTool localTestTarget = new MapTransformTool();
@@ -1337,7 +1567,8 @@ public class MapTransformToolTest extends AbstractKmgTest {
         final SpringBootApplication annotation = testClass.getAnnotation(SpringBootApplication.class);
 
         /* 検証の準備 */
-        final boolean actualResult = (annotation != null) && "kmg".equals(annotation.scanBasePackages()[0]);
+        final boolean actualResult
+            = (annotation != null) && Arrays.equals(expectedPackages, annotation.scanBasePackages());
 
         /* 検証の実施 */
         Assertions.assertTrue(actualResult, "SpringBootApplicationアノテーションが正しく設定されていること");
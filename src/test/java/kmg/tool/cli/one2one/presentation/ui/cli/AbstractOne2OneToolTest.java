@@ -28,7 +28,7 @@ import kmg.tool.base.one2one.domain.service.One2OneService;
  *
  * @since 0.1.0
  *
- * @version 0.1.2
+ * @version 0.2.0
  */
 @SuppressWarnings({
     "nls", "static-method"
@@ -421,4 +421,98 @@ public class AbstractOne2OneToolTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * initialize メソッドのテスト - 正常系：ストリーミングで処理する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testInitialize_normalStreaming() throws Exception {
+
+        /* 期待値の定義 */
+
+        /* 準備 */
+        this.testTarget.setStreaming(true);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.initialize();
+
+        /* 検証の準備 */
+        final boolean actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertFalse(actual, "ストリーミングの場合、falseが返されること");
+        Mockito.verify(this.mockOne2OneService, Mockito.never())
+            .initialize(ArgumentMatchers.any(Path.class), ArgumentMatchers.any(Path.class));
+
+    }
+
+    /**
+     * processFile メソッドのテスト - 正常系：チャンクの入出力ファイルで初期化して処理する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testProcessFile_normalSuccess() throws Exception {
+
+        /* 期待値の定義 */
+        final Path chunkInputPath  = this.tempDir.resolve("chunk-input.txt");
+        final Path chunkOutputPath = this.tempDir.resolve("chunk-output.txt");
+
+        /* 準備 */
+        Mockito.when(this.mockOne2OneService.initialize(chunkInputPath, chunkOutputPath)).thenReturn(true);
+        Mockito.when(this.mockOne2OneService.process()).thenReturn(true);
+
+        /* テスト対象の実行 */
+        final boolean testResult
+            = this.testTarget.processFile(this.mockOne2OneService, chunkInputPath, chunkOutputPath);
+
+        /* 検証の準備 */
+        final boolean actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actual, "チャンクの処理が成功した場合、trueが返されること");
+        final var inOrder = Mockito.inOrder(this.mockOne2OneService);
+        inOrder.verify(this.mockOne2OneService).initialize(chunkInputPath, chunkOutputPath);
+        inOrder.verify(this.mockOne2OneService).process();
+
+    }
+
+    /**
+     * processFile メソッドのテスト - 準正常系：チャンクの初期化が失敗する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testProcessFile_semiInitializeFailure() throws Exception {
+
+        /* 期待値の定義 */
+        final Path chunkInputPath  = this.tempDir.resolve("chunk-input.txt");
+        final Path chunkOutputPath = this.tempDir.resolve("chunk-output.txt");
+
+        /* 準備 */
+        Mockito.when(this.mockOne2OneService.initialize(chunkInputPath, chunkOutputPath)).thenReturn(false);
+
+        /* テスト対象の実行 */
+        final boolean testResult
+            = this.testTarget.processFile(this.mockOne2OneService, chunkInputPath, chunkOutputPath);
+
+        /* 検証の準備 */
+        final boolean actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertFalse(actual, "チャンクの初期化が失敗した場合、falseが返されること");
+        Mockito.verify(this.mockOne2OneService, Mockito.never()).process();
+
+    }
+
 }
@@ -0,0 +1,242 @@
+package kmg.tool.cli.training.application.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import kmg.core.infrastructure.model.impl.KmgReflectionModelImpl;
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliLogMsgTypes;
+import kmg.tool.cli.launcher.application.service.ToolDispatchService;
+import kmg.tool.cli.launcher.domain.model.ToolJobModel;
+import kmg.tool.cli.launcher.infrastructure.types.KmgToolCliCmdTypes;
+
+/**
+ * トレーニング実行サービスのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class TrainingServiceImplTest extends AbstractKmgTest {
+
+    /**
+     * テンポラリディレクトリ
+     *
+     * @since 0.2.0
+     */
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.0
+     */
+    private TrainingServiceImpl testTarget;
+
+    /**
+     * モックメッセージソース
+     *
+     * @since 0.2.0
+     */
+    private KmgMessageSource mockMessageSource;
+
+    /**
+     * モックツール振り分けサービス
+     *
+     * @since 0.2.0
+     */
+    private ToolDispatchService mockToolDispatchService;
+
+    /**
+     * サンプルディレクトリ
+     *
+     * @since 0.2.0
+     */
+    private Path sampleDir;
+
+    /**
+     * 作業ディレクトリ
+     *
+     * @since 0.2.0
+     */
+    private Path workDir;
+
+    /**
+     * セットアップ
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        this.testTarget = new TrainingServiceImpl();
+        this.mockMessageSource = Mockito.mock(KmgMessageSource.class);
+        this.mockToolDispatchService = Mockito.mock(ToolDispatchService.class);
+
+        final KmgReflectionModelImpl reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        reflectionModel.set("messageSource", this.mockMessageSource);
+        reflectionModel.set("toolDispatchService", this.mockToolDispatchService);
+
+        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("テストログ");
+
+        this.sampleDir = this.tempDir.resolve("sample");
+        this.workDir = this.tempDir.resolve("work");
+        Files.createDirectories(this.sampleDir.resolve("src"));
+
+    }
+
+    /**
+     * train メソッドのテスト - 正常系：サンプルの入力があるツールを実行する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testTrain_normalSampleInputs() throws Exception {
+
+        /* 期待値の定義 */
+        final boolean                  expected         = true;
+        final List<KmgToolCliCmdTypes> expectedCmdTypes = List.of(KmgToolCliCmdTypes.ACCCRT, KmgToolCliCmdTypes.MPTF);
+        final String                   expectedMptf     = this.workDir.toAbsolutePath().normalize() + "/src\nA,B\n";
+        final String                   expectedJava     = "class A {}\n";
+
+        /* 準備 */
+        Files.writeString(this.sampleDir.resolve("acccrt.txt"), "private String name;\n", StandardCharsets.UTF_8);
+        Files.writeString(this.sampleDir.resolve("mptf.txt"), "${workDir}/src\nA,B\n", StandardCharsets.UTF_8);
+        Files.writeString(this.sampleDir.resolve("src/A.java"), expectedJava, StandardCharsets.UTF_8);
+        Mockito.when(this.mockToolDispatchService.dispatch(ArgumentMatchers.any(ToolJobModel.class))).thenReturn(true);
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.train(this.sampleDir, this.workDir);
+
+        /* 検証の準備 */
+        final ArgumentCaptor<ToolJobModel> jobCaptor = ArgumentCaptor.forClass(ToolJobModel.class);
+        Mockito.verify(this.mockToolDispatchService, Mockito.times(2)).dispatch(jobCaptor.capture());
+        final List<ToolJobModel> actualJobs = jobCaptor.getAllValues();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "全てのツールが成功すること");
+        Assertions.assertEquals(expectedCmdTypes, actualJobs.stream().map(ToolJobModel::getCmdType).toList(),
+            "サンプルの入力があるツールが定義順に実行されること");
+        Assertions.assertEquals(this.workDir.resolve("acccrt.txt"), actualJobs.get(0).getInputPath(),
+            "作業ディレクトリの入力ファイルが指定されること");
+        Assertions.assertEquals(this.workDir.resolve("output").resolve("acccrt.txt"), actualJobs.get(0).getOutputPath(),
+            "出力ディレクトリの出力ファイルが指定されること");
+        Assertions.assertNull(actualJobs.get(0).getTemplatePath(), "テンプレートは既定のパスを使用すること");
+        Assertions.assertEquals(expectedMptf, Files.readString(this.workDir.resolve("mptf.txt")),
+            "プレースホルダが作業ディレクトリに置き換えられること");
+        Assertions.assertEquals(expectedJava, Files.readString(this.workDir.resolve("src/A.java")),
+            "入力ファイル以外はそのままコピーされること");
+        Assertions.assertTrue(Files.isDirectory(this.workDir.resolve("output")), "出力ディレクトリが作成されること");
+
+    }
+
+    /**
+     * train メソッドのテスト - 準正常系：失敗したツールがある場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testTrain_semiToolFailed() throws Exception {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        Files.writeString(this.sampleDir.resolve("acccrt.txt"), "private String name;\n", StandardCharsets.UTF_8);
+        Files.writeString(this.sampleDir.resolve("fldcrt.txt"), "名前 name 文字列型\n", StandardCharsets.UTF_8);
+        Mockito.when(this.mockToolDispatchService.dispatch(ArgumentMatchers.any(ToolJobModel.class)))
+            .thenReturn(false, true);
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.train(this.sampleDir, this.workDir);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "失敗したツールがあればfalseが返されること");
+        Mockito.verify(this.mockToolDispatchService, Mockito.times(2)).dispatch(ArgumentMatchers.any(ToolJobModel.class));
+
+    }
+
+    /**
+     * train メソッドのテスト - 異常系：ツールの実行中に実行時例外が発生する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testTrain_errorToolException() throws Exception {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        Files.writeString(this.sampleDir.resolve("acccrt.txt"), "private String name;\n", StandardCharsets.UTF_8);
+        Files.writeString(this.sampleDir.resolve("fldcrt.txt"), "名前 name 文字列型\n", StandardCharsets.UTF_8);
+        Mockito.when(this.mockToolDispatchService.dispatch(ArgumentMatchers.any(ToolJobModel.class)))
+            .thenThrow(new IllegalStateException("テスト例外")).thenReturn(true);
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.train(this.sampleDir, this.workDir);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "例外が発生したツールは失敗として扱われること");
+        Mockito.verify(this.mockToolDispatchService, Mockito.times(2)).dispatch(ArgumentMatchers.any(ToolJobModel.class));
+        Mockito.verify(this.mockMessageSource)
+            .getLogMessage(ArgumentMatchers.eq(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG22003), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * train メソッドのテスト - 異常系：サンプルディレクトリが存在しない場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testTrain_errorSampleDirNotFound() {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        final Path notFoundDir = this.tempDir.resolve("notFound");
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.train(notFoundDir, this.workDir);
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "サンプルの準備に失敗した場合はfalseが返されること");
+        Mockito.verifyNoInteractions(this.mockToolDispatchService);
+        Mockito.verify(this.mockMessageSource)
+            .getLogMessage(ArgumentMatchers.eq(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG22001), ArgumentMatchers.any());
+
+    }
+
+}
@@ -0,0 +1,225 @@
+package kmg.tool.cli.training.presentation.ui.cli;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import kmg.core.infrastructure.model.impl.KmgReflectionModelImpl;
+import kmg.core.infrastructure.test.AbstractKmgTest;
+import kmg.fund.infrastructure.context.KmgMessageSource;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliGenMsgTypes;
+import kmg.tool.cli.training.application.service.TrainingService;
+
+/**
+ * KMGツールトレーニングのテスト
+ *
+ * @author KenichiroArai
+ *
+ * @since 0.2.0
+ *
+ * @version 0.2.0
+ */
+@SuppressWarnings({
+    "nls", "static-method"
+})
+public class KmgToolTrainerTest extends AbstractKmgTest {
+
+    /**
+     * テスト対象
+     *
+     * @since 0.2.0
+     */
+    private KmgToolTrainer testTarget;
+
+    /**
+     * モックメッセージソース
+     *
+     * @since 0.2.0
+     */
+    private KmgMessageSource mockMessageSource;
+
+    /**
+     * モックトレーニング実行サービス
+     *
+     * @since 0.2.0
+     */
+    private TrainingService mockTrainingService;
+
+    /**
+     * リフレクションモデル
+     *
+     * @since 0.2.0
+     */
+    private KmgReflectionModelImpl reflectionModel;
+
+    /**
+     * セットアップ
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        this.testTarget = new KmgToolTrainer();
+        this.mockMessageSource = Mockito.mock(KmgMessageSource.class);
+        this.mockTrainingService = Mockito.mock(TrainingService.class);
+
+        this.reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        this.reflectionModel.set("messageSource", this.mockMessageSource);
+        this.reflectionModel.set("trainingService", this.mockTrainingService);
+
+        Mockito.when(this.mockMessageSource.getGenMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("テストメッセージ");
+
+    }
+
+    /**
+     * execute メソッドのテスト - 正常系：全てのツールが成功する場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testExecute_normalSuccess() {
+
+        /* 期待値の定義 */
+        final boolean expected = true;
+
+        /* 準備 */
+        Mockito.when(this.mockTrainingService.train(ArgumentMatchers.any(Path.class), ArgumentMatchers.any(Path.class)))
+            .thenReturn(true);
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.execute();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "全てのツールが成功した場合、trueが返されること");
+        Mockito.verify(this.mockTrainingService).train(Paths.get(KmgToolTrainer.DEFAULT_SAMPLE_DIR),
+            Paths.get(KmgToolTrainer.DEFAULT_WORK_DIR));
+        Mockito.verify(this.mockMessageSource)
+            .getGenMessage(ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN22000), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * execute メソッドのテスト - 準正常系：失敗したツールがある場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testExecute_semiToolFailed() {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        Mockito.when(this.mockTrainingService.train(ArgumentMatchers.any(Path.class), ArgumentMatchers.any(Path.class)))
+            .thenReturn(false);
+
+        /* テスト対象の実行 */
+        final boolean actual = this.testTarget.execute();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "失敗したツールがある場合、falseが返されること");
+        Mockito.verify(this.mockMessageSource)
+            .getGenMessage(ArgumentMatchers.eq(KmgToolCliGenMsgTypes.KMGTOOLCLI_GEN22001), ArgumentMatchers.any());
+
+    }
+
+    /**
+     * getSampleDir メソッドのテスト - 正常系：サンプルディレクトリが指定されている場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testGetSampleDir_normalSpecified() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = Paths.get("sample");
+
+        /* 準備 */
+        this.reflectionModel.set("sampleDir", expected.toString());
+
+        /* テスト対象の実行 */
+        final Path actual = this.testTarget.getSampleDir();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "指定されたサンプルディレクトリが返されること");
+
+    }
+
+    /**
+     * getWorkDir メソッドのテスト - 正常系：作業ディレクトリが空白の場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testGetWorkDir_normalBlank() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = Paths.get(KmgToolTrainer.DEFAULT_WORK_DIR);
+
+        /* 準備 */
+        this.reflectionModel.set("workDir", " ");
+
+        /* テスト対象の実行 */
+        final Path actual = this.testTarget.getWorkDir();
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "既定の作業ディレクトリが返されること");
+
+    }
+
+    /**
+     * main メソッドのテスト - 正常系：コンテキストを起動してトレーニングを実行し、終了後に閉じる場合
+     *
+     * @since 0.2.0
+     */
+    @Test
+    public void testMain_normalRun() {
+
+        /* 期待値の定義 */
+        final String[] testArgs = {
+            "--kmg.tool.cli.training.work-dir=work/test",
+        };
+
+        /* 準備 */
+        try (final MockedStatic<SpringApplication> mockedSpringApplication
+            = Mockito.mockStatic(SpringApplication.class)) {
+
+            final ConfigurableApplicationContext mockContext = Mockito.mock(ConfigurableApplicationContext.class);
+            final KmgToolTrainer                 mockTrainer = Mockito.mock(KmgToolTrainer.class);
+
+            mockedSpringApplication.when(() -> SpringApplication.run(KmgToolTrainer.class, testArgs))
+                .thenReturn(mockContext);
+            Mockito.when(mockContext.getBean(KmgToolTrainer.class)).thenReturn(mockTrainer);
+
+            /* テスト対象の実行 */
+            KmgToolTrainer.main(testArgs);
+
+            /* 検証の実施 */
+            final var inOrder = Mockito.inOrder(mockTrainer, mockContext);
+            inOrder.verify(mockTrainer).execute();
+            inOrder.verify(mockContext).close();
+
+        }
+
+    }
+
+}
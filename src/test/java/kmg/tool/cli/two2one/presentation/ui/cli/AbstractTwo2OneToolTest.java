@@ -1,6 +1,8 @@
 package kmg.tool.cli.two2one.presentation.ui.cli;
 
 import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -22,6 +24,7 @@ import kmg.tool.base.cmn.infrastructure.exception.KmgToolBaseMsgException;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseGenMsgTypes;
 import kmg.tool.base.cmn.infrastructure.types.KmgToolBaseLogMsgTypes;
 import kmg.tool.base.two2one.domain.service.Two2OneService;
+import kmg.tool.cli.cmn.infrastructure.types.KmgToolCliLogMsgTypes;
 import kmg.tool.cli.io.presentation.ui.cli.AbstractIoTool;
 
 /**
@@ -31,7 +34,7 @@ import kmg.tool.cli.io.presentation.ui.cli.AbstractIoTool;
  *
  * @since 0.1.0
  *
- * @version 0.1.3
+ * @version 0.2.0
  */
 @SuppressWarnings({
     "nls", "static-method"
@@ -243,6 +246,59 @@ public class AbstractTwo2OneToolTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * execute メソッドのテスト - 異常系：ストリーミングで追加のテンプレートを指定した場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testExecute_errorAdditionalTemplatesWithStreaming() throws Exception {
+
+        /* 期待値の定義 */
+        final boolean expected = false;
+
+        /* 準備 */
+        final Path inputPath  = Files.writeString(this.tempDir.resolve("input.txt"), "name\n");
+        final Path outputPath = this.tempDir.resolve("output.txt");
+
+        Mockito.when(this.mockTwo2OneService.initialize(ArgumentMatchers.any(Path.class),
+            ArgumentMatchers.any(Path.class), ArgumentMatchers.any(Path.class))).thenReturn(true);
+        Mockito.when(this.mockTwo2OneService.process()).thenReturn(true);
+        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("追加のテンプレートは使用できない");
+        Mockito.when(this.mockMessageSource.getGenMessage(ArgumentMatchers.any(), ArgumentMatchers.any()))
+            .thenReturn("失敗");
+
+        final var reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        reflectionModel.set("messageSource", this.mockMessageSource);
+
+        final Field ioMessageSourceField = AbstractIoTool.class.getDeclaredField("messageSource");
+        ioMessageSourceField.setAccessible(true);
+        ioMessageSourceField.set(this.testTarget, this.mockMessageSource);
+
+        this.testTarget.setSpecifiedInputPath(inputPath);
+        this.testTarget.setSpecifiedOutputPath(outputPath);
+        this.testTarget.setStreaming(true);
+        this.testTarget.setAdditionalTemplates("field.yml=field.txt");
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.execute();
+
+        /* 検証の準備 */
+        final boolean actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "ストリーミングで追加のテンプレートを指定した場合、falseが返されること");
+        Assertions.assertFalse(Files.exists(outputPath), "出力ファイルが作成されないこと");
+        Mockito.verify(this.mockTwo2OneService, Mockito.never()).process();
+        Mockito.verify(this.mockMessageSource).getLogMessage(
+            ArgumentMatchers.eq(KmgToolCliLogMsgTypes.KMGTOOLCLI_LOG30009), ArgumentMatchers.any());
+
+    }
+
     /**
      * getDefaultTemplatePath メソッドのテスト - 正常系：優先パスが存在する場合
      *
@@ -424,6 +480,39 @@ public class AbstractTwo2OneToolTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * getTemplatePath メソッドのテスト - 正常系：指定テンプレートファイルパスがある場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testGetTemplatePath_normalSpecified() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expected = Paths.get("specified", "template.yml");
+
+        /* 準備 */
+        final Path defaultPath = this.testTarget.getTemplatePath();
+        this.testTarget.setSpecifiedTemplatePath(expected);
+
+        /* テスト対象の実行 */
+        final Path testResult = this.testTarget.getTemplatePath();
+
+        /* 検証の準備 */
+        final Path actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertEquals(expected, actual, "指定テンプレートファイルパスが返されること");
+
+        // 解除後は既定のパスに戻ること
+        this.testTarget.setSpecifiedTemplatePath(null);
+        Assertions.assertEquals(defaultPath, this.testTarget.getTemplatePath(), "解除後は既定のテンプレートファイルパスが返されること");
+
+    }
+
     /**
      * initialize メソッドのテスト - 異常系：KmgToolMsgExceptionが発生する場合
      *
@@ -512,6 +601,46 @@ public class AbstractTwo2OneToolTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * initialize メソッドのテスト - 正常系：指定されたパスで初期化する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testInitialize_normalSpecifiedPaths() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expectedInputPath    = Paths.get("specified", "input.txt");
+        final Path expectedTemplatePath = Paths.get("specified", "template.yml");
+        final Path expectedOutputPath   = Paths.get("specified", "output.txt");
+
+        /* 準備 */
+        Mockito.when(this.mockTwo2OneService.initialize(ArgumentMatchers.any(Path.class),
+            ArgumentMatchers.any(Path.class), ArgumentMatchers.any(Path.class))).thenReturn(true);
+
+        final var reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        reflectionModel.set("messageSource", this.mockMessageSource);
+
+        this.testTarget.setSpecifiedInputPath(expectedInputPath);
+        this.testTarget.setSpecifiedTemplatePath(expectedTemplatePath);
+        this.testTarget.setSpecifiedOutputPath(expectedOutputPath);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.initialize();
+
+        /* 検証の準備 */
+        final boolean actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actual, "初期化が成功した場合、trueが返されること");
+        Mockito.verify(this.mockTwo2OneService).initialize(expectedInputPath, expectedTemplatePath,
+            expectedOutputPath);
+
+    }
+
     /**
      * initialize メソッドのテスト - 準正常系：初期化が失敗する場合
      *
@@ -547,4 +676,105 @@ public class AbstractTwo2OneToolTest extends AbstractKmgTest {
 
     }
 
+    /**
+     * processFile メソッドのテスト - 正常系：テンプレートファイルで初期化する場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testProcessFile_normalTemplatePath() throws Exception {
+
+        /* 準備 */
+        final Path templatePath = this.tempDir.resolve("template.yml");
+        final Path inputPath    = this.tempDir.resolve("input.txt");
+        final Path outputPath   = this.tempDir.resolve("output.txt");
+        this.testTarget.setSpecifiedTemplatePath(templatePath);
+
+        Mockito.when(this.mockTwo2OneService.initialize(inputPath, templatePath, outputPath)).thenReturn(true);
+        Mockito.when(this.mockTwo2OneService.process()).thenReturn(true);
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.processFile(this.mockTwo2OneService, inputPath, outputPath);
+
+        /* 検証の実施 */
+        Assertions.assertTrue(testResult, "処理が成功した場合、trueが返されること");
+        Mockito.verify(this.mockTwo2OneService).initialize(inputPath, templatePath, outputPath);
+
+    }
+
+    /**
+     * processWholeFile メソッドのテスト - 正常系：追加のテンプレートを指定した場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testProcessWholeFile_normalAdditionalTemplates() throws Exception {
+
+        /* 期待値の定義 */
+        final Path expectedInputPath = Paths.get("specified", "input.txt");
+
+        /* 準備 */
+        Mockito.when(this.mockTwo2OneService.initialize(ArgumentMatchers.any(Path.class),
+            ArgumentMatchers.any(Path.class), ArgumentMatchers.any(Path.class))).thenReturn(true);
+        Mockito.when(this.mockTwo2OneService.process()).thenReturn(true);
+
+        this.testTarget.setSpecifiedInputPath(expectedInputPath);
+        this.testTarget.setAdditionalTemplates("field.yml=field.txt, accessor.yml=accessor.txt");
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.processWholeFile();
+
+        /* 検証の準備 */
+        final boolean actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertTrue(actual, "全てのテンプレートの処理が成功した場合、trueが返されること");
+        Mockito.verify(this.mockTwo2OneService).initialize(expectedInputPath, Paths.get("field.yml"),
+            Paths.get("field.txt"));
+        Mockito.verify(this.mockTwo2OneService).initialize(expectedInputPath, Paths.get("accessor.yml"),
+            Paths.get("accessor.txt"));
+        Mockito.verify(this.mockTwo2OneService, Mockito.times(3)).process();
+
+    }
+
+    /**
+     * processWholeFile メソッドのテスト - 異常系：追加のテンプレートの指定が不正な場合
+     *
+     * @since 0.2.0
+     *
+     * @throws Exception
+     *                   例外
+     */
+    @Test
+    public void testProcessWholeFile_errorInvalidAdditionalTemplates() throws Exception {
+
+        /* 準備 */
+        Mockito.when(this.mockTwo2OneService.process()).thenReturn(true);
+        Mockito.when(this.mockMessageSource.getLogMessage(ArgumentMatchers.any(KmgToolCliLogMsgTypes.class),
+            ArgumentMatchers.any())).thenReturn("指定が不正");
+
+        final var reflectionModel = new KmgReflectionModelImpl(this.testTarget);
+        reflectionModel.set("messageSource", this.mockMessageSource);
+
+        this.testTarget.setAdditionalTemplates("field.yml");
+
+        /* テスト対象の実行 */
+        final boolean testResult = this.testTarget.processWholeFile();
+
+        /* 検証の準備 */
+        final boolean actual = testResult;
+
+        /* 検証の実施 */
+        Assertions.assertFalse(actual, "追加のテンプレートの指定が不正な場合、falseが返されること");
+        Mockito.verify(this.mockTwo2OneService, Mockito.never()).initialize(ArgumentMatchers.any(Path.class),
+            ArgumentMatchers.any(Path.class), ArgumentMatchers.any(Path.class));
+
+    }
+
 }